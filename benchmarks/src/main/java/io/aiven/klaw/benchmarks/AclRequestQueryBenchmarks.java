@@ -0,0 +1,107 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.benchmarks.KlawFixtures.DEV_ENV_ID;
+import static io.aiven.klaw.benchmarks.KlawFixtures.TENANT_ID;
+import static io.aiven.klaw.benchmarks.KlawFixtures.USER;
+
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
+import io.aiven.klaw.model.enums.RequestStatus;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/** Acl requests of the my requests and approvals pages, read from H2. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AclRequestQueryBenchmarks {
+
+  private static final String APPROVER_ROLE = "APPROVER_SUBSCRIPTIONS";
+
+  @Param({"10000", "100000"})
+  public int aclRequestCount;
+
+  private ConfigurableApplicationContext context;
+
+  private SelectDataJdbc selectDataJdbc;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = KlawFixtures.startCore();
+    KlawFixtures.insertAclRequests(context, aclRequestCount);
+    selectDataJdbc = context.getBean(SelectDataJdbc.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<AclRequests> getRequestsToApprove() {
+    return selectDataJdbc.selectFilteredAclRequests(
+        true,
+        USER,
+        APPROVER_ROLE,
+        RequestStatus.CREATED.value,
+        null,
+        false,
+        null,
+        null,
+        null,
+        null,
+        false,
+        TENANT_ID);
+  }
+
+  @Benchmark
+  public List<AclRequests> getMyRequests() {
+    return selectDataJdbc.selectFilteredAclRequests(
+        false,
+        USER,
+        APPROVER_ROLE,
+        RequestStatus.CREATED.value,
+        null,
+        false,
+        null,
+        DEV_ENV_ID,
+        null,
+        null,
+        true,
+        TENANT_ID);
+  }
+
+  @Benchmark
+  public List<AclRequests> searchRequestsOfAllTeams() {
+    return selectDataJdbc.selectFilteredAclRequests(
+        false,
+        USER,
+        APPROVER_ROLE,
+        RequestStatus.CREATED.value,
+        null,
+        true,
+        null,
+        null,
+        "topic.123",
+        null,
+        false,
+        TENANT_ID);
+  }
+}
@@ -0,0 +1,93 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.benchmarks.KlawFixtures.DEV_ENV_ID;
+import static io.aiven.klaw.benchmarks.KlawFixtures.TENANT_ID;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.AclInfo;
+import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.service.AclSyncControllerService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Reconciliation of the acls listed by the cluster api with the acls of Klaw. The matching is
+ * quadratic in the number of acls, the larger sizes are run with -p aclCount=100000,500000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class AclSyncBenchmarks {
+
+  @Param({"1000", "10000"})
+  public int aclCount;
+
+  private ConfigurableApplicationContext context;
+
+  private AclSyncControllerService aclSyncControllerService;
+
+  private List<Map<String, String>> clusterAcls;
+
+  private List<Acl> metadataAcls;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = KlawFixtures.startCore();
+    KlawFixtures.insertTopics(context, aclCount);
+    aclSyncControllerService =
+        AopTestUtils.getTargetObject(context.getBean(AclSyncControllerService.class));
+    clusterAcls = KlawFixtures.getClusterAcls(aclCount);
+    metadataAcls = KlawFixtures.getMetadataAcls(context, aclCount);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<AclInfo> applyFiltersAcls() {
+    return ReflectionTestUtils.invokeMethod(
+        aclSyncControllerService,
+        "applyFiltersAcls",
+        DEV_ENV_ID,
+        clusterAcls,
+        metadataAcls,
+        false,
+        TENANT_ID,
+        KafkaFlavors.APACHE_KAFKA.value);
+  }
+
+  @Benchmark
+  public List<AclInfo> applyFiltersAclsForReconciliation() {
+    return ReflectionTestUtils.invokeMethod(
+        aclSyncControllerService,
+        "applyFiltersAcls",
+        DEV_ENV_ID,
+        clusterAcls,
+        metadataAcls,
+        true,
+        TENANT_ID,
+        KafkaFlavors.APACHE_KAFKA.value);
+  }
+}
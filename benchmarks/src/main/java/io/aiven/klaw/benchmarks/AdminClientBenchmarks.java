@@ -0,0 +1,68 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.benchmarks.KlawFixtures.BOOTSTRAP_SERVERS;
+import static io.aiven.klaw.benchmarks.KlawFixtures.CLUSTER_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.clusterapi.utils.AdminClientProperties;
+import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Lookup of the cached admin client of a cluster, which the cluster api does for each of its
+ * requests. The cached client answers the connectivity check without a broker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AdminClientBenchmarks {
+
+  private ClusterApiUtils clusterApiUtils;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    clusterApiUtils = new ClusterApiUtils(new StandardEnvironment(), new AdminClientProperties());
+    ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
+    when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic")));
+    AdminClient adminClient = mock(AdminClient.class);
+    when(adminClient.listTopics()).thenReturn(listTopicsResult);
+
+    Map<String, AdminClient> adminClientsMap =
+        (Map<String, AdminClient>) ReflectionTestUtils.getField(clusterApiUtils, "adminClientsMap");
+    adminClientsMap.put(
+        KafkaSupportedProtocol.PLAINTEXT
+            + CLUSTER_NAME
+            + clusterApiUtils.getHash(BOOTSTRAP_SERVERS),
+        adminClient);
+  }
+
+  @Benchmark
+  public AdminClient getAdminClient() throws Exception {
+    return clusterApiUtils.getAdminClient(
+        BOOTSTRAP_SERVERS, KafkaSupportedProtocol.PLAINTEXT, CLUSTER_NAME);
+  }
+}
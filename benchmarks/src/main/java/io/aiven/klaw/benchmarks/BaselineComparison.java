@@ -0,0 +1,76 @@
+package io.aiven.klaw.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares the json results of a benchmark run with the baseline results and exits with 1 when a
+ * benchmark got slower than the baseline by more than the allowed ratio.
+ *
+ * <p>Usage: BaselineComparison &lt;results.json&gt; [baseline.json] [max ratio, default 1.2]
+ */
+public final class BaselineComparison {
+
+  private static final String DEFAULT_BASELINE = "benchmarks/baseline/results.json";
+
+  private static final double DEFAULT_MAX_RATIO = 1.2;
+
+  private BaselineComparison() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("Usage: BaselineComparison <results.json> [baseline.json] [max ratio]");
+      System.exit(2);
+    }
+    Map<String, JsonNode> results = readResults(args[0]);
+    Map<String, JsonNode> baseline = readResults(args.length > 1 ? args[1] : DEFAULT_BASELINE);
+    double maxRatio = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MAX_RATIO;
+
+    int regressions = 0;
+    for (Map.Entry<String, JsonNode> result : results.entrySet()) {
+      JsonNode baselineResult = baseline.get(result.getKey());
+      if (baselineResult == null) {
+        System.out.printf("%-90s %12s%n", result.getKey(), "new");
+        continue;
+      }
+      double score = getScore(result.getValue());
+      double baselineScore = getScore(baselineResult);
+      // the score of throughput is higher when faster, of all other modes lower
+      double slowdown =
+          "thrpt".equals(result.getValue().path("mode").asText())
+              ? baselineScore / score
+              : score / baselineScore;
+      boolean regression = slowdown > maxRatio;
+      if (regression) {
+        regressions++;
+      }
+      System.out.printf(
+          "%-90s %12.3f %12.3f %8.2fx%s%n",
+          result.getKey(), baselineScore, score, slowdown, regression ? "  REGRESSION" : "");
+    }
+    if (regressions > 0) {
+      System.out.printf(
+          "%d benchmarks are slower than %.2fx of the baseline%n", regressions, maxRatio);
+      System.exit(1);
+    }
+  }
+
+  // results by benchmark name and parameters
+  private static Map<String, JsonNode> readResults(String fileName) throws IOException {
+    Map<String, JsonNode> results = new LinkedHashMap<>();
+    for (JsonNode result : new ObjectMapper().readTree(new File(fileName))) {
+      String benchmark = result.path("benchmark").asText();
+      JsonNode params = result.path("params");
+      results.put(params.isMissingNode() ? benchmark : benchmark + " " + params, result);
+    }
+    return results;
+  }
+
+  private static double getScore(JsonNode result) {
+    return result.path("primaryMetric").path("score").asDouble();
+  }
+}
@@ -0,0 +1,42 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.UiapiApplication;
+import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.otlp.OtlpAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The core application of {@link UiapiApplication}, without the cluster api classes which are on
+ * the classpath of the benchmarks as well and share its base package.
+ */
+@EnableScheduling
+@EnableSchedulerLock(defaultLockAtMostFor = "${klaw.shedlock.defaultLockAtMostFor:PT30S}")
+@SpringBootConfiguration
+@AutoConfigurationPackage(basePackageClasses = UiapiApplication.class)
+@EnableAutoConfiguration(
+    exclude = {
+      DataSourceAutoConfiguration.class,
+      DataSourceTransactionManagerAutoConfiguration.class,
+      HibernateJpaAutoConfiguration.class,
+      OtlpAutoConfiguration.class
+    })
+@ComponentScan(
+    basePackages = "io.aiven.klaw",
+    excludeFilters = {
+      @ComponentScan.Filter(
+          type = FilterType.REGEX,
+          pattern = "io\\.aiven\\.klaw\\.clusterapi\\..*"),
+      @ComponentScan.Filter(
+          type = FilterType.REGEX,
+          pattern = "io\\.aiven\\.klaw\\.benchmarks\\..*"),
+      @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = UiapiApplication.class)
+    })
+public class CoreBenchmarkApplication {}
@@ -0,0 +1,250 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.helpers.KwConstants.DEFAULT_TENANT_ID;
+
+import com.google.common.collect.Lists;
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.enums.AclIPPrincipleType;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclPermissionType;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.ClusterStatus;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.enums.RequestOperationType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.service.CommonUtilsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Synthetic metadata of the benchmarks. The core context runs on an in-memory H2 database with one
+ * kafka cluster, a DEV and a TST environment, and the topics, acls and acl requests of a benchmark.
+ */
+final class KlawFixtures {
+
+  static final int TENANT_ID = DEFAULT_TENANT_ID;
+
+  static final String USER = "superadmin";
+
+  static final String DEV_ENV_ID = "1";
+
+  static final String TST_ENV_ID = "2";
+
+  static final String BOOTSTRAP_SERVERS = "localhost:9092";
+
+  static final String CLUSTER_NAME = "DEV_CLUSTER";
+
+  private static final int CLUSTER_ID = 1;
+
+  private static final int INSERT_BATCH_SIZE = 5000;
+
+  private KlawFixtures() {}
+
+  static ConfigurableApplicationContext startCore() {
+    ConfigurableApplicationContext context = startCore(Map.of());
+    // benchmark threads are not the thread which signs in
+    SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(USER, "", List.of()));
+    insertEnvironments(context);
+    return context;
+  }
+
+  /** Starts core with the given properties, on top of the ones of the benchmarks. */
+  static ConfigurableApplicationContext startCore(Map<String, String> properties) {
+    Map<String, String> coreProperties = new LinkedHashMap<>();
+    coreProperties.put(
+        "spring.datasource.url",
+        "jdbc:h2:mem:klawbenchmarks;DB_CLOSE_DELAY=-1;MODE=MySQL;CASE_INSENSITIVE_IDENTIFIERS=TRUE;");
+    coreProperties.put("spring.jpa.hibernate.show_sql", "false");
+    coreProperties.put("spring.main.banner-mode", "off");
+    coreProperties.put("server.port", "0");
+    coreProperties.put("logging.file.name", "");
+    coreProperties.put("logging.level.root", "WARN");
+    // there is no cluster api to check the status of the clusters
+    coreProperties.put("logging.level.io.aiven.klaw.service.ClusterApiService", "OFF");
+    coreProperties.putAll(properties);
+    // arguments, as they take precedence over the application.properties of core
+    return new SpringApplicationBuilder(CoreBenchmarkApplication.class)
+        .run(
+            coreProperties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new));
+  }
+
+  static int getTeamId(ConfigurableApplicationContext context) {
+    return context.getBean(CommonUtilsService.class).getTeamId(USER);
+  }
+
+  /** Topics named benchmark.topic.N on DEV, every fourth of them is promoted to TST as well. */
+  static List<Topic> insertTopics(ConfigurableApplicationContext context, int topicCount) {
+    int teamId = getTeamId(context);
+    List<Topic> topics = new ArrayList<>();
+    for (int i = 0; i < topicCount; i++) {
+      topics.add(topic(i + 1, getTopicName(i), DEV_ENV_ID, teamId));
+      if (i % 4 == 0) {
+        topics.add(topic(topicCount + i + 1, getTopicName(i), TST_ENV_ID, teamId));
+      }
+    }
+    persist(context, topics);
+    context.getBean(ManageDatabase.class).loadTopicsForOneTenant(TENANT_ID);
+    return topics;
+  }
+
+  /** Acl requests of the DEV topics, half of them requested by another team. */
+  static void insertAclRequests(ConfigurableApplicationContext context, int aclRequestCount) {
+    int teamId = getTeamId(context);
+    Timestamp requestTime = new Timestamp(System.currentTimeMillis());
+    List<AclRequests> aclRequests = new ArrayList<>();
+    for (int i = 0; i < aclRequestCount; i++) {
+      AclRequests aclRequest = new AclRequests();
+      aclRequest.setReq_no(i + 1);
+      aclRequest.setTenantId(TENANT_ID);
+      aclRequest.setTopicname(getTopicName(i));
+      aclRequest.setEnvironment(DEV_ENV_ID);
+      aclRequest.setTeamId(teamId);
+      aclRequest.setRequestingteam(i % 2 == 0 ? teamId : teamId + 1);
+      aclRequest.setAclType(i % 2 == 0 ? AclType.PRODUCER.value : AclType.CONSUMER.value);
+      aclRequest.setConsumergroup(i % 2 == 0 ? null : "benchmark.group." + i);
+      aclRequest.setRequestor(i % 2 == 0 ? USER : "benchmark.user");
+      aclRequest.setRequesttime(requestTime);
+      aclRequest.setRequestStatus(RequestStatus.CREATED.value);
+      aclRequest.setRequestOperationType(RequestOperationType.CREATE.value);
+      aclRequest.setAcl_ssl("CN=benchmark.app." + i);
+      aclRequest.setAclPatternType(AclPatternType.LITERAL.value);
+      aclRequest.setAclIpPrincipleType(AclIPPrincipleType.PRINCIPAL);
+      aclRequest.setJsonParams(new HashMap<>());
+      aclRequests.add(aclRequest);
+    }
+    persist(context, aclRequests);
+  }
+
+  /**
+   * Producer acls of the DEV topics as listed by the cluster api. Klaw knows all but every tenth of
+   * them, and has every twentieth of them which the cluster does not have any more.
+   */
+  static List<Map<String, String>> getClusterAcls(int aclCount) {
+    List<Map<String, String>> clusterAcls = new ArrayList<>();
+    for (int i = 0; i < aclCount; i++) {
+      if (i % 20 == 19) {
+        continue;
+      }
+      Map<String, String> clusterAcl = new HashMap<>();
+      clusterAcl.put("operation", AclPermissionType.WRITE.value);
+      clusterAcl.put("resourceType", "TOPIC");
+      clusterAcl.put("resourceName", getTopicName(i));
+      clusterAcl.put("host", "*");
+      clusterAcl.put("principle", "User:CN=benchmark.app." + i);
+      clusterAcl.put("permissionType", "ALLOW");
+      clusterAcl.put("patternType", AclPatternType.LITERAL.value);
+      clusterAcls.add(clusterAcl);
+    }
+    return clusterAcls;
+  }
+
+  static List<Acl> getMetadataAcls(ConfigurableApplicationContext context, int aclCount) {
+    int teamId = getTeamId(context);
+    List<Acl> acls = new ArrayList<>();
+    for (int i = 0; i < aclCount; i++) {
+      if (i % 10 == 9) {
+        continue;
+      }
+      Acl acl = new Acl();
+      acl.setReq_no(i + 1);
+      acl.setTenantId(TENANT_ID);
+      acl.setTopicname(getTopicName(i));
+      acl.setEnvironment(DEV_ENV_ID);
+      acl.setTeamId(teamId);
+      acl.setAclType(AclType.PRODUCER.value);
+      acl.setAclssl("CN=benchmark.app." + i);
+      acl.setAclPatternType(AclPatternType.LITERAL.value);
+      acls.add(acl);
+    }
+    return acls;
+  }
+
+  static String getTopicName(int index) {
+    return "benchmark.topic." + index;
+  }
+
+  private static void insertEnvironments(ConfigurableApplicationContext context) {
+    HandleDbRequestsJdbc handleDbRequests = context.getBean(HandleDbRequestsJdbc.class);
+    KwClusters cluster = new KwClusters();
+    cluster.setClusterId(CLUSTER_ID);
+    cluster.setTenantId(TENANT_ID);
+    cluster.setClusterName(CLUSTER_NAME);
+    cluster.setBootstrapServers(BOOTSTRAP_SERVERS);
+    cluster.setProtocol(KafkaSupportedProtocol.PLAINTEXT);
+    cluster.setClusterType(KafkaClustersType.KAFKA.value);
+    cluster.setKafkaFlavor(KafkaFlavors.APACHE_KAFKA.value);
+    cluster.setClusterStatus(ClusterStatus.ONLINE);
+    handleDbRequests.addNewCluster(cluster);
+    handleDbRequests.addNewEnv(env(DEV_ENV_ID, "DEV"));
+    handleDbRequests.addNewEnv(env(TST_ENV_ID, "TST"));
+    context.getBean(ManageDatabase.class).updateStaticDataForTenant(TENANT_ID);
+  }
+
+  private static Env env(String id, String name) {
+    Env env = new Env();
+    env.setId(id);
+    env.setTenantId(TENANT_ID);
+    env.setName(name);
+    env.setClusterId(CLUSTER_ID);
+    env.setType(KafkaClustersType.KAFKA.value);
+    env.setEnvExists("true");
+    env.setEnvStatus(ClusterStatus.ONLINE);
+    return env;
+  }
+
+  private static Topic topic(int topicId, String topicName, String envId, int teamId) {
+    Topic topic = new Topic();
+    topic.setTopicid(topicId);
+    topic.setTenantId(TENANT_ID);
+    topic.setTopicname(topicName);
+    topic.setEnvironment(envId);
+    topic.setTeamId(teamId);
+    topic.setNoOfPartitions(3);
+    topic.setNoOfReplicas("2");
+    topic.setDescription("Benchmark topic " + topicName);
+    topic.setDocumentation("Events of " + topicName);
+    return topic;
+  }
+
+  // persisted rather than saved, as H2 looks up the composite ids of a merge by a table scan
+  static void persist(ConfigurableApplicationContext context, List<?> entities) {
+    EntityManager entityManager =
+        SharedEntityManagerCreator.createSharedEntityManager(
+            context.getBean(EntityManagerFactory.class));
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    for (List<?> batch : Lists.partition(entities, INSERT_BATCH_SIZE)) {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+          });
+    }
+  }
+}
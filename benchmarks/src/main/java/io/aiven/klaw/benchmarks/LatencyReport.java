@@ -0,0 +1,55 @@
+package io.aiven.klaw.benchmarks;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/** Latencies and errors of the requests of a load test, per endpoint. */
+final class LatencyReport {
+
+  private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+  private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+  private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+  void record(String endpoint, long latencyNanos, boolean success) {
+    recorders
+        .computeIfAbsent(endpoint, key -> new Recorder(MAX_LATENCY_NANOS, 3))
+        .recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+    if (!success) {
+      errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+  }
+
+  /** Prints the requests, errors, throughput and latency percentiles in ms of every endpoint. */
+  void print(PrintStream out, long durationNanos) {
+    double seconds = durationNanos / 1e9;
+    out.printf(
+        "%-16s %9s %7s %9s %9s %9s %9s %9s%n",
+        "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "Max ms");
+    for (Map.Entry<String, Recorder> recorder : new TreeMap<>(recorders).entrySet()) {
+      Histogram histogram = recorder.getValue().getIntervalHistogram();
+      LongAdder endpointErrors = errors.get(recorder.getKey());
+      out.printf(
+          "%-16s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+          recorder.getKey(),
+          histogram.getTotalCount(),
+          endpointErrors == null ? 0 : endpointErrors.sum(),
+          histogram.getTotalCount() / seconds,
+          toMillis(histogram.getValueAtPercentile(50)),
+          toMillis(histogram.getValueAtPercentile(90)),
+          toMillis(histogram.getValueAtPercentile(99)),
+          toMillis(histogram.getMaxValue()));
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1e6;
+  }
+}
@@ -0,0 +1,192 @@
+package io.aiven.klaw.benchmarks;
+
+import io.aiven.klaw.benchmarks.LoadTestData.LoadTestTenant;
+import io.aiven.klaw.clusterapi.KafkaClusterApiApplication;
+import java.net.URL;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+/**
+ * End to end load test of core and cluster api on an embedded kafka broker. Seeds the tenants, then
+ * runs virtual users which send a mix of requests to core for a while, and prints the latencies and
+ * throughput per endpoint.
+ *
+ * <p>Options are given as key=value, e.g. tenants=4 threads=16 duration=300
+ * mix=browse:50,request:50. Arguments starting with -- are passed to core, e.g.
+ * --spring.datasource.url=jdbc:postgresql://localhost:5432/klaw to run on postgres, see the README.
+ */
+public final class LoadTest {
+
+  private static final Map<String, String> DEFAULT_OPTIONS =
+      Map.of(
+          "tenants", "2",
+          "teams", "2",
+          "users", "2",
+          "topics", "500",
+          "brokerTopics", "50",
+          "threads", "8",
+          "warmup", "10",
+          "duration", "60",
+          "thinkTime", "0",
+          "mix", "browse:40,search:20,overview:15,request:10,approve:10,sync:5");
+
+  private LoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new LinkedHashMap<>(DEFAULT_OPTIONS);
+    Map<String, String> coreProperties = new LinkedHashMap<>();
+    for (String arg : args) {
+      String[] option = arg.replaceFirst("^--", "").split("=", 2);
+      if (option.length != 2) {
+        throw new IllegalArgumentException("Expected key=value, got " + arg);
+      }
+      (arg.startsWith("--") ? coreProperties : options).put(option[0], option[1]);
+    }
+    System.out.println("Load test " + options);
+
+    EmbeddedKafkaBroker broker = new EmbeddedKafkaBroker(1);
+    broker.afterPropertiesSet();
+    String clusterApiSecret = getSecret();
+    ConfigurableApplicationContext clusterApi = startClusterApi(clusterApiSecret);
+
+    coreProperties.putIfAbsent("server.port", "0");
+    coreProperties.putIfAbsent("klaw.clusterapi.access.base64.secret", clusterApiSecret);
+    // a single instance of core, without other servers to reset the caches of
+    coreProperties.putIfAbsent("klaw.uiapi.servers", "");
+    ConfigurableApplicationContext core = KlawFixtures.startCore(coreProperties);
+
+    int exitCode = 0;
+    try {
+      List<LoadTestTenant> tenants = new ArrayList<>();
+      LoadTestData loadTestData = new LoadTestData(core);
+      for (int i = 0; i < getInt(options, "tenants"); i++) {
+        LoadTestTenant tenant =
+            loadTestData.insertTenant(
+                i,
+                broker.getBrokersAsString(),
+                "http://localhost:" + getPort(clusterApi),
+                getInt(options, "teams"),
+                getInt(options, "users"),
+                getInt(options, "topics"));
+        List<String> topicNames = tenant.topicNames();
+        broker.addTopics(
+            topicNames
+                .subList(0, Math.min(getInt(options, "brokerTopics"), topicNames.size()))
+                .toArray(String[]::new));
+        tenants.add(tenant);
+      }
+      run(options, "http://localhost:" + getPort(core), tenants);
+    } catch (Exception e) {
+      e.printStackTrace();
+      exitCode = 1;
+    } finally {
+      core.close();
+      clusterApi.close();
+      broker.destroy();
+    }
+    // the kafka and spring threads of the embedded servers
+    System.exit(exitCode);
+  }
+
+  private static void run(Map<String, String> options, String baseUrl, List<LoadTestTenant> tenants)
+      throws Exception {
+    List<String> actions = getActions(options.get("mix"));
+    LatencyReport report = new LatencyReport();
+    long thinkTime = getInt(options, "thinkTime");
+    long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(getInt(options, "warmup"));
+    long measureEnd = measureStart + TimeUnit.SECONDS.toNanos(getInt(options, "duration"));
+
+    int threads = getInt(options, "threads");
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> virtualUsers = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        LoadTestTenant tenant = tenants.get(i % tenants.size());
+        String user = tenant.users().get(i / tenants.size() % tenant.users().size());
+        LoadTestSession session = new LoadTestSession(baseUrl, tenant, user, report);
+        virtualUsers.add(
+            executor.submit(
+                () -> {
+                  while (System.nanoTime() < measureEnd) {
+                    String action =
+                        actions.get(ThreadLocalRandom.current().nextInt(actions.size()));
+                    session.run(action, System.nanoTime() >= measureStart);
+                    if (thinkTime > 0) {
+                      Thread.sleep(thinkTime);
+                    }
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> virtualUser : virtualUsers) {
+        virtualUser.get();
+      }
+    } finally {
+      // stops the other virtual users when one of them failed
+      executor.shutdownNow();
+    }
+    report.print(System.out, measureEnd - measureStart);
+  }
+
+  // the actions repeated by their weight, e.g. browse:2,sync:1 is browse, browse, sync
+  private static List<String> getActions(String mix) {
+    List<String> actions = new ArrayList<>();
+    for (String weightedAction : mix.split(",")) {
+      String[] action = weightedAction.trim().split(":");
+      for (int i = 0; i < Integer.parseInt(action[1]); i++) {
+        actions.add(action[0]);
+      }
+    }
+    return actions;
+  }
+
+  private static ConfigurableApplicationContext startClusterApi(String clusterApiSecret) {
+    // core and cluster api both have an application.properties, the one of core comes first
+    URL jar = KafkaClusterApiApplication.class.getProtectionDomain().getCodeSource().getLocation();
+    String properties =
+        jar.getPath().endsWith(".jar")
+            ? "jar:" + jar + "!/application.properties"
+            : jar + "application.properties";
+    return new SpringApplicationBuilder(KafkaClusterApiApplication.class)
+        .run(
+            "--spring.config.location=" + properties,
+            "--spring.autoconfigure.exclude="
+                + String.join(
+                    ",",
+                    "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration"),
+            "--klaw.clusterapi.access.base64.secret=" + clusterApiSecret,
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.file.name=",
+            "--logging.level.root=WARN");
+  }
+
+  private static String getSecret() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    return Base64.getEncoder().encodeToString(secret);
+  }
+
+  private static int getPort(ConfigurableApplicationContext context) {
+    return ((WebServerApplicationContext) context).getWebServer().getPort();
+  }
+
+  private static int getInt(Map<String, String> options, String key) {
+    return Integer.parseInt(options.get(key));
+  }
+}
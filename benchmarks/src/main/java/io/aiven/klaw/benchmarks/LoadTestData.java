@@ -0,0 +1,260 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.helpers.KwConstants.DEFAULT_TENANT_ID;
+import static io.aiven.klaw.helpers.KwConstants.EMAIL_NOTIFICATIONS_ENABLED_KEY;
+import static io.aiven.klaw.helpers.KwConstants.SUPERADMIN_ROLE;
+import static io.aiven.klaw.helpers.KwConstants.TENANT_CONFIG_PROPERTY;
+import static io.aiven.klaw.helpers.KwConstants.USER_ROLE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwProperties;
+import io.aiven.klaw.dao.KwTenants;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import io.aiven.klaw.model.TenantConfig;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.ClusterStatus;
+import io.aiven.klaw.model.enums.EntityType;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.response.EnvParams;
+import io.aiven.klaw.repository.AclRepo;
+import io.aiven.klaw.service.DefaultDataService;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * Seeds the tenants of a load test. Every tenant has a cluster on the embedded broker with a DEV
+ * environment, teams with users, and topics with a producer acl each. The first tenant is the
+ * default tenant.
+ */
+final class LoadTestData {
+
+  static final String PASSWORD = "loadtest";
+
+  private static final String ENV_NAME = "DEV";
+
+  private static final String MAIL_ID = "loadtest@klaw-project.io";
+
+  /** Sessions of a tenant: the users of its teams, and an admin which syncs the topics. */
+  record LoadTestTenant(
+      int tenantId, String envId, List<String> topicNames, List<String> users, String admin) {}
+
+  private final ConfigurableApplicationContext context;
+
+  private final HandleDbRequestsJdbc handleDbRequests;
+
+  private final ManageDatabase manageDatabase;
+
+  private final DefaultDataService defaultDataService;
+
+  private final InMemoryUserDetailsManager userDetailsManager;
+
+  private final PasswordEncoder passwordEncoder =
+      PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+  LoadTestData(ConfigurableApplicationContext context) {
+    this.context = context;
+    this.handleDbRequests = context.getBean(HandleDbRequestsJdbc.class);
+    this.manageDatabase = context.getBean(ManageDatabase.class);
+    this.defaultDataService = context.getBean(DefaultDataService.class);
+    this.userDetailsManager = context.getBean(InMemoryUserDetailsManager.class);
+  }
+
+  LoadTestTenant insertTenant(
+      int tenantIndex,
+      String bootstrapServers,
+      String clusterApiUrl,
+      int teamCount,
+      int usersPerTeam,
+      int topicsPerTeam)
+      throws JsonProcessingException {
+    int tenantId = tenantIndex == 0 ? DEFAULT_TENANT_ID : addTenant("loadtest" + tenantIndex);
+    String tenantName = manageDatabase.getTenantMap().get(tenantId);
+    updateKwProperty(tenantId, "klaw.clusterapi.url", clusterApiUrl);
+    updateKwProperty(tenantId, EMAIL_NOTIFICATIONS_ENABLED_KEY, "false");
+    String envId = addEnvironment(tenantId, bootstrapServers);
+    updateKwProperty(tenantId, TENANT_CONFIG_PROPERTY, getTenantConfig(tenantName, envId));
+
+    List<String> users = new ArrayList<>();
+    List<Topic> topics = new ArrayList<>();
+    List<Acl> acls = new ArrayList<>();
+    int topicId = handleDbRequests.getNextTopicRequestId("TOPIC_ID", tenantId);
+    Integer maxAclId = context.getBean(AclRepo.class).getNextAclId(tenantId);
+    int aclId = maxAclId == null ? 1 : maxAclId + 1;
+    String admin = null;
+    for (int team = 0; team < teamCount; team++) {
+      String teamName = "loadteam" + team;
+      handleDbRequests.addNewTeam(defaultDataService.getTeam(tenantId, teamName));
+      int teamId = handleDbRequests.getTeamDetailsFromName(teamName, tenantId).getTeamId();
+      if (admin == null) {
+        admin = addUser(tenantId, teamId, "loadadmin." + tenantIndex, SUPERADMIN_ROLE);
+      }
+      for (int user = 0; user < usersPerTeam; user++) {
+        users.add(addUser(tenantId, teamId, getUserName(tenantIndex, team, user), USER_ROLE));
+      }
+      for (int topic = 0; topic < topicsPerTeam; topic++) {
+        String topicName = getTopicName(tenantIndex, team, topic);
+        topics.add(topic(tenantId, topicId++, topicName, envId, teamId));
+        acls.add(acl(tenantId, aclId++, topicName, envId, teamId));
+      }
+    }
+    KlawFixtures.persist(context, topics);
+    KlawFixtures.persist(context, acls);
+
+    manageDatabase.updateStaticDataForTenant(tenantId);
+    // the env graph of the tenant config needs the loaded environments
+    manageDatabase.loadKwPropsPerOneTenant(null, tenantId);
+    return new LoadTestTenant(
+        tenantId, envId, topics.stream().map(Topic::getTopicname).toList(), users, admin);
+  }
+
+  static String getTopicName(int tenantIndex, int team, int topic) {
+    return String.join(".", "loadtest", "tenant" + tenantIndex, "team" + team, "topic" + topic);
+  }
+
+  private static String getUserName(int tenantIndex, int team, int user) {
+    return String.join(".", "loaduser", "" + tenantIndex, "" + team, "" + user);
+  }
+
+  private int addTenant(String tenantName) {
+    KwTenants tenant = new KwTenants();
+    tenant.setTenantName(tenantName);
+    tenant.setTenantDesc(tenantName);
+    tenant.setInTrial("false");
+    tenant.setContactPerson("Klaw Load Test");
+    tenant.setOrgName("Load Test Organization");
+    tenant.setLicenseExpiry(new Timestamp(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+    tenant.setIsActive("true");
+    handleDbRequests.addNewTenant(tenant);
+    int tenantId = tenant.getTenantId();
+
+    manageDatabase.initialiseDefaultEntitySequencesForTenant(tenantId);
+    handleDbRequests.insertDefaultKwProperties(
+        defaultDataService.createDefaultProperties(tenantId, MAIL_ID));
+    handleDbRequests.insertDefaultRolesPermissions(
+        defaultDataService.createDefaultRolesPermissions(
+            tenantId, false, getProperty("klaw.installation.type")));
+    manageDatabase.updateStaticDataForTenant(tenantId);
+    return tenantId;
+  }
+
+  private String addEnvironment(int tenantId, String bootstrapServers) {
+    KwClusters cluster = new KwClusters();
+    cluster.setTenantId(tenantId);
+    cluster.setClusterName("LOADTEST_CLUSTER");
+    cluster.setBootstrapServers(bootstrapServers);
+    cluster.setProtocol(KafkaSupportedProtocol.PLAINTEXT);
+    cluster.setClusterType(KafkaClustersType.KAFKA.value);
+    cluster.setKafkaFlavor(KafkaFlavors.APACHE_KAFKA.value);
+    cluster.setClusterStatus(ClusterStatus.ONLINE);
+    handleDbRequests.addNewCluster(cluster);
+
+    EnvParams params = new EnvParams();
+    params.setDefaultPartitions("1");
+    params.setMaxPartitions("2");
+    params.setPartitionsList(List.of("1", "2"));
+    params.setDefaultRepFactor("1");
+    params.setMaxRepFactor("1");
+    params.setReplicationFactorList(List.of("1"));
+
+    Env env = new Env();
+    env.setId(
+        String.valueOf(
+            handleDbRequests.getNextSeqIdAndUpdate(EntityType.ENVIRONMENT.name(), tenantId)));
+    env.setTenantId(tenantId);
+    env.setName(ENV_NAME);
+    env.setClusterId(cluster.getClusterId());
+    env.setType(KafkaClustersType.KAFKA.value);
+    env.setEnvExists("true");
+    env.setEnvStatus(ClusterStatus.ONLINE);
+    env.setParams(params);
+    handleDbRequests.addNewEnv(env);
+    return env.getId();
+  }
+
+  private String addUser(int tenantId, int teamId, String userName, String role) {
+    UserInfo userInfo =
+        defaultDataService.getUser(
+            tenantId,
+            PASSWORD,
+            role,
+            teamId,
+            MAIL_ID,
+            userName,
+            getProperty("klaw.jasypt.encryptor.secretkey"));
+    handleDbRequests.addNewUser(userInfo);
+    // the users of the db authentication are loaded at startup
+    userDetailsManager.createUser(
+        User.withUsername(userName).password(passwordEncoder.encode(PASSWORD)).roles(role).build());
+    return userName;
+  }
+
+  private void updateKwProperty(int tenantId, String kwKey, String kwValue) {
+    KwProperties kwProperties = new KwProperties();
+    kwProperties.setKwKey(kwKey);
+    kwProperties.setKwValue(kwValue);
+    handleDbRequests.updateKwProperty(kwProperties, tenantId);
+  }
+
+  // the stored tenant config refers to the environments by id
+  private static String getTenantConfig(String tenantName, String envId)
+      throws JsonProcessingException {
+    KwTenantConfigModel tenantModel = new KwTenantConfigModel();
+    tenantModel.setTenantName(tenantName);
+    tenantModel.setBaseSyncEnvironment(envId);
+    tenantModel.setOrderOfTopicPromotionEnvsList(List.of(envId));
+    tenantModel.setRequestTopicsEnvironmentsList(List.of(envId));
+    TenantConfig tenantConfig = new TenantConfig();
+    tenantConfig.setTenantModel(tenantModel);
+    return ManageDatabase.OBJECT_MAPPER.writeValueAsString(tenantConfig);
+  }
+
+  private String getProperty(String key) {
+    Environment environment = context.getEnvironment();
+    return environment.getRequiredProperty(key);
+  }
+
+  private static Topic topic(
+      int tenantId, int topicId, String topicName, String envId, int teamId) {
+    Topic topic = new Topic();
+    topic.setTopicid(topicId);
+    topic.setTenantId(tenantId);
+    topic.setTopicname(topicName);
+    topic.setEnvironment(envId);
+    topic.setTeamId(teamId);
+    topic.setNoOfPartitions(1);
+    topic.setNoOfReplicas("1");
+    topic.setDescription("Load test topic " + topicName);
+    return topic;
+  }
+
+  private static Acl acl(int tenantId, int aclId, String topicName, String envId, int teamId) {
+    Acl acl = new Acl();
+    acl.setReq_no(aclId);
+    acl.setTenantId(tenantId);
+    acl.setTopicname(topicName);
+    acl.setEnvironment(envId);
+    acl.setTeamId(teamId);
+    acl.setAclType(AclType.PRODUCER.value);
+    acl.setAclssl("CN=" + topicName + ".producer");
+    acl.setAclPatternType(AclPatternType.LITERAL.value);
+    return acl;
+  }
+}
@@ -0,0 +1,215 @@
+package io.aiven.klaw.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.benchmarks.LoadTestData.LoadTestTenant;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The http sessions of a virtual user of a load test: a user of a team, who browses, searches,
+ * requests and approves topics, and the admin of its tenant, who syncs the topics.
+ */
+final class LoadTestSession {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+  private static final int PAGE_SIZE = 20;
+
+  private final String baseUrl;
+
+  private final LoadTestTenant tenant;
+
+  private final String user;
+
+  private final HttpClient userClient;
+
+  private final HttpClient adminClient;
+
+  private final LatencyReport report;
+
+  private int requestCount;
+
+  LoadTestSession(String baseUrl, LoadTestTenant tenant, String user, LatencyReport report)
+      throws IOException, InterruptedException {
+    this.baseUrl = baseUrl;
+    this.tenant = tenant;
+    this.user = user;
+    this.report = report;
+    this.userClient = login(user);
+    this.adminClient = login(tenant.admin());
+  }
+
+  /** Runs the action, and records the latencies of its requests when recording is true. */
+  void run(String action, boolean recording) throws IOException, InterruptedException {
+    List<String> topicNames = tenant.topicNames();
+    String topicName = topicNames.get(ThreadLocalRandom.current().nextInt(topicNames.size()));
+    switch (action) {
+      case "browse" -> {
+        int pages = Math.max(1, topicNames.size() / PAGE_SIZE);
+        send(
+            "browse",
+            userClient,
+            get(
+                "/getTopics",
+                Map.of(
+                    "env",
+                    tenant.envId(),
+                    "pageNo",
+                    "" + (1 + ThreadLocalRandom.current().nextInt(pages)))),
+            recording);
+      }
+      case "search" -> send(
+          "search",
+          userClient,
+          get(
+              "/getTopics",
+              Map.of(
+                  "env",
+                  tenant.envId(),
+                  "pageNo",
+                  "1",
+                  "topicnamesearch",
+                  topicName.substring(topicName.lastIndexOf('.') + 1))),
+          recording);
+      case "overview" -> send(
+          "overview",
+          userClient,
+          get("/getTopicOverview", Map.of("topicName", topicName, "environmentId", tenant.envId())),
+          recording);
+      case "request" -> send("request", userClient, createTopicRequest(), recording);
+      case "approve" -> approve(recording);
+      case "sync" -> send(
+          "sync",
+          adminClient,
+          get("/getSyncTopics", Map.of("env", tenant.envId(), "pageNo", "1")),
+          recording);
+      default -> throw new IllegalArgumentException("Unknown action " + action);
+    }
+  }
+
+  // approves a pending request of another user of the team, if there is one
+  private void approve(boolean recording) throws IOException, InterruptedException {
+    String requests =
+        send(
+            "approvals",
+            userClient,
+            get("/getTopicRequestsForApprover", Map.of("pageNo", "1")),
+            recording);
+    if (requests == null) {
+      return;
+    }
+    for (JsonNode request : OBJECT_MAPPER.readTree(requests)) {
+      if (!Objects.equals(user, request.path("requestor").asText())) {
+        send(
+            "approve",
+            userClient,
+            post("/execTopicRequests", Map.of("topicId", request.path("topicid").asText())),
+            recording);
+        return;
+      }
+    }
+  }
+
+  private HttpRequest createTopicRequest() throws IOException {
+    String topicName =
+        String.join(
+            ".", "loadtest", "tenant" + tenant.tenantId(), user, "request" + requestCount++);
+    Map<String, Object> topicRequest =
+        Map.of(
+            "topicname",
+            topicName,
+            "environment",
+            tenant.envId(),
+            "topicpartitions",
+            1,
+            "replicationfactor",
+            "1",
+            "description",
+            "Load test topic",
+            "requestOperationType",
+            "CREATE");
+    return HttpRequest.newBuilder(URI.create(baseUrl + "/createTopics"))
+        .timeout(TIMEOUT)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(topicRequest)))
+        .build();
+  }
+
+  // the body of the response, null if the request failed
+  private String send(String endpoint, HttpClient client, HttpRequest request, boolean recording)
+      throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    long latency = System.nanoTime() - start;
+    boolean success =
+        response.statusCode() == 200 && !response.body().contains("\"success\":false");
+    if (recording) {
+      report.record(endpoint, latency, success);
+    }
+    return success ? response.body() : null;
+  }
+
+  private HttpClient login(String userName) throws IOException, InterruptedException {
+    HttpClient client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(TIMEOUT)
+            .build();
+    HttpRequest login =
+        HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(
+                HttpRequest.BodyPublishers.ofString(
+                    toQuery(Map.of("username", userName, "password", LoadTestData.PASSWORD))))
+            .build();
+    HttpResponse<Void> response = client.send(login, HttpResponse.BodyHandlers.discarding());
+    String location = response.headers().firstValue("Location").orElse("");
+    if (response.statusCode() != 302 || location.contains("error")) {
+      throw new IllegalStateException("Login of " + userName + " failed");
+    }
+    return client;
+  }
+
+  private HttpRequest get(String path, Map<String, String> params) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path + "?" + toQuery(params)))
+        .timeout(TIMEOUT)
+        .GET()
+        .build();
+  }
+
+  private HttpRequest post(String path, Map<String, String> params) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path + "?" + toQuery(params)))
+        .timeout(TIMEOUT)
+        .POST(HttpRequest.BodyPublishers.noBody())
+        .build();
+  }
+
+  private static String toQuery(Map<String, String> params) {
+    StringBuilder query = new StringBuilder();
+    params.forEach(
+        (key, value) ->
+            query
+                .append(query.isEmpty() ? "" : "&")
+                .append(key)
+                .append('=')
+                .append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+    return query.toString();
+  }
+}
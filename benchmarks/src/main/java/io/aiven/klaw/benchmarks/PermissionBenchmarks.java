@@ -0,0 +1,74 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.benchmarks.KlawFixtures.USER;
+
+import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.service.CommonUtilsService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/** Permission checks, which run several times in each request of the ui. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PermissionBenchmarks {
+
+  private ConfigurableApplicationContext context;
+
+  private CommonUtilsService commonUtilsService;
+
+  /** The http request of a benchmark thread, which holds the permissions once resolved. */
+  @State(Scope.Thread)
+  public static class HttpRequest {
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+      RequestContextHolder.setRequestAttributes(
+          new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = KlawFixtures.startCore();
+    commonUtilsService = context.getBean(CommonUtilsService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public boolean isNotAuthorizedUser() {
+    return commonUtilsService.isNotAuthorizedUser(USER, PermissionType.SYNC_TOPICS);
+  }
+
+  @Benchmark
+  public boolean isNotAuthorizedUserWithinRequest(HttpRequest httpRequest) {
+    return commonUtilsService.isNotAuthorizedUser(USER, PermissionType.SYNC_TOPICS);
+  }
+}
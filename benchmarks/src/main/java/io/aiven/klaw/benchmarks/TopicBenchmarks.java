@@ -0,0 +1,71 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.benchmarks.KlawFixtures.TENANT_ID;
+
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.service.CommonUtilsService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Topic lookups over all environments, by the name of a topic for the overview, acl and claim
+ * requests, and by team for the sync and analytics pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TopicBenchmarks {
+
+  @Param({"10000", "100000"})
+  public int topicCount;
+
+  private ConfigurableApplicationContext context;
+
+  private CommonUtilsService commonUtilsService;
+
+  private int teamId;
+
+  private String topicName;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = KlawFixtures.startCore();
+    KlawFixtures.insertTopics(context, topicCount);
+    commonUtilsService = context.getBean(CommonUtilsService.class);
+    teamId = KlawFixtures.getTeamId(context);
+    // a topic in the middle of the list, on DEV and TST
+    topicName = KlawFixtures.getTopicName(topicCount / 2);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Topic> getTopicsOfName() {
+    return commonUtilsService.getTopicsForTopicName(topicName, TENANT_ID);
+  }
+
+  @Benchmark
+  public List<Topic> getTopicsOfTeam() {
+    return commonUtilsService.getTopics(null, teamId, TENANT_ID);
+  }
+}
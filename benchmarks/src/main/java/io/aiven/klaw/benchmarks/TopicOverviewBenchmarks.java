@@ -0,0 +1,95 @@
+package io.aiven.klaw.benchmarks;
+
+import static io.aiven.klaw.benchmarks.KlawFixtures.DEV_ENV_ID;
+import static io.aiven.klaw.benchmarks.KlawFixtures.TENANT_ID;
+
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.model.TopicInfo;
+import io.aiven.klaw.service.CommonUtilsService;
+import io.aiven.klaw.service.TopicControllerService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Topics of one environment, as listed by the topics overview. Selecting the topics of an
+ * environment is quadratic in the topics, the larger sizes are run with -p
+ * topicCount=100000,500000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TopicOverviewBenchmarks {
+
+  // rows per page of the topics overview
+  private static final int TOPICS_PER_PAGE = 21;
+
+  @Param({"1000", "10000"})
+  public int topicCount;
+
+  private ConfigurableApplicationContext context;
+
+  private CommonUtilsService commonUtilsService;
+
+  private TopicControllerService topicControllerService;
+
+  private int teamId;
+
+  private String middlePage;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = KlawFixtures.startCore();
+    KlawFixtures.insertTopics(context, topicCount);
+    commonUtilsService = context.getBean(CommonUtilsService.class);
+    topicControllerService = context.getBean(TopicControllerService.class);
+    teamId = KlawFixtures.getTeamId(context);
+    middlePage = String.valueOf(Math.max(1, topicCount / TOPICS_PER_PAGE / 2));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Topic> getTopicsOfEnv() {
+    return commonUtilsService.getTopics(DEV_ENV_ID, null, TENANT_ID);
+  }
+
+  @Benchmark
+  public List<Topic> getTopicsOfTeamOnEnv() {
+    return commonUtilsService.getTopics(DEV_ENV_ID, teamId, TENANT_ID);
+  }
+
+  @Benchmark
+  public List<List<TopicInfo>> getFirstPageOfTopics() {
+    return topicControllerService.getTopics(DEV_ENV_ID, "1", "", null, null, null);
+  }
+
+  @Benchmark
+  public List<List<TopicInfo>> getMiddlePageOfTopics() {
+    return topicControllerService.getTopics(DEV_ENV_ID, middlePage, "", null, null, null);
+  }
+
+  @Benchmark
+  public List<List<TopicInfo>> searchTopics() {
+    return topicControllerService.getTopics(DEV_ENV_ID, "1", "", "topic.123", null, null);
+  }
+}
@@ -1,10 +1,12 @@
 package io.aiven.klaw.clusterapi;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.tracing.otlp.OtlpAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// the span exporters are configured in TracingConfig
+@SpringBootApplication(exclude = OtlpAutoConfiguration.class)
 @EnableScheduling
 public class KafkaClusterApiApplication {
 
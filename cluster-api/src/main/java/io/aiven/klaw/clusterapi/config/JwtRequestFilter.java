@@ -35,6 +35,11 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     this.jwtTokenUtil = jwtTokenUtilService;
   }
 
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return SecurityConfig.UNAUTHENTICATED_ENDPOINTS.matches(request);
+  }
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain chain)
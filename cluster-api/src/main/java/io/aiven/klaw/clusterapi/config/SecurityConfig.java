@@ -5,10 +5,14 @@ import java.util.Properties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -16,11 +20,17 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @EnableWebSecurity
 @Slf4j
 @Configuration
 public class SecurityConfig {
+
+  /** Health checks and the prometheus scrapes, which do not send a token. */
+  static final RequestMatcher UNAUTHENTICATED_ENDPOINTS =
+      EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class);
+
   @Value("${klaw.clusterapi.access.username:kwuser}")
   private String clusterApiUser;
 
@@ -32,6 +42,17 @@ public class SecurityConfig {
     this.jwtTokenUtilService = jwtTokenUtilService;
   }
 
+  @Bean
+  @Order(1)
+  public SecurityFilterChain unauthenticatedEndpointsFilterChain(HttpSecurity http)
+      throws Exception {
+    http.securityMatcher(UNAUTHENTICATED_ENDPOINTS);
+    http.csrf().disable();
+    http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+    http.authorizeHttpRequests().anyRequest().permitAll();
+    return http.build();
+  }
+
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
     http.csrf().disable();
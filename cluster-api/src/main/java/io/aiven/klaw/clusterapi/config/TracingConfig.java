@@ -0,0 +1,36 @@
+package io.aiven.klaw.clusterapi.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OpenTelemetry tracing, enabled with management.tracing.enabled. Requests of core carrying a trace
+ * context are traced when core sampled them. Spans are exported to an otlp collector, or logged
+ * with klaw.tracing.exporter=logging.
+ */
+@Configuration
+@ConditionalOnEnabledTracing
+public class TracingConfig {
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "klaw.tracing.exporter",
+      havingValue = "otlp",
+      matchIfMissing = true)
+  public SpanExporter otlpSpanExporter(
+      @Value("${klaw.tracing.otlp.endpoint:http://localhost:4318/v1/traces}") String endpoint) {
+    return OtlpHttpSpanExporter.builder().setEndpoint(endpoint).build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "klaw.tracing.exporter", havingValue = "logging")
+  public SpanExporter loggingSpanExporter() {
+    return LoggingSpanExporter.create();
+  }
+}
@@ -10,13 +10,17 @@ import io.aiven.klaw.clusterapi.models.enums.AclsNativeType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.ClusterStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.services.AivenApiService;
 import io.aiven.klaw.clusterapi.services.ApacheKafkaAclService;
 import io.aiven.klaw.clusterapi.services.ApacheKafkaTopicService;
 import io.aiven.klaw.clusterapi.services.ConfluentCloudApiService;
 import io.aiven.klaw.clusterapi.services.UtilComponentsService;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -271,6 +275,45 @@ public class ClusterApiController {
         HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
+  /**
+   * Creates and deletes the acls of several requests. The acls of native clusters are submitted
+   * together per cluster, the others one request at a time. Responses are in the order of the
+   * requests.
+   */
+  @PostMapping(
+      value = "/updateAcls",
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<List<ApiResponse>> updateAcls(
+      @RequestBody @Valid List<ClusterAclRequest> clusterAclRequests) {
+    ApiResponse[] apiResponses = new ApiResponse[clusterAclRequests.size()];
+    List<Integer> nativeIndexes = new ArrayList<>();
+    List<ClusterAclRequest> nativeRequests = new ArrayList<>();
+    for (int i = 0; i < clusterAclRequests.size(); i++) {
+      ClusterAclRequest clusterAclRequest = clusterAclRequests.get(i);
+      if (AclsNativeType.NATIVE.name().equals(clusterAclRequest.getAclNativeType())) {
+        nativeIndexes.add(i);
+        nativeRequests.add(clusterAclRequest);
+      } else if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())) {
+        apiResponses[i] = createAcls(clusterAclRequest).getBody();
+      } else {
+        apiResponses[i] = deleteAcls(clusterAclRequest).getBody();
+      }
+    }
+
+    if (!nativeRequests.isEmpty()) {
+      List<String> results = apacheKafkaAclService.updateAcls(nativeRequests);
+      for (int i = 0; i < nativeIndexes.size(); i++) {
+        String result = results.get(i);
+        apiResponses[nativeIndexes.get(i)] =
+            ApiResponse.builder()
+                .success(result.equals(ApiResultStatus.SUCCESS.value))
+                .message(result)
+                .build();
+      }
+    }
+    return new ResponseEntity<>(Arrays.asList(apiResponses), HttpStatus.OK);
+  }
+
   @PostMapping(
       value = "/deleteAcls",
       produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -7,6 +7,8 @@ import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.ServiceAccountDetails;
 import io.aiven.klaw.clusterapi.models.enums.AclAttributes;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -63,46 +65,63 @@ public class AivenApiService {
   @Value("${klaw.clusters.aiven.servicedetails.api:api}")
   private String serviceDetailsApiEndpoint;
 
-  public Map<String, String> createAcls(ClusterAclRequest clusterAclRequest) {
-    Map<String, String> resultMap = new HashMap<>();
-    RestTemplate restTemplate = getRestTemplate();
-    String projectName = clusterAclRequest.getProjectName();
-    String serviceName = clusterAclRequest.getServiceName();
-
-    Map<String, String> permissionsMap = new HashMap<>();
-    permissionsMap.put(AclAttributes.TOPIC.value, clusterAclRequest.getTopicName());
-    permissionsMap.put(AclAttributes.PERMISSION.value, clusterAclRequest.getPermission());
-    permissionsMap.put(AclAttributes.USERNAME.value, clusterAclRequest.getUsername());
+  private final ClusterOperationMetrics clusterOperationMetrics;
 
-    String uri =
-        addAclsApiEndpoint.replace(PROJECT_NAME, projectName).replace(SERVICE_NAME, serviceName);
-
-    HttpHeaders headers = getHttpHeaders();
-    HttpEntity<Map<String, String>> request = new HttpEntity<>(permissionsMap, headers);
+  public AivenApiService(ClusterOperationMetrics clusterOperationMetrics) {
+    this.clusterOperationMetrics = clusterOperationMetrics;
+  }
 
-    try {
-      ResponseEntity<String> response = restTemplate.postForEntity(uri, request, String.class);
-      AivenAclResponse aivenAclResponse =
-          OBJECT_MAPPER.readValue(response.getBody(), AivenAclResponse.class);
-      Optional<AivenAclStruct> aivenAclStructOptional =
-          Arrays.stream(aivenAclResponse.getAcl())
-              .filter(
-                  acl ->
-                      acl.getUsername().equals(clusterAclRequest.getUsername())
-                          && acl.getTopic().equals(clusterAclRequest.getTopicName())
-                          && acl.getPermission().equals(clusterAclRequest.getPermission()))
-              .findFirst();
-      aivenAclStructOptional.ifPresent(
-          aivenAclStruct -> resultMap.put("aivenaclid", aivenAclStruct.getId()));
-
-      handleAclCreationResponse(clusterAclRequest, resultMap, projectName, serviceName, response);
-
-      return resultMap;
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      resultMap.put("result", "Failure in adding acls" + e.getMessage());
-      return resultMap;
-    }
+  public Map<String, String> createAcls(ClusterAclRequest clusterAclRequest) {
+    return clusterOperationMetrics.record(
+        Flavor.AIVEN,
+        getServiceIdentification(
+            clusterAclRequest.getProjectName(), clusterAclRequest.getServiceName()),
+        "createAcls",
+        () -> {
+          Map<String, String> resultMap = new HashMap<>();
+          RestTemplate restTemplate = getRestTemplate();
+          String projectName = clusterAclRequest.getProjectName();
+          String serviceName = clusterAclRequest.getServiceName();
+
+          Map<String, String> permissionsMap = new HashMap<>();
+          permissionsMap.put(AclAttributes.TOPIC.value, clusterAclRequest.getTopicName());
+          permissionsMap.put(AclAttributes.PERMISSION.value, clusterAclRequest.getPermission());
+          permissionsMap.put(AclAttributes.USERNAME.value, clusterAclRequest.getUsername());
+
+          String uri =
+              addAclsApiEndpoint
+                  .replace(PROJECT_NAME, projectName)
+                  .replace(SERVICE_NAME, serviceName);
+
+          HttpHeaders headers = getHttpHeaders();
+          HttpEntity<Map<String, String>> request = new HttpEntity<>(permissionsMap, headers);
+
+          try {
+            ResponseEntity<String> response =
+                restTemplate.postForEntity(uri, request, String.class);
+            AivenAclResponse aivenAclResponse =
+                OBJECT_MAPPER.readValue(response.getBody(), AivenAclResponse.class);
+            Optional<AivenAclStruct> aivenAclStructOptional =
+                Arrays.stream(aivenAclResponse.getAcl())
+                    .filter(
+                        acl ->
+                            acl.getUsername().equals(clusterAclRequest.getUsername())
+                                && acl.getTopic().equals(clusterAclRequest.getTopicName())
+                                && acl.getPermission().equals(clusterAclRequest.getPermission()))
+                    .findFirst();
+            aivenAclStructOptional.ifPresent(
+                aivenAclStruct -> resultMap.put("aivenaclid", aivenAclStruct.getId()));
+
+            handleAclCreationResponse(
+                clusterAclRequest, resultMap, projectName, serviceName, response);
+
+            return resultMap;
+          } catch (Exception e) {
+            log.error("Exception:", e);
+            resultMap.put("result", "Failure in adding acls" + e.getMessage());
+            return resultMap;
+          }
+        });
   }
 
   private void handleAclCreationResponse(
@@ -164,159 +183,192 @@ public class AivenApiService {
   // Get Aiven service account details
   public ServiceAccountDetails getServiceAccountDetails(
       String projectName, String serviceName, String userName) {
-    log.debug(
-        "Service account for project :{} service : {} user : {}",
-        projectName,
-        serviceName,
-        userName);
-    HttpHeaders headers = getHttpHeaders();
-    String uri =
-        getServiceAccountApiEndpoint
-            .replace(PROJECT_NAME, projectName)
-            .replace(SERVICE_NAME, serviceName)
-            .replace("userName", userName);
-    HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
-    ServiceAccountDetails serviceAccountDetails = new ServiceAccountDetails();
-    serviceAccountDetails.setAccountFound(false);
-    try {
-      ResponseEntity<Map<String, Map<String, String>>> response =
-          getRestTemplate()
-              .exchange(uri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
-      if (response.getStatusCode().equals(HttpStatus.OK)) {
-        Map<String, Map<String, String>> responseMap = response.getBody();
-        if (responseMap != null
-            && responseMap.containsKey("user")
-            && responseMap.get("user").containsKey(USERNAME)) {
-          // Not sending the full service account details.
-          // Response enriched only with username and password. Certificates are removed from the
-          // response.
-
-          Map<String, String> resultMap = responseMap.get("user");
-          serviceAccountDetails.setPassword(resultMap.get("password"));
-          serviceAccountDetails.setUsername(resultMap.get(USERNAME));
-          serviceAccountDetails.setAccountFound(true);
+    return clusterOperationMetrics.record(
+        Flavor.AIVEN,
+        getServiceIdentification(projectName, serviceName),
+        "getServiceAccountDetails",
+        () -> {
+          log.debug(
+              "Service account for project :{} service : {} user : {}",
+              projectName,
+              serviceName,
+              userName);
+          HttpHeaders headers = getHttpHeaders();
+          String uri =
+              getServiceAccountApiEndpoint
+                  .replace(PROJECT_NAME, projectName)
+                  .replace(SERVICE_NAME, serviceName)
+                  .replace("userName", userName);
+          HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
+          ServiceAccountDetails serviceAccountDetails = new ServiceAccountDetails();
+          serviceAccountDetails.setAccountFound(false);
+          try {
+            ResponseEntity<Map<String, Map<String, String>>> response =
+                getRestTemplate()
+                    .exchange(uri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
+            if (response.getStatusCode().equals(HttpStatus.OK)) {
+              Map<String, Map<String, String>> responseMap = response.getBody();
+              if (responseMap != null
+                  && responseMap.containsKey("user")
+                  && responseMap.get("user").containsKey(USERNAME)) {
+                // Not sending the full service account details.
+                // Response enriched only with username and password. Certificates are removed from
+                // the
+                // response.
+
+                Map<String, String> resultMap = responseMap.get("user");
+                serviceAccountDetails.setPassword(resultMap.get("password"));
+                serviceAccountDetails.setUsername(resultMap.get(USERNAME));
+                serviceAccountDetails.setAccountFound(true);
+                return serviceAccountDetails;
+              }
+            }
+          } catch (Exception e) {
+            log.error("Exception:", e);
+          }
           return serviceAccountDetails;
-        }
-      }
-    } catch (Exception e) {
-      log.error("Exception:", e);
-    }
-    return serviceAccountDetails;
+        });
   }
 
   // Get Aiven service accounts
   public Set<String> getServiceAccountUsers(String projectName, String serviceName) {
-    log.debug("Services account for project :{} service : {}", projectName, serviceName);
-    Set<String> serviceAccountsSet = new HashSet<>();
-    HttpHeaders headers = getHttpHeaders();
-    String uri =
-        serviceDetailsApiEndpoint
-            .replace(PROJECT_NAME, projectName)
-            .replace(SERVICE_NAME, serviceName);
-    HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
-    try {
-      ResponseEntity<Map<String, Map<String, Object>>> response =
-          getRestTemplate()
-              .exchange(uri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
-      if (response.getStatusCode().equals(HttpStatus.OK)) {
-        Map<String, Map<String, Object>> responseMap = response.getBody();
-        if (responseMap != null && responseMap.containsKey("service")) {
-          Map<String, Object> serviceDetailsMap = responseMap.get("service");
-          if (serviceDetailsMap.containsKey("users")) {
-            ArrayList<HashMap<String, Object>> userList =
-                (ArrayList) serviceDetailsMap.get("users");
-            userList.forEach(a -> serviceAccountsSet.add((String) a.get("username")));
-            return serviceAccountsSet;
+    return clusterOperationMetrics.record(
+        Flavor.AIVEN,
+        getServiceIdentification(projectName, serviceName),
+        "getServiceAccountUsers",
+        () -> {
+          log.debug("Services account for project :{} service : {}", projectName, serviceName);
+          Set<String> serviceAccountsSet = new HashSet<>();
+          HttpHeaders headers = getHttpHeaders();
+          String uri =
+              serviceDetailsApiEndpoint
+                  .replace(PROJECT_NAME, projectName)
+                  .replace(SERVICE_NAME, serviceName);
+          HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
+          try {
+            ResponseEntity<Map<String, Map<String, Object>>> response =
+                getRestTemplate()
+                    .exchange(uri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
+            if (response.getStatusCode().equals(HttpStatus.OK)) {
+              Map<String, Map<String, Object>> responseMap = response.getBody();
+              if (responseMap != null && responseMap.containsKey("service")) {
+                Map<String, Object> serviceDetailsMap = responseMap.get("service");
+                if (serviceDetailsMap.containsKey("users")) {
+                  ArrayList<HashMap<String, Object>> userList =
+                      (ArrayList) serviceDetailsMap.get("users");
+                  userList.forEach(a -> serviceAccountsSet.add((String) a.get("username")));
+                  return serviceAccountsSet;
+                }
+              }
+            }
+          } catch (Exception e) {
+            log.error("Exception:", e);
           }
-        }
-      }
-    } catch (Exception e) {
-      log.error("Exception:", e);
-    }
-    return new HashSet<>();
+          return new HashSet<>();
+        });
   }
 
   public String deleteAcls(ClusterAclRequest clusterAclRequest) throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
+    return clusterOperationMetrics.record(
+        Flavor.AIVEN,
+        getServiceIdentification(
+            clusterAclRequest.getProjectName(), clusterAclRequest.getServiceName()),
+        "deleteAcls",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+
+          try {
+            String projectName = clusterAclRequest.getProjectName();
+            String serviceName = clusterAclRequest.getServiceName();
+            String aclId = clusterAclRequest.getAivenAclKey();
+
+            String uri =
+                deleteAclsApiEndpoint
+                    .replace(PROJECT_NAME, projectName)
+                    .replace(SERVICE_NAME, serviceName)
+                    .replace("aclId", aclId);
+
+            HttpHeaders headers = getHttpHeaders();
+            HttpEntity<?> request = new HttpEntity<>(headers);
+            restTemplate.exchange(uri, HttpMethod.DELETE, request, Object.class);
+          } catch (Exception e) {
+            log.error("Exception:", e);
+            if (e instanceof HttpClientErrorException) {
+              if (((HttpClientErrorException) e).getStatusCode() == HttpStatus.NOT_FOUND) {
+                return ApiResultStatus.SUCCESS.value;
+              }
+            }
+            throw new Exception("Error in deleting acls " + e.getMessage());
+          }
 
-    try {
-      String projectName = clusterAclRequest.getProjectName();
-      String serviceName = clusterAclRequest.getServiceName();
-      String aclId = clusterAclRequest.getAivenAclKey();
-
-      String uri =
-          deleteAclsApiEndpoint
-              .replace(PROJECT_NAME, projectName)
-              .replace(SERVICE_NAME, serviceName)
-              .replace("aclId", aclId);
-
-      HttpHeaders headers = getHttpHeaders();
-      HttpEntity<?> request = new HttpEntity<>(headers);
-      restTemplate.exchange(uri, HttpMethod.DELETE, request, Object.class);
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      if (e instanceof HttpClientErrorException) {
-        if (((HttpClientErrorException) e).getStatusCode() == HttpStatus.NOT_FOUND) {
           return ApiResultStatus.SUCCESS.value;
-        }
-      }
-      throw new Exception("Error in deleting acls " + e.getMessage());
-    }
-
-    return ApiResultStatus.SUCCESS.value;
+        });
   }
 
   public Set<Map<String, String>> listAcls(String projectName, String serviceName)
       throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
-    log.info("listAcls {} {}", projectName, serviceName);
-
-    String uri =
-        listAclsApiEndpoint.replace(PROJECT_NAME, projectName).replace(SERVICE_NAME, serviceName);
-
-    HttpHeaders headers = getHttpHeaders();
-    HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
-
-    try {
-      ResponseEntity<Map<String, List<Map<String, String>>>> responseEntity =
-          restTemplate.exchange(
-              uri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
-
-      List<Map<String, String>> aclsList =
-          Objects.requireNonNull(responseEntity.getBody()).get("acl");
-      List<Map<String, String>> aclsListUpdated = new ArrayList<>();
-      for (Map<String, String> aclsMap : aclsList) {
-        Map<String, String> aclsMapUpdated = new HashMap<>();
-        for (String keyAcls : aclsMap.keySet()) {
-          switch (keyAcls) {
-            case "id" -> aclsMapUpdated.put("aivenaclid", aclsMap.get(keyAcls));
-            case "permission" -> {
-              aclsMapUpdated.put("operation", aclsMap.get(keyAcls).toUpperCase());
-              aclsMapUpdated.put("resourceType", "TOPIC");
+    return clusterOperationMetrics.record(
+        Flavor.AIVEN,
+        getServiceIdentification(projectName, serviceName),
+        "listAcls",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+          log.info("listAcls {} {}", projectName, serviceName);
+
+          String uri =
+              listAclsApiEndpoint
+                  .replace(PROJECT_NAME, projectName)
+                  .replace(SERVICE_NAME, serviceName);
+
+          HttpHeaders headers = getHttpHeaders();
+          HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
+
+          try {
+            ResponseEntity<Map<String, List<Map<String, String>>>> responseEntity =
+                restTemplate.exchange(
+                    uri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
+
+            List<Map<String, String>> aclsList =
+                Objects.requireNonNull(responseEntity.getBody()).get("acl");
+            List<Map<String, String>> aclsListUpdated = new ArrayList<>();
+            for (Map<String, String> aclsMap : aclsList) {
+              Map<String, String> aclsMapUpdated = new HashMap<>();
+              for (String keyAcls : aclsMap.keySet()) {
+                switch (keyAcls) {
+                  case "id" -> aclsMapUpdated.put("aivenaclid", aclsMap.get(keyAcls));
+                  case "permission" -> {
+                    aclsMapUpdated.put("operation", aclsMap.get(keyAcls).toUpperCase());
+                    aclsMapUpdated.put("resourceType", "TOPIC");
+                  }
+                  case "topic" -> aclsMapUpdated.put("resourceName", aclsMap.get(keyAcls));
+                  case USERNAME -> aclsMapUpdated.put("principle", aclsMap.get(keyAcls));
+                }
+              }
+              aclsMapUpdated.put("host", "*");
+              aclsMapUpdated.put("permissionType", "ALLOW");
+              if ("READ".equals(aclsMapUpdated.get("operation"))) {
+                Map<String, String> newRGroupMap = new HashMap<>(aclsMapUpdated);
+                newRGroupMap.put("resourceType", "GROUP");
+                newRGroupMap.put("resourceName", "-na-");
+                aclsListUpdated.add(newRGroupMap);
+              }
+              if (!"ADMIN".equals(aclsMapUpdated.get("operation"))
+                  && !"READWRITE".equals(aclsMapUpdated.get("operation"))) {
+                aclsListUpdated.add(aclsMapUpdated);
+              }
             }
-            case "topic" -> aclsMapUpdated.put("resourceName", aclsMap.get(keyAcls));
-            case USERNAME -> aclsMapUpdated.put("principle", aclsMap.get(keyAcls));
+
+            return new HashSet<>(aclsListUpdated);
+          } catch (RestClientException e) {
+            log.error("Exception:", e);
+            throw new Exception("Error in listing acls : " + e.getMessage());
           }
-        }
-        aclsMapUpdated.put("host", "*");
-        aclsMapUpdated.put("permissionType", "ALLOW");
-        if ("READ".equals(aclsMapUpdated.get("operation"))) {
-          Map<String, String> newRGroupMap = new HashMap<>(aclsMapUpdated);
-          newRGroupMap.put("resourceType", "GROUP");
-          newRGroupMap.put("resourceName", "-na-");
-          aclsListUpdated.add(newRGroupMap);
-        }
-        if (!"ADMIN".equals(aclsMapUpdated.get("operation"))
-            && !"READWRITE".equals(aclsMapUpdated.get("operation"))) {
-          aclsListUpdated.add(aclsMapUpdated);
-        }
-      }
+        });
+  }
 
-      return new HashSet<>(aclsListUpdated);
-    } catch (RestClientException e) {
-      log.error("Exception:", e);
-      throw new Exception("Error in listing acls : " + e.getMessage());
-    }
+  // the project and service of an aiven kafka service identify its cluster
+  private static String getServiceIdentification(String projectName, String serviceName) {
+    return projectName + "/" + serviceName;
   }
 
   private HttpHeaders getHttpHeaders() {
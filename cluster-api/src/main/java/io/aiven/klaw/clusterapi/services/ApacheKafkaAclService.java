@@ -3,22 +3,30 @@ package io.aiven.klaw.clusterapi.services;
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.enums.AclIPPrincipleType;
 import io.aiven.klaw.clusterapi.models.enums.AclPatternType;
+import io.aiven.klaw.clusterapi.models.enums.AclType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
@@ -39,38 +47,50 @@ public class ApacheKafkaAclService {
 
   private final ClusterApiUtils clusterApiUtils;
 
-  public ApacheKafkaAclService(ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationMetrics clusterOperationMetrics;
+
+  public ApacheKafkaAclService(
+      ClusterApiUtils clusterApiUtils, ClusterOperationMetrics clusterOperationMetrics) {
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationMetrics = clusterOperationMetrics;
   }
 
   public synchronized Set<Map<String, String>> loadAcls(
       String environment, KafkaSupportedProtocol protocol, String clusterName) throws Exception {
-    log.info("loadAcls {} {}", environment, protocol);
-    Set<Map<String, String>> acls = new HashSet<>();
-
-    AdminClient client = clusterApiUtils.getAdminClient(environment, protocol, clusterName);
-    if (client == null) {
-      throw new Exception("Cannot connect to cluster.");
-    }
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterName,
+        "loadAcls",
+        () -> {
+          log.info("loadAcls {} {}", environment, protocol);
+          Set<Map<String, String>> acls = new HashSet<>();
+
+          AdminClient client = clusterApiUtils.getAdminClient(environment, protocol, clusterName);
+          if (client == null) {
+            throw new Exception("Cannot connect to cluster.");
+          }
 
-    try {
-      AclBindingFilter aclBindingFilter = AclBindingFilter.ANY;
-      DescribeAclsResult aclsResult = client.describeAcls(aclBindingFilter);
+          try {
+            AclBindingFilter aclBindingFilter = AclBindingFilter.ANY;
+            DescribeAclsResult aclsResult = client.describeAcls(aclBindingFilter);
 
-      aclsResult
-          .values()
-          .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS)
-          .forEach(aclBinding -> filterAndUpdateAclBindings(acls, aclBinding));
-    } catch (Exception e) {
-      log.error("Exception: ", e);
-    }
+            aclsResult
+                .values()
+                .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS)
+                .forEach(aclBinding -> filterAndUpdateAclBindings(acls, aclBinding));
+          } catch (Exception e) {
+            log.error("Exception: ", e);
+          }
 
-    return acls;
+          return acls;
+        });
   }
 
   private static void filterAndUpdateAclBindings(
       Set<Map<String, String>> acls, AclBinding aclBinding) {
-    if (aclBinding.pattern().patternType().name().equals(AclPatternType.LITERAL.value)) {
+    String patternType = aclBinding.pattern().patternType().name();
+    if (patternType.equals(AclPatternType.LITERAL.value)
+        || patternType.equals(AclPatternType.PREFIXED.value)) {
       Map<String, String> aclbindingMap = new HashMap<>();
       AccessControlEntry accessControlEntry = aclBinding.entry();
       aclbindingMap.put("host", accessControlEntry.host());
@@ -79,6 +99,7 @@ public class ApacheKafkaAclService {
       aclbindingMap.put("permissionType", accessControlEntry.permissionType().toString());
       aclbindingMap.put("resourceType", aclBinding.pattern().resourceType().toString());
       aclbindingMap.put("resourceName", aclBinding.pattern().name());
+      aclbindingMap.put("patternType", patternType);
 
       if (!aclBinding.pattern().resourceType().toString().equals("CLUSTER")) {
         if (accessControlEntry.operation().toString().equals("WRITE")
@@ -90,83 +111,291 @@ public class ApacheKafkaAclService {
   }
 
   public synchronized String updateProducerAcl(ClusterAclRequest clusterAclRequest) {
-    log.info("updateProducerAclRequest {}", clusterAclRequest);
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterAclRequest.getClusterName(),
+        "updateProducerAcl",
+        () -> {
+          log.info("updateProducerAclRequest {}", clusterAclRequest);
+          AdminClient client;
+          try {
+            PatternType patternType;
+            if (clusterAclRequest.isPrefixAcl()) {
+              patternType = PatternType.PREFIXED;
+            } else {
+              patternType = PatternType.LITERAL;
+            }
+
+            client =
+                clusterApiUtils.getAdminClient(
+                    clusterAclRequest.getEnv(),
+                    clusterAclRequest.getProtocol(),
+                    clusterAclRequest.getClusterName());
+            if (client == null) {
+              return ApiResultStatus.FAILURE.value;
+            }
+
+            String host,
+                principal,
+                aclSsl = clusterAclRequest.getAclSsl(),
+                aclIp = clusterAclRequest.getAclIp();
+            if (clusterAclRequest.getAclSsl() != null
+                && clusterAclRequest.getAclSsl().trim().length() > 0) {
+              aclSsl = aclSsl.trim();
+              if (AclIPPrincipleType.PRINCIPAL
+                  .name()
+                  .equals(clusterAclRequest.getAclIpPrincipleType())) {
+                host = "*";
+                principal = "User:" + aclSsl;
+
+                if (RequestOperationType.CREATE.equals(
+                    clusterAclRequest.getRequestOperationType())) {
+                  if (updateTopicProducerWriteAcls(
+                      clusterAclRequest.getTopicName(), client, patternType, host, principal)) {
+                    return "Acl already exists. success";
+                  }
+                } else {
+                  processOtherRequests(clusterAclRequest, client, patternType, host, principal);
+                }
+                updateTransactionalIdAclsForProducer(
+                    clusterAclRequest.getTransactionalId(),
+                    client,
+                    patternType,
+                    host,
+                    principal,
+                    clusterAclRequest.getRequestOperationType().value);
+              }
+            }
+
+            if (aclIp != null && aclIp.trim().length() > 0) {
+              aclIp = aclIp.trim();
+              host = aclIp;
+              principal = "User:*";
+
+              if (clusterAclRequest.getRequestOperationType().equals(RequestOperationType.CREATE)) {
+                if (updateTopicProducerWriteAcls(
+                    clusterAclRequest.getTopicName(), client, patternType, host, principal)) {
+                  return "Acl already exists. success";
+                }
+              } else {
+                processOtherRequests(clusterAclRequest, client, patternType, host, principal);
+              }
+              // Update transactional id acls
+              updateTransactionalIdAclsForProducer(
+                  clusterAclRequest.getTransactionalId(),
+                  client,
+                  patternType,
+                  host,
+                  principal,
+                  clusterAclRequest.getRequestOperationType().value);
+            }
+
+          } catch (Exception e) {
+            log.error("Exception: ", e);
+            return ApiResultStatus.FAILURE.value;
+          }
+
+          return ApiResultStatus.SUCCESS.value;
+        });
+  }
+
+  /**
+   * Creates and deletes the acls of several requests with one createAcls and one deleteAcls call
+   * per cluster. The result of each binding is mapped back to its request, a request succeeds when
+   * all of its bindings do. Results are returned in the order of the requests.
+   */
+  public synchronized List<String> updateAcls(List<ClusterAclRequest> clusterAclRequests) {
+    log.info("updateAcls {}", clusterAclRequests.size());
+    String[] results = new String[clusterAclRequests.size()];
+    Map<String, List<Integer>> requestsPerCluster = new LinkedHashMap<>();
+    for (int i = 0; i < clusterAclRequests.size(); i++) {
+      ClusterAclRequest clusterAclRequest = clusterAclRequests.get(i);
+      requestsPerCluster
+          .computeIfAbsent(
+              clusterAclRequest.getEnv()
+                  + clusterAclRequest.getProtocol()
+                  + clusterAclRequest.getClusterName(),
+              cluster -> new ArrayList<>())
+          .add(i);
+    }
+    requestsPerCluster
+        .values()
+        .forEach(
+            indexes ->
+                clusterOperationMetrics.record(
+                    Flavor.APACHE_KAFKA,
+                    clusterAclRequests.get(indexes.get(0)).getClusterName(),
+                    "updateAcls",
+                    () -> updateAcls(clusterAclRequests, indexes, results)));
+    return Arrays.asList(results);
+  }
+
+  // the outcome of the cluster is a failure when any of its requests failed
+  private String updateAcls(
+      List<ClusterAclRequest> clusterAclRequests, List<Integer> indexes, String[] results) {
+    ClusterAclRequest firstRequest = clusterAclRequests.get(indexes.get(0));
     AdminClient client;
     try {
-      PatternType patternType;
-      if (clusterAclRequest.isPrefixAcl()) {
-        patternType = PatternType.PREFIXED;
-      } else {
-        patternType = PatternType.LITERAL;
-      }
-
       client =
           clusterApiUtils.getAdminClient(
-              clusterAclRequest.getEnv(),
-              clusterAclRequest.getProtocol(),
-              clusterAclRequest.getClusterName());
-      if (client == null) {
-        return ApiResultStatus.FAILURE.value;
+              firstRequest.getEnv(), firstRequest.getProtocol(), firstRequest.getClusterName());
+    } catch (Exception e) {
+      log.error("Exception: ", e);
+      client = null;
+    }
+    if (client == null) {
+      indexes.forEach(index -> results[index] = ApiResultStatus.FAILURE.value);
+      return ApiResultStatus.FAILURE.value;
+    }
+
+    Map<Integer, List<AclBinding>> createBindings = new LinkedHashMap<>();
+    Map<Integer, List<AclBindingFilter>> deleteFilters = new LinkedHashMap<>();
+    Set<AclBinding> existingAcls = null;
+    for (Integer index : indexes) {
+      ClusterAclRequest clusterAclRequest = clusterAclRequests.get(index);
+      List<AclBinding> aclBindings;
+      try {
+        aclBindings = getAclBindings(clusterAclRequest);
+      } catch (Exception e) {
+        log.error("Exception: ", e);
+        aclBindings = List.of();
+      }
+      if (aclBindings.isEmpty()) {
+        results[index] = ApiResultStatus.FAILURE.value;
+      } else if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())) {
+        if (existingAcls == null) {
+          existingAcls = getExistingAcls(client);
+        }
+        if (aclsExist(aclBindings, existingAcls)) {
+          results[index] = "Acl already exists. success";
+        } else {
+          createBindings.put(index, aclBindings);
+        }
+      } else {
+        deleteFilters.put(
+            index, aclBindings.stream().map(AclBinding::toFilter).collect(Collectors.toList()));
       }
+    }
 
-      String host,
-          principal,
-          aclSsl = clusterAclRequest.getAclSsl(),
-          aclIp = clusterAclRequest.getAclIp();
-      if (clusterAclRequest.getAclSsl() != null
-          && clusterAclRequest.getAclSsl().trim().length() > 0) {
-        aclSsl = aclSsl.trim();
-        if (AclIPPrincipleType.PRINCIPAL.name().equals(clusterAclRequest.getAclIpPrincipleType())) {
-          host = "*";
-          principal = "User:" + aclSsl;
-
-          if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())) {
-            if (updateTopicProducerWriteAcls(
-                clusterAclRequest.getTopicName(), client, patternType, host, principal)) {
-              return "Acl already exists. success";
+    if (!createBindings.isEmpty()) {
+      Map<AclBinding, KafkaFuture<Void>> createResults =
+          client
+              .createAcls(
+                  createBindings.values().stream()
+                      .flatMap(List::stream)
+                      .distinct()
+                      .collect(Collectors.toList()))
+              .values();
+      createBindings.forEach(
+          (index, aclBindings) ->
+              results[index] = getResult(aclBindings.stream().map(createResults::get).toList()));
+    }
+    if (!deleteFilters.isEmpty()) {
+      Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> deleteResults =
+          client
+              .deleteAcls(
+                  deleteFilters.values().stream()
+                      .flatMap(List::stream)
+                      .distinct()
+                      .collect(Collectors.toList()))
+              .values();
+      deleteFilters.forEach(
+          (index, aclFilters) ->
+              results[index] = getResult(aclFilters.stream().map(deleteResults::get).toList()));
+    }
+    return indexes.stream()
+            .map(index -> results[index])
+            .anyMatch(ApiResultStatus.FAILURE.value::equals)
+        ? ApiResultStatus.FAILURE.value
+        : ApiResultStatus.SUCCESS.value;
+  }
+
+  // bindings of the request, the same as updateProducerAcl and updateConsumerAcl process
+  private static List<AclBinding> getAclBindings(ClusterAclRequest clusterAclRequest) {
+    boolean isProducer = AclType.PRODUCER.value.equals(clusterAclRequest.getAclType());
+    PatternType patternType =
+        isProducer && clusterAclRequest.isPrefixAcl() ? PatternType.PREFIXED : PatternType.LITERAL;
+
+    Map<String, String> hostPerPrincipal = new LinkedHashMap<>();
+    String aclSsl = clusterAclRequest.getAclSsl();
+    if (aclSsl != null
+        && aclSsl.trim().length() > 0
+        && (isProducer || !aclSsl.equals("User:*"))
+        && AclIPPrincipleType.PRINCIPAL.name().equals(clusterAclRequest.getAclIpPrincipleType())) {
+      hostPerPrincipal.put("User:" + aclSsl.trim(), "*");
+    }
+    String aclIp = clusterAclRequest.getAclIp();
+    if (aclIp != null && aclIp.trim().length() > 0) {
+      hostPerPrincipal.put("User:*", aclIp.trim());
+    }
+
+    List<AclBinding> aclBindings = new ArrayList<>();
+    hostPerPrincipal.forEach(
+        (principal, host) -> {
+          ResourcePattern topicPattern =
+              new ResourcePattern(
+                  ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
+          if (isProducer) {
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.WRITE));
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.DESCRIBE));
+            String transactionalId = clusterAclRequest.getTransactionalId();
+            if (transactionalId != null && transactionalId.trim().length() > 0) {
+              ResourcePattern transactionalIdPattern =
+                  new ResourcePattern(
+                      ResourceType.TRANSACTIONAL_ID, transactionalId.trim(), patternType);
+              aclBindings.add(
+                  getAclBinding(transactionalIdPattern, principal, host, AclOperation.WRITE));
             }
           } else {
-            processOtherRequests(clusterAclRequest, client, patternType, host, principal);
+            ResourcePattern groupPattern =
+                new ResourcePattern(
+                    ResourceType.GROUP, clusterAclRequest.getConsumerGroup(), patternType);
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.READ));
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.DESCRIBE));
+            aclBindings.add(getAclBinding(groupPattern, principal, host, AclOperation.READ));
           }
-          updateTransactionalIdAclsForProducer(
-              clusterAclRequest.getTransactionalId(),
-              client,
-              patternType,
-              host,
-              principal,
-              clusterAclRequest.getRequestOperationType().value);
-        }
-      }
+        });
+    return aclBindings;
+  }
 
-      if (aclIp != null && aclIp.trim().length() > 0) {
-        aclIp = aclIp.trim();
-        host = aclIp;
-        principal = "User:*";
+  private static AclBinding getAclBinding(
+      ResourcePattern resourcePattern, String principal, String host, AclOperation operation) {
+    return new AclBinding(
+        resourcePattern,
+        new AccessControlEntry(principal, host, operation, AclPermissionType.ALLOW));
+  }
 
-        if (clusterAclRequest.getRequestOperationType().equals(RequestOperationType.CREATE)) {
-          if (updateTopicProducerWriteAcls(
-              clusterAclRequest.getTopicName(), client, patternType, host, principal)) {
-            return "Acl already exists. success";
-          }
-        } else {
-          processOtherRequests(clusterAclRequest, client, patternType, host, principal);
-        }
-        // Update transactional id acls
-        updateTransactionalIdAclsForProducer(
-            clusterAclRequest.getTransactionalId(),
-            client,
-            patternType,
-            host,
-            principal,
-            clusterAclRequest.getRequestOperationType().value);
-      }
+  // one describe of all acls, instead of one per binding of each request
+  private Set<AclBinding> getExistingAcls(AdminClient client) {
+    try {
+      return new HashSet<>(
+          client
+              .describeAcls(AclBindingFilter.ANY)
+              .values()
+              .get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS));
+    } catch (Exception e) {
+      log.error("Exception: ", e);
+      return Set.of();
+    }
+  }
+
+  // transactional id acls are not checked, like in updateProducerAcl
+  private static boolean aclsExist(List<AclBinding> aclBindings, Set<AclBinding> existingAcls) {
+    return aclBindings.stream()
+        .filter(aclBinding -> aclBinding.pattern().resourceType() != ResourceType.TRANSACTIONAL_ID)
+        .allMatch(existingAcls::contains);
+  }
 
+  private static String getResult(List<? extends KafkaFuture<?>> futures) {
+    try {
+      for (KafkaFuture<?> future : futures) {
+        future.get(TIME_OUT_SECS_FOR_ACLS, TimeUnit.SECONDS);
+      }
+      return ApiResultStatus.SUCCESS.value;
     } catch (Exception e) {
       log.error("Exception: ", e);
       return ApiResultStatus.FAILURE.value;
     }
-
-    return ApiResultStatus.SUCCESS.value;
   }
 
   private void processOtherRequests(
@@ -276,132 +505,142 @@ public class ApacheKafkaAclService {
   }
 
   public synchronized String updateConsumerAcl(ClusterAclRequest clusterAclRequest) {
-    log.info("updateConsumerAclRequest {} ", clusterAclRequest);
-    AdminClient client;
-    String resultStr = "";
-    try {
-      PatternType patternType;
-      patternType = PatternType.LITERAL;
-
-      client =
-          clusterApiUtils.getAdminClient(
-              clusterAclRequest.getEnv(),
-              clusterAclRequest.getProtocol(),
-              clusterAclRequest.getClusterName());
-      if (client == null) {
-        return ApiResultStatus.FAILURE.value;
-      }
-
-      String host = null,
-          principal = null,
-          aclSsl = clusterAclRequest.getAclSsl(),
-          aclIp = clusterAclRequest.getAclIp();
-      boolean isValidParam = false;
-
-      if (aclSsl != null && aclSsl.trim().length() > 0 && !aclSsl.equals("User:*")) {
-        aclSsl = aclSsl.trim();
-
-        if (AclIPPrincipleType.PRINCIPAL.name().equals(clusterAclRequest.getAclIpPrincipleType())) {
-          host = "*";
-          principal = "User:" + aclSsl;
-          isValidParam = true;
-        }
-
-        if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())
-            && isValidParam) {
-          List<AclBinding> aclListArray = new ArrayList<>();
-
-          AccessControlEntry aclEntry =
-              new AccessControlEntry(principal, host, AclOperation.READ, AclPermissionType.ALLOW);
-          ResourcePattern resourcePattern =
-              new ResourcePattern(
-                  ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
-
-          resultStr =
-              processAclBindings(
-                  clusterAclRequest,
-                  client,
-                  patternType,
-                  host,
-                  principal,
-                  aclListArray,
-                  aclEntry,
-                  resourcePattern);
-
-        } else if (isValidParam) {
-          List<AclBindingFilter> aclListArray = new ArrayList<>();
-
-          AccessControlEntryFilter aclEntry =
-              new AccessControlEntryFilter(
-                  principal, host, AclOperation.READ, AclPermissionType.ALLOW);
-          ResourcePatternFilter resourcePattern =
-              new ResourcePatternFilter(
-                  ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
-
-          resultStr =
-              processOtherAclBindings(
-                  clusterAclRequest,
-                  client,
-                  patternType,
-                  host,
-                  principal,
-                  aclListArray,
-                  aclEntry,
-                  resourcePattern);
-        }
-      }
-
-      if (aclIp != null && aclIp.trim().length() > 0) {
-        aclIp = aclIp.trim();
-        host = aclIp;
-        principal = "User:*";
-
-        if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())) {
-          List<AclBinding> aclListArray = new ArrayList<>();
-
-          ResourcePattern resourcePattern =
-              new ResourcePattern(
-                  ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
-          AccessControlEntry aclEntry =
-              new AccessControlEntry(principal, host, AclOperation.READ, AclPermissionType.ALLOW);
-          resultStr =
-              processAclBindings(
-                  clusterAclRequest,
-                  client,
-                  patternType,
-                  host,
-                  principal,
-                  aclListArray,
-                  aclEntry,
-                  resourcePattern);
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterAclRequest.getClusterName(),
+        "updateConsumerAcl",
+        () -> {
+          log.info("updateConsumerAclRequest {} ", clusterAclRequest);
+          AdminClient client;
+          String resultStr = "";
+          try {
+            PatternType patternType;
+            patternType = PatternType.LITERAL;
+
+            client =
+                clusterApiUtils.getAdminClient(
+                    clusterAclRequest.getEnv(),
+                    clusterAclRequest.getProtocol(),
+                    clusterAclRequest.getClusterName());
+            if (client == null) {
+              return ApiResultStatus.FAILURE.value;
+            }
 
-        } else {
-          List<AclBindingFilter> aclListArray = new ArrayList<>();
+            String host = null,
+                principal = null,
+                aclSsl = clusterAclRequest.getAclSsl(),
+                aclIp = clusterAclRequest.getAclIp();
+            boolean isValidParam = false;
+
+            if (aclSsl != null && aclSsl.trim().length() > 0 && !aclSsl.equals("User:*")) {
+              aclSsl = aclSsl.trim();
+
+              if (AclIPPrincipleType.PRINCIPAL
+                  .name()
+                  .equals(clusterAclRequest.getAclIpPrincipleType())) {
+                host = "*";
+                principal = "User:" + aclSsl;
+                isValidParam = true;
+              }
+
+              if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())
+                  && isValidParam) {
+                List<AclBinding> aclListArray = new ArrayList<>();
+
+                AccessControlEntry aclEntry =
+                    new AccessControlEntry(
+                        principal, host, AclOperation.READ, AclPermissionType.ALLOW);
+                ResourcePattern resourcePattern =
+                    new ResourcePattern(
+                        ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
+
+                resultStr =
+                    processAclBindings(
+                        clusterAclRequest,
+                        client,
+                        patternType,
+                        host,
+                        principal,
+                        aclListArray,
+                        aclEntry,
+                        resourcePattern);
+
+              } else if (isValidParam) {
+                List<AclBindingFilter> aclListArray = new ArrayList<>();
+
+                AccessControlEntryFilter aclEntry =
+                    new AccessControlEntryFilter(
+                        principal, host, AclOperation.READ, AclPermissionType.ALLOW);
+                ResourcePatternFilter resourcePattern =
+                    new ResourcePatternFilter(
+                        ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
+
+                resultStr =
+                    processOtherAclBindings(
+                        clusterAclRequest,
+                        client,
+                        patternType,
+                        host,
+                        principal,
+                        aclListArray,
+                        aclEntry,
+                        resourcePattern);
+              }
+            }
 
-          ResourcePatternFilter resourcePattern =
-              new ResourcePatternFilter(
-                  ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
-          AccessControlEntryFilter aclEntry =
-              new AccessControlEntryFilter(
-                  principal, host, AclOperation.READ, AclPermissionType.ALLOW);
-          resultStr =
-              processOtherAclBindings(
-                  clusterAclRequest,
-                  client,
-                  patternType,
-                  host,
-                  principal,
-                  aclListArray,
-                  aclEntry,
-                  resourcePattern);
-        }
-      }
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      return ApiResultStatus.FAILURE.value;
-    }
+            if (aclIp != null && aclIp.trim().length() > 0) {
+              aclIp = aclIp.trim();
+              host = aclIp;
+              principal = "User:*";
+
+              if (RequestOperationType.CREATE.equals(clusterAclRequest.getRequestOperationType())) {
+                List<AclBinding> aclListArray = new ArrayList<>();
+
+                ResourcePattern resourcePattern =
+                    new ResourcePattern(
+                        ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
+                AccessControlEntry aclEntry =
+                    new AccessControlEntry(
+                        principal, host, AclOperation.READ, AclPermissionType.ALLOW);
+                resultStr =
+                    processAclBindings(
+                        clusterAclRequest,
+                        client,
+                        patternType,
+                        host,
+                        principal,
+                        aclListArray,
+                        aclEntry,
+                        resourcePattern);
+
+              } else {
+                List<AclBindingFilter> aclListArray = new ArrayList<>();
+
+                ResourcePatternFilter resourcePattern =
+                    new ResourcePatternFilter(
+                        ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
+                AccessControlEntryFilter aclEntry =
+                    new AccessControlEntryFilter(
+                        principal, host, AclOperation.READ, AclPermissionType.ALLOW);
+                resultStr =
+                    processOtherAclBindings(
+                        clusterAclRequest,
+                        client,
+                        patternType,
+                        host,
+                        principal,
+                        aclListArray,
+                        aclEntry,
+                        resourcePattern);
+              }
+            }
+          } catch (Exception e) {
+            log.error("Exception:", e);
+            return ApiResultStatus.FAILURE.value;
+          }
 
-    return resultStr;
+          return resultStr;
+        });
   }
 
   private String processOtherAclBindings(
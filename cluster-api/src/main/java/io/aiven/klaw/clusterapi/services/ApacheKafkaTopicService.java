@@ -6,6 +6,8 @@ import io.aiven.klaw.clusterapi.models.TopicConfig;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,47 +45,59 @@ public class ApacheKafkaTopicService {
 
   private final SchemaService schemaService;
 
-  public ApacheKafkaTopicService(ClusterApiUtils clusterApiUtils, SchemaService schemaService) {
+  private final ClusterOperationMetrics clusterOperationMetrics;
+
+  public ApacheKafkaTopicService(
+      ClusterApiUtils clusterApiUtils,
+      SchemaService schemaService,
+      ClusterOperationMetrics clusterOperationMetrics) {
     this.clusterApiUtils = clusterApiUtils;
     this.schemaService = schemaService;
+    this.clusterOperationMetrics = clusterOperationMetrics;
   }
 
   public synchronized Set<TopicConfig> loadTopics(
       String environment, KafkaSupportedProtocol protocol, String clusterIdentification)
       throws Exception {
-    log.info("loadTopics {} {}", environment, protocol);
-    AdminClient client =
-        clusterApiUtils.getAdminClient(environment, protocol, clusterIdentification);
-    Set<TopicConfig> topics = new HashSet<>();
-    if (client == null) {
-      throw new Exception("Cannot connect to cluster.");
-    }
-
-    try {
-      Map<String, TopicDescription> topicDescriptionsPerAdminClient =
-          loadTopicDescriptionsMap(client);
-
-      Set<String> keySet = topicDescriptionsPerAdminClient.keySet();
-      keySet.remove("_schemas");
-      List<String> lstK = new ArrayList<>(keySet);
-      TopicConfig topicConfig;
-      for (String topicName : lstK) {
-        if (topicName.startsWith("_confluent") || topicName.startsWith("__connect")) {
-          continue;
-        }
-        topicConfig = new TopicConfig();
-        topicConfig.setTopicName(topicName);
-        TopicDescription topicDescription = topicDescriptionsPerAdminClient.get(topicName);
-        topicConfig.setReplicationFactor(
-            "" + topicDescription.partitions().get(0).replicas().size());
-        topicConfig.setPartitions("" + topicDescription.partitions().size());
-        topics.add(topicConfig);
-      }
-
-    } catch (InterruptedException | ExecutionException | TimeoutException e) {
-      log.error("Exception:", e);
-    }
-    return topics;
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterIdentification,
+        "loadTopics",
+        () -> {
+          log.info("loadTopics {} {}", environment, protocol);
+          AdminClient client =
+              clusterApiUtils.getAdminClient(environment, protocol, clusterIdentification);
+          Set<TopicConfig> topics = new HashSet<>();
+          if (client == null) {
+            throw new Exception("Cannot connect to cluster.");
+          }
+
+          try {
+            Map<String, TopicDescription> topicDescriptionsPerAdminClient =
+                loadTopicDescriptionsMap(client);
+
+            Set<String> keySet = topicDescriptionsPerAdminClient.keySet();
+            keySet.remove("_schemas");
+            List<String> lstK = new ArrayList<>(keySet);
+            TopicConfig topicConfig;
+            for (String topicName : lstK) {
+              if (topicName.startsWith("_confluent") || topicName.startsWith("__connect")) {
+                continue;
+              }
+              topicConfig = new TopicConfig();
+              topicConfig.setTopicName(topicName);
+              TopicDescription topicDescription = topicDescriptionsPerAdminClient.get(topicName);
+              topicConfig.setReplicationFactor(
+                  "" + topicDescription.partitions().get(0).replicas().size());
+              topicConfig.setPartitions("" + topicDescription.partitions().size());
+              topics.add(topicConfig);
+            }
+
+          } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            log.error("Exception:", e);
+          }
+          return topics;
+        });
   }
 
   private Map<String, TopicDescription> loadTopicDescriptionsMap(AdminClient client)
@@ -100,65 +114,77 @@ public class ApacheKafkaTopicService {
 
   public synchronized ApiResponse createTopic(ClusterTopicRequest clusterTopicRequest)
       throws Exception {
-    log.info("createTopic {}", clusterTopicRequest);
-    AdminClient client =
-        clusterApiUtils.getAdminClient(
-            clusterTopicRequest.getEnv(),
-            clusterTopicRequest.getProtocol(),
-            clusterTopicRequest.getClusterName());
-    if (client == null) {
-      throw new Exception("Cannot connect to cluster.");
-    }
-    try {
-      NewTopic topic =
-          new NewTopic(
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterTopicRequest.getClusterName(),
+        "createTopic",
+        () -> {
+          log.info("createTopic {}", clusterTopicRequest);
+          AdminClient client =
+              clusterApiUtils.getAdminClient(
+                  clusterTopicRequest.getEnv(),
+                  clusterTopicRequest.getProtocol(),
+                  clusterTopicRequest.getClusterName());
+          if (client == null) {
+            throw new Exception("Cannot connect to cluster.");
+          }
+          try {
+            NewTopic topic =
+                new NewTopic(
+                        clusterTopicRequest.getTopicName(),
+                        clusterTopicRequest.getPartitions(),
+                        clusterTopicRequest.getReplicationFactor())
+                    .configs(clusterTopicRequest.getAdvancedTopicConfiguration());
+
+            CreateTopicsResult result = client.createTopics(Collections.singletonList(topic));
+            result
+                .values()
+                .get(clusterTopicRequest.getTopicName())
+                .get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS);
+          } catch (KafkaException e) {
+            log.error("Invalid properties: ", e);
+            throw e;
+          } catch (NumberFormatException e) {
+            log.error("Invalid replica assignment string", e);
+            throw e;
+          } catch (ExecutionException e) {
+            log.error(
+                "Unable to create topic {}, {}",
+                clusterTopicRequest.getTopicName(),
+                e.getCause().getMessage());
+            // TopicExistsException is wrapped in ExecutionException so we have to dig into the
+            // lower
+            // exception.
+            if (e.getMessage().contains("TopicExistsException")) {
+              log.warn(
+                  "Topic: {} already exists in {}",
                   clusterTopicRequest.getTopicName(),
-                  clusterTopicRequest.getPartitions(),
-                  clusterTopicRequest.getReplicationFactor())
-              .configs(clusterTopicRequest.getAdvancedTopicConfiguration());
-
-      CreateTopicsResult result = client.createTopics(Collections.singletonList(topic));
-      result
-          .values()
-          .get(clusterTopicRequest.getTopicName())
-          .get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS);
-    } catch (KafkaException e) {
-      log.error("Invalid properties: ", e);
-      throw e;
-    } catch (NumberFormatException e) {
-      log.error("Invalid replica assignment string", e);
-      throw e;
-    } catch (ExecutionException e) {
-      log.error(
-          "Unable to create topic {}, {}",
-          clusterTopicRequest.getTopicName(),
-          e.getCause().getMessage());
-      // TopicExistsException is wrapped in ExecutionException so we have to dig into the lower
-      // exception.
-      if (e.getMessage().contains("TopicExistsException")) {
-        log.warn(
-            "Topic: {} already exists in {}",
-            clusterTopicRequest.getTopicName(),
-            clusterTopicRequest.getEnv());
-
-        if (checkIfTopicExistsWithSameConfig(clusterTopicRequest, client)) {
+                  clusterTopicRequest.getEnv());
+
+              if (checkIfTopicExistsWithSameConfig(clusterTopicRequest, client)) {
+                return ApiResponse.builder()
+                    .success(true)
+                    .message(ApiResultStatus.SUCCESS.value)
+                    .build();
+              }
+
+              return ApiResponse.builder().success(false).message(e.getMessage()).build();
+            }
+            throw e;
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error(
+                "Unable to create topic {}, {}",
+                clusterTopicRequest.getTopicName(),
+                e.getMessage());
+            throw e;
+          } catch (Exception e) {
+            log.error("Exception:", e);
+            throw e;
+          }
+
           return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
-        }
-
-        return ApiResponse.builder().success(false).message(e.getMessage()).build();
-      }
-      throw e;
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      log.error(
-          "Unable to create topic {}, {}", clusterTopicRequest.getTopicName(), e.getMessage());
-      throw e;
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      throw e;
-    }
-
-    return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+        });
   }
 
   // check if topic exists with same configuration as request
@@ -177,109 +203,129 @@ public class ApacheKafkaTopicService {
 
   public synchronized ApiResponse updateTopic(ClusterTopicRequest clusterTopicRequest)
       throws Exception {
-    log.info("updateTopic Name: {}", clusterTopicRequest);
-
-    AdminClient client =
-        clusterApiUtils.getAdminClient(
-            clusterTopicRequest.getEnv(),
-            clusterTopicRequest.getProtocol(),
-            clusterTopicRequest.getClusterName());
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterTopicRequest.getClusterName(),
+        "updateTopic",
+        () -> {
+          log.info("updateTopic Name: {}", clusterTopicRequest);
+
+          AdminClient client =
+              clusterApiUtils.getAdminClient(
+                  clusterTopicRequest.getEnv(),
+                  clusterTopicRequest.getProtocol(),
+                  clusterTopicRequest.getClusterName());
+
+          if (client == null) {
+            throw new Exception("Cannot connect to cluster.");
+          }
+
+          DescribeTopicsResult describeTopicsResult =
+              client.describeTopics(Collections.singleton(clusterTopicRequest.getTopicName()));
+          TopicDescription result =
+              describeTopicsResult
+                  .all()
+                  .get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS)
+                  .get(clusterTopicRequest.getTopicName());
+
+          if (result.partitions().size() > clusterTopicRequest.getPartitions()) {
+            // delete topic and recreate
+            deleteTopic(clusterTopicRequest);
+            createTopic(clusterTopicRequest);
+          } else {
+            // Update partitions
+            Map<String, NewPartitions> newPartitionSet = new HashMap<>();
+            newPartitionSet.put(
+                clusterTopicRequest.getTopicName(),
+                NewPartitions.increaseTo(clusterTopicRequest.getPartitions()));
+            if (result.partitions().size() != clusterTopicRequest.getPartitions()) {
+              client.createPartitions(newPartitionSet);
+            }
+
+            // Update advanced config
+            ConfigResource configResource =
+                new ConfigResource(ConfigResource.Type.TOPIC, clusterTopicRequest.getTopicName());
+            Map<ConfigResource, Config> updateConfig = new HashMap<>();
+
+            Map<String, String> advancedConfig =
+                clusterTopicRequest.getAdvancedTopicConfiguration();
+            Collection<ConfigEntry> entries = new ArrayList<>();
+            for (String key : advancedConfig.keySet()) {
+              ConfigEntry configEntry = new ConfigEntry(key, advancedConfig.get(key));
+              entries.add(configEntry);
+            }
+
+            if (!advancedConfig.isEmpty()) {
+              updateConfig.put(configResource, new Config(entries));
+              client.alterConfigs(updateConfig);
+            }
+          }
 
-    if (client == null) {
-      throw new Exception("Cannot connect to cluster.");
-    }
-
-    DescribeTopicsResult describeTopicsResult =
-        client.describeTopics(Collections.singleton(clusterTopicRequest.getTopicName()));
-    TopicDescription result =
-        describeTopicsResult
-            .all()
-            .get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS)
-            .get(clusterTopicRequest.getTopicName());
-
-    if (result.partitions().size() > clusterTopicRequest.getPartitions()) {
-      // delete topic and recreate
-      deleteTopic(clusterTopicRequest);
-      createTopic(clusterTopicRequest);
-    } else {
-      // Update partitions
-      Map<String, NewPartitions> newPartitionSet = new HashMap<>();
-      newPartitionSet.put(
-          clusterTopicRequest.getTopicName(),
-          NewPartitions.increaseTo(clusterTopicRequest.getPartitions()));
-      if (result.partitions().size() != clusterTopicRequest.getPartitions()) {
-        client.createPartitions(newPartitionSet);
-      }
-
-      // Update advanced config
-      ConfigResource configResource =
-          new ConfigResource(ConfigResource.Type.TOPIC, clusterTopicRequest.getTopicName());
-      Map<ConfigResource, Config> updateConfig = new HashMap<>();
-
-      Map<String, String> advancedConfig = clusterTopicRequest.getAdvancedTopicConfiguration();
-      Collection<ConfigEntry> entries = new ArrayList<>();
-      for (String key : advancedConfig.keySet()) {
-        ConfigEntry configEntry = new ConfigEntry(key, advancedConfig.get(key));
-        entries.add(configEntry);
-      }
-
-      if (!advancedConfig.isEmpty()) {
-        updateConfig.put(configResource, new Config(entries));
-        client.alterConfigs(updateConfig);
-      }
-    }
-
-    return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+          return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+        });
   }
 
   public synchronized ApiResponse deleteTopic(ClusterTopicRequest clusterTopicRequest)
       throws Exception {
-    log.info("deleteTopic Topic {}", clusterTopicRequest);
-
-    AdminClient client;
-    try {
-      client =
-          clusterApiUtils.getAdminClient(
-              clusterTopicRequest.getEnv(),
-              clusterTopicRequest.getProtocol(),
-              clusterTopicRequest.getClusterName());
-      if (client == null) {
-        throw new Exception("Cannot connect to cluster.");
-      }
-
-      DeleteTopicsResult result =
-          client.deleteTopics(Collections.singletonList(clusterTopicRequest.getTopicName()));
-      result
-          .values()
-          .get(clusterTopicRequest.getTopicName())
-          .get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS);
-
-      // delete associated schema if requested
-      String schemaDeletionStatus = "";
-      if (clusterTopicRequest.getDeleteAssociatedSchema()) {
-        schemaDeletionStatus = schemaService.deleteSchema(clusterTopicRequest).getMessage();
-        log.info("Schema deletion status : {}", schemaDeletionStatus);
-      }
-      return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
-    } catch (KafkaException e) {
-      log.error("Invalid properties: ", e);
-      throw e;
-    } catch (ExecutionException | InterruptedException e) {
-      String errorMessage;
-      if (e instanceof ExecutionException) {
-        errorMessage = e.getCause().getMessage();
-      } else {
-        Thread.currentThread().interrupt();
-        errorMessage = e.getMessage();
-      }
-      if ((e.getMessage().contains("UnknownTopicOrPartition"))) {
-        return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
-      }
-      log.error("Unable to delete topic {}, {}", clusterTopicRequest.getTopicName(), errorMessage);
-      throw e;
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      throw e;
-    }
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterTopicRequest.getClusterName(),
+        "deleteTopic",
+        () -> {
+          log.info("deleteTopic Topic {}", clusterTopicRequest);
+
+          AdminClient client;
+          try {
+            client =
+                clusterApiUtils.getAdminClient(
+                    clusterTopicRequest.getEnv(),
+                    clusterTopicRequest.getProtocol(),
+                    clusterTopicRequest.getClusterName());
+            if (client == null) {
+              throw new Exception("Cannot connect to cluster.");
+            }
+
+            DeleteTopicsResult result =
+                client.deleteTopics(Collections.singletonList(clusterTopicRequest.getTopicName()));
+            result
+                .values()
+                .get(clusterTopicRequest.getTopicName())
+                .get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS);
+
+            // delete associated schema if requested
+            String schemaDeletionStatus = "";
+            if (clusterTopicRequest.getDeleteAssociatedSchema()) {
+              schemaDeletionStatus = schemaService.deleteSchema(clusterTopicRequest).getMessage();
+              log.info("Schema deletion status : {}", schemaDeletionStatus);
+            }
+            return ApiResponse.builder()
+                .success(true)
+                .message(ApiResultStatus.SUCCESS.value)
+                .build();
+          } catch (KafkaException e) {
+            log.error("Invalid properties: ", e);
+            throw e;
+          } catch (ExecutionException | InterruptedException e) {
+            String errorMessage;
+            if (e instanceof ExecutionException) {
+              errorMessage = e.getCause().getMessage();
+            } else {
+              Thread.currentThread().interrupt();
+              errorMessage = e.getMessage();
+            }
+            if ((e.getMessage().contains("UnknownTopicOrPartition"))) {
+              return ApiResponse.builder()
+                  .success(true)
+                  .message(ApiResultStatus.SUCCESS.value)
+                  .build();
+            }
+            log.error(
+                "Unable to delete topic {}, {}", clusterTopicRequest.getTopicName(), errorMessage);
+            throw e;
+          } catch (Exception e) {
+            log.error("Exception:", e);
+            throw e;
+          }
+        });
   }
 }
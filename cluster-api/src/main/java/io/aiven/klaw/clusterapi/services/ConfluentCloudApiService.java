@@ -19,6 +19,8 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import jakarta.validation.Valid;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -57,285 +59,349 @@ public class ConfluentCloudApiService {
   private final Environment env;
   final ClusterApiUtils clusterApiUtils;
 
-  public ConfluentCloudApiService(Environment env, ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationMetrics clusterOperationMetrics;
+
+  public ConfluentCloudApiService(
+      Environment env,
+      ClusterApiUtils clusterApiUtils,
+      ClusterOperationMetrics clusterOperationMetrics) {
     this.env = env;
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationMetrics = clusterOperationMetrics;
   }
 
   public Set<TopicConfig> listTopics(
       String restApiHost, KafkaSupportedProtocol protocol, String clusterIdentification)
       throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
-    log.info("loadTopics {} {} {}", restApiHost, protocol, clusterIdentification);
-
-    String listTopicsUri =
-        getResourceUri(
-            clusterIdentification, restApiHost, "createTopic", ResourceType.TOPIC.name());
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(clusterIdentification, KafkaClustersType.KAFKA);
-    HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
-
-    try {
-      ResponseEntity<ListTopicsResponse> responseEntity =
-          restTemplate.exchange(
-              listTopicsUri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
-
-      List<TopicConfig> topicsListUpdated = processListTopicsResponse(responseEntity);
-
-      return new HashSet<>(topicsListUpdated);
-    } catch (RestClientException e) {
-      log.error("Exception:", e);
-      throw new Exception("Error in listing topics : " + e.getMessage());
-    }
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterIdentification,
+        "listTopics",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+          log.info("loadTopics {} {} {}", restApiHost, protocol, clusterIdentification);
+
+          String listTopicsUri =
+              getResourceUri(
+                  clusterIdentification, restApiHost, "createTopic", ResourceType.TOPIC.name());
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(clusterIdentification, KafkaClustersType.KAFKA);
+          HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
+
+          try {
+            ResponseEntity<ListTopicsResponse> responseEntity =
+                restTemplate.exchange(
+                    listTopicsUri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
+
+            List<TopicConfig> topicsListUpdated = processListTopicsResponse(responseEntity);
+
+            return new HashSet<>(topicsListUpdated);
+          } catch (RestClientException e) {
+            log.error("Exception:", e);
+            throw new Exception("Error in listing topics : " + e.getMessage());
+          }
+        });
   }
 
   public Set<Map<String, String>> listAcls(
       String restApiHost, @Valid KafkaSupportedProtocol protocol, String clusterIdentification)
       throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
-    log.info("listAcls {} {} {}", restApiHost, protocol, clusterIdentification);
-
-    String listAclsUri = getResourceUri(clusterIdentification, restApiHost, "listAclsUri", "ACLS");
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(clusterIdentification, KafkaClustersType.KAFKA);
-    HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
-
-    try {
-      ResponseEntity<ListAclsResponse> responseEntity =
-          restTemplate.exchange(
-              listAclsUri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
-
-      List<Map<String, String>> aclsListUpdated = processListAclsResponse(responseEntity);
-
-      return new HashSet<>(aclsListUpdated);
-    } catch (RestClientException e) {
-      log.error("Exception:", e);
-      throw new Exception("Error in listing acls : " + e.getMessage());
-    }
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterIdentification,
+        "listAcls",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+          log.info("listAcls {} {} {}", restApiHost, protocol, clusterIdentification);
+
+          String listAclsUri =
+              getResourceUri(clusterIdentification, restApiHost, "listAclsUri", "ACLS");
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(clusterIdentification, KafkaClustersType.KAFKA);
+          HttpEntity<Map<String, String>> request = new HttpEntity<>(headers);
+
+          try {
+            ResponseEntity<ListAclsResponse> responseEntity =
+                restTemplate.exchange(
+                    listAclsUri, HttpMethod.GET, request, new ParameterizedTypeReference<>() {});
+
+            List<Map<String, String>> aclsListUpdated = processListAclsResponse(responseEntity);
+
+            return new HashSet<>(aclsListUpdated);
+          } catch (RestClientException e) {
+            log.error("Exception:", e);
+            throw new Exception("Error in listing acls : " + e.getMessage());
+          }
+        });
   }
 
   public Map<String, String> createAcls(@Valid ClusterAclRequest clusterAclRequest)
       throws Exception {
-    Map<String, String> resultMap = new HashMap<>();
-    RestTemplate restTemplate = getRestTemplate();
-    String createAclsUri =
-        getResourceUri(
-            clusterAclRequest.getClusterName(), clusterAclRequest.getEnv(), "createAcls", "ACLS");
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(clusterAclRequest.getClusterName(), KafkaClustersType.KAFKA);
-
-    if (AclType.PRODUCER.value.equals(clusterAclRequest.getAclType())) {
-      // Write on Topic
-      applyOperation(
-          clusterAclRequest,
-          restTemplate,
-          createAclsUri,
-          headers,
-          AclOperation.WRITE.name(),
-          ResourceType.TOPIC.name(),
-          clusterAclRequest.getTopicName());
-      // Describe on Topic
-      applyOperation(
-          clusterAclRequest,
-          restTemplate,
-          createAclsUri,
-          headers,
-          AclOperation.DESCRIBE.name(),
-          ResourceType.TOPIC.name(),
-          clusterAclRequest.getTopicName());
-      // Txn id access
-      if (clusterAclRequest.getTransactionalId() != null
-          && clusterAclRequest.getTransactionalId().length() > 0) {
-        applyOperation(
-            clusterAclRequest,
-            restTemplate,
-            createAclsUri,
-            headers,
-            AclOperation.WRITE.name(),
-            ResourceType.TRANSACTIONAL_ID.name(),
-            clusterAclRequest.getTransactionalId());
-      }
-    } else {
-      // Read on Group, Describe on Group, Read on Topic
-      applyOperation(
-          clusterAclRequest,
-          restTemplate,
-          createAclsUri,
-          headers,
-          AclOperation.READ.name(),
-          ResourceType.GROUP.name(),
-          clusterAclRequest.getConsumerGroup());
-      applyOperation(
-          clusterAclRequest,
-          restTemplate,
-          createAclsUri,
-          headers,
-          AclOperation.DESCRIBE.name(),
-          ResourceType.GROUP.name(),
-          clusterAclRequest.getConsumerGroup());
-      applyOperation(
-          clusterAclRequest,
-          restTemplate,
-          createAclsUri,
-          headers,
-          AclOperation.READ.name(),
-          ResourceType.TOPIC.name(),
-          clusterAclRequest.getTopicName());
-    }
-    resultMap.put("result", ApiResultStatus.SUCCESS.value);
-    return resultMap;
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterAclRequest.getClusterName(),
+        "createAcls",
+        () -> {
+          Map<String, String> resultMap = new HashMap<>();
+          RestTemplate restTemplate = getRestTemplate();
+          String createAclsUri =
+              getResourceUri(
+                  clusterAclRequest.getClusterName(),
+                  clusterAclRequest.getEnv(),
+                  "createAcls",
+                  "ACLS");
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterAclRequest.getClusterName(), KafkaClustersType.KAFKA);
+
+          if (AclType.PRODUCER.value.equals(clusterAclRequest.getAclType())) {
+            // Write on Topic
+            applyOperation(
+                clusterAclRequest,
+                restTemplate,
+                createAclsUri,
+                headers,
+                AclOperation.WRITE.name(),
+                ResourceType.TOPIC.name(),
+                clusterAclRequest.getTopicName());
+            // Describe on Topic
+            applyOperation(
+                clusterAclRequest,
+                restTemplate,
+                createAclsUri,
+                headers,
+                AclOperation.DESCRIBE.name(),
+                ResourceType.TOPIC.name(),
+                clusterAclRequest.getTopicName());
+            // Txn id access
+            if (clusterAclRequest.getTransactionalId() != null
+                && clusterAclRequest.getTransactionalId().length() > 0) {
+              applyOperation(
+                  clusterAclRequest,
+                  restTemplate,
+                  createAclsUri,
+                  headers,
+                  AclOperation.WRITE.name(),
+                  ResourceType.TRANSACTIONAL_ID.name(),
+                  clusterAclRequest.getTransactionalId());
+            }
+          } else {
+            // Read on Group, Describe on Group, Read on Topic
+            applyOperation(
+                clusterAclRequest,
+                restTemplate,
+                createAclsUri,
+                headers,
+                AclOperation.READ.name(),
+                ResourceType.GROUP.name(),
+                clusterAclRequest.getConsumerGroup());
+            applyOperation(
+                clusterAclRequest,
+                restTemplate,
+                createAclsUri,
+                headers,
+                AclOperation.DESCRIBE.name(),
+                ResourceType.GROUP.name(),
+                clusterAclRequest.getConsumerGroup());
+            applyOperation(
+                clusterAclRequest,
+                restTemplate,
+                createAclsUri,
+                headers,
+                AclOperation.READ.name(),
+                ResourceType.TOPIC.name(),
+                clusterAclRequest.getTopicName());
+          }
+          resultMap.put("result", ApiResultStatus.SUCCESS.value);
+          return resultMap;
+        });
   }
 
   public String deleteAcls(ClusterAclRequest clusterAclRequest) throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
-    log.info("deleteAcls {}", clusterAclRequest);
-
-    String baseAclsUri =
-        getResourceUri(
-            clusterAclRequest.getClusterName(), clusterAclRequest.getEnv(), "deleteAcls", "ACLS");
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(clusterAclRequest.getClusterName(), KafkaClustersType.KAFKA);
-    HttpEntity<String> request = new HttpEntity<>(headers);
-
-    if (clusterAclRequest.getAclType().equals(AclType.PRODUCER.value)) {
-      // delete WRITE on Topic acls
-      String deleteAclsUri =
-          updateQueryParams(
-              clusterAclRequest,
-              ResourceType.TOPIC.name(),
-              clusterAclRequest.getTopicName(),
-              AclOperation.WRITE.name(),
-              baseAclsUri);
-      deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
-
-      // delete DESCRIBE on Topic acls
-      deleteAclsUri =
-          updateQueryParams(
-              clusterAclRequest,
-              ResourceType.TOPIC.name(),
-              clusterAclRequest.getTopicName(),
-              AclOperation.DESCRIBE.name(),
-              baseAclsUri);
-      deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
-    } else {
-      // delete consumer group read acls
-      String deleteAclsUri =
-          updateQueryParams(
-              clusterAclRequest,
-              ResourceType.GROUP.name(),
-              clusterAclRequest.getConsumerGroup(),
-              AclOperation.READ.name(),
-              baseAclsUri);
-      deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
-
-      // delete consumer group DESCRIBE acls
-      deleteAclsUri =
-          updateQueryParams(
-              clusterAclRequest,
-              ResourceType.GROUP.name(),
-              clusterAclRequest.getConsumerGroup(),
-              AclOperation.DESCRIBE.name(),
-              baseAclsUri);
-      deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
-
-      // delete read topic acls
-      deleteAclsUri =
-          updateQueryParams(
-              clusterAclRequest,
-              ResourceType.TOPIC.name(),
-              clusterAclRequest.getTopicName(),
-              AclOperation.READ.name(),
-              baseAclsUri);
-      deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
-    }
-
-    return ApiResultStatus.SUCCESS.value;
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterAclRequest.getClusterName(),
+        "deleteAcls",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+          log.info("deleteAcls {}", clusterAclRequest);
+
+          String baseAclsUri =
+              getResourceUri(
+                  clusterAclRequest.getClusterName(),
+                  clusterAclRequest.getEnv(),
+                  "deleteAcls",
+                  "ACLS");
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterAclRequest.getClusterName(), KafkaClustersType.KAFKA);
+          HttpEntity<String> request = new HttpEntity<>(headers);
+
+          if (clusterAclRequest.getAclType().equals(AclType.PRODUCER.value)) {
+            // delete WRITE on Topic acls
+            String deleteAclsUri =
+                updateQueryParams(
+                    clusterAclRequest,
+                    ResourceType.TOPIC.name(),
+                    clusterAclRequest.getTopicName(),
+                    AclOperation.WRITE.name(),
+                    baseAclsUri);
+            deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
+
+            // delete DESCRIBE on Topic acls
+            deleteAclsUri =
+                updateQueryParams(
+                    clusterAclRequest,
+                    ResourceType.TOPIC.name(),
+                    clusterAclRequest.getTopicName(),
+                    AclOperation.DESCRIBE.name(),
+                    baseAclsUri);
+            deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
+          } else {
+            // delete consumer group read acls
+            String deleteAclsUri =
+                updateQueryParams(
+                    clusterAclRequest,
+                    ResourceType.GROUP.name(),
+                    clusterAclRequest.getConsumerGroup(),
+                    AclOperation.READ.name(),
+                    baseAclsUri);
+            deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
+
+            // delete consumer group DESCRIBE acls
+            deleteAclsUri =
+                updateQueryParams(
+                    clusterAclRequest,
+                    ResourceType.GROUP.name(),
+                    clusterAclRequest.getConsumerGroup(),
+                    AclOperation.DESCRIBE.name(),
+                    baseAclsUri);
+            deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
+
+            // delete read topic acls
+            deleteAclsUri =
+                updateQueryParams(
+                    clusterAclRequest,
+                    ResourceType.TOPIC.name(),
+                    clusterAclRequest.getTopicName(),
+                    AclOperation.READ.name(),
+                    baseAclsUri);
+            deleteAclsRestCall(restTemplate, deleteAclsUri, clusterAclRequest, request);
+          }
+
+          return ApiResultStatus.SUCCESS.value;
+        });
   }
 
   public ApiResponse createTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
-    log.info(
-        "createTopic {} {} {}",
-        clusterTopicRequest.getEnv(),
-        clusterTopicRequest.getProtocol(),
-        clusterTopicRequest.getClusterName());
-
-    String createTopicsUri =
-        getResourceUri(
-            clusterTopicRequest.getClusterName(),
-            clusterTopicRequest.getEnv(),
-            "createTopic",
-            ResourceType.TOPIC.name());
-
-    TopicCreateRequest topicCreateReq = getTopicCreateObj(clusterTopicRequest);
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(
-            clusterTopicRequest.getClusterName(), KafkaClustersType.KAFKA);
-    HttpEntity<TopicCreateRequest> request = new HttpEntity<>(topicCreateReq, headers);
-
-    try {
-      restTemplate.postForEntity(createTopicsUri, request, String.class);
-    } catch (Exception e) {
-      log.error(
-          "Unable to create topic {}, {}", clusterTopicRequest.getTopicName(), e.getMessage());
-      if (e.getMessage().contains("already exists")) {
-        log.warn(
-            "Topic: {} already exists in {}",
-            clusterTopicRequest.getTopicName(),
-            clusterTopicRequest.getEnv());
-        return ApiResponse.builder().success(false).message(e.getMessage()).build();
-      }
-      throw e;
-    }
-
-    return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterTopicRequest.getClusterName(),
+        "createTopic",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+          log.info(
+              "createTopic {} {} {}",
+              clusterTopicRequest.getEnv(),
+              clusterTopicRequest.getProtocol(),
+              clusterTopicRequest.getClusterName());
+
+          String createTopicsUri =
+              getResourceUri(
+                  clusterTopicRequest.getClusterName(),
+                  clusterTopicRequest.getEnv(),
+                  "createTopic",
+                  ResourceType.TOPIC.name());
+
+          TopicCreateRequest topicCreateReq = getTopicCreateObj(clusterTopicRequest);
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterTopicRequest.getClusterName(), KafkaClustersType.KAFKA);
+          HttpEntity<TopicCreateRequest> request = new HttpEntity<>(topicCreateReq, headers);
+
+          try {
+            restTemplate.postForEntity(createTopicsUri, request, String.class);
+          } catch (Exception e) {
+            log.error(
+                "Unable to create topic {}, {}",
+                clusterTopicRequest.getTopicName(),
+                e.getMessage());
+            if (e.getMessage().contains("already exists")) {
+              log.warn(
+                  "Topic: {} already exists in {}",
+                  clusterTopicRequest.getTopicName(),
+                  clusterTopicRequest.getEnv());
+              return ApiResponse.builder().success(false).message(e.getMessage()).build();
+            }
+            throw e;
+          }
+
+          return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+        });
   }
 
   public ApiResponse deleteTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
-    RestTemplate restTemplate = getRestTemplate();
-    log.info("createTopic {}", clusterTopicRequest);
-
-    String deleteTopicsUri =
-        getResourceUri(
-            clusterTopicRequest.getClusterName(),
-            clusterTopicRequest.getEnv(),
-            "deleteTopic",
-            ResourceType.TOPIC.name());
-    deleteTopicsUri = deleteTopicsUri + "/" + clusterTopicRequest.getTopicName();
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(
-            clusterTopicRequest.getClusterName(), KafkaClustersType.KAFKA);
-    HttpEntity<String> request = new HttpEntity<>(headers);
-
-    try {
-      restTemplate.exchange(deleteTopicsUri, HttpMethod.DELETE, request, String.class);
-    } catch (Exception e) {
-      log.error(
-          "Unable to delete topic {}, {}", clusterTopicRequest.getTopicName(), e.getMessage());
-      if (e.getMessage().contains("This server does not host this topic")) {
-        log.warn(
-            "Topic: {} do not exist in {}",
-            clusterTopicRequest.getTopicName(),
-            clusterTopicRequest.getEnv());
-        return ApiResponse.builder().success(false).message(e.getMessage()).build();
-      }
-      throw e;
-    }
-
-    return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterTopicRequest.getClusterName(),
+        "deleteTopic",
+        () -> {
+          RestTemplate restTemplate = getRestTemplate();
+          log.info("createTopic {}", clusterTopicRequest);
+
+          String deleteTopicsUri =
+              getResourceUri(
+                  clusterTopicRequest.getClusterName(),
+                  clusterTopicRequest.getEnv(),
+                  "deleteTopic",
+                  ResourceType.TOPIC.name());
+          deleteTopicsUri = deleteTopicsUri + "/" + clusterTopicRequest.getTopicName();
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterTopicRequest.getClusterName(), KafkaClustersType.KAFKA);
+          HttpEntity<String> request = new HttpEntity<>(headers);
+
+          try {
+            restTemplate.exchange(deleteTopicsUri, HttpMethod.DELETE, request, String.class);
+          } catch (Exception e) {
+            log.error(
+                "Unable to delete topic {}, {}",
+                clusterTopicRequest.getTopicName(),
+                e.getMessage());
+            if (e.getMessage().contains("This server does not host this topic")) {
+              log.warn(
+                  "Topic: {} do not exist in {}",
+                  clusterTopicRequest.getTopicName(),
+                  clusterTopicRequest.getEnv());
+              return ApiResponse.builder().success(false).message(e.getMessage()).build();
+            }
+            throw e;
+          }
+
+          return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+        });
   }
 
   // Confluent cloud doesn't provide api to update partitions/config of a topic. so either delete
   // the topic and recreate. Or this functionality is not provided by klaw.
   public ApiResponse updateTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
-    //    deleteTopic(clusterTopicRequest);
-    //    createTopic(clusterTopicRequest);
-    return ApiResponse.builder().success(false).message(ApiResultStatus.FAILURE.value).build();
+    return clusterOperationMetrics.record(
+        Flavor.CONFLUENT_CLOUD,
+        clusterTopicRequest.getClusterName(),
+        "updateTopic",
+        () -> {
+          //    deleteTopic(clusterTopicRequest);
+          //    createTopic(clusterTopicRequest);
+          return ApiResponse.builder()
+              .success(false)
+              .message(ApiResultStatus.FAILURE.value)
+              .build();
+        });
   }
 
   String updateQueryParams(
@@ -507,6 +573,7 @@ public class ConfluentCloudApiService {
       aclsMapUpdated.put("principle", aclObject.principal); // User:*/username/ssldn..
       aclsMapUpdated.put("host", aclObject.host); // ipaddress/*..
       aclsMapUpdated.put("permissionType", aclObject.permission); // ALLOW/DENY..
+      aclsMapUpdated.put("patternType", aclObject.pattern_type); // LITERAL/PREFIXED..
 
       aclsListUpdated.add(aclsMapUpdated);
     }
@@ -7,6 +7,8 @@ import io.aiven.klaw.clusterapi.models.consumergroup.OffsetsTiming;
 import io.aiven.klaw.clusterapi.models.consumergroup.ResetConsumerGroupOffsetsRequest;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,8 +36,12 @@ public class ConsumerGroupService {
   public static final int TIMEOUT_MS = 2500;
   private final ClusterApiUtils clusterApiUtils;
 
-  public ConsumerGroupService(ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationMetrics clusterOperationMetrics;
+
+  public ConsumerGroupService(
+      ClusterApiUtils clusterApiUtils, ClusterOperationMetrics clusterOperationMetrics) {
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationMetrics = clusterOperationMetrics;
   }
 
   public ApiResponse resetConsumerGroupOffsets(
@@ -44,47 +50,55 @@ public class ConsumerGroupService {
       String clusterIdentification,
       ResetConsumerGroupOffsetsRequest consumerGroupOffsetsRequest)
       throws Exception {
-    log.debug(
-        "Reset consumer group offsets env {} request {}", environment, consumerGroupOffsetsRequest);
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterIdentification,
+        "resetConsumerGroupOffsets",
+        () -> {
+          log.debug(
+              "Reset consumer group offsets env {} request {}",
+              environment,
+              consumerGroupOffsetsRequest);
 
-    if (OffsetResetType.TO_DATE_TIME.equals(consumerGroupOffsetsRequest.getOffsetResetType())
-        && null == consumerGroupOffsetsRequest.getConsumerGroupResetTimestampMilliSecs()) {
-      throw new Exception("Timestamp must be provided for reset type TO_DATE_TIME");
-    }
-    AdminClient adminClient =
-        clusterApiUtils.getAdminClient(environment, protocol, clusterIdentification);
+          if (OffsetResetType.TO_DATE_TIME.equals(consumerGroupOffsetsRequest.getOffsetResetType())
+              && null == consumerGroupOffsetsRequest.getConsumerGroupResetTimestampMilliSecs()) {
+            throw new Exception("Timestamp must be provided for reset type TO_DATE_TIME");
+          }
+          AdminClient adminClient =
+              clusterApiUtils.getAdminClient(environment, protocol, clusterIdentification);
 
-    TopicDescription topicDescription =
-        describeTopic(adminClient, consumerGroupOffsetsRequest.getTopicName());
-    if (topicDescription == null) {
-      throw new Exception(
-          "Topic " + consumerGroupOffsetsRequest.getTopicName() + " does not exist.");
-    }
+          TopicDescription topicDescription =
+              describeTopic(adminClient, consumerGroupOffsetsRequest.getTopicName());
+          if (topicDescription == null) {
+            throw new Exception(
+                "Topic " + consumerGroupOffsetsRequest.getTopicName() + " does not exist.");
+          }
 
-    OffsetSpec offsetSpec =
-        switch (consumerGroupOffsetsRequest.getOffsetResetType()) {
-          case EARLIEST -> OffsetSpec.earliest();
-          case LATEST -> OffsetSpec.latest();
-          case TO_DATE_TIME -> OffsetSpec.forTimestamp(
-              consumerGroupOffsetsRequest.getConsumerGroupResetTimestampMilliSecs());
-        };
-    Map<OffsetsTiming, Map<String, Long>> offsetPositionsBeforeAndAfter = new HashMap<>();
+          OffsetSpec offsetSpec =
+              switch (consumerGroupOffsetsRequest.getOffsetResetType()) {
+                case EARLIEST -> OffsetSpec.earliest();
+                case LATEST -> OffsetSpec.latest();
+                case TO_DATE_TIME -> OffsetSpec.forTimestamp(
+                    consumerGroupOffsetsRequest.getConsumerGroupResetTimestampMilliSecs());
+              };
+          Map<OffsetsTiming, Map<String, Long>> offsetPositionsBeforeAndAfter = new HashMap<>();
 
-    extractOffsetsBeforeAndAfter(
-        consumerGroupOffsetsRequest,
-        adminClient,
-        topicDescription,
-        offsetSpec,
-        offsetPositionsBeforeAndAfter);
+          extractOffsetsBeforeAndAfter(
+              consumerGroupOffsetsRequest,
+              adminClient,
+              topicDescription,
+              offsetSpec,
+              offsetPositionsBeforeAndAfter);
 
-    if (offsetPositionsBeforeAndAfter.isEmpty()) {
-      return ApiResponse.builder()
-          .success(false)
-          .message("Unable to reset/retrieve offsets")
-          .build();
-    } else {
-      return ApiResponse.builder().success(true).data(offsetPositionsBeforeAndAfter).build();
-    }
+          if (offsetPositionsBeforeAndAfter.isEmpty()) {
+            return ApiResponse.builder()
+                .success(false)
+                .message("Unable to reset/retrieve offsets")
+                .build();
+          } else {
+            return ApiResponse.builder().success(true).data(offsetPositionsBeforeAndAfter).build();
+          }
+        });
   }
 
   private void extractOffsetsBeforeAndAfter(
@@ -198,58 +212,68 @@ public class ConsumerGroupService {
       KafkaSupportedProtocol protocol,
       String clusterName)
       throws Exception {
-    log.info(
-        "getConsumerGroupDetails topicName {} consumerGroupId {} environment {} protocol {} clusterName {}",
-        topicName,
-        consumerGroupId,
-        environment,
-        protocol,
-        clusterName);
+    return clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        clusterName,
+        "getConsumerGroupDetails",
+        () -> {
+          log.info(
+              "getConsumerGroupDetails topicName {} consumerGroupId {} environment {} protocol {} clusterName {}",
+              topicName,
+              consumerGroupId,
+              environment,
+              protocol,
+              clusterName);
 
-    AdminClient adminClient = clusterApiUtils.getAdminClient(environment, protocol, clusterName);
+          AdminClient adminClient =
+              clusterApiUtils.getAdminClient(environment, protocol, clusterName);
 
-    List<OffsetDetails> consumerGroupOffsetList = new ArrayList<>();
-    OffsetDetails offsetDetails;
-    try {
-      DescribeTopicsResult describeTopicsResult =
-          adminClient.describeTopics(Collections.singletonList(topicName));
-      List<TopicPartitionInfo> topicPartitions =
-          describeTopicsResult.values().get(topicName).get().partitions();
+          List<OffsetDetails> consumerGroupOffsetList = new ArrayList<>();
+          OffsetDetails offsetDetails;
+          try {
+            DescribeTopicsResult describeTopicsResult =
+                adminClient.describeTopics(Collections.singletonList(topicName));
+            List<TopicPartitionInfo> topicPartitions =
+                describeTopicsResult.values().get(topicName).get().partitions();
 
-      TopicPartition topicPartition;
+            TopicPartition topicPartition;
 
-      ListOffsetsResult listOffsetsEarliestResult =
-          adminClient.listOffsets(
-              getTopicPartitionOffsetSpecMap(topicName, topicPartitions, OffsetSpec.earliest()));
+            ListOffsetsResult listOffsetsEarliestResult =
+                adminClient.listOffsets(
+                    getTopicPartitionOffsetSpecMap(
+                        topicName, topicPartitions, OffsetSpec.earliest()));
 
-      ListOffsetsResult listOffsetsLatestResult =
-          adminClient.listOffsets(
-              getTopicPartitionOffsetSpecMap(topicName, topicPartitions, OffsetSpec.latest()));
+            ListOffsetsResult listOffsetsLatestResult =
+                adminClient.listOffsets(
+                    getTopicPartitionOffsetSpecMap(
+                        topicName, topicPartitions, OffsetSpec.latest()));
 
-      for (TopicPartitionInfo topicPartitionInfo : topicPartitions) {
-        topicPartition = new TopicPartition(topicName, topicPartitionInfo.partition());
+            for (TopicPartitionInfo topicPartitionInfo : topicPartitions) {
+              topicPartition = new TopicPartition(topicName, topicPartitionInfo.partition());
 
-        offsetDetails = new OffsetDetails();
-        long earliestOffset =
-            listOffsetsEarliestResult.partitionResult(topicPartition).get().offset();
-        long latestOffset = listOffsetsLatestResult.partitionResult(topicPartition).get().offset();
-        long lag = latestOffset - earliestOffset;
+              offsetDetails = new OffsetDetails();
+              long earliestOffset =
+                  listOffsetsEarliestResult.partitionResult(topicPartition).get().offset();
+              long latestOffset =
+                  listOffsetsLatestResult.partitionResult(topicPartition).get().offset();
+              long lag = latestOffset - earliestOffset;
 
-        offsetDetails.setTopicPartitionId(Long.toString(topicPartition.partition()));
-        offsetDetails.setCurrentOffset(Long.toString(earliestOffset));
-        offsetDetails.setEndOffset(Long.toString(latestOffset));
-        offsetDetails.setLag(Long.toString(lag));
-        consumerGroupOffsetList.add(offsetDetails);
-      }
-      return consumerGroupOffsetList;
-    } catch (Exception exception) {
-      log.error(
-          "Cannot retrieve consumer offset details topicName: {} groupid: {} Error: {}",
-          topicName,
-          consumerGroupId,
-          exception);
-      return consumerGroupOffsetList;
-    }
+              offsetDetails.setTopicPartitionId(Long.toString(topicPartition.partition()));
+              offsetDetails.setCurrentOffset(Long.toString(earliestOffset));
+              offsetDetails.setEndOffset(Long.toString(latestOffset));
+              offsetDetails.setLag(Long.toString(lag));
+              consumerGroupOffsetList.add(offsetDetails);
+            }
+            return consumerGroupOffsetList;
+          } catch (Exception exception) {
+            log.error(
+                "Cannot retrieve consumer offset details topicName: {} groupid: {} Error: {}",
+                topicName,
+                consumerGroupId,
+                exception);
+            return consumerGroupOffsetList;
+          }
+        });
   }
 
   private Map<TopicPartition, OffsetSpec> getTopicPartitionOffsetSpecMap(
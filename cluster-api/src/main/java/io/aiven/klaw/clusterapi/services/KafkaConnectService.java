@@ -14,6 +14,8 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.error.RestErrorResponse;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,67 +53,85 @@ public class KafkaConnectService {
 
   final ClusterApiUtils clusterApiUtils;
 
-  public KafkaConnectService(ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationMetrics clusterOperationMetrics;
+
+  public KafkaConnectService(
+      ClusterApiUtils clusterApiUtils, ClusterOperationMetrics clusterOperationMetrics) {
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationMetrics = clusterOperationMetrics;
   }
 
   public ApiResponse deleteConnector(ClusterConnectorRequest clusterConnectorRequest) {
-    log.info("Into deleteConnector {}", clusterConnectorRequest);
-    String suffixUrl =
-        clusterConnectorRequest.getEnv()
-            + "/connectors/"
-            + clusterConnectorRequest.getConnectorName();
-    Pair<String, RestTemplate> reqDetails =
-        clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(
-            clusterConnectorRequest.getClusterIdentification(), KafkaClustersType.KAFKA_CONNECT);
-    HttpEntity<Object> request = new HttpEntity<>(headers);
-
-    try {
-      reqDetails
-          .getRight()
-          .exchange(
-              reqDetails.getLeft(),
-              HttpMethod.DELETE,
-              request,
-              new ParameterizedTypeReference<>() {});
-    } catch (HttpServerErrorException | HttpClientErrorException e) {
-      log.error("Error in deleting connector ", e);
-      return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_3);
-    } catch (RestClientException ex) {
-      log.error("Error in deleting connector ", ex);
-      return ApiResponse.notOk(CLUSTER_API_ERR_3);
-    }
-    return ApiResponse.SUCCESS;
+    return clusterOperationMetrics.record(
+        Flavor.KAFKA_CONNECT,
+        clusterConnectorRequest.getClusterIdentification(),
+        "deleteConnector",
+        () -> {
+          log.info("Into deleteConnector {}", clusterConnectorRequest);
+          String suffixUrl =
+              clusterConnectorRequest.getEnv()
+                  + "/connectors/"
+                  + clusterConnectorRequest.getConnectorName();
+          Pair<String, RestTemplate> reqDetails =
+              clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterConnectorRequest.getClusterIdentification(),
+                  KafkaClustersType.KAFKA_CONNECT);
+          HttpEntity<Object> request = new HttpEntity<>(headers);
+
+          try {
+            reqDetails
+                .getRight()
+                .exchange(
+                    reqDetails.getLeft(),
+                    HttpMethod.DELETE,
+                    request,
+                    new ParameterizedTypeReference<>() {});
+          } catch (HttpServerErrorException | HttpClientErrorException e) {
+            log.error("Error in deleting connector ", e);
+            return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_3);
+          } catch (RestClientException ex) {
+            log.error("Error in deleting connector ", ex);
+            return ApiResponse.notOk(CLUSTER_API_ERR_3);
+          }
+          return ApiResponse.SUCCESS;
+        });
   }
 
   public ApiResponse updateConnector(ClusterConnectorRequest clusterConnectorRequest) {
-    log.info("Into updateConnector {}", clusterConnectorRequest);
-    String suffixUrl =
-        clusterConnectorRequest.getEnv()
-            + "/connectors/"
-            + clusterConnectorRequest.getConnectorName()
-            + "/config";
-    Pair<String, RestTemplate> reqDetails =
-        clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(
-            clusterConnectorRequest.getClusterIdentification(), KafkaClustersType.KAFKA_CONNECT);
-    headers.set("Content-Type", "application/json");
-    HttpEntity<String> request =
-        new HttpEntity<>(clusterConnectorRequest.getConnectorConfig(), headers);
-
-    try {
-      reqDetails.getRight().put(reqDetails.getLeft(), request, String.class);
-    } catch (HttpServerErrorException | HttpClientErrorException e) {
-      log.error("Error in updating connector ", e);
-      return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_2);
-    } catch (Exception ex) {
-      return ApiResponse.notOk(CLUSTER_API_ERR_2);
-    }
-    return ApiResponse.SUCCESS;
+    return clusterOperationMetrics.record(
+        Flavor.KAFKA_CONNECT,
+        clusterConnectorRequest.getClusterIdentification(),
+        "updateConnector",
+        () -> {
+          log.info("Into updateConnector {}", clusterConnectorRequest);
+          String suffixUrl =
+              clusterConnectorRequest.getEnv()
+                  + "/connectors/"
+                  + clusterConnectorRequest.getConnectorName()
+                  + "/config";
+          Pair<String, RestTemplate> reqDetails =
+              clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterConnectorRequest.getClusterIdentification(),
+                  KafkaClustersType.KAFKA_CONNECT);
+          headers.set("Content-Type", "application/json");
+          HttpEntity<String> request =
+              new HttpEntity<>(clusterConnectorRequest.getConnectorConfig(), headers);
+
+          try {
+            reqDetails.getRight().put(reqDetails.getLeft(), request, String.class);
+          } catch (HttpServerErrorException | HttpClientErrorException e) {
+            log.error("Error in updating connector ", e);
+            return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_2);
+          } catch (Exception ex) {
+            return ApiResponse.notOk(CLUSTER_API_ERR_2);
+          }
+          return ApiResponse.SUCCESS;
+        });
   }
 
   private static ApiResponse buildErrorResponseFromRestException(
@@ -127,30 +147,39 @@ public class KafkaConnectService {
 
   public ApiResponse postNewConnector(ClusterConnectorRequest clusterConnectorRequest)
       throws Exception {
-    log.info("Into postNewConnector clusterConnectorRequest {} ", clusterConnectorRequest);
-
-    String suffixUrl = clusterConnectorRequest.getEnv() + "/connectors";
-    Pair<String, RestTemplate> reqDetails =
-        clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(
-            clusterConnectorRequest.getClusterIdentification(), KafkaClustersType.KAFKA_CONNECT);
-    headers.set("Content-Type", "application/json");
-
-    HttpEntity<String> request =
-        new HttpEntity<>(clusterConnectorRequest.getConnectorConfig(), headers);
-    ResponseEntity<String> responseNew;
-    try {
-      responseNew =
-          reqDetails.getRight().postForEntity(reqDetails.getLeft(), request, String.class);
-    } catch (HttpServerErrorException | HttpClientErrorException e) {
-
-      return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_1);
-    } catch (Exception ex) {
-      return ApiResponse.notOk(CLUSTER_API_ERR_1);
-    }
-    return responseNew.getStatusCodeValue() == 201 ? ApiResponse.SUCCESS : ApiResponse.FAILURE;
+    return clusterOperationMetrics.record(
+        Flavor.KAFKA_CONNECT,
+        clusterConnectorRequest.getClusterIdentification(),
+        "postNewConnector",
+        () -> {
+          log.info("Into postNewConnector clusterConnectorRequest {} ", clusterConnectorRequest);
+
+          String suffixUrl = clusterConnectorRequest.getEnv() + "/connectors";
+          Pair<String, RestTemplate> reqDetails =
+              clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterConnectorRequest.getClusterIdentification(),
+                  KafkaClustersType.KAFKA_CONNECT);
+          headers.set("Content-Type", "application/json");
+
+          HttpEntity<String> request =
+              new HttpEntity<>(clusterConnectorRequest.getConnectorConfig(), headers);
+          ResponseEntity<String> responseNew;
+          try {
+            responseNew =
+                reqDetails.getRight().postForEntity(reqDetails.getLeft(), request, String.class);
+          } catch (HttpServerErrorException | HttpClientErrorException e) {
+
+            return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_1);
+          } catch (Exception ex) {
+            return ApiResponse.notOk(CLUSTER_API_ERR_1);
+          }
+          return responseNew.getStatusCodeValue() == 201
+              ? ApiResponse.SUCCESS
+              : ApiResponse.FAILURE;
+        });
   }
 
   public ConnectorsStatus getConnectors(
@@ -158,90 +187,97 @@ public class KafkaConnectService {
       KafkaSupportedProtocol protocol,
       String clusterIdentification,
       boolean getConnectorStatuses) {
-    ConnectorsStatus connectorsStatus = new ConnectorsStatus();
-    List<ConnectorState> connectorStateList = new ArrayList<>();
-    connectorsStatus.setConnectorStateList(connectorStateList);
-
-    try {
-      log.info("Into getConnectors {} {}", environmentVal, protocol);
-      if (environmentVal == null) {
-        return null;
-      }
-
-      String suffixUrl = environmentVal + "/connectors";
-
-      if (getConnectorStatuses) {
-        suffixUrl = suffixUrl + CONNECTOR_URI_EXPAND_STATUS;
-      }
-
-      Pair<String, RestTemplate> reqDetails =
-          clusterApiUtils.getRequestDetails(suffixUrl, protocol);
-
-      HttpHeaders headers =
-          clusterApiUtils.createHeaders(clusterIdentification, KafkaClustersType.KAFKA_CONNECT);
-      HttpEntity<Object> request = new HttpEntity<>(headers);
-      Map<String, String> params = new HashMap<>();
-
-      if (!getConnectorStatuses) {
-        ResponseEntity<List<String>> responseList =
-            reqDetails
-                .getRight()
-                .exchange(
-                    reqDetails.getLeft(),
-                    HttpMethod.GET,
-                    request,
-                    GET_CONNECTORS_STR_TYPEREF,
-                    params);
-        log.info("connectors list " + responseList);
-        if (responseList.getBody() != null) {
-          for (String connectorName : responseList.getBody()) {
-            ConnectorState connectorState = new ConnectorState();
-            connectorState.setConnectorName(connectorName);
-            connectorStateList.add(connectorState);
+    return clusterOperationMetrics.record(
+        Flavor.KAFKA_CONNECT,
+        clusterIdentification,
+        "getConnectors",
+        () -> {
+          ConnectorsStatus connectorsStatus = new ConnectorsStatus();
+          List<ConnectorState> connectorStateList = new ArrayList<>();
+          connectorsStatus.setConnectorStateList(connectorStateList);
+
+          try {
+            log.info("Into getConnectors {} {}", environmentVal, protocol);
+            if (environmentVal == null) {
+              return null;
+            }
+
+            String suffixUrl = environmentVal + "/connectors";
+
+            if (getConnectorStatuses) {
+              suffixUrl = suffixUrl + CONNECTOR_URI_EXPAND_STATUS;
+            }
+
+            Pair<String, RestTemplate> reqDetails =
+                clusterApiUtils.getRequestDetails(suffixUrl, protocol);
+
+            HttpHeaders headers =
+                clusterApiUtils.createHeaders(
+                    clusterIdentification, KafkaClustersType.KAFKA_CONNECT);
+            HttpEntity<Object> request = new HttpEntity<>(headers);
+            Map<String, String> params = new HashMap<>();
+
+            if (!getConnectorStatuses) {
+              ResponseEntity<List<String>> responseList =
+                  reqDetails
+                      .getRight()
+                      .exchange(
+                          reqDetails.getLeft(),
+                          HttpMethod.GET,
+                          request,
+                          GET_CONNECTORS_STR_TYPEREF,
+                          params);
+              log.info("connectors list " + responseList);
+              if (responseList.getBody() != null) {
+                for (String connectorName : responseList.getBody()) {
+                  ConnectorState connectorState = new ConnectorState();
+                  connectorState.setConnectorName(connectorName);
+                  connectorStateList.add(connectorState);
+                }
+              }
+
+              return connectorsStatus;
+            }
+
+            ResponseEntity<Map<String, Map<String, Status>>> responseEntity =
+                reqDetails
+                    .getRight()
+                    .exchange(
+                        reqDetails.getLeft(),
+                        HttpMethod.GET,
+                        request,
+                        new ParameterizedTypeReference<>() {},
+                        params);
+            Map<String, Map<String, Status>> responseBody = responseEntity.getBody();
+
+            for (String connectorName : Objects.requireNonNull(responseBody).keySet()) {
+              Map<String, Status> statusMap = responseBody.get(connectorName);
+              Status statusConnector = statusMap.get("status");
+              long failedTasksCount =
+                  statusConnector.getTasks().stream()
+                      .filter(task -> task.getState().equals(FAILED_STATUS))
+                      .count();
+              long runningTasksCount =
+                  statusConnector.getTasks().stream()
+                      .filter(task -> task.getState().equals(RUNNING_STATUS))
+                      .count();
+
+              ConnectorState connectorState = new ConnectorState();
+              connectorState.setConnectorName(connectorName);
+              connectorState.setConnectorStatus(statusConnector.getConnector().getState());
+              connectorState.setRunningTasks(runningTasksCount);
+              connectorState.setFailedTasks(failedTasksCount);
+              connectorStateList.add(connectorState);
+            }
+            connectorsStatus.setConnectorStateList(connectorStateList);
+
+            log.info("connectors list " + responseEntity);
+            return connectorsStatus;
+          } catch (Exception e) {
+            log.error("Error in getting connectors " + e);
+            return connectorsStatus;
           }
-        }
-
-        return connectorsStatus;
-      }
-
-      ResponseEntity<Map<String, Map<String, Status>>> responseEntity =
-          reqDetails
-              .getRight()
-              .exchange(
-                  reqDetails.getLeft(),
-                  HttpMethod.GET,
-                  request,
-                  new ParameterizedTypeReference<>() {},
-                  params);
-      Map<String, Map<String, Status>> responseBody = responseEntity.getBody();
-
-      for (String connectorName : Objects.requireNonNull(responseBody).keySet()) {
-        Map<String, Status> statusMap = responseBody.get(connectorName);
-        Status statusConnector = statusMap.get("status");
-        long failedTasksCount =
-            statusConnector.getTasks().stream()
-                .filter(task -> task.getState().equals(FAILED_STATUS))
-                .count();
-        long runningTasksCount =
-            statusConnector.getTasks().stream()
-                .filter(task -> task.getState().equals(RUNNING_STATUS))
-                .count();
-
-        ConnectorState connectorState = new ConnectorState();
-        connectorState.setConnectorName(connectorName);
-        connectorState.setConnectorStatus(statusConnector.getConnector().getState());
-        connectorState.setRunningTasks(runningTasksCount);
-        connectorState.setFailedTasks(failedTasksCount);
-        connectorStateList.add(connectorState);
-      }
-      connectorsStatus.setConnectorStateList(connectorStateList);
-
-      log.info("connectors list " + responseEntity);
-      return connectorsStatus;
-    } catch (Exception e) {
-      log.error("Error in getting connectors " + e);
-      return connectorsStatus;
-    }
+        });
   }
 
   public Map<String, Object> getConnectorDetails(
@@ -249,37 +285,44 @@ public class KafkaConnectService {
       String environmentVal,
       KafkaSupportedProtocol protocol,
       String clusterIdentification) {
-    try {
-      log.info("Into getConnectorDetails {} {}", environmentVal, protocol);
-      if (environmentVal == null) {
-        return null;
-      }
-
-      String suffixUrl = environmentVal + "/connectors" + "/" + connector;
-      Pair<String, RestTemplate> reqDetails =
-          clusterApiUtils.getRequestDetails(suffixUrl, protocol);
-
-      HttpHeaders headers =
-          clusterApiUtils.createHeaders(clusterIdentification, KafkaClustersType.KAFKA_CONNECT);
-      HttpEntity<Object> request = new HttpEntity<>(headers);
-      Map<String, String> params = new HashMap<>();
-
-      ResponseEntity<Map<String, Object>> responseList =
-          reqDetails
-              .getRight()
-              .exchange(
-                  reqDetails.getLeft(),
-                  HttpMethod.GET,
-                  request,
-                  GET_CONNECTOR_DETAILS_TYPEREF,
-                  params);
-      log.info("connectors list " + responseList);
-
-      return responseList.getBody();
-    } catch (Exception e) {
-      log.error("Error in getting connector detail ", e);
-      return Collections.emptyMap();
-    }
+    return clusterOperationMetrics.record(
+        Flavor.KAFKA_CONNECT,
+        clusterIdentification,
+        "getConnectorDetails",
+        () -> {
+          try {
+            log.info("Into getConnectorDetails {} {}", environmentVal, protocol);
+            if (environmentVal == null) {
+              return null;
+            }
+
+            String suffixUrl = environmentVal + "/connectors" + "/" + connector;
+            Pair<String, RestTemplate> reqDetails =
+                clusterApiUtils.getRequestDetails(suffixUrl, protocol);
+
+            HttpHeaders headers =
+                clusterApiUtils.createHeaders(
+                    clusterIdentification, KafkaClustersType.KAFKA_CONNECT);
+            HttpEntity<Object> request = new HttpEntity<>(headers);
+            Map<String, String> params = new HashMap<>();
+
+            ResponseEntity<Map<String, Object>> responseList =
+                reqDetails
+                    .getRight()
+                    .exchange(
+                        reqDetails.getLeft(),
+                        HttpMethod.GET,
+                        request,
+                        GET_CONNECTOR_DETAILS_TYPEREF,
+                        params);
+            log.info("connectors list " + responseList);
+
+            return responseList.getBody();
+          } catch (Exception e) {
+            log.error("Error in getting connector detail ", e);
+            return Collections.emptyMap();
+          }
+        });
   }
 
   protected ClusterStatus getKafkaConnectStatus(
@@ -303,41 +346,48 @@ public class KafkaConnectService {
   }
 
   public ApiResponse restartConnector(ClusterConnectorRequest clusterConnectorRequest) {
-    log.info("Into restartConnector clusterConnectorRequest {} ", clusterConnectorRequest);
-
-    String suffixUrl =
-        clusterConnectorRequest.getEnv()
-            + "/connectors"
-            + "/"
-            + clusterConnectorRequest.getConnectorName()
-            + "/"
-            + "restart";
-
-    suffixUrl =
-        suffixUrl
-            + "?includeTasks=true&onlyFailed="
-            + clusterConnectorRequest.isIncludeFailedTasksOnly();
-
-    Pair<String, RestTemplate> reqDetails =
-        clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
-
-    HttpHeaders headers =
-        clusterApiUtils.createHeaders(
-            clusterConnectorRequest.getClusterIdentification(), KafkaClustersType.KAFKA_CONNECT);
-    headers.set("Content-Type", "application/json");
-    HttpEntity<String> request = new HttpEntity<>(headers);
-    ResponseEntity<String> responseNew;
-    try {
-      responseNew =
-          reqDetails.getRight().postForEntity(reqDetails.getLeft(), request, String.class);
-    } catch (HttpServerErrorException | HttpClientErrorException e) {
-      return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_1);
-    } catch (Exception ex) {
-      return ApiResponse.notOk(CLUSTER_API_ERR_1);
-    }
-    return responseNew.getStatusCode().is2xxSuccessful()
-        ? ApiResponse.SUCCESS
-        : ApiResponse.FAILURE;
+    return clusterOperationMetrics.record(
+        Flavor.KAFKA_CONNECT,
+        clusterConnectorRequest.getClusterIdentification(),
+        "restartConnector",
+        () -> {
+          log.info("Into restartConnector clusterConnectorRequest {} ", clusterConnectorRequest);
+
+          String suffixUrl =
+              clusterConnectorRequest.getEnv()
+                  + "/connectors"
+                  + "/"
+                  + clusterConnectorRequest.getConnectorName()
+                  + "/"
+                  + "restart";
+
+          suffixUrl =
+              suffixUrl
+                  + "?includeTasks=true&onlyFailed="
+                  + clusterConnectorRequest.isIncludeFailedTasksOnly();
+
+          Pair<String, RestTemplate> reqDetails =
+              clusterApiUtils.getRequestDetails(suffixUrl, clusterConnectorRequest.getProtocol());
+
+          HttpHeaders headers =
+              clusterApiUtils.createHeaders(
+                  clusterConnectorRequest.getClusterIdentification(),
+                  KafkaClustersType.KAFKA_CONNECT);
+          headers.set("Content-Type", "application/json");
+          HttpEntity<String> request = new HttpEntity<>(headers);
+          ResponseEntity<String> responseNew;
+          try {
+            responseNew =
+                reqDetails.getRight().postForEntity(reqDetails.getLeft(), request, String.class);
+          } catch (HttpServerErrorException | HttpClientErrorException e) {
+            return buildErrorResponseFromRestException(e, CLUSTER_API_ERR_1);
+          } catch (Exception ex) {
+            return ApiResponse.notOk(CLUSTER_API_ERR_1);
+          }
+          return responseNew.getStatusCode().is2xxSuccessful()
+              ? ApiResponse.SUCCESS
+              : ApiResponse.FAILURE;
+        });
   }
 
   public ApiResponse pauseConnector(ClusterConnectorRequest clusterConnectorRequest) {
@@ -15,6 +15,8 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.enums.SchemaCacheUpdateType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -80,77 +82,88 @@ public class SchemaService {
 
   final ClusterApiUtils clusterApiUtils;
 
-  public SchemaService(ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationMetrics clusterOperationMetrics;
+
+  public SchemaService(
+      ClusterApiUtils clusterApiUtils, ClusterOperationMetrics clusterOperationMetrics) {
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationMetrics = clusterOperationMetrics;
   }
 
   public synchronized ApiResponse registerSchema(ClusterSchemaRequest clusterSchemaRequest) {
-    String schemaCompatibility = null;
-    boolean schemaCompatibilitySetOnSubject = false;
-    try {
-      log.debug(
-          "RegisterSchema on {} isForceRegisterEnabled {}",
-          clusterSchemaRequest.getTopicName(),
-          clusterSchemaRequest.isForceRegister());
-      schemaCompatibility =
-          getSubjectSchemaCompatibility(
-              clusterSchemaRequest.getEnv(),
-              clusterSchemaRequest.getTopicName(),
-              clusterSchemaRequest.getProtocol(),
-              clusterSchemaRequest.getClusterIdentification());
-      if (clusterSchemaRequest.isForceRegister()) {
-        // Verify if schema compatibility is set on subject
-        schemaCompatibilitySetOnSubject = checkIfSchemaCompatibilitySet(schemaCompatibility);
-        log.debug(
-            "RegisterSchema - original Schema Compatibility {} for Topic {}",
-            schemaCompatibility,
-            clusterSchemaRequest.getTopicName());
-        // set subject compatibility to NONE, if it's not NONE, or NOT SET
-        if (!schemaCompatibilitySetOnSubject || !schemaCompatibility.equals("NONE")) {
-          setSchemaCompatibility(
-              clusterSchemaRequest.getEnv(),
-              clusterSchemaRequest.getTopicName(),
-              clusterSchemaRequest.isForceRegister(),
-              clusterSchemaRequest.getProtocol(),
-              clusterSchemaRequest.getClusterIdentification(),
-              null);
-        }
-      }
+    return clusterOperationMetrics.record(
+        Flavor.SCHEMA_REGISTRY,
+        clusterSchemaRequest.getClusterIdentification(),
+        "registerSchema",
+        () -> {
+          String schemaCompatibility = null;
+          boolean schemaCompatibilitySetOnSubject = false;
+          try {
+            log.debug(
+                "RegisterSchema on {} isForceRegisterEnabled {}",
+                clusterSchemaRequest.getTopicName(),
+                clusterSchemaRequest.isForceRegister());
+            schemaCompatibility =
+                getSubjectSchemaCompatibility(
+                    clusterSchemaRequest.getEnv(),
+                    clusterSchemaRequest.getTopicName(),
+                    clusterSchemaRequest.getProtocol(),
+                    clusterSchemaRequest.getClusterIdentification());
+            if (clusterSchemaRequest.isForceRegister()) {
+              // Verify if schema compatibility is set on subject
+              schemaCompatibilitySetOnSubject = checkIfSchemaCompatibilitySet(schemaCompatibility);
+              log.debug(
+                  "RegisterSchema - original Schema Compatibility {} for Topic {}",
+                  schemaCompatibility,
+                  clusterSchemaRequest.getTopicName());
+              // set subject compatibility to NONE, if it's not NONE, or NOT SET
+              if (!schemaCompatibilitySetOnSubject || !schemaCompatibility.equals("NONE")) {
+                setSchemaCompatibility(
+                    clusterSchemaRequest.getEnv(),
+                    clusterSchemaRequest.getTopicName(),
+                    clusterSchemaRequest.isForceRegister(),
+                    clusterSchemaRequest.getProtocol(),
+                    clusterSchemaRequest.getClusterIdentification(),
+                    null);
+              }
+            }
 
-      RegisterSchemaCustomResponse registerSchemaCustomResponse =
-          registerSchemaPostCall(clusterSchemaRequest);
-      registerSchemaCustomResponse.setCompatibility(schemaCompatibility);
-
-      updateSchemaCache(
-          clusterSchemaRequest.getEnv(),
-          clusterSchemaRequest.getProtocol(),
-          clusterSchemaRequest.getClusterIdentification(),
-          SchemaCacheUpdateType.CREATE,
-          clusterSchemaRequest.getTopicName());
-
-      return ApiResponse.builder()
-          .success(true)
-          .message(ApiResultStatus.SUCCESS.value)
-          .data(registerSchemaCustomResponse)
-          .build();
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      if (e instanceof HttpClientErrorException
-          && ((HttpClientErrorException.Conflict) e).getStatusCode().value() == 409) {
-        return ApiResponse.builder()
-            .success(false)
-            .message("Schema being registered is incompatible with an earlier schema")
-            .build();
-      }
-      return ApiResponse.builder()
-          .success(false)
-          .message("Failure in registering schema." + e.getMessage())
-          .build();
-    } finally {
-      // Ensure the Schema compatibility is returned to previous setting before the force update.
-      resetCompatibilityOnSubject(
-          clusterSchemaRequest, schemaCompatibility, schemaCompatibilitySetOnSubject);
-    }
+            RegisterSchemaCustomResponse registerSchemaCustomResponse =
+                registerSchemaPostCall(clusterSchemaRequest);
+            registerSchemaCustomResponse.setCompatibility(schemaCompatibility);
+
+            updateSchemaCache(
+                clusterSchemaRequest.getEnv(),
+                clusterSchemaRequest.getProtocol(),
+                clusterSchemaRequest.getClusterIdentification(),
+                SchemaCacheUpdateType.CREATE,
+                clusterSchemaRequest.getTopicName());
+
+            return ApiResponse.builder()
+                .success(true)
+                .message(ApiResultStatus.SUCCESS.value)
+                .data(registerSchemaCustomResponse)
+                .build();
+          } catch (Exception e) {
+            log.error("Exception:", e);
+            if (e instanceof HttpClientErrorException
+                && ((HttpClientErrorException.Conflict) e).getStatusCode().value() == 409) {
+              return ApiResponse.builder()
+                  .success(false)
+                  .message("Schema being registered is incompatible with an earlier schema")
+                  .build();
+            }
+            return ApiResponse.builder()
+                .success(false)
+                .message("Failure in registering schema." + e.getMessage())
+                .build();
+          } finally {
+            // Ensure the Schema compatibility is returned to previous setting before the force
+            // update.
+            resetCompatibilityOnSubject(
+                clusterSchemaRequest, schemaCompatibility, schemaCompatibilitySetOnSubject);
+          }
+        });
   }
 
   private void resetCompatibilityOnSubject(
@@ -235,59 +248,70 @@ public class SchemaService {
       KafkaSupportedProtocol protocol,
       String clusterIdentification,
       String topicName) {
-    try {
-      log.info("Into getSchema request {} {} {}", topicName, environmentVal, protocol);
-      if (environmentVal == null) {
-        return null;
-      }
-
-      Set<Integer> versionsList =
-          getSchemaVersions(environmentVal, topicName, protocol, clusterIdentification);
-      String schemaCompatibility =
-          getSubjectSchemaCompatibility(environmentVal, topicName, protocol, clusterIdentification);
-      if (Objects.equals(schemaCompatibility, SCHEMA_COMPATIBILITY_NOT_SET)) {
-        schemaCompatibility =
-            getGlobalSchemaCompatibility(environmentVal, protocol, clusterIdentification);
-      }
-      Map<Integer, Map<String, Object>> allSchemaObjects = new TreeMap<>();
-
-      if (versionsList != null) {
-        for (Integer schemaVersion : versionsList) {
-          String suffixUrl =
-              environmentVal
-                  + "/"
-                  + SCHEMA_SUBJECTS_URI
-                  + "/"
-                  + topicName
-                  + SCHEMA_VALUE_URI
-                  + "/versions/"
-                  + schemaVersion;
-          Pair<String, RestTemplate> reqDetails =
-              clusterApiUtils.getRequestDetails(suffixUrl, protocol);
-
-          Map<String, String> params = new HashMap<>();
-          HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
-
-          ResponseEntity<Map<String, Object>> responseNew =
-              reqDetails
-                  .getRight()
-                  .exchange(
-                      reqDetails.getLeft(), HttpMethod.GET, request, GET_SCHEMA_TYPEREF, params);
-          Map<String, Object> schemaResponse = responseNew.getBody();
-          if (schemaResponse != null) {
-            schemaResponse.put("compatibility", schemaCompatibility);
+    return clusterOperationMetrics.record(
+        Flavor.SCHEMA_REGISTRY,
+        clusterIdentification,
+        "getSchema",
+        () -> {
+          try {
+            log.info("Into getSchema request {} {} {}", topicName, environmentVal, protocol);
+            if (environmentVal == null) {
+              return null;
+            }
+
+            Set<Integer> versionsList =
+                getSchemaVersions(environmentVal, topicName, protocol, clusterIdentification);
+            String schemaCompatibility =
+                getSubjectSchemaCompatibility(
+                    environmentVal, topicName, protocol, clusterIdentification);
+            if (Objects.equals(schemaCompatibility, SCHEMA_COMPATIBILITY_NOT_SET)) {
+              schemaCompatibility =
+                  getGlobalSchemaCompatibility(environmentVal, protocol, clusterIdentification);
+            }
+            Map<Integer, Map<String, Object>> allSchemaObjects = new TreeMap<>();
+
+            if (versionsList != null) {
+              for (Integer schemaVersion : versionsList) {
+                String suffixUrl =
+                    environmentVal
+                        + "/"
+                        + SCHEMA_SUBJECTS_URI
+                        + "/"
+                        + topicName
+                        + SCHEMA_VALUE_URI
+                        + "/versions/"
+                        + schemaVersion;
+                Pair<String, RestTemplate> reqDetails =
+                    clusterApiUtils.getRequestDetails(suffixUrl, protocol);
+
+                Map<String, String> params = new HashMap<>();
+                HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
+
+                ResponseEntity<Map<String, Object>> responseNew =
+                    reqDetails
+                        .getRight()
+                        .exchange(
+                            reqDetails.getLeft(),
+                            HttpMethod.GET,
+                            request,
+                            GET_SCHEMA_TYPEREF,
+                            params);
+                Map<String, Object> schemaResponse = responseNew.getBody();
+                if (schemaResponse != null) {
+                  schemaResponse.put("compatibility", schemaCompatibility);
+                }
+
+                log.info(Objects.requireNonNull(responseNew.getBody()).toString());
+                allSchemaObjects.put(schemaVersion, schemaResponse);
+              }
+            }
+
+            return allSchemaObjects;
+          } catch (Exception e) {
+            log.error("Error from getSchema : ", e);
+            return Collections.emptyMap();
           }
-
-          log.info(Objects.requireNonNull(responseNew.getBody()).toString());
-          allSchemaObjects.put(schemaVersion, schemaResponse);
-        }
-      }
-
-      return allSchemaObjects;
-    } catch (Exception e) {
-      log.error("Error from getSchema : ", e);
-      return Collections.emptyMap();
-    }
+        });
   }
 
   private Set<Integer> getSchemaVersions(
@@ -471,57 +495,67 @@ public class SchemaService {
 
   // deletes the subject - means all the versions will be deleted
   public ApiResponse deleteSchema(ClusterTopicRequest clusterTopicRequest) {
-    String suffixUrl =
-        clusterTopicRequest.getSchemaEnv()
-            + "/subjects/"
-            + clusterTopicRequest.getTopicName()
-            + SCHEMA_VALUE_URI;
-    Pair<String, RestTemplate> reqDetails =
-        clusterApiUtils.getRequestDetails(suffixUrl, clusterTopicRequest.getSchemaEnvProtocol());
-    HttpEntity<Object> request =
-        createSchemaRegistryRequest(clusterTopicRequest.getSchemaClusterIdentification());
-
-    try {
-      reqDetails
-          .getRight()
-          .exchange(
-              reqDetails.getLeft(),
-              HttpMethod.DELETE,
-              request,
-              new ParameterizedTypeReference<>() {});
-      log.info("Schema deleted {}", clusterTopicRequest);
-
-      try {
-        CompletableFuture.runAsync(
-                () -> {
-                  loadAllSchemasInfoFromCluster(
-                      clusterTopicRequest.getSchemaEnv(),
-                      clusterTopicRequest.getSchemaEnvProtocol(),
-                      clusterTopicRequest.getSchemaClusterIdentification(),
-                      true,
-                      SchemaCacheUpdateType.DELETE,
-                      clusterTopicRequest.getTopicName());
-                })
-            .get();
-      } catch (InterruptedException | ExecutionException e) {
-        log.error("Async loadAllSchemasInfoFromCluster Exception:", e);
-      }
-
-      updateSchemaCache(
-          clusterTopicRequest.getSchemaEnv(),
-          clusterTopicRequest.getSchemaEnvProtocol(),
-          clusterTopicRequest.getSchemaClusterIdentification(),
-          SchemaCacheUpdateType.DELETE,
-          clusterTopicRequest.getTopicName());
-
-      return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
-    } catch (RestClientException e) {
-      log.error("Exception:", e);
-      return ApiResponse.builder()
-          .success(false)
-          .message("Schema deletion failure " + e.getMessage())
-          .build();
-    }
+    return clusterOperationMetrics.record(
+        Flavor.SCHEMA_REGISTRY,
+        clusterTopicRequest.getSchemaClusterIdentification(),
+        "deleteSchema",
+        () -> {
+          String suffixUrl =
+              clusterTopicRequest.getSchemaEnv()
+                  + "/subjects/"
+                  + clusterTopicRequest.getTopicName()
+                  + SCHEMA_VALUE_URI;
+          Pair<String, RestTemplate> reqDetails =
+              clusterApiUtils.getRequestDetails(
+                  suffixUrl, clusterTopicRequest.getSchemaEnvProtocol());
+          HttpEntity<Object> request =
+              createSchemaRegistryRequest(clusterTopicRequest.getSchemaClusterIdentification());
+
+          try {
+            reqDetails
+                .getRight()
+                .exchange(
+                    reqDetails.getLeft(),
+                    HttpMethod.DELETE,
+                    request,
+                    new ParameterizedTypeReference<>() {});
+            log.info("Schema deleted {}", clusterTopicRequest);
+
+            try {
+              CompletableFuture.runAsync(
+                      () -> {
+                        loadAllSchemasInfoFromCluster(
+                            clusterTopicRequest.getSchemaEnv(),
+                            clusterTopicRequest.getSchemaEnvProtocol(),
+                            clusterTopicRequest.getSchemaClusterIdentification(),
+                            true,
+                            SchemaCacheUpdateType.DELETE,
+                            clusterTopicRequest.getTopicName());
+                      })
+                  .get();
+            } catch (InterruptedException | ExecutionException e) {
+              log.error("Async loadAllSchemasInfoFromCluster Exception:", e);
+            }
+
+            updateSchemaCache(
+                clusterTopicRequest.getSchemaEnv(),
+                clusterTopicRequest.getSchemaEnvProtocol(),
+                clusterTopicRequest.getSchemaClusterIdentification(),
+                SchemaCacheUpdateType.DELETE,
+                clusterTopicRequest.getTopicName());
+
+            return ApiResponse.builder()
+                .success(true)
+                .message(ApiResultStatus.SUCCESS.value)
+                .build();
+          } catch (RestClientException e) {
+            log.error("Exception:", e);
+            return ApiResponse.builder()
+                .success(false)
+                .message("Schema deletion failure " + e.getMessage())
+                .build();
+          }
+        });
   }
 
   public ApiResponse checkSchemaCompatibility(
@@ -530,54 +564,63 @@ public class SchemaService {
       KafkaSupportedProtocol schemaProtocol,
       String schemaEnv,
       String clusterIdentification) {
-    try {
-      log.info("Check Schema Compatibility for TopicName: {}", topicName);
-      if (isFirstSchema(topicName, schemaProtocol, schemaEnv, clusterIdentification)) {
-        return ApiResponse.builder().success(true).message("No Existing Schemas").build();
-      }
-
-      Pair<String, RestTemplate> reqDetails =
-          clusterApiUtils.getRequestDetails(
-              schemaEnv + TOPIC_COMPATIBILITY_URI_TEMPLATE.replace("{topic_name}", topicName),
-              schemaProtocol);
-
-      HttpEntity<Map<String, String>> request = buildSchemaEntity(schema, clusterIdentification);
-      ResponseEntity<SchemaCompatibilityCheckResponse> compatibility =
-          reqDetails
-              .getRight()
-              .postForEntity(reqDetails.getLeft(), request, SchemaCompatibilityCheckResponse.class);
-      if (compatibility.hasBody()
-          && Objects.requireNonNull(compatibility.getBody()).isCompatible()) {
-        return ApiResponse.builder()
-            .success(true)
-            .message(ApiResultStatus.SUCCESS.value + " Schema is compatible.")
-            .build();
-      } else {
-        return ApiResponse.builder()
-            .success(false)
-            .message(ApiResultStatus.FAILURE.value + "  Schema is not compatible.")
-            .build();
-      }
-    } catch (HttpClientErrorException httpEx) {
-      log.error("Exception on validating: ", httpEx);
-
-      if (httpEx.getStatusCode().equals(HttpStatusCode.valueOf(422))) {
-
-        return ApiResponse.builder()
-            .success(false)
-            .message(
-                ApiResultStatus.FAILURE.value
-                    + " Invalid Schema. Unable to validate Schema Compatibility.")
-            .build();
-      } else {
-        throw httpEx;
-      }
-    } catch (Exception ex) {
-      return ApiResponse.builder()
-          .success(false)
-          .message(ApiResultStatus.FAILURE.value + " Unable to validate Schema Compatibility.")
-          .build();
-    }
+    return clusterOperationMetrics.record(
+        Flavor.SCHEMA_REGISTRY,
+        clusterIdentification,
+        "checkSchemaCompatibility",
+        () -> {
+          try {
+            log.info("Check Schema Compatibility for TopicName: {}", topicName);
+            if (isFirstSchema(topicName, schemaProtocol, schemaEnv, clusterIdentification)) {
+              return ApiResponse.builder().success(true).message("No Existing Schemas").build();
+            }
+
+            Pair<String, RestTemplate> reqDetails =
+                clusterApiUtils.getRequestDetails(
+                    schemaEnv + TOPIC_COMPATIBILITY_URI_TEMPLATE.replace("{topic_name}", topicName),
+                    schemaProtocol);
+
+            HttpEntity<Map<String, String>> request =
+                buildSchemaEntity(schema, clusterIdentification);
+            ResponseEntity<SchemaCompatibilityCheckResponse> compatibility =
+                reqDetails
+                    .getRight()
+                    .postForEntity(
+                        reqDetails.getLeft(), request, SchemaCompatibilityCheckResponse.class);
+            if (compatibility.hasBody()
+                && Objects.requireNonNull(compatibility.getBody()).isCompatible()) {
+              return ApiResponse.builder()
+                  .success(true)
+                  .message(ApiResultStatus.SUCCESS.value + " Schema is compatible.")
+                  .build();
+            } else {
+              return ApiResponse.builder()
+                  .success(false)
+                  .message(ApiResultStatus.FAILURE.value + "  Schema is not compatible.")
+                  .build();
+            }
+          } catch (HttpClientErrorException httpEx) {
+            log.error("Exception on validating: ", httpEx);
+
+            if (httpEx.getStatusCode().equals(HttpStatusCode.valueOf(422))) {
+
+              return ApiResponse.builder()
+                  .success(false)
+                  .message(
+                      ApiResultStatus.FAILURE.value
+                          + " Invalid Schema. Unable to validate Schema Compatibility.")
+                  .build();
+            } else {
+              throw httpEx;
+            }
+          } catch (Exception ex) {
+            return ApiResponse.builder()
+                .success(false)
+                .message(
+                    ApiResultStatus.FAILURE.value + " Unable to validate Schema Compatibility.")
+                .build();
+          }
+        });
   }
 
   public boolean isFirstSchema(
@@ -630,70 +673,80 @@ public class SchemaService {
       boolean updateMap,
       SchemaCacheUpdateType updateType,
       String topicName) {
-    log.info(
-        "bootstrapServers {} protocol {} clusterIdentification {}",
-        bootstrapServers,
-        protocol,
-        clusterIdentification);
-
-    String schemasVersionsStorageKey = bootstrapServers + clusterIdentification;
-
-    if (schemasInfoOfClusterResponseMap.containsKey(schemasVersionsStorageKey) && !updateMap) {
-      return schemasInfoOfClusterResponseMap.get(schemasVersionsStorageKey);
-    }
+    return clusterOperationMetrics.record(
+        Flavor.SCHEMA_REGISTRY,
+        clusterIdentification,
+        "loadAllSchemasInfoFromCluster",
+        () -> {
+          log.info(
+              "bootstrapServers {} protocol {} clusterIdentification {}",
+              bootstrapServers,
+              protocol,
+              clusterIdentification);
+
+          String schemasVersionsStorageKey = bootstrapServers + clusterIdentification;
+
+          if (schemasInfoOfClusterResponseMap.containsKey(schemasVersionsStorageKey)
+              && !updateMap) {
+            return schemasInfoOfClusterResponseMap.get(schemasVersionsStorageKey);
+          }
 
-    if (updateType != SchemaCacheUpdateType.NONE
-        && !schemasInfoOfClusterResponseMap
-            .get(schemasVersionsStorageKey)
-            .getSchemaInfoOfTopicList()
-            .isEmpty()) {
-      return handleInterimUpdatesOnSchemas(
-          bootstrapServers,
-          protocol,
-          clusterIdentification,
-          updateType,
-          topicName,
-          schemasVersionsStorageKey);
-    }
+          if (updateType != SchemaCacheUpdateType.NONE
+              && !schemasInfoOfClusterResponseMap
+                  .get(schemasVersionsStorageKey)
+                  .getSchemaInfoOfTopicList()
+                  .isEmpty()) {
+            return handleInterimUpdatesOnSchemas(
+                bootstrapServers,
+                protocol,
+                clusterIdentification,
+                updateType,
+                topicName,
+                schemasVersionsStorageKey);
+          }
 
-    SchemasInfoOfClusterResponse schemasInfoOfClusterResponse = new SchemasInfoOfClusterResponse();
-    String suffixUrl = bootstrapServers + "/" + SCHEMA_SUBJECTS_URI;
-    Pair<String, RestTemplate> reqDetails = clusterApiUtils.getRequestDetails(suffixUrl, protocol);
+          SchemasInfoOfClusterResponse schemasInfoOfClusterResponse =
+              new SchemasInfoOfClusterResponse();
+          String suffixUrl = bootstrapServers + "/" + SCHEMA_SUBJECTS_URI;
+          Pair<String, RestTemplate> reqDetails =
+              clusterApiUtils.getRequestDetails(suffixUrl, protocol);
 
-    Map<String, String> params = new HashMap<>();
-    HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
+          Map<String, String> params = new HashMap<>();
+          HttpEntity<Object> request = createSchemaRegistryRequest(clusterIdentification);
 
-    ResponseEntity<List<String>> responseList =
-        reqDetails
-            .getRight()
-            .exchange(reqDetails.getLeft(), HttpMethod.GET, request, GET_SUBJECTS_TYPEREF, params);
-
-    List<SchemaInfoOfTopic> schemaInfoOfTopicList = new ArrayList<>();
-    List<String> subjectList = responseList.getBody();
-    if (subjectList != null) {
-      for (String subject : subjectList) {
-        if (subject.indexOf(SCHEMA_VALUE_URI) > 0) {
-          subject = subject.substring(0, subject.indexOf(SCHEMA_VALUE_URI));
-          Set<Integer> schemaVersions =
-              getSchemaVersions(bootstrapServers, subject, protocol, clusterIdentification);
-          SchemaInfoOfTopic schemaInfoOfTopic = new SchemaInfoOfTopic();
-          schemaInfoOfTopic.setTopic(subject);
-          schemaInfoOfTopic.setSchemaVersions(schemaVersions);
-          schemaInfoOfTopicList.add(schemaInfoOfTopic);
-        }
-      }
-    }
+          ResponseEntity<List<String>> responseList =
+              reqDetails
+                  .getRight()
+                  .exchange(
+                      reqDetails.getLeft(), HttpMethod.GET, request, GET_SUBJECTS_TYPEREF, params);
+
+          List<SchemaInfoOfTopic> schemaInfoOfTopicList = new ArrayList<>();
+          List<String> subjectList = responseList.getBody();
+          if (subjectList != null) {
+            for (String subject : subjectList) {
+              if (subject.indexOf(SCHEMA_VALUE_URI) > 0) {
+                subject = subject.substring(0, subject.indexOf(SCHEMA_VALUE_URI));
+                Set<Integer> schemaVersions =
+                    getSchemaVersions(bootstrapServers, subject, protocol, clusterIdentification);
+                SchemaInfoOfTopic schemaInfoOfTopic = new SchemaInfoOfTopic();
+                schemaInfoOfTopic.setTopic(subject);
+                schemaInfoOfTopic.setSchemaVersions(schemaVersions);
+                schemaInfoOfTopicList.add(schemaInfoOfTopic);
+              }
+            }
+          }
 
-    schemasInfoOfClusterResponse.setSchemaInfoOfTopicList(schemaInfoOfTopicList);
+          schemasInfoOfClusterResponse.setSchemaInfoOfTopicList(schemaInfoOfTopicList);
 
-    updateCache(
-        bootstrapServers,
-        protocol,
-        clusterIdentification,
-        schemasVersionsStorageKey,
-        schemasInfoOfClusterResponse);
+          updateCache(
+              bootstrapServers,
+              protocol,
+              clusterIdentification,
+              schemasVersionsStorageKey,
+              schemasInfoOfClusterResponse);
 
-    return schemasInfoOfClusterResponse;
+          return schemasInfoOfClusterResponse;
+        });
   }
 
   private static void updateCache(
@@ -7,11 +7,15 @@ import com.google.common.base.Strings;
 import io.aiven.klaw.clusterapi.config.SslContextConfig;
 import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.kafka.clients.CommonClientConfigs;
@@ -28,7 +32,7 @@ import org.springframework.web.client.RestTemplate;
 
 @Service
 @Slf4j
-public class ClusterApiUtils {
+public class ClusterApiUtils implements MeterBinder {
 
   private static final String PLAIN_REST_TEMPLATE = "PlainRestTemplate";
   private static final String SSL_REST_TEMPLATE = "SSLRestTemplate";
@@ -63,7 +67,7 @@ public class ClusterApiUtils {
 
   @Autowired
   public ClusterApiUtils(Environment env, AdminClientProperties adminClientProperties) {
-    this(env, adminClientProperties, new HashMap<>(), new HashMap<>());
+    this(env, adminClientProperties, new ConcurrentHashMap<>(), new HashMap<>());
   }
 
   ClusterApiUtils(
@@ -86,6 +90,28 @@ public class ClusterApiUtils {
   //        sslKeys.forEach(adminClientsMap::remove);
   //    }
 
+  /** Gauges of the admin clients kept open for the clusters, and of their broker connections. */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("klaw.adminclient.pool.size", adminClientsMap, Map::size)
+        .description("Admin clients kept open for the clusters")
+        .register(registry);
+    Gauge.builder(
+            "klaw.adminclient.pool.connections",
+            adminClientsMap,
+            ClusterApiUtils::getConnectionCount)
+        .description("Connections of the admin clients to the brokers")
+        .register(registry);
+  }
+
+  private static double getConnectionCount(Map<String, AdminClient> adminClients) {
+    return adminClients.values().stream()
+        .flatMap(adminClient -> adminClient.metrics().entrySet().stream())
+        .filter(metric -> "connection-count".equals(metric.getKey().name()))
+        .mapToDouble(metric -> ((Number) metric.getValue().metricValue()).doubleValue())
+        .sum();
+  }
+
   public String getHash(String envHost) {
     return new String(Base64.encodeBase64(messageDigest.digest(envHost.getBytes()), false));
   }
@@ -0,0 +1,125 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import io.aiven.klaw.clusterapi.models.ApiResponse;
+import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the operations of cluster api on the clusters, tagged by cluster identification, flavor,
+ * operation and outcome. The outcome is error when the operation throws, and failure when it
+ * returns an unsuccessful response. When tracing is enabled each operation is a span as well, which
+ * includes the wait on the admin client futures and the calls to schema registry and connect.
+ */
+@Component
+public class ClusterOperationMetrics {
+
+  public static final String OPERATION_TIMER = "klaw.cluster.operation";
+
+  public static final String ERROR_COUNTER = "klaw.cluster.operation.errors";
+
+  static final String SUCCESS = "success";
+
+  static final String FAILURE = "failure";
+
+  static final String ERROR = "error";
+
+  private static final String UNKNOWN_CLUSTER = "unknown";
+
+  private static final String RESULT_KEY = "result";
+
+  public enum Flavor {
+    APACHE_KAFKA,
+    AIVEN,
+    CONFLUENT_CLOUD,
+    SCHEMA_REGISTRY,
+    KAFKA_CONNECT;
+
+    final String tag = name().toLowerCase(Locale.ROOT);
+  }
+
+  @FunctionalInterface
+  public interface ClusterOperation<T, E extends Exception> {
+    T call() throws E;
+  }
+
+  private final MeterRegistry meterRegistry;
+
+  private final Tracer tracer;
+
+  public ClusterOperationMetrics(MeterRegistry meterRegistry) {
+    this(meterRegistry, Tracer.NOOP);
+  }
+
+  @Autowired
+  public ClusterOperationMetrics(MeterRegistry meterRegistry, ObjectProvider<Tracer> tracer) {
+    this(meterRegistry, tracer.getIfAvailable(() -> Tracer.NOOP));
+  }
+
+  public ClusterOperationMetrics(MeterRegistry meterRegistry, Tracer tracer) {
+    this.meterRegistry = meterRegistry;
+    this.tracer = tracer;
+  }
+
+  public <T, E extends Exception> T record(
+      Flavor flavor, String cluster, String operation, ClusterOperation<T, E> clusterOperation)
+      throws E {
+    Tags tags =
+        Tags.of(
+            "cluster",
+            cluster == null ? UNKNOWN_CLUSTER : cluster,
+            "flavor",
+            flavor.tag,
+            "operation",
+            operation);
+    Span span =
+        tracer
+            .nextSpan()
+            .name(flavor.tag + " " + operation)
+            .tag("cluster", cluster == null ? UNKNOWN_CLUSTER : cluster)
+            .tag("flavor", flavor.tag)
+            .start();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = ERROR;
+    try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+      T result = clusterOperation.call();
+      outcome = isFailure(result) ? FAILURE : SUCCESS;
+      return result;
+    } catch (Exception e) {
+      meterRegistry
+          .counter(ERROR_COUNTER, tags.and("exception", e.getClass().getSimpleName()))
+          .increment();
+      span.error(e);
+      throw e;
+    } finally {
+      sample.stop(meterRegistry.timer(OPERATION_TIMER, tags.and("outcome", outcome)));
+      span.tag("outcome", outcome).end();
+    }
+  }
+
+  // the services report failures as an unsuccessful api response, or a failure result
+  private static boolean isFailure(Object result) {
+    if (result instanceof ApiResponse apiResponse) {
+      return !apiResponse.isSuccess();
+    }
+    if (result instanceof Map<?, ?> resultMap) {
+      // not a lookup, the keys of the maps are not always strings
+      result =
+          resultMap.entrySet().stream()
+              .filter(entry -> RESULT_KEY.equals(entry.getKey()))
+              .map(Map.Entry::getValue)
+              .findFirst()
+              .orElse(null);
+    }
+    return result instanceof String resultText
+        && resultText.toLowerCase(Locale.ROOT).startsWith(ApiResultStatus.FAILURE.value);
+  }
+}
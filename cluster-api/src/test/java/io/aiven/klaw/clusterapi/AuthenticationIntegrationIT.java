@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -35,6 +36,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
     webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
     classes = KafkaClusterApiApplication.class)
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @TestPropertySource(locations = "classpath:application.properties")
 @TestMethodOrder(OrderAnnotation.class)
 @DirtiesContext
@@ -123,6 +125,24 @@ public class AuthenticationIntegrationIT {
         .getResponse();
   }
 
+  @Test
+  @Order(5)
+  public void getPrometheusMetrics_WithoutToken() throws Exception {
+    MockHttpServletResponse response =
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+    assertThat(response.getContentAsString().contains("klaw_adminclient_pool_size")).isTrue();
+  }
+
+  @Test
+  @Order(6)
+  public void getMetrics_WithoutToken() throws Exception {
+    mvc.perform(MockMvcRequestBuilders.get("/actuator/metrics")).andExpect(status().isForbidden());
+  }
+
   private String generateToken(
       String clusterApiUser, String clusterAccessSecret, long expirationTime) {
     Key hmacKey =
@@ -3,6 +3,9 @@ package io.aiven.klaw.clusterapi.controller;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -25,6 +28,7 @@ import io.aiven.klaw.clusterapi.services.ConfluentCloudApiService;
 import io.aiven.klaw.clusterapi.services.UtilComponentsService;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -264,4 +268,33 @@ public class ClusterApiControllerTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.message", containsString("Error creating acls")));
   }
+
+  @Test
+  public void updateAclsSubmitsNativeAclsTogether() throws Exception {
+    ClusterAclRequest producerRequest = utilMethods.getAclRequest(AclType.PRODUCER.value);
+    ClusterAclRequest consumerRequest = utilMethods.getAclRequest(AclType.CONSUMER.value);
+    ClusterAclRequest confluentCloudRequest = utilMethods.getConfluentCloudProducerAclRequest();
+    String jsonReq =
+        new ObjectMapper()
+            .writer()
+            .writeValueAsString(List.of(producerRequest, confluentCloudRequest, consumerRequest));
+    Map<String, String> aclResponse = new HashMap<>();
+    aclResponse.put("result", ApiResultStatus.SUCCESS.value);
+
+    when(apacheKafkaAclService.updateAcls(anyList()))
+        .thenReturn(List.of(ApiResultStatus.SUCCESS.value, ApiResultStatus.FAILURE.value));
+    when(confluentCloudApiService.createAcls(any(ClusterAclRequest.class))).thenReturn(aclResponse);
+
+    mvc.perform(
+            post("/topics/updateAcls")
+                .content(jsonReq)
+                .contentType(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(3)))
+        .andExpect(jsonPath("$[0].success").value(true))
+        .andExpect(jsonPath("$[1].success").value(true))
+        .andExpect(jsonPath("$[2].success").value(false));
+    verify(apacheKafkaAclService, times(1)).updateAcls(anyList());
+  }
 }
@@ -11,6 +11,8 @@ import io.aiven.klaw.clusterapi.UtilMethods;
 import io.aiven.klaw.clusterapi.models.AivenAclResponse;
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,7 +46,7 @@ public class AivenApiServiceTest {
 
   @BeforeEach
   public void setUp() {
-    aivenApiService = new AivenApiService();
+    aivenApiService = new AivenApiService(new ClusterOperationMetrics(new SimpleMeterRegistry()));
     ReflectionTestUtils.setField(aivenApiService, "restTemplate", restTemplate);
     ReflectionTestUtils.setField(
         aivenApiService,
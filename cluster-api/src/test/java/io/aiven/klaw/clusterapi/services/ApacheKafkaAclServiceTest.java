@@ -3,12 +3,17 @@ package io.aiven.klaw.clusterapi.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.clusterapi.UtilMethods;
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.enums.*;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -17,12 +22,17 @@ import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.*;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -46,11 +56,15 @@ class ApacheKafkaAclServiceTest {
 
   private UtilMethods utilMethods;
 
+  private SimpleMeterRegistry meterRegistry;
+
   private ApacheKafkaAclService apacheKafkaAclService;
 
   @BeforeEach
   public void setUp() {
-    apacheKafkaAclService = new ApacheKafkaAclService(clusterApiUtils);
+    meterRegistry = new SimpleMeterRegistry();
+    apacheKafkaAclService =
+        new ApacheKafkaAclService(clusterApiUtils, new ClusterOperationMetrics(meterRegistry));
     utilMethods = new UtilMethods();
   }
 
@@ -72,6 +86,29 @@ class ApacheKafkaAclServiceTest {
     assertThat(result).hasSize(1);
   }
 
+  @Test
+  public void loadAcls_PrefixedTopic() throws Exception {
+    List<AclBinding> listAclBindings =
+        List.of(
+            new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "testtopic", PatternType.PREFIXED),
+                accessControlEntry));
+
+    when(clusterApiUtils.getAdminClient(any(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    mockDescribeAclsRequest();
+    when(kafkaFutureCollection.get(anyLong(), any(TimeUnit.class))).thenReturn(listAclBindings);
+    when(accessControlEntry.host()).thenReturn("11.12.33.456");
+    when(accessControlEntry.operation()).thenReturn(AclOperation.WRITE);
+    when(accessControlEntry.permissionType()).thenReturn(AclPermissionType.ALLOW);
+
+    Set<Map<String, String>> result =
+        apacheKafkaAclService.loadAcls("localhost", KafkaSupportedProtocol.PLAINTEXT, "");
+    assertThat(result)
+        .singleElement()
+        .satisfies(acl -> assertThat(acl).containsEntry("patternType", "PREFIXED"));
+  }
+
   @Test
   public void loadAcls_OperationCreate() throws Exception {
     List<AclBinding> listAclBindings = utilMethods.getListAclBindings(accessControlEntry);
@@ -231,6 +268,140 @@ class ApacheKafkaAclServiceTest {
     when(deleteAclsResult.all()).thenReturn(kafkaFutureCollection);
   }
 
+  @Test
+  public void updateAclsSubmitsBindingsOfAllRequestsTogether() throws Exception {
+    ClusterAclRequest producerRequest1 =
+        getAclRequest(
+            AclType.PRODUCER.value,
+            null,
+            AclIPPrincipleType.IP_ADDRESS.name(),
+            RequestOperationType.CREATE);
+    ClusterAclRequest producerRequest2 =
+        ClusterAclRequest.builder()
+            .env("localhost")
+            .topicName("testtopic2")
+            .protocol(KafkaSupportedProtocol.PLAINTEXT)
+            .clusterName("clusterName")
+            .aclType(AclType.PRODUCER.value)
+            .aclIp("11.12.33.122")
+            .requestOperationType(RequestOperationType.CREATE)
+            .aclNativeType(AclsNativeType.NATIVE.name())
+            .aclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS.name())
+            .transactionalId("transactionId")
+            .build();
+    ClusterAclRequest consumerRequest =
+        getAclRequest(
+            AclType.CONSUMER.value,
+            null,
+            AclIPPrincipleType.IP_ADDRESS.name(),
+            RequestOperationType.DELETE);
+
+    when(clusterApiUtils.getAdminClient(
+            anyString(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    mockDescribeAclsRequest();
+    when(kafkaFutureCollection.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(Collections.emptyList());
+    KafkaFutureImpl<Void> failedFuture = new KafkaFutureImpl<>();
+    failedFuture.completeExceptionally(new RuntimeException("Not authorized"));
+    when(adminClient.createAcls(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<AclBinding> aclBindings = invocation.getArgument(0);
+              Map<AclBinding, KafkaFuture<Void>> futures = new HashMap<>();
+              aclBindings.forEach(
+                  aclBinding ->
+                      futures.put(
+                          aclBinding,
+                          "testtopic2".equals(aclBinding.pattern().name())
+                              ? failedFuture
+                              : KafkaFuture.completedFuture(null)));
+              when(createAclsResult.values()).thenReturn(futures);
+              return createAclsResult;
+            });
+    when(adminClient.deleteAcls(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<AclBindingFilter> aclFilters = invocation.getArgument(0);
+              Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> futures =
+                  new HashMap<>();
+              aclFilters.forEach(
+                  aclFilter -> futures.put(aclFilter, KafkaFuture.completedFuture(null)));
+              when(deleteAclsResult.values()).thenReturn(futures);
+              return deleteAclsResult;
+            });
+
+    List<String> results =
+        apacheKafkaAclService.updateAcls(
+            List.of(producerRequest1, producerRequest2, consumerRequest));
+
+    assertThat(results)
+        .containsExactly(
+            ApiResultStatus.SUCCESS.value,
+            ApiResultStatus.FAILURE.value,
+            ApiResultStatus.SUCCESS.value);
+    ArgumentCaptor<Collection<AclBinding>> createCaptor = ArgumentCaptor.forClass(Collection.class);
+    verify(adminClient, times(1)).createAcls(createCaptor.capture());
+    // write and describe acls of both producers, the transactional id acl they share once
+    assertThat(createCaptor.getValue()).hasSize(5);
+    ArgumentCaptor<Collection<AclBindingFilter>> deleteCaptor =
+        ArgumentCaptor.forClass(Collection.class);
+    verify(adminClient, times(1)).deleteAcls(deleteCaptor.capture());
+    assertThat(deleteCaptor.getValue()).hasSize(3);
+    verify(adminClient, times(1)).describeAcls(any(AclBindingFilter.class));
+    // one of the requests of the cluster failed
+    assertThat(
+            meterRegistry
+                .get(ClusterOperationMetrics.OPERATION_TIMER)
+                .tags("operation", "updateAcls", "outcome", "failure")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void updateAclsSkipsExistingAcls() throws Exception {
+    ClusterAclRequest clusterAclRequest =
+        getAclRequest(
+            AclType.PRODUCER.value,
+            null,
+            AclIPPrincipleType.IP_ADDRESS.name(),
+            RequestOperationType.CREATE);
+    ResourcePattern topicPattern =
+        new ResourcePattern(ResourceType.TOPIC, "testtopic", PatternType.LITERAL);
+
+    when(clusterApiUtils.getAdminClient(
+            anyString(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    mockDescribeAclsRequest();
+    when(kafkaFutureCollection.get(anyLong(), any(TimeUnit.class)))
+        .thenReturn(
+            List.of(
+                new AclBinding(
+                    topicPattern,
+                    new AccessControlEntry(
+                        "User:*", "11.12.33.122", AclOperation.WRITE, AclPermissionType.ALLOW)),
+                new AclBinding(
+                    topicPattern,
+                    new AccessControlEntry(
+                        "User:*",
+                        "11.12.33.122",
+                        AclOperation.DESCRIBE,
+                        AclPermissionType.ALLOW))));
+
+    List<String> results = apacheKafkaAclService.updateAcls(List.of(clusterAclRequest));
+
+    assertThat(results).containsExactly("Acl already exists. success");
+    verify(adminClient, never()).createAcls(anyCollection());
+    assertThat(
+            meterRegistry
+                .get(ClusterOperationMetrics.OPERATION_TIMER)
+                .tags("operation", "updateAcls", "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
   private ClusterAclRequest getAclRequest(
       String aclType,
       String aclSsl,
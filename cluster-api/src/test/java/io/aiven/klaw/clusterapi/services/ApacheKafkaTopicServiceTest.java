@@ -11,6 +11,8 @@ import io.aiven.klaw.clusterapi.models.TopicConfig;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -69,7 +71,9 @@ class ApacheKafkaTopicServiceTest {
 
   @BeforeEach
   void setUp() {
-    apacheKafkaTopicService = new ApacheKafkaTopicService(clusterApiUtils, schemaService);
+    apacheKafkaTopicService =
+        new ApacheKafkaTopicService(
+            clusterApiUtils, schemaService, new ClusterOperationMetrics(new SimpleMeterRegistry()));
   }
 
   @Test
@@ -17,6 +17,8 @@ import io.aiven.klaw.clusterapi.models.confluentcloud.ListTopicsResponse;
 import io.aiven.klaw.clusterapi.models.confluentcloud.TopicCreateRequest;
 import io.aiven.klaw.clusterapi.models.enums.*;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -50,7 +52,9 @@ public class ConfluentCloudApiServiceTest {
 
   @BeforeEach
   public void setUp() {
-    confluentCloudApiService = new ConfluentCloudApiService(env, clusterApiUtils);
+    confluentCloudApiService =
+        new ConfluentCloudApiService(
+            env, clusterApiUtils, new ClusterOperationMetrics(new SimpleMeterRegistry()));
     utilMethods = new UtilMethods();
   }
 
@@ -112,10 +116,17 @@ public class ConfluentCloudApiServiceTest {
 
     assertThat(aclsSet).hasSize(2); // two acls
     assertThat(aclsSet.stream().toList().get(0))
-        .hasSize(6); // operation, resourceType, resourceName, principle, host, permissionType
+        .hasSize(7); // operation, resourceType, resourceName, principle, host, permissionType,
+    // patternType
     assertThat(aclsSet.stream().toList().get(0))
         .containsKeys(
-            "operation", "resourceType", "resourceName", "principle", "host", "permissionType");
+            "operation",
+            "resourceType",
+            "resourceName",
+            "principle",
+            "host",
+            "permissionType",
+            "patternType");
     assertThat(aclsSet.stream().toList().get(0)).containsEntry("resourceName", "testtopic");
     assertThat(aclsSet.stream().toList().get(0)).containsEntry("permissionType", "ALLOW");
     assertThat(aclsSet.stream().toList().get(0)).containsEntry("resourceType", "TOPIC");
@@ -10,6 +10,8 @@ import io.aiven.klaw.clusterapi.models.consumergroup.OffsetResetType;
 import io.aiven.klaw.clusterapi.models.consumergroup.ResetConsumerGroupOffsetsRequest;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -39,7 +41,9 @@ class ConsumerGroupServiceTest {
 
   @BeforeEach
   void setUp() {
-    consumerGroupService = new ConsumerGroupService(clusterApiUtils);
+    consumerGroupService =
+        new ConsumerGroupService(
+            clusterApiUtils, new ClusterOperationMetrics(new SimpleMeterRegistry()));
   }
 
   @Test
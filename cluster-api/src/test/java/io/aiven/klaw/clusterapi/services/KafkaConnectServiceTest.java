@@ -19,6 +19,8 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.error.RestErrorResponse;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,12 +28,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
 @RestClientTest(KafkaConnectService.class)
+@Import({ClusterOperationMetrics.class, SimpleMeterRegistry.class})
 class KafkaConnectServiceTest {
 
   public static final String THIS_IS_A_MISCONFIGURED_CONNECTOR =
@@ -49,7 +53,9 @@ class KafkaConnectServiceTest {
   public void setUp() {
     utilMethods = new UtilMethods();
     restTemplate = new RestTemplate();
-    kafkaConnectService = new KafkaConnectService(getAdminClient);
+    kafkaConnectService =
+        new KafkaConnectService(
+            getAdminClient, new ClusterOperationMetrics(new SimpleMeterRegistry()));
     mockRestServiceServer = MockRestServiceServer.bindTo(restTemplate).build();
   }
 
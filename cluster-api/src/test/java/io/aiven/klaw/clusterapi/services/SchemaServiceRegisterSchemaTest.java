@@ -14,6 +14,8 @@ import io.aiven.klaw.clusterapi.models.RegisterSchemaResponse;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -55,7 +57,8 @@ class SchemaServiceRegisterSchemaTest {
 
   @BeforeEach
   public void setUp() {
-    schemaService = new SchemaService(clusterApiUtil);
+    schemaService =
+        new SchemaService(clusterApiUtil, new ClusterOperationMetrics(new SimpleMeterRegistry()));
     utilMethods = new UtilMethods();
   }
 
@@ -0,0 +1,141 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.aiven.klaw.clusterapi.models.ApiResponse;
+import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationMetrics.Flavor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClusterOperationMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private ClusterOperationMetrics clusterOperationMetrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    clusterOperationMetrics = new ClusterOperationMetrics(meterRegistry);
+  }
+
+  @Test
+  void recordSuccess() {
+    String result =
+        clusterOperationMetrics.record(
+            Flavor.APACHE_KAFKA, "dev1", "createTopic", () -> ApiResultStatus.SUCCESS.value);
+
+    assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(getTimer("dev1", "apache_kafka", "createTopic", "success").count()).isOne();
+  }
+
+  @Test
+  void recordUnsuccessfulResponsesAsFailure() {
+    clusterOperationMetrics.record(
+        Flavor.SCHEMA_REGISTRY, "sr1", "registerSchema", () -> ApiResponse.FAILURE);
+    clusterOperationMetrics.record(
+        Flavor.AIVEN, "project/service", "createAcls", () -> Map.of("result", "Failure in acls"));
+    clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA, "dev1", "updateProducerAcl", () -> ApiResultStatus.FAILURE.value);
+
+    assertThat(getTimer("sr1", "schema_registry", "registerSchema", "failure").count()).isOne();
+    assertThat(getTimer("project/service", "aiven", "createAcls", "failure").count()).isOne();
+    assertThat(getTimer("dev1", "apache_kafka", "updateProducerAcl", "failure").count()).isOne();
+  }
+
+  @Test
+  void recordExceptionsAsError() {
+    assertThatThrownBy(
+            () ->
+                clusterOperationMetrics.record(
+                    Flavor.KAFKA_CONNECT,
+                    "connect1",
+                    "postNewConnector",
+                    () -> {
+                      throw new ExecutionException("Cannot connect", null);
+                    }))
+        .isInstanceOf(ExecutionException.class);
+
+    assertThat(getTimer("connect1", "kafka_connect", "postNewConnector", "error").count()).isOne();
+    assertThat(
+            meterRegistry
+                .get(ClusterOperationMetrics.ERROR_COUNTER)
+                .tag("cluster", "connect1")
+                .tag("exception", "ExecutionException")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void recordUnknownCluster() {
+    clusterOperationMetrics.record(Flavor.CONFLUENT_CLOUD, null, "listTopics", () -> null);
+
+    assertThat(getTimer("unknown", "confluent_cloud", "listTopics", "success").count()).isOne();
+  }
+
+  @Test
+  void recordSpans() {
+    SimpleTracer tracer = new SimpleTracer();
+    clusterOperationMetrics = new ClusterOperationMetrics(meterRegistry, tracer);
+
+    clusterOperationMetrics.record(
+        Flavor.APACHE_KAFKA,
+        "dev1",
+        "createTopic",
+        () -> {
+          // the admin client calls of the operation run within its span
+          assertThat(tracer.currentSpan().context().spanId())
+              .isEqualTo(tracer.getSpans().getFirst().context().spanId());
+          return ApiResultStatus.SUCCESS.value;
+        });
+
+    SimpleSpan span = tracer.onlySpan();
+    assertThat(span.getName()).isEqualTo("apache_kafka createTopic");
+    assertThat(span.getTags())
+        .containsEntry("cluster", "dev1")
+        .containsEntry("flavor", "apache_kafka")
+        .containsEntry("outcome", "success");
+    assertThat(span.getEndTimestamp()).isNotNull();
+  }
+
+  @Test
+  void recordErrorsOnSpans() {
+    SimpleTracer tracer = new SimpleTracer();
+    clusterOperationMetrics = new ClusterOperationMetrics(meterRegistry, tracer);
+    ExecutionException exception = new ExecutionException("Cannot connect", null);
+
+    assertThatThrownBy(
+            () ->
+                clusterOperationMetrics.record(
+                    Flavor.SCHEMA_REGISTRY,
+                    "sr1",
+                    "registerSchema",
+                    () -> {
+                      throw exception;
+                    }))
+        .isSameAs(exception);
+
+    SimpleSpan span = tracer.onlySpan();
+    assertThat(span.getError()).isSameAs(exception);
+    assertThat(span.getTags()).containsEntry("outcome", "error");
+  }
+
+  private Timer getTimer(String cluster, String flavor, String operation, String outcome) {
+    return meterRegistry
+        .get(ClusterOperationMetrics.OPERATION_TIMER)
+        .tag("cluster", cluster)
+        .tag("flavor", flavor)
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .timer();
+  }
+}
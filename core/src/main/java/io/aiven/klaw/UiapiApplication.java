@@ -2,6 +2,7 @@ package io.aiven.klaw;
 
 import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.tracing.otlp.OtlpAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
@@ -14,7 +15,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
     exclude = {
       DataSourceAutoConfiguration.class,
       DataSourceTransactionManagerAutoConfiguration.class,
-      HibernateJpaAutoConfiguration.class
+      HibernateJpaAutoConfiguration.class,
+      // the span exporters are configured in TracingConfig
+      OtlpAutoConfiguration.class
     })
 public class UiapiApplication {
 
@@ -0,0 +1,24 @@
+package io.aiven.klaw.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ApprovalOutboxConfig {
+
+  @Value("${klaw.approval.async.threads:4}")
+  private int approvalThreads;
+
+  @Bean(name = "approvalTaskExecutor")
+  public AsyncTaskExecutor approvalTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(approvalThreads);
+    threadPoolTaskExecutor.setMaxPoolSize(approvalThreads);
+    threadPoolTaskExecutor.setThreadNamePrefix("kw-approval-");
+    threadPoolTaskExecutor.initialize();
+    return threadPoolTaskExecutor;
+  }
+}
@@ -1,39 +1,92 @@
 package io.aiven.klaw.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.aiven.klaw.helpers.RequestTimings;
+import io.aiven.klaw.helpers.RequestTimings.Component;
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 
+/**
+ * Caffeine caches of the hot read paths. Size and ttl of a cache are set with
+ * klaw.cache.&lt;name&gt;.max.size and klaw.cache.&lt;name&gt;.ttl, their hit and miss counts are
+ * published as cache metrics by the actuator. The time of the lookups is added to the current
+ * request, see {@link RequestTimings}. Entities are not cached here, callers change the ones they
+ * get, the second level cache of ReferenceDataCache hands out copies of them.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+  public static final String TENANTS_INFO_CACHE = "tenantsinfo";
+
+  private static final long DEFAULT_MAX_SIZE = 1000;
+
+  // default ttl of each cache
+  private static final Map<String, Duration> DEFAULT_TTLS = new LinkedHashMap<>();
+
+  static {
+    // holds the count of all topics, which changes without any metadata update
+    DEFAULT_TTLS.put(TENANTS_INFO_CACHE, Duration.ofMinutes(5));
+  }
+
+  @Bean
   @Primary
-  public CacheManager cacheManager() {
-    SimpleCacheManager cacheManager = new SimpleCacheManager();
-    ConcurrentMapCache userCache =
-        new ConcurrentMapCache(
-            "tenantsusernames",
-            Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(60)).build().asMap(),
-            false);
-    ConcurrentMapCache teamsCache =
-        new ConcurrentMapCache(
-            "emailconfigtenants",
-            Caffeine.newBuilder().expireAfterWrite(Duration.ofDays(1)).build().asMap(),
-            false);
-    ConcurrentMapCache tenantsCache =
-        new ConcurrentMapCache(
-            "tenantsinfo",
-            Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).build().asMap(),
-            false);
-
-    cacheManager.setCaches(Arrays.asList(userCache, teamsCache));
+  public CacheManager cacheManager(Environment environment) {
+    CaffeineCacheManager cacheManager =
+        new CaffeineCacheManager() {
+          @Override
+          protected Cache adaptCaffeineCache(
+              String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            return new TimedCaffeineCache(name, cache, isAllowNullValues());
+          }
+        };
+    // no caches other than the ones below are created
+    cacheManager.setCacheNames(Collections.emptyList());
+    DEFAULT_TTLS.forEach(
+        (name, defaultTtl) ->
+            cacheManager.registerCustomCache(
+                name,
+                Caffeine.newBuilder()
+                    .maximumSize(
+                        environment.getProperty(
+                            "klaw.cache." + name + ".max.size", Long.class, DEFAULT_MAX_SIZE))
+                    .expireAfterWrite(
+                        environment.getProperty(
+                            "klaw.cache." + name + ".ttl", Duration.class, defaultTtl))
+                    .recordStats()
+                    .build()));
     return cacheManager;
   }
+
+  // still a CaffeineCache, which the actuator binds the cache metrics of
+  static class TimedCaffeineCache extends CaffeineCache {
+
+    TimedCaffeineCache(
+        String name,
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+        boolean allowNullValues) {
+      super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+      long start = System.nanoTime();
+      try {
+        return super.lookup(key);
+      } finally {
+        RequestTimings.record(Component.CACHE, getName(), System.nanoTime() - start);
+      }
+    }
+  }
 }
@@ -2,22 +2,29 @@ package io.aiven.klaw.config;
 
 import com.zaxxer.hikari.HikariDataSource;
 import io.aiven.klaw.helpers.db.rdbms.JdbcDataSourceCondition;
+import io.aiven.klaw.helpers.db.rdbms.QueryCount;
+import io.aiven.klaw.helpers.db.rdbms.ReferenceDataCache;
+import io.aiven.klaw.helpers.db.rdbms.ReplicaRoutingDataSource;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Properties;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.jpa.HibernatePersistenceProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.scheduling.annotation.Scheduled;
 
 @Configuration
 @EntityScan
@@ -27,15 +34,83 @@ public class DataSourceConfig {
 
   @Autowired Environment environment;
 
+  @Value("${klaw.db.replica.enabled:false}")
+  private boolean replicaEnabled;
+
+  @Value("${klaw.db.replica.max.lag:PT10S}")
+  private Duration replicaMaxLag;
+
+  @Value("${klaw.db.replica.lag.query:}")
+  private String replicaLagQuery;
+
+  @Value("${klaw.hibernate.cache.enabled:true}")
+  private boolean secondLevelCacheEnabled;
+
+  @Value("${klaw.hibernate.cache.region.max.size:1000}")
+  private long cacheRegionMaxSize;
+
+  @Value("${klaw.hibernate.cache.query.max.size:1000}")
+  private long cacheQueryMaxSize;
+
+  @Value("${klaw.hibernate.cache.expiry:PT1H}")
+  private Duration cacheExpiry;
+
+  @Value("${klaw.hibernate.cache.statistics.enabled:true}")
+  private boolean cacheStatisticsEnabled;
+
+  @Value("${klaw.db.query.count.enabled:true}")
+  private boolean queryCountEnabled;
+
+  private ReplicaRoutingDataSource replicaRoutingDataSource;
+
   @Bean(name = "dataSource")
   @Conditional(JdbcDataSourceCondition.class)
   public DataSource dataSource() throws SQLException {
+    DataSource dataSource = createDataSource();
+    // the statements of each request are counted, see RequestTimingFilter
+    return queryCountEnabled ? QueryCount.countStatements(dataSource) : dataSource;
+  }
+
+  private DataSource createDataSource() throws SQLException {
     log.info("Into Hikari datasource config.");
+    final HikariDataSource dataSource =
+        createHikariDataSource(
+            environment.getProperty("spring.datasource.url"),
+            environment.getProperty("spring.datasource.username"),
+            environment.getProperty("spring.datasource.password"));
+
+    log.info("Connecting to RDBMS datasource.");
+    if (!replicaEnabled) {
+      return dataSource;
+    }
+
+    log.info("Connecting to RDBMS replica datasource.");
+    final HikariDataSource replicaDataSource =
+        createHikariDataSource(
+            environment.getProperty("klaw.db.replica.url"),
+            environment.getProperty("klaw.db.replica.username"),
+            environment.getProperty("klaw.db.replica.password"));
+    replicaDataSource.setReadOnly(true);
+    replicaRoutingDataSource =
+        new ReplicaRoutingDataSource(dataSource, replicaDataSource, replicaMaxLag, replicaLagQuery);
+    replicaRoutingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  @Scheduled(fixedDelayString = "${klaw.db.replica.lag.check.interval:PT5S}")
+  void checkReplicaLag() {
+    if (replicaRoutingDataSource != null) {
+      replicaRoutingDataSource.checkReplicaLag();
+    }
+  }
+
+  private HikariDataSource createHikariDataSource(String url, String username, String password)
+      throws SQLException {
     final HikariDataSource dataSource = new HikariDataSource();
     dataSource.setDriverClassName(environment.getProperty("spring.datasource.driver.class"));
-    dataSource.setJdbcUrl(environment.getProperty("spring.datasource.url"));
-    dataSource.setUsername(environment.getProperty("spring.datasource.username"));
-    dataSource.setPassword(environment.getProperty("spring.datasource.password"));
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
     dataSource.setAutoCommit(true);
     dataSource.setConnectionTimeout(
         Long.parseLong(
@@ -51,8 +126,6 @@ public class DataSourceConfig {
         Integer.parseInt(
             Objects.requireNonNull(
                 environment.getProperty("spring.datasource.hikari.maxPoolSize"))));
-
-    log.info("Connecting to RDBMS datasource.");
     return dataSource;
   }
 
@@ -66,7 +139,9 @@ public class DataSourceConfig {
 
   private HibernateJpaVendorAdapter vendorAdaptor() {
     HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
-    vendorAdapter.setShowSql(true);
+    // statements are printed to stdout, the time of the queries is logged by RequestTimingFilter
+    vendorAdapter.setShowSql(
+        environment.getProperty("spring.jpa.hibernate.show_sql", Boolean.class, false));
     return vendorAdapter;
   }
 
@@ -102,6 +177,20 @@ public class DataSourceConfig {
         "hibernate.jdbc.lob.non_contextual_creation",
         environment.getProperty("spring.jpa.hibernate.jdbc.lob.non_contextual_creation"));
 
+    properties.put(
+        "hibernate.cache.use_second_level_cache", String.valueOf(secondLevelCacheEnabled));
+    properties.put("hibernate.cache.use_query_cache", String.valueOf(secondLevelCacheEnabled));
+    if (secondLevelCacheEnabled) {
+      properties.put("hibernate.cache.region.factory_class", "jcache");
+      properties.put(
+          "hibernate.javax.cache.cache_manager",
+          ReferenceDataCache.createCacheManager(
+              cacheRegionMaxSize, cacheQueryMaxSize, cacheExpiry));
+      properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+    }
+    // published as hibernate metrics by the actuator
+    properties.put("hibernate.generate_statistics", String.valueOf(cacheStatisticsEnabled));
+
     return properties;
   }
 }
@@ -3,15 +3,12 @@ package io.aiven.klaw.config;
 import java.util.Properties;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
-@ComponentScan(basePackages = {"io.aiven.klaw"})
 public class EmailConfig {
 
   @Value("${spring.mail.host:null}")
@@ -65,9 +62,4 @@ public class EmailConfig {
     message.setText("This is the test email template for your email:\n%s\n");
     return message;
   }
-
-  @Bean(name = "notificationsThreadPool")
-  public ThreadPoolTaskExecutor getGetThreadPoolExecutor() {
-    return new ThreadPoolTaskExecutor();
-  }
 }
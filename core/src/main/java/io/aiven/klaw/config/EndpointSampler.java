@@ -0,0 +1,101 @@
+package io.aiven.klaw.config;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Samples the traces started by a request with the probability of the first endpoint pattern its
+ * path matches, and the other traces with the default probability. Spans with a parent follow the
+ * decision of the parent, see {@link Sampler#parentBased(Sampler)}.
+ */
+public class EndpointSampler implements Sampler {
+
+  // path of the request handled by the current thread, set ahead of the span of the request
+  private static final ThreadLocal<String> REQUEST_PATH = new ThreadLocal<>();
+
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  private final Sampler defaultSampler;
+
+  private final Map<String, Sampler> endpointSamplers = new LinkedHashMap<>();
+
+  /**
+   * @param endpoints comma separated ant patterns with their probability, e.g.
+   *     /getTopics:0.01,/execTopicRequests:1
+   */
+  public EndpointSampler(double probability, String endpoints) {
+    this.defaultSampler = Sampler.traceIdRatioBased(probability);
+    for (String endpoint : endpoints.split(",")) {
+      if (!endpoint.isBlank()) {
+        int separator = endpoint.lastIndexOf(':');
+        if (separator < 0) {
+          throw new IllegalArgumentException("Expected pattern:probability, got " + endpoint);
+        }
+        endpointSamplers.put(
+            endpoint.substring(0, separator).trim(),
+            Sampler.traceIdRatioBased(Double.parseDouble(endpoint.substring(separator + 1))));
+      }
+    }
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return getSampler(REQUEST_PATH.get())
+        .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+  }
+
+  Sampler getSampler(String path) {
+    if (path != null) {
+      for (Map.Entry<String, Sampler> endpointSampler : endpointSamplers.entrySet()) {
+        if (pathMatcher.match(endpointSampler.getKey(), path)) {
+          return endpointSampler.getValue();
+        }
+      }
+    }
+    return defaultSampler;
+  }
+
+  @Override
+  public String getDescription() {
+    return "EndpointSampler{default=" + defaultSampler.getDescription() + "}";
+  }
+
+  /** Keeps the path of the request for the sampler, has to run ahead of the observation filter. */
+  public static class RequestPathFilter extends OncePerRequestFilter {
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+      REQUEST_PATH.set(urlPathHelper.getPathWithinApplication(request));
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        REQUEST_PATH.remove();
+      }
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwKafkaConnector;
 import io.aiven.klaw.dao.KwProperties;
 import io.aiven.klaw.dao.KwRolesPermissions;
 import io.aiven.klaw.dao.KwTenants;
@@ -14,19 +15,23 @@ import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.EnvGraph;
 import io.aiven.klaw.helpers.KwConstants;
+import io.aiven.klaw.helpers.TrigramSearchIndex;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.TenantConfig;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.EnvModel;
 import io.aiven.klaw.model.response.EnvParams;
 import io.aiven.klaw.service.DefaultDataService;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,9 +40,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.EnumUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -89,6 +100,9 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   // key rolename, value list of permissions per tenant
   private static Map<Integer, Map<String, List<String>>> rolesPermsMapPerTenant;
 
+  // key tenantId, sub key rolename, value permissions of the role as PermissionType mask
+  private static Map<Integer, Map<String, Long>> rolesPermissionMasksPerTenant = new HashMap<>();
+
   // key tenantId, sub key clusterid Pertenant
   private static Map<Integer, Map<Integer, KwClusters>> kwAllClustersPertenant;
 
@@ -108,14 +122,29 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   private static Map<Integer, KwTenantConfigModel> tenantConfig = new HashMap<>();
 
+  // ids, names, orders and associations of the envs, follows the env lists and tenantConfig
+  private static Map<Integer, EnvGraph> envGraphPerTenant = new ConcurrentHashMap<>();
+
   private static Map<Integer, List<Topic>> topicsPerTenant = new HashMap<>();
 
+  // search over topic names and documentation, follows topicsPerTenant
+  private static Map<Integer, TrigramSearchIndex> topicSearchIndexPerTenant =
+      new ConcurrentHashMap<>();
+
+  // search over connector names and documentation, loaded on first search
+  private static Map<Integer, TrigramSearchIndex> connectorSearchIndexPerTenant =
+      new ConcurrentHashMap<>();
+
   private static Map<Integer, Map<Integer, List<UserInfo>>> usersPerTeamAndTenant = new HashMap<>();
 
   private static List<String> reqStatusList;
 
   @Autowired private DefaultDataService defaultDataService;
 
+  // number of tenants read at the same time while starting up
+  @Value("${klaw.startup.load.parallelism:4}")
+  private int startupLoadParallelism;
+
   @Value("${klaw.login.authentication.type}")
   private String authenticationType;
 
@@ -142,6 +171,15 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   private ApplicationContext contextApp;
 
+  // the clusters, envs, teams and topics of a tenant read while starting up
+  private record TenantMetadata(
+      List<KwClusters> kafkaClusters,
+      List<KwClusters> schemaRegistryClusters,
+      List<KwClusters> kafkaConnectClusters,
+      List<Env> envs,
+      List<Team> teams,
+      List<Topic> topics) {}
+
   @Override
   public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
     this.contextApp = applicationContext;
@@ -344,15 +382,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   }
 
   public Optional<String> getAssociatedSchemaEnvIdFromTopicId(String topicEnvId, int tenantId) {
-    String schemaEnvId = null;
-    Map<String, Env> allEnv = getEnvMap(tenantId);
-    if (!allEnv.isEmpty()) {
-      Env topicEnv = allEnv.get(topicEnvId);
-      if (topicEnv.getAssociatedEnv() != null && topicEnv.getAssociatedEnv().getId() != null) {
-        schemaEnvId = topicEnv.getAssociatedEnv().getId();
-      }
-    }
-    return Optional.ofNullable(schemaEnvId);
+    return Optional.ofNullable(getEnvGraph(tenantId).getAssociatedEnvId(topicEnvId));
   }
 
   public List<Env> getKafkaEnvList(int tenantId) {
@@ -485,26 +515,14 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     return allUsersAllTenants;
   }
 
-  private void loadEnvsForAllTenants() {
-    envsOfTenantsMap = new HashMap<>(); // key is tenantid, value is list of envs
-    for (Integer tenantId : tenantMap.keySet()) {
-      loadEnvsForOneTenant(tenantId);
-    }
+  public void loadEnvsForOneTenant(Integer tenantId) {
+    setEnvIdsForOneTenant(tenantId, handleDbRequests.getAllEnvs(tenantId));
   }
 
-  public void loadEnvsForOneTenant(Integer tenantId) {
-    List<Env> kafkaEnvList =
-        handleDbRequests.getAllKafkaEnvs(tenantId).stream()
-            .filter(env -> "true".equals(env.getEnvExists()))
-            .toList();
-    List<Env> schemaEnvList =
-        handleDbRequests.getAllSchemaRegEnvs(tenantId).stream()
-            .filter(env -> "true".equals(env.getEnvExists()))
-            .toList();
-    List<Env> kafkaConnectEnvList =
-        handleDbRequests.getAllKafkaConnectEnvs(tenantId).stream()
-            .filter(env -> "true".equals(env.getEnvExists()))
-            .toList();
+  private void setEnvIdsForOneTenant(Integer tenantId, List<Env> allEnvs) {
+    List<Env> kafkaEnvList = getExistingEnvs(allEnvs, KafkaClustersType.KAFKA);
+    List<Env> schemaEnvList = getExistingEnvs(allEnvs, KafkaClustersType.SCHEMA_REGISTRY);
+    List<Env> kafkaConnectEnvList = getExistingEnvs(allEnvs, KafkaClustersType.KAFKA_CONNECT);
 
     List<String> envList1 = kafkaEnvList.stream().map(Env::getId).collect(Collectors.toList());
     List<String> envList2 = schemaEnvList.stream().map(Env::getId).toList();
@@ -515,40 +533,33 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     envsOfTenantsMap.put(tenantId, envList1);
   }
 
-  private void loadTenantTeamsUsersForAllTenants() {
-    teamsAndAllowedEnvsPerTenant = new HashMap<>();
-    teamIdAndNamePerTenant = new HashMap<>();
-    teamsPerTenant = new HashMap<>();
-    usersPerTenant = new HashMap<>();
-    allUsersAllTenants = new ArrayList<>();
-
-    List<Team> allTeams;
-
-    for (Integer tenantId : tenantMap.keySet()) {
-      allTeams = handleDbRequests.getAllTeams(tenantId);
-      teamsPerTenant.put(tenantId, allTeams);
-      loadTenantTeamsForOneTenant(allTeams, tenantId);
-    }
-
-    loadUsersForAllTenants();
-  }
-
+  // the users of all tenants are read in one query and grouped by tenant and team
   public void loadUsersForAllTenants() {
-    List<UserInfo> allUsers;
-    allUsersAllTenants = new ArrayList<>();
+    Map<Integer, List<UserInfo>> usersOfTenants =
+        handleDbRequests.getAllUsersAllTenants().stream()
+            .collect(Collectors.groupingBy(UserInfo::getTenantId));
+    List<UserInfo> allUsers = new ArrayList<>();
     for (Integer tenantId : tenantMap.keySet()) {
-      allUsers = handleDbRequests.getAllUsersInfo(tenantId);
-      usersPerTenant.put(tenantId, allUsers);
-      allUsersAllTenants.addAll(allUsers);
-
-      List<Team> allTeams = handleDbRequests.getAllTeams(tenantId);
+      List<UserInfo> tenantUsers = usersOfTenants.getOrDefault(tenantId, new ArrayList<>());
+      usersPerTenant.put(tenantId, tenantUsers);
+      allUsers.addAll(tenantUsers);
+
+      Map<Integer, List<UserInfo>> usersOfTeams =
+          tenantUsers.stream()
+              .filter(user -> user.getTeamId() != null)
+              .collect(Collectors.groupingBy(UserInfo::getTeamId));
+      List<Team> allTeams = teamsPerTenant.get(tenantId);
+      if (allTeams == null) {
+        allTeams = handleDbRequests.getAllTeams(tenantId);
+      }
       Map<Integer, List<UserInfo>> innerMap = new HashMap<>();
       for (Team team : allTeams) {
         innerMap.put(
-            team.getTeamId(), handleDbRequests.getAllUsersInfoForTeam(team.getTeamId(), tenantId));
+            team.getTeamId(), usersOfTeams.getOrDefault(team.getTeamId(), new ArrayList<>()));
       }
       usersPerTeamAndTenant.put(tenantId, innerMap);
     }
+    allUsersAllTenants = allUsers;
   }
 
   public List<UserInfo> getUsersPerTeamAndTenant(Integer teamId, Integer tenantId) {
@@ -557,12 +568,54 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   public void loadTopicsForAllTenants() {
     for (Integer tenantId : tenantMap.keySet()) {
-      topicsPerTenant.put(tenantId, handleDbRequests.getAllTopics(tenantId));
+      loadTopicsForOneTenant(tenantId);
     }
   }
 
   public void loadTopicsForOneTenant(int tenantId) {
-    topicsPerTenant.put(tenantId, handleDbRequests.getAllTopics(tenantId));
+    setTopicsForOneTenant(tenantId, handleDbRequests.getAllTopics(tenantId));
+  }
+
+  private void setTopicsForOneTenant(int tenantId, List<Topic> topics) {
+    topicsPerTenant.put(tenantId, topics);
+    // only topics which changed since the last load are re-indexed
+    topicSearchIndexPerTenant
+        .computeIfAbsent(tenantId, k -> new TrigramSearchIndex())
+        .sync(getDocumentationPerName(topics, Topic::getTopicname, Topic::getDocumentation));
+  }
+
+  // re-reads only the given topics, on all their environments, and replaces them in the cache
+  public synchronized void updateTopicsInCache(int tenantId, Collection<String> topicNames) {
+    List<Topic> cachedTopics = topicsPerTenant.get(tenantId);
+    if (cachedTopics == null) {
+      loadTopicsForOneTenant(tenantId);
+      return;
+    }
+    // names without topics are deleted ones, which are removed from the cache
+    Map<String, List<Topic>> updatedTopics = new HashMap<>();
+    for (String topicName : topicNames) {
+      updatedTopics.put(topicName, new ArrayList<>());
+    }
+    for (Topic topic : handleDbRequests.getTopics(topicNames, tenantId)) {
+      updatedTopics.computeIfAbsent(topic.getTopicname(), k -> new ArrayList<>()).add(topic);
+    }
+
+    // readers may be iterating the cached list, so a new one replaces it
+    List<Topic> topics = new ArrayList<>(cachedTopics.size() + updatedTopics.size());
+    for (Topic topic : cachedTopics) {
+      if (!updatedTopics.containsKey(topic.getTopicname())) {
+        topics.add(topic);
+      }
+    }
+    updatedTopics.values().forEach(topics::addAll);
+    topicsPerTenant.put(tenantId, topics);
+
+    TrigramSearchIndex topicSearchIndex = getTopicSearchIndex(tenantId);
+    updatedTopics.forEach(
+        (topicName, topicsOfName) -> {
+          topicSearchIndex.remove(topicName);
+          topicsOfName.forEach(topic -> topicSearchIndex.add(topicName, topic.getDocumentation()));
+        });
   }
 
   public void addTopicToCache(int tenantId, Topic topic) {
@@ -570,6 +623,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     // If the topic does not already exist in the cache simply add it.
     if (!topicsPerTenant.get(tenantId).contains(topic)) {
       topicsPerTenant.get(tenantId).add(topic);
+      getTopicSearchIndex(tenantId).add(topic.getTopicname(), topic.getDocumentation());
     }
   }
 
@@ -577,6 +631,44 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     return topicsPerTenant.get(tenantId);
   }
 
+  public TrigramSearchIndex getTopicSearchIndex(int tenantId) {
+    return topicSearchIndexPerTenant.computeIfAbsent(tenantId, k -> new TrigramSearchIndex());
+  }
+
+  public TrigramSearchIndex getConnectorSearchIndex(int tenantId) {
+    TrigramSearchIndex connectorSearchIndex = connectorSearchIndexPerTenant.get(tenantId);
+    if (connectorSearchIndex == null) {
+      loadConnectorsSearchIndexForOneTenant(tenantId);
+      connectorSearchIndex = connectorSearchIndexPerTenant.get(tenantId);
+    }
+    return connectorSearchIndex;
+  }
+
+  // to be called when connectors of the tenant are created, deleted or documented
+  public void loadConnectorsSearchIndexForOneTenant(int tenantId) {
+    connectorSearchIndexPerTenant
+        .computeIfAbsent(tenantId, k -> new TrigramSearchIndex())
+        .sync(
+            getDocumentationPerName(
+                handleDbRequests.getSyncConnectors(null, null, tenantId),
+                KwKafkaConnector::getConnectorName,
+                KwKafkaConnector::getDocumentation));
+  }
+
+  // a name exists once per environment, each with its own documentation
+  private static <T> Map<String, Set<String>> getDocumentationPerName(
+      List<T> entities, Function<T, String> name, Function<T, String> documentation) {
+    Map<String, Set<String>> documentationPerName = new HashMap<>();
+    for (T entity : entities) {
+      Set<String> docs =
+          documentationPerName.computeIfAbsent(name.apply(entity), k -> new HashSet<>());
+      if (documentation.apply(entity) != null) {
+        docs.add(documentation.apply(entity));
+      }
+    }
+    return documentationPerName;
+  }
+
   public void loadTenantTeamsForOneTenant(List<Team> allTeams, Integer tenantId) {
     if (allTeams == null) {
       allTeams = handleDbRequests.getAllTeams(tenantId);
@@ -607,10 +699,26 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   public void setTenantConfig(TenantConfig config) {
     KwTenantConfigModel tenantModel = config.getTenantModel();
     if (tenantModel != null) {
-      tenantConfig.put(getTenantIdFromName(tenantModel.getTenantName()), tenantModel);
+      Integer tenantId = getTenantIdFromName(tenantModel.getTenantName());
+      tenantConfig.put(tenantId, tenantModel);
+      loadEnvGraphForOneTenant(tenantId);
     }
   }
 
+  public EnvGraph getEnvGraph(int tenantId) {
+    return envGraphPerTenant.getOrDefault(tenantId, EnvGraph.EMPTY);
+  }
+
+  private void loadEnvGraphForOneTenant(Integer tenantId) {
+    envGraphPerTenant.put(
+        tenantId,
+        EnvGraph.build(
+            kafkaEnvListPerTenant.getOrDefault(tenantId, List.of()),
+            schemaRegEnvListPerTenant.getOrDefault(tenantId, List.of()),
+            kafkaConnectEnvListPerTenant.getOrDefault(tenantId, List.of()),
+            tenantConfig.get(tenantId)));
+  }
+
   private void loadKwPropertiesforAllTenants() {
     Map<Integer, Map<String, Map<String, String>>> kwPropertiesMap =
         handleDbRequests.getAllKwProperties();
@@ -655,28 +763,6 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     return tenantFullMap.get(tenantId);
   }
 
-  private void loadClustersForAllTenants() {
-    List<KwClusters> kafkaClusters;
-    List<KwClusters> schemaRegistryClusters;
-    List<KwClusters> kafkaConnectClusters;
-
-    kwKafkaClustersPertenant = new HashMap<>();
-    kwSchemaRegClustersPertenant = new HashMap<>();
-    kwKafkaConnectClustersPertenant = new HashMap<>();
-    kwAllClustersPertenant = new HashMap<>();
-
-    for (Integer tenantId : tenantMap.keySet()) {
-      kafkaClusters = handleDbRequests.getAllClusters(KafkaClustersType.KAFKA, tenantId);
-      schemaRegistryClusters =
-          handleDbRequests.getAllClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId);
-      kafkaConnectClusters =
-          handleDbRequests.getAllClusters(KafkaClustersType.KAFKA_CONNECT, tenantId);
-
-      loadClustersForOneTenant(
-          kafkaClusters, schemaRegistryClusters, kafkaConnectClusters, tenantId);
-    }
-  }
-
   public void loadClustersForOneTenant(
       List<KwClusters> kafkaClusters,
       List<KwClusters> schemaRegistryClusters,
@@ -736,18 +822,79 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     loadTopicsForOneTenant(tenantId);
   }
 
-  private void updateStaticDataToMemory() {
+  private void updateStaticDataToMemory() throws InterruptedException, ExecutionException {
     log.info("updateStaticData Loading all config.");
     loadTenants();
     loadKwPropertiesforAllTenants();
     loadRolesForAllTenants();
-    loadClustersForAllTenants();
     loadRequestTypeStatuses();
-    loadEnvironmentsMapForAllTenants();
-    loadEnvsForAllTenants();
-    loadTenantTeamsUsersForAllTenants();
 
-    loadTopicsForAllTenants();
+    Map<Integer, TenantMetadata> metadataPerTenant = fetchMetadataPerTenant();
+    kwKafkaClustersPertenant = new HashMap<>();
+    kwSchemaRegClustersPertenant = new HashMap<>();
+    kwKafkaConnectClustersPertenant = new HashMap<>();
+    kwAllClustersPertenant = new HashMap<>();
+    envParamsMapPerTenant = new HashMap<>();
+    envsOfTenantsMap = new HashMap<>();
+    teamsAndAllowedEnvsPerTenant = new HashMap<>();
+    teamIdAndNamePerTenant = new HashMap<>();
+    teamsPerTenant = new HashMap<>();
+    usersPerTenant = new HashMap<>();
+    for (Integer tenantId : tenantMap.keySet()) {
+      TenantMetadata metadata = metadataPerTenant.get(tenantId);
+      loadClustersForOneTenant(
+          metadata.kafkaClusters(),
+          metadata.schemaRegistryClusters(),
+          metadata.kafkaConnectClusters(),
+          tenantId);
+      setEnvMapForOneTenant(tenantId, metadata.envs());
+      setEnvIdsForOneTenant(tenantId, metadata.envs());
+      teamsPerTenant.put(tenantId, metadata.teams());
+      loadTenantTeamsForOneTenant(metadata.teams(), tenantId);
+    }
+    log.info("Finished loading cluster parameters.");
+    loadUsersForAllTenants();
+
+    for (Integer tenantId : tenantMap.keySet()) {
+      setTopicsForOneTenant(tenantId, metadataPerTenant.get(tenantId).topics());
+    }
+  }
+
+  // the tenants are read at the same time, the in memory maps are filled on the calling thread
+  private Map<Integer, TenantMetadata> fetchMetadataPerTenant()
+      throws InterruptedException, ExecutionException {
+    Map<Integer, TenantMetadata> metadataPerTenant = new HashMap<>();
+    int threads = Math.min(startupLoadParallelism, tenantMap.size());
+    if (threads <= 1) {
+      for (Integer tenantId : tenantMap.keySet()) {
+        metadataPerTenant.put(tenantId, fetchTenantMetadata(tenantId));
+      }
+      return metadataPerTenant;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      Map<Integer, Future<TenantMetadata>> futures = new HashMap<>();
+      for (Integer tenantId : tenantMap.keySet()) {
+        futures.put(tenantId, executor.submit(() -> fetchTenantMetadata(tenantId)));
+      }
+      for (Map.Entry<Integer, Future<TenantMetadata>> future : futures.entrySet()) {
+        metadataPerTenant.put(future.getKey(), future.getValue().get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return metadataPerTenant;
+  }
+
+  private TenantMetadata fetchTenantMetadata(int tenantId) {
+    return new TenantMetadata(
+        handleDbRequests.getAllClusters(KafkaClustersType.KAFKA, tenantId),
+        handleDbRequests.getAllClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId),
+        handleDbRequests.getAllClusters(KafkaClustersType.KAFKA_CONNECT, tenantId),
+        handleDbRequests.getAllEnvs(tenantId),
+        handleDbRequests.getAllTeams(tenantId),
+        handleDbRequests.getAllTopics(tenantId));
   }
 
   private void loadRequestTypeStatuses() {
@@ -757,28 +904,15 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     }
   }
 
-  private void loadEnvironmentsMapForAllTenants() {
-    envParamsMapPerTenant = new HashMap<>();
-
-    for (Integer tenantId : tenantMap.keySet()) {
-      loadEnvMapForOneTenant(tenantId);
-    }
-    log.info("Finished loading cluster parameters.");
+  public void loadEnvMapForOneTenant(Integer tenantId) {
+    setEnvMapForOneTenant(tenantId, handleDbRequests.getAllEnvs(tenantId));
   }
 
-  public void loadEnvMapForOneTenant(Integer tenantId) {
-    List<Env> kafkaEnvList =
-        handleDbRequests.getAllKafkaEnvs(tenantId).stream()
-            .filter(env -> "true".equals(env.getEnvExists()))
-            .collect(Collectors.toList());
-    List<Env> schemaEnvList =
-        handleDbRequests.getAllSchemaRegEnvs(tenantId).stream()
-            .filter(env -> "true".equals(env.getEnvExists()))
-            .collect(Collectors.toList());
-    List<Env> kafkaConnectEnvList =
-        handleDbRequests.getAllKafkaConnectEnvs(tenantId).stream()
-            .filter(env -> "true".equals(env.getEnvExists()))
-            .collect(Collectors.toList());
+  // the envs of each type are split from all envs of the tenant, which are read once
+  private void setEnvMapForOneTenant(Integer tenantId, List<Env> allEnvs) {
+    List<Env> kafkaEnvList = getExistingEnvs(allEnvs, KafkaClustersType.KAFKA);
+    List<Env> schemaEnvList = getExistingEnvs(allEnvs, KafkaClustersType.SCHEMA_REGISTRY);
+    List<Env> kafkaConnectEnvList = getExistingEnvs(allEnvs, KafkaClustersType.KAFKA_CONNECT);
     List<Env> allEnvList = new ArrayList<>();
     allEnvList.addAll(kafkaEnvList);
     allEnvList.addAll(schemaEnvList);
@@ -800,10 +934,15 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     }
     envParamsMapPerTenant.put(tenantId, envParamsMap);
 
-    //
-    List<Env> allEnvs = handleDbRequests.getAllEnvs(tenantId);
     envMapPerTenant.put(
         tenantId, allEnvs.stream().collect(Collectors.toMap(Env::getId, Function.identity())));
+    loadEnvGraphForOneTenant(tenantId);
+  }
+
+  private static List<Env> getExistingEnvs(List<Env> allEnvs, KafkaClustersType type) {
+    return allEnvs.stream()
+        .filter(env -> type.value.equals(env.getType()) && "true".equals(env.getEnvExists()))
+        .collect(Collectors.toList());
   }
 
   public Map<String, List<String>> getRolesPermissionsPerTenant(int tenantId) {
@@ -839,6 +978,29 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
       rolesPermsMap.put(rolesPermission.getRoleId(), tmpList);
     }
     rolesPermsMapPerTenant.put(tenantId, rolesPermsMap);
+
+    Map<String, Long> rolesPermissionMasks = new HashMap<>();
+    rolesPermsMap.forEach(
+        (role, permissions) -> rolesPermissionMasks.put(role, getPermissionMask(permissions)));
+    rolesPermissionMasksPerTenant.put(tenantId, rolesPermissionMasks);
+  }
+
+  // permissions of the role, 0 if the tenant or role is unknown
+  public long getRolePermissionMask(int tenantId, String role) {
+    return rolesPermissionMasksPerTenant
+        .getOrDefault(tenantId, Collections.emptyMap())
+        .getOrDefault(role, 0L);
+  }
+
+  private static long getPermissionMask(List<String> permissions) {
+    long permissionMask = 0L;
+    for (String permission : permissions) {
+      PermissionType permissionType = EnumUtils.getEnum(PermissionType.class, permission);
+      if (permissionType != null) {
+        permissionMask |= permissionType.mask();
+      }
+    }
+    return permissionMask;
   }
 
   public Map<Integer, List<EnvModel>> getEnvModelsClustersStatusAllTenants() {
@@ -888,13 +1050,18 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     usersPerTenant.remove(tenantId);
     kwPropertiesMapPerTenant.remove(tenantId);
     rolesPermsMapPerTenant.remove(tenantId);
+    rolesPermissionMasksPerTenant.remove(tenantId);
     envParamsMapPerTenant.remove(tenantId);
+    envGraphPerTenant.remove(tenantId);
 
     kwKafkaClustersPertenant.remove(tenantId);
     kwSchemaRegClustersPertenant.remove(tenantId);
     kwKafkaConnectClustersPertenant.remove(tenantId);
     kwAllClustersPertenant.remove(tenantId);
 
+    topicSearchIndexPerTenant.remove(tenantId);
+    connectorSearchIndexPerTenant.remove(tenantId);
+
     return ApiResultStatus.SUCCESS.value;
   }
 }
@@ -3,9 +3,13 @@ package io.aiven.klaw.config;
 import static io.aiven.klaw.error.KlawErrorMessages.MIGRATION_ERR_101;
 
 import io.aiven.klaw.dao.DataVersion;
+import io.aiven.klaw.dao.KwTenants;
 import io.aiven.klaw.dao.migration.DataMigration;
 import io.aiven.klaw.dao.migration.MigrationRunner;
+import io.aiven.klaw.dao.migration.MigrationScope;
+import io.aiven.klaw.dao.migration.PendingWork;
 import io.aiven.klaw.error.KlawDataMigrationException;
+import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
 import io.aiven.klaw.repository.DataVersionRepo;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -16,6 +20,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -23,12 +28,11 @@ import liquibase.integration.spring.SpringLiquibase;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.apache.commons.lang3.tuple.Pair;
-import org.reflections.Reflections;
-import org.reflections.util.ConfigurationBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
 
 @Configuration
 @Slf4j
@@ -54,6 +58,8 @@ public class MigrationUtility {
 
   @Autowired private SpringLiquibase liquibase;
 
+  @Autowired private SelectDataJdbc selectDataJdbc;
+
   @SchedulerLock(
       name = "TaskScheduler_MigrationUtility",
       lockAtLeastFor = "${klaw.shedlock.lockAtLeastFor:PT30M}",
@@ -98,9 +104,14 @@ public class MigrationUtility {
 
   private SortedMap<Integer, Pair<String, Class<?>>> getAllDataMigrationClasses(
       DataVersion currentDataVersion, String latestDataVersion) {
-    Reflections reflections =
-        new Reflections(new ConfigurationBuilder().forPackages(packageToScan));
-    Set<Class<?>> classes = reflections.getTypesAnnotatedWith(DataMigration.class);
+    // the migrations are beans, so the component scan has found them already
+    Set<Class<?>> classes = new HashSet<>();
+    for (Object migration : context.getBeansWithAnnotation(DataMigration.class).values()) {
+      Class<?> migrationClass = ClassUtils.getUserClass(migration);
+      if (migrationClass.getPackageName().startsWith(packageToScan)) {
+        classes.add(migrationClass);
+      }
+    }
     SortedMap<Integer, Pair<String, Class<?>>> orderedMapOfMigrationInstructions =
         orderApplicableMigrationInstructions(
             latestDataVersion, getLatestOrderExecuted(currentDataVersion), classes);
@@ -185,9 +196,13 @@ public class MigrationUtility {
 
           Object bd = context.getBean(getNameFromClass(runner));
 
-          Object statusObj = method.invoke(bd);
-
-          Boolean status = (Boolean) statusObj;
+          Boolean status;
+          if (runner.getAnnotation(DataMigration.class).scope() == MigrationScope.TENANT) {
+            status = migrateTenantsWithPendingWork(runner, method, bd);
+          } else {
+            Object statusObj = method.invoke(bd);
+            status = (Boolean) statusObj;
+          }
           // If not completed successfully do not continue
           log.info("Execution of {} with status {}", bd.getClass(), status);
 
@@ -203,6 +218,36 @@ public class MigrationUtility {
     }
   }
 
+  /**
+   * Invokes the runner of a tenant scoped migration once per tenant. Tenants for which the method
+   * annotated with PendingWork finds nothing to migrate are skipped.
+   *
+   * @return false as soon as the migration of a tenant does not complete successfully.
+   */
+  private boolean migrateTenantsWithPendingWork(Class<?> runner, Method runnerMethod, Object bd)
+      throws IllegalAccessException, InvocationTargetException {
+    Method pendingWorkMethod = null;
+    for (Method method : runner.getDeclaredMethods()) {
+      if (method.isAnnotationPresent(PendingWork.class)) {
+        pendingWorkMethod = method;
+      }
+    }
+
+    int skippedTenants = 0;
+    for (KwTenants tenant : selectDataJdbc.getTenants()) {
+      int tenantId = tenant.getTenantId();
+      if (pendingWorkMethod != null && !(Boolean) pendingWorkMethod.invoke(bd, tenantId)) {
+        skippedTenants++;
+        continue;
+      }
+      if (!(Boolean) runnerMethod.invoke(bd, tenantId)) {
+        return false;
+      }
+    }
+    log.info("Skipped {} tenants without pending work for {}", skippedTenants, bd.getClass());
+    return true;
+  }
+
   /**
    * This class expects that the instantiated name of the class is the same as the declared name of
    * the class if case is ignored.
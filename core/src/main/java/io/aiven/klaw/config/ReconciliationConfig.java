@@ -0,0 +1,24 @@
+package io.aiven.klaw.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReconciliationConfig {
+
+  @Value("${klaw.reconciliation.threads:4}")
+  private int reconciliationThreads;
+
+  @Bean(name = "reconciliationTaskExecutor")
+  public AsyncTaskExecutor reconciliationTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(reconciliationThreads);
+    threadPoolTaskExecutor.setMaxPoolSize(reconciliationThreads);
+    threadPoolTaskExecutor.setThreadNamePrefix("kw-recon-");
+    threadPoolTaskExecutor.initialize();
+    return threadPoolTaskExecutor;
+  }
+}
@@ -0,0 +1,43 @@
+package io.aiven.klaw.config;
+
+import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * Runs the lookups of {@link SelectDataJdbc} in read only transactions when a read replica is
+ * configured, so that {@link io.aiven.klaw.helpers.db.rdbms.ReplicaRoutingDataSource} sends them to
+ * the replica. Without a replica the lookups run as before, in the transaction of the caller if
+ * there is one.
+ */
+@Configuration
+@ConditionalOnProperty(name = "klaw.db.replica.enabled", havingValue = "true")
+public class ReplicaReadsConfig {
+
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static Advisor replicaReadsAdvisor(BeanFactory beanFactory) {
+    DefaultTransactionAttribute readOnly = new DefaultTransactionAttribute();
+    readOnly.setReadOnly(true);
+    MatchAlwaysTransactionAttributeSource attributeSource =
+        new MatchAlwaysTransactionAttributeSource();
+    attributeSource.setTransactionAttribute(readOnly);
+    // the transaction manager is looked up on the first lookup
+    TransactionInterceptor transactionInterceptor = new TransactionInterceptor();
+    transactionInterceptor.setTransactionAttributeSource(attributeSource);
+    transactionInterceptor.setBeanFactory(beanFactory);
+    return new DefaultPointcutAdvisor(
+        new ComposablePointcut(new RootClassFilter(SelectDataJdbc.class)), transactionInterceptor);
+  }
+}
@@ -0,0 +1,31 @@
+package io.aiven.klaw.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+@Configuration
+public class ReportsConfig {
+
+  @Value("${klaw.reports.threads:4}")
+  private int reportThreads;
+
+  @Value("${klaw.reports.queue.capacity:50}")
+  private int reportQueueCapacity;
+
+  // Report sections are resolved for the logged-in user, so the security context has to travel
+  // with every task submitted to this pool.
+  @Bean(name = "reportsTaskExecutor")
+  public AsyncTaskExecutor reportsTaskExecutor() {
+    ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(reportThreads);
+    threadPoolTaskExecutor.setMaxPoolSize(reportThreads);
+    threadPoolTaskExecutor.setQueueCapacity(reportQueueCapacity);
+    threadPoolTaskExecutor.setThreadNamePrefix("kw-reports-");
+    threadPoolTaskExecutor.initialize();
+    return new DelegatingSecurityContextAsyncTaskExecutor(threadPoolTaskExecutor);
+  }
+}
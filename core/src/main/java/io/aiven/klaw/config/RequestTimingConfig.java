@@ -0,0 +1,113 @@
+package io.aiven.klaw.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.helpers.RequestTimings;
+import io.aiven.klaw.helpers.RequestTimings.Component;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Records the time of each request in the repository methods, the cluster api, the caches and the
+ * json serialization, see {@link RequestTimingFilter}. The cluster api calls and cache lookups are
+ * recorded by {@link io.aiven.klaw.service.ClusterApiService} and {@link CacheConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "klaw.request.timing.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class RequestTimingConfig {
+
+  @Bean
+  public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+      MeterRegistry meterRegistry,
+      @Value("${klaw.request.timing.server.header:false}") boolean serverTimingHeader,
+      @Value("${klaw.request.timing.slow.threshold:PT2S}") Duration slowThreshold,
+      @Value("${klaw.request.timing.sample.rate:0}") double sampleRate,
+      @Value("${klaw.request.queries.warn.threshold:50}") int queriesThreshold) {
+    FilterRegistrationBean<RequestTimingFilter> registration =
+        new FilterRegistrationBean<>(
+            new RequestTimingFilter(
+                meterRegistry, serverTimingHeader, slowThreshold, sampleRate, queriesThreshold));
+    // ahead of spring security, whose authentication reads the users from the db
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    return registration;
+  }
+
+  /** Adds the time of each repository method to the current request. */
+  @Bean
+  public static BeanPostProcessor repositoryTimingPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+          repositoryFactoryBean.addRepositoryFactoryCustomizer(
+              repositoryFactory ->
+                  repositoryFactory.addInvocationListener(
+                      invocation ->
+                          RequestTimings.record(
+                              Component.DB,
+                              invocation.getRepositoryInterface().getSimpleName()
+                                  + "."
+                                  + invocation.getMethod().getName(),
+                              invocation.getDuration(TimeUnit.NANOSECONDS))));
+        }
+        return bean;
+      }
+    };
+  }
+
+  /** The json converter of the api, which adds its read and write time to the current request. */
+  @Bean
+  public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new MappingJackson2HttpMessageConverter(objectMapper) {
+      @Override
+      public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+          throws IOException {
+        long start = System.nanoTime();
+        try {
+          return super.read(type, contextClass, inputMessage);
+        } finally {
+          RequestTimings.record(Component.SERIALIZATION, null, System.nanoTime() - start);
+        }
+      }
+
+      @Override
+      protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+          throws IOException {
+        long start = System.nanoTime();
+        try {
+          return super.readInternal(clazz, inputMessage);
+        } finally {
+          RequestTimings.record(Component.SERIALIZATION, null, System.nanoTime() - start);
+        }
+      }
+
+      @Override
+      protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+          throws IOException {
+        long start = System.nanoTime();
+        try {
+          super.writeInternal(object, type, outputMessage);
+        } finally {
+          RequestTimings.record(Component.SERIALIZATION, null, System.nanoTime() - start);
+        }
+      }
+    };
+  }
+}
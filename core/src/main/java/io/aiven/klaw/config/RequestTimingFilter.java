@@ -0,0 +1,208 @@
+package io.aiven.klaw.config;
+
+import io.aiven.klaw.helpers.RequestTimings;
+import io.aiven.klaw.helpers.RequestTimings.Component;
+import io.aiven.klaw.helpers.db.rdbms.QueryCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Breaks down the time of each request into db, cluster api, cache, serialization and the remaining
+ * app time, published as the timer klaw.request.time per uri and component. The statements run on
+ * the database are counted as klaw.request.queries. Slow requests, requests running more statements
+ * than the threshold and a sample of the requests are logged with the time of each repository
+ * method and cluster api call.
+ */
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+  public static final String REQUEST_TIMER = "klaw.request.time";
+
+  public static final String REQUEST_QUERIES = "klaw.request.queries";
+
+  static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+  static final String APP = "app";
+
+  private static final String TOTAL = "total";
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  // operations listed in the log of a request, the slowest first
+  private static final int LOGGED_OPERATIONS = 10;
+
+  private final MeterRegistry meterRegistry;
+
+  private final boolean serverTimingHeader;
+
+  private final Duration slowThreshold;
+
+  private final double sampleRate;
+
+  private final int queriesThreshold;
+
+  public RequestTimingFilter(
+      MeterRegistry meterRegistry,
+      boolean serverTimingHeader,
+      Duration slowThreshold,
+      double sampleRate,
+      int queriesThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.serverTimingHeader = serverTimingHeader;
+    this.slowThreshold = slowThreshold;
+    this.sampleRate = sampleRate;
+    this.queriesThreshold = queriesThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestTimings requestTimings = RequestTimings.start();
+    QueryCount queryCount = QueryCount.start();
+    // the header has to be set before the body is written, so the body is buffered
+    ContentCachingResponseWrapper bufferedResponse =
+        serverTimingHeader ? new ContentCachingResponseWrapper(response) : null;
+    try {
+      filterChain.doFilter(request, bufferedResponse == null ? response : bufferedResponse);
+    } finally {
+      RequestTimings.stop();
+      queryCount.close();
+      long totalNanos = requestTimings.getElapsedNanos();
+      String uri = getUri(request);
+      recordTimers(request.getMethod(), uri, requestTimings, totalNanos);
+      meterRegistry
+          .summary(REQUEST_QUERIES, "method", request.getMethod(), "uri", uri)
+          .record(queryCount.getStatements());
+      // the path itself in the logs, e.g. of the login, which is not mapped to a handler
+      logTimings(
+          request.getMethod(),
+          request.getRequestURI(),
+          requestTimings,
+          totalNanos,
+          queryCount.getStatements());
+      if (bufferedResponse != null) {
+        bufferedResponse.setHeader(
+            SERVER_TIMING_HEADER, getServerTiming(requestTimings, totalNanos));
+        bufferedResponse.copyBodyToResponse();
+      }
+    }
+  }
+
+  private void recordTimers(
+      String method, String uri, RequestTimings requestTimings, long totalNanos) {
+    for (Component component : Component.values()) {
+      getTimer(method, uri, component.value)
+          .record(requestTimings.getNanos(component), TimeUnit.NANOSECONDS);
+    }
+    getTimer(method, uri, APP)
+        .record(getAppNanos(requestTimings, totalNanos), TimeUnit.NANOSECONDS);
+  }
+
+  private Timer getTimer(String method, String uri, String component) {
+    return meterRegistry.timer(REQUEST_TIMER, "method", method, "uri", uri, "component", component);
+  }
+
+  private void logTimings(
+      String method, String path, RequestTimings requestTimings, long totalNanos, int queries) {
+    boolean slow = totalNanos >= slowThreshold.toNanos();
+    boolean manyQueries = queriesThreshold > 0 && queries > queriesThreshold;
+    if (!slow
+        && !manyQueries
+        && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+      return;
+    }
+    StringJoiner components = new StringJoiner(", ");
+    for (Component component : Component.values()) {
+      components.add(component.value + " " + toMillis(requestTimings.getNanos(component)) + " ms");
+    }
+    components.add(APP + " " + toMillis(getAppNanos(requestTimings, totalNanos)) + " ms");
+
+    StringJoiner operations = new StringJoiner(", ");
+    requestTimings.getOperations().entrySet().stream()
+        .sorted(
+            Map.Entry.comparingByValue(
+                Comparator.comparingLong(LongSummaryStatistics::getSum).reversed()))
+        .limit(LOGGED_OPERATIONS)
+        .forEach(
+            operation ->
+                operations.add(
+                    operation.getKey()
+                        + " "
+                        + operation.getValue().getCount()
+                        + "x "
+                        + toMillis(operation.getValue().getSum())
+                        + " ms"));
+
+    if (slow || manyQueries) {
+      log.warn(
+          "{} {} {} took {} ms and {} queries: {} [{}]",
+          slow ? "Slow request" : "Request over the query threshold",
+          method,
+          path,
+          toMillis(totalNanos),
+          queries,
+          components,
+          operations);
+    } else {
+      log.info(
+          "Request {} {} took {} ms and {} queries: {} [{}]",
+          method,
+          path,
+          toMillis(totalNanos),
+          queries,
+          components,
+          operations);
+    }
+  }
+
+  static String getServerTiming(RequestTimings requestTimings, long totalNanos) {
+    StringJoiner serverTiming = new StringJoiner(", ");
+    for (Component component : Component.values()) {
+      serverTiming.add(getMetric(component.value, requestTimings.getNanos(component)));
+    }
+    serverTiming.add(getMetric(APP, getAppNanos(requestTimings, totalNanos)));
+    serverTiming.add(getMetric(TOTAL, totalNanos));
+    return serverTiming.toString();
+  }
+
+  private static String getMetric(String name, long nanos) {
+    return String.format(Locale.ROOT, "%s;dur=%.1f", name, nanos / 1_000_000.0);
+  }
+
+  // the time not spent in any of the components
+  private static long getAppNanos(RequestTimings requestTimings, long totalNanos) {
+    long componentNanos = 0;
+    for (Component component : Component.values()) {
+      componentNanos += requestTimings.getNanos(component);
+    }
+    return Math.max(0, totalNanos - componentNanos);
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  // the mapped pattern of the request, which keeps the path variables out of the tags
+  private static String getUri(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null ? UNKNOWN_URI : pattern.toString();
+  }
+}
@@ -0,0 +1,55 @@
+package io.aiven.klaw.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * OpenTelemetry tracing of the requests, enabled with management.tracing.enabled. The trace context
+ * is sent along with the calls to the cluster api, which continues the traces down to the clusters.
+ * Spans are exported to an otlp collector, or logged with klaw.tracing.exporter=logging.
+ */
+@Configuration
+@ConditionalOnEnabledTracing
+public class TracingConfig {
+
+  @Bean
+  @ConditionalOnProperty(
+      name = "klaw.tracing.exporter",
+      havingValue = "otlp",
+      matchIfMissing = true)
+  public SpanExporter otlpSpanExporter(
+      @Value("${klaw.tracing.otlp.endpoint:http://localhost:4318/v1/traces}") String endpoint) {
+    return OtlpHttpSpanExporter.builder().setEndpoint(endpoint).build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "klaw.tracing.exporter", havingValue = "logging")
+  public SpanExporter loggingSpanExporter() {
+    return LoggingSpanExporter.create();
+  }
+
+  @Bean
+  public Sampler otelSampler(
+      @Value("${management.tracing.sampling.probability:0.1}") double probability,
+      @Value("${klaw.tracing.sampling.endpoints:}") String endpoints) {
+    return Sampler.parentBased(new EndpointSampler(probability, endpoints));
+  }
+
+  @Bean
+  public FilterRegistrationBean<EndpointSampler.RequestPathFilter> requestPathFilter() {
+    FilterRegistrationBean<EndpointSampler.RequestPathFilter> registration =
+        new FilterRegistrationBean<>(new EndpointSampler.RequestPathFilter());
+    // ahead of the observation filter, which starts the span of the request
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
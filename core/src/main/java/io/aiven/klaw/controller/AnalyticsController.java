@@ -1,17 +1,20 @@
 package io.aiven.klaw.controller;
 
+import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.model.charts.TeamOverview;
 import io.aiven.klaw.model.response.AclsCountPerEnv;
 import io.aiven.klaw.model.response.KwReport;
+import io.aiven.klaw.model.response.KwReportProgress;
 import io.aiven.klaw.model.response.TopicsCountPerEnv;
 import io.aiven.klaw.service.AnalyticsControllerService;
-import java.io.File;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/")
@@ -69,19 +73,45 @@ public class AnalyticsController {
       value = "/getKwReport",
       method = RequestMethod.GET,
       produces = {MediaType.APPLICATION_JSON_VALUE})
-  public ResponseEntity<KwReport> getKwReport() {
-    File file = chartsProcessor.generateReport();
-    try {
-      byte[] arr = FileUtils.readFileToByteArray(file);
-      String str = Base64.getEncoder().encodeToString(arr);
-      KwReport kwReport = new KwReport();
-      kwReport.setData(str);
-      kwReport.setFilename(file.getName());
+  public ResponseEntity<KwReport> getKwReport() throws KlawException {
+    ByteArrayOutputStream reportStream = new ByteArrayOutputStream();
+    chartsProcessor.generateReport(reportStream);
+    KwReport kwReport = new KwReport();
+    kwReport.setData(Base64.getEncoder().encodeToString(reportStream.toByteArray()));
+    kwReport.setFilename(chartsProcessor.getReportFileName());
 
-      return new ResponseEntity<>(kwReport, HttpStatus.OK);
-    } catch (IOException e) {
-      log.error("Exception:", e);
-    }
-    return null;
+    return new ResponseEntity<>(kwReport, HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      value = "/downloadKwReport",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_OCTET_STREAM_VALUE})
+  public ResponseEntity<StreamingResponseBody> downloadKwReport() {
+    StreamingResponseBody responseBody =
+        outputStream -> {
+          try {
+            chartsProcessor.generateReport(outputStream);
+          } catch (KlawException e) {
+            throw new IOException(e);
+          }
+        };
+    return ResponseEntity.ok()
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename(chartsProcessor.getReportFileName())
+                .build()
+                .toString())
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .body(responseBody);
+  }
+
+  @RequestMapping(
+      value = "/getKwReportProgress",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<KwReportProgress> getKwReportProgress() {
+    return new ResponseEntity<>(chartsProcessor.getReportProgress(), HttpStatus.OK);
   }
 }
@@ -0,0 +1,39 @@
+package io.aiven.klaw.controller;
+
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.response.ReconResultResponse;
+import io.aiven.klaw.service.ReconciliationService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/")
+public class ReconciliationController {
+
+  @Autowired private ReconciliationService reconciliationService;
+
+  @RequestMapping(
+      value = "/getReconciliationResults",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<List<ReconResultResponse>> getReconciliationResults(
+      @RequestParam(value = "env", required = false) String envId) {
+    return new ResponseEntity<>(
+        reconciliationService.getReconciliationResults(envId), HttpStatus.OK);
+  }
+
+  @PostMapping(
+      value = "/triggerReconciliation",
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<ApiResponse> triggerReconciliation() {
+    return new ResponseEntity<>(reconciliationService.triggerReconciliation(), HttpStatus.OK);
+  }
+}
@@ -4,7 +4,10 @@ import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawRestException;
 import io.aiven.klaw.helpers.ValidationHelper;
 import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.enums.RequestEntityType;
 import io.aiven.klaw.model.requests.RequestVerdict;
+import io.aiven.klaw.model.response.ApprovalOutboxResponse;
+import io.aiven.klaw.service.ApprovalOutboxService;
 import io.aiven.klaw.service.RequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -20,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -29,6 +33,8 @@ public class RequestController {
 
   @Autowired private RequestService service;
 
+  @Autowired private ApprovalOutboxService approvalOutboxService;
+
   @RequestMapping(
       value = "/approve",
       method = RequestMethod.POST,
@@ -160,6 +166,36 @@ public class RequestController {
     return wrapInResponseEntity(service.processDeleteRequests(verdict));
   }
 
+  @RequestMapping(
+      value = "/approvalStatus",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  @Operation(
+      summary = "Status of a queued approval",
+      description =
+          "Returns the state of an approval queued for execution on the cluster, when approvals are executed asynchronously",
+      responses = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApprovalOutboxResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            description = "Not Found",
+            responseCode = "404")
+      })
+  public ResponseEntity<ApprovalOutboxResponse> getApprovalStatus(
+      @RequestParam("requestEntityType") RequestEntityType requestEntityType,
+      @RequestParam("reqId") int reqId) {
+    ApprovalOutboxResponse approvalStatus =
+        approvalOutboxService.getApprovalStatus(requestEntityType, reqId);
+    return approvalStatus == null
+        ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
+        : new ResponseEntity<>(approvalStatus, HttpStatus.OK);
+  }
+
   private ResponseEntity<List<ApiResponse>> wrapInResponseEntity(List<ApiResponse> obj) {
     int failure = 0, success = 0;
     HttpStatus status;
@@ -4,6 +4,7 @@ import io.aiven.klaw.helpers.EnvParamsConverter;
 import io.aiven.klaw.helpers.EnvTagConverter;
 import io.aiven.klaw.model.enums.ClusterStatus;
 import io.aiven.klaw.model.response.EnvParams;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -16,11 +17,15 @@ import java.io.Serializable;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @ToString
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "kwenv")
 @IdClass(EnvID.class)
 @Table(name = "kwenv")
 public class Env implements Serializable {
@@ -0,0 +1,70 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Approved request waiting to be executed against its cluster, one row per request. */
+@ToString
+@Getter
+@Setter
+@Entity
+@IdClass(KwApprovalOutboxID.class)
+@Table(name = "kwapprovaloutbox")
+public class KwApprovalOutbox implements Serializable {
+
+  @Id
+  @Column(name = "tenantid")
+  private Integer tenantId;
+
+  // one of RequestEntityType TOPIC, ACL, SCHEMA, CONNECTOR
+  @Id
+  @Column(name = "entitytype")
+  private String entityType;
+
+  @Id
+  @Column(name = "reqno")
+  private Integer reqNo;
+
+  @Column(name = "env")
+  private String environment;
+
+  // ApprovalOutboxStatus
+  @Column(name = "status")
+  private String status;
+
+  @Column(name = "approver")
+  private String approver;
+
+  @Column(name = "loginurl")
+  private String loginUrl;
+
+  @Column(name = "attempts")
+  private Integer attempts;
+
+  // due time of a pending entry, end of the lease of a running one
+  @Column(name = "nextattempttime")
+  private Timestamp nextAttemptTime;
+
+  @Column(name = "message")
+  private String message;
+
+  @Column(name = "queuedtime")
+  private Timestamp queuedTime;
+
+  @Column(name = "completedtime")
+  private Timestamp completedTime;
+
+  // instances claim an entry by updating it, a concurrent claim fails on the version
+  @Version
+  @Column(name = "version")
+  private Integer version;
+}
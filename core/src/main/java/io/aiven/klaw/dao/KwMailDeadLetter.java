@@ -0,0 +1,45 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Mail to one recipient which could not be sent, kept after its last attempt. */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(name = "kwmaildeadletters")
+public class KwMailDeadLetter implements Serializable {
+
+  @Id
+  @Column(name = "id")
+  private String id;
+
+  @Column(name = "tenantid")
+  private Integer tenantId;
+
+  @Column(name = "recipient")
+  private String recipient;
+
+  @Column(name = "subject")
+  private String subject;
+
+  @Column(name = "content")
+  private String content;
+
+  @Column(name = "attempts")
+  private Integer attempts;
+
+  @Column(name = "error")
+  private String error;
+
+  @Column(name = "createdtime")
+  private Timestamp createdTime;
+}
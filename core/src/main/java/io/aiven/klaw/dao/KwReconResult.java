@@ -0,0 +1,65 @@
+package io.aiven.klaw.dao;
+
+import io.aiven.klaw.helpers.ReconDetailsConverter;
+import io.aiven.klaw.model.ReconDetail;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@ToString
+@Getter
+@Setter
+@Entity
+@IdClass(KwReconResultID.class)
+@Table(name = "kwreconresults")
+public class KwReconResult implements Serializable {
+
+  @Id
+  @Column(name = "tenantid")
+  private Integer tenantId;
+
+  @Id
+  @Column(name = "env")
+  private String environment;
+
+  // one of RequestEntityType TOPIC, ACL, SCHEMA, CONNECTOR
+  @Id
+  @Column(name = "entitytype")
+  private String entityType;
+
+  @Column(name = "status")
+  private String status;
+
+  @Column(name = "clustercount")
+  private Integer clusterCount;
+
+  @Column(name = "klawcount")
+  private Integer klawCount;
+
+  // exists on the cluster, not in klaw
+  @Column(name = "addedcount")
+  private Integer addedCount;
+
+  // exists in klaw, not on the cluster
+  @Column(name = "deletedcount")
+  private Integer deletedCount;
+
+  @Column(name = "recondetails")
+  @Convert(converter = ReconDetailsConverter.class)
+  private List<ReconDetail> reconDetails;
+
+  @Column(name = "recontime")
+  private Timestamp reconTime;
+
+  @Column(name = "reconby")
+  private String reconBy;
+}
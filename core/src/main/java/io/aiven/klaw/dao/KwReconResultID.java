@@ -0,0 +1,22 @@
+package io.aiven.klaw.dao;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class KwReconResultID implements Serializable {
+
+  private Integer tenantId;
+
+  private String environment;
+
+  private String entityType;
+}
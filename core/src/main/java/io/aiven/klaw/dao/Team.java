@@ -1,6 +1,7 @@
 package io.aiven.klaw.dao;
 
 import io.aiven.klaw.helpers.ServiceAccountsConverter;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -11,10 +12,14 @@ import java.io.Serializable;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "kwteams")
 @ToString
 @Table(name = "kwteams")
 @IdClass(TeamID.class)
@@ -14,4 +14,6 @@ public @interface DataMigration {
   public String version() default "";
 
   public int order();
+
+  public MigrationScope scope() default MigrationScope.INSTALLATION;
 }
@@ -2,7 +2,6 @@ package io.aiven.klaw.dao.migration;
 
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
-import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.helpers.db.rdbms.InsertDataJdbc;
 import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
 import io.aiven.klaw.model.enums.KafkaClustersType;
@@ -10,13 +9,11 @@ import io.aiven.klaw.model.response.EnvParams;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 
-@DataMigration(version = "2.3.0", order = 1)
+@DataMigration(version = "2.3.0", order = 1, scope = MigrationScope.TENANT)
 @Slf4j
 @Configuration // Spring will automatically scan and instantiate this class for retrieval.
 public class MigrateData2x3x0 {
@@ -36,20 +33,24 @@ public class MigrateData2x3x0 {
     this.manageDatabase = manageDatabase;
   }
 
-  @MigrationRunner()
-  public boolean migrate() {
-    List<UserInfo> allUserInfo = selectDataJdbc.selectAllUsersAllTenants();
-    Set<Integer> tenantIds =
-        allUserInfo.stream().map(UserInfo::getTenantId).collect(Collectors.toSet());
-
-    for (int tenantId : tenantIds) {
-      migrateKafkaEnvironments(tenantId);
-      manageDatabase.loadEnvMapForOneTenant(tenantId);
-    }
+  @PendingWork
+  public boolean hasPendingWork(int tenantId) {
+    return selectDataJdbc.selectAllEnvs(KafkaClustersType.KAFKA, tenantId).stream()
+        .anyMatch(MigrateData2x3x0::isNotMigrated);
+  }
 
+  @MigrationRunner()
+  public boolean migrate(int tenantId) {
+    migrateKafkaEnvironments(tenantId);
+    manageDatabase.loadEnvMapForOneTenant(tenantId);
     return true;
   }
 
+  // Only migrate data that doesn't already have the parameters set.
+  private static boolean isNotMigrated(Env env) {
+    return env.getParams() == null && env.getOtherParams() != null;
+  }
+
   private void migrateKafkaEnvironments(Integer tenantId) {
     int numberOfRequests = 0, numberOfRequestsUpdated = 0;
     List<Env> envs = selectDataJdbc.selectAllEnvs(KafkaClustersType.KAFKA, tenantId);
@@ -57,8 +58,7 @@ public class MigrateData2x3x0 {
     for (Env env : envs) {
       try {
         numberOfRequests++;
-        // Only migrate data that doesn't already have the parameters set.
-        if (env.getParams() == null && env.getOtherParams() != null) {
+        if (isNotMigrated(env)) {
           EnvParams params = new EnvParams();
           String envParams = env.getOtherParams();
 
@@ -2,18 +2,15 @@ package io.aiven.klaw.dao.migration;
 
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.KwProperties;
-import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.helpers.KwConstants;
 import io.aiven.klaw.helpers.db.rdbms.InsertDataJdbc;
 import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 
-@DataMigration(version = "2.4.0", order = 2)
+@DataMigration(version = "2.4.0", order = 2, scope = MigrationScope.TENANT)
 @Slf4j
 @Configuration // Spring will automatically scan and instantiate this class for retrieval.
 public class MigrateData2x4x0 {
@@ -35,20 +32,29 @@ public class MigrateData2x4x0 {
     this.manageDatabase = manageDatabase;
   }
 
-  @MigrationRunner()
-  public boolean migrate() {
-    log.info("Start to migrate 2.4.0 data");
-    List<UserInfo> allUserInfo = selectDataJdbc.selectAllUsersAllTenants();
-    Set<Integer> tenantIds =
-        allUserInfo.stream().map(UserInfo::getTenantId).collect(Collectors.toSet());
-
-    for (int tenantId : tenantIds) {
-      migrateKwProperties(tenantId);
-      addKwProperties(tenantId);
-      manageDatabase.loadEnvMapForOneTenant(tenantId);
-      manageDatabase.loadKwPropsPerOneTenant(null, tenantId);
-    }
+  @PendingWork
+  public boolean hasPendingWork(int tenantId) {
+    return manageDatabase
+            .getKwPropertyValue("klaw.mail.passwordchanged.content", tenantId)
+            .equals("")
+        || manageDatabase
+            .getKwPropertyValue("klaw.mail.passwordreset.content", tenantId)
+            .equals(OLD_PWD_RESET_TEMPLATE)
+        || manageDatabase
+            .getKwPropertyValue("klaw.mail.topicpromotionrequest.content", tenantId)
+            .equals("")
+        || manageDatabase
+            .getKwPropertyValue("klaw.mail.topicupdaterequest.content", tenantId)
+            .equals("");
+  }
 
+  @MigrationRunner()
+  public boolean migrate(int tenantId) {
+    log.info("Start to migrate 2.4.0 data for tenant {}", tenantId);
+    migrateKwProperties(tenantId);
+    addKwProperties(tenantId);
+    manageDatabase.loadEnvMapForOneTenant(tenantId);
+    manageDatabase.loadKwPropsPerOneTenant(null, tenantId);
     return true;
   }
 
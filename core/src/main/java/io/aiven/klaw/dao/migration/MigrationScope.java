@@ -0,0 +1,8 @@
+package io.aiven.klaw.dao.migration;
+
+public enum MigrationScope {
+  // the runner is invoked once and migrates the data of all tenants itself
+  INSTALLATION,
+  // the runner is invoked once per tenant with pending work, with the tenant id as its argument
+  TENANT
+}
@@ -0,0 +1,14 @@
+package io.aiven.klaw.dao.migration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the method of a tenant scoped migration which tells if a tenant has data to migrate. It
+ * takes the tenant id and returns a boolean, tenants without pending work are skipped.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface PendingWork {}
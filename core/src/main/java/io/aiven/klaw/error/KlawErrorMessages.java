@@ -75,6 +75,8 @@ public class KlawErrorMessages {
 
   public static final String ANALYTICS_107 = "Requests per day";
 
+  public static final String ANALYTICS_108 = "Unable to generate the report.";
+
   // Base overview service
   public static final String BASE_OVERVIEW_101 = "Not Authorized to see this.";
 
@@ -471,4 +473,19 @@ public class KlawErrorMessages {
       "There is no associated Schema environment configured.";
 
   public static final String SCH_SYNC_ERR_102 = "404 Not Found";
+
+  // Reconciliation
+  public static final String RECON_ERR_101 = "Reconciliation failed for %s on %s.";
+
+  public static final String RECON_102 = "Reconciliation of %s";
+
+  public static final String RECON_ERR_102 =
+      "Reconciliation of %s of %s environments and entity types skipped, running or ran recently.";
+
+  // Approval outbox
+  public static final String APPROVAL_OUTBOX_ERR_101 =
+      "This request is already queued for approval.";
+
+  public static final String APPROVAL_OUTBOX_102 =
+      "Approval queued, the request is executed on the cluster shortly.";
 }
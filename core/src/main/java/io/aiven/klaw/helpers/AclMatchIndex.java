@@ -0,0 +1,126 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPatternType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acls of a tenant indexed per env by literal topic name and by prefix, to find the acls which
+ * apply to a topic without scanning all prefixed acls of the env.
+ *
+ * <p>A tenant is loaded on its first lookup and then kept in line with the acls saved and deleted
+ * on this instance. Acl changes of other instances drop the tenant through their metadata update,
+ * it is also loaded again after the reload interval in case such an update was missed.
+ */
+@Component
+public class AclMatchIndex {
+
+  private static class TenantAcls {
+    private final Map<Integer, Acl> aclsByReqNo = new HashMap<>();
+    private final Map<String, TopicPatternIndex<Integer>> reqNosPerEnv = new HashMap<>();
+    private final long loadedAt = System.currentTimeMillis();
+
+    private TenantAcls(List<Acl> acls) {
+      acls.forEach(this::add);
+    }
+
+    private synchronized void add(Acl acl) {
+      if (acl.getReq_no() == null || acl.getTopicname() == null) {
+        return;
+      }
+      remove(acl.getReq_no());
+      aclsByReqNo.put(acl.getReq_no(), acl);
+      reqNosPerEnv
+          .computeIfAbsent(acl.getEnvironment(), env -> new TopicPatternIndex<>())
+          .add(acl.getTopicname(), isPrefixed(acl), acl.getReq_no());
+    }
+
+    private synchronized void remove(Integer reqNo) {
+      Acl acl = aclsByReqNo.remove(reqNo);
+      if (acl == null) {
+        return;
+      }
+      TopicPatternIndex<Integer> envIndex = reqNosPerEnv.get(acl.getEnvironment());
+      envIndex.remove(acl.getTopicname(), isPrefixed(acl), reqNo);
+      if (envIndex.isEmpty()) {
+        reqNosPerEnv.remove(acl.getEnvironment());
+      }
+    }
+
+    private synchronized List<Acl> getPrefixedAcls(Collection<String> envs, String topicName) {
+      List<Acl> acls = new ArrayList<>();
+      for (String env : envs) {
+        TopicPatternIndex<Integer> envIndex = reqNosPerEnv.get(env);
+        if (envIndex != null) {
+          envIndex.getPrefixed(topicName).forEach(reqNo -> acls.add(aclsByReqNo.get(reqNo)));
+        }
+      }
+      return acls;
+    }
+  }
+
+  private final Map<Integer, TenantAcls> aclsPerTenant = new ConcurrentHashMap<>();
+
+  private final long reloadMillis;
+
+  public AclMatchIndex(@Value("${klaw.acl.index.reload.seconds:300}") long reloadSeconds) {
+    this.reloadMillis = reloadSeconds * 1000;
+  }
+
+  /** Prefixed acls of the envs whose prefix matches the topic name. */
+  public List<Acl> getPrefixedAcls(
+      int tenantId, Collection<String> envs, String topicName, Supplier<List<Acl>> loader) {
+    return getTenantAcls(tenantId, loader).getPrefixedAcls(envs, topicName);
+  }
+
+  public void add(Acl acl) {
+    // tenants which are not loaded yet read the acl when they are loaded
+    aclsPerTenant.computeIfPresent(
+        acl.getTenantId(),
+        (tenantId, tenantAcls) -> {
+          tenantAcls.add(acl);
+          return tenantAcls;
+        });
+  }
+
+  public void remove(Acl acl) {
+    aclsPerTenant.computeIfPresent(
+        acl.getTenantId(),
+        (tenantId, tenantAcls) -> {
+          tenantAcls.remove(acl.getReq_no());
+          return tenantAcls;
+        });
+  }
+
+  public void removeTenant(int tenantId) {
+    aclsPerTenant.remove(tenantId);
+  }
+
+  private TenantAcls getTenantAcls(int tenantId, Supplier<List<Acl>> loader) {
+    TenantAcls tenantAcls = aclsPerTenant.get(tenantId);
+    if (tenantAcls != null && !isExpired(tenantAcls)) {
+      return tenantAcls;
+    }
+    // loading within compute holds back concurrent adds and removes of the tenant until it is done
+    return aclsPerTenant.compute(
+        tenantId,
+        (id, loaded) ->
+            loaded == null || isExpired(loaded) ? new TenantAcls(loader.get()) : loaded);
+  }
+
+  private boolean isExpired(TenantAcls tenantAcls) {
+    return System.currentTimeMillis() - tenantAcls.loadedAt >= reloadMillis;
+  }
+
+  private static boolean isPrefixed(Acl acl) {
+    return AclPatternType.PREFIXED.value.equals(acl.getAclPatternType());
+  }
+}
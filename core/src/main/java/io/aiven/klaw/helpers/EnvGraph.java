@@ -0,0 +1,238 @@
+package io.aiven.klaw.helpers;
+
+import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_KAFKA_CONNECT_ENVS;
+import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
+import static io.aiven.klaw.helpers.KwConstants.REQUEST_TOPICS_OF_ENVS;
+
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Environments of one tenant: lookups by id and name, the promotion and request orders of the
+ * tenant config, and the associations between kafka and schema registry environments.
+ *
+ * <p>Immutable, it is built again when the environments or the tenant config are loaded.
+ */
+public class EnvGraph {
+
+  public static final EnvGraph EMPTY = build(List.of(), List.of(), List.of(), null);
+
+  /** Environment orders, with the property name they are requested with in getEnvProperty. */
+  public enum EnvOrder {
+    TOPIC_PROMOTION(ORDER_OF_TOPIC_ENVS),
+    TOPIC_REQUEST(REQUEST_TOPICS_OF_ENVS),
+    CONNECTOR_PROMOTION(ORDER_OF_KAFKA_CONNECT_ENVS),
+    CONNECTOR_REQUEST("REQUEST_CONNECTORS_OF_KAFKA_CONNECT_ENVS"),
+    SCHEMA_REQUEST("REQUEST_SCHEMA_OF_ENVS"),
+    // schema registry envs associated with the topic promotion order
+    SCHEMA_PROMOTION("ORDER_OF_SCHEMA_ENVS");
+
+    public final String property;
+
+    EnvOrder(String property) {
+      this.property = property;
+    }
+
+    public static EnvOrder of(String property) {
+      for (EnvOrder envOrder : values()) {
+        if (envOrder.property.equals(property)) {
+          return envOrder;
+        }
+      }
+      return null;
+    }
+  }
+
+  private record Order(List<String> envIds, Map<String, Integer> positions, String property) {
+
+    private static Order of(List<String> envIds) {
+      Map<String, Integer> positions = new HashMap<>();
+      for (int i = 0; i < envIds.size(); i++) {
+        positions.putIfAbsent(envIds.get(i), i);
+      }
+      return new Order(
+          Collections.unmodifiableList(envIds),
+          Collections.unmodifiableMap(positions),
+          String.join(",", envIds));
+    }
+  }
+
+  private final Map<String, Env> kafkaEnvsById;
+  private final Map<String, Env> schemaEnvsById;
+  private final Map<String, Env> connectEnvsById;
+  private final Map<String, Env> kafkaEnvsByName;
+  private final Map<String, Env> schemaEnvsByName;
+  private final Map<String, Env> connectEnvsByName;
+  // kafka env id to schema env id and back
+  private final Map<String, String> associatedEnvIds;
+  private final Map<EnvOrder, Order> orders;
+
+  private EnvGraph(
+      Map<String, Env> kafkaEnvsById,
+      Map<String, Env> schemaEnvsById,
+      Map<String, Env> connectEnvsById,
+      Map<String, Env> kafkaEnvsByName,
+      Map<String, Env> schemaEnvsByName,
+      Map<String, Env> connectEnvsByName,
+      Map<String, String> associatedEnvIds,
+      Map<EnvOrder, Order> orders) {
+    this.kafkaEnvsById = kafkaEnvsById;
+    this.schemaEnvsById = schemaEnvsById;
+    this.connectEnvsById = connectEnvsById;
+    this.kafkaEnvsByName = kafkaEnvsByName;
+    this.schemaEnvsByName = schemaEnvsByName;
+    this.connectEnvsByName = connectEnvsByName;
+    this.associatedEnvIds = associatedEnvIds;
+    this.orders = orders;
+  }
+
+  public static EnvGraph build(
+      List<Env> kafkaEnvs,
+      List<Env> schemaEnvs,
+      List<Env> connectEnvs,
+      KwTenantConfigModel tenantConfig) {
+    Map<String, String> associatedEnvIds = new HashMap<>();
+    for (Env env : kafkaEnvs) {
+      if (env.getAssociatedEnv() != null && env.getAssociatedEnv().getId() != null) {
+        associatedEnvIds.put(env.getId(), env.getAssociatedEnv().getId());
+      }
+    }
+    for (Env env : schemaEnvs) {
+      if (env.getAssociatedEnv() != null && env.getAssociatedEnv().getId() != null) {
+        associatedEnvIds.put(env.getId(), env.getAssociatedEnv().getId());
+      }
+    }
+
+    Map<EnvOrder, Order> orders = new EnumMap<>(EnvOrder.class);
+    if (tenantConfig != null) {
+      orders.put(EnvOrder.TOPIC_PROMOTION, order(tenantConfig.getOrderOfTopicPromotionEnvsList()));
+      orders.put(EnvOrder.TOPIC_REQUEST, order(tenantConfig.getRequestTopicsEnvironmentsList()));
+      orders.put(
+          EnvOrder.CONNECTOR_PROMOTION,
+          order(tenantConfig.getOrderOfConnectorsPromotionEnvsList()));
+      orders.put(
+          EnvOrder.CONNECTOR_REQUEST, order(tenantConfig.getRequestConnectorsEnvironmentsList()));
+      orders.put(EnvOrder.SCHEMA_REQUEST, order(tenantConfig.getRequestSchemaEnvironmentsList()));
+    }
+
+    Map<String, Env> kafkaEnvsById = byId(kafkaEnvs);
+    List<String> schemaPromotionEnvIds = new ArrayList<>();
+    for (String kafkaEnvId : orderOf(orders, EnvOrder.TOPIC_PROMOTION).envIds()) {
+      if (kafkaEnvsById.containsKey(kafkaEnvId) && associatedEnvIds.containsKey(kafkaEnvId)) {
+        schemaPromotionEnvIds.add(associatedEnvIds.get(kafkaEnvId));
+      }
+    }
+    orders.put(EnvOrder.SCHEMA_PROMOTION, Order.of(schemaPromotionEnvIds));
+
+    return new EnvGraph(
+        kafkaEnvsById,
+        byId(schemaEnvs),
+        byId(connectEnvs),
+        byName(kafkaEnvs),
+        byName(schemaEnvs),
+        byName(connectEnvs),
+        Collections.unmodifiableMap(associatedEnvIds),
+        Collections.unmodifiableMap(orders));
+  }
+
+  /** Kafka, schema registry or kafka connect env with the id. */
+  public Env getEnv(String envId) {
+    Env env = getKafkaEnv(envId);
+    if (env == null) {
+      env = getSchemaEnv(envId);
+    }
+    return env == null ? getKafkaConnectEnv(envId) : env;
+  }
+
+  public Env getKafkaEnv(String envId) {
+    return envId == null ? null : kafkaEnvsById.get(envId);
+  }
+
+  public Env getSchemaEnv(String envId) {
+    return envId == null ? null : schemaEnvsById.get(envId);
+  }
+
+  public Env getKafkaConnectEnv(String envId) {
+    return envId == null ? null : connectEnvsById.get(envId);
+  }
+
+  public Env getKafkaEnvFromName(String envName) {
+    return envName == null ? null : kafkaEnvsByName.get(envName);
+  }
+
+  public Env getSchemaEnvFromName(String envName) {
+    return envName == null ? null : schemaEnvsByName.get(envName);
+  }
+
+  public Env getKafkaConnectEnvFromName(String envName) {
+    return envName == null ? null : connectEnvsByName.get(envName);
+  }
+
+  /** The schema registry env of a kafka env, or the kafka env of a schema registry env. */
+  public String getAssociatedEnvId(String envId) {
+    return envId == null ? null : associatedEnvIds.get(envId);
+  }
+
+  public List<String> getOrder(EnvOrder envOrder) {
+    return orderOf(orders, envOrder).envIds();
+  }
+
+  /** Env ids of the order as comma separated string, empty for unknown properties. */
+  public String getEnvProperty(String property) {
+    EnvOrder envOrder = EnvOrder.of(property);
+    return envOrder == null ? "" : orderOf(orders, envOrder).property();
+  }
+
+  public boolean isInOrder(EnvOrder envOrder, String envId) {
+    return getPosition(envOrder, envId) >= 0;
+  }
+
+  /** Position of the env in the order, -1 if it is not part of it. */
+  public int getPosition(EnvOrder envOrder, String envId) {
+    return orderOf(orders, envOrder).positions().getOrDefault(envId, -1);
+  }
+
+  /** The env following the given env in the order, null for the last env or unknown envs. */
+  public String getNextEnvId(EnvOrder envOrder, String envId) {
+    Order order = orderOf(orders, envOrder);
+    int position = order.positions().getOrDefault(envId, -1);
+    if (position < 0 || position + 1 >= order.envIds().size()) {
+      return null;
+    }
+    return order.envIds().get(position + 1);
+  }
+
+  private static Order orderOf(Map<EnvOrder, Order> orders, EnvOrder envOrder) {
+    Order order = orders.get(envOrder);
+    return order == null ? Order.of(List.of()) : order;
+  }
+
+  private static Order order(List<String> configuredEnvIds) {
+    List<String> envIds = new ArrayList<>();
+    if (configuredEnvIds != null) {
+      configuredEnvIds.stream().filter(Objects::nonNull).forEach(envIds::add);
+    }
+    return Order.of(envIds);
+  }
+
+  private static Map<String, Env> byId(List<Env> envs) {
+    Map<String, Env> envsById = new HashMap<>();
+    envs.forEach(env -> envsById.putIfAbsent(env.getId(), env));
+    return Collections.unmodifiableMap(envsById);
+  }
+
+  private static Map<String, Env> byName(List<Env> envs) {
+    Map<String, Env> envsByName = new HashMap<>();
+    envs.stream()
+        .filter(env -> env.getName() != null)
+        .forEach(env -> envsByName.putIfAbsent(env.getName(), env));
+    return Collections.unmodifiableMap(envsByName);
+  }
+}
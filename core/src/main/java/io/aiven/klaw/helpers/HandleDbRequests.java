@@ -8,10 +8,13 @@ import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.data.domain.Pageable;
 
 public interface HandleDbRequests {
 
@@ -106,6 +109,15 @@ public interface HandleDbRequests {
 
   KafkaConnectorRequest getConnectorRequestsForConnector(int connectorId, int tenantId);
 
+  List<TopicRequest> getTopicRequestsForTopicIds(Collection<Integer> topicIds, int tenantId);
+
+  List<AclRequests> getAclRequestsForReqNos(Collection<Integer> reqNos, int tenantId);
+
+  List<SchemaRequest> getSchemaRequestsForReqNos(Collection<Integer> reqNos, int tenantId);
+
+  List<KafkaConnectorRequest> getConnectorRequestsForConnectorIds(
+      Collection<Integer> connectorIds, int tenantId);
+
   List<TopicRequest> getTopicRequests(String topicName, String envId, String status, int tenantId);
 
   List<KafkaConnectorRequest> getConnectorRequests(
@@ -117,6 +129,8 @@ public interface HandleDbRequests {
 
   List<Topic> getTopics(String topicName, int tenantId);
 
+  List<Topic> getTopics(Collection<String> topicNames, int tenantId);
+
   List<KwKafkaConnector> getConnectors(String connectorName, int tenantId);
 
   List<Topic> getTopicsFromEnv(String envId, int tenantId);
@@ -131,6 +145,11 @@ public interface HandleDbRequests {
 
   List<Acl> getPrefixedAclsSOT(String env, int tenantId);
 
+  List<Acl> getSyncAcls(Collection<String> envs, String topic, int tenantId);
+
+  /** Prefixed acls of the envs whose prefix matches the topic name. */
+  List<Acl> getPrefixedAclsMatchingTopic(Collection<String> envs, String topicName, int tenantId);
+
   List<Acl> getUniqueConsumerGroups(int tenantId);
 
   boolean validateIfConsumerGroupUsedByAnotherTeam(
@@ -172,6 +191,16 @@ public interface HandleDbRequests {
 
   boolean existsSchemaForTopic(String topicName, String env, int tenantId);
 
+  /** Request operation types of the topic requests with the status, per env. */
+  Map<String, Set<String>> getTopicRequestTypesPerEnv(
+      String topicName, String requestStatus, int tenantId);
+
+  Set<String> getEnvsOfAclRequests(String topicName, String requestStatus, int tenantId);
+
+  Set<String> getEnvsOfSchemaRequests(String topicName, String requestStatus, int tenantId);
+
+  Set<String> getEnvsOfSchemas(String topicName, int tenantId);
+
   List<AclRequests> getAllAclRequests(
       boolean allReqs,
       String requestor,
@@ -359,6 +388,14 @@ public interface HandleDbRequests {
 
   String declineAclRequest(AclRequests aclRequests, String approver);
 
+  String declineTopicRequests(List<TopicRequest> topicRequests, String approver, int tenantId);
+
+  String declineAclRequests(List<AclRequests> aclRequests, String approver, int tenantId);
+
+  String declineSchemaRequests(List<SchemaRequest> schemaRequests, String approver, int tenantId);
+
+  String declineConnectorRequests(List<KafkaConnectorRequest> connectorRequests, String approver);
+
   String updatePassword(String username, String pwd);
 
   String resetPassword(String username, String resetToken, String pwd)
@@ -456,6 +493,49 @@ public interface HandleDbRequests {
 
   List<MessageSchema> getAllSchemas();
 
+  List<Topic> getAllTopics(Pageable pageable);
+
+  List<TopicRequest> getAllTopicRequests(Pageable pageable);
+
+  List<KafkaConnectorRequest> getAllConnectorRequests(Pageable pageable);
+
+  List<KwKafkaConnector> getAllConnectors(Pageable pageable);
+
+  List<Acl> getAllSubscriptions(Pageable pageable);
+
+  List<AclRequests> getAllAclRequests(Pageable pageable);
+
+  List<SchemaRequest> getAllSchemaRequests(Pageable pageable);
+
+  List<MessageSchema> getAllSchemas(Pageable pageable);
+
+  String importTopicRequests(List<TopicRequest> topicRequests);
+
+  String importAclRequests(List<AclRequests> aclRequests);
+
+  String importSchemaRequests(List<SchemaRequest> schemaRequests);
+
+  String importConnectorRequests(List<KafkaConnectorRequest> connectorRequests);
+
+  String insertIntoReconResults(KwReconResult kwReconResult);
+
+  List<KwReconResult> getReconResults(String env, int tenantId);
+
+  /** FAILURE if the same request was queued by another call at the same time. */
+  String insertIntoApprovalOutbox(KwApprovalOutbox kwApprovalOutbox);
+
+  KwApprovalOutbox getApprovalOutboxEntry(String entityType, int reqNo, int tenantId);
+
+  /** Pending entries due now and running entries whose lease ran out, oldest first. */
+  List<KwApprovalOutbox> getDueApprovalOutboxEntries(int limit);
+
+  /** Saves a loaded entry, FAILURE if another instance changed it since it was loaded. */
+  String updateApprovalOutboxEntry(KwApprovalOutbox kwApprovalOutbox);
+
+  String deleteApprovalOutboxEntries(String status, Timestamp completedBefore);
+
+  String insertIntoMailDeadLetters(List<KwMailDeadLetter> kwMailDeadLetters);
+
   List<Team> getTeams();
 
   List<Env> getEnvs();
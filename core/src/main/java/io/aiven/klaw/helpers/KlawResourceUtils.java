@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 public class KlawResourceUtils {
 
@@ -23,6 +24,18 @@ public class KlawResourceUtils {
     return newEnvList;
   }
 
+  public static List<EnvIdInfo> getConvertedEnvs(
+      List<String> selectedEnvs, Function<String, Env> envLookup) {
+    List<EnvIdInfo> newEnvList = new ArrayList<>();
+    for (String envId : selectedEnvs) {
+      Env env = envLookup.apply(envId);
+      if (env != null) {
+        newEnvList.add(new EnvIdInfo(env.getId(), env.getName()));
+      }
+    }
+    return newEnvList;
+  }
+
   public static List<String> getOrderedEnvsList(String orderOfEnvs) {
     List<String> orderOfEnvsArrayList = new ArrayList<>();
     if (orderOfEnvs != null && !orderOfEnvs.equals("")) {
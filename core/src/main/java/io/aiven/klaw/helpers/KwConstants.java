@@ -107,6 +107,7 @@ public class KwConstants {
   public static final String URI_GET_ACLS = "/topics/getAcls/";
   public static final String URI_CREATE_ACLS = "/topics/createAcls";
   public static final String URI_DELETE_ACLS = "/topics/deleteAcls";
+  public static final String URI_UPDATE_ACLS = "/topics/updateAcls";
   public static final String URI_GET_TOPICS = "/topics/getTopics/";
   public static final String URI_CREATE_TOPICS = "/topics/createTopics";
   public static final String URI_UPDATE_TOPICS = "/topics/updateTopics";
@@ -0,0 +1,43 @@
+package io.aiven.klaw.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.model.ReconDetail;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Converter
+public class ReconDetailsConverter implements AttributeConverter<List<ReconDetail>, String> {
+
+  ObjectMapper mapper = new ObjectMapper();
+
+  @Override
+  public String convertToDatabaseColumn(List<ReconDetail> reconDetails) {
+    String reconDetailsStr = null;
+    try {
+      if (reconDetails != null) {
+        reconDetailsStr = mapper.writeValueAsString(reconDetails);
+      }
+    } catch (JsonProcessingException e) {
+      log.error("Exception converting object to json: {}", e.getMessage());
+    }
+    return reconDetailsStr;
+  }
+
+  @Override
+  public List<ReconDetail> convertToEntityAttribute(String reconDetailsStr) {
+    List<ReconDetail> reconDetails = null;
+    try {
+      if (reconDetailsStr != null) {
+        reconDetails = mapper.readValue(reconDetailsStr, new TypeReference<>() {});
+      }
+    } catch (JsonProcessingException e) {
+      log.error("Exception converting json to object: {}", e.getMessage());
+    }
+    return reconDetails;
+  }
+}
@@ -0,0 +1,76 @@
+package io.aiven.klaw.helpers;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
+/**
+ * Time spent by the current request in the db, the cluster api, the caches and serialization, per
+ * component and per operation, e.g. the repository method or the cluster api uri. Only the thread
+ * handling the request records into it, work done on other threads is not attributed.
+ */
+public final class RequestTimings {
+
+  public enum Component {
+    DB("db"),
+    CLUSTER_API("clusterapi"),
+    CACHE("cache"),
+    SERIALIZATION("serialization");
+
+    public final String value;
+
+    Component(String value) {
+      this.value = value;
+    }
+  }
+
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+  private final long startNanos = System.nanoTime();
+
+  private final Map<Component, Long> componentNanos = new EnumMap<>(Component.class);
+
+  // calls and nanos per component and operation, in the order of their first call
+  private final Map<String, LongSummaryStatistics> operations = new LinkedHashMap<>();
+
+  private RequestTimings() {}
+
+  /** Starts recording the timings of the request handled by the current thread. */
+  public static RequestTimings start() {
+    RequestTimings requestTimings = new RequestTimings();
+    CURRENT.set(requestTimings);
+    return requestTimings;
+  }
+
+  public static void stop() {
+    CURRENT.remove();
+  }
+
+  /** Adds the time of an operation to the request of the current thread, if one is recorded. */
+  public static void record(Component component, String operation, long nanos) {
+    RequestTimings requestTimings = CURRENT.get();
+    if (requestTimings != null) {
+      requestTimings.componentNanos.merge(component, nanos, Long::sum);
+      if (operation != null) {
+        requestTimings
+            .operations
+            .computeIfAbsent(component.value + " " + operation, key -> new LongSummaryStatistics())
+            .accept(nanos);
+      }
+    }
+  }
+
+  public long getElapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  public long getNanos(Component component) {
+    return componentNanos.getOrDefault(component, 0L);
+  }
+
+  /** Calls and total nanos of each operation, keyed by component and operation. */
+  public Map<String, LongSummaryStatistics> getOperations() {
+    return operations;
+  }
+}
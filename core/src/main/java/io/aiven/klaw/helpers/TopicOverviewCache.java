@@ -0,0 +1,90 @@
+package io.aiven.klaw.helpers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.aiven.klaw.dao.Acl;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database state behind the overview of a topic: acls, prefixed acls matching the topic, open
+ * requests and schemas, for all envs of the topic.
+ *
+ * <p>Entries are dropped when requests, acls or schemas of the tenant change on this instance, and
+ * expire after the ttl for changes made on other instances.
+ */
+@Component
+public class TopicOverviewCache {
+
+  public record TopicOverviewData(
+      List<Acl> acls,
+      List<Acl> prefixedAcls,
+      Map<String, Set<String>> openTopicRequestTypesPerEnv,
+      Set<String> openAclRequestEnvs,
+      Set<String> openSchemaRequestEnvs,
+      Set<String> schemaEnvs) {
+
+    public boolean isTopicRequestOpen(String envId) {
+      return openTopicRequestTypesPerEnv.containsKey(envId);
+    }
+
+    public boolean isTopicRequestOpen(String envId, String requestOperationType) {
+      return openTopicRequestTypesPerEnv
+          .getOrDefault(envId, Set.of())
+          .contains(requestOperationType);
+    }
+
+    // claim requests are not bound to the env the overview is opened for
+    public boolean isTopicRequestOpenInAnyEnv(String requestOperationType) {
+      return openTopicRequestTypesPerEnv.values().stream()
+          .anyMatch(requestTypes -> requestTypes.contains(requestOperationType));
+    }
+  }
+
+  private record Key(int tenantId, String topicName, Set<String> envIds) {}
+
+  private record Entry(TopicOverviewData data, long generation) {}
+
+  private final Cache<Key, Entry> cache;
+
+  private final Map<Integer, AtomicLong> generationPerTenant = new ConcurrentHashMap<>();
+
+  public TopicOverviewCache(
+      @Value("${klaw.topic.overview.cache.ttl.seconds:60}") long ttlSeconds,
+      @Value("${klaw.topic.overview.cache.size:1000}") long maximumSize) {
+    cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .maximumSize(maximumSize)
+            .build();
+  }
+
+  public TopicOverviewData get(
+      int tenantId, String topicName, Set<String> envIds, Supplier<TopicOverviewData> loader) {
+    Key key = new Key(tenantId, topicName, Set.copyOf(envIds));
+    // read before loading, a change during the load leaves a stale entry which is not served
+    long generation = generationOf(tenantId).get();
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null && entry.generation() == generation) {
+      return entry.data();
+    }
+    TopicOverviewData data = loader.get();
+    cache.put(key, new Entry(data, generation));
+    return data;
+  }
+
+  public void invalidate(int tenantId) {
+    generationOf(tenantId).incrementAndGet();
+  }
+
+  private AtomicLong generationOf(int tenantId) {
+    return generationPerTenant.computeIfAbsent(tenantId, id -> new AtomicLong());
+  }
+}
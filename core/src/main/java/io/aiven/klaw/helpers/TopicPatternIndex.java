@@ -0,0 +1,87 @@
+package io.aiven.klaw.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Values bound to literal topic names or to topic name prefixes, like the literal and prefixed acls
+ * of an env.
+ *
+ * <p>Literal names are kept in a hash map and prefixes in a trie, a lookup walks the topic name
+ * once instead of comparing it with every prefix. Not thread safe.
+ */
+public class TopicPatternIndex<T> {
+
+  private static class Node<T> {
+    private final Map<Character, Node<T>> children = new HashMap<>();
+    private final Set<T> values = new LinkedHashSet<>();
+  }
+
+  private final Map<String, Set<T>> literals = new HashMap<>();
+  private final Node<T> prefixes = new Node<>();
+
+  public void add(String topicName, boolean prefixed, T value) {
+    if (prefixed) {
+      Node<T> node = prefixes;
+      for (int i = 0; i < topicName.length(); i++) {
+        node = node.children.computeIfAbsent(topicName.charAt(i), c -> new Node<>());
+      }
+      node.values.add(value);
+    } else {
+      literals.computeIfAbsent(topicName, name -> new LinkedHashSet<>()).add(value);
+    }
+  }
+
+  public void remove(String topicName, boolean prefixed, T value) {
+    if (prefixed) {
+      removePrefix(prefixes, topicName, 0, value);
+    } else {
+      Set<T> values = literals.get(topicName);
+      if (values != null && values.remove(value) && values.isEmpty()) {
+        literals.remove(topicName);
+      }
+    }
+  }
+
+  /** Values of the literal name and of all prefixes of the topic name. */
+  public List<T> get(String topicName) {
+    List<T> values = new ArrayList<>(literals.getOrDefault(topicName, Set.of()));
+    values.addAll(getPrefixed(topicName));
+    return values;
+  }
+
+  /** Values of all prefixes of the topic name, shortest prefix first. */
+  public List<T> getPrefixed(String topicName) {
+    List<T> values = new ArrayList<>(prefixes.values);
+    Node<T> node = prefixes;
+    for (int i = 0; i < topicName.length(); i++) {
+      node = node.children.get(topicName.charAt(i));
+      if (node == null) {
+        break;
+      }
+      values.addAll(node.values);
+    }
+    return values;
+  }
+
+  public boolean isEmpty() {
+    return literals.isEmpty() && prefixes.values.isEmpty() && prefixes.children.isEmpty();
+  }
+
+  // drops the nodes left without values or children on the way back
+  private boolean removePrefix(Node<T> node, String topicName, int depth, T value) {
+    if (depth == topicName.length()) {
+      node.values.remove(value);
+    } else {
+      Node<T> child = node.children.get(topicName.charAt(depth));
+      if (child != null && removePrefix(child, topicName, depth + 1, value)) {
+        node.children.remove(topicName.charAt(depth));
+      }
+    }
+    return node.values.isEmpty() && node.children.isEmpty();
+  }
+}
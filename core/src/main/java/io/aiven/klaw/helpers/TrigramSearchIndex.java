@@ -0,0 +1,252 @@
+package io.aiven.klaw.helpers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive substring search over names (topics, connectors) and their documentation.
+ *
+ * <p>Every name and documentation is split into trigrams. A query only verifies the entries which
+ * contain all trigrams of the query, instead of scanning every entry. Names are also kept sorted,
+ * for prefix queries. Queries shorter than a trigram fall back to a scan.
+ */
+public class TrigramSearchIndex {
+
+  private static final int GRAM_SIZE = 3;
+
+  private static final int RANK_EXACT = 0;
+  private static final int RANK_PREFIX = 1;
+  private static final int RANK_NAME = 2;
+  private static final int RANK_DOCUMENTATION = 3;
+
+  private record Entry(String name, Set<String> documentation) {}
+
+  // key is the name as stored, value the lower case name and documentation
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final Map<String, Set<String>> nameGrams = new HashMap<>();
+  private final Map<String, Set<String>> documentationGrams = new HashMap<>();
+  private final TreeMap<String, Set<String>> sortedNames = new TreeMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** Adds the name, or adds the documentation to an existing name. */
+  public void add(String name, String documentation) {
+    lock.writeLock().lock();
+    try {
+      Entry entry = entries.get(name);
+      if (entry == null) {
+        entry = new Entry(name.toLowerCase(Locale.ROOT), new HashSet<>());
+        entries.put(name, entry);
+        index(nameGrams, entry.name(), name);
+        sortedNames.computeIfAbsent(entry.name(), k -> new HashSet<>()).add(name);
+      }
+      if (documentation != null && !documentation.isEmpty()) {
+        String lowerDocumentation = documentation.toLowerCase(Locale.ROOT);
+        if (entry.documentation().add(lowerDocumentation)) {
+          index(documentationGrams, lowerDocumentation, name);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(String name) {
+    lock.writeLock().lock();
+    try {
+      removeEntry(name);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Brings the index in line with the given names and their documentation. Only names which are
+   * new, removed or have other documentation are re-indexed.
+   */
+  public void sync(Map<String, Set<String>> documentationPerName) {
+    lock.writeLock().lock();
+    try {
+      for (String name : new ArrayList<>(entries.keySet())) {
+        Set<String> documentation = documentationPerName.get(name);
+        if (documentation == null
+            || !entries.get(name).documentation().equals(lower(documentation))) {
+          removeEntry(name);
+        }
+      }
+      documentationPerName.forEach(
+          (name, documentation) -> {
+            if (!entries.containsKey(name)) {
+              add(name, null);
+              documentation.forEach(doc -> add(name, doc));
+            }
+          });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Names containing the query in the name or documentation. Exact matches rank first, then names
+   * starting with the query, names containing it and last documentation matches.
+   */
+  public List<String> search(String query) {
+    return search(query, true);
+  }
+
+  /** Like {@link #search(String)}, without looking at the documentation. */
+  public List<String> searchNames(String query) {
+    return search(query, false);
+  }
+
+  private List<String> search(String query, boolean includeDocumentation) {
+    String lowerQuery = query.toLowerCase(Locale.ROOT);
+    Map<String, Integer> ranks = new HashMap<>();
+    lock.readLock().lock();
+    try {
+      for (String name : candidates(nameGrams, lowerQuery)) {
+        String lowerName = entries.get(name).name();
+        if (lowerName.equals(lowerQuery)) {
+          ranks.put(name, RANK_EXACT);
+        } else if (lowerName.startsWith(lowerQuery)) {
+          ranks.put(name, RANK_PREFIX);
+        } else if (lowerName.contains(lowerQuery)) {
+          ranks.put(name, RANK_NAME);
+        }
+      }
+      for (String name :
+          includeDocumentation ? candidates(documentationGrams, lowerQuery) : Set.<String>of()) {
+        if (!ranks.containsKey(name)
+            && entries.get(name).documentation().stream().anyMatch(d -> d.contains(lowerQuery))) {
+          ranks.put(name, RANK_DOCUMENTATION);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return ranks.keySet().stream()
+        .sorted(Comparator.comparing((String name) -> ranks.get(name)).thenComparing(name -> name))
+        .toList();
+  }
+
+  /** Names starting with the prefix, in alphabetical order. */
+  public List<String> searchPrefix(String prefix) {
+    String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+    List<String> names = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      sortedNames
+          .subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, false)
+          .values()
+          .forEach(names::addAll);
+    } finally {
+      lock.readLock().unlock();
+    }
+    names.sort(Comparator.naturalOrder());
+    return names;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // names holding every trigram of the query, or all names for queries shorter than a trigram
+  private Collection<String> candidates(Map<String, Set<String>> grams, String lowerQuery) {
+    if (lowerQuery.length() < GRAM_SIZE) {
+      return entries.keySet();
+    }
+    Set<String> candidates = null;
+    for (String gram : grams(lowerQuery)) {
+      Set<String> names = grams.get(gram);
+      if (names == null) {
+        return Set.of();
+      }
+      if (candidates == null || names.size() < candidates.size()) {
+        candidates = intersect(names, candidates);
+      } else {
+        candidates = intersect(candidates, names);
+      }
+      if (candidates.isEmpty()) {
+        return candidates;
+      }
+    }
+    return candidates;
+  }
+
+  private static Set<String> intersect(Set<String> smaller, Set<String> other) {
+    if (other == null) {
+      return new HashSet<>(smaller);
+    }
+    Set<String> result = new HashSet<>();
+    for (String name : smaller) {
+      if (other.contains(name)) {
+        result.add(name);
+      }
+    }
+    return result;
+  }
+
+  private void removeEntry(String name) {
+    Entry entry = entries.remove(name);
+    if (entry == null) {
+      return;
+    }
+    unindex(nameGrams, entry.name(), name);
+    entry.documentation().forEach(doc -> unindex(documentationGrams, doc, name));
+    Set<String> names = sortedNames.get(entry.name());
+    names.remove(name);
+    if (names.isEmpty()) {
+      sortedNames.remove(entry.name());
+    }
+  }
+
+  private static void index(Map<String, Set<String>> grams, String text, String name) {
+    for (String gram : grams(text)) {
+      grams.computeIfAbsent(gram, k -> new HashSet<>()).add(name);
+    }
+  }
+
+  private static void unindex(Map<String, Set<String>> grams, String text, String name) {
+    for (String gram : grams(text)) {
+      Set<String> names = grams.get(gram);
+      if (names != null) {
+        names.remove(name);
+        if (names.isEmpty()) {
+          grams.remove(gram);
+        }
+      }
+    }
+  }
+
+  private static Set<String> grams(String text) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+      grams.add(text.substring(i, i + GRAM_SIZE));
+    }
+    return grams;
+  }
+
+  private static Set<String> lower(Set<String> texts) {
+    Set<String> lowerTexts = new HashSet<>();
+    for (String text : texts) {
+      if (text != null && !text.isEmpty()) {
+        lowerTexts.add(text.toLowerCase(Locale.ROOT));
+      }
+    }
+    return lowerTexts;
+  }
+}
@@ -2,15 +2,26 @@ package io.aiven.klaw.helpers;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.model.TopicConfigurationRequest;
+import io.aiven.klaw.model.enums.AclPatternType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 
 @Slf4j
 public class UtilMethods {
+
+  // suffix of the names of topics with prefixed acls, in the producer and consumer topics of a team
+  private static final String PREFIXED_TOPIC_SUFFIX = "--" + AclPatternType.PREFIXED.value + "--";
+
   public static String getUserName(Object principal, String preferredUsername) {
     if (principal instanceof DefaultOAuth2User) {
       DefaultOAuth2User defaultOAuth2User = (DefaultOAuth2User) principal;
@@ -57,4 +68,46 @@ public class UtilMethods {
     }
     return new TopicConfigurationRequest();
   }
+
+  /**
+   * Topics which have a literal or prefixed acl among the producer or consumer topics of a team, in
+   * one of their envs. A matched topic gets the envs of the acl topic.
+   */
+  public static List<Topic> filterProducerConsumerTopics(
+      List<Topic> producerConsumerTopics, List<Topic> topics) {
+    TopicPatternIndex<Integer> producerConsumerTopicIndex = new TopicPatternIndex<>();
+    for (int i = 0; i < producerConsumerTopics.size(); i++) {
+      String topicName = producerConsumerTopics.get(i).getTopicname();
+      if (topicName.endsWith(PREFIXED_TOPIC_SUFFIX)) {
+        producerConsumerTopicIndex.add(
+            topicName.substring(0, topicName.length() - PREFIXED_TOPIC_SUFFIX.length()), true, i);
+      } else {
+        producerConsumerTopicIndex.add(topicName, false, i);
+      }
+    }
+
+    List<Topic> filteredTopics = new ArrayList<>();
+    for (Topic topic : topics) {
+      // matches in the order of the producer consumer topics, the envs of the last one are kept
+      List<Integer> matches = producerConsumerTopicIndex.get(topic.getTopicname());
+      Collections.sort(matches);
+      for (int i : matches) {
+        Topic producerConsumerTopic = producerConsumerTopics.get(i);
+        if (topic.getEnvironmentsList().contains(producerConsumerTopic.getEnvironment())) {
+          topic.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
+          filteredTopics.add(topic);
+        }
+      }
+    }
+    return filteredTopics;
+  }
+
+  /** Ids of a bulk verdict which are numbers, the other ids fail on their own. */
+  public static List<Integer> parseRequestIds(Collection<String> reqIds) {
+    return reqIds.stream()
+        .map(reqId -> NumberUtils.toInt(reqId, -1))
+        .filter(reqId -> reqId >= 0)
+        .distinct()
+        .toList();
+  }
 }
@@ -1,10 +1,12 @@
 package io.aiven.klaw.helpers.db.rdbms;
 
 import io.aiven.klaw.dao.*;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.repository.*;
 import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +50,8 @@ public class DeleteDataJdbc {
   @Autowired(required = false)
   AclRepo aclRepo;
 
+  @Autowired AclMatchIndex aclMatchIndex;
+
   @Autowired(required = false)
   UserInfoRepo userInfoRepo;
 
@@ -63,6 +67,9 @@ public class DeleteDataJdbc {
   @Autowired(required = false)
   private TenantRepo tenantRepo;
 
+  @Autowired(required = false)
+  private KwApprovalOutboxRepo kwApprovalOutboxRepo;
+
   public DeleteDataJdbc() {}
 
   public DeleteDataJdbc(
@@ -230,7 +237,7 @@ public class DeleteDataJdbc {
     aclID.setTenantId(aclsToBeDeleted.getTenantId());
 
     Optional<Acl> acl = aclRepo.findById(aclID);
-    acl.ifPresent(value -> aclRepo.delete(value));
+    acl.ifPresent(this::deleteAcl);
 
     return ApiResultStatus.SUCCESS.value;
   }
@@ -242,7 +249,7 @@ public class DeleteDataJdbc {
     aclID.setTenantId(tenantId);
 
     Optional<Acl> aclRec = aclRepo.findById(aclID);
-    aclRec.ifPresent(acl -> aclRepo.delete(acl));
+    aclRec.ifPresent(this::deleteAcl);
 
     return ApiResultStatus.SUCCESS.value;
   }
@@ -320,6 +327,7 @@ public class DeleteDataJdbc {
 
     aclRequestsRepo.deleteByTenantId(tenantId);
     aclRepo.deleteByTenantId(tenantId);
+    aclMatchIndex.removeTenant(tenantId);
 
     schemaRequestRepo.deleteByTenantId(tenantId);
     messageSchemaRepo.deleteByTenantId(tenantId);
@@ -346,8 +354,19 @@ public class DeleteDataJdbc {
         a -> {
           AclID aclID = new AclID(a.getReq_no(), tenantId);
           Optional<Acl> optionalAcl = aclRepo.findById(aclID);
-          optionalAcl.ifPresent(acl -> aclRepo.delete(acl));
+          optionalAcl.ifPresent(this::deleteAcl);
         });
     return ApiResultStatus.SUCCESS.value;
   }
+
+  @Transactional
+  public String deleteApprovalOutboxEntries(String status, Timestamp completedBefore) {
+    kwApprovalOutboxRepo.deleteByStatusAndCompletedTimeBefore(status, completedBefore);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  private void deleteAcl(Acl acl) {
+    aclRepo.delete(acl);
+    aclMatchIndex.remove(acl);
+  }
 }
@@ -1,22 +1,37 @@
 package io.aiven.klaw.helpers.db.rdbms;
 
+import static io.aiven.klaw.config.CacheConfig.TENANTS_INFO_CACHE;
+
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.helpers.TopicOverviewCache;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
 
+/**
+ * The details of envs, clusters, teams and tenants come from the second level cache of
+ * ReferenceDataCache, which hands each caller an entity of its own. The tenants info is cached, the
+ * writes on this instance evict it and the metadata updates of other instances clear it.
+ */
 @Configuration
 public class HandleDbRequestsJdbc implements HandleDbRequests {
 
@@ -34,10 +49,16 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Autowired DeleteDataJdbc jdbcDeleteHelper;
 
+  @Autowired TopicOverviewCache topicOverviewCache;
+
+  @Autowired AclMatchIndex aclMatchIndex;
+
   /*--------------------Insert */
 
   public Map<String, String> requestForTopic(TopicRequest topicRequest) {
-    return jdbcInsertHelper.insertIntoRequestTopic(topicRequest);
+    Map<String, String> result = jdbcInsertHelper.insertIntoRequestTopic(topicRequest);
+    topicOverviewCache.invalidate(topicRequest.getTenantId());
+    return result;
   }
 
   public Map<String, String> requestForConnector(KafkaConnectorRequest connectorRequest) {
@@ -45,18 +66,22 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   public Map<String, String> requestForAcl(AclRequests aclReq) {
-    return jdbcInsertHelper.insertIntoRequestAcl(aclReq);
+    Map<String, String> result = jdbcInsertHelper.insertIntoRequestAcl(aclReq);
+    topicOverviewCache.invalidate(aclReq.getTenantId());
+    return result;
   }
 
   public String addNewUser(UserInfo userInfo) {
     return jdbcInsertHelper.insertIntoUsers(userInfo);
   }
 
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String addNewTeam(Team team) {
     return jdbcInsertHelper.insertIntoTeams(team);
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String addNewTenant(KwTenants kwTenants) {
     return jdbcInsertHelper.addNewTenant(kwTenants);
   }
@@ -66,12 +91,15 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String addNewCluster(KwClusters kwClusters) {
     return jdbcInsertHelper.insertIntoClusters(kwClusters);
   }
 
   public String requestForSchema(SchemaRequest schemaRequest) {
-    return jdbcInsertHelper.insertIntoRequestSchema(schemaRequest);
+    String result = jdbcInsertHelper.insertIntoRequestSchema(schemaRequest);
+    topicOverviewCache.invalidate(schemaRequest.getTenantId());
+    return result;
   }
 
   public CRUDResponse<Topic> addToSynctopics(List<Topic> topicRequests) {
@@ -83,7 +111,9 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   public String addToSyncacls(List<Acl> acls) {
-    return jdbcInsertHelper.insertIntoAclsSOT(acls, true);
+    String result = jdbcInsertHelper.insertIntoAclsSOT(acls, true);
+    invalidateTopicOverviews(acls, Acl::getTenantId);
+    return result;
   }
 
   @Override
@@ -241,6 +271,28 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectConnectorRequestsForConnector(connectorId, tenantId);
   }
 
+  @Override
+  public List<TopicRequest> getTopicRequestsForTopicIds(
+      Collection<Integer> topicIds, int tenantId) {
+    return jdbcSelectHelper.selectTopicRequestsForTopicIds(topicIds, tenantId);
+  }
+
+  @Override
+  public List<AclRequests> getAclRequestsForReqNos(Collection<Integer> reqNos, int tenantId) {
+    return jdbcSelectHelper.selectAclRequestsForReqNos(reqNos, tenantId);
+  }
+
+  @Override
+  public List<SchemaRequest> getSchemaRequestsForReqNos(Collection<Integer> reqNos, int tenantId) {
+    return jdbcSelectHelper.selectSchemaRequestsForReqNos(reqNos, tenantId);
+  }
+
+  @Override
+  public List<KafkaConnectorRequest> getConnectorRequestsForConnectorIds(
+      Collection<Integer> connectorIds, int tenantId) {
+    return jdbcSelectHelper.selectConnectorRequestsForConnectorIds(connectorIds, tenantId);
+  }
+
   @Override
   public List<TopicRequest> getTopicRequests(
       String topicName, String envId, String status, int tenantId) {
@@ -268,6 +320,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.getTopics(topicName, false, tenantId);
   }
 
+  @Override
+  public List<Topic> getTopics(Collection<String> topicNames, int tenantId) {
+    return jdbcSelectHelper.getTopics(topicNames, tenantId);
+  }
+
   @Override
   public List<KwKafkaConnector> getConnectors(String topicName, int tenantId) {
     return jdbcSelectHelper.getConnectors(topicName, false, tenantId);
@@ -303,6 +360,18 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.getPrefixedAclsSOT(env, tenantId);
   }
 
+  @Override
+  public List<Acl> getSyncAcls(Collection<String> envs, String topic, int tenantId) {
+    return jdbcSelectHelper.selectSyncAcls(envs, topic, tenantId);
+  }
+
+  @Override
+  public List<Acl> getPrefixedAclsMatchingTopic(
+      Collection<String> envs, String topicName, int tenantId) {
+    return aclMatchIndex.getPrefixedAcls(
+        tenantId, envs, topicName, () -> jdbcSelectHelper.selectAllAcls(tenantId));
+  }
+
   @Override
   public List<Acl> getUniqueConsumerGroups(int tenantId) {
     return jdbcSelectHelper.getUniqueConsumerGroups(tenantId);
@@ -388,6 +457,27 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.existsSchemaForTopic(topicName, env, tenantId);
   }
 
+  @Override
+  public Map<String, Set<String>> getTopicRequestTypesPerEnv(
+      String topicName, String requestStatus, int tenantId) {
+    return jdbcSelectHelper.getTopicRequestTypesPerEnv(topicName, requestStatus, tenantId);
+  }
+
+  @Override
+  public Set<String> getEnvsOfAclRequests(String topicName, String requestStatus, int tenantId) {
+    return jdbcSelectHelper.getEnvsOfAclRequests(topicName, requestStatus, tenantId);
+  }
+
+  @Override
+  public Set<String> getEnvsOfSchemaRequests(String topicName, String requestStatus, int tenantId) {
+    return jdbcSelectHelper.getEnvsOfSchemaRequests(topicName, requestStatus, tenantId);
+  }
+
+  @Override
+  public Set<String> getEnvsOfSchemas(String topicName, int tenantId) {
+    return jdbcSelectHelper.getEnvsOfSchemas(topicName, tenantId);
+  }
+
   @Override
   public List<AclRequests> getAllAclRequests(
       boolean isApproval,
@@ -617,7 +707,9 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String insertIntoMessageSchemaSOT(List<MessageSchema> schemaList) {
-    return jdbcInsertHelper.insertIntoMessageSchemaSOT(schemaList);
+    String result = jdbcInsertHelper.insertIntoMessageSchemaSOT(schemaList);
+    invalidateTopicOverviews(schemaList, MessageSchema::getTenantId);
+    return result;
   }
 
   @Override
@@ -757,7 +849,9 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public CRUDResponse<Topic> updateTopicRequest(TopicRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.updateTopicRequest(topicRequest, approver);
+    CRUDResponse<Topic> result = jdbcUpdateHelper.updateTopicRequest(topicRequest, approver);
+    topicOverviewCache.invalidate(topicRequest.getTenantId());
+    return result;
   }
 
   @Override
@@ -767,7 +861,9 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String updateTopicRequestStatus(TopicRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.updateTopicRequestStatus(topicRequest, approver);
+    String result = jdbcUpdateHelper.updateTopicRequestStatus(topicRequest, approver);
+    topicOverviewCache.invalidate(topicRequest.getTenantId());
+    return result;
   }
 
   @Override
@@ -777,7 +873,9 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   public String declineTopicRequest(TopicRequest topicRequest, String approver) {
-    return jdbcUpdateHelper.declineTopicRequest(topicRequest, approver);
+    String result = jdbcUpdateHelper.declineTopicRequest(topicRequest, approver);
+    topicOverviewCache.invalidate(topicRequest.getTenantId());
+    return result;
   }
 
   public String declineConnectorRequest(KafkaConnectorRequest topicRequest, String approver) {
@@ -786,12 +884,45 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String declineAclRequest(AclRequests aclReq, String approver) {
-    return jdbcUpdateHelper.declineAclRequest(aclReq, approver);
+    String result = jdbcUpdateHelper.declineAclRequest(aclReq, approver);
+    topicOverviewCache.invalidate(aclReq.getTenantId());
+    return result;
+  }
+
+  @Override
+  public String declineTopicRequests(
+      List<TopicRequest> topicRequests, String approver, int tenantId) {
+    String result = jdbcUpdateHelper.declineTopicRequests(topicRequests, approver);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
+  }
+
+  @Override
+  public String declineAclRequests(List<AclRequests> aclRequests, String approver, int tenantId) {
+    String result = jdbcUpdateHelper.declineAclRequests(aclRequests, approver);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
+  }
+
+  @Override
+  public String declineSchemaRequests(
+      List<SchemaRequest> schemaRequests, String approver, int tenantId) {
+    String result = jdbcUpdateHelper.declineSchemaRequests(schemaRequests, approver);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
+  }
+
+  @Override
+  public String declineConnectorRequests(
+      List<KafkaConnectorRequest> connectorRequests, String approver) {
+    return jdbcUpdateHelper.declineConnectorRequests(connectorRequests, approver);
   }
 
   public String updateAclRequest(
       AclRequests aclReq, String approver, Map<String, String> jsonParams, boolean saveReqOnly) {
-    return jdbcUpdateHelper.updateAclRequest(aclReq, approver, jsonParams, saveReqOnly);
+    String result = jdbcUpdateHelper.updateAclRequest(aclReq, approver, jsonParams, saveReqOnly);
+    topicOverviewCache.invalidate(aclReq.getTenantId());
+    return result;
   }
 
   @Override
@@ -800,12 +931,16 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   public String updateSchemaRequest(SchemaRequest schemaRequest, String approver) {
-    return jdbcUpdateHelper.updateSchemaRequest(schemaRequest, approver);
+    String result = jdbcUpdateHelper.updateSchemaRequest(schemaRequest, approver);
+    topicOverviewCache.invalidate(schemaRequest.getTenantId());
+    return result;
   }
 
   @Override
   public String updateSchemaRequestDecline(SchemaRequest schemaRequest, String approver) {
-    return jdbcUpdateHelper.updateSchemaRequestDecline(schemaRequest, approver);
+    String result = jdbcUpdateHelper.updateSchemaRequestDecline(schemaRequest, approver);
+    topicOverviewCache.invalidate(schemaRequest.getTenantId());
+    return result;
   }
 
   public String updatePassword(String username, String pwd) {
@@ -833,6 +968,7 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String updateTeam(Team team) {
     return jdbcUpdateHelper.updateTeam(team);
   }
@@ -850,12 +986,16 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String deleteTopicRequest(int topicId, String userName, int tenantId) {
-    return jdbcDeleteHelper.deleteTopicRequest(topicId, userName, tenantId);
+    String result = jdbcDeleteHelper.deleteTopicRequest(topicId, userName, tenantId);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
   }
 
   @Override
   public String deleteTopic(int topicId, int tenantId) {
-    return jdbcDeleteHelper.deleteTopic(topicId, tenantId);
+    String result = jdbcDeleteHelper.deleteTopic(topicId, tenantId);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
   }
 
   @Override
@@ -865,7 +1005,9 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String deleteAclRequest(int req_no, String userName, int tenantId) {
-    return jdbcDeleteHelper.deleteAclRequest(req_no, userName, tenantId);
+    String result = jdbcDeleteHelper.deleteAclRequest(req_no, userName, tenantId);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
   }
 
   @Override
@@ -874,6 +1016,7 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String deleteCluster(int clusterId, int tenantId) {
     return jdbcDeleteHelper.deleteCluster(clusterId, tenantId);
   }
@@ -889,23 +1032,28 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String deleteTeamRequest(Integer teamId, int tenantId) {
     return jdbcDeleteHelper.deleteTeamRequest(teamId, tenantId);
   }
 
   @Override
   public String deleteSchemaRequest(int schemaId, String userName, int tenantId) {
-    return jdbcDeleteHelper.deleteSchemaRequest(schemaId, userName, tenantId);
+    String result = jdbcDeleteHelper.deleteSchemaRequest(schemaId, userName, tenantId);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
   }
 
   @Override
   public void deleteSchemas(Topic topicObj) {
     jdbcDeleteHelper.deleteSchemas(topicObj);
+    topicOverviewCache.invalidate(topicObj.getTenantId());
   }
 
   @Override
   public void deleteSchema(int tenantId, String topicName, String schemaEnv) {
     jdbcDeleteHelper.deleteSchemasWithOptions(tenantId, topicName, schemaEnv);
+    topicOverviewCache.invalidate(tenantId);
   }
 
   @Override
@@ -914,6 +1062,7 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String deleteAllTeams(int tenantId) {
     return jdbcDeleteHelper.deleteAllTeams(tenantId);
   }
@@ -924,6 +1073,7 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String deleteAllClusters(int tenantId) {
     return jdbcDeleteHelper.deleteAllClusters(tenantId);
   }
@@ -940,20 +1090,25 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String deleteTxnData(int tenantId) {
-    return jdbcDeleteHelper.deleteTxnData(tenantId);
+    String result = jdbcDeleteHelper.deleteTxnData(tenantId);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String setTenantActivestatus(int tenantId, boolean status) {
     return jdbcUpdateHelper.setTenantActivestatus(tenantId, status);
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String updateTenant(int tenantId, String organizationName) {
     return jdbcUpdateHelper.updateTenant(tenantId, organizationName);
   }
 
   @Override
+  @CacheEvict(cacheNames = TENANTS_INFO_CACHE, allEntries = true, beforeInvocation = true)
   public String disableTenant(int tenantId) {
     return jdbcUpdateHelper.disableTenant(tenantId);
   }
@@ -1065,6 +1220,112 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectAllSchemas();
   }
 
+  @Override
+  public List<Topic> getAllTopics(Pageable pageable) {
+    return jdbcSelectHelper.getAllTopics(pageable);
+  }
+
+  @Override
+  public List<TopicRequest> getAllTopicRequests(Pageable pageable) {
+    return jdbcSelectHelper.getAllTopicRequests(pageable);
+  }
+
+  @Override
+  public List<KafkaConnectorRequest> getAllConnectorRequests(Pageable pageable) {
+    return jdbcSelectHelper.getAllConnectorRequests(pageable);
+  }
+
+  @Override
+  public List<KwKafkaConnector> getAllConnectors(Pageable pageable) {
+    return jdbcSelectHelper.getAllConnectors(pageable);
+  }
+
+  @Override
+  public List<Acl> getAllSubscriptions(Pageable pageable) {
+    return jdbcSelectHelper.getAllSubscriptions(pageable);
+  }
+
+  @Override
+  public List<AclRequests> getAllAclRequests(Pageable pageable) {
+    return jdbcSelectHelper.getAllAclRequests(pageable);
+  }
+
+  @Override
+  public List<SchemaRequest> getAllSchemaRequests(Pageable pageable) {
+    return jdbcSelectHelper.getAllSchemaRequests(pageable);
+  }
+
+  @Override
+  public List<MessageSchema> getAllSchemas(Pageable pageable) {
+    return jdbcSelectHelper.selectAllSchemas(pageable);
+  }
+
+  @Override
+  public String importTopicRequests(List<TopicRequest> topicRequests) {
+    String result = jdbcInsertHelper.importTopicRequests(topicRequests);
+    invalidateTopicOverviews(topicRequests, TopicRequest::getTenantId);
+    return result;
+  }
+
+  @Override
+  public String importAclRequests(List<AclRequests> aclRequests) {
+    String result = jdbcInsertHelper.importAclRequests(aclRequests);
+    invalidateTopicOverviews(aclRequests, AclRequests::getTenantId);
+    return result;
+  }
+
+  @Override
+  public String importSchemaRequests(List<SchemaRequest> schemaRequests) {
+    String result = jdbcInsertHelper.importSchemaRequests(schemaRequests);
+    invalidateTopicOverviews(schemaRequests, SchemaRequest::getTenantId);
+    return result;
+  }
+
+  @Override
+  public String importConnectorRequests(List<KafkaConnectorRequest> connectorRequests) {
+    return jdbcInsertHelper.importConnectorRequests(connectorRequests);
+  }
+
+  @Override
+  public String insertIntoReconResults(KwReconResult kwReconResult) {
+    return jdbcInsertHelper.insertIntoReconResults(kwReconResult);
+  }
+
+  @Override
+  public List<KwReconResult> getReconResults(String env, int tenantId) {
+    return jdbcSelectHelper.getReconResults(env, tenantId);
+  }
+
+  @Override
+  public String insertIntoApprovalOutbox(KwApprovalOutbox kwApprovalOutbox) {
+    return jdbcInsertHelper.insertIntoApprovalOutbox(kwApprovalOutbox);
+  }
+
+  @Override
+  public KwApprovalOutbox getApprovalOutboxEntry(String entityType, int reqNo, int tenantId) {
+    return jdbcSelectHelper.getApprovalOutboxEntry(entityType, reqNo, tenantId);
+  }
+
+  @Override
+  public List<KwApprovalOutbox> getDueApprovalOutboxEntries(int limit) {
+    return jdbcSelectHelper.getDueApprovalOutboxEntries(limit);
+  }
+
+  @Override
+  public String updateApprovalOutboxEntry(KwApprovalOutbox kwApprovalOutbox) {
+    return jdbcUpdateHelper.updateApprovalOutboxEntry(kwApprovalOutbox);
+  }
+
+  @Override
+  public String deleteApprovalOutboxEntries(String status, Timestamp completedBefore) {
+    return jdbcDeleteHelper.deleteApprovalOutboxEntries(status, completedBefore);
+  }
+
+  @Override
+  public String insertIntoMailDeadLetters(List<KwMailDeadLetter> kwMailDeadLetters) {
+    return jdbcInsertHelper.insertIntoMailDeadLetters(kwMailDeadLetters);
+  }
+
   @Override
   public List<Team> getTeams() {
     return jdbcSelectHelper.selectTeams();
@@ -1092,10 +1353,23 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public String deleteAcls(List<Acl> listDeleteAcls, int tenantId) {
-    return jdbcDeleteHelper.deleteAcls(listDeleteAcls, tenantId);
+    String result = jdbcDeleteHelper.deleteAcls(listDeleteAcls, tenantId);
+    topicOverviewCache.invalidate(tenantId);
+    return result;
   }
 
   public String updateDbWithUpdatedVersions(List<MessageSchema> schemaListUpdated) {
-    return jdbcUpdateHelper.updateDbWithUpdatedVersions(schemaListUpdated);
+    String result = jdbcUpdateHelper.updateDbWithUpdatedVersions(schemaListUpdated);
+    invalidateTopicOverviews(schemaListUpdated, MessageSchema::getTenantId);
+    return result;
+  }
+
+  // requests, acls and schemas are part of the topic overview
+  private <T> void invalidateTopicOverviews(List<T> entities, Function<T, Integer> tenantIdOf) {
+    entities.stream()
+        .map(tenantIdOf)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(topicOverviewCache::invalidate);
   }
 }
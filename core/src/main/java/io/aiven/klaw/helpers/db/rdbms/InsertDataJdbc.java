@@ -1,6 +1,7 @@
 package io.aiven.klaw.helpers.db.rdbms;
 
 import io.aiven.klaw.dao.*;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.RequestStatus;
@@ -15,6 +16,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -51,6 +54,8 @@ public class InsertDataJdbc {
   @Autowired(required = false)
   private AclRepo aclRepo;
 
+  @Autowired private AclMatchIndex aclMatchIndex;
+
   @Autowired(required = false)
   private TenantRepo tenantRepo;
 
@@ -81,6 +86,15 @@ public class InsertDataJdbc {
   @Autowired(required = false)
   private KwEntitySequenceRepo kwEntitySequenceRepo;
 
+  @Autowired(required = false)
+  private KwReconResultRepo kwReconResultRepo;
+
+  @Autowired(required = false)
+  private KwApprovalOutboxRepo kwApprovalOutboxRepo;
+
+  @Autowired(required = false)
+  private KwMailDeadLetterRepo kwMailDeadLetterRepo;
+
   @Autowired private SelectDataJdbc jdbcSelectHelper;
 
   public InsertDataJdbc() {}
@@ -225,10 +239,9 @@ public class InsertDataJdbc {
 
     aclReq.setRequestStatus(RequestStatus.CREATED.value);
     aclReq.setRequesttime(new Timestamp(System.currentTimeMillis()));
-    aclReq.setRequestingteam(jdbcSelectHelper.selectUserInfo(aclReq.getRequestor()).getTeamId());
-    aclRequestsRepo.save(aclReq);
-
     UserInfo userInfo = jdbcSelectHelper.selectUserInfo(aclReq.getRequestor());
+    aclReq.setRequestingteam(userInfo.getTeamId());
+    aclRequestsRepo.save(aclReq);
 
     ActivityLog activityLog = new ActivityLog();
     activityLog.setReq_no(getNextActivityLogRequestId(aclReq.getTenantId()));
@@ -265,6 +278,7 @@ public class InsertDataJdbc {
             acl.setReq_no(getNextAclId(acl.getTenantId()));
           }
           aclRepo.save(acl);
+          aclMatchIndex.add(acl);
         });
     return ApiResultStatus.SUCCESS.value;
   }
@@ -310,6 +324,49 @@ public class InsertDataJdbc {
     return ApiResultStatus.SUCCESS.value;
   }
 
+  // Requests are imported as exported, keeping their ids and status. One transaction per batch.
+  public String importTopicRequests(List<TopicRequest> topicRequests) {
+    topicRequestsRepo.saveAll(topicRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  public String importAclRequests(List<AclRequests> aclRequests) {
+    aclRequestsRepo.saveAll(aclRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  public String importSchemaRequests(List<SchemaRequest> schemaRequests) {
+    schemaRequestRepo.saveAll(schemaRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  public String importConnectorRequests(List<KafkaConnectorRequest> connectorRequests) {
+    kafkaConnectorRequestsRepo.saveAll(connectorRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  // one row per tenant, env and entity type, replaced by every reconciliation run
+  public String insertIntoReconResults(KwReconResult kwReconResult) {
+    kwReconResultRepo.save(kwReconResult);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  public String insertIntoApprovalOutbox(KwApprovalOutbox kwApprovalOutbox) {
+    try {
+      kwApprovalOutboxRepo.save(kwApprovalOutbox);
+      return ApiResultStatus.SUCCESS.value;
+    } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+      // the same request was queued concurrently
+      log.debug("insertIntoApprovalOutbox {} queued concurrently", kwApprovalOutbox);
+      return ApiResultStatus.FAILURE.value;
+    }
+  }
+
+  public String insertIntoMailDeadLetters(List<KwMailDeadLetter> kwMailDeadLetters) {
+    kwMailDeadLetterRepo.saveAll(kwMailDeadLetters);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
   public String insertIntoUsers(UserInfo userInfo) {
     log.debug("insertIntoUsers {}", userInfo.getUsername());
     Optional<UserInfo> userExists = userInfoRepo.findById(userInfo.getUsername());
@@ -0,0 +1,56 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Statements executed on the database by the current thread while counting. Counts can be nested,
+ * e.g. a test counting around a request, and each of them sees the statements run inside of it.
+ */
+public final class QueryCount implements AutoCloseable {
+
+  private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+  private final QueryCount parent;
+
+  private int statements;
+
+  private QueryCount(QueryCount parent) {
+    this.parent = parent;
+  }
+
+  /** Starts counting the statements of the current thread, until closed. */
+  public static QueryCount start() {
+    QueryCount queryCount = new QueryCount(CURRENT.get());
+    CURRENT.set(queryCount);
+    return queryCount;
+  }
+
+  /** The data source, which counts each statement executed through it. */
+  public static DataSource countStatements(DataSource dataSource) {
+    return ProxyDataSourceBuilder.create("klaw", dataSource)
+        .afterQuery((execInfo, queryInfoList) -> increment())
+        .build();
+  }
+
+  private static void increment() {
+    for (QueryCount queryCount = CURRENT.get();
+        queryCount != null;
+        queryCount = queryCount.parent) {
+      queryCount.statements++;
+    }
+  }
+
+  public int getStatements() {
+    return statements;
+  }
+
+  @Override
+  public void close() {
+    if (parent == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(parent);
+    }
+  }
+}
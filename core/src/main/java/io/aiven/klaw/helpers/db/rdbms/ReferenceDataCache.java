@@ -0,0 +1,110 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static io.aiven.klaw.config.CacheConfig.TENANTS_INFO_CACHE;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwProperties;
+import io.aiven.klaw.dao.KwRolesPermissions;
+import io.aiven.klaw.dao.Team;
+import io.aiven.klaw.model.enums.EntityType;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate second level cache of envs, clusters, teams, tenants, properties and roles permissions,
+ * and of their finder queries. Writes through Hibernate on this instance update the cache, the
+ * metadata updates of other instances evict it, together with the matching caches of CacheConfig.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+  // region names of the cached entities, they are named after their tables
+  static final List<String> ENTITY_REGIONS =
+      List.of("kwenv", "kwclusters", "kwteams", "kwtenants", "kwproperties", "kwrolespermissions");
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Autowired private org.springframework.cache.CacheManager springCacheManager;
+
+  /** Cache manager with bounded regions for the entities and the query results. */
+  public static CacheManager createCacheManager(
+      long regionMaxSize, long queryMaxSize, Duration expiry) {
+    CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    // a cache manager of its own for each entity manager factory
+    CacheManager cacheManager =
+        provider.getCacheManager(
+            URI.create("klaw-hibernate-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+    ENTITY_REGIONS.forEach(
+        region -> cacheManager.createCache(region, getConfiguration(regionMaxSize, expiry)));
+    cacheManager.createCache(
+        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+        getConfiguration(queryMaxSize, expiry));
+    // update timestamps decide whether cached query results are stale, they are never evicted
+    cacheManager.createCache(
+        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        new CaffeineConfiguration<>());
+    return cacheManager;
+  }
+
+  /** Evicts the entities of a metadata update and all query results. */
+  public void evict(EntityType entityType) {
+    clearCaches(entityType);
+    jakarta.persistence.Cache cache = entityManagerFactory.getCache();
+    switch (entityType) {
+      case TEAM -> cache.evict(Team.class);
+      case ENVIRONMENT -> cache.evict(Env.class);
+      case CLUSTER -> cache.evict(KwClusters.class);
+      case ROLES_PERMISSIONS -> cache.evict(KwRolesPermissions.class);
+      case PROPERTIES -> cache.evict(KwProperties.class);
+        // creating and deleting a tenant touches all of its reference data
+      case TENANT -> cache.evictAll();
+      default -> {
+        return;
+      }
+    }
+    log.debug("Evicted second level cache of {}", entityType);
+    // query results are checked against the updates made on this instance only
+    entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+  }
+
+  private void clearCaches(EntityType entityType) {
+    Collection<String> cacheNames =
+        switch (entityType) {
+          case TEAM, CLUSTER -> List.of(TENANTS_INFO_CACHE);
+          case TENANT -> springCacheManager.getCacheNames();
+          default -> List.of();
+        };
+    for (String cacheName : cacheNames) {
+      Cache cache = springCacheManager.getCache(cacheName);
+      if (cache != null) {
+        cache.clear();
+      }
+    }
+  }
+
+  private static CaffeineConfiguration<Object, Object> getConfiguration(
+      long maxSize, Duration expiry) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxSize));
+    configuration.setExpireAfterWrite(OptionalLong.of(expiry.toNanos()));
+    return configuration;
+  }
+}
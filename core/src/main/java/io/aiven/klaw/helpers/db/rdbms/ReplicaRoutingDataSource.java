@@ -0,0 +1,118 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends the connections of read only transactions to a replica and everything else to the primary.
+ * Reads fall back to the primary while the replica lags more than the allowed lag or cannot be
+ * reached, and for a user who committed a write within the allowed lag, so that the user reads
+ * their own writes. The writes are tracked in this instance only, so with several instances this
+ * holds for users whose requests stay on one instance.
+ *
+ * <p>The routing is decided when the connection is fetched, so this is to be wrapped in a
+ * LazyConnectionDataSourceProxy, which fetches it once the transaction is set up.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private final DataSource replica;
+
+  private final long maxLagMillis;
+
+  // returns the lag of the replica in seconds, when empty the replica is only checked to be up
+  private final String lagQuery;
+
+  private final Map<String, Long> lastWritePerUser = new ConcurrentHashMap<>();
+
+  private volatile boolean replicaAvailable = true;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary, DataSource replica, Duration maxLag, String lagQuery) {
+    this.replica = replica;
+    this.maxLagMillis = maxLag.toMillis();
+    this.lagQuery = lagQuery == null || lagQuery.isBlank() ? "select 1" : lagQuery;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String user = getUser();
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      recordWriteOnCommit(user);
+      return Route.PRIMARY;
+    }
+    if (!replicaAvailable || wroteRecently(user)) {
+      return Route.PRIMARY;
+    }
+    return Route.REPLICA;
+  }
+
+  /** Checks the lag of the replica, reads go to the primary until the next check if it lags. */
+  public void checkReplicaLag() {
+    boolean available;
+    try (Connection connection = replica.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(lagQuery)) {
+      double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+      available = lagSeconds * 1000 <= maxLagMillis;
+      if (!available) {
+        log.warn("Replica lags {} seconds, reading from the primary", lagSeconds);
+      }
+    } catch (Exception e) {
+      log.warn("Replica is not reachable, reading from the primary: {}", e.getMessage());
+      available = false;
+    }
+    replicaAvailable = available;
+
+    long expired = System.currentTimeMillis() - maxLagMillis;
+    lastWritePerUser.values().removeIf(writeTime -> writeTime < expired);
+  }
+
+  boolean isReplicaAvailable() {
+    return replicaAvailable;
+  }
+
+  private void recordWriteOnCommit(String user) {
+    if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            lastWritePerUser.put(user, System.currentTimeMillis());
+          }
+        });
+  }
+
+  private boolean wroteRecently(String user) {
+    if (user == null) {
+      return false;
+    }
+    Long writeTime = lastWritePerUser.get(user);
+    return writeTime != null && System.currentTimeMillis() - writeTime < maxLagMillis;
+  }
+
+  private static String getUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication == null ? null : authentication.getName();
+  }
+}
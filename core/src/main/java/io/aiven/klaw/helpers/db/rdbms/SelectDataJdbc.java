@@ -6,15 +6,18 @@ import com.google.common.collect.Lists;
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.ApprovalOutboxStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
 import io.aiven.klaw.repository.*;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -31,14 +34,19 @@ import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+// runs in read only transactions when a read replica is configured, see ReplicaReadsConfig
 @Component
 @Slf4j
 public class SelectDataJdbc {
   private static final DateTimeFormatter DATE_TIME_FORMATTER =
       DateTimeFormatter.ofPattern("dd-MMM-yyyy HH:mm:ss");
 
+  private static final int TOPIC_NAMES_CHUNK = 1000;
+
   @Autowired(required = false)
   private UserInfoRepo userInfoRepo;
 
@@ -99,6 +107,12 @@ public class SelectDataJdbc {
   @Autowired(required = false)
   private KwEntitySequenceRepo kwEntitySequenceRepo;
 
+  @Autowired(required = false)
+  private KwReconResultRepo kwReconResultRepo;
+
+  @Autowired(required = false)
+  private KwApprovalOutboxRepo kwApprovalOutboxRepo;
+
   public boolean existsAclRequest(
       String topicName, String requestStatus, String env, int tenantId) {
     return aclRequestsRepo.existsByTenantIdAndEnvironmentAndRequestStatusAndTopicname(
@@ -499,6 +513,14 @@ public class SelectDataJdbc {
         env, AclPatternType.PREFIXED.value, tenantId);
   }
 
+  public List<Acl> selectSyncAcls(Collection<String> envs, String topic, int tenantId) {
+    return aclRepo.findAllByEnvironmentInAndTopicnameAndTenantId(envs, topic, tenantId);
+  }
+
+  public List<Acl> selectAllAcls(int tenantId) {
+    return aclRepo.findAllByTenantId(tenantId);
+  }
+
   /**
    * @param isApproval boolean should all requests be returned (true if requesting for an approvers
    *     view)
@@ -862,6 +884,39 @@ public class SelectDataJdbc {
     return topicReq.orElse(null);
   }
 
+  public List<TopicRequest> selectTopicRequestsForTopicIds(
+      Collection<Integer> topicIds, int tenantId) {
+    log.debug("selectTopicRequestsForTopicIds {}", topicIds);
+    List<TopicRequestID> ids =
+        topicIds.stream().map(topicId -> new TopicRequestID(topicId, tenantId)).toList();
+    return Lists.newArrayList(topicRequestsRepo.findAllById(ids));
+  }
+
+  public List<AclRequests> selectAclRequestsForReqNos(Collection<Integer> reqNos, int tenantId) {
+    log.debug("selectAclRequestsForReqNos {}", reqNos);
+    List<AclRequestID> ids =
+        reqNos.stream().map(reqNo -> new AclRequestID(reqNo, tenantId)).toList();
+    return Lists.newArrayList(aclRequestsRepo.findAllById(ids));
+  }
+
+  public List<SchemaRequest> selectSchemaRequestsForReqNos(
+      Collection<Integer> reqNos, int tenantId) {
+    log.debug("selectSchemaRequestsForReqNos {}", reqNos);
+    List<SchemaRequestID> ids =
+        reqNos.stream().map(reqNo -> new SchemaRequestID(reqNo, tenantId)).toList();
+    return Lists.newArrayList(schemaRequestRepo.findAllById(ids));
+  }
+
+  public List<KafkaConnectorRequest> selectConnectorRequestsForConnectorIds(
+      Collection<Integer> connectorIds, int tenantId) {
+    log.debug("selectConnectorRequestsForConnectorIds {}", connectorIds);
+    List<KafkaConnectorRequestID> ids =
+        connectorIds.stream()
+            .map(connectorId -> new KafkaConnectorRequestID(connectorId, tenantId))
+            .toList();
+    return Lists.newArrayList(kafkaConnectorRequestsRepo.findAllById(ids));
+  }
+
   public KafkaConnectorRequest selectConnectorRequestsForConnector(int connectorId, int tenantId) {
     log.debug("selectConnectorRequestsForConnector {}", connectorId);
     KafkaConnectorRequestID kafkaConnectorRequestID = new KafkaConnectorRequestID();
@@ -1000,6 +1055,16 @@ public class SelectDataJdbc {
     }
   }
 
+  // the topics of the names on all their environments, read in chunks to bound the in clause
+  public List<Topic> getTopics(Collection<String> topicNames, int tenantId) {
+    log.debug("getTopics {}", topicNames);
+    List<Topic> topics = new ArrayList<>();
+    for (List<String> chunk : Lists.partition(new ArrayList<>(topicNames), TOPIC_NAMES_CHUNK)) {
+      topics.addAll(topicRepo.findAllByTenantIdAndTopicnameIn(tenantId, chunk));
+    }
+    return topics;
+  }
+
   public List<KwKafkaConnector> getConnectors(String topicName, boolean allTopics, int tenantId) {
     log.debug("getConnectors {} {}", topicName, allTopics);
     if (allTopics) {
@@ -1815,6 +1880,59 @@ public class SelectDataJdbc {
     return Lists.newArrayList(kafkaConnectorRequestsRepo.findAll());
   }
 
+  public List<Topic> getAllTopics(Pageable pageable) {
+    return topicRepo.findAllForExport(pageable);
+  }
+
+  public List<Acl> getAllSubscriptions(Pageable pageable) {
+    return aclRepo.findAllForExport(pageable);
+  }
+
+  public List<MessageSchema> selectAllSchemas(Pageable pageable) {
+    return messageSchemaRepo.findAllForExport(pageable);
+  }
+
+  public List<KwKafkaConnector> getAllConnectors(Pageable pageable) {
+    return kafkaConnectorRepo.findAllForExport(pageable);
+  }
+
+  public List<TopicRequest> getAllTopicRequests(Pageable pageable) {
+    return topicRequestsRepo.findAllForExport(pageable);
+  }
+
+  public List<AclRequests> getAllAclRequests(Pageable pageable) {
+    return aclRequestsRepo.findAllForExport(pageable);
+  }
+
+  public List<SchemaRequest> getAllSchemaRequests(Pageable pageable) {
+    return schemaRequestRepo.findAllForExport(pageable);
+  }
+
+  public List<KafkaConnectorRequest> getAllConnectorRequests(Pageable pageable) {
+    return kafkaConnectorRequestsRepo.findAllForExport(pageable);
+  }
+
+  public List<KwReconResult> getReconResults(String env, int tenantId) {
+    if (env == null) {
+      return kwReconResultRepo.findAllByTenantId(tenantId);
+    }
+    return kwReconResultRepo.findAllByEnvironmentAndTenantId(env, tenantId);
+  }
+
+  public KwApprovalOutbox getApprovalOutboxEntry(String entityType, int reqNo, int tenantId) {
+    return kwApprovalOutboxRepo
+        .findById(new KwApprovalOutboxID(tenantId, entityType, reqNo))
+        .orElse(null);
+  }
+
+  public List<KwApprovalOutbox> getDueApprovalOutboxEntries(int limit) {
+    return kwApprovalOutboxRepo
+        .findAllByStatusInAndNextAttemptTimeLessThanEqualOrderByNextAttemptTime(
+            List.of(ApprovalOutboxStatus.PENDING.name(), ApprovalOutboxStatus.RUNNING.name()),
+            new Timestamp(System.currentTimeMillis()),
+            PageRequest.of(0, limit));
+  }
+
   public Integer getNextClusterId(int tenantId) {
     return kwClusterRepo.getNextClusterId(tenantId);
   }
@@ -1893,4 +2011,30 @@ public class SelectDataJdbc {
   public boolean existsSchemaForTopic(String topicName, String env, int tenantId) {
     return messageSchemaRepo.existsByTenantIdAndTopicnameAndEnvironment(tenantId, topicName, env);
   }
+
+  public Map<String, Set<String>> getTopicRequestTypesPerEnv(
+      String topicName, String requestStatus, int tenantId) {
+    Map<String, Set<String>> requestTypesPerEnv = new HashMap<>();
+    for (Object[] envAndType :
+        topicRequestsRepo.findEnvironmentsAndOperationTypes(topicName, requestStatus, tenantId)) {
+      requestTypesPerEnv
+          .computeIfAbsent((String) envAndType[0], env -> new HashSet<>())
+          .add((String) envAndType[1]);
+    }
+    return requestTypesPerEnv;
+  }
+
+  public Set<String> getEnvsOfAclRequests(String topicName, String requestStatus, int tenantId) {
+    return new HashSet<>(
+        aclRequestsRepo.findEnvironmentsOfRequests(topicName, requestStatus, tenantId));
+  }
+
+  public Set<String> getEnvsOfSchemaRequests(String topicName, String requestStatus, int tenantId) {
+    return new HashSet<>(
+        schemaRequestRepo.findEnvironmentsOfRequests(topicName, requestStatus, tenantId));
+  }
+
+  public Set<String> getEnvsOfSchemas(String topicName, int tenantId) {
+    return new HashSet<>(messageSchemaRepo.findEnvironmentsOfTopic(topicName, tenantId));
+  }
 }
@@ -4,12 +4,14 @@ import static org.springframework.beans.BeanUtils.copyProperties;
 
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.NewUserStatus;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.repository.AclRepo;
 import io.aiven.klaw.repository.AclRequestsRepo;
+import io.aiven.klaw.repository.KwApprovalOutboxRepo;
 import io.aiven.klaw.repository.KwKafkaConnectorRepo;
 import io.aiven.klaw.repository.KwKafkaConnectorRequestsRepo;
 import io.aiven.klaw.repository.KwPropertiesRepo;
@@ -22,12 +24,14 @@ import io.aiven.klaw.repository.TenantRepo;
 import io.aiven.klaw.repository.TopicRepo;
 import io.aiven.klaw.repository.TopicRequestsRepo;
 import io.aiven.klaw.repository.UserInfoRepo;
+import jakarta.transaction.Transactional;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -88,6 +92,11 @@ public class UpdateDataJdbc {
   @Autowired(required = false)
   private MessageSchemaRepo messageSchemaRepo;
 
+  @Autowired(required = false)
+  private KwApprovalOutboxRepo kwApprovalOutboxRepo;
+
+  @Autowired private AclMatchIndex aclMatchIndex;
+
   public UpdateDataJdbc(
       TopicRequestsRepo topicRequestsRepo,
       AclRequestsRepo aclRequestsRepo,
@@ -265,7 +274,7 @@ public class UpdateDataJdbc {
     acl.ifPresent(
         value -> {
           value.setJsonParams(jsonParams);
-          aclRepo.save(acl.get());
+          aclMatchIndex.add(aclRepo.save(value));
         });
 
     return ApiResultStatus.SUCCESS.value;
@@ -346,6 +355,60 @@ public class UpdateDataJdbc {
     return ApiResultStatus.SUCCESS.value;
   }
 
+  // declines of one bulk verdict are saved in one transaction
+  @Transactional
+  public String declineTopicRequests(List<TopicRequest> topicRequests, String approver) {
+    log.debug("declineTopicRequests {} {}", topicRequests.size(), approver);
+    Timestamp approvingTime = new Timestamp(System.currentTimeMillis());
+    for (TopicRequest topicRequest : topicRequests) {
+      topicRequest.setApprover(approver);
+      topicRequest.setRequestStatus(RequestStatus.DECLINED.value);
+      topicRequest.setApprovingtime(approvingTime);
+    }
+    topicRequestsRepo.saveAll(topicRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  @Transactional
+  public String declineAclRequests(List<AclRequests> aclRequests, String approver) {
+    log.debug("declineAclRequests {} {}", aclRequests.size(), approver);
+    Timestamp approvingTime = new Timestamp(System.currentTimeMillis());
+    for (AclRequests aclRequest : aclRequests) {
+      aclRequest.setApprover(approver);
+      aclRequest.setRequestStatus(RequestStatus.DECLINED.value);
+      aclRequest.setApprovingtime(approvingTime);
+    }
+    aclRequestsRepo.saveAll(aclRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  @Transactional
+  public String declineSchemaRequests(List<SchemaRequest> schemaRequests, String approver) {
+    log.debug("declineSchemaRequests {} {}", schemaRequests.size(), approver);
+    Timestamp approvingTime = new Timestamp(System.currentTimeMillis());
+    for (SchemaRequest schemaRequest : schemaRequests) {
+      schemaRequest.setApprover(approver);
+      schemaRequest.setRequestStatus(RequestStatus.DECLINED.value);
+      schemaRequest.setApprovingtime(approvingTime);
+    }
+    schemaRequestRepo.saveAll(schemaRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
+  @Transactional
+  public String declineConnectorRequests(
+      List<KafkaConnectorRequest> connectorRequests, String approver) {
+    log.debug("declineConnectorRequests {} {}", connectorRequests.size(), approver);
+    Timestamp approvingTime = new Timestamp(System.currentTimeMillis());
+    for (KafkaConnectorRequest connectorRequest : connectorRequests) {
+      connectorRequest.setApprover(approver);
+      connectorRequest.setRequestStatus(RequestStatus.DECLINED.value);
+      connectorRequest.setApprovingtime(approvingTime);
+    }
+    kafkaConnectorRequestsRepo.saveAll(connectorRequests);
+    return ApiResultStatus.SUCCESS.value;
+  }
+
   public String updatePassword(String username, String password) {
     log.debug("updatePassword {}", username);
     Optional<UserInfo> userRec = userInfoRepo.findById(username);
@@ -612,4 +675,15 @@ public class UpdateDataJdbc {
     messageSchemaRepo.saveAll(schemaListUpdated);
     return ApiResultStatus.SUCCESS.value;
   }
+
+  public String updateApprovalOutboxEntry(KwApprovalOutbox kwApprovalOutbox) {
+    try {
+      // the entry is updated again after an execution, so it takes the new version
+      kwApprovalOutbox.setVersion(kwApprovalOutboxRepo.save(kwApprovalOutbox).getVersion());
+      return ApiResultStatus.SUCCESS.value;
+    } catch (OptimisticLockingFailureException e) {
+      log.debug("updateApprovalOutboxEntry {} changed concurrently", kwApprovalOutbox);
+      return ApiResultStatus.FAILURE.value;
+    }
+  }
 }
@@ -22,4 +22,9 @@ public class KwMetadataUpdates implements Serializable {
   private String operationType;
 
   private Timestamp createdTime;
+
+  // numbers topic updates per origin server and tenant, to detect missed updates
+  private Long version;
+
+  private String origin;
 }
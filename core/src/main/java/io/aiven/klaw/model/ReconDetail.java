@@ -0,0 +1,15 @@
+package io.aiven.klaw.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconDetail {
+  private String name;
+
+  // ADDED (on the cluster, not in klaw) or DELETED (in klaw, not on the cluster)
+  private String remarks;
+}
@@ -0,0 +1,9 @@
+package io.aiven.klaw.model.enums;
+
+/** State of an approval queued for execution against the cluster. */
+public enum ApprovalOutboxStatus {
+  PENDING,
+  RUNNING,
+  SUCCESS,
+  FAILURE
+}
@@ -12,7 +12,8 @@ public enum EntityType {
   TENANT,
   ROLES_PERMISSIONS,
   PROPERTIES,
-  TOPICS;
+  TOPICS,
+  ACLS;
 
   @Nullable
   public static EntityType of(@Nullable String value) {
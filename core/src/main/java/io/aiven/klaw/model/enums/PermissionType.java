@@ -44,6 +44,14 @@ public enum PermissionType {
   FULL_ACCESS_USERS_TEAMS_ROLES("To assign any role to any user., view all teams of tenant."),
   SHUTDOWN_KLAW("To shutdown Klaw");
 
+  // the permissions of a role are held in a long, see mask()
+  static {
+    if (values().length > Long.SIZE) {
+      throw new IllegalStateException(
+          "A permission mask holds " + Long.SIZE + " permissions, found " + values().length);
+    }
+  }
+
   String description;
 
   PermissionType(String description) {
@@ -53,4 +61,9 @@ public enum PermissionType {
   public String getDescription() {
     return this.description;
   }
+
+  // bit of this permission in a role permission mask
+  public long mask() {
+    return 1L << ordinal();
+  }
 }
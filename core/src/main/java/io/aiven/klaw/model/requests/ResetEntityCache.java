@@ -16,4 +16,6 @@ public class ResetEntityCache {
   private String entityType;
   private String entityValue;
   private String operationType;
+  private Long version;
+  private String origin;
 }
@@ -0,0 +1,25 @@
+package io.aiven.klaw.model.response;
+
+import java.sql.Timestamp;
+import lombok.Data;
+
+@Data
+public class ApprovalOutboxResponse {
+  private String entityType;
+
+  private Integer reqNo;
+
+  private String environment;
+
+  private String status;
+
+  private String approver;
+
+  private Integer attempts;
+
+  private String message;
+
+  private Timestamp queuedTime;
+
+  private Timestamp completedTime;
+}
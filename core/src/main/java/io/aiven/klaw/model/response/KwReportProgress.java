@@ -0,0 +1,21 @@
+package io.aiven.klaw.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Written by the report thread while users poll it, hence the volatile fields. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KwReportProgress {
+  private volatile String status;
+
+  private volatile int sheetsWritten;
+
+  private volatile int sheetsTotal;
+
+  public synchronized void incrementSheetsWritten() {
+    sheetsWritten++;
+  }
+}
@@ -0,0 +1,29 @@
+package io.aiven.klaw.model.response;
+
+import io.aiven.klaw.model.ReconDetail;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class ReconResultResponse {
+  private String environment;
+
+  private String entityType;
+
+  private String status;
+
+  private Integer clusterCount;
+
+  private Integer klawCount;
+
+  private Integer addedCount;
+
+  private Integer deletedCount;
+
+  private List<ReconDetail> reconDetails;
+
+  private Timestamp reconTime;
+
+  private String reconBy;
+}
@@ -2,8 +2,10 @@ package io.aiven.klaw.repository;
 
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.AclID;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +25,9 @@ public interface AclRepo extends CrudRepository<Acl, AclID> {
   List<Acl> findAllByEnvironmentAndAclPatternTypeAndTenantId(
       String environment, String aclPatternType, int tenantId);
 
+  List<Acl> findAllByEnvironmentInAndTopicnameAndTenantId(
+      Collection<String> environments, String topicName, int tenantId);
+
   List<Acl> findAllByTenantId(int tenantId);
 
   @Query(
@@ -95,4 +100,8 @@ public interface AclRepo extends CrudRepository<Acl, AclID> {
   Integer getNextAclId(@Param("tenantId") Integer tenantId);
 
   void deleteByTenantId(int tenantId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from Acl e order by e.tenantId, e.req_no")
+  List<Acl> findAllForExport(Pageable pageable);
 }
@@ -4,6 +4,7 @@ import io.aiven.klaw.dao.AclRequestID;
 import io.aiven.klaw.dao.AclRequests;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -100,4 +101,17 @@ public interface AclRequestsRepo
       @Param("topicStatus") String topicStatus);
 
   void deleteByTenantId(int tenantId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from AclRequests e order by e.tenantId, e.req_no")
+  List<AclRequests> findAllForExport(Pageable pageable);
+
+  @Query(
+      value =
+          "select distinct e.environment from AclRequests e where e.tenantId = :tenantId"
+              + " and e.topicname = :topicName and e.requestStatus = :requestStatus")
+  List<String> findEnvironmentsOfRequests(
+      @Param("topicName") String topicName,
+      @Param("requestStatus") String requestStatus,
+      @Param("tenantId") Integer tenantId);
 }
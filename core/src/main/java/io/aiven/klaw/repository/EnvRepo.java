@@ -1,22 +1,30 @@
 package io.aiven.klaw.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.EnvID;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface EnvRepo extends CrudRepository<Env, EnvID> {
   Optional<Env> findById(EnvID id);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Env> findAllByTypeAndTenantId(String type, int tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Env> findAllByType(String type);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Env> findAllByClusterIdAndTenantId(Integer clusterId, int tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Env> findAllByTenantId(int tenantId);
 
   @Query(value = "select max(id) from kwenv where tenantid = :tenantId", nativeQuery = true)
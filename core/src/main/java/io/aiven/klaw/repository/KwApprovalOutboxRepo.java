@@ -0,0 +1,17 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwApprovalOutbox;
+import io.aiven.klaw.dao.KwApprovalOutboxID;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+
+public interface KwApprovalOutboxRepo extends CrudRepository<KwApprovalOutbox, KwApprovalOutboxID> {
+
+  List<KwApprovalOutbox> findAllByStatusInAndNextAttemptTimeLessThanEqualOrderByNextAttemptTime(
+      Collection<String> statuses, Timestamp time, Pageable pageable);
+
+  void deleteByStatusAndCompletedTimeBefore(String status, Timestamp time);
+}
@@ -1,13 +1,18 @@
 package io.aiven.klaw.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import io.aiven.klaw.dao.KwClusterID;
 import io.aiven.klaw.dao.KwClusters;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface KwClusterRepo extends CrudRepository<KwClusters, KwClusterID> {
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<KwClusters> findAllByClusterTypeAndTenantId(String type, int tenantId);
 
   @Query(
@@ -15,6 +20,7 @@ public interface KwClusterRepo extends CrudRepository<KwClusters, KwClusterID> {
       nativeQuery = true)
   Integer getNextClusterId(@Param("tenantId") Integer tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<KwClusters> findAllByTenantId(int tenantId);
 
   void deleteByTenantId(int tenantId);
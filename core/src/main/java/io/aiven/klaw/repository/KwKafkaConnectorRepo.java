@@ -4,6 +4,7 @@ import io.aiven.klaw.dao.KwKafkaConnector;
 import io.aiven.klaw.dao.KwKafkaConnectorID;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -44,4 +45,8 @@ public interface KwKafkaConnectorRepo extends CrudRepository<KwKafkaConnector, K
       String connectorName, String env, int tenantId);
 
   void deleteByTenantId(int tenantId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from KwKafkaConnector e order by e.tenantId, e.connectorId")
+  List<KwKafkaConnector> findAllForExport(Pageable pageable);
 }
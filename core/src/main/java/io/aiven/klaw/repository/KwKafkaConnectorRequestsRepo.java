@@ -5,6 +5,7 @@ import io.aiven.klaw.dao.KafkaConnectorRequestID;
 import io.aiven.klaw.model.enums.RequestStatus;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -89,4 +90,8 @@ public interface KwKafkaConnectorRequestsRepo
       @Param("connectorStatus") String connectorStatus);
 
   void deleteByTenantId(int tenantId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from KafkaConnectorRequest e order by e.tenantId, e.connectorId")
+  List<KafkaConnectorRequest> findAllForExport(Pageable pageable);
 }
@@ -0,0 +1,6 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwMailDeadLetter;
+import org.springframework.data.repository.CrudRepository;
+
+public interface KwMailDeadLetterRepo extends CrudRepository<KwMailDeadLetter, String> {}
@@ -1,13 +1,19 @@
 package io.aiven.klaw.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import io.aiven.klaw.dao.KwProperties;
 import io.aiven.klaw.dao.KwPropertiesID;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
 public interface KwPropertiesRepo extends CrudRepository<KwProperties, KwPropertiesID> {
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   KwProperties findFirstByKwKeyAndTenantIdOrderByTenantId(String kwKey, int tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<KwProperties> findAllByTenantId(int tenantId);
 
   void deleteByTenantId(int tenantId);
@@ -0,0 +1,13 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwReconResult;
+import io.aiven.klaw.dao.KwReconResultID;
+import java.util.List;
+import org.springframework.data.repository.CrudRepository;
+
+public interface KwReconResultRepo extends CrudRepository<KwReconResult, KwReconResultID> {
+
+  List<KwReconResult> findAllByTenantId(int tenantId);
+
+  List<KwReconResult> findAllByEnvironmentAndTenantId(String environment, int tenantId);
+}
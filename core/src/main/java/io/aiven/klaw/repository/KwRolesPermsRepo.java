@@ -1,10 +1,14 @@
 package io.aiven.klaw.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import io.aiven.klaw.dao.KwRolesPermissions;
 import io.aiven.klaw.dao.KwRolesPermissionsID;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,11 +17,14 @@ import org.springframework.stereotype.Repository;
 public interface KwRolesPermsRepo extends CrudRepository<KwRolesPermissions, KwRolesPermissionsID> {
   Optional<KwRolesPermissions> findById(KwRolesPermissionsID rolesPermissionsID);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<KwRolesPermissions> findAllByTenantId(int tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<KwRolesPermissions> findAllByRoleIdAndPermissionAndTenantId(
       String roleId, String permission, int tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<KwRolesPermissions> findAllByRoleIdAndTenantId(String roleId, int tenantId);
 
   @Query(
@@ -4,6 +4,7 @@ import io.aiven.klaw.dao.MessageSchema;
 import io.aiven.klaw.dao.MessageSchemaID;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -51,4 +52,15 @@ public interface MessageSchemaRepo extends CrudRepository<MessageSchema, Message
 
   void deleteByTenantIdAndTopicnameAndEnvironment(
       int tenantId, String topicName, String environmentId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from MessageSchema e order by e.tenantId, e.req_no")
+  List<MessageSchema> findAllForExport(Pageable pageable);
+
+  @Query(
+      value =
+          "select distinct e.environment from MessageSchema e where e.tenantId = :tenantId"
+              + " and e.topicname = :topicName")
+  List<String> findEnvironmentsOfTopic(
+      @Param("topicName") String topicName, @Param("tenantId") Integer tenantId);
 }
@@ -1,10 +1,14 @@
 package io.aiven.klaw.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.TeamID;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,15 +19,19 @@ public interface TeamRepo extends CrudRepository<Team, TeamID> {
   @Override
   Optional<Team> findById(TeamID teamId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Team> findAllByTenantId(int tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Team> findAllByTenantIdAndTeamname(int tenantId, String teamName);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<Team> findAllByTenantIdAndTeamId(int tenantId, Integer teamId);
 
   @Query(value = "select max(teamid) from kwteams where tenantid = :tenantId", nativeQuery = true)
   Integer getNextTeamId(@Param("tenantId") Integer tenantId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Team findFirstByTenantIdAndTeamnameOrderByTenantId(int tenantId, String teamName);
 
   void deleteByTenantId(int tenantId);
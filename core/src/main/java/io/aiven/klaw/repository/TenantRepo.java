@@ -1,12 +1,20 @@
 package io.aiven.klaw.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import io.aiven.klaw.dao.KwTenants;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TenantRepo extends CrudRepository<KwTenants, Integer> {
+  @Override
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  Iterable<KwTenants> findAll();
+
   @Query(value = "select max(tenantid) from kwtenants", nativeQuery = true)
   Integer getMaxTenantId();
 }
@@ -4,6 +4,7 @@ import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.TopicID;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -106,4 +107,8 @@ public interface TopicRepo extends CrudRepository<Topic, TopicID> {
   void deleteByTopicnameAndEnvironmentAndTenantId(String topicName, String env, int tenantId);
 
   void deleteByTenantId(int tenantId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from Topic e order by e.tenantId, e.topicid")
+  List<Topic> findAllForExport(Pageable pageable);
 }
@@ -4,6 +4,7 @@ import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.TopicRequestID;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -96,4 +97,18 @@ public interface TopicRequestsRepo
       @Param("topicStatus") String topicStatus);
 
   void deleteByTenantId(int tenantId);
+
+  // stable ordering, so that exports can read the whole table page by page
+  @Query(value = "select e from TopicRequest e order by e.tenantId, e.topicid")
+  List<TopicRequest> findAllForExport(Pageable pageable);
+
+  @Query(
+      value =
+          "select distinct e.environment, e.requestOperationType from TopicRequest e"
+              + " where e.tenantId = :tenantId and e.topicname = :topicName"
+              + " and e.requestStatus = :requestStatus")
+  List<Object[]> findEnvironmentsAndOperationTypes(
+      @Param("topicName") String topicName,
+      @Param("requestStatus") String requestStatus,
+      @Param("tenantId") Integer tenantId);
 }
@@ -8,6 +8,7 @@ import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_105;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_106;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_107;
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.helpers.KwConstants.REQUESTOR_SUBSCRIPTIONS;
 import static io.aiven.klaw.model.enums.MailType.ACL_DELETE_REQUESTED;
 import static io.aiven.klaw.model.enums.MailType.ACL_REQUESTED;
@@ -28,6 +29,7 @@ import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.enums.AclIPPrincipleType;
 import io.aiven.klaw.model.enums.AclPatternType;
@@ -53,13 +55,17 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -85,6 +91,10 @@ public class AclControllerService {
 
   @Autowired private CommonUtilsService commonUtilsService;
 
+  @Autowired private ApprovalOutboxService approvalOutboxService;
+
+  private record TopicInEnv(String env, String topicName) {}
+
   AclControllerService(ClusterApiService clusterApiService, MailUtils mailService) {
     this.clusterApiService = clusterApiService;
     this.mailService = mailService;
@@ -632,21 +642,203 @@ public class AclControllerService {
     HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
     AclRequests aclReq = dbHandle.getAcl(Integer.parseInt(req_no), tenantId);
 
-    ApiResponse aclValidationResponse = validateAclRequest(aclReq, userDetails, tenantId);
+    return approveAclRequest(
+        aclReq,
+        userDetails,
+        tenantId,
+        commonUtilsService.getEnvsFromUserId(userDetails),
+        getTopicsInEnvs(tenantId),
+        commonUtilsService.getLoginUrl());
+  }
+
+  /**
+   * Approves the requests of a bulk verdict. The approver, the requests and the topics they are
+   * checked against are loaded once, and the acls of the approved requests are submitted to the
+   * cluster api together.
+   */
+  public List<ApiResponse> approveAclRequests(List<String> reqNos) {
+    log.info("approveAclRequests {}", reqNos);
+    final String userDetails = getCurrentUserName();
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    if (commonUtilsService.isNotAuthorizedUser(
+        getPrincipal(), PermissionType.APPROVE_SUBSCRIPTIONS)) {
+      return Collections.nCopies(reqNos.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    Set<TopicInEnv> topicsInEnvs = getTopicsInEnvs(tenantId);
+    String loginUrl = commonUtilsService.getLoginUrl();
+    Map<Integer, AclRequests> aclRequests = getAclRequestsFromReqNos(reqNos, tenantId);
+
+    // the responses of the approved requests are filled in once they are executed
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    Map<Integer, AclRequests> approvedRequests = new LinkedHashMap<>();
+    for (String reqNo : reqNos) {
+      try {
+        // removed, so that a request listed twice is approved once
+        AclRequests aclReq = aclRequests.remove(Integer.parseInt(reqNo));
+        ApiResponse aclValidationResponse =
+            validateAclRequest(aclReq, userDetails, allowedEnvIdSet, topicsInEnvs);
+        if (!aclValidationResponse.isSuccess()) {
+          apiResponses.add(aclValidationResponse);
+        } else if (approvalOutboxService.isEnabled()) {
+          apiResponses.add(
+              approvalOutboxService.enqueue(
+                  RequestEntityType.ACL,
+                  aclReq.getReq_no(),
+                  aclReq.getEnvironment(),
+                  tenantId,
+                  userDetails,
+                  loginUrl));
+        } else {
+          approvedRequests.put(apiResponses.size(), aclReq);
+          apiResponses.add(null);
+        }
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        apiResponses.add(
+            ApiResponse.notOk(String.format(REQ_SER_ERR_101, reqNo) + " " + e.getMessage()));
+      }
+    }
+    if (!approvedRequests.isEmpty()) {
+      executeAclRequests(approvedRequests, apiResponses, userDetails, tenantId, loginUrl);
+    }
+    return apiResponses;
+  }
+
+  private void executeAclRequests(
+      Map<Integer, AclRequests> approvedRequests,
+      List<ApiResponse> apiResponses,
+      String userDetails,
+      int tenantId,
+      String loginUrl) {
+    List<AclRequests> clusterAclRequests = new ArrayList<>();
+    List<Integer> clusterRequestCounts = new ArrayList<>();
+    for (AclRequests aclReq : approvedRequests.values()) {
+      List<AclRequests> requestsOfAcl = getClusterAclRequests(aclReq);
+      clusterAclRequests.addAll(requestsOfAcl);
+      clusterRequestCounts.add(requestsOfAcl.size());
+    }
+
+    List<ApiResponse> clusterResponses;
+    try {
+      clusterResponses = clusterApiService.updateAcls(clusterAclRequests, tenantId);
+    } catch (Exception e) {
+      log.error("Exception:", e);
+      approvedRequests.forEach(
+          (index, aclReq) ->
+              apiResponses.set(
+                  index,
+                  ApiResponse.notOk(
+                      String.format(REQ_SER_ERR_101, aclReq.getReq_no()) + " " + e.getMessage())));
+      return;
+    }
+
+    int clusterResponseIndex = 0;
+    Iterator<Integer> clusterRequestCountIterator = clusterRequestCounts.iterator();
+    for (Map.Entry<Integer, AclRequests> approvedRequest : approvedRequests.entrySet()) {
+      AclRequests aclReq = approvedRequest.getValue();
+      int clusterRequestCount = clusterRequestCountIterator.next();
+      ApiResponse clusterResponse =
+          getAclResponse(
+              clusterResponses.subList(
+                  clusterResponseIndex, clusterResponseIndex + clusterRequestCount));
+      clusterResponseIndex += clusterRequestCount;
+      try {
+        apiResponses.set(
+            approvedRequest.getKey(),
+            completeAclRequest(aclReq, clusterResponse, userDetails, tenantId, loginUrl));
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        apiResponses.set(
+            approvedRequest.getKey(),
+            ApiResponse.notOk(
+                String.format(REQ_SER_ERR_101, aclReq.getReq_no()) + " " + e.getMessage()));
+      }
+    }
+    if (approvedRequests.keySet().stream().anyMatch(index -> apiResponses.get(index).isSuccess())) {
+      updateAclsMetadata(tenantId);
+    }
+  }
+
+  // the first failed response of the ips or principals of a request, otherwise the last one
+  private static ApiResponse getAclResponse(List<ApiResponse> clusterResponses) {
+    return clusterResponses.stream()
+        .filter(clusterResponse -> clusterResponse == null || !clusterResponse.isSuccess())
+        .findFirst()
+        .orElse(clusterResponses.get(clusterResponses.size() - 1));
+  }
+
+  private ApiResponse approveAclRequest(
+      AclRequests aclReq,
+      String userDetails,
+      int tenantId,
+      Set<String> allowedEnvIdSet,
+      Set<TopicInEnv> topicsInEnvs,
+      String loginUrl)
+      throws KlawException {
+    ApiResponse aclValidationResponse =
+        validateAclRequest(aclReq, userDetails, allowedEnvIdSet, topicsInEnvs);
     if (!aclValidationResponse.isSuccess()) {
       return aclValidationResponse;
     }
 
-    String allIps = aclReq.getAcl_ip();
-    String allSsl = aclReq.getAcl_ssl();
+    if (approvalOutboxService.isEnabled()) {
+      return approvalOutboxService.enqueue(
+          RequestEntityType.ACL,
+          aclReq.getReq_no(),
+          aclReq.getEnvironment(),
+          tenantId,
+          userDetails,
+          loginUrl);
+    }
+    return executeAclRequest(aclReq, userDetails, tenantId, loginUrl);
+  }
+
+  /** Approves a request taken from the approval outbox, validated again as it may have changed. */
+  public ApiResponse approveQueuedAclRequest(
+      int reqNo, String userDetails, int tenantId, String loginUrl) throws KlawException {
+    AclRequests aclReq = manageDatabase.getHandleDbRequests().getAcl(reqNo, tenantId);
+    ApiResponse aclValidationResponse =
+        validateAclRequest(
+            aclReq,
+            userDetails,
+            commonUtilsService.getEnvsFromUserId(userDetails),
+            getTopicsInEnvs(tenantId));
+    if (!aclValidationResponse.isSuccess()) {
+      return aclValidationResponse;
+    }
+    return executeAclRequest(aclReq, userDetails, tenantId, loginUrl);
+  }
 
+  private ApiResponse executeAclRequest(
+      AclRequests aclReq, String userDetails, int tenantId, String loginUrl) throws KlawException {
     ResponseEntity<ApiResponse> response = invokeClusterApiAclRequest(tenantId, aclReq);
-    // set back all ips, principals
-    aclReq.setAcl_ip(allIps);
-    aclReq.setAcl_ssl(allSsl);
-    String updateAclReqStatus;
-    updateAclReqStatus =
-        handleAclRequestClusterApiResponse(userDetails, dbHandle, aclReq, response, tenantId);
+    ApiResponse apiResponse =
+        completeAclRequest(
+            aclReq, response == null ? null : response.getBody(), userDetails, tenantId, loginUrl);
+    if (apiResponse.isSuccess()) {
+      updateAclsMetadata(tenantId);
+    }
+    return apiResponse;
+  }
+
+  // the other servers load the acls of the tenant again
+  private void updateAclsMetadata(int tenantId) {
+    commonUtilsService.updateMetadata(
+        tenantId, EntityType.ACLS, MetadataOperationType.UPDATE, null);
+  }
+
+  private ApiResponse completeAclRequest(
+      AclRequests aclReq,
+      ApiResponse clusterResponse,
+      String userDetails,
+      int tenantId,
+      String loginUrl) {
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    String updateAclReqStatus =
+        handleAclRequestClusterApiResponse(
+            userDetails, dbHandle, aclReq, clusterResponse, tenantId);
 
     MailType notifyUserType = ACL_REQUEST_APPROVED;
     if (!updateAclReqStatus.equals(ApiResultStatus.SUCCESS.value)) {
@@ -664,7 +856,7 @@ public class AclControllerService {
         aclReq.getTeamId(),
         dbHandle,
         notifyUserType,
-        commonUtilsService.getLoginUrl());
+        loginUrl);
     return ApiResultStatus.SUCCESS.value.equals(updateAclReqStatus)
         ? ApiResponse.ok(updateAclReqStatus)
         : ApiResponse.notOk(updateAclReqStatus);
@@ -696,7 +888,11 @@ public class AclControllerService {
         remarksAcl);
   }
 
-  private ApiResponse validateAclRequest(AclRequests aclReq, String userDetails, int tenantId) {
+  private ApiResponse validateAclRequest(
+      AclRequests aclReq,
+      String userDetails,
+      Set<String> allowedEnvIdSet,
+      Set<TopicInEnv> topicsInEnvs) {
     if (aclReq == null || aclReq.getReq_no() == null) {
       return ApiResponse.notOk(ACL_ERR_105);
     }
@@ -709,31 +905,40 @@ public class AclControllerService {
       return ApiResponse.notOk(REQ_ERR_101);
     }
 
-    if (manageDatabase.getTopicsForTenant(tenantId).stream()
-        .noneMatch(
-            topic ->
-                topic.getEnvironment().equals(aclReq.getEnvironment())
-                    && aclReq.getTopicname().equals(topic.getTopicname()))) {
+    if (!topicsInEnvs.contains(new TopicInEnv(aclReq.getEnvironment(), aclReq.getTopicname()))) {
       return ApiResponse.notOk(ACL_ERR_101);
     }
 
     // tenant filtering
-    if (!commonUtilsService.getEnvsFromUserId(userDetails).contains(aclReq.getEnvironment())) {
+    if (!allowedEnvIdSet.contains(aclReq.getEnvironment())) {
       return ApiResponse.NOT_AUTHORIZED;
     }
 
     return ApiResponse.SUCCESS;
   }
 
+  private Set<TopicInEnv> getTopicsInEnvs(int tenantId) {
+    return manageDatabase.getTopicsForTenant(tenantId).stream()
+        .map(topic -> new TopicInEnv(topic.getEnvironment(), topic.getTopicname()))
+        .collect(Collectors.toSet());
+  }
+
+  private Map<Integer, AclRequests> getAclRequestsFromReqNos(List<String> reqNos, int tenantId) {
+    return manageDatabase
+        .getHandleDbRequests()
+        .getAclRequestsForReqNos(UtilMethods.parseRequestIds(reqNos), tenantId)
+        .stream()
+        .collect(Collectors.toMap(AclRequests::getReq_no, Function.identity()));
+  }
+
   private String handleAclRequestClusterApiResponse(
       String userDetails,
       HandleDbRequests dbHandle,
       AclRequests aclReq,
-      ResponseEntity<ApiResponse> response,
+      ApiResponse responseBody,
       int tenantId) {
     String updateAclReqStatus;
     try {
-      ApiResponse responseBody = Objects.requireNonNull(response).getBody();
       if (Objects.requireNonNull(responseBody).isSuccess()) {
         Map<String, String> jsonParams = new HashMap<>();
         String aivenAclIdKey = "aivenaclid";
@@ -782,32 +987,40 @@ public class AclControllerService {
   private ResponseEntity<ApiResponse> invokeClusterApiAclRequest(int tenantId, AclRequests aclReq)
       throws KlawException {
     ResponseEntity<ApiResponse> response = null;
+    for (AclRequests clusterAclReq : getClusterAclRequests(aclReq)) {
+      response = clusterApiService.approveAclRequests(clusterAclReq, tenantId);
+    }
+    return response;
+  }
 
+  // one request per ip or principal, as the cluster api takes one of them per acl request
+  private List<AclRequests> getClusterAclRequests(AclRequests aclReq) {
     if (aclReq.getAcl_ssl() != null && aclReq.getAcl_ssl().length() > 0) {
       aclReq.setAclIpPrincipleType(AclIPPrincipleType.PRINCIPAL);
     } else {
       aclReq.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
     }
-    AclIPPrincipleType aclIPPrincipleType = aclReq.getAclIpPrincipleType();
 
-    switch (aclIPPrincipleType) {
+    List<AclRequests> clusterAclRequests = new ArrayList<>();
+    switch (aclReq.getAclIpPrincipleType()) {
       case IP_ADDRESS -> {
-        String[] aclListIp = aclReq.getAcl_ip().split(SEPARATOR_ACL);
-        for (String s : aclListIp) {
-          aclReq.setAcl_ip(s);
-          response = clusterApiService.approveAclRequests(aclReq, tenantId);
+        for (String aclIp : aclReq.getAcl_ip().split(SEPARATOR_ACL)) {
+          AclRequests clusterAclReq = new AclRequests();
+          copyProperties(aclReq, clusterAclReq);
+          clusterAclReq.setAcl_ip(aclIp);
+          clusterAclRequests.add(clusterAclReq);
         }
       }
       case PRINCIPAL -> {
-        String[] aclListSsl = aclReq.getAcl_ssl().split(SEPARATOR_ACL);
-        for (String s : aclListSsl) {
-          aclReq.setAcl_ssl(s);
-          response = clusterApiService.approveAclRequests(aclReq, tenantId);
+        for (String aclSsl : aclReq.getAcl_ssl().split(SEPARATOR_ACL)) {
+          AclRequests clusterAclReq = new AclRequests();
+          copyProperties(aclReq, clusterAclReq);
+          clusterAclReq.setAcl_ssl(aclSsl);
+          clusterAclRequests.add(clusterAclReq);
         }
       }
     }
-
-    return response;
+    return clusterAclRequests;
   }
 
   public ApiResponse declineAclRequests(String req_no, String reasonToDecline)
@@ -824,31 +1037,15 @@ public class AclControllerService {
     AclRequests aclReq =
         dbHandle.getAcl(Integer.parseInt(req_no), commonUtilsService.getTenantId(userDetails));
 
-    if (aclReq.getReq_no() == null) {
-      return ApiResponse.notOk(ACL_ERR_105);
-    }
-
-    if (!RequestStatus.CREATED.value.equals(aclReq.getRequestStatus())) {
-      return ApiResponse.notOk(REQ_ERR_101);
-    }
-
-    // tenant filtering
-    if (!commonUtilsService.getEnvsFromUserId(userDetails).contains(aclReq.getEnvironment())) {
-      return ApiResponse.NOT_AUTHORIZED;
+    ApiResponse validationResponse =
+        validateAclRequestToDecline(aclReq, commonUtilsService.getEnvsFromUserId(userDetails));
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
     }
 
     try {
       String updateAclReqStatus = dbHandle.declineAclRequest(aclReq, userDetails);
-      mailService.sendMail(
-          aclReq.getTopicname(),
-          aclReq.getAclType(),
-          reasonToDecline,
-          aclReq.getRequestor(),
-          aclReq.getApprover(),
-          aclReq.getTeamId(),
-          dbHandle,
-          ACL_REQUEST_DENIED,
-          commonUtilsService.getLoginUrl());
+      sendAclDeclinedMail(aclReq, reasonToDecline, dbHandle, commonUtilsService.getLoginUrl());
 
       return ApiResultStatus.SUCCESS.value.equals(updateAclReqStatus)
           ? ApiResponse.ok(updateAclReqStatus)
@@ -859,6 +1056,88 @@ public class AclControllerService {
     }
   }
 
+  /** Declines the requests of a bulk verdict, the declined requests are saved in one go. */
+  public List<ApiResponse> declineAclRequests(List<String> reqNos, String reasonToDecline)
+      throws KlawException {
+    log.info("declineAclRequests {}", reqNos);
+    String userDetails = getCurrentUserName();
+    if (commonUtilsService.isNotAuthorizedUser(
+        getPrincipal(), PermissionType.APPROVE_SUBSCRIPTIONS)) {
+      return Collections.nCopies(reqNos.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    Map<Integer, AclRequests> aclRequests = getAclRequestsFromReqNos(reqNos, tenantId);
+
+    // the responses of the declined requests are filled in once they are saved
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    List<AclRequests> declinedRequests = new ArrayList<>();
+    for (String reqNo : reqNos) {
+      // removed, so that a request listed twice is declined once
+      AclRequests aclReq = aclRequests.remove(NumberUtils.toInt(reqNo, -1));
+      ApiResponse validationResponse = validateAclRequestToDecline(aclReq, allowedEnvIdSet);
+      if (validationResponse.isSuccess()) {
+        declinedRequests.add(aclReq);
+        apiResponses.add(null);
+      } else {
+        apiResponses.add(validationResponse);
+      }
+    }
+    if (declinedRequests.isEmpty()) {
+      return apiResponses;
+    }
+
+    try {
+      HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+      String result = dbHandle.declineAclRequests(declinedRequests, userDetails, tenantId);
+      String loginUrl = commonUtilsService.getLoginUrl();
+      for (AclRequests aclReq : declinedRequests) {
+        sendAclDeclinedMail(aclReq, reasonToDecline, dbHandle, loginUrl);
+      }
+
+      ApiResponse declineResponse =
+          ApiResultStatus.SUCCESS.value.equals(result)
+              ? ApiResponse.ok(result)
+              : ApiResponse.notOk(result);
+      apiResponses.replaceAll(apiResponse -> apiResponse == null ? declineResponse : apiResponse);
+      return apiResponses;
+    } catch (Exception e) {
+      log.error("Error ", e);
+      throw new KlawException(e.getMessage());
+    }
+  }
+
+  private ApiResponse validateAclRequestToDecline(AclRequests aclReq, Set<String> allowedEnvIdSet) {
+    if (aclReq == null || aclReq.getReq_no() == null) {
+      return ApiResponse.notOk(ACL_ERR_105);
+    }
+
+    if (!RequestStatus.CREATED.value.equals(aclReq.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+
+    // tenant filtering
+    if (!allowedEnvIdSet.contains(aclReq.getEnvironment())) {
+      return ApiResponse.NOT_AUTHORIZED;
+    }
+    return ApiResponse.SUCCESS;
+  }
+
+  private void sendAclDeclinedMail(
+      AclRequests aclReq, String reasonToDecline, HandleDbRequests dbHandle, String loginUrl) {
+    mailService.sendMail(
+        aclReq.getTopicname(),
+        aclReq.getAclType(),
+        reasonToDecline,
+        aclReq.getRequestor(),
+        aclReq.getApprover(),
+        aclReq.getTeamId(),
+        dbHandle,
+        ACL_REQUEST_DENIED,
+        loginUrl);
+  }
+
   private String getCurrentUserName() {
     return mailService.getCurrentUserName();
   }
@@ -871,12 +1150,7 @@ public class AclControllerService {
   }
 
   public Env getEnvDetails(String envId, int tenantId) {
-
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaEnv(envId);
   }
 
   public List<OffsetDetails> getConsumerOffsets(
@@ -24,9 +24,11 @@ import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclPermissionType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import java.util.ArrayList;
@@ -35,11 +37,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -142,6 +142,9 @@ public class AclSyncControllerService {
         syncStatus = manageDatabase.getHandleDbRequests().deleteAcls(listDeleteAcls, tenantId);
       }
       if ((!listTopics.isEmpty() || !listDeleteAcls.isEmpty())) {
+        // the other servers load the acls of the tenant again
+        commonUtilsService.updateMetadata(
+            tenantId, EntityType.ACLS, MetadataOperationType.UPDATE, null);
         return ApiResponse.ok(syncStatus);
       }
 
@@ -175,22 +178,24 @@ public class AclSyncControllerService {
 
     resultMap.put("result", resultStatus);
     try {
+      List<Acl> acls;
       if ("SELECTED_ACLS".equals(syncBackAcls.getTypeOfSync())) {
+        acls = new ArrayList<>();
         for (String aclId : syncBackAcls.getAclIds()) {
           Acl acl =
               manageDatabase
                   .getHandleDbRequests()
                   .getSyncAclsFromReqNo(Integer.parseInt(aclId), tenantId);
           if (acl != null) {
-            approveSyncBackAcls(syncBackAcls, resultMap, logArray, acl, tenantId);
+            acls.add(acl);
           }
         }
       } else {
-        List<Acl> acls =
+        acls =
             manageDatabase.getHandleDbRequests().getSyncAcls(syncBackAcls.getSourceEnv(), tenantId);
-        for (Acl acl : acls) {
-          approveSyncBackAcls(syncBackAcls, resultMap, logArray, acl, tenantId);
-        }
+      }
+      if (!acls.isEmpty()) {
+        approveSyncBackAcls(syncBackAcls, resultMap, logArray, acls, tenantId);
       }
     } catch (Exception e) {
       log.error("Error ", e);
@@ -204,88 +209,117 @@ public class AclSyncControllerService {
         .build();
   }
 
+  // the acls are submitted to the cluster api in batches, instead of one call per acl
   private void approveSyncBackAcls(
       SyncBackAcls syncBackAcls,
       Map<String, List<String>> resultMap,
       List<String> logUpdateSyncBackTopics,
-      Acl aclFound,
+      List<Acl> aclsFound,
       int tenantId) {
     String userName = getUserName();
+    List<AclRequests> aclReqs = new ArrayList<>();
+    for (Acl aclFound : aclsFound) {
+      aclReqs.add(getSyncBackAclRequest(syncBackAcls, aclFound, userName, tenantId));
+    }
+
+    List<ApiResponse> responses;
     try {
-      AclRequests aclReq = new AclRequests();
-      copyProperties(aclFound, aclReq);
-      aclReq.setReq_no(null);
-      aclReq.setAcl_ip(aclFound.getAclip());
-      aclReq.setAcl_ssl(aclFound.getAclssl());
-      aclReq.setEnvironment(syncBackAcls.getTargetEnv());
-      aclReq.setRequestingteam(aclFound.getTeamId());
-      aclReq.setRequestOperationType(RequestOperationType.CREATE.value);
-      aclReq.setRequestor(userName);
-      aclReq.setTenantId(tenantId);
-
-      if (aclReq.getAcl_ssl() != null && aclReq.getAcl_ssl().length() > 0) {
-        aclReq.setAclIpPrincipleType(AclIPPrincipleType.PRINCIPAL);
-      } else {
-        aclReq.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
-      }
+      responses = clusterApiService.updateAcls(aclReqs, tenantId);
+    } catch (KlawException e) {
+      log.error("Error in creating acls {}", aclsFound, e);
+      List<String> resultStatus = new ArrayList<>();
+      resultStatus.add("Error :" + e.getMessage());
+      resultMap.put("result", resultStatus);
+      return;
+    }
 
-      ResponseEntity<ApiResponse> response = clusterApiService.approveAclRequests(aclReq, tenantId);
+    for (int i = 0; i < aclsFound.size(); i++) {
+      handleSyncBackAclResponse(
+          syncBackAcls,
+          logUpdateSyncBackTopics,
+          aclsFound.get(i),
+          aclReqs.get(i),
+          responses.get(i),
+          userName,
+          tenantId);
+    }
+  }
 
-      ApiResponse responseBody = response.getBody();
-      String resultAclNullCheck = Objects.requireNonNull(responseBody).getMessage();
-      if (!Objects.requireNonNull(resultAclNullCheck).contains(ApiResultStatus.SUCCESS.value)) {
-        log.error("Error in creating acl {} {}", aclFound, responseBody);
-        logUpdateSyncBackTopics.add(
-            String.format(ACL_SYNC_ERR_102, aclFound.getTopicname() + " " + resultAclNullCheck));
-      } else if (resultAclNullCheck.contains("Acl already exists")) {
-        logUpdateSyncBackTopics.add(String.format(ACL_SYNC_ERR_103, aclFound.getTopicname()));
-      } else {
-        Env env =
-            manageDatabase
-                .getHandleDbRequests()
-                .getEnvDetails(syncBackAcls.getSourceEnv(), tenantId);
-        KwClusters kwClusters =
-            manageDatabase
-                .getClusters(KafkaClustersType.of(env.getType()), tenantId)
-                .get(env.getClusterId());
-        // Update aivenaclid in klaw metadata
-        if (kwClusters.getKafkaFlavor().equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value)) {
-          Map<String, String> jsonParams = new HashMap<>();
-          if (Objects.requireNonNull(responseBody).isSuccess()) {
-            Object responseData = responseBody.getData();
-            if (responseData instanceof Map) {
-              Map<String, String> dataMap = (Map<String, String>) responseData;
-              if (dataMap.containsKey(AIVEN_ACL_ID_KEY)) {
-                jsonParams = dataMap;
-              }
+  private AclRequests getSyncBackAclRequest(
+      SyncBackAcls syncBackAcls, Acl aclFound, String userName, int tenantId) {
+    AclRequests aclReq = new AclRequests();
+    copyProperties(aclFound, aclReq);
+    aclReq.setReq_no(null);
+    aclReq.setAcl_ip(aclFound.getAclip());
+    aclReq.setAcl_ssl(aclFound.getAclssl());
+    aclReq.setEnvironment(syncBackAcls.getTargetEnv());
+    aclReq.setRequestingteam(aclFound.getTeamId());
+    aclReq.setRequestOperationType(RequestOperationType.CREATE.value);
+    aclReq.setRequestor(userName);
+    aclReq.setTenantId(tenantId);
+
+    if (aclReq.getAcl_ssl() != null && aclReq.getAcl_ssl().length() > 0) {
+      aclReq.setAclIpPrincipleType(AclIPPrincipleType.PRINCIPAL);
+    } else {
+      aclReq.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
+    }
+    return aclReq;
+  }
+
+  private void handleSyncBackAclResponse(
+      SyncBackAcls syncBackAcls,
+      List<String> logUpdateSyncBackTopics,
+      Acl aclFound,
+      AclRequests aclReq,
+      ApiResponse responseBody,
+      String userName,
+      int tenantId) {
+    String resultAclNullCheck = Objects.requireNonNull(responseBody).getMessage();
+    if (!Objects.requireNonNull(resultAclNullCheck).contains(ApiResultStatus.SUCCESS.value)) {
+      log.error("Error in creating acl {} {}", aclFound, responseBody);
+      logUpdateSyncBackTopics.add(
+          String.format(ACL_SYNC_ERR_102, aclFound.getTopicname() + " " + resultAclNullCheck));
+    } else if (resultAclNullCheck.contains("Acl already exists")) {
+      logUpdateSyncBackTopics.add(String.format(ACL_SYNC_ERR_103, aclFound.getTopicname()));
+    } else {
+      Env env =
+          manageDatabase.getHandleDbRequests().getEnvDetails(syncBackAcls.getSourceEnv(), tenantId);
+      KwClusters kwClusters =
+          manageDatabase
+              .getClusters(KafkaClustersType.of(env.getType()), tenantId)
+              .get(env.getClusterId());
+      // Update aivenaclid in klaw metadata
+      if (kwClusters.getKafkaFlavor().equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value)) {
+        Map<String, String> jsonParams = new HashMap<>();
+        if (Objects.requireNonNull(responseBody).isSuccess()) {
+          Object responseData = responseBody.getData();
+          if (responseData instanceof Map) {
+            Map<String, String> dataMap = (Map<String, String>) responseData;
+            if (dataMap.containsKey(AIVEN_ACL_ID_KEY)) {
+              jsonParams = dataMap;
             }
           }
+        }
 
+        manageDatabase
+            .getHandleDbRequests()
+            .updateJsonParams(jsonParams, aclFound.getReq_no(), tenantId);
+      }
+      if (!Objects.equals(syncBackAcls.getSourceEnv(), syncBackAcls.getTargetEnv())) {
+        logUpdateSyncBackTopics.add(String.format(ACL_SYNC_ERR_104, aclFound.getTopicname()));
+        // Create request
+        Map<String, String> resultMapReq =
+            manageDatabase.getHandleDbRequests().requestForAcl(aclReq);
+        if (resultMapReq.containsKey("aclId")) {
+          Integer aclId = Integer.parseInt(resultMapReq.get("aclId"));
+          aclReq.setReq_no(aclId);
+          // Approve request
+          Map<String, String> emptyJsonParams = new HashMap<>();
           manageDatabase
               .getHandleDbRequests()
-              .updateJsonParams(jsonParams, aclFound.getReq_no(), tenantId);
-        }
-        if (!Objects.equals(syncBackAcls.getSourceEnv(), syncBackAcls.getTargetEnv())) {
-          logUpdateSyncBackTopics.add(String.format(ACL_SYNC_ERR_104, aclFound.getTopicname()));
-          // Create request
-          Map<String, String> resultMapReq =
-              manageDatabase.getHandleDbRequests().requestForAcl(aclReq);
-          if (resultMapReq.containsKey("aclId")) {
-            Integer aclId = Integer.parseInt(resultMapReq.get("aclId"));
-            aclReq.setReq_no(aclId);
-            // Approve request
-            Map<String, String> emptyJsonParams = new HashMap<>();
-            manageDatabase
-                .getHandleDbRequests()
-                .updateAclRequest(aclReq, userName, emptyJsonParams, true);
-          }
+              .updateAclRequest(aclReq, userName, emptyJsonParams, true);
         }
       }
-    } catch (KlawException e) {
-      log.error("Error in creating acl {}", aclFound, e);
-      List<String> resultStatus = new ArrayList<>();
-      resultStatus.add("Error :" + e.getMessage());
-      resultMap.put("result", resultStatus);
     }
   }
 
@@ -294,11 +328,20 @@ public class AclSyncControllerService {
       Env envSelected,
       KafkaSupportedProtocol protocol,
       String clusterName,
+      String kafkaFlavor,
       String topicNameSearch,
       int tenantId)
       throws KlawException {
     List<Map<String, String>> aclList;
-    aclList = clusterApiService.getAcls(bootstrapHost, envSelected, protocol, tenantId);
+    // prefixed acls of apache kafka are only reconciled, the sync handles the literal ones. Other
+    // flavors keep showing them as before.
+    aclList =
+        clusterApiService.getAcls(bootstrapHost, envSelected, protocol, tenantId).stream()
+            .filter(
+                acl ->
+                    !KafkaFlavors.APACHE_KAFKA.value.equals(kafkaFlavor)
+                        || !AclPatternType.PREFIXED.value.equals(acl.get("patternType")))
+            .toList();
     return updateConsumerGroups(groupAcls(aclList, topicNameSearch, true), aclList);
   }
 
@@ -399,6 +442,7 @@ public class AclSyncControllerService {
             envSelected,
             kwClusters.getProtocol(),
             kwClusters.getClusterName(),
+            kwClusters.getKafkaFlavor(),
             topicNameSearch,
             tenantId);
 
@@ -748,12 +792,7 @@ public class AclSyncControllerService {
   }
 
   public Env getEnvDetails(String envId, int tenantId) {
-
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaEnv(envId);
   }
 
   private Object getPrincipal() {
@@ -7,31 +7,40 @@ import static io.aiven.klaw.error.KlawErrorMessages.ANALYTICS_104;
 import static io.aiven.klaw.error.KlawErrorMessages.ANALYTICS_105;
 import static io.aiven.klaw.error.KlawErrorMessages.ANALYTICS_106;
 import static io.aiven.klaw.error.KlawErrorMessages.ANALYTICS_107;
+import static io.aiven.klaw.error.KlawErrorMessages.ANALYTICS_108;
 
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.constants.MapConstants;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
-import io.aiven.klaw.helpers.KwConstants;
+import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.model.charts.ChartsJsOverview;
 import io.aiven.klaw.model.charts.TeamOverview;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.response.AclsCountPerEnv;
+import io.aiven.klaw.model.response.KwReportProgress;
 import io.aiven.klaw.model.response.TopicsCountPerEnv;
 import java.io.*;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -65,6 +74,22 @@ public class AnalyticsControllerService {
 
   @Autowired private CommonUtilsService commonUtilsService;
 
+  @Autowired
+  @Qualifier("reportsTaskExecutor")
+  private AsyncTaskExecutor reportsTaskExecutor;
+
+  // number of rows per sheet kept in memory while the report is streamed
+  @Value("${klaw.reports.rowaccesswindow:100}")
+  private int rowAccessWindowSize;
+
+  private static final int SHEETS_PER_REPORT = 9;
+
+  private static final String REPORT_NOT_STARTED = "not started";
+
+  private static final String REPORT_IN_PROGRESS = "in progress";
+
+  private final Map<String, KwReportProgress> reportProgressPerUser = new ConcurrentHashMap<>();
+
   private String getCurrentUserName() {
     return commonUtilsService.getCurrentUserName();
   }
@@ -427,106 +452,115 @@ public class AnalyticsControllerService {
     return teamOverview;
   }
 
-  public File generateReport() {
-    int tenantId = commonUtilsService.getTenantId(getCurrentUserName());
-    String kwReportsLocation =
-        manageDatabase.getKwPropertyValue(KwConstants.KW_REPORTS_TMP_LOCATION_KEY, tenantId);
-
-    List<TeamOverview> totalOverviewList = getTeamsOverview(null);
+  public String getReportFileName() {
     String dataPattern = "yyyy-MM-ddHH-mm-ssSSS";
     SimpleDateFormat simpleDateFormat = new SimpleDateFormat(dataPattern);
+    return "KwReport" + simpleDateFormat.format(new Date()) + ".zip";
+  }
 
-    File zipFile =
-        new File(kwReportsLocation + "KwReport" + simpleDateFormat.format(new Date()) + ".zip");
-    ZipOutputStream zipOutputStream = null;
-    try {
-      zipOutputStream = new ZipOutputStream(new FileOutputStream(zipFile));
-    } catch (FileNotFoundException e) {
-      log.error("Exception:", e);
-    }
-
-    String actualFileName;
-    List<File> reportFilesOfTenants = new ArrayList<>();
-    for (TeamOverview totalOverview : totalOverviewList) {
-      if (totalOverview.getTenantName() != null) {
-        actualFileName = "Klaw-" + totalOverview.getTenantName() + ".xlsx";
-      } else {
-        actualFileName = "KlawReport" + ".xlsx";
-      }
-
-      String fileName = kwReportsLocation + actualFileName;
-      File reportFile = new File(fileName);
-      reportFilesOfTenants.add(reportFile);
-
-      XSSFWorkbook workbook = new XSSFWorkbook();
-
-      generateReportPerView(totalOverview.getTopicsPerEnvOverview(), workbook, reportFile);
-      generateReportPerView(totalOverview.getPartitionsPerEnvOverview(), workbook, reportFile);
-      generateReportPerView(totalOverview.getTopicsPerTeamsOverview(), workbook, reportFile);
-      generateReportPerView(totalOverview.getAclsPerEnvOverview(), workbook, reportFile);
-      generateReportPerView(totalOverview.getProducerAclsPerTeamsOverview(), workbook, reportFile);
-      generateReportPerView(totalOverview.getConsumerAclsPerTeamsOverview(), workbook, reportFile);
-      generateReportPerView(totalOverview.getActivityLogOverview(), workbook, reportFile);
-
-      addTopicNamesPerEnvToReport(getTopicNames(tenantId), workbook, reportFile, "Topics");
-      addTopicNamesPerEnvToReport(
-          getConsumerGroups(tenantId), workbook, reportFile, "ConsumerGroups");
-
-      log.info("Report generated");
-      if (zipOutputStream != null) {
-        writeToZipFile(zipOutputStream, fileName, actualFileName);
-      }
+  /** The progress of the report of the user, which is removed once its outcome is fetched. */
+  public KwReportProgress getReportProgress() {
+    String userName = getCurrentUserName();
+    KwReportProgress reportProgress = reportProgressPerUser.get(userName);
+    if (reportProgress == null) {
+      return new KwReportProgress(REPORT_NOT_STARTED, 0, 0);
     }
-
-    try {
-      if (zipOutputStream != null) {
-        zipOutputStream.close();
-        // delete xlsx report file after writing to zip file.
-        for (File reportFilesOfTenant : reportFilesOfTenants) {
-          reportFilesOfTenant.delete();
-        }
-      }
-    } catch (IOException e) {
-      log.error("Exception:", e);
+    if (!REPORT_IN_PROGRESS.equals(reportProgress.getStatus())) {
+      reportProgressPerUser.remove(userName, reportProgress);
     }
-
-    return zipFile;
+    return reportProgress;
   }
 
-  private void writeToZipFile(ZipOutputStream zos, String fullFileName, String fileName) {
+  /**
+   * Streams the zipped report straight into the given output stream. The overviews, topic names and
+   * consumer groups are resolved in parallel and every workbook is written in streaming mode, so
+   * only a window of rows per sheet is held in memory.
+   */
+  public void generateReport(OutputStream outputStream) throws KlawException {
+    final String userName = getCurrentUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+
+    CompletableFuture<List<TeamOverview>> totalOverviewFuture =
+        CompletableFuture.supplyAsync(() -> getTeamsOverview(null), reportsTaskExecutor);
+    CompletableFuture<Map<String, List<String>>> topicNamesFuture =
+        CompletableFuture.supplyAsync(() -> getTopicNames(tenantId), reportsTaskExecutor);
+    CompletableFuture<Map<String, List<String>>> consumerGroupsFuture =
+        CompletableFuture.supplyAsync(() -> getConsumerGroups(tenantId), reportsTaskExecutor);
+
+    KwReportProgress reportProgress = new KwReportProgress(REPORT_IN_PROGRESS, 0, 0);
+    reportProgressPerUser.put(userName, reportProgress);
     try {
-      ZipEntry e = new ZipEntry(fileName);
-      zos.putNextEntry(e);
-
-      FileInputStream fis = new FileInputStream(fullFileName);
+      List<TeamOverview> totalOverviewList = totalOverviewFuture.join();
+      Map<String, List<String>> topicNames = topicNamesFuture.join();
+      Map<String, List<String>> consumerGroups = consumerGroupsFuture.join();
+      reportProgress.setSheetsTotal(totalOverviewList.size() * SHEETS_PER_REPORT);
+
+      ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+      for (TeamOverview totalOverview : totalOverviewList) {
+        String actualFileName;
+        if (totalOverview.getTenantName() != null) {
+          actualFileName = "Klaw-" + totalOverview.getTenantName() + ".xlsx";
+        } else {
+          actualFileName = "KlawReport" + ".xlsx";
+        }
 
-      byte[] bytes = new byte[1024];
-      int length;
-      while ((length = fis.read(bytes)) >= 0) {
-        zos.write(bytes, 0, length);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+          generateReportPerView(totalOverview.getTopicsPerEnvOverview(), workbook, reportProgress);
+          generateReportPerView(
+              totalOverview.getPartitionsPerEnvOverview(), workbook, reportProgress);
+          generateReportPerView(
+              totalOverview.getTopicsPerTeamsOverview(), workbook, reportProgress);
+          generateReportPerView(totalOverview.getAclsPerEnvOverview(), workbook, reportProgress);
+          generateReportPerView(
+              totalOverview.getProducerAclsPerTeamsOverview(), workbook, reportProgress);
+          generateReportPerView(
+              totalOverview.getConsumerAclsPerTeamsOverview(), workbook, reportProgress);
+          generateReportPerView(totalOverview.getActivityLogOverview(), workbook, reportProgress);
+
+          addTopicNamesPerEnvToReport(topicNames, workbook, "Topics", reportProgress);
+          addTopicNamesPerEnvToReport(consumerGroups, workbook, "ConsumerGroups", reportProgress);
+
+          zipOutputStream.putNextEntry(new ZipEntry(actualFileName));
+          // the workbook must not close the zip stream, other tenants follow in the same archive
+          workbook.write(CloseShieldOutputStream.wrap(zipOutputStream));
+          zipOutputStream.closeEntry();
+          log.info("Report generated {}", actualFileName);
+        } finally {
+          // removes the temporary row files of the streaming workbook
+          workbook.dispose();
+          workbook.close();
+        }
       }
-
-    } catch (IOException e) {
+      zipOutputStream.finish();
+      zipOutputStream.flush();
+      reportProgress.setStatus(ApiResultStatus.SUCCESS.value);
+    } catch (CompletionException | IOException e) {
       log.error("Exception:", e);
+      reportProgress.setStatus(ApiResultStatus.FAILURE.value);
+      throw new KlawException(ANALYTICS_108);
     }
   }
 
   private void addTopicNamesPerEnvToReport(
       Map<String, List<String>> topicNames,
-      XSSFWorkbook workbook,
-      File reportFile,
-      String sheetName) {
-    XSSFSheet sheet = workbook.createSheet(sheetName);
-    Map<Integer, Object[]> data = new TreeMap<>();
-    int id = 1;
+      SXSSFWorkbook workbook,
+      String sheetName,
+      KwReportProgress reportProgress) {
+    SXSSFSheet sheet = workbook.createSheet(sheetName);
     List<String> envNames = new ArrayList<>(topicNames.keySet());
 
     // set header row
-    data.put(id, new Object[] {"S.No", envNames});
-    id++;
+    int rownum = 0;
+    Row rowXl = sheet.createRow(rownum++);
+    rowXl.createCell(0).setCellValue("S.No");
+    int cellnum = 1;
+    for (String envName : envNames) {
+      rowXl.createCell(cellnum++).setCellValue(envName);
+    }
 
     int maxSize = 0;
-
     List<List<String>> allTopicLists = new ArrayList<>();
     for (String envName : envNames) {
       allTopicLists.add(topicNames.get(envName));
@@ -536,89 +570,49 @@ public class AnalyticsControllerService {
     }
 
     // set content
-    List<String> rowValList;
     for (int i = 0; i < maxSize; i++) {
-      rowValList = new ArrayList<>();
+      rowXl = sheet.createRow(rownum);
+      rowXl.createCell(0).setCellValue(rownum);
+      cellnum = 1;
       for (List<String> allTopicList : allTopicLists) {
-        if (allTopicList.size() > i) {
-          rowValList.add(allTopicList.get(i));
-        } else {
-          rowValList.add("");
-        }
+        rowXl
+            .createCell(cellnum++)
+            .setCellValue(allTopicList.size() > i ? allTopicList.get(i) : "");
       }
-      data.put(id, new Object[] {id - 1, rowValList});
-      id++;
+      rownum++;
     }
 
-    addData(sheet, data);
-    writeToFile(sheetName, workbook, reportFile);
-  }
-
-  private void addData(XSSFSheet sheet, Map<Integer, Object[]> data) {
-    int rownum = 0;
-    org.apache.poi.ss.usermodel.Row rowXl;
-    Set<Integer> keyset = data.keySet();
-    for (Integer key : keyset) {
-      rowXl = sheet.createRow(rownum++);
-      Object[] objArr = data.get(key);
-      int cellnum = 0;
-      Cell cell;
-      for (Object obj : objArr) {
-        if (obj instanceof String) {
-          cell = rowXl.createCell(cellnum++);
-          cell.setCellValue((String) obj);
-        } else if (obj instanceof Integer) {
-          cell = rowXl.createCell(cellnum++);
-          cell.setCellValue((Integer) obj);
-        } else if (obj instanceof List) {
-          List<String> strList = (List<String>) obj;
-          for (String s : strList) {
-            cell = rowXl.createCell(cellnum++);
-            cell.setCellValue(s);
-          }
-        }
-      }
-    }
+    reportProgress.incrementSheetsWritten();
+    log.info("Added Sheet {}", sheetName);
   }
 
   private void generateReportPerView(
-      ChartsJsOverview chartsJsOverview, XSSFWorkbook workbook, File reportFile) {
+      ChartsJsOverview chartsJsOverview, SXSSFWorkbook workbook, KwReportProgress reportProgress) {
     // Create a blank sheet
-    XSSFSheet sheet = workbook.createSheet(chartsJsOverview.getTitleForReport());
-    // This data needs to be written (Object[])
-    Map<Integer, Object[]> data = new HashMap<>();
-    List<Integer> data1 = chartsJsOverview.getData();
+    SXSSFSheet sheet = workbook.createSheet(chartsJsOverview.getTitleForReport());
+    List<Integer> data = chartsJsOverview.getData();
     List<String> labels = chartsJsOverview.getLabels();
 
     // header
-    data.put(
-        1,
-        new Object[] {"S.No", chartsJsOverview.getXAxisLabel(), chartsJsOverview.getYAxisLabel()});
-    int id = 2;
+    int rownum = 0;
+    Row rowXl = sheet.createRow(rownum++);
+    rowXl.createCell(0).setCellValue("S.No");
+    rowXl.createCell(1).setCellValue(chartsJsOverview.getXAxisLabel());
+    rowXl.createCell(2).setCellValue(chartsJsOverview.getYAxisLabel());
 
     // content
-    for (int i = 0; i < data1.size(); i++) {
+    for (int i = 0; i < data.size(); i++) {
       if (!"".equals(labels.get(i))) {
-        data.put(id, new Object[] {id - 1, labels.get(i), data1.get(i)});
-        id++;
+        rowXl = sheet.createRow(rownum);
+        rowXl.createCell(0).setCellValue(rownum);
+        rowXl.createCell(1).setCellValue(labels.get(i));
+        rowXl.createCell(2).setCellValue(data.get(i));
+        rownum++;
       }
     }
 
-    addData(sheet, data);
-
-    writeToFile(chartsJsOverview.getOptions().getTitle().toString(), workbook, reportFile);
-  }
-
-  private void writeToFile(String title, XSSFWorkbook workbook, File reportFile) {
-    try {
-      // Write the workbook in file system
-      FileOutputStream out = new FileOutputStream(reportFile);
-      workbook.write(out);
-      out.close();
-      log.info("Added Sheet {}", title);
-    } catch (Exception e) {
-      log.error("Error : writeToFile ", e);
-    }
+    reportProgress.incrementSheetsWritten();
+    log.info("Added Sheet {}", chartsJsOverview.getOptions().getTitle());
   }
 
   private Map<String, List<String>> getTopicNames(int tenantId) {
@@ -0,0 +1,220 @@
+package io.aiven.klaw.service;
+
+import static io.aiven.klaw.error.KlawErrorMessages.APPROVAL_OUTBOX_102;
+import static io.aiven.klaw.error.KlawErrorMessages.APPROVAL_OUTBOX_ERR_101;
+import static org.springframework.beans.BeanUtils.copyProperties;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.KafkaConnectorRequest;
+import io.aiven.klaw.dao.KwApprovalOutbox;
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.ApprovalOutboxStatus;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.model.response.ApprovalOutboxResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Outbox of approved topic, acl, schema and connector requests. With async approvals enabled, an
+ * approval is validated and stored here and returns right away. ApprovalOutboxWorker executes it
+ * against the cluster later, the request stays created until then.
+ */
+@Service
+@Slf4j
+public class ApprovalOutboxService {
+
+  private static final int MESSAGE_LENGTH = 1000;
+
+  @Value("${klaw.approval.async.enabled:false}")
+  private boolean asyncApprovalsEnabled;
+
+  @Value("${klaw.approval.async.max.attempts:3}")
+  private int maxAttempts;
+
+  // multiplied by the attempts made so far
+  @Value("${klaw.approval.async.retry.backoff:PT30S}")
+  private Duration retryBackoff;
+
+  // a running entry is picked up again after the lease, if its instance went away
+  @Value("${klaw.approval.async.lease:PT5M}")
+  private Duration lease;
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private CommonUtilsService commonUtilsService;
+
+  @Autowired private MailUtils mailService;
+
+  public boolean isEnabled() {
+    return asyncApprovalsEnabled;
+  }
+
+  /** Queues the approval of a validated request, unless it is queued already. */
+  public ApiResponse enqueue(
+      RequestEntityType entityType,
+      int reqNo,
+      String environment,
+      int tenantId,
+      String approver,
+      String loginUrl) {
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    KwApprovalOutbox entry = dbHandle.getApprovalOutboxEntry(entityType.name(), reqNo, tenantId);
+    if (entry == null) {
+      entry = new KwApprovalOutbox();
+      entry.setTenantId(tenantId);
+      entry.setEntityType(entityType.name());
+      entry.setReqNo(reqNo);
+    } else if (isQueued(entry)) {
+      return ApiResponse.notOk(APPROVAL_OUTBOX_ERR_101);
+    }
+
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    entry.setEnvironment(environment);
+    entry.setStatus(ApprovalOutboxStatus.PENDING.name());
+    entry.setApprover(approver);
+    entry.setLoginUrl(loginUrl);
+    entry.setAttempts(0);
+    entry.setNextAttemptTime(now);
+    entry.setMessage(null);
+    entry.setQueuedTime(now);
+    entry.setCompletedTime(null);
+    // a concurrent approval of the same request queued it first
+    if (!ApiResultStatus.SUCCESS.value.equals(dbHandle.insertIntoApprovalOutbox(entry))) {
+      return ApiResponse.notOk(APPROVAL_OUTBOX_ERR_101);
+    }
+    return ApiResponse.ok(APPROVAL_OUTBOX_102);
+  }
+
+  /** Queue state of a request of the tenant of the user, null if it was never queued. */
+  public ApprovalOutboxResponse getApprovalStatus(RequestEntityType entityType, int reqNo) {
+    int tenantId =
+        commonUtilsService.getTenantId(
+            mailService.getUserName(
+                SecurityContextHolder.getContext().getAuthentication().getPrincipal()));
+    KwApprovalOutbox entry =
+        manageDatabase
+            .getHandleDbRequests()
+            .getApprovalOutboxEntry(entityType.name(), reqNo, tenantId);
+    if (entry == null) {
+      return null;
+    }
+    ApprovalOutboxResponse approvalOutboxResponse = new ApprovalOutboxResponse();
+    copyProperties(entry, approvalOutboxResponse);
+    return approvalOutboxResponse;
+  }
+
+  List<KwApprovalOutbox> getDueEntries(int limit) {
+    return manageDatabase.getHandleDbRequests().getDueApprovalOutboxEntries(limit);
+  }
+
+  /** Leases the entry to this instance, false if another instance claimed it first. */
+  boolean claim(KwApprovalOutbox entry) {
+    entry.setStatus(ApprovalOutboxStatus.RUNNING.name());
+    entry.setNextAttemptTime(new Timestamp(System.currentTimeMillis() + lease.toMillis()));
+    return ApiResultStatus.SUCCESS.value.equals(
+        manageDatabase.getHandleDbRequests().updateApprovalOutboxEntry(entry));
+  }
+
+  /** Extends the lease of a running entry, false if the lease was lost to another instance. */
+  boolean renew(KwApprovalOutbox entry) {
+    entry.setNextAttemptTime(new Timestamp(System.currentTimeMillis() + lease.toMillis()));
+    return ApiResultStatus.SUCCESS.value.equals(
+        manageDatabase.getHandleDbRequests().updateApprovalOutboxEntry(entry));
+  }
+
+  /** Hands a claimed entry back without counting an attempt, due right away. */
+  void release(KwApprovalOutbox entry) {
+    entry.setStatus(ApprovalOutboxStatus.PENDING.name());
+    entry.setNextAttemptTime(new Timestamp(System.currentTimeMillis()));
+    manageDatabase.getHandleDbRequests().updateApprovalOutboxEntry(entry);
+  }
+
+  /** Records the result of an execution, failed executions are retried up to max attempts. */
+  void complete(KwApprovalOutbox entry, ApiResponse response) {
+    long now = System.currentTimeMillis();
+    int attempts = entry.getAttempts() + 1;
+    entry.setAttempts(attempts);
+    entry.setMessage(truncate(response.getMessage()));
+    // an execution whose result got lost approved it already, the retry fails its validation
+    if (response.isSuccess() || isRequestApproved(entry)) {
+      entry.setStatus(ApprovalOutboxStatus.SUCCESS.name());
+      entry.setCompletedTime(new Timestamp(now));
+    } else if (attempts < maxAttempts) {
+      entry.setStatus(ApprovalOutboxStatus.PENDING.name());
+      entry.setNextAttemptTime(new Timestamp(now + retryBackoff.toMillis() * attempts));
+    } else {
+      log.error(
+          "Approval of {} {} failed after {} attempts: {}",
+          entry.getEntityType(),
+          entry.getReqNo(),
+          attempts,
+          response.getMessage());
+      entry.setStatus(ApprovalOutboxStatus.FAILURE.name());
+      entry.setCompletedTime(new Timestamp(now));
+    }
+    if (!ApiResultStatus.SUCCESS.value.equals(
+        manageDatabase.getHandleDbRequests().updateApprovalOutboxEntry(entry))) {
+      log.warn(
+          "Result of approval of {} {} not recorded, its lease was taken by another instance: {}",
+          entry.getEntityType(),
+          entry.getReqNo(),
+          response.getMessage());
+    }
+  }
+
+  void deleteSucceededEntries(Duration retention) {
+    manageDatabase
+        .getHandleDbRequests()
+        .deleteApprovalOutboxEntries(
+            ApprovalOutboxStatus.SUCCESS.name(),
+            new Timestamp(System.currentTimeMillis() - retention.toMillis()));
+  }
+
+  private boolean isRequestApproved(KwApprovalOutbox entry) {
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    int reqNo = entry.getReqNo();
+    int tenantId = entry.getTenantId();
+    String requestStatus =
+        switch (RequestEntityType.valueOf(entry.getEntityType())) {
+          case TOPIC -> Optional.ofNullable(dbHandle.getTopicRequestsForTopic(reqNo, tenantId))
+              .map(TopicRequest::getRequestStatus)
+              .orElse(null);
+          case ACL -> Optional.ofNullable(dbHandle.getAcl(reqNo, tenantId))
+              .map(AclRequests::getRequestStatus)
+              .orElse(null);
+          case SCHEMA -> Optional.ofNullable(dbHandle.getSchemaRequest(reqNo, tenantId))
+              .map(SchemaRequest::getRequestStatus)
+              .orElse(null);
+          case CONNECTOR -> Optional.ofNullable(
+                  dbHandle.getConnectorRequestsForConnector(reqNo, tenantId))
+              .map(KafkaConnectorRequest::getRequestStatus)
+              .orElse(null);
+          default -> null;
+        };
+    return RequestStatus.APPROVED.value.equals(requestStatus);
+  }
+
+  private static boolean isQueued(KwApprovalOutbox entry) {
+    return ApprovalOutboxStatus.PENDING.name().equals(entry.getStatus())
+        || ApprovalOutboxStatus.RUNNING.name().equals(entry.getStatus());
+  }
+
+  private static String truncate(String message) {
+    return message != null && message.length() > MESSAGE_LENGTH
+        ? message.substring(0, MESSAGE_LENGTH)
+        : message;
+  }
+}
@@ -0,0 +1,184 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwApprovalOutbox;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Executes the approvals queued in the outbox against the clusters. Each poll claims the due
+ * entries through an optimistic lock, so with several Klaw instances an entry runs on one node. The
+ * number of executions running at the same time is limited per cluster. The lease of a running
+ * entry is renewed until its execution completes, so a slow cluster call is not executed twice.
+ */
+@EnableScheduling
+@Service
+@Slf4j
+public class ApprovalOutboxWorker {
+
+  @Value("${klaw.approval.async.enabled:false}")
+  private boolean asyncApprovalsEnabled;
+
+  @Value("${klaw.approval.async.batch.size:50}")
+  private int batchSize;
+
+  @Value("${klaw.approval.async.cluster.concurrency:2}")
+  private int clusterConcurrency;
+
+  @Value("${klaw.approval.async.retention:P7D}")
+  private Duration retention;
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private ApprovalOutboxService approvalOutboxService;
+
+  @Autowired private TopicControllerService topicControllerService;
+
+  @Autowired private AclControllerService aclControllerService;
+
+  @Autowired private SchemaRegistryControllerService schemaRegistryControllerService;
+
+  @Autowired private KafkaConnectControllerService kafkaConnectControllerService;
+
+  @Autowired
+  @Qualifier("approvalTaskExecutor")
+  private AsyncTaskExecutor approvalTaskExecutor;
+
+  private final Map<String, Semaphore> permitsPerCluster = new ConcurrentHashMap<>();
+
+  // entries executing on this instance, an entry is locked while its lease is renewed
+  private final Set<KwApprovalOutbox> runningEntries = ConcurrentHashMap.newKeySet();
+
+  @Scheduled(fixedDelayString = "${klaw.approval.async.poll.interval:PT2S}")
+  void pollScheduled() {
+    if (!asyncApprovalsEnabled) {
+      return;
+    }
+    poll();
+  }
+
+  @Scheduled(fixedDelayString = "${klaw.approval.async.lease.renewal.interval:PT1M}")
+  void renewLeasesScheduled() {
+    if (!asyncApprovalsEnabled) {
+      return;
+    }
+    renewLeases();
+  }
+
+  // default at 3 am everyday
+  @Scheduled(cron = "${klaw.approval.async.cleanup.cron.expression:0 0 3 * * ?}")
+  void cleanupScheduled() {
+    if (!asyncApprovalsEnabled) {
+      return;
+    }
+    approvalOutboxService.deleteSucceededEntries(retention);
+  }
+
+  void poll() {
+    List<KwApprovalOutbox> dueEntries = approvalOutboxService.getDueEntries(batchSize);
+    for (KwApprovalOutbox entry : dueEntries) {
+      // entries of a busy cluster stay due for the next poll
+      Semaphore permits =
+          permitsPerCluster.computeIfAbsent(
+              getClusterKey(entry), key -> new Semaphore(clusterConcurrency));
+      if (!permits.tryAcquire()) {
+        continue;
+      }
+      if (!approvalOutboxService.claim(entry)) {
+        permits.release();
+        continue;
+      }
+      try {
+        CompletableFuture.runAsync(() -> execute(entry), approvalTaskExecutor)
+            .whenComplete((result, ex) -> permits.release());
+      } catch (RuntimeException e) {
+        log.error("Could not submit approval of {} {}", entry.getEntityType(), entry.getReqNo(), e);
+        permits.release();
+        approvalOutboxService.release(entry);
+      }
+    }
+  }
+
+  void renewLeases() {
+    for (KwApprovalOutbox entry : runningEntries) {
+      synchronized (entry) {
+        if (runningEntries.contains(entry) && !approvalOutboxService.renew(entry)) {
+          log.warn(
+              "Lease of approval of {} {} was taken by another instance",
+              entry.getEntityType(),
+              entry.getReqNo());
+          runningEntries.remove(entry);
+        }
+      }
+    }
+  }
+
+  void execute(KwApprovalOutbox entry) {
+    runningEntries.add(entry);
+    ApiResponse response;
+    // mails and the audit of the request are sent on behalf of the approver
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(entry.getApprover(), null, List.of()));
+    try {
+      response = dispatch(entry);
+    } catch (Exception e) {
+      log.error("Exception:", e);
+      response = ApiResponse.notOk(e.getMessage());
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+    synchronized (entry) {
+      runningEntries.remove(entry);
+      approvalOutboxService.complete(entry, response);
+    }
+  }
+
+  private ApiResponse dispatch(KwApprovalOutbox entry) throws Exception {
+    int reqNo = entry.getReqNo();
+    String approver = entry.getApprover();
+    int tenantId = entry.getTenantId();
+    String loginUrl = entry.getLoginUrl();
+    return switch (RequestEntityType.valueOf(entry.getEntityType())) {
+      case TOPIC -> topicControllerService.approveQueuedTopicRequest(
+          reqNo, approver, tenantId, loginUrl);
+      case ACL -> aclControllerService.approveQueuedAclRequest(reqNo, approver, tenantId, loginUrl);
+      case SCHEMA -> schemaRegistryControllerService.approveQueuedSchemaRequest(
+          reqNo, approver, tenantId, loginUrl);
+      case CONNECTOR -> kafkaConnectControllerService.approveQueuedConnectorRequest(
+          reqNo, approver, tenantId, loginUrl);
+      default -> ApiResponse.notOk("Unsupported request type " + entry.getEntityType());
+    };
+  }
+
+  private String getClusterKey(KwApprovalOutbox entry) {
+    EnvGraph envGraph = manageDatabase.getEnvGraph(entry.getTenantId());
+    Env env =
+        switch (RequestEntityType.valueOf(entry.getEntityType())) {
+          case SCHEMA -> envGraph.getSchemaEnv(entry.getEnvironment());
+          case CONNECTOR -> envGraph.getKafkaConnectEnv(entry.getEnvironment());
+          default -> envGraph.getKafkaEnv(entry.getEnvironment());
+        };
+    // entries of an env which is gone share one key and fail on execution
+    return entry.getTenantId() + "-" + (env == null ? "" : env.getClusterId());
+  }
+}
@@ -9,6 +9,8 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.model.ResourceHistory;
 import io.aiven.klaw.model.TopicOverviewInfo;
 import io.aiven.klaw.model.enums.AclGroupBy;
@@ -20,14 +22,11 @@ import io.aiven.klaw.model.response.AclOverviewInfo;
 import io.aiven.klaw.model.response.PromotionStatus;
 import io.aiven.klaw.model.response.TopicOverview;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -286,28 +285,28 @@ public abstract class BaseOverviewService {
   }
 
   protected void generatePromotionDetails(
-      int tenantId,
-      PromotionStatus schemaPromotionStatus,
-      List<String> envList,
-      String orderOfEnvs) {
+      int tenantId, PromotionStatus schemaPromotionStatus, List<String> envList) {
     if (envList != null && envList.size() > 0) {
       // tenant filtering
-      if (orderOfEnvs == null || orderOfEnvs.equals("")) {
+      EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
+      List<String> orderedEnvsList = envGraph.getOrder(EnvOrder.TOPIC_PROMOTION);
+      if (orderedEnvsList.isEmpty()) {
         schemaPromotionStatus.setStatus(PromotionStatusType.NO_PROMOTION);
         return;
       }
-      envList.sort(Comparator.comparingInt(Objects.requireNonNull(orderOfEnvs)::indexOf));
+      envList.sort(
+          Comparator.comparingInt(envId -> envGraph.getPosition(EnvOrder.TOPIC_PROMOTION, envId)));
 
       String lastEnv = envList.get(envList.size() - 1);
-      List<String> orderedEnvsList = Arrays.asList(orderOfEnvs.split(","));
+      int lastEnvPosition = envGraph.getPosition(EnvOrder.TOPIC_PROMOTION, lastEnv);
 
-      if (orderedEnvsList.indexOf(lastEnv) == orderedEnvsList.size() - 1) {
+      if (lastEnvPosition == orderedEnvsList.size() - 1) {
         schemaPromotionStatus.setStatus(PromotionStatusType.NO_PROMOTION);
       } else {
         if (orderedEnvsList.size() > 0) {
           schemaPromotionStatus.setStatus(PromotionStatusType.SUCCESS);
           schemaPromotionStatus.setSourceEnv(lastEnv);
-          String targetEnv = orderedEnvsList.get(orderedEnvsList.indexOf(lastEnv) + 1);
+          String targetEnv = orderedEnvsList.get(lastEnvPosition + 1);
           schemaPromotionStatus.setTargetEnv(getEnvDetails(targetEnv, tenantId).getName());
           schemaPromotionStatus.setTargetEnvId(targetEnv);
         } else {
@@ -326,10 +325,6 @@ public abstract class BaseOverviewService {
   }
 
   protected Env getEnvDetails(String envId, int tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getAllEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getEnv(envId);
   }
 }
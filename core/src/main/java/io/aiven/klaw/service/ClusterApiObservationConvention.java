@@ -0,0 +1,23 @@
+package io.aiven.klaw.service;
+
+import io.micrometer.common.KeyValue;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+
+/**
+ * Observations of the calls to the cluster api, whose metrics and spans are tagged with the cluster
+ * api uri instead of the full url, see {@link ClusterApiTimingInterceptor#getUri(String)}.
+ */
+class ClusterApiObservationConvention extends DefaultClientRequestObservationConvention {
+
+  @Override
+  protected KeyValue uri(ClientRequestObservationContext context) {
+    if (context.getCarrier() == null) {
+      return super.uri(context);
+    }
+    return KeyValue.of(
+        LowCardinalityKeyNames.URI,
+        ClusterApiTimingInterceptor.getUri(context.getCarrier().getURI().getRawPath()));
+  }
+}
@@ -4,6 +4,7 @@ import static io.aiven.klaw.error.KlawErrorMessages.*;
 import static io.aiven.klaw.helpers.KwConstants.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.AclRequests;
 import io.aiven.klaw.dao.Env;
@@ -34,6 +35,8 @@ import io.aiven.klaw.model.response.ServiceAccountDetails;
 import io.aiven.klaw.model.response.TopicConfig;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.annotation.PostConstruct;
 import java.io.File;
 import java.io.FileInputStream;
@@ -103,6 +106,10 @@ public class ClusterApiService {
 
   @Autowired private ManageDatabase manageDatabase;
 
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired private ObservationRegistry observationRegistry;
+
   @Value("${server.ssl.key-store:null}")
   private String keyStore;
 
@@ -118,6 +125,10 @@ public class ClusterApiService {
   @Value("${klaw.clusterapi.access.base64.secret:#{''}}")
   private String clusterApiAccessBase64Secret;
 
+  // acl requests submitted to the cluster api in one call
+  @Value("${klaw.clusterapi.acls.batch.size:100}")
+  private int aclsBatchSize;
+
   private static String clusterConnUrl;
   protected static HttpComponentsClientHttpRequestFactory requestFactory;
   RestTemplate httpRestTemplate, httpsRestTemplate;
@@ -129,17 +140,29 @@ public class ClusterApiService {
   private RestTemplate getRestTemplate() {
     if (clusterConnUrl.toLowerCase().startsWith("https")) {
       if (this.httpsRestTemplate == null) {
-        this.httpsRestTemplate = new RestTemplate(requestFactory);
+        this.httpsRestTemplate = instrument(new RestTemplate(requestFactory));
       }
       return this.httpsRestTemplate;
     } else {
       if (this.httpRestTemplate == null) {
-        this.httpRestTemplate = new RestTemplate();
+        this.httpRestTemplate = instrument(new RestTemplate());
       }
       return this.httpRestTemplate;
     }
   }
 
+  // times the calls, and sends the trace context along to the cluster api
+  private RestTemplate instrument(RestTemplate restTemplate) {
+    if (meterRegistry != null) {
+      restTemplate.getInterceptors().add(new ClusterApiTimingInterceptor(meterRegistry));
+    }
+    if (observationRegistry != null) {
+      restTemplate.setObservationRegistry(observationRegistry);
+      restTemplate.setObservationConvention(new ClusterApiObservationConvention());
+    }
+    return restTemplate;
+  }
+
   private void getClusterApiProperties(int tenantId) {
     clusterConnUrl = manageDatabase.getKwPropertyValue(CLUSTER_CONN_URL_KEY, tenantId);
     if (clusterApiAccessBase64Secret.isBlank()) {
@@ -564,89 +587,12 @@ public class ClusterApiService {
     ResponseEntity<ApiResponse> response;
 
     try {
-      String env = aclReq.getEnvironment();
       String uri;
-
-      ClusterAclRequest clusterAclRequest;
-      Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(env, tenantId);
-      KwClusters kwClusters =
-          manageDatabase
-              .getClusters(KafkaClustersType.KAFKA, tenantId)
-              .get(envSelected.getClusterId());
-
-      // aiven config
-      if (Objects.equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value, kwClusters.getKafkaFlavor())) {
-        clusterAclRequest =
-            ClusterAclRequest.builder()
-                .aclNativeType(AclsNativeType.AIVEN.name())
-                .projectName(kwClusters.getProjectName())
-                .serviceName(kwClusters.getServiceName())
-                .topicName(aclReq.getTopicname())
-                .username(aclReq.getAcl_ssl())
-                .build();
-
-        if (Objects.equals(aclReq.getAclType(), AclType.PRODUCER.value)) {
-          clusterAclRequest = clusterAclRequest.toBuilder().permission("write").build();
-        } else {
-          clusterAclRequest = clusterAclRequest.toBuilder().permission("read").build();
-        }
-
-        if (Objects.equals(RequestOperationType.DELETE.value, aclReq.getRequestOperationType())
-            && null != aclReq.getJsonParams()) {
-          Map<String, String> jsonObj = aclReq.getJsonParams();
-          String aivenAclKey = "aivenaclid";
-          if (jsonObj.containsKey(aivenAclKey)) {
-            clusterAclRequest =
-                clusterAclRequest.toBuilder().aivenAclKey(jsonObj.get(aivenAclKey)).build();
-          } else {
-            log.error("Error from approveAclRequests : AclId - aivenaclid not found");
-            throw new KlawException(CLUSTER_API_ERR_107);
-          }
-        }
-      } else if (Objects.equals(KafkaFlavors.CONFLUENT_CLOUD.value, kwClusters.getKafkaFlavor())) {
-        String aclPatternType = aclReq.getAclPatternType();
-        clusterAclRequest =
-            ClusterAclRequest.builder()
-                .aclNativeType(AclsNativeType.CONFLUENT_CLOUD.name())
-                .env(kwClusters.getBootstrapServers())
-                .protocol(kwClusters.getProtocol())
-                .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
-                .topicName(aclReq.getTopicname())
-                .consumerGroup(aclReq.getConsumergroup())
-                .aclType(aclReq.getAclType())
-                .aclIp(aclReq.getAcl_ip())
-                .aclSsl(aclReq.getAcl_ssl())
-                .transactionalId(aclReq.getTransactionalId())
-                .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
-                .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
-                .build();
-      } else {
-        String aclPatternType = aclReq.getAclPatternType();
-        clusterAclRequest =
-            ClusterAclRequest.builder()
-                .aclNativeType(AclsNativeType.NATIVE.name())
-                .env(kwClusters.getBootstrapServers())
-                .protocol(kwClusters.getProtocol())
-                .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
-                .topicName(aclReq.getTopicname())
-                .consumerGroup(aclReq.getConsumergroup())
-                .aclType(aclReq.getAclType())
-                .aclIp(aclReq.getAcl_ip())
-                .aclSsl(aclReq.getAcl_ssl())
-                .transactionalId(aclReq.getTransactionalId())
-                .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
-                .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
-                .build();
-      }
-
+      ClusterAclRequest clusterAclRequest = getClusterAclRequest(aclReq, tenantId);
       if (RequestOperationType.CREATE.value.equals(aclReq.getRequestOperationType())) {
         uri = clusterConnUrl + URI_CREATE_ACLS;
-        clusterAclRequest =
-            clusterAclRequest.toBuilder().requestOperationType(RequestOperationType.CREATE).build();
       } else {
         uri = clusterConnUrl + URI_DELETE_ACLS;
-        clusterAclRequest =
-            clusterAclRequest.toBuilder().requestOperationType(RequestOperationType.DELETE).build();
       }
 
       HttpHeaders headers = createHeaders(clusterApiUser);
@@ -668,6 +614,141 @@ public class ClusterApiService {
     }
   }
 
+  /**
+   * Creates and deletes the acls of several requests on the clusters, with one call to the cluster
+   * api per batch. Responses are in the order of the requests. A failing batch only fails its own
+   * requests, the acls of the other batches are applied.
+   */
+  public List<ApiResponse> updateAcls(List<AclRequests> aclReqs, int tenantId)
+      throws KlawException {
+    log.info("updateAcls {}", aclReqs.size());
+    getClusterApiProperties(tenantId);
+    List<ApiResponse> apiResponses = new ArrayList<>();
+
+    HttpHeaders headers = createHeaders(clusterApiUser);
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    for (List<AclRequests> batch : Lists.partition(aclReqs, aclsBatchSize)) {
+      apiResponses.addAll(updateAclsBatch(batch, headers, tenantId));
+    }
+    return apiResponses;
+  }
+
+  private List<ApiResponse> updateAclsBatch(
+      List<AclRequests> batch, HttpHeaders headers, int tenantId) {
+    try {
+      List<ClusterAclRequest> clusterAclRequests = new ArrayList<>();
+      for (AclRequests aclReq : batch) {
+        clusterAclRequests.add(getClusterAclRequest(aclReq, tenantId));
+      }
+      HttpEntity<List<ClusterAclRequest>> request = new HttpEntity<>(clusterAclRequests, headers);
+      List<ApiResponse> batchResponses =
+          getRestTemplate()
+              .exchange(
+                  clusterConnUrl + URI_UPDATE_ACLS,
+                  HttpMethod.POST,
+                  request,
+                  new ParameterizedTypeReference<List<ApiResponse>>() {})
+              .getBody();
+      if (batchResponses == null || batchResponses.size() != batch.size()) {
+        throw new KlawException(CLUSTER_API_ERR_108);
+      }
+      return batchResponses;
+    } catch (Exception e) {
+      log.error("Error from updateAcls", e);
+      if (e.getMessage() != null
+          && (e.getMessage().contains(CLUSTER_API_ERR_120)
+              || e.getMessage().contains(CLUSTER_API_ERR_121))) {
+        return Collections.nCopies(batch.size(), ApiResponse.notOk(CLUSTER_API_ERR_118));
+      }
+      return Collections.nCopies(batch.size(), ApiResponse.notOk(CLUSTER_API_ERR_108));
+    }
+  }
+
+  private ClusterAclRequest getClusterAclRequest(AclRequests aclReq, int tenantId)
+      throws KlawException {
+    String env = aclReq.getEnvironment();
+    ClusterAclRequest clusterAclRequest;
+    Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(env, tenantId);
+    KwClusters kwClusters =
+        manageDatabase
+            .getClusters(KafkaClustersType.KAFKA, tenantId)
+            .get(envSelected.getClusterId());
+
+    // aiven config
+    if (Objects.equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value, kwClusters.getKafkaFlavor())) {
+      clusterAclRequest =
+          ClusterAclRequest.builder()
+              .aclNativeType(AclsNativeType.AIVEN.name())
+              .projectName(kwClusters.getProjectName())
+              .serviceName(kwClusters.getServiceName())
+              .topicName(aclReq.getTopicname())
+              .username(aclReq.getAcl_ssl())
+              .build();
+
+      if (Objects.equals(aclReq.getAclType(), AclType.PRODUCER.value)) {
+        clusterAclRequest = clusterAclRequest.toBuilder().permission("write").build();
+      } else {
+        clusterAclRequest = clusterAclRequest.toBuilder().permission("read").build();
+      }
+
+      if (Objects.equals(RequestOperationType.DELETE.value, aclReq.getRequestOperationType())
+          && null != aclReq.getJsonParams()) {
+        Map<String, String> jsonObj = aclReq.getJsonParams();
+        String aivenAclKey = "aivenaclid";
+        if (jsonObj.containsKey(aivenAclKey)) {
+          clusterAclRequest =
+              clusterAclRequest.toBuilder().aivenAclKey(jsonObj.get(aivenAclKey)).build();
+        } else {
+          log.error("Error from approveAclRequests : AclId - aivenaclid not found");
+          throw new KlawException(CLUSTER_API_ERR_107);
+        }
+      }
+    } else if (Objects.equals(KafkaFlavors.CONFLUENT_CLOUD.value, kwClusters.getKafkaFlavor())) {
+      String aclPatternType = aclReq.getAclPatternType();
+      clusterAclRequest =
+          ClusterAclRequest.builder()
+              .aclNativeType(AclsNativeType.CONFLUENT_CLOUD.name())
+              .env(kwClusters.getBootstrapServers())
+              .protocol(kwClusters.getProtocol())
+              .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
+              .topicName(aclReq.getTopicname())
+              .consumerGroup(aclReq.getConsumergroup())
+              .aclType(aclReq.getAclType())
+              .aclIp(aclReq.getAcl_ip())
+              .aclSsl(aclReq.getAcl_ssl())
+              .transactionalId(aclReq.getTransactionalId())
+              .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
+              .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
+              .build();
+    } else {
+      String aclPatternType = aclReq.getAclPatternType();
+      clusterAclRequest =
+          ClusterAclRequest.builder()
+              .aclNativeType(AclsNativeType.NATIVE.name())
+              .env(kwClusters.getBootstrapServers())
+              .protocol(kwClusters.getProtocol())
+              .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
+              .topicName(aclReq.getTopicname())
+              .consumerGroup(aclReq.getConsumergroup())
+              .aclType(aclReq.getAclType())
+              .aclIp(aclReq.getAcl_ip())
+              .aclSsl(aclReq.getAcl_ssl())
+              .transactionalId(aclReq.getTransactionalId())
+              .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
+              .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
+              .build();
+    }
+
+    if (RequestOperationType.CREATE.value.equals(aclReq.getRequestOperationType())) {
+      clusterAclRequest =
+          clusterAclRequest.toBuilder().requestOperationType(RequestOperationType.CREATE).build();
+    } else {
+      clusterAclRequest =
+          clusterAclRequest.toBuilder().requestOperationType(RequestOperationType.DELETE).build();
+    }
+    return clusterAclRequest;
+  }
+
   public ServiceAccountDetails getAivenServiceAccountDetails(
       String projectName, String serviceName, String userName, int tenantId) throws KlawException {
     getClusterApiProperties(tenantId);
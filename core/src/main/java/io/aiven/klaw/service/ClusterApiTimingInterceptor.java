@@ -0,0 +1,102 @@
+package io.aiven.klaw.service;
+
+import static io.aiven.klaw.helpers.KwConstants.*;
+
+import io.aiven.klaw.helpers.RequestTimings;
+import io.aiven.klaw.helpers.RequestTimings.Component;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Times the calls to the cluster api as klaw.clusterapi.requests, and adds them to the current
+ * request. Calls are tagged with the cluster api uri they were built from, without the path
+ * variables appended to it.
+ */
+class ClusterApiTimingInterceptor implements ClientHttpRequestInterceptor {
+
+  static final String CLUSTER_API_TIMER = "klaw.clusterapi.requests";
+
+  static final String OTHER_URI = "other";
+
+  // longest first, the aiven uris up to their project variable
+  private static final List<String> URIS =
+      Stream.of(
+              URI_CLUSTER_API,
+              URI_KAFKA_SR_CONN_STATUS,
+              URI_GET_CONSUMER_OFFSETS,
+              URI_GET_TOPIC_CONTENTS,
+              URI_GET_ACLS,
+              URI_CREATE_ACLS,
+              URI_DELETE_ACLS,
+              URI_UPDATE_ACLS,
+              URI_GET_TOPICS,
+              URI_CREATE_TOPICS,
+              URI_UPDATE_TOPICS,
+              URI_DELETE_TOPICS,
+              URI_DELETE_SCHEMAS,
+              URI_POST_CONNECTOR,
+              URI_UPDATE_CONNECTOR,
+              URI_DELETE_CONNECTOR,
+              URI_CONNECTOR_DETAILS,
+              URI_GET_ALL_CONNECTORS,
+              URI_POST_RESTART_CONNECTOR,
+              URI_POST_SCHEMA,
+              URI_SCHEMA_RESET_CACHE,
+              URI_GET_SCHEMA,
+              URI_SCHEMA,
+              URI_GET_METRICS,
+              URI_VALIDATE_SCHEMA,
+              getAivenUri(URI_AIVEN_SERVICE_ACCOUNT_DETAIL),
+              getAivenUri(URI_AIVEN_SERVICE_ACCOUNTS))
+          .sorted(Comparator.comparingInt(String::length).reversed())
+          .toList();
+
+  private final MeterRegistry meterRegistry;
+
+  ClusterApiTimingInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    String uri = getUri(request.getURI().getRawPath());
+    String status = "IO_ERROR";
+    long start = System.nanoTime();
+    try {
+      ClientHttpResponse response = execution.execute(request, body);
+      status = String.valueOf(response.getStatusCode().value());
+      return response;
+    } finally {
+      long nanos = System.nanoTime() - start;
+      meterRegistry
+          .timer(
+              CLUSTER_API_TIMER, "method", request.getMethod().name(), "uri", uri, "status", status)
+          .record(nanos, TimeUnit.NANOSECONDS);
+      RequestTimings.record(Component.CLUSTER_API, request.getMethod().name() + " " + uri, nanos);
+    }
+  }
+
+  static String getUri(String path) {
+    if (path != null) {
+      for (String uri : URIS) {
+        if (path.contains(uri)) {
+          return uri;
+        }
+      }
+    }
+    return OTHER_URI;
+  }
+
+  private static String getAivenUri(String uri) {
+    return uri.substring(0, uri.indexOf("/project/") + "/project/".length());
+  }
+}
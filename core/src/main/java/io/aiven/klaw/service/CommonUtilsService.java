@@ -1,17 +1,20 @@
 package io.aiven.klaw.service;
 
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
-import static io.aiven.klaw.helpers.KwConstants.REQUEST_TOPICS_OF_ENVS;
 import static io.aiven.klaw.model.enums.AuthenticationType.DATABASE;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.AclMatchIndex;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
+import io.aiven.klaw.helpers.TopicOverviewCache;
 import io.aiven.klaw.helpers.UtilMethods;
+import io.aiven.klaw.helpers.db.rdbms.ReferenceDataCache;
 import io.aiven.klaw.model.KwMetadataUpdates;
 import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.ResourceHistory;
@@ -34,7 +37,9 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -43,8 +48,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -66,6 +74,8 @@ import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Service
@@ -74,6 +84,9 @@ public class CommonUtilsService {
 
   public static final String BASE_URL_ADDRESS = "BASE_URL_ADDRESS";
   public static final String BASE_URL_NAME = "BASE_URL_NAME";
+  private static final String PERMISSION_MASK_ATTRIBUTE = "klaw.permissionMask.";
+  // kafka topic names cannot hold a comma
+  private static final String TOPIC_NAMES_SEPARATOR = ",";
 
   public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
@@ -106,8 +119,28 @@ public class CommonUtilsService {
 
   @Autowired Environment environment;
 
+  // origin of the topic updates this server sends to the other servers
+  private final String instanceId = UUID.randomUUID().toString();
+
+  private final Map<Integer, AtomicLong> topicsVersionPerTenant = new ConcurrentHashMap<>();
+
+  // last topic update version applied per origin server and tenant. Restarted servers come back
+  // with a new origin, so idle origins expire, a later update of one reloads the topics once.
+  private final Map<String, Long> appliedTopicsVersions =
+      Caffeine.newBuilder()
+          .expireAfterAccess(Duration.ofDays(1))
+          .maximumSize(10_000)
+          .<String, Long>build()
+          .asMap();
+
   @Autowired ManageDatabase manageDatabase;
 
+  @Autowired private ReferenceDataCache referenceDataCache;
+
+  @Autowired private AclMatchIndex aclMatchIndex;
+
+  @Autowired private TopicOverviewCache topicOverviewCache;
+
   private static Map<String, String> baseUrlsMap;
 
   private static HttpComponentsClientHttpRequestFactory requestFactory =
@@ -182,19 +215,31 @@ public class CommonUtilsService {
   }
 
   public boolean isNotAuthorizedUser(Object principal, PermissionType permissionType) {
+    return (getPermissionMask(principal) & permissionType.mask()) == 0;
+  }
+
+  // permissions of the principal as PermissionType mask, resolved once per http request
+  public long getPermissionMask(Object principal) {
     try {
-      return !manageDatabase
-          .getRolesPermissionsPerTenant(getTenantId(getUserName(principal)))
-          .get(getAuthority(principal))
-          .contains(permissionType.name());
+      String userName = getUserName(principal);
+      String attributeName = PERMISSION_MASK_ATTRIBUTE + userName;
+      RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+      if (requestAttributes != null
+          && requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST)
+              instanceof Long permissionMask) {
+        return permissionMask;
+      }
+
+      long permissionMask =
+          manageDatabase.getRolePermissionMask(getTenantId(userName), getAuthority(principal));
+      if (requestAttributes != null) {
+        requestAttributes.setAttribute(
+            attributeName, permissionMask, RequestAttributes.SCOPE_REQUEST);
+      }
+      return permissionMask;
     } catch (Exception e) {
-      log.debug(
-          "Error isNotAuthorizedUser / Check if role exists. {} {} {}",
-          getUserName(principal),
-          permissionType.name(),
-          getAuthority(getUserName(principal)),
-          e);
-      return true;
+      log.debug("Error getPermissionMask / Check if role exists. {}", principal, e);
+      return 0L;
     }
   }
 
@@ -337,6 +382,32 @@ public class CommonUtilsService {
             .operationType(operationType.name())
             .createdTime(new Timestamp(System.currentTimeMillis()))
             .build();
+    updateMetadata(kwMetadataUpdates);
+  }
+
+  /**
+   * Replaces the given topics in the cache of this and the other servers, instead of reloading all
+   * topics of the tenant. A server which missed an update of this server reloads all topics.
+   */
+  public void updateTopicsMetadata(
+      int tenantId, MetadataOperationType operationType, Collection<String> topicNames) {
+    KwMetadataUpdates kwMetadataUpdates =
+        KwMetadataUpdates.builder()
+            .tenantId(tenantId)
+            .entityType(EntityType.TOPICS.name())
+            .entityValue(String.join(TOPIC_NAMES_SEPARATOR, topicNames))
+            .operationType(operationType.name())
+            .createdTime(new Timestamp(System.currentTimeMillis()))
+            .version(
+                topicsVersionPerTenant
+                    .computeIfAbsent(tenantId, k -> new AtomicLong())
+                    .incrementAndGet())
+            .origin(instanceId)
+            .build();
+    updateMetadata(kwMetadataUpdates);
+  }
+
+  private void updateMetadata(KwMetadataUpdates kwMetadataUpdates) {
     updateMetadataCache(kwMetadataUpdates, true);
 
     try {
@@ -358,6 +429,8 @@ public class CommonUtilsService {
     }
     final MetadataOperationType operationType =
         MetadataOperationType.of(kwMetadataUpdates.getOperationType());
+    // drop the entities cached by hibernate before they are loaded again
+    referenceDataCache.evict(entityType);
     if (entityType == EntityType.USERS) {
       manageDatabase.loadUsersForAllTenants();
       if (DATABASE.value.equals(authenticationType) && !isLocal) {
@@ -383,6 +456,7 @@ public class CommonUtilsService {
       manageDatabase.updateStaticDataForTenant(kwMetadataUpdates.getTenantId());
     } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.DELETE) {
       manageDatabase.deleteTenant(kwMetadataUpdates.getTenantId());
+      aclMatchIndex.removeTenant(kwMetadataUpdates.getTenantId());
     } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.UPDATE) {
       manageDatabase.loadOneTenant(kwMetadataUpdates.getTenantId());
     } else if (entityType == EntityType.ROLES_PERMISSIONS) {
@@ -390,8 +464,41 @@ public class CommonUtilsService {
     } else if (entityType == EntityType.PROPERTIES) {
       manageDatabase.loadKwPropsPerOneTenant(null, kwMetadataUpdates.getTenantId());
     } else if (entityType == EntityType.TOPICS) {
-      manageDatabase.loadTopicsForOneTenant(kwMetadataUpdates.getTenantId());
+      updateTopicsCache(kwMetadataUpdates);
+    } else if (entityType == EntityType.ACLS && !isLocal) {
+      // this instance keeps its index in line with its own acl changes
+      aclMatchIndex.removeTenant(kwMetadataUpdates.getTenantId());
+      topicOverviewCache.invalidate(kwMetadataUpdates.getTenantId());
+    }
+  }
+
+  // topic updates re-read the topics from the database, so applying one twice or late is harmless
+  private void updateTopicsCache(KwMetadataUpdates kwMetadataUpdates) {
+    int tenantId = kwMetadataUpdates.getTenantId();
+    String entityValue = kwMetadataUpdates.getEntityValue();
+    if (kwMetadataUpdates.getVersion() == null
+        || kwMetadataUpdates.getOrigin() == null
+        || entityValue == null
+        || entityValue.isEmpty()) {
+      manageDatabase.loadTopicsForOneTenant(tenantId);
+      return;
+    }
+
+    long version = kwMetadataUpdates.getVersion();
+    String originKey = kwMetadataUpdates.getOrigin() + "_" + tenantId;
+    // the applied versions only grow, a stale read here reloads the topics rather than skip a gap
+    Long lastVersion = appliedTopicsVersions.get(originKey);
+    appliedTopicsVersions.merge(originKey, version, Math::max);
+    if (!instanceId.equals(kwMetadataUpdates.getOrigin())
+        && (lastVersion == null ? version != 1 : version > lastVersion + 1)) {
+      log.info(
+          "Missed topic updates of {} for tenant {}, reloading all topics",
+          kwMetadataUpdates.getOrigin(),
+          tenantId);
+      manageDatabase.loadTopicsForOneTenant(tenantId);
+      return;
     }
+    manageDatabase.updateTopicsInCache(tenantId, List.of(entityValue.split(TOPIC_NAMES_SEPARATOR)));
   }
 
   private void updateInMemoryAuthenticationManager(
@@ -503,6 +610,8 @@ public class CommonUtilsService {
                   .entityType(kwMetadataUpdates.getEntityType())
                   .entityValue(kwMetadataUpdates.getEntityValue())
                   .operationType(kwMetadataUpdates.getOperationType())
+                  .version(kwMetadataUpdates.getVersion())
+                  .origin(kwMetadataUpdates.getOrigin())
                   .build();
 
           HttpHeaders headers = new HttpHeaders();
@@ -584,76 +693,11 @@ public class CommonUtilsService {
   }
 
   public String getEnvProperty(Integer tenantId, String envPropertyType) {
-    try {
-      KwTenantConfigModel tenantModel = manageDatabase.getTenantConfig().get(tenantId);
-      if (tenantModel == null) {
-        return "";
-      }
-      List<Integer> intOrderEnvsList = new ArrayList<>();
-
-      switch (envPropertyType) {
-        case ORDER_OF_TOPIC_ENVS -> {
-          List<String> orderOfTopicPromotionEnvsList =
-              tenantModel.getOrderOfTopicPromotionEnvsList();
-          if (null != orderOfTopicPromotionEnvsList && !orderOfTopicPromotionEnvsList.isEmpty()) {
-            orderOfTopicPromotionEnvsList.forEach(a -> intOrderEnvsList.add(Integer.parseInt(a)));
-          }
-        }
-        case REQUEST_TOPICS_OF_ENVS -> {
-          List<String> requestTopics = tenantModel.getRequestTopicsEnvironmentsList();
-          if (requestTopics != null && !requestTopics.isEmpty()) {
-            requestTopics.forEach(a -> intOrderEnvsList.add(Integer.parseInt(a)));
-          }
-        }
-        case "ORDER_OF_KAFKA_CONNECT_ENVS" -> {
-          List<String> orderOfConn = tenantModel.getOrderOfConnectorsPromotionEnvsList();
-          if (orderOfConn != null && !orderOfConn.isEmpty()) {
-            orderOfConn.forEach(a -> intOrderEnvsList.add(Integer.parseInt(a)));
-          }
-        }
-        case "REQUEST_CONNECTORS_OF_KAFKA_CONNECT_ENVS" -> {
-          List<String> requestConn = tenantModel.getRequestConnectorsEnvironmentsList();
-          if (requestConn != null && !requestConn.isEmpty()) {
-            requestConn.forEach(a -> intOrderEnvsList.add(Integer.parseInt(a)));
-          }
-        }
-        case "REQUEST_SCHEMA_OF_ENVS" -> {
-          List<String> requestSchema = tenantModel.getRequestSchemaEnvironmentsList();
-          if (requestSchema != null && !requestSchema.isEmpty()) {
-            requestSchema.forEach(a -> intOrderEnvsList.add(Integer.parseInt(a)));
-          }
-        }
-      }
-
-      return intOrderEnvsList.stream().map(String::valueOf).collect(Collectors.joining(","));
-    } catch (Exception e) {
-      log.error("Exception:", e);
-      return "";
-    }
+    return manageDatabase.getEnvGraph(tenantId).getEnvProperty(envPropertyType);
   }
 
-  protected String getSchemaPromotionEnvsFromKafkaEnvs(int tenantId) {
-    String kafkaEnvs = getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
-    String[] kafkaEnvIdsList = kafkaEnvs.split(",");
-    StringBuilder orderOfSchemaEnvs = new StringBuilder();
-
-    List<Env> kafkaEnvsList = manageDatabase.getKafkaEnvList(tenantId);
-
-    if (kafkaEnvIdsList.length > 0) {
-      for (String kafkaEnvId : kafkaEnvIdsList) {
-        kafkaEnvsList.stream()
-            .filter(env -> env.getId().equals(kafkaEnvId))
-            .findFirst()
-            .ifPresent(
-                env -> {
-                  if (env.getAssociatedEnv() != null) {
-                    orderOfSchemaEnvs.append(env.getAssociatedEnv().getId()).append(",");
-                  }
-                });
-      }
-    }
-
-    return orderOfSchemaEnvs.toString();
+  public boolean isInEnvOrder(int tenantId, EnvOrder envOrder, String envId) {
+    return manageDatabase.getEnvGraph(tenantId).isInOrder(envOrder, envId);
   }
 
   public List<Topic> getTopicsForTopicName(String topicName, int tenantId) {
@@ -804,10 +848,6 @@ public class CommonUtilsService {
   }
 
   public Env getEnvDetails(String envId, int tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaEnv(envId);
   }
 }
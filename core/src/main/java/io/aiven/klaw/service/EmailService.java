@@ -4,67 +4,28 @@ import static io.aiven.klaw.helpers.KwConstants.DEFAULT_TENANT_ID;
 import static io.aiven.klaw.helpers.KwConstants.EMAIL_NOTIFICATIONS_ENABLED_KEY;
 
 import io.aiven.klaw.config.ManageDatabase;
-import jakarta.mail.Address;
-import jakarta.mail.Message;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.InternetAddress;
-import jakarta.mail.internet.MimeMessage;
-import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
 public class EmailService {
 
-  @Autowired private JavaMailSender emailSender;
+  @Autowired private MailQueueService mailQueueService;
 
   @Autowired ManageDatabase manageDatabase;
 
   @Autowired public SimpleMailMessage template;
 
-  @Value("${spring.mail.frommailid:info@klaw-project.io}")
-  private String fromMailId;
-
-  @Value("${spring.mail.noreplymailid:info@klaw-project.io}")
-  private String noReplyMailId;
-
-  private String headerString =
-      "<html><table style=\"height:40px;width:60%;background-color:#016BA7;color:white;text-align:center;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
-          + "\t<tr>\n"
-          + "\t\t\n"
-          + "\t\t<td>\n"
-          + "\t\t\t<img src=\"https://klaw-project.io/wp-content/uploads/2021/01/KW-logo-gold-sm.png\"></img>\n"
-          + "\t\t</td>\n"
-          + "\t</tr>\n"
-          + "</table><br>\n"
-          + "\n"
-          + "<table style=\"width:60%;color:#016BA7;text-align:left;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
-          + "\t<tr>\n"
-          + "\t\t<td>";
-
-  private String footerString =
-      "<br>\n"
-          + "<table style=\"height:40px; width:60%;background-color:#016BA7;color:white;text-align:center;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
-          + "\t<tr>\n"
-          + "\t\t<td>\n"
-          + "\t\t\t© 2023 <a href=\"https://klaw-project.io\" style=\"color:white;\">www.klaw-project.io</a>\n"
-          + "\t\t</td>\n"
-          + "\t</tr>\n"
-          + "</table>\n"
-          + "<table style=\"height:40px; width:60%;background-color:#016BA7;color:white;text-align:center;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
-          + "</table></html>";
+  public record MailRecipients(List<String> to, List<String> cc, List<String> bcc) {}
 
   public void sendSimpleMessage(
       String to, String cc, String subject, String text, int tenantId, String loginUrl) {
@@ -75,7 +36,7 @@ public class EmailService {
     sendSimpleMessage(toList, ccList, null, subject, text, tenantId, loginUrl);
   }
 
-  @Async("notificationsThreadPool")
+  /** Queues the mail for each of the recipients, the mails are sent by the mail queue. */
   public void sendSimpleMessage(
       List<String> to,
       List<String> cc,
@@ -84,62 +45,51 @@ public class EmailService {
       String text,
       int tenantId,
       String loginUrl) {
+    sendSimpleMessage(() -> new MailRecipients(to, cc, bcc), subject, text, tenantId, loginUrl);
+  }
+
+  /**
+   * Queues the mail, the recipients are looked up by the mail queue when it sends the mail so the
+   * calling request does not wait for them.
+   */
+  public void sendSimpleMessage(
+      Supplier<MailRecipients> recipients,
+      String subject,
+      String text,
+      int tenantId,
+      String loginUrl) {
     String emailNotificationsEnabled =
         manageDatabase.getKwPropertyValue(EMAIL_NOTIFICATIONS_ENABLED_KEY, DEFAULT_TENANT_ID);
-    try {
-      MimeMessage message = emailSender.createMimeMessage();
-      addEmailRecipientsToEmail(to, message, Message.RecipientType.TO);
-      addEmailRecipientsToEmail(cc, message, Message.RecipientType.CC);
-      addEmailRecipientsToEmail(bcc, message, Message.RecipientType.BCC);
-
-      message.setSubject(subject);
-      Address address = new InternetAddress(noReplyMailId);
-      message.setReplyTo(new Address[] {address});
-      message.setFrom(new InternetAddress(fromMailId, "Klaw NoReply"));
-
-      text = text.replaceAll("\\\\n", "<br>");
-
-      text =
-          text
-              + "<br><br>\n"
-              + "<a href="
-              + loginUrl
-              + "><b>Login Now</b></a>\n"
-              + "<br><br>\n"
-              + "Thanks,<br>Klaw\n"
-              + "\t\t</td>\n"
-              + "\t</tr>\n"
-              + "</table>";
-
-      text = headerString + text + footerString;
-      message.setContent(text, "text/html");
+    if (!"true".equals(emailNotificationsEnabled)) {
+      return;
+    }
 
-      if ("true".equals(emailNotificationsEnabled)) {
-        try {
-          CompletableFuture.runAsync(
-                  () -> {
-                    emailSender.send(message);
-                  })
-              .get();
-        } catch (InterruptedException | ExecutionException e) {
-          log.error("Exception:", e);
-        }
-      }
+    mailQueueService.submit(
+        tenantId,
+        () -> getEmailRecipients(recipients.get()),
+        subject,
+        MailTemplate.toHtml(text),
+        loginUrl);
+  }
 
-    } catch (MailException | MessagingException | UnsupportedEncodingException e) {
-      log.error("Exception:", e);
+  private static Set<String> getEmailRecipients(MailRecipients mailRecipients) {
+    // every recipient gets a mail of their own, so bcc recipients stay hidden
+    Set<String> recipients = new LinkedHashSet<>();
+    if (mailRecipients != null) {
+      addEmailRecipients(mailRecipients.to(), recipients);
+      addEmailRecipients(mailRecipients.cc(), recipients);
+      addEmailRecipients(mailRecipients.bcc(), recipients);
     }
+    return recipients;
   }
 
-  private static void addEmailRecipientsToEmail(
-      List<String> addresses, MimeMessage message, Message.RecipientType recipientType)
-      throws MessagingException {
-    if (addresses != null && !addresses.isEmpty()) {
+  private static void addEmailRecipients(List<String> addresses, Set<String> recipients) {
+    if (addresses != null) {
       for (String address : addresses) {
-        if (log.isDebugEnabled()) {
-          log.debug("Add {} to recipientType {}", address, recipientType);
+        if (address != null && !address.isBlank()) {
+          log.debug("Add {} to recipients", address);
+          recipients.add(address.trim());
         }
-        message.addRecipients(recipientType, address);
       }
     }
   }
@@ -13,14 +13,12 @@ import static io.aiven.klaw.error.KlawErrorMessages.ENV_CLUSTER_TNT_ERR_108;
 import static io.aiven.klaw.helpers.KwConstants.DAYS_EXPIRY_DEFAULT_TENANT;
 import static io.aiven.klaw.helpers.KwConstants.DAYS_TRIAL_PERIOD;
 import static io.aiven.klaw.helpers.KwConstants.DEFAULT_TENANT_ID;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_KAFKA_CONNECT_ENVS;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
-import static io.aiven.klaw.helpers.KwConstants.REQUEST_TOPICS_OF_ENVS;
 import static io.aiven.klaw.helpers.KwConstants.SUPERADMIN_ROLE;
 import static io.aiven.klaw.model.enums.RolesType.SUPERADMIN;
 import static io.aiven.klaw.service.UsersTeamsControllerService.MASKED_PWD;
 import static org.springframework.beans.BeanUtils.copyProperties;
 
+import io.aiven.klaw.config.CacheConfig;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.EnvTag;
@@ -29,6 +27,8 @@ import io.aiven.klaw.dao.KwTenants;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawValidationException;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.KwTenantModel;
@@ -318,20 +318,12 @@ public class EnvsClustersTenantsControllerService {
   public List<EnvModelResponse> getEnvsForRequestTopicsCluster() {
     int tenantId = getUserDetails(getUserName()).getTenantId();
 
-    String requestTopicsEnvs = commonUtilsService.getEnvProperty(tenantId, REQUEST_TOPICS_OF_ENVS);
-    if (requestTopicsEnvs == null) {
-      return new ArrayList<>();
-    }
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
-    String[] reqTopicsEnvs = requestTopicsEnvs.split(",");
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
     List<Env> listEnvs = manageDatabase.getKafkaEnvList(tenantId);
     List<EnvModelResponse> envModelList = getEnvModels(listEnvs, KafkaClustersType.KAFKA, tenantId);
 
-    envModelList = filterEnvironmentModelList(reqTopicsEnvs, envModelList);
-    if (orderOfEnvs == null) {
-      return envModelList;
-    }
-    envModelList.sort(Comparator.comparingInt(topicEnv -> orderOfEnvs.indexOf(topicEnv.getId())));
+    envModelList = filterEnvironmentModelList(envGraph, EnvOrder.TOPIC_REQUEST, envModelList);
+    sortEnvironmentModelList(envGraph, EnvOrder.TOPIC_PROMOTION, envModelList);
     return envModelList;
   }
 
@@ -341,7 +333,6 @@ public class EnvsClustersTenantsControllerService {
 
   public List<EnvModelResponse> getKafkaEnvs() {
     int tenantId = getUserDetails(getUserName()).getTenantId();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
     List<Env> listEnvs = manageDatabase.getKafkaEnvList(tenantId);
     List<EnvModelResponse> envModelList = getEnvModels(listEnvs, KafkaClustersType.KAFKA, tenantId);
     envModelList.forEach(
@@ -360,13 +351,13 @@ public class EnvsClustersTenantsControllerService {
           });
     }
 
-    envModelList.sort(Comparator.comparingInt(topicEnv -> orderOfEnvs.indexOf(topicEnv.getId())));
+    sortEnvironmentModelList(
+        manageDatabase.getEnvGraph(tenantId), EnvOrder.TOPIC_PROMOTION, envModelList);
     return envModelList;
   }
 
   public List<EnvModelResponse> getConnectorEnvs() {
     int tenantId = getUserDetails(getUserName()).getTenantId();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_KAFKA_CONNECT_ENVS);
     List<Env> listEnvs = manageDatabase.getKafkaConnectEnvList(tenantId);
     List<EnvModelResponse> envModelList =
         getEnvModels(listEnvs, KafkaClustersType.KAFKA_CONNECT, tenantId);
@@ -375,7 +366,8 @@ public class EnvsClustersTenantsControllerService {
         envModel ->
             envModel.setTenantName(manageDatabase.getTenantMap().get(envModel.getTenantId())));
 
-    envModelList.sort(Comparator.comparingInt(topicEnv -> orderOfEnvs.indexOf(topicEnv.getId())));
+    sortEnvironmentModelList(
+        manageDatabase.getEnvGraph(tenantId), EnvOrder.CONNECTOR_PROMOTION, envModelList);
     return envModelList;
   }
 
@@ -540,42 +532,30 @@ public class EnvsClustersTenantsControllerService {
   public List<EnvModelResponse> getEnvsForSchemaRequests() {
     int tenantId = getUserDetails(getUserName()).getTenantId();
 
-    String requestSchemasEnvs =
-        commonUtilsService.getEnvProperty(tenantId, "REQUEST_SCHEMA_OF_ENVS");
-    if (requestSchemasEnvs == null) {
-      return new ArrayList<>();
-    }
-    String orderOfEnvs = commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(tenantId);
-    String[] reqSchemaEnvs = requestSchemasEnvs.split(",");
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
     List<Env> listEnvs = manageDatabase.getSchemaRegEnvList(tenantId);
     List<EnvModelResponse> envModelList =
         getEnvModels(listEnvs, KafkaClustersType.SCHEMA_REGISTRY, tenantId);
-    log.debug("orderOfEnvs {}, RequestForSchemas {}, ", orderOfEnvs, reqSchemaEnvs);
-    envModelList = filterEnvironmentModelList(reqSchemaEnvs, envModelList);
-    if (orderOfEnvs == null) {
-      return envModelList;
-    }
-    envModelList.sort(Comparator.comparingInt(schemaEnv -> orderOfEnvs.indexOf(schemaEnv.getId())));
+    log.debug(
+        "orderOfEnvs {}, RequestForSchemas {}, ",
+        envGraph.getOrder(EnvOrder.SCHEMA_PROMOTION),
+        envGraph.getOrder(EnvOrder.SCHEMA_REQUEST));
+    envModelList = filterEnvironmentModelList(envGraph, EnvOrder.SCHEMA_REQUEST, envModelList);
+    sortEnvironmentModelList(envGraph, EnvOrder.SCHEMA_PROMOTION, envModelList);
     return envModelList;
   }
 
   private List<EnvModelResponse> filterEnvironmentModelList(
-      String[] reqEnvs, List<EnvModelResponse> envModelList) {
-    envModelList =
-        envModelList.stream()
-            .filter(
-                env -> {
-                  boolean found = false;
-                  for (String reqEnv : reqEnvs) {
-                    if (Objects.equals(env.getId(), reqEnv)) {
-                      found = true;
-                      break;
-                    }
-                  }
-                  return found;
-                })
-            .collect(Collectors.toList());
-    return envModelList;
+      EnvGraph envGraph, EnvOrder requestEnvs, List<EnvModelResponse> envModelList) {
+    return envModelList.stream()
+        .filter(env -> envGraph.isInOrder(requestEnvs, env.getId()))
+        .collect(Collectors.toList());
+  }
+
+  // envs which are not part of the order come first
+  private void sortEnvironmentModelList(
+      EnvGraph envGraph, EnvOrder envOrder, List<EnvModelResponse> envModelList) {
+    envModelList.sort(Comparator.comparingInt(env -> envGraph.getPosition(envOrder, env.getId())));
   }
 
   public List<EnvModelResponse> getKafkaConnectEnvs() {
@@ -1328,7 +1308,7 @@ public class EnvsClustersTenantsControllerService {
     return envUpdatedStatus;
   }
 
-  @Cacheable(cacheNames = "tenantsinfo")
+  @Cacheable(cacheNames = CacheConfig.TENANTS_INFO_CACHE)
   public TenantInfo getTenantsInfo() {
     TenantInfo tenantsInfo = new TenantInfo();
     tenantsInfo.setTenants(manageDatabase.getTenantMap().size());
@@ -3,26 +3,56 @@ package io.aiven.klaw.service;
 import static io.aiven.klaw.helpers.KwConstants.INFRATEAM;
 import static io.aiven.klaw.helpers.KwConstants.STAGINGTEAM;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.AclRequests;
+import io.aiven.klaw.dao.KafkaConnectorRequest;
+import io.aiven.klaw.dao.KwKafkaConnector;
+import io.aiven.klaw.dao.MessageSchema;
 import io.aiven.klaw.dao.ProductDetails;
+import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.dao.metadata.KwAdminConfig;
 import io.aiven.klaw.dao.metadata.KwData;
 import io.aiven.klaw.dao.metadata.KwRequests;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.jasypt.util.text.BasicTextEncryptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -30,6 +60,8 @@ import org.springframework.stereotype.Service;
 /*
 - Export Klaw metadata (Admin config, Core data, Requests data) to json files
 - Import json files into Klaw metadata
+- Core and Requests data are streamed page by page on export and batch by batch on import, so the
+  memory needed does not grow with the number of topics, acls or requests.
  */
 @Slf4j
 @Service
@@ -71,8 +103,21 @@ public class ExportImportDataService {
   @Value("${klaw.version}")
   private String klawVersion;
 
+  // Possible values "none" or "gzip"
+  @Value("${klaw.export.compression:none}")
+  private String exportCompression;
+
+  @Value("${klaw.export.page.size:1000}")
+  private int exportPageSize;
+
+  @Value("${klaw.import.batch.size:500}")
+  private int importBatchSize;
+
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private static final String FILE_EXT = ".json";
+  private static final String GZIP_FILE_EXT = ".gz";
+  private static final String GZIP_COMPRESSION = "gzip";
+  private static final String CHECKPOINT_FILE_EXT = ".checkpoint";
   private static final String FILE_PREFIX = "kwmetadata";
   private static final String ADMIN_CONFIG_PREFIX = "admin_config";
   private static final String KW_DATA_PREFIX = "kwdata";
@@ -99,31 +144,140 @@ public class ExportImportDataService {
 
   private void importKwRequestsData(HandleDbRequests handleDbRequests) throws IOException {
     if (importKwRequestsDataMetadata) {
-      KwRequests kwRequests =
-          OBJECT_MAPPER.readValue(new File(klawImportKwRequestsDataFilePath), KwRequests.class);
-      kwRequests.getTopicRequests().forEach(handleDbRequests::requestForTopic);
-      kwRequests.getSubscriptionRequests().forEach(handleDbRequests::requestForAcl);
-      kwRequests.getSchemaRequests().forEach(handleDbRequests::requestForSchema);
-      kwRequests.getConnectorRequests().forEach(handleDbRequests::requestForConnector);
+      File importFile = new File(klawImportKwRequestsDataFilePath);
+      ImportCheckpoint checkpoint = new ImportCheckpoint(importFile);
+      try (JsonParser parser = createParser(importFile)) {
+        String fieldName;
+        while ((fieldName = nextSection(parser)) != null) {
+          switch (fieldName) {
+            case "topicRequests" -> importSection(
+                parser,
+                fieldName,
+                TopicRequest.class,
+                handleDbRequests::importTopicRequests,
+                checkpoint);
+            case "subscriptionRequests" -> importSection(
+                parser,
+                fieldName,
+                AclRequests.class,
+                handleDbRequests::importAclRequests,
+                checkpoint);
+            case "schemaRequests" -> importSection(
+                parser,
+                fieldName,
+                SchemaRequest.class,
+                handleDbRequests::importSchemaRequests,
+                checkpoint);
+            case "connectorRequests" -> importSection(
+                parser,
+                fieldName,
+                KafkaConnectorRequest.class,
+                handleDbRequests::importConnectorRequests,
+                checkpoint);
+            default -> parser.skipChildren();
+          }
+        }
+      }
+      checkpoint.complete();
       log.info("Klaw KwRequestsData metadata imported !!");
     }
   }
 
   private void importKwData(HandleDbRequests handleDbRequests) throws IOException {
     if (importKwDataMetadata) {
-      KwData kwData = OBJECT_MAPPER.readValue(new File(klawImportKwDataFilePath), KwData.class);
-      handleDbRequests.addToSynctopics(kwData.getTopics());
-      handleDbRequests.addToSyncacls(kwData.getSubscriptions());
-      handleDbRequests.insertIntoMessageSchemaSOT(kwData.getSchemas());
-      handleDbRequests.addToSyncConnectors(kwData.getKafkaConnectors());
+      File importFile = new File(klawImportKwDataFilePath);
+      ImportCheckpoint checkpoint = new ImportCheckpoint(importFile);
+      try (JsonParser parser = createParser(importFile)) {
+        String fieldName;
+        while ((fieldName = nextSection(parser)) != null) {
+          switch (fieldName) {
+            case "topics" -> importSection(
+                parser, fieldName, Topic.class, handleDbRequests::addToSynctopics, checkpoint);
+            case "subscriptions" -> importSection(
+                parser, fieldName, Acl.class, handleDbRequests::addToSyncacls, checkpoint);
+            case "schemas" -> importSection(
+                parser,
+                fieldName,
+                MessageSchema.class,
+                handleDbRequests::insertIntoMessageSchemaSOT,
+                checkpoint);
+            case "kafkaConnectors" -> importSection(
+                parser,
+                fieldName,
+                KwKafkaConnector.class,
+                handleDbRequests::addToSyncConnectors,
+                checkpoint);
+            default -> parser.skipChildren();
+          }
+        }
+      }
+      checkpoint.complete();
       log.info("Klaw KwData metadata imported !!");
     }
   }
 
+  /*
+   Files are wrapped in their root name, ex : {"KwData" : {"klawVersion" : .., "topics" : [..]}}.
+   Moves the parser to the next field of the wrapped object and returns its name, or null at the end.
+  */
+  private String nextSection(JsonParser parser) throws IOException {
+    if (parser.currentToken() == null) {
+      parser.nextToken(); // start of file
+      parser.nextToken(); // root name
+      parser.nextToken(); // start of wrapped object
+    }
+    JsonToken token = parser.nextToken();
+    if (token != JsonToken.FIELD_NAME) {
+      return null;
+    }
+    String fieldName = parser.getCurrentName();
+    parser.nextToken();
+    return fieldName;
+  }
+
+  // Reads the array under the parser in batches, skipping entities committed by an earlier run.
+  private <T> void importSection(
+      JsonParser parser,
+      String section,
+      Class<T> type,
+      Consumer<List<T>> batchWriter,
+      ImportCheckpoint checkpoint)
+      throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+    ObjectReader reader =
+        OBJECT_MAPPER.readerFor(type).without(DeserializationFeature.UNWRAP_ROOT_VALUE);
+    long alreadyImported = checkpoint.getImported(section);
+    long index = 0;
+    List<T> batch = new ArrayList<>(importBatchSize);
+
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (index++ < alreadyImported) {
+        parser.skipChildren();
+        continue;
+      }
+      batch.add(reader.readValue(parser));
+      if (batch.size() == importBatchSize) {
+        batchWriter.accept(batch);
+        checkpoint.update(section, index);
+        batch = new ArrayList<>(importBatchSize);
+      }
+    }
+    if (!batch.isEmpty()) {
+      batchWriter.accept(batch);
+      checkpoint.update(section, index);
+    }
+    log.info("Imported {} : {} entries", section, index);
+  }
+
   void importKlawAdminConfig(HandleDbRequests handleDbRequests) throws IOException {
     if (importAdminConfigMetadata) {
-      KwAdminConfig kwAdminConfig =
-          OBJECT_MAPPER.readValue(new File(klawImportAdminConfigFilePath), KwAdminConfig.class);
+      KwAdminConfig kwAdminConfig;
+      try (InputStream inputStream = openImportStream(new File(klawImportAdminConfigFilePath))) {
+        kwAdminConfig = OBJECT_MAPPER.readValue(inputStream, KwAdminConfig.class);
+      }
       kwAdminConfig.getTenants().forEach(handleDbRequests::addNewTenant);
       handleDbRequests.insertDefaultRolesPermissions(kwAdminConfig.getRolesPermissions());
       handleDbRequests.insertDefaultKwProperties(kwAdminConfig.getProperties());
@@ -163,26 +317,86 @@ public class ExportImportDataService {
     String timeStamp = getTimeStamp();
     HandleDbRequests handleDbRequests = manageDatabase.getHandleDbRequests();
     KwAdminConfig adminConfig = getAdminConfig(handleDbRequests, timeStamp);
-    KwData kwData = getKwData(handleDbRequests, timeStamp);
-    KwRequests kwRequestData = getRequestsData(handleDbRequests, timeStamp);
 
     // write to files
     try {
-      OBJECT_MAPPER
-          .writerWithDefaultPrettyPrinter()
-          .writeValue(getFile(ADMIN_CONFIG_PREFIX, timeStamp), adminConfig);
-      OBJECT_MAPPER
-          .writerWithDefaultPrettyPrinter()
-          .writeValue(getFile(KW_DATA_PREFIX, timeStamp), kwData);
-      OBJECT_MAPPER
-          .writerWithDefaultPrettyPrinter()
-          .writeValue(getFile(KW_REQUEST_DATA_PREFIX, timeStamp), kwRequestData);
+      try (OutputStream outputStream = openExportStream(ADMIN_CONFIG_PREFIX, timeStamp)) {
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(outputStream, adminConfig);
+      }
+      writeKwData(handleDbRequests, timeStamp);
+      writeRequestsData(handleDbRequests, timeStamp);
       log.info("Klaw metadata exported !!");
     } catch (IOException e) {
       log.error("Error during parsing/writing to files : ", e);
     }
   }
 
+  // Streams topics, acls, schemas, connectors in the same json layout as KwData
+  void writeKwData(HandleDbRequests handleDbRequests, String timeStamp) throws IOException {
+    log.info("Exporting Kw Data (topics, acls, schemas, connectors) --- STARTED");
+    try (JsonGenerator generator = createGenerator(KW_DATA_PREFIX, timeStamp)) {
+      startWrappedObject(generator, KwData.class, timeStamp);
+      writeSection(generator, "topics", handleDbRequests::getAllTopics);
+      writeSection(generator, "subscriptions", handleDbRequests::getAllSubscriptions);
+      writeSection(generator, "schemas", handleDbRequests::getAllSchemas);
+      writeSection(generator, "kafkaConnectors", handleDbRequests::getAllConnectors);
+      endWrappedObject(generator);
+    }
+    log.info("Exporting Kw Data --- ENDED");
+  }
+
+  // Streams topic, subscription, schema and connector requests in the same json layout as
+  // KwRequests
+  void writeRequestsData(HandleDbRequests handleDbRequests, String timeStamp) throws IOException {
+    log.info(
+        "Exporting Kw Requests Data (topic, subscription, schema and connector requests) --- STARTED");
+    try (JsonGenerator generator = createGenerator(KW_REQUEST_DATA_PREFIX, timeStamp)) {
+      startWrappedObject(generator, KwRequests.class, timeStamp);
+      writeSection(generator, "topicRequests", handleDbRequests::getAllTopicRequests);
+      writeSection(generator, "subscriptionRequests", handleDbRequests::getAllAclRequests);
+      writeSection(generator, "schemaRequests", handleDbRequests::getAllSchemaRequests);
+      writeSection(generator, "connectorRequests", handleDbRequests::getAllConnectorRequests);
+      endWrappedObject(generator);
+    }
+    log.info("Exporting Kw Requests Data --- ENDED");
+  }
+
+  private void startWrappedObject(JsonGenerator generator, Class<?> rootType, String timeStamp)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeObjectFieldStart(rootType.getSimpleName());
+    generator.writeStringField("klawVersion", klawVersion);
+    generator.writeStringField("createdTime", timeStamp);
+  }
+
+  private void endWrappedObject(JsonGenerator generator) throws IOException {
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  private <T> void writeSection(
+      JsonGenerator generator, String section, Function<Pageable, List<T>> pageReader)
+      throws IOException {
+    ObjectWriter writer =
+        OBJECT_MAPPER
+            .writer()
+            .without(SerializationFeature.WRAP_ROOT_VALUE)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    generator.writeArrayFieldStart(section);
+    long count = 0;
+    int pageNumber = 0;
+    List<T> page;
+    do {
+      page = pageReader.apply(PageRequest.of(pageNumber++, exportPageSize));
+      for (T entity : page) {
+        writer.writeValue(generator, entity);
+      }
+      count += page.size();
+    } while (page.size() == exportPageSize);
+    generator.writeEndArray();
+    log.info("Exported {} : {} entries", section, count);
+  }
+
   // tenants, clusters, environments, roles, permissions, teams, users, properties
   public KwAdminConfig getAdminConfig(HandleDbRequests handleDbRequests, String timeStamp) {
     log.info(
@@ -258,14 +472,85 @@ public class ExportImportDataService {
             .concat("-")
             .concat(timeStamp)
             .concat(FILE_EXT);
+    if (GZIP_COMPRESSION.equals(exportCompression)) {
+      filePath = filePath.concat(GZIP_FILE_EXT);
+    }
     File file = new File(filePath);
     log.info("File : {}", filePath);
     return file;
   }
 
+  private OutputStream openExportStream(String fileName, String timeStamp) throws IOException {
+    OutputStream outputStream =
+        new BufferedOutputStream(new FileOutputStream(getFile(fileName, timeStamp)));
+    if (GZIP_COMPRESSION.equals(exportCompression)) {
+      return new GZIPOutputStream(outputStream);
+    }
+    return outputStream;
+  }
+
+  private JsonGenerator createGenerator(String fileName, String timeStamp) throws IOException {
+    return OBJECT_MAPPER
+        .getFactory()
+        .createGenerator(openExportStream(fileName, timeStamp))
+        .useDefaultPrettyPrinter();
+  }
+
+  // gzip compressed files are detected from their content, independent of the file name
+  private InputStream openImportStream(File file) throws IOException {
+    InputStream inputStream = new BufferedInputStream(new FileInputStream(file));
+    inputStream.mark(2);
+    int magic = inputStream.read() | (inputStream.read() << 8);
+    inputStream.reset();
+    if (magic == GZIPInputStream.GZIP_MAGIC) {
+      return new GZIPInputStream(inputStream);
+    }
+    return inputStream;
+  }
+
+  private JsonParser createParser(File file) throws IOException {
+    return OBJECT_MAPPER.getFactory().createParser(openImportStream(file));
+  }
+
   private String getTimeStamp() {
     String dataPattern = "yyyy-MM-dd-HH-mm-ss";
     SimpleDateFormat simpleDateFormat = new SimpleDateFormat(dataPattern);
     return simpleDateFormat.format(new Date());
   }
+
+  /*
+   Records per section how many entities of an import file are already committed, next to the
+   import file. A restarted import continues after them and the checkpoint is removed on success.
+  */
+  private static class ImportCheckpoint {
+    private final File checkpointFile;
+    private final Properties importedCounts = new Properties();
+
+    ImportCheckpoint(File importFile) throws IOException {
+      this.checkpointFile = new File(importFile.getPath() + CHECKPOINT_FILE_EXT);
+      if (checkpointFile.exists()) {
+        try (Reader reader = Files.newBufferedReader(checkpointFile.toPath())) {
+          importedCounts.load(reader);
+        }
+        log.info("Resuming import of {} from {}", importFile, importedCounts);
+      }
+    }
+
+    long getImported(String section) {
+      return Long.parseLong(importedCounts.getProperty(section, "0"));
+    }
+
+    void update(String section, long imported) {
+      importedCounts.setProperty(section, String.valueOf(imported));
+      try (Writer writer = Files.newBufferedWriter(checkpointFile.toPath())) {
+        importedCounts.store(writer, null);
+      } catch (IOException e) {
+        log.error("Unable to write import checkpoint {}", checkpointFile, e);
+      }
+    }
+
+    void complete() throws IOException {
+      Files.deleteIfExists(checkpointFile.toPath());
+    }
+  }
 }
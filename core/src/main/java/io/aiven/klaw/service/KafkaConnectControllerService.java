@@ -1,7 +1,6 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.*;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_KAFKA_CONNECT_ENVS;
 import static io.aiven.klaw.model.enums.MailType.CONNECTOR_CLAIM_REQUESTED;
 import static io.aiven.klaw.model.enums.MailType.CONNECTOR_CREATE_REQUESTED;
 import static io.aiven.klaw.model.enums.MailType.CONNECTOR_DELETE_REQUESTED;
@@ -25,8 +24,11 @@ import io.aiven.klaw.error.KlawBadRequestException;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawRestException;
 import io.aiven.klaw.error.RestErrorResponse;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.helpers.KlawResourceUtils;
+import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.ConnectorConfig;
 import io.aiven.klaw.model.ResourceHistory;
@@ -36,6 +38,7 @@ import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.model.enums.Order;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.PromotionStatusType;
+import io.aiven.klaw.model.enums.RequestEntityType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.KafkaConnectorModel;
@@ -96,6 +99,8 @@ public class KafkaConnectControllerService {
 
   @Autowired private RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Autowired private ApprovalOutboxService approvalOutboxService;
+
   public ApiResponse createConnectorRequest(KafkaConnectorRequestModel connectorRequestModel)
       throws KlawException {
     log.info("createConnectorRequest {}", connectorRequestModel);
@@ -155,8 +160,6 @@ public class KafkaConnectControllerService {
       log.error("Tenant Configuration not found. " + tenantId, e);
       throw new KlawException(e.getMessage());
     }
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_KAFKA_CONNECT_ENVS");
-
     List<KwKafkaConnector> kafkaConnectorList =
         getConnectorsFromName(connectorRequestModel.getConnectorName(), tenantId);
 
@@ -167,7 +170,9 @@ public class KafkaConnectControllerService {
     }
 
     boolean promotionOrderCheck =
-        checkInPromotionOrder(connectorRequestModel.getEnvironment(), orderOfEnvs);
+        manageDatabase
+            .getEnvGraph(tenantId)
+            .isInOrder(EnvOrder.CONNECTOR_PROMOTION, connectorRequestModel.getEnvironment());
 
     if (!kafkaConnectorList.isEmpty()) {
       if (promotionOrderCheck) {
@@ -307,63 +312,36 @@ public class KafkaConnectControllerService {
     List<KwKafkaConnector> connectorsFromSOT =
         handleDbRequests.getSyncConnectors(env, teamId, tenantId);
     connectorsFromSOT = getFilteredConnectorsForTenant(connectorsFromSOT);
-    List<Env> listAllEnvs = manageDatabase.getKafkaConnectEnvList(tenantId);
     // tenant filtering
-
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_KAFKA_CONNECT_ENVS");
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
     connectorsFromSOT = groupConnectorsByEnv(connectorsFromSOT);
 
-    List<KwKafkaConnector> connectorsFilteredList = connectorsFromSOT;
-    // Filter topics on topic name for search
+    // Filter connectors on connector name or documentation for search, in the order of their
+    // relevance
     if (connectorNameSearch != null && connectorNameSearch.length() > 0) {
-      final String topicSearchFilter = connectorNameSearch;
-      connectorsFilteredList =
+      Map<String, KwKafkaConnector> connectorsByName =
           connectorsFromSOT.stream()
-              .filter(
-                  topic ->
-                      topic
-                          .getConnectorName()
-                          .toLowerCase()
-                          .contains(topicSearchFilter.toLowerCase()))
+              .collect(
+                  Collectors.toMap(
+                      KwKafkaConnector::getConnectorName, Function.identity(), (p, q) -> p));
+      connectorsFromSOT =
+          manageDatabase.getConnectorSearchIndex(tenantId).search(connectorNameSearch).stream()
+              .map(connectorsByName::get)
+              .filter(Objects::nonNull)
               .collect(Collectors.toList());
+    } else {
+      connectorsFromSOT =
+          connectorsFromSOT.stream().sorted(new TopicNameComparator()).collect(Collectors.toList());
+    }
 
-      // searching documentation
-      List<KwKafkaConnector> searchDocList =
-          connectorsFromSOT.stream()
-              .filter(
-                  topic ->
-                      (topic.getDocumentation() != null
-                          && topic
-                              .getDocumentation()
-                              .toLowerCase()
-                              .contains(topicSearchFilter.toLowerCase())))
-              .toList();
-
-      connectorsFilteredList.addAll(searchDocList);
-      connectorsFilteredList =
-          new ArrayList<>(
-              connectorsFilteredList.stream()
-                  .collect(
-                      Collectors.toConcurrentMap(
-                          KwKafkaConnector::getConnectorName, Function.identity(), (p, q) -> p))
-                  .values());
-    }
-
-    connectorsFromSOT =
-        connectorsFilteredList.stream()
-            .sorted(new TopicNameComparator())
-            .collect(Collectors.toList());
-
-    return getConnectorModelsList(
-        connectorsFromSOT, pageNo, currentPage, listAllEnvs, orderOfEnvs, tenantId);
+    return getConnectorModelsList(connectorsFromSOT, pageNo, currentPage, envGraph, tenantId);
   }
 
   private List<KafkaConnectorModelResponse> getConnectorModelsList(
       List<KwKafkaConnector> connectorsFromSOT,
       String pageNo,
       String currentPage,
-      List<Env> listAllEnvs,
-      String orderOfEnvs,
+      EnvGraph envGraph,
       int tenantId) {
     UserInfo user = manageDatabase.getHandleDbRequests().getUsersInfo(getUserName());
 
@@ -393,12 +371,14 @@ public class KafkaConnectControllerService {
         KwKafkaConnector connectorSOT = connectorsFromSOT.get(i);
 
         List<String> envList = connectorSOT.getEnvironmentsList();
-        envList.sort(Comparator.comparingInt(orderOfEnvs::indexOf));
+        envList.sort(
+            Comparator.comparingInt(
+                envId -> envGraph.getPosition(EnvOrder.CONNECTOR_PROMOTION, envId)));
 
         kafkaConnectorModelResponse.setConnectorId(connectorSOT.getConnectorId());
         kafkaConnectorModelResponse.setEnvironmentId(connectorSOT.getEnvironment());
         kafkaConnectorModelResponse.setEnvironmentsList(
-            KlawResourceUtils.getConvertedEnvs(listAllEnvs, envList));
+            KlawResourceUtils.getConvertedEnvs(envList, envGraph::getKafkaConnectEnv));
         kafkaConnectorModelResponse.setConnectorName(connectorSOT.getConnectorName());
         kafkaConnectorModelResponse.setTeamName(
             manageDatabase.getTeamNameFromTeamId(tenantId, connectorSOT.getTeamId()));
@@ -627,15 +607,140 @@ public class KafkaConnectControllerService {
             .getHandleDbRequests()
             .getConnectorRequestsForConnector(Integer.parseInt(connectorId), tenantId);
 
-    String jsonConnectorConfig;
+    List<String> changedConnectors = new ArrayList<>();
+    ApiResponse apiResponse =
+        approveConnectorRequest(
+            connectorRequest,
+            userDetails,
+            tenantId,
+            commonUtilsService.getEnvsFromUserId(userDetails),
+            commonUtilsService.getLoginUrl(),
+            changedConnectors);
+    if (!changedConnectors.isEmpty()) {
+      manageDatabase.loadConnectorsSearchIndexForOneTenant(tenantId);
+    }
+    return apiResponse;
+  }
+
+  /**
+   * Approves the requests of a bulk verdict. The approver and the requests are loaded once, and the
+   * connector search index is loaded once at the end.
+   */
+  public List<ApiResponse> approveConnectorRequests(List<String> connectorIds) {
+    log.info("approveConnectorRequests {}", connectorIds);
+    String userDetails = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_CONNECTORS)) {
+      return Collections.nCopies(connectorIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    String loginUrl = commonUtilsService.getLoginUrl();
+    Map<Integer, KafkaConnectorRequest> connectorRequests =
+        getConnectorRequestsFromConnectorIds(connectorIds, tenantId);
+
+    List<String> changedConnectors = new ArrayList<>();
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    for (String connectorId : connectorIds) {
+      try {
+        apiResponses.add(
+            approveConnectorRequest(
+                connectorRequests.get(Integer.parseInt(connectorId)),
+                userDetails,
+                tenantId,
+                allowedEnvIdSet,
+                loginUrl,
+                changedConnectors));
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        apiResponses.add(
+            ApiResponse.notOk(String.format(REQ_SER_ERR_101, connectorId) + " " + e.getMessage()));
+      }
+    }
+    if (!changedConnectors.isEmpty()) {
+      manageDatabase.loadConnectorsSearchIndexForOneTenant(tenantId);
+    }
+    return apiResponses;
+  }
+
+  private ApiResponse approveConnectorRequest(
+      KafkaConnectorRequest connectorRequest,
+      String userDetails,
+      int tenantId,
+      Set<String> allowedEnvIdSet,
+      String loginUrl,
+      List<String> changedConnectors)
+      throws KlawException, KlawRestException {
+    if (connectorRequest == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    String jsonConnectorConfig = createApprovedConnectorConfig(connectorRequest);
+
+    ApiResponse validationResponse =
+        validateConnectorRequest(connectorRequest, userDetails, allowedEnvIdSet);
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
+    }
+
+    if (approvalOutboxService.isEnabled()
+        && !RequestOperationType.CLAIM.value.equals(connectorRequest.getRequestOperationType())) {
+      return approvalOutboxService.enqueue(
+          RequestEntityType.CONNECTOR,
+          connectorRequest.getConnectorId(),
+          connectorRequest.getEnvironment(),
+          tenantId,
+          userDetails,
+          loginUrl);
+    }
+    ApiResponse apiResponse =
+        executeConnectorRequest(
+            connectorRequest, jsonConnectorConfig, userDetails, tenantId, loginUrl);
+    if (apiResponse.isSuccess()) {
+      changedConnectors.add(connectorRequest.getConnectorName());
+    }
+    return apiResponse;
+  }
+
+  /** Approves a request taken from the approval outbox, validated again as it may have changed. */
+  public ApiResponse approveQueuedConnectorRequest(
+      int connectorId, String userDetails, int tenantId, String loginUrl)
+      throws KlawException, KlawRestException {
+    KafkaConnectorRequest connectorRequest =
+        manageDatabase
+            .getHandleDbRequests()
+            .getConnectorRequestsForConnector(connectorId, tenantId);
+    if (connectorRequest == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    String jsonConnectorConfig = createApprovedConnectorConfig(connectorRequest);
+
+    ApiResponse validationResponse =
+        validateConnectorRequest(
+            connectorRequest, userDetails, commonUtilsService.getEnvsFromUserId(userDetails));
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
+    }
+    ApiResponse apiResponse =
+        executeConnectorRequest(
+            connectorRequest, jsonConnectorConfig, userDetails, tenantId, loginUrl);
+    if (apiResponse.isSuccess()) {
+      manageDatabase.loadConnectorsSearchIndexForOneTenant(tenantId);
+    }
+    return apiResponse;
+  }
+
+  private String createApprovedConnectorConfig(KafkaConnectorRequest connectorRequest)
+      throws KlawException {
     try {
-      jsonConnectorConfig =
-          createConnectorConfig(connectorRequest, connectorRequest.getRequestOperationType());
+      return createConnectorConfig(connectorRequest, connectorRequest.getRequestOperationType());
     } catch (Exception e) {
       log.error("Exception:", e);
       throw new KlawException(KAFKA_CONNECT_ERR_112);
     }
+  }
 
+  private ApiResponse validateConnectorRequest(
+      KafkaConnectorRequest connectorRequest, String userDetails, Set<String> allowedEnvIdSet) {
     if (connectorRequest.getRequestor().equals(userDetails)) {
       return ApiResponse.notOk(KAFKA_CONNECT_ERR_113);
     }
@@ -645,11 +750,19 @@ public class KafkaConnectControllerService {
     }
 
     // tenant filtering
-    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(getUserName());
     if (!allowedEnvIdSet.contains(connectorRequest.getEnvironment())) {
       return ApiResponse.NOT_AUTHORIZED;
     }
+    return ApiResponse.SUCCESS;
+  }
 
+  private ApiResponse executeConnectorRequest(
+      KafkaConnectorRequest connectorRequest,
+      String jsonConnectorConfig,
+      String userDetails,
+      int tenantId,
+      String loginUrl)
+      throws KlawException, KlawRestException {
     HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
     String updateConnectorReqStatus;
     if (RequestOperationType.CLAIM.value.equals(connectorRequest.getRequestOperationType())) {
@@ -700,7 +813,7 @@ public class KafkaConnectControllerService {
             NumberUtils.toInt(connectorRequest.getApprovingTeamId(), -1),
             dbHandle,
             CONNECTOR_REQUEST_APPROVED,
-            commonUtilsService.getLoginUrl());
+            loginUrl);
       }
     }
     return ApiResultStatus.SUCCESS.value.equalsIgnoreCase(updateConnectorReqStatus)
@@ -762,28 +875,17 @@ public class KafkaConnectControllerService {
     KafkaConnectorRequest connectorRequest =
         dbHandle.getConnectorRequestsForConnector(Integer.parseInt(connectorId), tenantId);
 
-    if (!RequestStatus.CREATED.value.equals(connectorRequest.getRequestStatus())) {
-      return ApiResponse.notOk(REQ_ERR_101);
-    }
-
-    // tenant filtering
-    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(getUserName());
-    if (!allowedEnvIdSet.contains(connectorRequest.getEnvironment())) {
-      return ApiResponse.NOT_AUTHORIZED;
+    ApiResponse validationResponse =
+        validateConnectorRequestToDecline(
+            connectorRequest, commonUtilsService.getEnvsFromUserId(userDetails));
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
     }
 
     try {
       String result = dbHandle.declineConnectorRequest(connectorRequest, userDetails);
-      mailService.sendMail(
-          connectorRequest.getConnectorName(),
-          null,
-          reasonForDecline,
-          connectorRequest.getRequestor(),
-          connectorRequest.getApprover(),
-          NumberUtils.toInt(connectorRequest.getApprovingTeamId(), -1),
-          dbHandle,
-          CONNECTOR_REQUEST_DENIED,
-          commonUtilsService.getLoginUrl());
+      sendConnectorDeclinedMail(
+          connectorRequest, reasonForDecline, dbHandle, commonUtilsService.getLoginUrl());
 
       return ApiResultStatus.SUCCESS.value.equals(result)
           ? ApiResponse.ok(result)
@@ -794,6 +896,100 @@ public class KafkaConnectControllerService {
     }
   }
 
+  /** Declines the requests of a bulk verdict, the declined requests are saved in one go. */
+  public List<ApiResponse> declineConnectorRequests(
+      List<String> connectorIds, String reasonForDecline) throws KlawException {
+    log.info("declineConnectorRequests {} {}", connectorIds, reasonForDecline);
+    String userDetails = getUserName();
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_CONNECTORS)) {
+      return Collections.nCopies(connectorIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    Map<Integer, KafkaConnectorRequest> connectorRequests =
+        getConnectorRequestsFromConnectorIds(connectorIds, tenantId);
+
+    // the responses of the declined requests are filled in once they are saved
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    List<KafkaConnectorRequest> declinedRequests = new ArrayList<>();
+    for (String connectorId : connectorIds) {
+      // removed, so that a request listed twice is declined once
+      KafkaConnectorRequest connectorRequest =
+          connectorRequests.remove(NumberUtils.toInt(connectorId, -1));
+      ApiResponse validationResponse =
+          validateConnectorRequestToDecline(connectorRequest, allowedEnvIdSet);
+      if (validationResponse.isSuccess()) {
+        declinedRequests.add(connectorRequest);
+        apiResponses.add(null);
+      } else {
+        apiResponses.add(validationResponse);
+      }
+    }
+    if (declinedRequests.isEmpty()) {
+      return apiResponses;
+    }
+
+    try {
+      HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+      String result = dbHandle.declineConnectorRequests(declinedRequests, userDetails);
+      String loginUrl = commonUtilsService.getLoginUrl();
+      for (KafkaConnectorRequest connectorRequest : declinedRequests) {
+        sendConnectorDeclinedMail(connectorRequest, reasonForDecline, dbHandle, loginUrl);
+      }
+
+      ApiResponse declineResponse =
+          ApiResultStatus.SUCCESS.value.equals(result)
+              ? ApiResponse.ok(result)
+              : ApiResponse.notOk(result);
+      apiResponses.replaceAll(apiResponse -> apiResponse == null ? declineResponse : apiResponse);
+      return apiResponses;
+    } catch (Exception e) {
+      log.error(e.getMessage());
+      throw new KlawException(e.getMessage());
+    }
+  }
+
+  private ApiResponse validateConnectorRequestToDecline(
+      KafkaConnectorRequest connectorRequest, Set<String> allowedEnvIdSet) {
+    if (connectorRequest == null
+        || !RequestStatus.CREATED.value.equals(connectorRequest.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+
+    // tenant filtering
+    if (!allowedEnvIdSet.contains(connectorRequest.getEnvironment())) {
+      return ApiResponse.NOT_AUTHORIZED;
+    }
+    return ApiResponse.SUCCESS;
+  }
+
+  private void sendConnectorDeclinedMail(
+      KafkaConnectorRequest connectorRequest,
+      String reasonForDecline,
+      HandleDbRequests dbHandle,
+      String loginUrl) {
+    mailService.sendMail(
+        connectorRequest.getConnectorName(),
+        null,
+        reasonForDecline,
+        connectorRequest.getRequestor(),
+        connectorRequest.getApprover(),
+        NumberUtils.toInt(connectorRequest.getApprovingTeamId(), -1),
+        dbHandle,
+        CONNECTOR_REQUEST_DENIED,
+        loginUrl);
+  }
+
+  private Map<Integer, KafkaConnectorRequest> getConnectorRequestsFromConnectorIds(
+      List<String> connectorIds, int tenantId) {
+    return manageDatabase
+        .getHandleDbRequests()
+        .getConnectorRequestsForConnectorIds(UtilMethods.parseRequestIds(connectorIds), tenantId)
+        .stream()
+        .collect(Collectors.toMap(KafkaConnectorRequest::getConnectorId, Function.identity()));
+  }
+
   // create a request to delete connector.
   public ApiResponse createConnectorDeleteRequest(String connectorName, String envId)
       throws KlawException {
@@ -889,11 +1085,6 @@ public class KafkaConnectControllerService {
     return ApiResponse.notOk(errorResponse == null ? defaultMsg : errorResponse.getMessage());
   }
 
-  private boolean checkInPromotionOrder(String envId, String orderOfEnvs) {
-    List<String> orderedEnv = Arrays.asList(orderOfEnvs.split(","));
-    return orderedEnv.contains(envId);
-  }
-
   public List<KafkaConnectorRequestsResponseModel> getConnectorRequests(
       String pageNo,
       String currentPage,
@@ -1185,21 +1376,16 @@ public class KafkaConnectControllerService {
   private ConnectorOverview filterByEnvironment(
       List<KwKafkaConnector> connectors, String envId, int tenantId) {
     ConnectorOverview overview = new ConnectorOverview();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_KAFKA_CONNECT_ENVS);
-    List<String> orderOfEnvsArrayList = KlawResourceUtils.getOrderedEnvsList(orderOfEnvs);
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
     List<EnvIdInfo> availableEnvs = new ArrayList<>();
     List<EnvIdInfo> availableEnvsNotInPromotionOrder = new ArrayList<>();
     connectors.forEach(
         conn -> {
           EnvIdInfo envIdInfo = new EnvIdInfo();
           envIdInfo.setId(conn.getEnvironment());
-          envIdInfo.setName(
-              manageDatabase.getKafkaConnectEnvList(tenantId).stream()
-                  .filter(env -> env.getId().equals(conn.getEnvironment()))
-                  .map(Env::getName)
-                  .findFirst()
-                  .orElse("ENV_NOT_FOUND"));
-          if (orderOfEnvsArrayList.contains(envIdInfo.getId())) {
+          Env env = envGraph.getKafkaConnectEnv(conn.getEnvironment());
+          envIdInfo.setName(env != null ? env.getName() : "ENV_NOT_FOUND");
+          if (envGraph.isInOrder(EnvOrder.CONNECTOR_PROMOTION, envIdInfo.getId())) {
             availableEnvs.add(envIdInfo);
           } else {
             availableEnvsNotInPromotionOrder.add(envIdInfo);
@@ -1207,7 +1393,7 @@ public class KafkaConnectControllerService {
         });
     availableEnvs.sort(
         Comparator.comparingInt(
-            topicEnv -> Objects.requireNonNull(orderOfEnvs).indexOf(topicEnv.getId())));
+            connEnv -> envGraph.getPosition(EnvOrder.CONNECTOR_PROMOTION, connEnv.getId())));
     availableEnvs.addAll(availableEnvsNotInPromotionOrder);
     overview.setAvailableEnvironments(availableEnvs);
 
@@ -1306,15 +1492,17 @@ public class KafkaConnectControllerService {
         kafkaConnectors.forEach(topic -> envList.add(topic.getEnvironment()));
 
         // tenant filtering
-        String orderOfEnvs =
-            commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_KAFKA_CONNECT_ENVS");
-        if (orderOfEnvs.length() == 0) {
+        EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
+        List<String> orderdEnvs = envGraph.getOrder(EnvOrder.CONNECTOR_PROMOTION);
+        if (orderdEnvs.isEmpty()) {
           // No promotion order set return no promotion
           hashMap.put("status", PromotionStatusType.NO_PROMOTION.value);
           return hashMap;
         }
 
-        envList.sort(Comparator.comparingInt(orderOfEnvs::indexOf));
+        envList.sort(
+            Comparator.comparingInt(
+                envId -> envGraph.getPosition(EnvOrder.CONNECTOR_PROMOTION, envId)));
 
         String lastEnv = envList.get(envList.size() - 1);
         AtomicReference<String> sourceConnectorConfig = new AtomicReference<>("");
@@ -1323,15 +1511,14 @@ public class KafkaConnectControllerService {
             .findFirst()
             .ifPresent(a -> sourceConnectorConfig.set(a.getConnectorConfig()));
 
-        List<String> orderdEnvs = Arrays.asList(orderOfEnvs.split(","));
-
-        if (orderdEnvs.indexOf(lastEnv) == orderdEnvs.size() - 1) {
+        int lastEnvPosition = envGraph.getPosition(EnvOrder.CONNECTOR_PROMOTION, lastEnv);
+        if (lastEnvPosition == orderdEnvs.size() - 1) {
           hashMap.put("status", PromotionStatusType.NO_PROMOTION.value); // PRD
         } else {
           hashMap.put("status", ApiResultStatus.SUCCESS.value);
           hashMap.put("sourceEnv", lastEnv);
           hashMap.put("sourceConnectorConfig", sourceConnectorConfig.get());
-          String targetEnv = orderdEnvs.get(orderdEnvs.indexOf(lastEnv) + 1);
+          String targetEnv = orderdEnvs.get(lastEnvPosition + 1);
           if (getKafkaConnectEnvDetails(targetEnv) != null) {
             hashMap.put("targetEnv", getKafkaConnectEnvDetails(targetEnv).getName());
           }
@@ -1369,8 +1556,11 @@ public class KafkaConnectControllerService {
     Integer loggedInUserTeam = commonUtilsService.getTeamId(userName);
 
     if (Objects.equals(topicOwnerTeam, loggedInUserTeam)) {
-      return ApiResponse.ok(
-          manageDatabase.getHandleDbRequests().updateConnectorDocumentation(kwKafkaConnector));
+      String status =
+          manageDatabase.getHandleDbRequests().updateConnectorDocumentation(kwKafkaConnector);
+      manageDatabase.loadConnectorsSearchIndexForOneTenant(
+          commonUtilsService.getTenantId(userName));
+      return ApiResponse.ok(status);
     } else {
       return ApiResponse.FAILURE;
     }
@@ -1540,12 +1730,8 @@ public class KafkaConnectControllerService {
   }
 
   public Env getKafkaConnectEnvDetails(String envId) {
-    Optional<Env> envFound =
-        manageDatabase
-            .getKafkaConnectEnvList(commonUtilsService.getTenantId(getUserName()))
-            .stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase
+        .getEnvGraph(commonUtilsService.getTenantId(getUserName()))
+        .getKafkaConnectEnv(envId);
   }
 }
@@ -16,6 +16,8 @@ import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.KwKafkaConnector;
 import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.SyncConnectorUpdates;
 import io.aiven.klaw.model.cluster.ConnectorState;
@@ -25,11 +27,12 @@ import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.response.KafkaConnectorModelResponse;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -88,7 +91,7 @@ public class KafkaConnectSyncControllerService {
     int tenantId = commonUtilsService.getTenantId(userName);
     String syncCluster =
         manageDatabase.getTenantConfig().get(tenantId).getBaseSyncKafkaConnectCluster();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_KAFKA_CONNECT_ENVS");
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
 
     List<KwKafkaConnector> existingTopics;
     List<KwKafkaConnector> kafkaConnectorList = new ArrayList<>();
@@ -130,7 +133,7 @@ public class KafkaConnectSyncControllerService {
           }
         } else if (!Objects.equals(topicUpdate.getEnvSelected(), syncCluster)) {
           erroredTopicsExist.append(topicUpdate.getConnectorName()).append(" ");
-          if (checkInPromotionOrder(topicUpdate.getEnvSelected(), orderOfEnvs))
+          if (envGraph.isInOrder(EnvOrder.CONNECTOR_PROMOTION, topicUpdate.getEnvSelected()))
             topicsDontExistInMainCluster = true;
         }
 
@@ -236,6 +239,7 @@ public class KafkaConnectSyncControllerService {
       try {
         String result =
             manageDatabase.getHandleDbRequests().addToSyncConnectors(kafkaConnectorList);
+        manageDatabase.loadConnectorsSearchIndexForOneTenant(tenantId);
         return ApiResultStatus.SUCCESS.value.equals(result)
             ? ApiResponse.ok(result)
             : ApiResponse.notOk(result);
@@ -278,20 +282,17 @@ public class KafkaConnectSyncControllerService {
     }
 
     // delete topic
+    int tenantId = commonUtilsService.getTenantId(getUserName());
     for (Integer connectorId : updatedSyncConnectorsDelete) {
-      manageDatabase
-          .getHandleDbRequests()
-          .deleteConnector(connectorId, commonUtilsService.getTenantId(getUserName()));
+      manageDatabase.getHandleDbRequests().deleteConnector(connectorId, tenantId);
+    }
+    if (!updatedSyncConnectorsDelete.isEmpty()) {
+      manageDatabase.loadConnectorsSearchIndexForOneTenant(tenantId);
     }
 
     return updatedSyncTopicsUpdated;
   }
 
-  private boolean checkInPromotionOrder(String envId, String orderOfEnvs) {
-    List<String> orderedEnv = Arrays.asList(orderOfEnvs.split(","));
-    return orderedEnv.contains(envId);
-  }
-
   public List<KwKafkaConnector> getConnectorsFromName(String connectorName, int tenantId) {
     return manageDatabase.getHandleDbRequests().getConnectorsFromName(connectorName, tenantId);
   }
@@ -311,10 +312,12 @@ public class KafkaConnectSyncControllerService {
     List<KafkaConnectorModelResponse> kafkaConnectorModelSourceList =
         getSyncConnectorsList(envId, teamList, tenantId);
     if (connectorNameSearch != null && connectorNameSearch.length() > 0) {
-      final String topicSearchFilter = connectorNameSearch;
+      Set<String> searchedConnectorNames =
+          new HashSet<>(
+              manageDatabase.getConnectorSearchIndex(tenantId).searchNames(connectorNameSearch));
       kafkaConnectorModelSourceList =
           kafkaConnectorModelSourceList.stream()
-              .filter(topic -> topic.getConnectorName().contains(topicSearchFilter))
+              .filter(connector -> searchedConnectorNames.contains(connector.getConnectorName()))
               .collect(Collectors.toList());
     }
     List<String> allSyncConnectors = new ArrayList<>();
@@ -525,13 +528,9 @@ public class KafkaConnectSyncControllerService {
   }
 
   public Env getKafkaConnectorEnvDetails(String envId) {
-    Optional<Env> envFound =
-        manageDatabase
-            .getKafkaConnectEnvList(commonUtilsService.getTenantId(getUserName()))
-            .stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase
+        .getEnvGraph(commonUtilsService.getTenantId(getUserName()))
+        .getKafkaConnectEnv(envId);
   }
 
   public List<KafkaConnectorModelResponse> getConnectorsToManage(
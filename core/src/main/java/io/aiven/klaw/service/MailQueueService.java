@@ -0,0 +1,348 @@
+package io.aiven.klaw.service;
+
+import com.google.common.collect.Lists;
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwMailDeadLetter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bounded queue of the notification mails. Each flush merges the queued mails of a recipient into
+ * one digest and sends all of them over one connection to the mail server. Mails which fail are
+ * retried with a backoff and end up in the dead letter table once they run out of attempts. The
+ * recipients of a mail are only looked up when it is flushed, not on the thread which submits it.
+ */
+@EnableScheduling
+@Service
+@Slf4j
+public class MailQueueService {
+
+  static final String DIGEST_SUBJECT = "Klaw: %d notifications";
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  @Value("${klaw.mail.queue.capacity:1000}")
+  private int queueCapacity;
+
+  // how long a request waits for room in a full queue before its mail is dead lettered
+  @Value("${klaw.mail.queue.offer.timeout:PT1S}")
+  private Duration offerTimeout;
+
+  @Value("${klaw.mail.digest.max.size:20}")
+  private int digestMaxSize;
+
+  @Value("${klaw.mail.retry.max.attempts:3}")
+  private int maxAttempts;
+
+  @Value("${klaw.mail.retry.backoff:PT1M}")
+  private Duration retryBackoff;
+
+  @Value("${spring.mail.frommailid:info@klaw-project.io}")
+  private String fromMailId;
+
+  @Value("${spring.mail.noreplymailid:info@klaw-project.io}")
+  private String noReplyMailId;
+
+  @Autowired private JavaMailSender emailSender;
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  private BlockingQueue<QueuedMail> queue;
+
+  // only touched while flushing
+  private final List<Retry> retries = new ArrayList<>();
+
+  private Counter queuedCounter;
+
+  private Counter rejectedCounter;
+
+  private Counter sentCounter;
+
+  private Counter coalescedCounter;
+
+  private Counter retriedCounter;
+
+  private Counter deadLetteredCounter;
+
+  private Timer sendTimer;
+
+  private record QueuedMail(
+      int tenantId,
+      Supplier<Collection<String>> recipients,
+      String subject,
+      String content,
+      String loginUrl) {}
+
+  record RecipientMail(
+      int tenantId,
+      String recipient,
+      String subject,
+      String content,
+      String loginUrl,
+      int attempts) {}
+
+  private record Retry(RecipientMail mail, long dueTime) {}
+
+  @PostConstruct
+  void init() {
+    queue = new LinkedBlockingQueue<>(queueCapacity);
+    meterRegistry.gaugeCollectionSize("klaw.mail.queue.size", List.of(), queue);
+    meterRegistry.gaugeCollectionSize("klaw.mail.retry.size", List.of(), retries);
+    queuedCounter = meterRegistry.counter("klaw.mail.queued");
+    rejectedCounter = meterRegistry.counter("klaw.mail.rejected");
+    sentCounter = meterRegistry.counter("klaw.mail.sent");
+    coalescedCounter = meterRegistry.counter("klaw.mail.coalesced");
+    retriedCounter = meterRegistry.counter("klaw.mail.retried");
+    deadLetteredCounter = meterRegistry.counter("klaw.mail.dead.lettered");
+    sendTimer = meterRegistry.timer("klaw.mail.send");
+  }
+
+  /** Queues the mail for each of the recipients. */
+  public void submit(
+      int tenantId,
+      Collection<String> recipients,
+      String subject,
+      String content,
+      String loginUrl) {
+    submit(tenantId, () -> recipients, subject, content, loginUrl);
+  }
+
+  /**
+   * Queues the mail, waiting up to the offer timeout while the queue is full. The recipients are
+   * resolved when the queue is flushed.
+   */
+  public void submit(
+      int tenantId,
+      Supplier<Collection<String>> recipients,
+      String subject,
+      String content,
+      String loginUrl) {
+    QueuedMail mail = new QueuedMail(tenantId, recipients, subject, content, loginUrl);
+    boolean queued;
+    try {
+      queued = queue.offer(mail, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      queued = false;
+    }
+    if (queued) {
+      queuedCounter.increment();
+    } else {
+      log.warn("Mail queue is full, mail {} is not sent", subject);
+      rejectedCounter.increment();
+      deadLetter(toRecipientMails(mail), "Mail queue is full");
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${klaw.mail.flush.interval:PT10S}")
+  synchronized void flush() {
+    List<RecipientMail> mails = new ArrayList<>();
+    long now = System.currentTimeMillis();
+    for (Iterator<Retry> iterator = retries.iterator(); iterator.hasNext(); ) {
+      Retry retry = iterator.next();
+      if (retry.dueTime() <= now) {
+        mails.add(retry.mail());
+        iterator.remove();
+      }
+    }
+    List<QueuedMail> queuedMails = new ArrayList<>();
+    queue.drainTo(queuedMails);
+    queuedMails.forEach(queuedMail -> mails.addAll(toRecipientMails(queuedMail)));
+    if (mails.isEmpty()) {
+      return;
+    }
+
+    Map<String, List<RecipientMail>> mailsPerRecipient =
+        mails.stream()
+            .collect(
+                Collectors.groupingBy(
+                    mail -> mail.tenantId() + "-" + mail.recipient().toLowerCase(Locale.ROOT),
+                    LinkedHashMap::new,
+                    Collectors.toList()));
+    Map<MimeMessage, List<RecipientMail>> messages = new LinkedHashMap<>();
+    for (List<RecipientMail> recipientMails : mailsPerRecipient.values()) {
+      for (List<RecipientMail> digest : Lists.partition(recipientMails, digestMaxSize)) {
+        try {
+          messages.put(createMessage(digest), digest);
+        } catch (MessagingException | UnsupportedEncodingException e) {
+          // an invalid address does not get any better with a retry
+          log.error("Exception:", e);
+          deadLetter(digest, e.getMessage());
+        }
+      }
+    }
+    if (!messages.isEmpty()) {
+      send(messages);
+    }
+  }
+
+  @PreDestroy
+  synchronized void shutdown() {
+    flush();
+    // the retries which are not due yet would be lost with the process
+    if (!retries.isEmpty()) {
+      deadLetter(retries.stream().map(Retry::mail).toList(), "Klaw shut down before the retry");
+      retries.clear();
+    }
+  }
+
+  private List<RecipientMail> toRecipientMails(QueuedMail mail) {
+    Collection<String> recipients;
+    try {
+      recipients = mail.recipients().get();
+    } catch (Exception e) {
+      log.error("Recipients of mail {} not found. Notification not sent !!", mail.subject(), e);
+      return List.of();
+    }
+    if (recipients == null || recipients.isEmpty()) {
+      log.error("No valid email id found. Notification not sent !!");
+      return List.of();
+    }
+    return recipients.stream()
+        .map(
+            recipient ->
+                new RecipientMail(
+                    mail.tenantId(), recipient, mail.subject(), mail.content(), mail.loginUrl(), 0))
+        .toList();
+  }
+
+  private void send(Map<MimeMessage, List<RecipientMail>> messages) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      emailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+      messages.values().forEach(this::sent);
+    } catch (MailSendException e) {
+      Map<Object, Exception> failedMessages = e.getFailedMessages();
+      messages.forEach(
+          (message, digest) -> {
+            if (failedMessages.isEmpty() || failedMessages.containsKey(message)) {
+              Exception cause = failedMessages.getOrDefault(message, e);
+              retryOrDeadLetter(digest, cause);
+            } else {
+              sent(digest);
+            }
+          });
+    } catch (MailException e) {
+      messages.values().forEach(digest -> retryOrDeadLetter(digest, e));
+    } finally {
+      sample.stop(sendTimer);
+    }
+  }
+
+  private MimeMessage createMessage(List<RecipientMail> digest)
+      throws MessagingException, UnsupportedEncodingException {
+    RecipientMail first = digest.get(0);
+    MimeMessage message = emailSender.createMimeMessage();
+    message.addRecipients(Message.RecipientType.TO, first.recipient());
+    message.setReplyTo(new Address[] {new InternetAddress(noReplyMailId)});
+    message.setFrom(new InternetAddress(fromMailId, "Klaw NoReply"));
+    if (digest.size() == 1) {
+      message.setSubject(first.subject());
+      message.setContent(MailTemplate.render(first.content(), first.loginUrl()), "text/html");
+    } else {
+      message.setSubject(String.format(DIGEST_SUBJECT, digest.size()));
+      message.setContent(
+          MailTemplate.renderDigest(
+              digest.stream().map(RecipientMail::subject).toList(),
+              digest.stream().map(RecipientMail::content).toList(),
+              first.loginUrl()),
+          "text/html");
+    }
+    return message;
+  }
+
+  private void sent(List<RecipientMail> digest) {
+    sentCounter.increment();
+    coalescedCounter.increment(digest.size() - 1);
+  }
+
+  private void retryOrDeadLetter(List<RecipientMail> digest, Exception cause) {
+    log.warn("Mail to {} could not be sent: {}", digest.get(0).recipient(), cause.getMessage());
+    List<RecipientMail> exhausted = new ArrayList<>();
+    long now = System.currentTimeMillis();
+    for (RecipientMail mail : digest) {
+      int attempts = mail.attempts() + 1;
+      RecipientMail failedMail =
+          new RecipientMail(
+              mail.tenantId(),
+              mail.recipient(),
+              mail.subject(),
+              mail.content(),
+              mail.loginUrl(),
+              attempts);
+      if (attempts >= maxAttempts) {
+        exhausted.add(failedMail);
+      } else {
+        retries.add(new Retry(failedMail, now + retryBackoff.toMillis() * attempts));
+        retriedCounter.increment();
+      }
+    }
+    if (!exhausted.isEmpty()) {
+      deadLetter(exhausted, cause.getMessage());
+    }
+  }
+
+  private void deadLetter(List<RecipientMail> mails, String error) {
+    if (mails.isEmpty()) {
+      return;
+    }
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    List<KwMailDeadLetter> deadLetters = new ArrayList<>();
+    for (RecipientMail mail : mails) {
+      KwMailDeadLetter deadLetter = new KwMailDeadLetter();
+      deadLetter.setId(UUID.randomUUID().toString());
+      deadLetter.setTenantId(mail.tenantId());
+      deadLetter.setRecipient(mail.recipient());
+      deadLetter.setSubject(mail.subject());
+      deadLetter.setContent(mail.content());
+      deadLetter.setAttempts(mail.attempts());
+      deadLetter.setError(
+          error == null || error.length() <= MAX_ERROR_LENGTH
+              ? error
+              : error.substring(0, MAX_ERROR_LENGTH));
+      deadLetter.setCreatedTime(now);
+      deadLetters.add(deadLetter);
+    }
+    try {
+      manageDatabase.getHandleDbRequests().insertIntoMailDeadLetters(deadLetters);
+      deadLetteredCounter.increment(deadLetters.size());
+    } catch (Exception e) {
+      log.error("Could not store {} undelivered mails", deadLetters.size(), e);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package io.aiven.klaw.service;
+
+import java.util.List;
+
+/** Html layout of the mails, built once and filled with the content of each mail. */
+final class MailTemplate {
+
+  private static final String HEADER =
+      "<html><table style=\"height:40px;width:60%;background-color:#016BA7;color:white;text-align:center;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
+          + "\t<tr>\n"
+          + "\t\t\n"
+          + "\t\t<td>\n"
+          + "\t\t\t<img src=\"https://klaw-project.io/wp-content/uploads/2021/01/KW-logo-gold-sm.png\"></img>\n"
+          + "\t\t</td>\n"
+          + "\t</tr>\n"
+          + "</table><br>\n"
+          + "\n"
+          + "<table style=\"width:60%;color:#016BA7;text-align:left;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
+          + "\t<tr>\n"
+          + "\t\t<td>";
+
+  private static final String LOGIN_LINK_START = "<br><br>\n<a href=";
+
+  private static final String LOGIN_LINK_END =
+      "><b>Login Now</b></a>\n"
+          + "<br><br>\n"
+          + "Thanks,<br>Klaw\n"
+          + "\t\t</td>\n"
+          + "\t</tr>\n"
+          + "</table>";
+
+  private static final String FOOTER =
+      "<br>\n"
+          + "<table style=\"height:40px; width:60%;background-color:#016BA7;color:white;text-align:center;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
+          + "\t<tr>\n"
+          + "\t\t<td>\n"
+          + "\t\t\t© 2023 <a href=\"https://klaw-project.io\" style=\"color:white;\">www.klaw-project.io</a>\n"
+          + "\t\t</td>\n"
+          + "\t</tr>\n"
+          + "</table>\n"
+          + "<table style=\"height:40px; width:60%;background-color:#016BA7;color:white;text-align:center;font-family: Arial, Helvetica, sans-serif; margin-left: auto;margin-right: auto;\">\n"
+          + "</table></html>";
+
+  private static final String DIGEST_SEPARATOR = "<br><hr>";
+
+  private MailTemplate() {}
+
+  // line breaks of the mail contents are the two characters \ and n
+  static String toHtml(String text) {
+    return text.replace("\\n", "<br>");
+  }
+
+  static String render(String content, String loginUrl) {
+    return new StringBuilder(
+            HEADER.length() + content.length() + LOGIN_LINK_END.length() + FOOTER.length() + 100)
+        .append(HEADER)
+        .append(content)
+        .append(LOGIN_LINK_START)
+        .append(loginUrl)
+        .append(LOGIN_LINK_END)
+        .append(FOOTER)
+        .toString();
+  }
+
+  /** One mail with the subject and content of each of the given mails. */
+  static String renderDigest(List<String> subjects, List<String> contents, String loginUrl) {
+    StringBuilder digest = new StringBuilder();
+    for (int i = 0; i < subjects.size(); i++) {
+      if (i > 0) {
+        digest.append(DIGEST_SEPARATOR);
+      }
+      digest.append("<b>").append(subjects.get(i)).append("</b><br>").append(contents.get(i));
+    }
+    return render(digest.toString(), loginUrl);
+  }
+}
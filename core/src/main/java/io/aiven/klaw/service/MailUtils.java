@@ -10,13 +10,12 @@ import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.MailType;
 import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.service.EmailService.MailRecipients;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -401,29 +400,17 @@ public class MailUtils {
         manageDatabase.getKwPropertyValue(RECONCILIATION_TOPICS_KEY, tenantId);
     String formattedStr = String.format(reconMailContent, tenantName);
 
-    try {
-      CompletableFuture.runAsync(
-              () -> {
-                if (kwAdminMailId != null) {
-                  emailService.sendSimpleMessage(
-                      kwAdminMailId, null, subject, formattedStr, tenantId, loginUrl);
-                }
-              })
-          .get();
-    } catch (InterruptedException | ExecutionException e) {
-      log.error("Exception:", e);
+    if (kwAdminMailId != null) {
+      emailService.sendSimpleMessage(
+          kwAdminMailId, null, subject, formattedStr, tenantId, loginUrl);
     }
   }
 
   public void sendMailToAdmin(String subject, String mailContent, int tenantId, String loginUrl) {
 
-    CompletableFuture.runAsync(
-        () -> {
-          if (kwAdminMailId != null) {
-            emailService.sendSimpleMessage(
-                kwAdminMailId, null, subject, mailContent, tenantId, loginUrl);
-          }
-        });
+    if (kwAdminMailId != null) {
+      emailService.sendSimpleMessage(kwAdminMailId, null, subject, mailContent, tenantId, loginUrl);
+    }
   }
 
   private void sendMail(
@@ -437,49 +424,60 @@ public class MailUtils {
       int tenantId,
       String loginUrl) {
 
-    CompletableFuture.runAsync(
-        () -> {
-          List to = new ArrayList<>();
-          List cc = new ArrayList<>();
-          String emailId;
-
-          String emailIdTeam = null;
-          Integer teamId = null;
-          List<String> allApprovers = null;
-          try {
-            if (registrationRequest) {
-              emailId = otherMailId;
-            } else {
-              emailId = getEmailAddressFromUsername(username);
-              CollectionUtils.addIgnoreNull(cc, otherMailId);
-            }
-
-            try {
-              List<Team> allTeams = dbHandle.getAllTeamsOfUsers(username, tenantId);
-              if (!allTeams.isEmpty()) {
-                emailIdTeam = allTeams.get(0).getTeammail();
-                teamId = allTeams.get(0).getTeamId();
-              }
-            } catch (Exception e) {
-              log.error("Exception :", e);
-            }
-            if (requiresApproval) {
-              allApprovers = getAllUsersWithPermissionToApproveRequest(tenantId, username, teamId);
-            }
-            if (emailId != null) {
-              log.debug("emailId: {} Team: {}", emailId, emailIdTeam);
-
-              CollectionUtils.addIgnoreNull(to, emailId);
-              CollectionUtils.addIgnoreNull(to, emailIdTeam);
-              emailService.sendSimpleMessage(
-                  to, cc, allApprovers, subject, formattedStr, tenantId, loginUrl);
-            } else {
-              log.error("Email id not found. Notification not sent !!");
-            }
-          } catch (Exception e) {
-            log.error("Email id not found. Notification not sent !! ", e);
-          }
-        });
+    emailService.sendSimpleMessage(
+        () ->
+            getMailRecipients(
+                username, dbHandle, registrationRequest, requiresApproval, otherMailId, tenantId),
+        subject,
+        formattedStr,
+        tenantId,
+        loginUrl);
+  }
+
+  private MailRecipients getMailRecipients(
+      String username,
+      HandleDbRequests dbHandle,
+      boolean registrationRequest,
+      boolean requiresApproval,
+      String otherMailId,
+      int tenantId) {
+
+    List to = new ArrayList<>();
+    List cc = new ArrayList<>();
+    String emailId;
+
+    String emailIdTeam = null;
+    Integer teamId = null;
+    List<String> allApprovers = null;
+    if (registrationRequest) {
+      emailId = otherMailId;
+    } else {
+      emailId = getEmailAddressFromUsername(username);
+      CollectionUtils.addIgnoreNull(cc, otherMailId);
+    }
+
+    try {
+      List<Team> allTeams = dbHandle.getAllTeamsOfUsers(username, tenantId);
+      if (!allTeams.isEmpty()) {
+        emailIdTeam = allTeams.get(0).getTeammail();
+        teamId = allTeams.get(0).getTeamId();
+      }
+    } catch (Exception e) {
+      log.error("Exception :", e);
+    }
+    if (requiresApproval) {
+      allApprovers = getAllUsersWithPermissionToApproveRequest(tenantId, username, teamId);
+    }
+    if (emailId != null) {
+      log.debug("emailId: {} Team: {}", emailId, emailIdTeam);
+
+      CollectionUtils.addIgnoreNull(to, emailId);
+      CollectionUtils.addIgnoreNull(to, emailIdTeam);
+      return new MailRecipients(to, cc, allApprovers);
+    } else {
+      log.error("Email id not found. Notification not sent !!");
+      return null;
+    }
   }
 
   private void sendRequestMail(
@@ -493,63 +491,72 @@ public class MailUtils {
       int tenantId,
       String loginUrl) {
 
-    CompletableFuture.runAsync(
-        () -> {
-          String requesterEmail, approverEmail;
-
-          String approverTeamEmail = null, requesterTeamEmail = null;
-          Integer teamId = null;
-          List<String> bcc = new ArrayList<>(), to = new ArrayList<>(), cc = new ArrayList<>();
-          try {
-
-            requesterEmail = getEmailAddressFromUsername(requesterUsername);
-            approverEmail =
-                approverUsername != null ? getEmailAddressFromUsername(approverUsername) : null;
-
-            try {
-
-              approverTeamEmail =
-                  getApproverTeamEmail(dbHandle, resourceOwnerTeamId, approverUsername, tenantId);
-              List<Team> requesterTeam = dbHandle.getAllTeamsOfUsers(requesterUsername, tenantId);
-
-              if (!requesterTeam.isEmpty()) {
-                requesterTeamEmail = requesterTeam.get(0).getTeammail();
-                teamId = requesterTeam.get(0).getTeamId();
-              }
-
-              if (requesterTeamEmail != null
-                      && requesterTeamEmail.equalsIgnoreCase(approverTeamEmail)
-                  || (approverTeamEmail == null && requesterTeamEmail != null)) {
-                approverTeamEmail = requesterTeamEmail;
-                requesterTeamEmail = null;
-              }
-            } catch (Exception e) {
-              log.error("Exception :", e);
-            }
-
-            if (requiresApproval) {
-              bcc = getAllUsersWithPermissionToApproveRequest(tenantId, requesterUsername, teamId);
-              CollectionUtils.addIgnoreNull(to, approverTeamEmail);
-
-              CollectionUtils.addIgnoreNull(cc, requesterTeamEmail);
-              CollectionUtils.addIgnoreNull(cc, requesterEmail);
-            } else {
-              CollectionUtils.addIgnoreNull(cc, approverTeamEmail);
-              CollectionUtils.addIgnoreNull(cc, approverEmail);
-
-              CollectionUtils.addIgnoreNull(to, requesterEmail);
-              CollectionUtils.addIgnoreNull(to, requesterTeamEmail);
-            }
-            if (to != null || cc != null || bcc != null) {
-              emailService.sendSimpleMessage(
-                  to, cc, bcc, subject, formattedStr, tenantId, loginUrl);
-            } else {
-              log.error("No valid email id found. Notification not sent !!");
-            }
-          } catch (Exception e) {
-            log.error("Email id not found. Notification not sent !! ", e);
-          }
-        });
+    emailService.sendSimpleMessage(
+        () ->
+            getRequestMailRecipients(
+                approverUsername,
+                requesterUsername,
+                resourceOwnerTeamId,
+                dbHandle,
+                requiresApproval,
+                tenantId),
+        subject,
+        formattedStr,
+        tenantId,
+        loginUrl);
+  }
+
+  private MailRecipients getRequestMailRecipients(
+      String approverUsername,
+      String requesterUsername,
+      Integer resourceOwnerTeamId,
+      HandleDbRequests dbHandle,
+      boolean requiresApproval,
+      int tenantId) {
+
+    String requesterEmail, approverEmail;
+
+    String approverTeamEmail = null, requesterTeamEmail = null;
+    Integer teamId = null;
+    List<String> bcc = new ArrayList<>(), to = new ArrayList<>(), cc = new ArrayList<>();
+
+    requesterEmail = getEmailAddressFromUsername(requesterUsername);
+    approverEmail = approverUsername != null ? getEmailAddressFromUsername(approverUsername) : null;
+
+    try {
+
+      approverTeamEmail =
+          getApproverTeamEmail(dbHandle, resourceOwnerTeamId, approverUsername, tenantId);
+      List<Team> requesterTeam = dbHandle.getAllTeamsOfUsers(requesterUsername, tenantId);
+
+      if (!requesterTeam.isEmpty()) {
+        requesterTeamEmail = requesterTeam.get(0).getTeammail();
+        teamId = requesterTeam.get(0).getTeamId();
+      }
+
+      if (requesterTeamEmail != null && requesterTeamEmail.equalsIgnoreCase(approverTeamEmail)
+          || (approverTeamEmail == null && requesterTeamEmail != null)) {
+        approverTeamEmail = requesterTeamEmail;
+        requesterTeamEmail = null;
+      }
+    } catch (Exception e) {
+      log.error("Exception :", e);
+    }
+
+    if (requiresApproval) {
+      bcc = getAllUsersWithPermissionToApproveRequest(tenantId, requesterUsername, teamId);
+      CollectionUtils.addIgnoreNull(to, approverTeamEmail);
+
+      CollectionUtils.addIgnoreNull(cc, requesterTeamEmail);
+      CollectionUtils.addIgnoreNull(cc, requesterEmail);
+    } else {
+      CollectionUtils.addIgnoreNull(cc, approverTeamEmail);
+      CollectionUtils.addIgnoreNull(cc, approverEmail);
+
+      CollectionUtils.addIgnoreNull(to, requesterEmail);
+      CollectionUtils.addIgnoreNull(to, requesterTeamEmail);
+    }
+    return new MailRecipients(to, cc, bcc);
   }
 
   public String getApproverTeamEmail(
@@ -581,23 +588,19 @@ public class MailUtils {
       int tenantId,
       String loginUrl) {
 
-    CompletableFuture.runAsync(
+    emailService.sendSimpleMessage(
         () -> {
-          String emailId;
-
-          try {
-            emailId = getEmailAddressFromUsername(username);
-
-            if (emailId != null) {
-              emailService.sendSimpleMessage(
-                  emailId, null, subject, formattedStr, tenantId, loginUrl);
-            } else {
-              log.error("Email id not found. Notification not sent !!");
-            }
-          } catch (Exception e) {
-            log.error("Email id not found. Notification not sent !! ", e);
+          String emailId = getEmailAddressFromUsername(username);
+          if (emailId == null) {
+            log.error("Email id not found. Notification not sent !!");
+            return null;
           }
-        });
+          return new MailRecipients(List.of(emailId), null, null);
+        },
+        subject,
+        formattedStr,
+        tenantId,
+        loginUrl);
   }
 
   public String getEmailAddressFromUsername(String username) {
@@ -0,0 +1,418 @@
+package io.aiven.klaw.service;
+
+import static io.aiven.klaw.error.KlawErrorMessages.RECON_102;
+import static io.aiven.klaw.error.KlawErrorMessages.RECON_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.RECON_ERR_102;
+import static org.springframework.beans.BeanUtils.copyProperties;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwKafkaConnector;
+import io.aiven.klaw.dao.KwReconResult;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.ReconDetail;
+import io.aiven.klaw.model.cluster.ConnectorState;
+import io.aiven.klaw.model.cluster.SchemaInfoOfTopic;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclPermissionType;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.response.ReconResultResponse;
+import io.aiven.klaw.model.response.TopicConfig;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Compares the metadata in Klaw with the clusters of every tenant. The work is split into units of
+ * (tenant, environment, entity type), which run in parallel. Each unit is claimed through the
+ * shedlock table before it runs, so with several Klaw instances a unit is reconciled by one node
+ * only, and the nodes share the work of a run.
+ */
+@EnableScheduling
+@Service
+@Slf4j
+public class ReconciliationService {
+
+  static final String RECON_ADDED = "ADDED";
+  static final String RECON_DELETED = "DELETED";
+  static final String RECON_STATUS_SUCCESS = "SUCCESS";
+  static final String RECON_STATUS_FAILURE = "FAILURE";
+  private static final String LOCK_PREFIX = "Reconciliation_";
+  private static final String SCHEDULER_USER = "scheduler";
+
+  @Value("${klaw.reconciliation.scheduler.enable:false}")
+  private boolean reconciliationSchedulerEnabled;
+
+  @Value("${klaw.reconciliation.lockAtMostFor:PT30M}")
+  private Duration lockAtMostFor;
+
+  // keeps a finished unit claimed, so that slower nodes of the same run do not repeat it
+  @Value("${klaw.reconciliation.lockAtLeastFor:PT5M}")
+  private Duration lockAtLeastFor;
+
+  @Autowired ManageDatabase manageDatabase;
+
+  @Autowired private ClusterApiService clusterApiService;
+
+  @Autowired private MailUtils mailService;
+
+  @Autowired private CommonUtilsService commonUtilsService;
+
+  @Autowired private LockProvider lockProvider;
+
+  @Autowired
+  @Qualifier("reconciliationTaskExecutor")
+  private AsyncTaskExecutor reconciliationTaskExecutor;
+
+  record ReconUnit(int tenantId, Env env, RequestEntityType entityType) {
+    String lockName() {
+      return LOCK_PREFIX + tenantId + "_" + env.getId() + "_" + entityType.name();
+    }
+  }
+
+  // default at 7 am everyday
+  @Scheduled(cron = "${klaw.reconciliation.cron.expression:0 0 7 * * ?}")
+  void reconcileScheduled() {
+    if (!reconciliationSchedulerEnabled) {
+      return;
+    }
+    // no request to derive the login url from
+    reconcile(manageDatabase.getTenantMap().keySet(), SCHEDULER_USER, "").join();
+  }
+
+  public ApiResponse triggerReconciliation() {
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.SYNC_TOPICS)) {
+      return ApiResponse.NOT_AUTHORIZED;
+    }
+    String userName = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    String loginUrl = commonUtilsService.getLoginUrl();
+    // the units are claimed here to report the ones which are taken, a manual run keeps no unit
+    // claimed once it is done, so that it can be repeated right away
+    List<ReconUnit> reconUnits = getReconUnits(List.of(tenantId));
+    int skippedUnits = 0;
+    for (ReconUnit reconUnit : reconUnits) {
+      Optional<SimpleLock> lock = lock(reconUnit, Duration.ZERO);
+      if (lock.isEmpty()) {
+        skippedUnits++;
+        continue;
+      }
+      CompletableFuture.runAsync(
+          () -> reconcileUnitAndUnlock(reconUnit, lock.get(), userName, loginUrl),
+          reconciliationTaskExecutor);
+    }
+    if (skippedUnits > 0) {
+      return ApiResponse.notOk(String.format(RECON_ERR_102, skippedUnits, reconUnits.size()));
+    }
+    return ApiResponse.SUCCESS;
+  }
+
+  public List<ReconResultResponse> getReconciliationResults(String envId) {
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.SYNC_TOPICS)) {
+      return new ArrayList<>();
+    }
+    int tenantId = commonUtilsService.getTenantId(getUserName());
+    return manageDatabase.getHandleDbRequests().getReconResults(envId, tenantId).stream()
+        .map(
+            kwReconResult -> {
+              ReconResultResponse reconResultResponse = new ReconResultResponse();
+              copyProperties(kwReconResult, reconResultResponse);
+              return reconResultResponse;
+            })
+        .toList();
+  }
+
+  // fans out one unit per tenant, environment and entity type. The threads of the pool only run
+  // units and never wait for other units, which would starve the pool with concurrent runs.
+  CompletableFuture<Void> reconcile(
+      Collection<Integer> tenantIds, String reconBy, String loginUrl) {
+    List<CompletableFuture<Void>> units = new ArrayList<>();
+    for (ReconUnit reconUnit : getReconUnits(tenantIds)) {
+      units.add(
+          CompletableFuture.runAsync(
+              () -> reconcileUnitIfNotLocked(reconUnit, reconBy, loginUrl),
+              reconciliationTaskExecutor));
+    }
+    return CompletableFuture.allOf(units.toArray(new CompletableFuture[0]))
+        .thenRun(() -> log.info("Reconciliation completed, {} units processed", units.size()));
+  }
+
+  List<ReconUnit> getReconUnits(Collection<Integer> tenantIds) {
+    List<ReconUnit> reconUnits = new ArrayList<>();
+    for (Integer tenantId : tenantIds) {
+      for (Env env : manageDatabase.getKafkaEnvList(tenantId)) {
+        reconUnits.add(new ReconUnit(tenantId, env, RequestEntityType.TOPIC));
+        reconUnits.add(new ReconUnit(tenantId, env, RequestEntityType.ACL));
+      }
+      for (Env env : manageDatabase.getSchemaRegEnvList(tenantId)) {
+        reconUnits.add(new ReconUnit(tenantId, env, RequestEntityType.SCHEMA));
+      }
+      for (Env env : manageDatabase.getKafkaConnectEnvList(tenantId)) {
+        reconUnits.add(new ReconUnit(tenantId, env, RequestEntityType.CONNECTOR));
+      }
+    }
+    return reconUnits;
+  }
+
+  private void reconcileUnitIfNotLocked(ReconUnit reconUnit, String reconBy, String loginUrl) {
+    Optional<SimpleLock> lock = lock(reconUnit, lockAtLeastFor);
+    if (lock.isEmpty()) {
+      log.info("Reconciliation of {} is running on another instance", reconUnit.lockName());
+      return;
+    }
+    reconcileUnitAndUnlock(reconUnit, lock.get(), reconBy, loginUrl);
+  }
+
+  private Optional<SimpleLock> lock(ReconUnit reconUnit, Duration lockAtLeastFor) {
+    return lockProvider.lock(
+        new LockConfiguration(Instant.now(), reconUnit.lockName(), lockAtMostFor, lockAtLeastFor));
+  }
+
+  private void reconcileUnitAndUnlock(
+      ReconUnit reconUnit, SimpleLock lock, String reconBy, String loginUrl) {
+    try {
+      reconcileUnit(reconUnit, reconBy, loginUrl);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void reconcileUnit(ReconUnit reconUnit, String reconBy, String loginUrl) {
+    HandleDbRequests handleDbRequests = manageDatabase.getHandleDbRequests();
+    KwReconResult kwReconResult = new KwReconResult();
+    kwReconResult.setTenantId(reconUnit.tenantId());
+    kwReconResult.setEnvironment(reconUnit.env().getId());
+    kwReconResult.setEntityType(reconUnit.entityType().name());
+    kwReconResult.setReconBy(reconBy);
+    kwReconResult.setReconTime(new Timestamp(System.currentTimeMillis()));
+
+    try {
+      Set<String> onCluster = getEntitiesOnCluster(reconUnit);
+      Set<String> inKlaw = getEntitiesInKlaw(reconUnit, handleDbRequests);
+
+      List<ReconDetail> reconDetails = new ArrayList<>();
+      onCluster.stream()
+          .filter(entity -> !inKlaw.contains(entity))
+          .sorted()
+          .forEach(entity -> reconDetails.add(new ReconDetail(entity, RECON_ADDED)));
+      inKlaw.stream()
+          .filter(entity -> !onCluster.contains(entity))
+          .sorted()
+          .forEach(entity -> reconDetails.add(new ReconDetail(entity, RECON_DELETED)));
+
+      kwReconResult.setStatus(RECON_STATUS_SUCCESS);
+      kwReconResult.setClusterCount(onCluster.size());
+      kwReconResult.setKlawCount(inKlaw.size());
+      kwReconResult.setReconDetails(reconDetails);
+      kwReconResult.setAddedCount(
+          (int) reconDetails.stream().filter(d -> RECON_ADDED.equals(d.getRemarks())).count());
+      kwReconResult.setDeletedCount(reconDetails.size() - kwReconResult.getAddedCount());
+
+      if (!reconDetails.isEmpty()) {
+        notifyAdmin(reconUnit, reconDetails, loginUrl);
+      }
+    } catch (Exception e) {
+      log.error(
+          String.format(RECON_ERR_101, reconUnit.entityType().value, reconUnit.env().getName()), e);
+      kwReconResult.setStatus(RECON_STATUS_FAILURE);
+      kwReconResult.setReconDetails(new ArrayList<>());
+    }
+
+    handleDbRequests.insertIntoReconResults(kwReconResult);
+  }
+
+  private Set<String> getEntitiesOnCluster(ReconUnit reconUnit) throws Exception {
+    int tenantId = reconUnit.tenantId();
+    Env env = reconUnit.env();
+    switch (reconUnit.entityType()) {
+      case TOPIC -> {
+        KwClusters kwClusters =
+            manageDatabase.getClusters(KafkaClustersType.KAFKA, tenantId).get(env.getClusterId());
+        return clusterApiService
+            .getAllTopics(
+                kwClusters.getBootstrapServers(),
+                kwClusters.getProtocol(),
+                kwClusters.getClusterName() + kwClusters.getClusterId(),
+                kwClusters.getKafkaFlavor(),
+                tenantId)
+            .stream()
+            .map(TopicConfig::getTopicName)
+            .collect(Collectors.toSet());
+      }
+      case ACL -> {
+        KwClusters kwClusters =
+            manageDatabase.getClusters(KafkaClustersType.KAFKA, tenantId).get(env.getClusterId());
+        return clusterApiService
+            .getAcls(kwClusters.getBootstrapServers(), env, kwClusters.getProtocol(), tenantId)
+            .stream()
+            .filter(acl -> "TOPIC".equals(acl.get("resourceType")))
+            .map(
+                acl ->
+                    getAclKey(
+                        acl.get("resourceName"),
+                        acl.get("patternType"),
+                        acl.get("principle"),
+                        acl.get("host"),
+                        acl.get("operation")))
+            .collect(Collectors.toSet());
+      }
+      case SCHEMA -> {
+        KwClusters kwClusters =
+            manageDatabase
+                .getClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId)
+                .get(env.getClusterId());
+        return clusterApiService
+            .getSchemasFromCluster(
+                kwClusters.getBootstrapServers(),
+                kwClusters.getProtocol(),
+                kwClusters.getClusterName() + kwClusters.getClusterId(),
+                tenantId)
+            .getSchemaInfoOfTopicList()
+            .stream()
+            .map(SchemaInfoOfTopic::getTopic)
+            .collect(Collectors.toSet());
+      }
+      case CONNECTOR -> {
+        KwClusters kwClusters =
+            manageDatabase
+                .getClusters(KafkaClustersType.KAFKA_CONNECT, tenantId)
+                .get(env.getClusterId());
+        return clusterApiService
+            .getAllKafkaConnectors(
+                kwClusters.getBootstrapServers(),
+                kwClusters.getProtocol().getName(),
+                kwClusters.getClusterName() + kwClusters.getClusterId(),
+                tenantId,
+                false)
+            .getConnectorStateList()
+            .stream()
+            .map(ConnectorState::getConnectorName)
+            .collect(Collectors.toSet());
+      }
+      default -> {
+        return new HashSet<>();
+      }
+    }
+  }
+
+  private Set<String> getEntitiesInKlaw(ReconUnit reconUnit, HandleDbRequests handleDbRequests) {
+    int tenantId = reconUnit.tenantId();
+    String envId = reconUnit.env().getId();
+    switch (reconUnit.entityType()) {
+      case TOPIC -> {
+        return handleDbRequests.getSyncTopics(envId, null, tenantId).stream()
+            .map(Topic::getTopicname)
+            .collect(Collectors.toSet());
+      }
+      case ACL -> {
+        String kafkaFlavor =
+            manageDatabase
+                .getClusters(KafkaClustersType.KAFKA, tenantId)
+                .get(reconUnit.env().getClusterId())
+                .getKafkaFlavor();
+        return handleDbRequests.getSyncAcls(envId, tenantId).stream()
+            .map(acl -> getAclKey(acl, kafkaFlavor))
+            .collect(Collectors.toSet());
+      }
+      case SCHEMA -> {
+        return new HashSet<>(
+            handleDbRequests.getTopicAndVersionsForEnvAndTenantId(envId, tenantId).keySet());
+      }
+      case CONNECTOR -> {
+        return handleDbRequests.getSyncConnectors(envId, null, tenantId).stream()
+            .map(KwKafkaConnector::getConnectorName)
+            .collect(Collectors.toSet());
+      }
+      default -> {
+        return new HashSet<>();
+      }
+    }
+  }
+
+  // principals and hosts are stored without the defaults the cluster reports, see
+  // AclSyncControllerService
+  private String getAclKey(Acl acl, String kafkaFlavor) {
+    String aclSsl = acl.getAclssl();
+    if (aclSsl == null || aclSsl.equals("")) {
+      aclSsl = "User:*";
+    } else if (!KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value.equals(kafkaFlavor)
+        && !aclSsl.startsWith("User:")) {
+      aclSsl = "User:" + aclSsl;
+    }
+    String aclHost = acl.getAclip();
+    if (aclHost == null || aclHost.equals("")) {
+      aclHost = "*";
+    }
+    String operation =
+        AclType.PRODUCER.value.equals(acl.getAclType())
+            ? AclPermissionType.WRITE.value
+            : AclPermissionType.READ.value;
+    return getAclKey(acl.getTopicname(), acl.getAclPatternType(), aclSsl, aclHost, operation);
+  }
+
+  // acls without a pattern type are literal, e.g. the ones of aiven or created before prefixes
+  private String getAclKey(
+      String topicName, String patternType, String principal, String host, String operation) {
+    if (patternType == null || patternType.isEmpty()) {
+      patternType = AclPatternType.LITERAL.value;
+    }
+    return topicName + "/" + patternType + "/" + principal + "/" + host + "/" + operation;
+  }
+
+  private void notifyAdmin(ReconUnit reconUnit, List<ReconDetail> reconDetails, String loginUrl) {
+    Map<Integer, String> tenantMap = manageDatabase.getTenantMap();
+    StringBuilder reconStr = new StringBuilder();
+    for (ReconDetail reconDetail : reconDetails) {
+      reconStr
+          .append(reconDetail.getName())
+          .append(" ")
+          .append(reconUnit.env().getName())
+          .append(" ")
+          .append(reconDetail.getRemarks())
+          .append("\n");
+    }
+    mailService.sendReconMailToAdmin(
+        String.format(RECON_102, reconUnit.entityType().value),
+        reconStr.toString(),
+        tenantMap.get(reconUnit.tenantId()),
+        reconUnit.tenantId(),
+        loginUrl);
+  }
+
+  private String getUserName() {
+    return mailService.getUserName(getPrincipal());
+  }
+
+  private Object getPrincipal() {
+    return SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+  }
+}
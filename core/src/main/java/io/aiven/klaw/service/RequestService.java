@@ -5,13 +5,17 @@ import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_102;
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_103;
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_104;
 
+import com.google.common.collect.Lists;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.enums.RequestEntityType;
 import io.aiven.klaw.model.requests.RequestVerdict;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,33 +30,45 @@ public class RequestService {
 
   @Autowired private AclControllerService aclControllerService;
 
+  // requests of a verdict are loaded, validated and declined together in chunks of this size
+  @Value("${klaw.requests.bulk.chunk.size:100}")
+  private int bulkChunkSize;
+
   public List<ApiResponse> processApprovalRequests(RequestVerdict requestVerdict) {
-    return requestVerdict.getReqIds().stream()
-        .map(req -> processApprovalRequests(req, requestVerdict.getRequestEntityType()))
-        .collect(Collectors.toList());
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    for (List<String> reqIds : Lists.partition(requestVerdict.getReqIds(), bulkChunkSize)) {
+      apiResponses.addAll(processApprovalRequests(reqIds, requestVerdict.getRequestEntityType()));
+    }
+    return apiResponses;
   }
 
-  private ApiResponse processApprovalRequests(String reqId, RequestEntityType requestEntityType) {
+  private List<ApiResponse> processApprovalRequests(
+      List<String> reqIds, RequestEntityType requestEntityType) {
     try {
       return switch (requestEntityType) {
-        case TOPIC -> topicControllerService.approveTopicRequests(reqId);
-        case ACL -> aclControllerService.approveAclRequests(reqId);
-        case SCHEMA -> schemaRegistryControllerService.execSchemaRequests(reqId);
-        case CONNECTOR -> kafkaConnectControllerService.approveConnectorRequests(reqId);
-        default -> undeterinableResource();
+        case TOPIC -> topicControllerService.approveTopicRequests(reqIds);
+        case ACL -> aclControllerService.approveAclRequests(reqIds);
+        case SCHEMA -> schemaRegistryControllerService.execSchemaRequests(reqIds);
+        case CONNECTOR -> kafkaConnectControllerService.approveConnectorRequests(reqIds);
+        default -> Collections.nCopies(reqIds.size(), undeterinableResource());
       };
     } catch (Exception ex) {
-      return ApiResponse.notOk(String.format(REQ_SER_ERR_101, reqId) + " " + ex.getMessage());
+      return reqIds.stream()
+          .map(
+              reqId ->
+                  ApiResponse.notOk(String.format(REQ_SER_ERR_101, reqId) + " " + ex.getMessage()))
+          .collect(Collectors.toList());
     }
   }
 
   public List<ApiResponse> processDeclineRequests(RequestVerdict requestVerdict) {
-    return requestVerdict.getReqIds().stream()
-        .map(
-            req ->
-                processDeclineRequests(
-                    req, requestVerdict.getReason(), requestVerdict.getRequestEntityType()))
-        .collect(Collectors.toList());
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    for (List<String> reqIds : Lists.partition(requestVerdict.getReqIds(), bulkChunkSize)) {
+      apiResponses.addAll(
+          processDeclineRequests(
+              reqIds, requestVerdict.getReason(), requestVerdict.getRequestEntityType()));
+    }
+    return apiResponses;
   }
 
   public List<ApiResponse> processDeleteRequests(RequestVerdict requestVerdict) {
@@ -79,18 +95,20 @@ public class RequestService {
     return ApiResponse.notOk(REQ_SER_ERR_103);
   }
 
-  private ApiResponse processDeclineRequests(
-      String reqId, String reason, RequestEntityType requestEntityType) {
+  private List<ApiResponse> processDeclineRequests(
+      List<String> reqIds, String reason, RequestEntityType requestEntityType) {
     try {
       return switch (requestEntityType) {
-        case TOPIC -> topicControllerService.declineTopicRequests(reqId, reason);
-        case ACL -> aclControllerService.declineAclRequests(reqId, reason);
-        case SCHEMA -> schemaRegistryControllerService.execSchemaRequestsDecline(reqId, reason);
-        case CONNECTOR -> kafkaConnectControllerService.declineConnectorRequests(reqId, reason);
-        default -> undeterinableResource();
+        case TOPIC -> topicControllerService.declineTopicRequests(reqIds, reason);
+        case ACL -> aclControllerService.declineAclRequests(reqIds, reason);
+        case SCHEMA -> schemaRegistryControllerService.execSchemaRequestsDecline(reqIds, reason);
+        case CONNECTOR -> kafkaConnectControllerService.declineConnectorRequests(reqIds, reason);
+        default -> Collections.nCopies(reqIds.size(), undeterinableResource());
       };
     } catch (Exception ex) {
-      return ApiResponse.notOk(String.format(REQ_SER_ERR_104, reqId));
+      return reqIds.stream()
+          .map(reqId -> ApiResponse.notOk(String.format(REQ_SER_ERR_104, reqId)))
+          .collect(Collectors.toList());
     }
   }
 }
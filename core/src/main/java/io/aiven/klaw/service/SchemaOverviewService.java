@@ -1,7 +1,5 @@
 package io.aiven.klaw.service;
 
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
-
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.EnvTag;
 import io.aiven.klaw.dao.KwClusters;
@@ -306,14 +304,12 @@ public class SchemaOverviewService extends BaseOverviewService {
       List<String> kafkaEnvIds) {
     log.debug("SchemaEnv Id {} KafkaEnvIds {}", schemaEnv.getId(), kafkaEnvIds);
     PromotionStatus promotionDetails = new PromotionStatus();
-    String orderEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
     generatePromotionDetails(
         tenantId,
         promotionDetails,
         schemaEnv.getAssociatedEnv() != null
             ? Collections.singletonList(schemaEnv.getAssociatedEnv().getId())
-            : null,
-        orderEnvs);
+            : null);
     if (schemaOverview.getSchemaPromotionDetails() == null) {
       PromotionStatus searchOverviewPromotionDetails = new PromotionStatus();
       schemaOverview.setSchemaPromotionDetails(searchOverviewPromotionDetails);
@@ -1,5 +1,7 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.SCHEMA_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.SCHEMA_ERR_102;
 import static io.aiven.klaw.error.KlawErrorMessages.SCHEMA_ERR_103;
@@ -19,7 +21,9 @@ import io.aiven.klaw.dao.SchemaRequest;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.EnvGraph;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
@@ -34,8 +38,10 @@ import io.aiven.klaw.model.response.BaseRequestsResponseModel;
 import io.aiven.klaw.model.response.SchemaRequestsResponseModel;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -58,6 +64,8 @@ public class SchemaRegistryControllerService {
 
   @Autowired private RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Autowired private ApprovalOutboxService approvalOutboxService;
+
   public SchemaRegistryControllerService(
       ClusterApiService clusterApiService, MailUtils mailService) {
     this.clusterApiService = clusterApiService;
@@ -255,15 +263,104 @@ public class SchemaRegistryControllerService {
             .getHandleDbRequests()
             .getSchemaRequest(Integer.parseInt(avroSchemaId), tenantId);
 
-    if (Objects.equals(schemaRequest.getRequestor(), userDetails))
-      return ApiResponse.notOk(SCHEMA_ERR_101);
+    return approveSchemaRequest(
+        schemaRequest,
+        userDetails,
+        tenantId,
+        commonUtilsService.getEnvsFromUserId(userDetails),
+        commonUtilsService.getLoginUrl());
+  }
 
-    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(getUserName());
+  /** Approves the requests of a bulk verdict. The approver and the requests are loaded once. */
+  public List<ApiResponse> execSchemaRequests(List<String> avroSchemaIds) {
+    log.info("execSchemaRequests {}", avroSchemaIds);
+    String userDetails = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_SCHEMAS)) {
+      return Collections.nCopies(avroSchemaIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    String loginUrl = commonUtilsService.getLoginUrl();
+    Map<Integer, SchemaRequest> schemaRequests =
+        getSchemaRequestsFromReqNos(avroSchemaIds, tenantId);
+
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    for (String avroSchemaId : avroSchemaIds) {
+      try {
+        SchemaRequest schemaRequest = schemaRequests.get(Integer.parseInt(avroSchemaId));
+        apiResponses.add(
+            schemaRequest == null
+                ? ApiResponse.notOk(REQ_ERR_101)
+                : approveSchemaRequest(
+                    schemaRequest, userDetails, tenantId, allowedEnvIdSet, loginUrl));
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        apiResponses.add(
+            ApiResponse.notOk(String.format(REQ_SER_ERR_101, avroSchemaId) + " " + e.getMessage()));
+      }
+    }
+    return apiResponses;
+  }
+
+  private ApiResponse approveSchemaRequest(
+      SchemaRequest schemaRequest,
+      String userDetails,
+      int tenantId,
+      Set<String> allowedEnvIdSet,
+      String loginUrl)
+      throws KlawException {
+    ApiResponse validationResponse =
+        validateSchemaRequest(schemaRequest, userDetails, allowedEnvIdSet);
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
+    }
+
+    if (approvalOutboxService.isEnabled()) {
+      return approvalOutboxService.enqueue(
+          RequestEntityType.SCHEMA,
+          schemaRequest.getReq_no(),
+          schemaRequest.getEnvironment(),
+          tenantId,
+          userDetails,
+          loginUrl);
+    }
+    return executeSchemaRequest(schemaRequest, userDetails, tenantId, loginUrl);
+  }
+
+  /** Approves a request taken from the approval outbox, validated again as it may have changed. */
+  public ApiResponse approveQueuedSchemaRequest(
+      int reqNo, String userDetails, int tenantId, String loginUrl) throws KlawException {
+    SchemaRequest schemaRequest =
+        manageDatabase.getHandleDbRequests().getSchemaRequest(reqNo, tenantId);
+    if (schemaRequest == null
+        || !RequestStatus.CREATED.value.equals(schemaRequest.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    ApiResponse validationResponse =
+        validateSchemaRequest(
+            schemaRequest, userDetails, commonUtilsService.getEnvsFromUserId(userDetails));
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
+    }
+    return executeSchemaRequest(schemaRequest, userDetails, tenantId, loginUrl);
+  }
+
+  private ApiResponse validateSchemaRequest(
+      SchemaRequest schemaRequest, String userDetails, Set<String> allowedEnvIdSet) {
+    if (Objects.equals(schemaRequest.getRequestor(), userDetails)) {
+      return ApiResponse.notOk(SCHEMA_ERR_101);
+    }
 
     if (!allowedEnvIdSet.contains(schemaRequest.getEnvironment())) {
       return ApiResponse.NOT_AUTHORIZED;
     }
+    return ApiResponse.SUCCESS;
+  }
 
+  private ApiResponse executeSchemaRequest(
+      SchemaRequest schemaRequest, String userDetails, int tenantId, String loginUrl)
+      throws KlawException {
     ResponseEntity<ApiResponse> response =
         clusterApiService.postSchema(
             schemaRequest, schemaRequest.getEnvironment(), schemaRequest.getTopicname(), tenantId);
@@ -300,7 +397,7 @@ public class SchemaRegistryControllerService {
             schemaRequest.getTeamId(),
             dbHandle,
             SCHEMA_REQUEST_APPROVED,
-            commonUtilsService.getLoginUrl());
+            loginUrl);
         return ApiResultStatus.SUCCESS.value.equals(responseDb)
             ? ApiResponse.ok(responseDb)
             : ApiResponse.notOk(responseDb);
@@ -366,16 +463,8 @@ public class SchemaRegistryControllerService {
 
     try {
       String responseDb = dbHandle.updateSchemaRequestDecline(schemaRequest, userDetails);
-      mailService.sendMail(
-          schemaRequest.getTopicname(),
-          null,
-          reasonForDecline,
-          schemaRequest.getRequestor(),
-          schemaRequest.getApprover(),
-          schemaRequest.getTeamId(),
-          dbHandle,
-          SCHEMA_REQUEST_DENIED,
-          commonUtilsService.getLoginUrl());
+      sendSchemaDeclinedMail(
+          schemaRequest, reasonForDecline, dbHandle, commonUtilsService.getLoginUrl());
       return ApiResultStatus.SUCCESS.value.equals(responseDb)
           ? ApiResponse.ok(responseDb)
           : ApiResponse.notOk(responseDb);
@@ -384,6 +473,84 @@ public class SchemaRegistryControllerService {
     }
   }
 
+  /** Declines the requests of a bulk verdict, the declined requests are saved in one go. */
+  public List<ApiResponse> execSchemaRequestsDecline(
+      List<String> avroSchemaIds, String reasonForDecline) throws KlawException {
+    log.info("execSchemaRequestsDecline {}", avroSchemaIds);
+    String userDetails = getUserName();
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_SCHEMAS)) {
+      return Collections.nCopies(avroSchemaIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userDetails);
+    Map<Integer, SchemaRequest> schemaRequests =
+        getSchemaRequestsFromReqNos(avroSchemaIds, tenantId);
+
+    // the responses of the declined requests are filled in once they are saved
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    List<SchemaRequest> declinedRequests = new ArrayList<>();
+    for (String avroSchemaId : avroSchemaIds) {
+      // removed, so that a request listed twice is declined once
+      SchemaRequest schemaRequest = schemaRequests.remove(NumberUtils.toInt(avroSchemaId, -1));
+      if (schemaRequest == null) {
+        apiResponses.add(ApiResponse.notOk(REQ_ERR_101));
+      } else if (!allowedEnvIdSet.contains(schemaRequest.getEnvironment())) {
+        apiResponses.add(ApiResponse.NOT_AUTHORIZED);
+      } else {
+        declinedRequests.add(schemaRequest);
+        apiResponses.add(null);
+      }
+    }
+    if (declinedRequests.isEmpty()) {
+      return apiResponses;
+    }
+
+    try {
+      HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+      String responseDb = dbHandle.declineSchemaRequests(declinedRequests, userDetails, tenantId);
+      String loginUrl = commonUtilsService.getLoginUrl();
+      for (SchemaRequest schemaRequest : declinedRequests) {
+        sendSchemaDeclinedMail(schemaRequest, reasonForDecline, dbHandle, loginUrl);
+      }
+
+      ApiResponse declineResponse =
+          ApiResultStatus.SUCCESS.value.equals(responseDb)
+              ? ApiResponse.ok(responseDb)
+              : ApiResponse.notOk(responseDb);
+      apiResponses.replaceAll(apiResponse -> apiResponse == null ? declineResponse : apiResponse);
+      return apiResponses;
+    } catch (Exception e) {
+      throw new KlawException(e.getMessage());
+    }
+  }
+
+  private void sendSchemaDeclinedMail(
+      SchemaRequest schemaRequest,
+      String reasonForDecline,
+      HandleDbRequests dbHandle,
+      String loginUrl) {
+    mailService.sendMail(
+        schemaRequest.getTopicname(),
+        null,
+        reasonForDecline,
+        schemaRequest.getRequestor(),
+        schemaRequest.getApprover(),
+        schemaRequest.getTeamId(),
+        dbHandle,
+        SCHEMA_REQUEST_DENIED,
+        loginUrl);
+  }
+
+  private Map<Integer, SchemaRequest> getSchemaRequestsFromReqNos(
+      List<String> reqNos, int tenantId) {
+    return manageDatabase
+        .getHandleDbRequests()
+        .getSchemaRequestsForReqNos(UtilMethods.parseRequestIds(reqNos), tenantId)
+        .stream()
+        .collect(Collectors.toMap(SchemaRequest::getReq_no, Function.identity()));
+  }
+
   public ApiResponse promoteSchema(SchemaPromotion schemaPromotion) throws Exception {
     String userDetails = getUserName();
 
@@ -446,12 +613,9 @@ public class SchemaRegistryControllerService {
   }
 
   private Optional<Env> getSchemaEnvFromKafkaEnvId(String envId) {
-    return manageDatabase
-        .getSchemaRegEnvList(commonUtilsService.getTenantId(getUserName()))
-        .stream()
-        .filter(
-            env -> env.getAssociatedEnv() != null && env.getAssociatedEnv().getId().equals(envId))
-        .findFirst();
+    EnvGraph envGraph = manageDatabase.getEnvGraph(commonUtilsService.getTenantId(getUserName()));
+    Env schemaEnv = envGraph.getSchemaEnv(envGraph.getAssociatedEnvId(envId));
+    return Optional.ofNullable(schemaEnv);
   }
 
   private SchemaRequestModel buildSchemaRequestFromPromotionRequest(
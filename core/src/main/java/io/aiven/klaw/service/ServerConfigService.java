@@ -40,7 +40,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -490,57 +489,27 @@ public class ServerConfigService {
   }
 
   public Env getEnvDetails(String envId, int tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaEnv(envId);
   }
 
   public Env getKafkaConnectEnvDetails(String envId, int tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaConnectEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaConnectEnv(envId);
   }
 
   public Env getSchemaEnvDetails(String envId, int tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getSchemaRegEnvList(tenantId).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getSchemaEnv(envId);
   }
 
   public Env getEnvDetailsFromName(String envName, Integer tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(tenantId).stream()
-            .filter(
-                env ->
-                    Objects.equals(env.getName(), envName)
-                        && Objects.equals(env.getTenantId(), tenantId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaEnvFromName(envName);
   }
 
   public Env getSchemaEnvDetailsFromName(String envName, Integer tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getSchemaRegEnvList(tenantId).stream()
-            .filter(
-                env ->
-                    Objects.equals(env.getName(), envName)
-                        && Objects.equals(env.getTenantId(), tenantId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getSchemaEnvFromName(envName);
   }
 
   public Env getKafkaConnectEnvDetailsFromName(String envName, Integer tenantId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaConnectEnvList(tenantId).stream()
-            .filter(env -> env.getName().equals(envName) && env.getTenantId().equals(tenantId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase.getEnvGraph(tenantId).getKafkaConnectEnvFromName(envName);
   }
 
   public Map<String, String> resetCache() {
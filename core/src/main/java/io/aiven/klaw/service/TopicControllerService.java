@@ -1,6 +1,7 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_108;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_102;
@@ -16,7 +17,6 @@ import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_112;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_113;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_114;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_121;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 import static io.aiven.klaw.model.enums.MailType.*;
 import static org.springframework.beans.BeanUtils.copyProperties;
 
@@ -32,6 +32,8 @@ import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.helpers.KlawResourceUtils;
 import io.aiven.klaw.helpers.UtilMethods;
@@ -45,7 +47,6 @@ import io.aiven.klaw.model.TopicInfo;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
-import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.MailType;
 import io.aiven.klaw.model.enums.MetadataOperationType;
@@ -62,6 +63,7 @@ import io.aiven.klaw.model.response.TopicTeamResponse;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -94,6 +96,8 @@ public class TopicControllerService {
 
   @Autowired private RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Autowired private ApprovalOutboxService approvalOutboxService;
+
   private int topicCounter = 0;
 
   TopicControllerService(ClusterApiService clusterApiService, MailUtils mailService) {
@@ -729,11 +733,124 @@ public class TopicControllerService {
     int tenantId = commonUtilsService.getTenantId(userName);
     TopicRequest topicRequest = getTopicRequestFromTopicId(Integer.parseInt(topicId), tenantId);
 
-    ApiResponse validationResponse = validateTopicRequest(topicRequest, userName);
+    Map<MetadataOperationType, List<String>> changedTopics =
+        new EnumMap<>(MetadataOperationType.class);
+    ApiResponse apiResponse =
+        approveTopicRequest(
+            topicRequest,
+            userName,
+            tenantId,
+            commonUtilsService.getEnvsFromUserId(userName),
+            commonUtilsService.getLoginUrl(),
+            changedTopics);
+    updateTopicsMetadata(tenantId, changedTopics);
+    return apiResponse;
+  }
+
+  /**
+   * Approves the requests of a bulk verdict. The approver and the requests are loaded once, and the
+   * metadata of all changed topics is updated once at the end.
+   */
+  public List<ApiResponse> approveTopicRequests(List<String> topicIds) {
+    log.info("approveTopicRequests {}", topicIds);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_TOPICS)) {
+      return Collections.nCopies(topicIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    String userName = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userName);
+    String loginUrl = commonUtilsService.getLoginUrl();
+    Map<Integer, TopicRequest> topicRequests = getTopicRequestsFromTopicIds(topicIds, tenantId);
+
+    Map<MetadataOperationType, List<String>> changedTopics =
+        new EnumMap<>(MetadataOperationType.class);
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    for (String topicId : topicIds) {
+      try {
+        apiResponses.add(
+            approveTopicRequest(
+                topicRequests.get(Integer.parseInt(topicId)),
+                userName,
+                tenantId,
+                allowedEnvIdSet,
+                loginUrl,
+                changedTopics));
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        apiResponses.add(
+            ApiResponse.notOk(String.format(REQ_SER_ERR_101, topicId) + " " + e.getMessage()));
+      }
+    }
+    updateTopicsMetadata(tenantId, changedTopics);
+    return apiResponses;
+  }
+
+  private ApiResponse approveTopicRequest(
+      TopicRequest topicRequest,
+      String userName,
+      int tenantId,
+      Set<String> allowedEnvIdSet,
+      String loginUrl,
+      Map<MetadataOperationType, List<String>> changedTopics)
+      throws KlawException {
+    if (topicRequest == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    ApiResponse validationResponse = validateTopicRequest(topicRequest, userName, allowedEnvIdSet);
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
+    }
+
+    if (approvalOutboxService.isEnabled()
+        && !RequestOperationType.CLAIM.value.equals(topicRequest.getRequestOperationType())) {
+      return approvalOutboxService.enqueue(
+          RequestEntityType.TOPIC,
+          topicRequest.getTopicid(),
+          topicRequest.getEnvironment(),
+          tenantId,
+          userName,
+          loginUrl);
+    }
+    return executeTopicRequest(topicRequest, userName, tenantId, loginUrl, changedTopics);
+  }
+
+  /** Approves a request taken from the approval outbox, validated again as it may have changed. */
+  public ApiResponse approveQueuedTopicRequest(
+      int topicId, String userName, int tenantId, String loginUrl) throws KlawException {
+    TopicRequest topicRequest = getTopicRequestFromTopicId(topicId, tenantId);
+    if (topicRequest == null) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+    ApiResponse validationResponse =
+        validateTopicRequest(
+            topicRequest, userName, commonUtilsService.getEnvsFromUserId(userName));
     if (!validationResponse.isSuccess()) {
       return validationResponse;
     }
+    Map<MetadataOperationType, List<String>> changedTopics =
+        new EnumMap<>(MetadataOperationType.class);
+    ApiResponse apiResponse =
+        executeTopicRequest(topicRequest, userName, tenantId, loginUrl, changedTopics);
+    updateTopicsMetadata(tenantId, changedTopics);
+    return apiResponse;
+  }
+
+  private void updateTopicsMetadata(
+      int tenantId, Map<MetadataOperationType, List<String>> changedTopics) {
+    changedTopics.forEach(
+        (operationType, topicNames) ->
+            commonUtilsService.updateTopicsMetadata(tenantId, operationType, topicNames));
+  }
 
+  // changed topics are collected per metadata operation, for the caller to update the metadata
+  private ApiResponse executeTopicRequest(
+      TopicRequest topicRequest,
+      String userName,
+      int tenantId,
+      String loginUrl,
+      Map<MetadataOperationType, List<String>> changedTopics)
+      throws KlawException {
     HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
     String updateTopicReqStatus;
     // Starts as success as their may be no schema related to this topic.
@@ -777,12 +894,18 @@ public class TopicControllerService {
       Map<String, String> topicConfig =
           UtilMethods.createAdvancedConfigFromJson(topicRequest.getJsonParams(), OBJECT_MAPPER);
       updateTopicReqStatus =
-          invokeClusterApiForTopicRequest(userName, tenantId, topicRequest, dbHandle, topicConfig);
+          invokeClusterApiForTopicRequest(
+              userName, tenantId, topicRequest, dbHandle, topicConfig, loginUrl);
     }
 
     if (updateTopicReqStatus.equals(ApiResultStatus.SUCCESS.value)) {
-      commonUtilsService.updateMetadata(
-          tenantId, EntityType.TOPICS, MetadataOperationType.CREATE, null);
+      changedTopics
+          .computeIfAbsent(
+              RequestOperationType.DELETE.value.equals(topicRequest.getRequestOperationType())
+                  ? MetadataOperationType.DELETE
+                  : MetadataOperationType.CREATE,
+              operationType -> new ArrayList<>())
+          .add(topicRequest.getTopicname());
     }
 
     String message = "Topic Status: " + updateTopicReqStatus + updateSchemaMsg;
@@ -797,7 +920,8 @@ public class TopicControllerService {
       int tenantId,
       TopicRequest topicRequest,
       HandleDbRequests dbHandle,
-      Map<String, String> topicConfig)
+      Map<String, String> topicConfig,
+      String loginUrl)
       throws KlawException {
     String updateTopicReqStatus;
     ResponseEntity<ApiResponse> response =
@@ -826,7 +950,7 @@ public class TopicControllerService {
           NumberUtils.toInt(topicRequest.getApprovingTeamId(), -1),
           dbHandle,
           TOPIC_REQUEST_APPROVED,
-          commonUtilsService.getLoginUrl());
+          loginUrl);
     }
     return updateTopicReqStatus;
   }
@@ -851,7 +975,8 @@ public class TopicControllerService {
     }
   }
 
-  private ApiResponse validateTopicRequest(TopicRequest topicRequest, String userName) {
+  private ApiResponse validateTopicRequest(
+      TopicRequest topicRequest, String userName, Set<String> allowedEnvIdSet) {
     if (Objects.equals(topicRequest.getRequestor(), userName)) {
       return ApiResponse.notOk(TOPICS_ERR_112);
     }
@@ -861,7 +986,6 @@ public class TopicControllerService {
     }
 
     // tenant filtering
-    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userName);
     if (!allowedEnvIdSet.contains(topicRequest.getEnvironment())) {
       return ApiResponse.NOT_AUTHORIZED;
     }
@@ -881,28 +1005,16 @@ public class TopicControllerService {
         dbHandle.getTopicRequestsForTopic(
             Integer.parseInt(topicId), commonUtilsService.getTenantId(userName));
 
-    if (!RequestStatus.CREATED.value.equals(topicRequest.getRequestStatus())) {
-      return ApiResponse.notOk(REQ_ERR_101);
-    }
-
-    // tenant filtering
-    final Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userName);
-    if (!allowedEnvIdSet.contains(topicRequest.getEnvironment())) {
-      return ApiResponse.NOT_AUTHORIZED;
+    ApiResponse validationResponse =
+        validateTopicRequestToDecline(topicRequest, commonUtilsService.getEnvsFromUserId(userName));
+    if (!validationResponse.isSuccess()) {
+      return validationResponse;
     }
 
     try {
       String result = dbHandle.declineTopicRequest(topicRequest, userName);
-      mailService.sendMail(
-          topicRequest.getTopicname(),
-          null,
-          reasonForDecline,
-          topicRequest.getRequestor(),
-          topicRequest.getApprover(),
-          NumberUtils.toInt(topicRequest.getApprovingTeamId(), -1),
-          dbHandle,
-          TOPIC_REQUEST_DENIED,
-          commonUtilsService.getLoginUrl());
+      sendTopicDeclinedMail(
+          topicRequest, reasonForDecline, dbHandle, commonUtilsService.getLoginUrl());
 
       return ApiResultStatus.SUCCESS.value.equals(result)
           ? ApiResponse.ok(result)
@@ -912,6 +1024,87 @@ public class TopicControllerService {
     }
   }
 
+  /** Declines the requests of a bulk verdict, the declined requests are saved in one go. */
+  public List<ApiResponse> declineTopicRequests(List<String> topicIds, String reasonForDecline)
+      throws KlawException {
+    log.info("declineTopicRequests {} {}", topicIds, reasonForDecline);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_TOPICS)) {
+      return Collections.nCopies(topicIds.size(), ApiResponse.NOT_AUTHORIZED);
+    }
+
+    String userName = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(userName);
+    Map<Integer, TopicRequest> topicRequests = getTopicRequestsFromTopicIds(topicIds, tenantId);
+
+    // the responses of the declined requests are filled in once they are saved
+    List<ApiResponse> apiResponses = new ArrayList<>();
+    List<TopicRequest> declinedRequests = new ArrayList<>();
+    for (String topicId : topicIds) {
+      // removed, so that a request listed twice is declined once
+      TopicRequest topicRequest = topicRequests.remove(NumberUtils.toInt(topicId, -1));
+      ApiResponse validationResponse = validateTopicRequestToDecline(topicRequest, allowedEnvIdSet);
+      if (validationResponse.isSuccess()) {
+        declinedRequests.add(topicRequest);
+        apiResponses.add(null);
+      } else {
+        apiResponses.add(validationResponse);
+      }
+    }
+    if (declinedRequests.isEmpty()) {
+      return apiResponses;
+    }
+
+    try {
+      HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+      String result = dbHandle.declineTopicRequests(declinedRequests, userName, tenantId);
+      String loginUrl = commonUtilsService.getLoginUrl();
+      for (TopicRequest topicRequest : declinedRequests) {
+        sendTopicDeclinedMail(topicRequest, reasonForDecline, dbHandle, loginUrl);
+      }
+
+      ApiResponse declineResponse =
+          ApiResultStatus.SUCCESS.value.equals(result)
+              ? ApiResponse.ok(result)
+              : ApiResponse.notOk(result);
+      apiResponses.replaceAll(apiResponse -> apiResponse == null ? declineResponse : apiResponse);
+      return apiResponses;
+    } catch (Exception e) {
+      throw new KlawException(e.getMessage());
+    }
+  }
+
+  private ApiResponse validateTopicRequestToDecline(
+      TopicRequest topicRequest, Set<String> allowedEnvIdSet) {
+    if (topicRequest == null
+        || !RequestStatus.CREATED.value.equals(topicRequest.getRequestStatus())) {
+      return ApiResponse.notOk(REQ_ERR_101);
+    }
+
+    // tenant filtering
+    if (!allowedEnvIdSet.contains(topicRequest.getEnvironment())) {
+      return ApiResponse.NOT_AUTHORIZED;
+    }
+    return ApiResponse.SUCCESS;
+  }
+
+  private void sendTopicDeclinedMail(
+      TopicRequest topicRequest,
+      String reasonForDecline,
+      HandleDbRequests dbHandle,
+      String loginUrl) {
+    mailService.sendMail(
+        topicRequest.getTopicname(),
+        null,
+        reasonForDecline,
+        topicRequest.getRequestor(),
+        topicRequest.getApprover(),
+        NumberUtils.toInt(topicRequest.getApprovingTeamId(), -1),
+        dbHandle,
+        TOPIC_REQUEST_DENIED,
+        loginUrl);
+  }
+
   public List<String> getAllTopics(boolean isMyTeamTopics, String envSelected) {
     log.debug("getAllTopics {}, envSelected {}", isMyTeamTopics, envSelected);
     String userName = getUserName();
@@ -956,8 +1149,8 @@ public class TopicControllerService {
       if (Objects.equals(topicOwnerTeamId, loggedInUserTeamId)) {
         String status = manageDatabase.getHandleDbRequests().updateTopicDocumentation(topic);
         if (status.equals(ApiResultStatus.SUCCESS.value)) {
-          commonUtilsService.updateMetadata(
-              tenantId, EntityType.TOPICS, MetadataOperationType.UPDATE, null);
+          commonUtilsService.updateTopicsMetadata(
+              tenantId, MetadataOperationType.UPDATE, List.of(topicInfo.getTopicName()));
         }
         return ApiResultStatus.SUCCESS.value.equals(status)
             ? ApiResponse.ok(status)
@@ -1064,6 +1257,15 @@ public class TopicControllerService {
     return manageDatabase.getHandleDbRequests().getTopicRequestsForTopic(topicReqId, tenantId);
   }
 
+  private Map<Integer, TopicRequest> getTopicRequestsFromTopicIds(
+      List<String> topicIds, int tenantId) {
+    return manageDatabase
+        .getHandleDbRequests()
+        .getTopicRequestsForTopicIds(UtilMethods.parseRequestIds(topicIds), tenantId)
+        .stream()
+        .collect(Collectors.toMap(TopicRequest::getTopicid, Function.identity()));
+  }
+
   static class TopicNameComparator implements Comparator<Topic> {
     @Override
     public int compare(Topic topic1, Topic topic2) {
@@ -1148,95 +1350,34 @@ public class TopicControllerService {
     topicsFromSOT = commonUtilsService.getFilteredTopicsForTenant(topicsFromSOT);
 
     // tenant filtering
-    List<Env> listAllEnvs = manageDatabase.getKafkaEnvList(tenantId);
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
 
     topicsFromSOT = commonUtilsService.groupTopicsByEnv(topicsFromSOT);
-    List<Topic> filterProducerConsumerList = new ArrayList<>();
-
-    topicsFromSOT =
-        getProducerConsumerFilterTopics(
-            producerConsumerTopics, topicsFromSOT, filterProducerConsumerList);
-
-    List<Topic> topicFilteredList = topicsFromSOT;
-    topicFilteredList =
-        getTopicsFromTopicSearchFilters(topicNameSearch, topicsFromSOT, topicFilteredList);
-
-    topicsFromSOT =
-        topicFilteredList.stream().sorted(new TopicNameComparator()).collect(Collectors.toList());
-
-    return getTopicInfoList(topicsFromSOT, pageNo, currentPage, listAllEnvs, orderOfEnvs, tenantId);
-  }
+    if (!producerConsumerTopics.isEmpty()) {
+      topicsFromSOT =
+          UtilMethods.filterProducerConsumerTopics(producerConsumerTopics, topicsFromSOT);
+    }
 
-  private static List<Topic> getTopicsFromTopicSearchFilters(
-      String topicNameSearch, List<Topic> topicsFromSOT, List<Topic> topicFilteredList) {
-    // Filter topics on topic name for search
     if (topicNameSearch != null && topicNameSearch.length() > 0) {
-      final String topicSearchFilter = topicNameSearch;
-      topicFilteredList =
-          topicsFromSOT.stream()
-              .filter(
-                  topic ->
-                      topic.getTopicname().toLowerCase().contains(topicSearchFilter.toLowerCase()))
-              .collect(Collectors.toList());
+      topicsFromSOT = getTopicsFromTopicSearchFilters(topicNameSearch, topicsFromSOT, tenantId);
+    } else {
+      topicsFromSOT =
+          topicsFromSOT.stream().sorted(new TopicNameComparator()).collect(Collectors.toList());
+    }
 
-      // searching documentation
-      List<Topic> searchDocList =
-          topicsFromSOT.stream()
-              .filter(
-                  topic ->
-                      (topic.getDocumentation() != null
-                          && topic
-                              .getDocumentation()
-                              .toLowerCase()
-                              .contains(topicSearchFilter.toLowerCase())))
-              .toList();
-
-      topicFilteredList.addAll(searchDocList);
-      topicFilteredList =
-          new ArrayList<>(
-              topicFilteredList.stream()
-                  .collect(
-                      Collectors.toConcurrentMap(
-                          Topic::getTopicname, Function.identity(), (p, q) -> p))
-                  .values());
-    }
-    return topicFilteredList;
+    return getTopicInfoList(topicsFromSOT, pageNo, currentPage, envGraph, tenantId);
   }
 
-  private static List<Topic> getProducerConsumerFilterTopics(
-      List<Topic> producerConsumerTopics,
-      List<Topic> topicsFromSOT,
-      List<Topic> filterProducerConsumerList) {
-    String tmpTopicFull;
-    String tmpTopicSub;
-    if (!producerConsumerTopics.isEmpty()) {
-      for (Topic topicInfo : topicsFromSOT) {
-        for (Topic producerConsumerTopic : producerConsumerTopics) {
-          tmpTopicFull = producerConsumerTopic.getTopicname();
-
-          String prefixVar = "--";
-          if (tmpTopicFull.endsWith(
-              prefixVar + AclPatternType.PREFIXED + prefixVar)) { // has prefixed acl
-            tmpTopicSub =
-                tmpTopicFull.replaceAll(prefixVar + AclPatternType.PREFIXED + prefixVar, "");
-            if (topicInfo.getTopicname().startsWith(tmpTopicSub)
-                && topicInfo
-                    .getEnvironmentsList()
-                    .contains(producerConsumerTopic.getEnvironment())) {
-              topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-              filterProducerConsumerList.add(topicInfo);
-            }
-          } else if (Objects.equals(producerConsumerTopic.getTopicname(), topicInfo.getTopicname())
-              && topicInfo.getEnvironmentsList().contains(producerConsumerTopic.getEnvironment())) {
-            topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-            filterProducerConsumerList.add(topicInfo);
-          }
-        }
-      }
-      topicsFromSOT = filterProducerConsumerList;
-    }
-    return topicsFromSOT;
+  // topics matching the name or documentation, in the order of their relevance
+  private List<Topic> getTopicsFromTopicSearchFilters(
+      String topicNameSearch, List<Topic> topicsFromSOT, int tenantId) {
+    Map<String, Topic> topicsByName =
+        topicsFromSOT.stream()
+            .collect(Collectors.toMap(Topic::getTopicname, Function.identity(), (p, q) -> p));
+    return manageDatabase.getTopicSearchIndex(tenantId).search(topicNameSearch).stream()
+        .map(topicsByName::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   private List<List<TopicInfo>> getPagedList(List<TopicInfo> topicsList) {
@@ -1272,8 +1413,7 @@ public class TopicControllerService {
       List<Topic> topicsFromSOT,
       String pageNo,
       String currentPage,
-      List<Env> listAllEnvs,
-      String orderOfEnvs,
+      EnvGraph envGraph,
       int tenantId) {
     int totalRecs = topicsFromSOT.size();
     int recsPerPage = 21;
@@ -1301,11 +1441,13 @@ public class TopicControllerService {
         Topic topicSOT = topicsFromSOT.get(i);
 
         List<String> envList = topicSOT.getEnvironmentsList();
-        envList.sort(Comparator.comparingInt(orderOfEnvs::indexOf));
+        envList.sort(
+            Comparator.comparingInt(
+                envId -> envGraph.getPosition(EnvOrder.TOPIC_PROMOTION, envId)));
 
         mp.setTopicid(topicSOT.getTopicid());
         mp.setEnvId(topicSOT.getEnvironment());
-        mp.setEnvironmentsList(KlawResourceUtils.getConvertedEnvs(listAllEnvs, envList));
+        mp.setEnvironmentsList(KlawResourceUtils.getConvertedEnvs(envList, envGraph::getKafkaEnv));
         mp.setTopicName(topicSOT.getTopicname());
         mp.setTeamId(topicSOT.getTeamId());
         mp.setTeamname(manageDatabase.getTeamNameFromTeamId(tenantId, topicSOT.getTeamId()));
@@ -1337,11 +1479,9 @@ public class TopicControllerService {
   }
 
   public Env getEnvDetails(String envId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(commonUtilsService.getTenantId(getUserName())).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase
+        .getEnvGraph(commonUtilsService.getTenantId(getUserName()))
+        .getKafkaEnv(envId);
   }
 
   public Map<String, String> getTopicEvents(
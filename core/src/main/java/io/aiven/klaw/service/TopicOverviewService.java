@@ -1,14 +1,16 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.TOPIC_OVW_ERR_101;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.helpers.HandleDbRequests;
-import io.aiven.klaw.helpers.KlawResourceUtils;
+import io.aiven.klaw.helpers.TopicOverviewCache;
+import io.aiven.klaw.helpers.TopicOverviewCache.TopicOverviewData;
 import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.ResourceHistory;
 import io.aiven.klaw.model.TopicConfigurationRequest;
@@ -24,17 +26,21 @@ import io.aiven.klaw.model.response.TopicOverview;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class TopicOverviewService extends BaseOverviewService {
 
+  @Autowired private TopicOverviewCache topicOverviewCache;
+
   public TopicOverviewService(MailUtils mailService) {
     super(mailService);
   }
@@ -50,7 +56,6 @@ public class TopicOverviewService extends BaseOverviewService {
     }
 
     String userName = getUserName();
-    HandleDbRequests handleDb = manageDatabase.getHandleDbRequests();
     int tenantId = commonUtilsService.getTenantId(userName);
 
     Integer loggedInUserTeam = commonUtilsService.getTeamId(userName);
@@ -72,6 +77,7 @@ public class TopicOverviewService extends BaseOverviewService {
     } else {
       topicOverview.setTopicExists(true);
     }
+    TopicOverviewData overviewData = getTopicOverviewData(topicName, originalSetTopics, tenantId);
 
     Pair<String, List<Topic>> topicsPair =
         filterByEnvIdParameter(environmentId, tenantId, topics, topicOverview);
@@ -95,7 +101,7 @@ public class TopicOverviewService extends BaseOverviewService {
 
     enrichTopicInfoList(
         topicName,
-        handleDb,
+        overviewData,
         tenantId,
         loggedInUserTeam,
         topicInfoList,
@@ -108,6 +114,7 @@ public class TopicOverviewService extends BaseOverviewService {
 
     updateTopicOverviewItems(
         topicName,
+        overviewData,
         tenantId,
         loggedInUserTeam,
         originalSetTopics,
@@ -124,19 +131,14 @@ public class TopicOverviewService extends BaseOverviewService {
       String environmentId, int tenantId, List<Topic> topics, TopicOverview topicOverview) {
     List<EnvIdInfo> availableEnvs = new ArrayList<>();
     List<EnvIdInfo> availableEnvsNotInPromotionOrder = new ArrayList<>();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
-    List<String> orderOfEnvsArrayList = KlawResourceUtils.getOrderedEnvsList(orderOfEnvs);
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
     topics.forEach(
         topic -> {
           EnvIdInfo envIdInfo = new EnvIdInfo();
           envIdInfo.setId(topic.getEnvironment());
-          envIdInfo.setName(
-              manageDatabase.getKafkaEnvList(tenantId).stream()
-                  .filter(env -> env.getId().equals(topic.getEnvironment()))
-                  .map(Env::getName)
-                  .findFirst()
-                  .orElse("ENV_NOT_FOUND"));
-          if (orderOfEnvsArrayList.contains(envIdInfo.getId())) {
+          Env env = envGraph.getKafkaEnv(topic.getEnvironment());
+          envIdInfo.setName(env != null ? env.getName() : "ENV_NOT_FOUND");
+          if (envGraph.isInOrder(EnvOrder.TOPIC_PROMOTION, envIdInfo.getId())) {
             availableEnvs.add(envIdInfo);
           } else {
             availableEnvsNotInPromotionOrder.add(envIdInfo);
@@ -145,7 +147,7 @@ public class TopicOverviewService extends BaseOverviewService {
 
     availableEnvs.sort(
         Comparator.comparingInt(
-            topicEnv -> Objects.requireNonNull(orderOfEnvs).indexOf(topicEnv.getId())));
+            topicEnv -> envGraph.getPosition(EnvOrder.TOPIC_PROMOTION, topicEnv.getId())));
     availableEnvs.addAll(availableEnvsNotInPromotionOrder);
     topicOverview.setAvailableEnvironments(availableEnvs);
 
@@ -158,43 +160,52 @@ public class TopicOverviewService extends BaseOverviewService {
     return Pair.of(environmentId, topics);
   }
 
+  // acls, open requests and schemas of all envs of the topic, in a few queries
+  private TopicOverviewData getTopicOverviewData(
+      String topicName, List<Topic> topics, int tenantId) {
+    Set<String> envIds = topics.stream().map(Topic::getEnvironment).collect(Collectors.toSet());
+    return topicOverviewCache.get(
+        tenantId, topicName, envIds, () -> loadTopicOverviewData(topicName, envIds, tenantId));
+  }
+
+  private TopicOverviewData loadTopicOverviewData(
+      String topicName, Set<String> envIds, int tenantId) {
+    HandleDbRequests handleDb = manageDatabase.getHandleDbRequests();
+    String requestStatus = RequestStatus.CREATED.value;
+    return new TopicOverviewData(
+        List.copyOf(handleDb.getSyncAcls(envIds, topicName, tenantId)),
+        List.copyOf(handleDb.getPrefixedAclsMatchingTopic(envIds, topicName, tenantId)),
+        Map.copyOf(handleDb.getTopicRequestTypesPerEnv(topicName, requestStatus, tenantId)),
+        Set.copyOf(handleDb.getEnvsOfAclRequests(topicName, requestStatus, tenantId)),
+        Set.copyOf(handleDb.getEnvsOfSchemaRequests(topicName, requestStatus, tenantId)),
+        Set.copyOf(handleDb.getEnvsOfSchemas(topicName, tenantId)));
+  }
+
   private void enrichTopicInfoList(
       String topicNameSearch,
-      HandleDbRequests handleDb,
+      TopicOverviewData overviewData,
       int tenantId,
       Integer loggedInUserTeam,
       List<TopicOverviewInfo> topicInfoList,
       List<AclOverviewInfo> aclInfo,
       List<AclOverviewInfo> prefixedAclsInfo,
       Integer topicOwnerTeamId) {
-    List<Acl> prefixedAcls = new ArrayList<>();
-    List<Acl> aclsFromSOT = new ArrayList<>();
-    List<Acl> allPrefixedAcls;
-    List<AclOverviewInfo> tmpAclPrefixed;
-    List<AclOverviewInfo> tmpAcl;
+    Set<String> envIds =
+        topicInfoList.stream().map(TopicOverviewInfo::getEnvId).collect(Collectors.toSet());
+    List<Acl> acls =
+        overviewData.acls().stream()
+            .filter(acl -> envIds.contains(acl.getEnvironment()))
+            .filter(acl -> topicNameSearch.equals(acl.getTopicname()))
+            .toList();
+    aclInfo.addAll(applyFiltersAclsForSOT(loggedInUserTeam, acls, tenantId));
+
+    List<Acl> prefixedAcls =
+        overviewData.prefixedAcls().stream()
+            .filter(acl -> envIds.contains(acl.getEnvironment()))
+            .toList();
+    prefixedAclsInfo.addAll(applyFiltersAclsForSOT(loggedInUserTeam, prefixedAcls, tenantId));
 
     for (TopicOverviewInfo topicInfo : topicInfoList) {
-      aclsFromSOT.addAll(getAclsFromSOT(topicInfo.getEnvId(), topicNameSearch, false, tenantId));
-
-      tmpAcl =
-          applyFiltersAclsForSOT(loggedInUserTeam, aclsFromSOT, tenantId).stream()
-              .collect(Collectors.groupingBy(AclOverviewInfo::getTopicname))
-              .get(topicNameSearch);
-
-      if (tmpAcl != null) {
-        aclInfo.addAll(tmpAcl);
-      }
-
-      allPrefixedAcls = handleDb.getPrefixedAclsSOT(topicInfo.getEnvId(), tenantId);
-      if (allPrefixedAcls != null && allPrefixedAcls.size() > 0) {
-        for (Acl allPrefixedAcl : allPrefixedAcls) {
-          if (topicNameSearch.startsWith(allPrefixedAcl.getTopicname())) {
-            prefixedAcls.add(allPrefixedAcl);
-          }
-        }
-        tmpAclPrefixed = applyFiltersAclsForSOT(loggedInUserTeam, prefixedAcls, tenantId);
-        prefixedAclsInfo.addAll(tmpAclPrefixed);
-      }
       setHasAcl(aclInfo, topicInfo);
       // show edit button only forenv owned by your team
       if (Objects.equals(topicOwnerTeamId, loggedInUserTeam)) {
@@ -205,11 +216,11 @@ public class TopicOverviewService extends BaseOverviewService {
   }
 
   private void setHasOpenRequestBooleans(
-      TopicOverviewInfo topicInfo, String topicName, String envId, int tenantId) {
-    topicInfo.setHasOpenACLRequest(isACLRequestOpen(topicName, envId, tenantId));
-    topicInfo.setHasOpenTopicRequest(isTopicRequestOpen(topicName, envId, tenantId));
-    topicInfo.setHasOpenSchemaRequest(isSchemaRequestOpen(topicName, envId, tenantId));
-    topicInfo.setHasOpenClaimRequest(isClaimTopicRequestOpen(topicName, tenantId));
+      TopicOverviewInfo topicInfo, TopicOverviewData overviewData, String envId, int tenantId) {
+    topicInfo.setHasOpenACLRequest(overviewData.openAclRequestEnvs().contains(envId));
+    topicInfo.setHasOpenTopicRequest(overviewData.isTopicRequestOpen(envId));
+    topicInfo.setHasOpenSchemaRequest(isSchemaRequestOpen(overviewData, envId, tenantId));
+    topicInfo.setHasOpenClaimRequest(isClaimTopicRequestOpen(overviewData));
     topicInfo.setHasOpenRequest(
         topicInfo.isHasOpenACLRequest()
             || topicInfo.isHasOpenSchemaRequest()
@@ -218,17 +229,12 @@ public class TopicOverviewService extends BaseOverviewService {
   }
 
   private void setHasOpenRequestOnly(
-      TopicOverviewInfo topicInfo, String topicName, String envId, int tenantId) {
+      TopicOverviewInfo topicInfo, TopicOverviewData overviewData, String envId, int tenantId) {
     topicInfo.setHasOpenRequest(
-        isACLRequestOpen(topicName, envId, tenantId)
-            || isSchemaRequestOpen(topicName, envId, tenantId)
-            || isTopicRequestOpen(topicName, envId, tenantId)
-            || isClaimTopicRequestOpen(topicName, tenantId));
-  }
-
-  private void setHasSchema(
-      TopicOverviewInfo topicInfo, String topicName, String envId, int tenantId) {
-    topicInfo.setHasSchema(commonUtilsService.existsSchemaForTopic(topicName, envId, tenantId));
+        overviewData.openAclRequestEnvs().contains(envId)
+            || isSchemaRequestOpen(overviewData, envId, tenantId)
+            || overviewData.isTopicRequestOpen(envId)
+            || isClaimTopicRequestOpen(overviewData));
   }
 
   private void setHasAcl(List<AclOverviewInfo> aclInfo, TopicOverviewInfo topicInfo) {
@@ -296,6 +302,7 @@ public class TopicOverviewService extends BaseOverviewService {
 
   private void updateTopicOverviewItems(
       String topicNameSearch,
+      TopicOverviewData overviewData,
       int tenantId,
       Integer loggedInUserTeam,
       List<Topic> originalSetTopics,
@@ -307,7 +314,8 @@ public class TopicOverviewService extends BaseOverviewService {
     try {
       if (Objects.equals(topicOwnerTeam, loggedInUserTeam)) {
         topicOverview.setTopicPromotionDetails(
-            getTopicPromotionEnv(topicNameSearch, originalSetTopics, tenantId, environmentId));
+            getTopicPromotionEnv(
+                topicNameSearch, overviewData, originalSetTopics, tenantId, environmentId));
 
         if (topicInfoList.size() > 0) {
           TopicOverviewInfo lastItem = topicInfoList.get(topicInfoList.size() - 1);
@@ -325,15 +333,14 @@ public class TopicOverviewService extends BaseOverviewService {
                       .get(topicOverview.getAvailableEnvironments().size() - 1)
                       .getId(),
                   lastItem.getEnvId()));
-          setHasOpenRequestBooleans(lastItem, topicNameSearch, environmentId, tenantId);
-          setHasSchema(lastItem, topicNameSearch, environmentId, tenantId);
+          setHasOpenRequestBooleans(lastItem, overviewData, environmentId, tenantId);
+          lastItem.setHasSchema(overviewData.schemaEnvs().contains(environmentId));
           lastItem.setShowDeleteTopic(
               lastItem.isTopicDeletable()
                   && lastItem.isHighestEnv()
                   && !lastItem.isHasOpenRequest());
 
-          topicOverview.setSchemaExists(
-              commonUtilsService.existsSchemaForTopic(topicNameSearch, environmentId, tenantId));
+          topicOverview.setSchemaExists(lastItem.isHasSchema());
         }
         Env env = commonUtilsService.getEnvDetails(environmentId, tenantId);
         if (env != null && env.getAssociatedEnv() != null) {
@@ -346,14 +353,11 @@ public class TopicOverviewService extends BaseOverviewService {
         promotionStatus.setStatus(PromotionStatusType.NOT_AUTHORIZED);
         topicOverview.setTopicPromotionDetails(promotionStatus);
         if (topicInfoList.size() > 0) {
-          topicInfoList
-              .get(0)
-              .setHasOpenClaimRequest(isClaimTopicRequestOpen(topicNameSearch, tenantId));
+          topicInfoList.get(0).setHasOpenClaimRequest(isClaimTopicRequestOpen(overviewData));
           if (topicInfoList.get(0).isHasOpenClaimRequest()) {
             topicInfoList.get(0).setHasOpenRequest(true);
           } else {
-            // only make call to db if it is required.
-            setHasOpenRequestOnly(topicInfoList.get(0), topicNameSearch, environmentId, tenantId);
+            setHasOpenRequestOnly(topicInfoList.get(0), overviewData, environmentId, tenantId);
           }
         }
       }
@@ -364,72 +368,47 @@ public class TopicOverviewService extends BaseOverviewService {
     }
   }
 
-  private boolean isTopicRequestOpen(String topicName, String environmentId, int tenantId) {
-    return manageDatabase
-        .getHandleDbRequests()
-        .existsTopicRequest(topicName, RequestStatus.CREATED.value, environmentId, tenantId);
-  }
-
-  private boolean isClaimTopicRequestOpen(String topicName, int tenantId) {
-    return manageDatabase
-        .getHandleDbRequests()
-        .existsClaimTopicRequest(topicName, RequestStatus.CREATED.value, tenantId);
+  private boolean isClaimTopicRequestOpen(TopicOverviewData overviewData) {
+    return overviewData.isTopicRequestOpenInAnyEnv(RequestOperationType.CLAIM.value);
   }
 
-  private boolean isTopicPromoteRequestOpen(String topicName, String environmentId, int tenantId) {
-    return manageDatabase
-        .getHandleDbRequests()
-        .existsTopicRequest(
-            topicName,
-            RequestStatus.CREATED.value,
-            RequestOperationType.PROMOTE.value,
-            environmentId,
-            tenantId);
-  }
-
-  private boolean isACLRequestOpen(String topicName, String environmentId, int tenantId) {
-
-    return manageDatabase
-        .getHandleDbRequests()
-        .existsAclRequest(topicName, RequestStatus.CREATED.value, environmentId, tenantId);
-  }
-
-  private boolean isSchemaRequestOpen(String topicName, String envId, int tenantId) {
+  private boolean isSchemaRequestOpen(TopicOverviewData overviewData, String envId, int tenantId) {
     return manageDatabase
         .getAssociatedSchemaEnvIdFromTopicId(envId, tenantId)
-        .filter(
-            s ->
-                manageDatabase
-                    .getHandleDbRequests()
-                    .existsSchemaRequest(topicName, RequestStatus.CREATED.value, s, tenantId))
+        .filter(overviewData.openSchemaRequestEnvs()::contains)
         .isPresent();
   }
 
   private PromotionStatus getTopicPromotionEnv(
-      String topicSearch, List<Topic> topics, int tenantId, String environmentId) {
+      String topicSearch,
+      TopicOverviewData overviewData,
+      List<Topic> topics,
+      int tenantId,
+      String environmentId) {
     PromotionStatus promotionStatus = new PromotionStatus();
     try {
       if (topics == null) {
         topics = manageDatabase.getHandleDbRequests().getTopics(topicSearch, tenantId);
       }
       promotionStatus.setTopicName(topicSearch);
-      String orderEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
-      List<String> envOrderList = KlawResourceUtils.getOrderedEnvsList(orderEnvs);
 
       if (topics != null && topics.size() > 0) {
         List<String> envList =
             topics.stream().map(Topic::getEnvironment).collect(Collectors.toList());
 
-        generatePromotionDetails(tenantId, promotionStatus, envList, orderEnvs);
+        generatePromotionDetails(tenantId, promotionStatus, envList);
         // Ex : If topic exists in D, T, then promotion to A is displayed when topic overview is for
         // T env
         if (promotionStatus.getTargetEnvId() != null) {
           String targetEnvId = promotionStatus.getTargetEnvId();
-          if (!((envOrderList.indexOf(targetEnvId) - envOrderList.indexOf(environmentId)) == 1)
-              || !envOrderList.contains(environmentId)) {
+          String nextEnvId =
+              manageDatabase
+                  .getEnvGraph(tenantId)
+                  .getNextEnvId(EnvOrder.TOPIC_PROMOTION, environmentId);
+          if (!targetEnvId.equals(nextEnvId)) {
             promotionStatus.setStatus(PromotionStatusType.NO_PROMOTION);
-          } else if (isTopicPromoteRequestOpen(
-              topicSearch, promotionStatus.getTargetEnvId(), tenantId)) {
+          } else if (overviewData.isTopicRequestOpen(
+              targetEnvId, RequestOperationType.PROMOTE.value)) {
             promotionStatus.setStatus(PromotionStatusType.REQUEST_OPEN);
           }
         }
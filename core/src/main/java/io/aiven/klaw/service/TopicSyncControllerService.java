@@ -10,7 +10,6 @@ import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_105;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_106;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_107;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_108;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 import static org.springframework.beans.BeanUtils.copyProperties;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,33 +21,33 @@ import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.helpers.KlawResourceUtils;
 import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
-import io.aiven.klaw.model.KwMetadataUpdates;
 import io.aiven.klaw.model.SyncBackTopics;
 import io.aiven.klaw.model.SyncTopicUpdates;
 import io.aiven.klaw.model.SyncTopicsBulk;
 import io.aiven.klaw.model.TopicInfo;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
-import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.SyncTopicsList;
 import io.aiven.klaw.model.response.TopicConfig;
 import io.aiven.klaw.model.response.TopicSyncResponseModel;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -78,51 +77,6 @@ public class TopicSyncControllerService {
 
   private int topicCounter = 0;
 
-  // default at 7 am everyday
-  //    @Scheduled(cron = "${klaw.recontopics.fixedtime:0 7 * * ?}")
-  public void getReconTopicsScheduledAsync() {
-    CompletableFuture.runAsync(this::getReconTopicsScheduled);
-  }
-
-  public void getReconTopicsScheduled() {
-    Map<Integer, List<String>> envTenantMap = manageDatabase.getEnvsOfTenantsMap();
-    Map<Integer, String> tenantMap = manageDatabase.getTenantMap();
-    List<Integer> tenants = new ArrayList<>(envTenantMap.keySet());
-
-    for (Integer tenantId : tenants) {
-      List<String> envsStrList = envTenantMap.get(tenantId);
-      StringBuilder reconStr = new StringBuilder();
-      reconStr.append("Tenant : ").append(tenantMap.get(tenantId)).append("\n");
-
-      for (String envStr : envsStrList) {
-        reconStr = new StringBuilder();
-        try {
-          List<TopicSyncResponseModel> results =
-              getReconTopics(envStr, "-1", "", null, "false", false).getResultSet();
-
-          for (TopicSyncResponseModel topicRequestModel : results) {
-            reconStr
-                .append(topicRequestModel.getTopicname())
-                .append(topicRequestModel.getEnvironmentName())
-                .append(topicRequestModel.getRemarks())
-                .append("\n");
-          }
-
-          if (!results.isEmpty()) {
-            mailService.sendReconMailToAdmin(
-                "Reconciliation of Topics",
-                reconStr.toString(),
-                tenantMap.get(tenantId),
-                tenantId,
-                commonUtilsService.getLoginUrl());
-          }
-        } catch (Exception e) {
-          log.error("Exception:", e);
-        }
-      }
-    }
-  }
-
   public SyncTopicsList getReconTopics(
       String envId,
       String pageNo,
@@ -531,6 +485,8 @@ public class TopicSyncControllerService {
     resultStatus.add(ApiResultStatus.SUCCESS.value);
     resultMap.put("result", resultStatus);
 
+    // the cache of all servers is updated once for the created topics
+    List<String> createdTopicNames = new ArrayList<>();
     if ("SELECTED_TOPICS".equals(syncBackTopics.getTypeOfSync())) {
       for (String topicId : syncBackTopics.getTopicIds()) {
         Optional<Topic> topicFoundOptional =
@@ -540,7 +496,8 @@ public class TopicSyncControllerService {
         Topic topicFound;
         if (topicFoundOptional.isPresent()) {
           topicFound = topicFoundOptional.get();
-          approveSyncBackTopics(syncBackTopics, resultMap, logArray, topicFound, tenantId);
+          approveSyncBackTopics(
+              syncBackTopics, resultMap, logArray, topicFound, createdTopicNames, tenantId);
         }
       }
     } else {
@@ -549,9 +506,14 @@ public class TopicSyncControllerService {
               .getHandleDbRequests()
               .getTopicsFromEnv(syncBackTopics.getSourceEnv(), tenantId);
       for (Topic topicFound : topics) {
-        approveSyncBackTopics(syncBackTopics, resultMap, logArray, topicFound, tenantId);
+        approveSyncBackTopics(
+            syncBackTopics, resultMap, logArray, topicFound, createdTopicNames, tenantId);
       }
     }
+    if (!createdTopicNames.isEmpty()) {
+      commonUtilsService.updateTopicsMetadata(
+          tenantId, MetadataOperationType.CREATE, createdTopicNames);
+    }
 
     String result = resultMap.get("result").get(0);
     return ApiResponse.builder()
@@ -566,6 +528,7 @@ public class TopicSyncControllerService {
       Map<String, List<String>> resultMap,
       List<String> logUpdateSyncBackTopics,
       Topic topicFound,
+      List<String> createdTopicNames,
       int tenantId) {
     try {
       ResponseEntity<ApiResponse> response =
@@ -596,7 +559,7 @@ public class TopicSyncControllerService {
       } else {
         logUpdateSyncBackTopics.add("Topic created " + topicFound.getTopicname());
         if (!Objects.equals(syncBackTopics.getSourceEnv(), syncBackTopics.getTargetEnv())) {
-          createAndApproveTopicRequest(syncBackTopics, topicFound, tenantId);
+          createAndApproveTopicRequest(syncBackTopics, topicFound, createdTopicNames, tenantId);
         }
       }
     } catch (KlawException e) {
@@ -608,7 +571,10 @@ public class TopicSyncControllerService {
   }
 
   private void createAndApproveTopicRequest(
-      SyncBackTopics syncBackTopics, Topic topicFound, int tenantId) {
+      SyncBackTopics syncBackTopics,
+      Topic topicFound,
+      List<String> createdTopicNames,
+      int tenantId) {
     List<Topic> topics = getTopicFromName(topicFound.getTopicname(), tenantId);
     Integer teamName;
     if (topics != null && topics.size() > 0) {
@@ -633,23 +599,11 @@ public class TopicSyncControllerService {
         topicRequest.setTopicid(Integer.parseInt(createResult.get("topicId")));
         CRUDResponse<Topic> saveResults =
             manageDatabase.getHandleDbRequests().updateTopicRequest(topicRequest, getUserName());
-        // entities size should always be equal to 1 as they are saved one at a time here.
-        if (saveResults.getResultStatus().equals(ApiResultStatus.SUCCESS.value)
-            && saveResults.getEntities().size() > 1) {
-          manageDatabase.addTopicToCache(tenantId, saveResults.getEntities().get(0));
+        if (saveResults.getResultStatus().equals(ApiResultStatus.SUCCESS.value)) {
+          createdTopicNames.add(topicFound.getTopicname());
         }
       }
     }
-    // Single reset on other servers.
-    // Later this should be updated to send particular object across instead of having the cache
-    // reloaded on the other side.
-
-    commonUtilsService.resetCacheOnOtherServers(
-        KwMetadataUpdates.builder()
-            .tenantId(tenantId)
-            .entityType(EntityType.TOPICS.name())
-            .operationType(RequestOperationType.CREATE.value)
-            .build());
   }
 
   public List<TopicInfo> getTopicsRowView(
@@ -704,35 +658,12 @@ public class TopicSyncControllerService {
     topicsFromSOT = commonUtilsService.getFilteredTopicsForTenant(topicsFromSOT);
 
     // tenant filtering
-    List<Env> listAllEnvs = manageDatabase.getKafkaEnvList(tenantId);
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
 
     topicsFromSOT = commonUtilsService.groupTopicsByEnv(topicsFromSOT);
-    List<Topic> filterProducerConsumerList = new ArrayList<>();
-    String tmpTopicFull, tmpTopicSub;
-
-    if (producerConsumerTopics.size() > 0) {
-      for (Topic topicInfo : topicsFromSOT) {
-        for (Topic producerConsumerTopic : producerConsumerTopics) {
-          tmpTopicFull = producerConsumerTopic.getTopicname();
-
-          if (tmpTopicFull.endsWith("--PREFIXED--")) { // has prefixed acl
-            tmpTopicSub = tmpTopicFull.replaceAll("--PREFIXED--", "");
-            if (topicInfo.getTopicname().startsWith(tmpTopicSub)
-                && topicInfo
-                    .getEnvironmentsList()
-                    .contains(producerConsumerTopic.getEnvironment())) {
-              topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-              filterProducerConsumerList.add(topicInfo);
-            }
-          } else if (Objects.equals(producerConsumerTopic.getTopicname(), topicInfo.getTopicname())
-              && topicInfo.getEnvironmentsList().contains(producerConsumerTopic.getEnvironment())) {
-            topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-            filterProducerConsumerList.add(topicInfo);
-          }
-        }
-      }
-      topicsFromSOT = filterProducerConsumerList;
+    if (!producerConsumerTopics.isEmpty()) {
+      topicsFromSOT =
+          UtilMethods.filterProducerConsumerTopics(producerConsumerTopics, topicsFromSOT);
     }
 
     List<Topic> topicFilteredList = topicsFromSOT;
@@ -768,15 +699,14 @@ public class TopicSyncControllerService {
             .sorted(new TopicControllerService.TopicNameComparator())
             .collect(Collectors.toList());
 
-    return getTopicInfoList(topicsFromSOT, pageNo, currentPage, listAllEnvs, orderOfEnvs, tenantId);
+    return getTopicInfoList(topicsFromSOT, pageNo, currentPage, envGraph, tenantId);
   }
 
   private List<TopicInfo> getTopicInfoList(
       List<Topic> topicsFromSOT,
       String pageNo,
       String currentPage,
-      List<Env> listAllEnvs,
-      String orderOfEnvs,
+      EnvGraph envGraph,
       int tenantId) {
     int totalRecs = topicsFromSOT.size();
     int recsPerPage = 21;
@@ -802,11 +732,13 @@ public class TopicSyncControllerService {
         Topic topicSOT = topicsFromSOT.get(i);
 
         List<String> envList = topicSOT.getEnvironmentsList();
-        envList.sort(Comparator.comparingInt(orderOfEnvs::indexOf));
+        envList.sort(
+            Comparator.comparingInt(
+                envId -> envGraph.getPosition(EnvOrder.TOPIC_PROMOTION, envId)));
 
         mp.setTopicid(topicSOT.getTopicid());
         mp.setEnvName(topicSOT.getEnvironment());
-        mp.setEnvironmentsList(KlawResourceUtils.getConvertedEnvs(listAllEnvs, envList));
+        mp.setEnvironmentsList(KlawResourceUtils.getConvertedEnvs(envList, envGraph::getKafkaEnv));
         mp.setTopicName(topicSOT.getTopicname());
         mp.setTeamname(manageDatabase.getTeamNameFromTeamId(tenantId, topicSOT.getTeamId()));
 
@@ -980,7 +912,7 @@ public class TopicSyncControllerService {
     // tenant filtering
     int tenantId = commonUtilsService.getTenantId(getUserName());
     String syncCluster = manageDatabase.getTenantConfig().get(tenantId).getBaseSyncEnvironment();
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
+    EnvGraph envGraph = manageDatabase.getEnvGraph(tenantId);
 
     List<Topic> existingTopics;
     List<Topic> listTopics = new ArrayList<>();
@@ -1002,6 +934,8 @@ public class TopicSyncControllerService {
                         && !topicUpdate.getTeamSelected().equals(""))
             .collect(Collectors.toList());
 
+    Set<String> syncedTopicNames =
+        updatedSyncTopics.stream().map(SyncTopicUpdates::getTopicName).collect(Collectors.toSet());
     List<Integer> updatedSyncTopicsDelete = new ArrayList<>();
     updatedSyncTopics = handleTopicDeletes(updatedSyncTopics, updatedSyncTopicsDelete, tenantId);
 
@@ -1030,7 +964,7 @@ public class TopicSyncControllerService {
           }
         } else if (!Objects.equals(syncCluster, topicUpdate.getEnvSelected())) {
           erroredTopicsExist.append(topicUpdate.getTopicName()).append(" ");
-          if (checkInPromotionOrder(topicUpdate.getEnvSelected(), orderOfEnvs)) {
+          if (envGraph.isInOrder(EnvOrder.TOPIC_PROMOTION, topicUpdate.getEnvSelected())) {
             topicsDontExistInMainCluster = true;
           }
         }
@@ -1109,7 +1043,8 @@ public class TopicSyncControllerService {
     }
 
     if (updatedSyncTopics.size() == 0 && updatedSyncTopicsDelete.size() > 0) {
-      manageDatabase.loadTopicsForOneTenant(tenantId);
+      commonUtilsService.updateTopicsMetadata(
+          tenantId, MetadataOperationType.DELETE, syncedTopicNames);
       return ApiResponse.SUCCESS;
     }
 
@@ -1127,7 +1062,8 @@ public class TopicSyncControllerService {
       try {
         CRUDResponse<Topic> statusSync =
             manageDatabase.getHandleDbRequests().addToSynctopics(listTopics);
-        manageDatabase.loadTopicsForOneTenant(tenantId);
+        commonUtilsService.updateTopicsMetadata(
+            tenantId, MetadataOperationType.UPDATE, syncedTopicNames);
 
         return ApiResponse.ok(statusSync.getResultStatus());
       } catch (Exception e) {
@@ -1178,16 +1114,9 @@ public class TopicSyncControllerService {
   }
 
   public Env getEnvDetails(String envId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(commonUtilsService.getTenantId(getUserName())).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
-  }
-
-  private boolean checkInPromotionOrder(String envId, String orderOfEnvs) {
-    List<String> orderedEnv = Arrays.asList(orderOfEnvs.split(","));
-    return orderedEnv.contains(envId);
+    return manageDatabase
+        .getEnvGraph(commonUtilsService.getTenantId(getUserName()))
+        .getKafkaEnv(envId);
   }
 
   private String doesTopicConformToEnvValidation(
@@ -56,7 +56,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -384,23 +383,22 @@ public class UsersTeamsControllerService {
         getTeamModels(manageDatabase.getTeamObjForTenant(tenantId));
 
     if (!commonUtilsService.isNotAuthorizedUser(userName, PermissionType.ADD_EDIT_DELETE_TEAMS)) {
+      // the users are checked first from the users of the tenant, and the components of the team
+      // are only counted for the teams without users
       List<UserInfo> allUsersInfo = manageDatabase.getHandleDbRequests().getAllUsersInfo(tenantId);
       teamModels.forEach(
           teamModel -> {
             teamModel.setShowDeleteTeam(
-                (!manageDatabase
-                        .getHandleDbRequests()
-                        .existsComponentsCountForTeam(teamModel.getTeamId(), tenantId))
-                    && (manageDatabase
-                        .getHandleDbRequests()
-                        .getAllUsersInfoForTeam(teamModel.getTeamId(), tenantId)
-                        .isEmpty())
-                    && allUsersInfo.stream()
+                allUsersInfo.stream()
                         .noneMatch(
                             userInfo ->
-                                userInfo
-                                    .getSwitchAllowedTeamIds()
-                                    .contains(teamModel.getTeamId())));
+                                teamModel.getTeamId().equals(userInfo.getTeamId())
+                                    || userInfo
+                                        .getSwitchAllowedTeamIds()
+                                        .contains(teamModel.getTeamId()))
+                    && !manageDatabase
+                        .getHandleDbRequests()
+                        .existsComponentsCountForTeam(teamModel.getTeamId(), tenantId));
           });
     }
 
@@ -1097,11 +1095,9 @@ public class UsersTeamsControllerService {
   }
 
   public Env getEnvDetailsFromId(String envId) {
-    Optional<Env> envFound =
-        manageDatabase.getKafkaEnvList(commonUtilsService.getTenantId(getUserName())).stream()
-            .filter(env -> Objects.equals(env.getId(), envId))
-            .findFirst();
-    return envFound.orElse(null);
+    return manageDatabase
+        .getEnvGraph(commonUtilsService.getTenantId(getUserName()))
+        .getKafkaEnv(envId);
   }
 
   private Object getPrincipal() {
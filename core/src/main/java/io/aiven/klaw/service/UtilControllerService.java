@@ -716,6 +716,8 @@ public class UtilControllerService implements InitializingBean {
             .entityValue(resetEntityCache.getEntityValue())
             .operationType(resetEntityCache.getOperationType())
             .createdTime(new Timestamp(System.currentTimeMillis()))
+            .version(resetEntityCache.getVersion())
+            .origin(resetEntityCache.getOrigin())
             .build();
     if (getUserName().equals(ANONYMOUS_USER)) {
       // continue with the request, ANONYMOUS_USER is generated by spring to access protected
@@ -1,9 +1,9 @@
 package io.aiven.klaw.validation;
 
 import static io.aiven.klaw.error.KlawErrorMessages.*;
-import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 
 import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
@@ -15,7 +15,6 @@ import io.aiven.klaw.service.MailUtils;
 import io.aiven.klaw.service.TopicControllerService;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -182,11 +181,9 @@ public class TopicRequestValidatorImpl
       TopicRequestModel topicRequestModel,
       String syncCluster,
       ConstraintValidatorContext constraintValidatorContext) {
-    String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, ORDER_OF_TOPIC_ENVS);
-    boolean promotionOrderCheck = false;
-    if (null != orderOfEnvs) {
-      promotionOrderCheck = checkInPromotionOrder(topicRequestModel.getEnvironment(), orderOfEnvs);
-    }
+    boolean promotionOrderCheck =
+        commonUtilsService.isInEnvOrder(
+            tenantId, EnvOrder.TOPIC_PROMOTION, topicRequestModel.getEnvironment());
 
     if (topics != null && !topics.isEmpty()) {
       if (promotionOrderCheck) {
@@ -324,9 +321,4 @@ public class TopicRequestValidatorImpl
         .addConstraintViolation()
         .disableDefaultConstraintViolation();
   }
-
-  private boolean checkInPromotionOrder(String envId, String orderOfEnvs) {
-    List<String> orderedEnv = Arrays.asList(orderOfEnvs.split(","));
-    return orderedEnv.contains(envId);
-  }
 }
@@ -0,0 +1,37 @@
+package io.aiven.klaw;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.helpers.db.rdbms.QueryCount;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * Counts the statements run on the database by a test annotated with {@link MaxQueries}. The
+ * requests of MockMvc are handled on the thread of the test, so their statements are included.
+ */
+public class QueryCountExtension implements InvocationInterceptor {
+
+  @Override
+  public void interceptTestMethod(
+      Invocation<Void> invocation,
+      ReflectiveInvocationContext<Method> invocationContext,
+      ExtensionContext extensionContext)
+      throws Throwable {
+    MaxQueries maxQueries = invocationContext.getExecutable().getAnnotation(MaxQueries.class);
+    if (maxQueries == null) {
+      invocation.proceed();
+      return;
+    }
+    int statements;
+    try (QueryCount queryCount = QueryCount.start()) {
+      invocation.proceed();
+      statements = queryCount.getStatements();
+    }
+    assertThat(statements)
+        .as("statements run by %s", invocationContext.getExecutable().getName())
+        .isLessThanOrEqualTo(maxQueries.value());
+  }
+}
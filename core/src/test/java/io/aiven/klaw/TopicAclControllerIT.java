@@ -342,6 +342,7 @@ public class TopicAclControllerIT {
   // Create topic requests
   @Test
   @Order(7)
+  @MaxQueries(16)
   public void createTopicRequest() throws Exception {
     TopicRequestModel addTopicRequest = utilMethods.getTopicCreateRequestModel(topicId1);
     addTopicRequest.setTopicpartitions(1);
@@ -431,6 +432,7 @@ public class TopicAclControllerIT {
   // approve topic - creates topic in cluster
   @Order(11)
   @Test
+  @MaxQueries(15)
   public void approveTopic() throws Exception {
     String topicName = TopicAclControllerIT.topicName + topicId1;
     when(clusterApiService.getClusterApiStatus(anyString(), anyBoolean(), anyInt()))
@@ -575,6 +577,7 @@ public class TopicAclControllerIT {
   // get topics from cluster
   @Order(16)
   @Test
+  @MaxQueries(2)
   public void getTopicsFromCluster() throws Exception {
     when(clusterApiService.getAllTopics(
             anyString(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString(), anyString(), anyInt()))
@@ -627,6 +630,7 @@ public class TopicAclControllerIT {
   // Get Acl requests before creating one
   @Order(18)
   @Test
+  @MaxQueries(4)
   public void getAclRequests() throws Exception {
 
     String res =
@@ -668,6 +672,7 @@ public class TopicAclControllerIT {
   // Request for a acl
   @Order(20)
   @Test
+  @MaxQueries(13)
   public void aclRequest() throws Exception {
     AclRequestsModel addAclRequest = utilMethods.getAclRequestModel(topicName + topicId1);
     String jsonReq = OBJECT_MAPPER.writer().writeValueAsString(addAclRequest);
@@ -712,6 +717,7 @@ public class TopicAclControllerIT {
   // Get acl requests again, and approve that request
   @Order(22)
   @Test
+  @MaxQueries(16)
   public void getAclResAgainAndApprove() throws Exception {
     String res =
         mvc.perform(
@@ -860,6 +866,7 @@ public class TopicAclControllerIT {
   // getacls with topic search filter
   @Order(26)
   @Test
+  @MaxQueries(8)
   public void getAclsWithSearch() throws Exception {
     List<Map<String, String>> aclInfo = new ArrayList<>(utilMethods.getClusterAcls2());
     when(clusterApiService.getAcls(
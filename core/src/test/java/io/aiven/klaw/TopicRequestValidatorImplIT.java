@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
@@ -181,7 +182,8 @@ public class TopicRequestValidatorImplIT {
     when(topicControllerService.getTopicFromName(anyString(), anyInt()))
         .thenReturn(Collections.emptyList());
     when(topicControllerService.getSyncCluster(anyInt())).thenReturn("1");
-    when(commonUtilsService.getEnvProperty(anyInt(), anyString())).thenReturn("1,2");
+    when(commonUtilsService.isInEnvOrder(anyInt(), eq(EnvOrder.TOPIC_PROMOTION), anyString()))
+        .thenReturn(true);
     when(topicControllerService.getEnvDetails(anyString())).thenReturn(env);
 
     Set<ConstraintViolation<TopicCreateRequestModel>> violations =
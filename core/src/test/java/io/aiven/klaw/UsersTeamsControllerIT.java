@@ -247,6 +247,7 @@ public class UsersTeamsControllerIT {
   // Delete team success
   @Test
   @Order(7)
+  @MaxQueries(25)
   public void deleteTeamSuccess() throws Exception {
     String newTeam = "Testteam";
     TeamModel teamModelRequest = mockMethods.getTeamModel(newTeam);
@@ -355,6 +356,7 @@ public class UsersTeamsControllerIT {
   // Get teams getAllTeamsSU - for superadmin gets all teams in all tenants
   @Test
   @Order(10)
+  @MaxQueries(20)
   public void getAllTeams() throws Exception {
     String response =
         mvc.perform(
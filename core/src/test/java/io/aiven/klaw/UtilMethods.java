@@ -1,7 +1,11 @@
 package io.aiven.klaw;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.constants.TestConstants;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.AclRequests;
@@ -17,6 +21,8 @@ import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
 import io.aiven.klaw.model.*;
 import io.aiven.klaw.model.charts.ChartsJsOverview;
 import io.aiven.klaw.model.charts.Options;
@@ -61,6 +67,7 @@ import io.aiven.klaw.model.response.TopicConfig;
 import io.aiven.klaw.model.response.TopicOverview;
 import io.aiven.klaw.model.response.TopicRequestsResponseModel;
 import io.aiven.klaw.model.response.UserInfoModelResponse;
+import io.aiven.klaw.service.CommonUtilsService;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -1136,4 +1143,95 @@ public class UtilMethods {
     IntStream.range(0, actual.size())
         .forEach(i -> Assertions.assertEquals(actual.get(i), expected.get(i)));
   }
+
+  /**
+   * Answers getEnvGraph of the mocked manageDatabase with its env lists. The env orders are the
+   * ones stubbed on getEnvProperty of the mocked commonUtilsService, else the tenant config ones.
+   */
+  public static void stubEnvGraph(
+      ManageDatabase manageDatabase, CommonUtilsService commonUtilsService) {
+    when(manageDatabase.getEnvGraph(anyInt()))
+        .thenAnswer(
+            invocation -> {
+              int tenantId = invocation.getArgument(0);
+              KwTenantConfigModel tenantConfig =
+                  manageDatabase.getTenantConfig() == null
+                          || manageDatabase.getTenantConfig().get(tenantId) == null
+                      ? new KwTenantConfigModel()
+                      : manageDatabase.getTenantConfig().get(tenantId);
+              KwTenantConfigModel envOrders = new KwTenantConfigModel();
+              envOrders.setOrderOfTopicPromotionEnvsList(
+                  stubbedOrder(
+                      commonUtilsService,
+                      tenantId,
+                      EnvOrder.TOPIC_PROMOTION,
+                      tenantConfig.getOrderOfTopicPromotionEnvsList()));
+              envOrders.setRequestTopicsEnvironmentsList(
+                  stubbedOrder(
+                      commonUtilsService,
+                      tenantId,
+                      EnvOrder.TOPIC_REQUEST,
+                      tenantConfig.getRequestTopicsEnvironmentsList()));
+              envOrders.setOrderOfConnectorsPromotionEnvsList(
+                  stubbedOrder(
+                      commonUtilsService,
+                      tenantId,
+                      EnvOrder.CONNECTOR_PROMOTION,
+                      tenantConfig.getOrderOfConnectorsPromotionEnvsList()));
+              envOrders.setRequestConnectorsEnvironmentsList(
+                  stubbedOrder(
+                      commonUtilsService,
+                      tenantId,
+                      EnvOrder.CONNECTOR_REQUEST,
+                      tenantConfig.getRequestConnectorsEnvironmentsList()));
+              envOrders.setRequestSchemaEnvironmentsList(
+                  stubbedOrder(
+                      commonUtilsService,
+                      tenantId,
+                      EnvOrder.SCHEMA_REQUEST,
+                      tenantConfig.getRequestSchemaEnvironmentsList()));
+              List<Env> allEnvs = manageDatabase.getAllEnvList(tenantId);
+              return EnvGraph.build(
+                  envsOfType(
+                      manageDatabase.getKafkaEnvList(tenantId), allEnvs, KafkaClustersType.KAFKA),
+                  envsOfType(
+                      manageDatabase.getSchemaRegEnvList(tenantId),
+                      allEnvs,
+                      KafkaClustersType.SCHEMA_REGISTRY),
+                  envsOfType(
+                      manageDatabase.getKafkaConnectEnvList(tenantId),
+                      allEnvs,
+                      KafkaClustersType.KAFKA_CONNECT),
+                  envOrders);
+            });
+  }
+
+  // envs of the typed list, and the ones of the type only stubbed on getAllEnvList
+  private static List<Env> envsOfType(
+      List<Env> envs, List<Env> allEnvs, KafkaClustersType clusterType) {
+    List<Env> envsOfType = envs == null ? new ArrayList<>() : new ArrayList<>(envs);
+    if (allEnvs != null) {
+      Set<String> envIds = envsOfType.stream().map(Env::getId).collect(Collectors.toSet());
+      allEnvs.stream()
+          .filter(env -> clusterType.value.equals(env.getType()))
+          .filter(env -> !envIds.contains(env.getId()))
+          .forEach(envsOfType::add);
+    }
+    return envsOfType;
+  }
+
+  private static List<String> stubbedOrder(
+      CommonUtilsService commonUtilsService,
+      int tenantId,
+      EnvOrder envOrder,
+      List<String> configuredOrder) {
+    String envIds =
+        commonUtilsService == null
+            ? null
+            : commonUtilsService.getEnvProperty(tenantId, envOrder.property);
+    if (envIds == null) {
+      return configuredOrder;
+    }
+    return envIds.isEmpty() ? List.of() : List.of(envIds.split(","));
+  }
 }
@@ -0,0 +1,83 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.aiven.klaw.helpers.RequestTimings;
+import io.aiven.klaw.helpers.RequestTimings.Component;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+public class CacheConfigTest {
+
+  private MockEnvironment environment;
+
+  @BeforeEach
+  public void setUp() {
+    environment = new MockEnvironment();
+    environment.setConversionService(new ApplicationConversionService());
+  }
+
+  @Test
+  public void cachesAreSizedFromProperties() {
+    environment.setProperty("klaw.cache.tenantsinfo.max.size", "50");
+    environment.setProperty("klaw.cache.tenantsinfo.ttl", "PT10M");
+
+    CacheManager cacheManager = new CacheConfig().cacheManager(environment);
+
+    Policy<Object, Object> tenantsInfoPolicy =
+        getPolicy(cacheManager, CacheConfig.TENANTS_INFO_CACHE);
+    assertThat(tenantsInfoPolicy.eviction().orElseThrow().getMaximum()).isEqualTo(50);
+    assertThat(tenantsInfoPolicy.expireAfterWrite().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofMinutes(10));
+    assertThat(tenantsInfoPolicy.isRecordingStats()).isTrue();
+  }
+
+  @Test
+  public void cachesHaveDefaults() {
+    CacheManager cacheManager = new CacheConfig().cacheManager(environment);
+
+    Policy<Object, Object> tenantsInfoPolicy =
+        getPolicy(cacheManager, CacheConfig.TENANTS_INFO_CACHE);
+    assertThat(tenantsInfoPolicy.eviction().orElseThrow().getMaximum()).isEqualTo(1000);
+    assertThat(tenantsInfoPolicy.expireAfterWrite().orElseThrow().getExpiresAfter())
+        .isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  public void onlyConfiguredCachesExist() {
+    CacheManager cacheManager = new CacheConfig().cacheManager(environment);
+
+    assertThat(cacheManager.getCacheNames()).containsExactly(CacheConfig.TENANTS_INFO_CACHE);
+    assertThat(cacheManager.getCache("unknown")).isNull();
+  }
+
+  @Test
+  public void lookupsAreAddedToTheCurrentRequest() {
+    CacheManager cacheManager = new CacheConfig().cacheManager(environment);
+    org.springframework.cache.Cache tenantsInfoCache =
+        cacheManager.getCache(CacheConfig.TENANTS_INFO_CACHE);
+    tenantsInfoCache.put("1", "tenants");
+
+    RequestTimings requestTimings = RequestTimings.start();
+    try {
+      assertThat(tenantsInfoCache.get("1").get()).isEqualTo("tenants");
+      assertThat(tenantsInfoCache.get("2")).isNull();
+    } finally {
+      RequestTimings.stop();
+    }
+
+    assertThat(requestTimings.getNanos(Component.CACHE)).isPositive();
+    assertThat(requestTimings.getOperations().get("cache tenantsinfo").getCount()).isEqualTo(2);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Policy<Object, Object> getPolicy(CacheManager cacheManager, String cacheName) {
+    return ((Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache()).policy();
+  }
+}
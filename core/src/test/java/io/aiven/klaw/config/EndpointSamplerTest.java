@@ -0,0 +1,78 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class EndpointSamplerTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+  @Test
+  public void endpointsAreSampledWithTheirProbability() {
+    EndpointSampler sampler = new EndpointSampler(1.0, "/actuator/**:0, /getTopics:0.0,/exec*:1");
+
+    assertThat(sampler.getSampler("/actuator/prometheus").getDescription())
+        .isEqualTo(Sampler.traceIdRatioBased(0).getDescription());
+    assertThat(sampler.getSampler("/getTopics").getDescription())
+        .isEqualTo(Sampler.traceIdRatioBased(0).getDescription());
+    assertThat(sampler.getSampler("/execTopicRequests").getDescription())
+        .isEqualTo(Sampler.traceIdRatioBased(1).getDescription());
+    // default
+    assertThat(sampler.getSampler("/getAcls").getDescription())
+        .isEqualTo(Sampler.traceIdRatioBased(1).getDescription());
+    assertThat(sampler.getSampler(null).getDescription())
+        .isEqualTo(Sampler.traceIdRatioBased(1).getDescription());
+  }
+
+  @Test
+  public void pathOfTheRequestIsUsedWhileItIsHandled() throws Exception {
+    EndpointSampler sampler = new EndpointSampler(1.0, "/getTopics:0");
+    SamplingDecision[] decision = new SamplingDecision[1];
+    MockFilterChain filterChain =
+        new MockFilterChain() {
+          @Override
+          public void doFilter(
+              jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+            decision[0] = shouldSample(sampler);
+          }
+        };
+
+    new EndpointSampler.RequestPathFilter()
+        .doFilter(
+            new MockHttpServletRequest("GET", "/getTopics"),
+            new MockHttpServletResponse(),
+            filterChain);
+
+    assertThat(decision[0]).isEqualTo(SamplingDecision.DROP);
+    assertThat(shouldSample(sampler)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  @Test
+  public void invalidEndpoints() {
+    assertThatThrownBy(() -> new EndpointSampler(0.1, "/getTopics"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static SamplingDecision shouldSample(Sampler sampler) {
+    return sampler
+        .shouldSample(
+            Context.root(),
+            TRACE_ID,
+            "http get",
+            SpanKind.SERVER,
+            Attributes.empty(),
+            Collections.emptyList())
+        .getDecision();
+  }
+}
@@ -1,13 +1,26 @@
 package io.aiven.klaw.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwRolesPermissions;
+import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.PermissionType;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +73,178 @@ public class ManageDatabaseTest {
     assertThat(getTopicFromCache(TENANT_ID, topicId)).hasSize(1);
   }
 
+  @Test
+  public void addTopicToCacheMakesTopicSearchable() {
+    Topic t = new Topic();
+    t.setTopicid(1);
+    t.setTopicname("FirstTopic");
+    t.setDocumentation("Orders of the webshop");
+    t.setTenantId(TENANT_ID);
+
+    manageDatabase.addTopicToCache(TENANT_ID, t);
+
+    assertThat(manageDatabase.getTopicSearchIndex(TENANT_ID).search("first"))
+        .containsExactly("FirstTopic");
+    assertThat(manageDatabase.getTopicSearchIndex(TENANT_ID).search("webshop"))
+        .containsExactly("FirstTopic");
+  }
+
+  @Test
+  public void loadTopicsForOneTenantRemovesDeletedTopicsFromSearch() {
+    Topic t = new Topic();
+    t.setTopicid(1);
+    t.setTopicname("FirstTopic");
+    t.setTenantId(TENANT_ID);
+    manageDatabase.addTopicToCache(TENANT_ID, t);
+
+    // the topic was deleted in the database
+    when(handleDbRequests.getAllTopics(eq(TENANT_ID))).thenReturn(new ArrayList<>());
+    manageDatabase.loadTopicsForOneTenant(TENANT_ID);
+
+    assertThat(manageDatabase.getTopicSearchIndex(TENANT_ID).search("first")).isEmpty();
+  }
+
+  @Test
+  public void updateTopicsInCacheReplacesOnlyGivenTopics() {
+    manageDatabase.addTopicToCache(TENANT_ID, topic(1, "FirstTopic", null));
+    manageDatabase.addTopicToCache(TENANT_ID, topic(2, "SecondTopic", null));
+    manageDatabase.addTopicToCache(TENANT_ID, topic(3, "ThirdTopic", null));
+
+    // FirstTopic got documented, SecondTopic was deleted in the database
+    when(handleDbRequests.getTopics(eq(List.of("FirstTopic", "SecondTopic")), eq(TENANT_ID)))
+        .thenReturn(List.of(topic(1, "FirstTopic", "Orders of the webshop")));
+    manageDatabase.updateTopicsInCache(TENANT_ID, List.of("FirstTopic", "SecondTopic"));
+
+    assertThat(manageDatabase.getTopicsForTenant(TENANT_ID))
+        .extracting(Topic::getTopicname)
+        .containsExactlyInAnyOrder("FirstTopic", "ThirdTopic");
+    assertThat(getTopicFromCache(TENANT_ID, 1).get(0).getDocumentation())
+        .isEqualTo("Orders of the webshop");
+    assertThat(manageDatabase.getTopicSearchIndex(TENANT_ID).search("webshop"))
+        .containsExactly("FirstTopic");
+    assertThat(manageDatabase.getTopicSearchIndex(TENANT_ID).search("second")).isEmpty();
+    verify(handleDbRequests, times(1)).getAllTopics(eq(TENANT_ID));
+    // one query for all updated topics
+    verify(handleDbRequests, never()).getTopics(anyString(), anyInt());
+  }
+
+  @Test
+  public void loadRolesPermissionsOneTenantCompilesPermissionMasks() {
+    if (ReflectionTestUtils.getField(ManageDatabase.class, "rolesPermsMapPerTenant") == null) {
+      ReflectionTestUtils.setField(ManageDatabase.class, "rolesPermsMapPerTenant", new HashMap<>());
+    }
+    List<KwRolesPermissions> rolesPermissions =
+        List.of(
+            rolePermission("USER", PermissionType.VIEW_TOPICS.name()),
+            rolePermission("USER", PermissionType.REQUEST_CREATE_TOPICS.name()),
+            rolePermission("USER", "NOT_A_PERMISSION"),
+            rolePermission("SUPERADMIN", PermissionType.ADD_TENANT.name()));
+
+    manageDatabase.loadRolesPermissionsOneTenant(rolesPermissions, TENANT_ID);
+
+    assertThat(manageDatabase.getRolePermissionMask(TENANT_ID, "USER"))
+        .isEqualTo(PermissionType.VIEW_TOPICS.mask() | PermissionType.REQUEST_CREATE_TOPICS.mask());
+    assertThat(manageDatabase.getRolePermissionMask(TENANT_ID, "SUPERADMIN"))
+        .isEqualTo(PermissionType.ADD_TENANT.mask());
+    assertThat(manageDatabase.getRolePermissionMask(TENANT_ID, "UNKNOWN")).isZero();
+    assertThat(manageDatabase.getRolePermissionMask(TENANT_ID + 1, "USER")).isZero();
+  }
+
+  @Test
+  public void loadUsersForAllTenantsGroupsUsersOfOneQuery() {
+    ReflectionTestUtils.setField(
+        ManageDatabase.class, "tenantMap", new HashMap<>(Map.of(TENANT_ID, "default")));
+    ReflectionTestUtils.setField(ManageDatabase.class, "usersPerTenant", new HashMap<>());
+    ReflectionTestUtils.setField(
+        ManageDatabase.class, "teamsPerTenant", Map.of(TENANT_ID, List.of(team(1001), team(1002))));
+    when(handleDbRequests.getAllUsersAllTenants())
+        .thenReturn(
+            List.of(
+                user("james", 1001, TENANT_ID),
+                user("octopus", 1001, TENANT_ID),
+                user("other", 1001, TENANT_ID + 1)));
+
+    manageDatabase.loadUsersForAllTenants();
+
+    assertThat(manageDatabase.getUsersPerTeamAndTenant(1001, TENANT_ID))
+        .extracting(UserInfo::getUsername)
+        .containsExactly("james", "octopus");
+    assertThat(manageDatabase.getUsersPerTeamAndTenant(1002, TENANT_ID)).isEmpty();
+    assertThat(manageDatabase.selectAllCachedUserInfo()).hasSize(2);
+    verify(handleDbRequests, never()).getAllUsersInfoForTeam(anyInt(), anyInt());
+  }
+
+  @Test
+  public void loadEnvMapForOneTenantSplitsEnvsOfOneQuery() {
+    if (ReflectionTestUtils.getField(ManageDatabase.class, "envParamsMapPerTenant") == null) {
+      ReflectionTestUtils.setField(ManageDatabase.class, "envParamsMapPerTenant", new HashMap<>());
+    }
+    when(handleDbRequests.getAllEnvs(eq(TENANT_ID)))
+        .thenReturn(
+            List.of(
+                env("1", KafkaClustersType.KAFKA, "true"),
+                env("2", KafkaClustersType.KAFKA, "false"),
+                env("3", KafkaClustersType.SCHEMA_REGISTRY, "true"),
+                env("4", KafkaClustersType.KAFKA_CONNECT, "true")));
+
+    manageDatabase.loadEnvMapForOneTenant(TENANT_ID);
+
+    assertThat(manageDatabase.getKafkaEnvList(TENANT_ID))
+        .extracting(Env::getId)
+        .containsExactly("1");
+    assertThat(manageDatabase.getSchemaRegEnvList(TENANT_ID))
+        .extracting(Env::getId)
+        .containsExactly("3");
+    assertThat(manageDatabase.getKafkaConnectEnvList(TENANT_ID))
+        .extracting(Env::getId)
+        .containsExactly("4");
+    assertThat(manageDatabase.getEnvMap(TENANT_ID)).containsOnlyKeys("1", "2", "3", "4");
+    verify(handleDbRequests, times(1)).getAllEnvs(TENANT_ID);
+    verify(handleDbRequests, never()).getAllKafkaEnvs(anyInt());
+  }
+
+  private KwRolesPermissions rolePermission(String role, String permission) {
+    KwRolesPermissions kwRolesPermissions = new KwRolesPermissions();
+    kwRolesPermissions.setRoleId(role);
+    kwRolesPermissions.setPermission(permission);
+    kwRolesPermissions.setTenantId(TENANT_ID);
+    return kwRolesPermissions;
+  }
+
+  private Team team(int teamId) {
+    Team team = new Team();
+    team.setTeamId(teamId);
+    team.setTenantId(TENANT_ID);
+    return team;
+  }
+
+  private UserInfo user(String username, int teamId, int tenantId) {
+    UserInfo userInfo = new UserInfo();
+    userInfo.setUsername(username);
+    userInfo.setTeamId(teamId);
+    userInfo.setTenantId(tenantId);
+    return userInfo;
+  }
+
+  private Env env(String id, KafkaClustersType type, String envExists) {
+    Env env = new Env();
+    env.setId(id);
+    env.setName("ENV" + id);
+    env.setType(type.value);
+    env.setEnvExists(envExists);
+    env.setTenantId(TENANT_ID);
+    return env;
+  }
+
+  private Topic topic(int topicId, String topicName, String documentation) {
+    Topic t = new Topic();
+    t.setTopicid(topicId);
+    t.setTopicname(topicName);
+    t.setDocumentation(documentation);
+    t.setTenantId(TENANT_ID);
+    return t;
+  }
+
   private List<Topic> getTopicFromCache(int tenantId, int topicId) {
     return manageDatabase.getTopicsForTenant(tenantId).stream()
         .filter(entry -> entry.getTopicid().equals(topicId))
@@ -9,10 +9,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.dao.DataVersion;
+import io.aiven.klaw.dao.KwTenants;
 import io.aiven.klaw.dao.migration.DataMigration;
 import io.aiven.klaw.dao.migration.MigrationRunner;
 import io.aiven.klaw.dao.test.MigrationTestData2x1x0;
 import io.aiven.klaw.dao.test.MigrationTestData2x2x0;
+import io.aiven.klaw.dao.test.MigrationTestTenantData2x3x0;
+import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
 import io.aiven.klaw.repository.DataVersionRepo;
 import java.lang.reflect.Method;
 import java.sql.Connection;
@@ -21,6 +24,8 @@ import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.sql.DataSource;
 import liquibase.integration.spring.SpringLiquibase;
@@ -68,6 +73,8 @@ class MigrationUtilityTest {
 
   @Mock ApplicationContext context;
 
+  @Mock SelectDataJdbc selectDataJdbc;
+
   @BeforeEach
   public void setup() {
     utility = new MigrationUtility();
@@ -77,6 +84,8 @@ class MigrationUtilityTest {
     ReflectionTestUtils.setField(utility, "packageToScan", PACKAGE_TO_SCAN);
     ReflectionTestUtils.setField(utility, "liquibase", liquibase);
     ReflectionTestUtils.setField(utility, "allowedTimeBetweenTableInstall", 1);
+    when(context.getBeansWithAnnotation(eq(DataMigration.class)))
+        .thenReturn(Map.of("migrationTestData2x1x0", m1, "migrationTestData2x2x0", m2));
   }
 
   @Test
@@ -286,6 +295,32 @@ class MigrationUtilityTest {
     assertThat(dataVersionCaptor.getValue().getChangeId()).isEqualTo(1);
   }
 
+  @Test
+  public void TenantScopedMigration_OnlyTenantsWithPendingWorkAreMigrated() throws Exception {
+    MigrationTestTenantData2x3x0 m3 = new MigrationTestTenantData2x3x0();
+    ReflectionTestUtils.setField(m3, "tenantsWithPendingWork", Set.of(101, 103));
+    ReflectionTestUtils.setField(utility, "selectDataJdbc", selectDataJdbc);
+    when(context.getBeansWithAnnotation(eq(DataMigration.class)))
+        .thenReturn(Map.of("migrationTestTenantData2x3x0", m3));
+    when(context.getBeanNamesForAnnotation(eq(DataMigration.class)))
+        .thenReturn(new String[] {"migrationTestTenantData2x3x0"});
+    when(context.getBean(eq("migrationTestTenantData2x3x0"))).thenReturn(m3);
+    when(versionRepo.findTopByOrderByIdDesc()).thenReturn(getDataVersion("1.0.0", -1));
+    when(selectDataJdbc.getTenants()).thenReturn(List.of(tenant(101), tenant(102), tenant(103)));
+
+    utility.startMigration();
+
+    assertThat(m3.getMigratedTenants()).isEqualTo(List.of(101, 103));
+    verify(versionRepo, times(1)).save(dataVersionCaptor.capture());
+    assertThat(dataVersionCaptor.getValue().getVersion()).isEqualTo("2.3.0");
+  }
+
+  private static KwTenants tenant(int tenantId) {
+    KwTenants tenant = new KwTenants();
+    tenant.setTenantId(tenantId);
+    return tenant;
+  }
+
   private DataVersion getDataVersion(String version, int changeId) {
     DataVersion dataVersion = new DataVersion();
     dataVersion.setVersion(version);
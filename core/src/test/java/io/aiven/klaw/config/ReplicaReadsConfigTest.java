@@ -0,0 +1,75 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.aiven.klaw.dao.Team;
+import io.aiven.klaw.helpers.db.rdbms.SelectDataJdbc;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+public class ReplicaReadsConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withUserConfiguration(ReplicaReadsConfig.class, TestConfig.class);
+
+  @Test
+  public void lookupsRunInReadOnlyTransactionsWithReplica() {
+    contextRunner
+        .withPropertyValues("klaw.db.replica.enabled=true")
+        .run(
+            context -> {
+              SelectDataJdbc selectDataJdbc = context.getBean(SelectDataJdbc.class);
+              assertThat(AopUtils.isAopProxy(selectDataJdbc)).isTrue();
+
+              selectDataJdbc.selectAllTeams(101);
+
+              verify(context.getBean(PlatformTransactionManager.class))
+                  .getTransaction(argThat(definition -> definition.isReadOnly()));
+            });
+  }
+
+  @Test
+  public void lookupsRunWithoutTransactionWithoutReplica() {
+    contextRunner.run(
+        context -> {
+          SelectDataJdbc selectDataJdbc = context.getBean(SelectDataJdbc.class);
+          assertThat(AopUtils.isAopProxy(selectDataJdbc)).isFalse();
+
+          selectDataJdbc.selectAllTeams(101);
+
+          verify(context.getBean(PlatformTransactionManager.class), never()).getTransaction(any());
+        });
+  }
+
+  @Configuration
+  @EnableTransactionManagement
+  static class TestConfig {
+
+    @Bean
+    PlatformTransactionManager transactionManager() {
+      return mock(PlatformTransactionManager.class);
+    }
+
+    @Bean
+    SelectDataJdbc selectDataJdbc() {
+      return new SelectDataJdbc() {
+        @Override
+        public List<Team> selectAllTeams(int tenantId) {
+          return List.of();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.aiven.klaw.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.helpers.RequestTimings;
+import io.aiven.klaw.helpers.RequestTimings.Component;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class RequestTimingFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private MockHttpServletRequest request;
+
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    request = new MockHttpServletRequest("GET", "/getTopics");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/getTopics");
+    response = new MockHttpServletResponse();
+  }
+
+  @Test
+  public void recordsTheComponentsOfTheRequest() throws Exception {
+    RequestTimingFilter filter =
+        new RequestTimingFilter(meterRegistry, false, Duration.ofSeconds(2), 0, 50);
+
+    filter.doFilter(
+        request,
+        response,
+        (servletRequest, servletResponse) -> {
+          RequestTimings.record(
+              Component.DB, "TopicRepo.findAllByTenantId", TimeUnit.MILLISECONDS.toNanos(30));
+          RequestTimings.record(
+              Component.DB, "AclRepo.findAllByTenantId", TimeUnit.MILLISECONDS.toNanos(20));
+          RequestTimings.record(
+              Component.CLUSTER_API, "GET /topics/getTopics/", TimeUnit.MILLISECONDS.toNanos(40));
+        });
+
+    assertThat(getTimer("db").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50);
+    assertThat(getTimer("clusterapi").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+    assertThat(getTimer("cache").count()).isOne();
+    assertThat(getTimer(RequestTimingFilter.APP).count()).isOne();
+    assertThat(
+            meterRegistry
+                .get(RequestTimingFilter.REQUEST_QUERIES)
+                .tag("uri", "/getTopics")
+                .summary()
+                .count())
+        .isOne();
+    assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER)).isNull();
+  }
+
+  @Test
+  public void addsServerTimingHeaderWhenEnabled() throws Exception {
+    RequestTimingFilter filter =
+        new RequestTimingFilter(meterRegistry, true, Duration.ofSeconds(2), 0, 50);
+
+    filter.doFilter(
+        request,
+        response,
+        (servletRequest, servletResponse) -> {
+          RequestTimings.record(Component.CACHE, "envdetails", TimeUnit.MICROSECONDS.toNanos(300));
+          servletResponse.getWriter().write("[]");
+        });
+
+    assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING_HEADER))
+        .startsWith(
+            "db;dur=0.0, clusterapi;dur=0.0, cache;dur=0.3, serialization;dur=0.0, app;dur=")
+        .contains(", total;dur=");
+    assertThat(response.getContentAsString()).isEqualTo("[]");
+  }
+
+  private Timer getTimer(String component) {
+    return meterRegistry
+        .get(RequestTimingFilter.REQUEST_TIMER)
+        .tag("uri", "/getTopics")
+        .tag("method", "GET")
+        .tag("component", component)
+        .timer();
+  }
+}
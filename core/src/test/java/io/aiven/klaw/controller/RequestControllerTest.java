@@ -1,6 +1,7 @@
 package io.aiven.klaw.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -56,31 +57,35 @@ class RequestControllerTest {
     ReflectionTestUtils.setField(
         service, "schemaRegistryControllerService", schemaRegistryControllerService);
 
+    ReflectionTestUtils.setField(service, "bulkChunkSize", 100);
     ReflectionTestUtils.setField(controller, "service", service);
   }
 
   @Order(1)
   @Test
   public void givenARequestToApproveCallCorrectServiceAndReturnSuccessOK() throws KlawException {
-    when(topicControllerService.approveTopicRequests(eq("1001")))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(topicControllerService.approveTopicRequests(eq(List.of("1001"))))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.TOPIC, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(topicControllerService, times(1)).approveTopicRequests(eq("1001"));
+    verify(topicControllerService, times(1)).approveTopicRequests(eq(List.of("1001")));
   }
 
   @Order(2)
   @Test
   public void givenARequestToApproveMulitpleCallTOPICCorrectServiceAndReturnSuccessOK()
       throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(topicControllerService, times(2)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(anyList());
   }
 
   @Order(3)
@@ -88,52 +93,60 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectTOPICServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(topicControllerService, times(2)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(anyList());
   }
 
   @Order(4)
   @Test
   public void givenARequestToApproveCallCorrectTOPICServiceAndReturnISEResponse()
       throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.TOPIC, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(topicControllerService, times(1)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(anyList());
   }
 
   @Order(4)
   @Test
   public void givenMultipleRequestToApproveCallCorrectTOPICServiceAndReturnISEResponse()
       throws KlawException {
-    when(topicControllerService.approveTopicRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.approveTopicRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(topicControllerService, times(2)).approveTopicRequests(anyString());
+    verify(topicControllerService, times(1)).approveTopicRequests(anyList());
   }
 
   @Order(5)
   @Test
   public void givenARequestToApproveMulitpleCallCorrectSCHEMAServiceAndReturnSuccessOK()
       throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(schemaRegistryControllerService, times(2)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(anyList());
   }
 
   @Order(6)
@@ -141,52 +154,60 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectSCHEMAServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(schemaRegistryControllerService, times(2)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(anyList());
   }
 
   @Order(7)
   @Test
   public void givenARequestToApproveCallCorrectSCHEMAServiceAndReturnISEResponse()
       throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.SCHEMA, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(anyList());
   }
 
   @Order(8)
   @Test
   public void givenMultipleRequestToApproveCallCorrectSCHEMAServiceAndReturnISEResponse()
       throws KlawException {
-    when(schemaRegistryControllerService.execSchemaRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(schemaRegistryControllerService, times(2)).execSchemaRequests(anyString());
+    verify(schemaRegistryControllerService, times(1)).execSchemaRequests(anyList());
   }
 
   @Order(9)
   @Test
   public void givenARequestToApproveMulitpleCallCorrectCONNECTORServiceAndReturnSuccessOK()
       throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.approveConnectorRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(kafkaConnectControllerService.approveConnectorRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(kafkaConnectControllerService, times(2)).approveConnectorRequests(anyString());
+    verify(kafkaConnectControllerService, times(1)).approveConnectorRequests(anyList());
   }
 
   @Order(10)
@@ -194,52 +215,60 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectCONNECTORServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.approveConnectorRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(kafkaConnectControllerService.approveConnectorRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(kafkaConnectControllerService, times(2)).approveConnectorRequests(anyString());
+    verify(kafkaConnectControllerService, times(1)).approveConnectorRequests(anyList());
   }
 
   @Order(11)
   @Test
   public void givenARequestToApproveCallCorrectCONNECTORServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.approveConnectorRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(kafkaConnectControllerService.approveConnectorRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.CONNECTOR, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(kafkaConnectControllerService, times(1)).approveConnectorRequests(anyString());
+    verify(kafkaConnectControllerService, times(1)).approveConnectorRequests(anyList());
   }
 
   @Order(12)
   @Test
   public void givenMultipleRequestToApproveCallCorrectCONNECTORServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.approveConnectorRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(kafkaConnectControllerService.approveConnectorRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(kafkaConnectControllerService, times(2)).approveConnectorRequests(anyString());
+    verify(kafkaConnectControllerService, times(1)).approveConnectorRequests(anyList());
   }
 
   @Order(13)
   @Test
   public void givenARequestToApproveMulitpleCallCorrectACLServiceAndReturnSuccessOK()
       throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.ACL, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(aclControllerService, times(2)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(anyList());
   }
 
   @Order(14)
@@ -247,39 +276,44 @@ class RequestControllerTest {
   public void
       givenARequestToApproveMulitpleCallCorrectACLServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.ACL, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(aclControllerService, times(2)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(anyList());
   }
 
   @Order(15)
   @Test
   public void givenARequestToApproveCallCorrectACLServiceAndReturnISEResponse()
       throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(createRequestVerdict(RequestEntityType.ACL, null, "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(1)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(anyList());
   }
 
   @Order(16)
   @Test
   public void givenMultipleRequestToApproveCallCorrectACLServiceAndReturnISEResponse()
       throws KlawException {
-    when(aclControllerService.approveAclRequests(anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.approveAclRequests(anyList()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.ACL, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(2)).approveAclRequests(anyString());
+    verify(aclControllerService, times(1)).approveAclRequests(anyList());
   }
 
   @Order(17)
@@ -291,37 +325,61 @@ class RequestControllerTest {
         controller.approveRequest(
             createRequestVerdict(RequestEntityType.USER, null, "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(0)).approveAclRequests(anyString());
-    verify(kafkaConnectControllerService, times(0)).approveConnectorRequests(anyString());
-    verify(schemaRegistryControllerService, times(0)).execSchemaRequests(anyString());
-    verify(topicControllerService, times(0)).approveTopicRequests(anyString());
+    verify(aclControllerService, times(0)).approveAclRequests(anyList());
+    verify(kafkaConnectControllerService, times(0)).approveConnectorRequests(anyList());
+    verify(schemaRegistryControllerService, times(0)).execSchemaRequests(anyList());
+    verify(topicControllerService, times(0)).approveTopicRequests(anyList());
+  }
+
+  @Order(17)
+  @Test
+  public void givenARequestToApproveMoreThanAChunkCallServicePerChunk() throws KlawException {
+    ReflectionTestUtils.setField(service, "bulkChunkSize", 2);
+    when(topicControllerService.approveTopicRequests(eq(List.of("1001", "2001"))))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
+    when(topicControllerService.approveTopicRequests(eq(List.of("3001"))))
+        .thenThrow(new RuntimeException("Cluster not reachable"));
+    ResponseEntity<List<ApiResponse>> result =
+        controller.approveRequest(
+            createRequestVerdict(RequestEntityType.TOPIC, null, "1001", "2001", "3001"));
+    assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
+    assertThat(result.getBody()).hasSize(3);
+    assertThat(result.getBody().get(2).getMessage())
+        .isEqualTo("Failure unable to approve requestId 3001 Cluster not reachable");
+    verify(topicControllerService, times(2)).approveTopicRequests(anyList());
   }
 
   @Order(18)
   @Test
   public void givenARequestToDeclineCCallCorrectServiceAndReturnSuccessOK()
       throws KlawException, KlawRestException {
-    when(topicControllerService.declineTopicRequests(eq("1001"), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(topicControllerService.declineTopicRequests(eq(List.of("1001")), anyString()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.TOPIC, "TopicName Must Conform.", "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(topicControllerService, times(1)).declineTopicRequests(eq("1001"), anyString());
+    verify(topicControllerService, times(1)).declineTopicRequests(eq(List.of("1001")), anyString());
   }
 
   @Order(19)
   @Test
   public void givenMultipleRequestsToDeclineCallCorrectServiceAndReturnSuccessOK()
       throws KlawException, KlawRestException {
-    when(topicControllerService.declineTopicRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(topicControllerService.declineTopicRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(
                 RequestEntityType.TOPIC, "TopicName Must Conform.", "1001", "2002"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(topicControllerService, times(2)).declineTopicRequests(anyString(), anyString());
+    verify(topicControllerService, times(1)).declineTopicRequests(anyList(), anyString());
   }
 
   @Order(20)
@@ -329,56 +387,64 @@ class RequestControllerTest {
   public void
       givenARequestToDeclineCMulitpleCallCorrectTOPICServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException, KlawRestException {
-    when(topicControllerService.declineTopicRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.declineTopicRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(
                 RequestEntityType.TOPIC, "TopicName Must Conform.", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(topicControllerService, times(2)).declineTopicRequests(anyString(), anyString());
+    verify(topicControllerService, times(1)).declineTopicRequests(anyList(), anyString());
   }
 
   @Order(21)
   @Test
   public void givenARequestToDeclineCCallCorrectTOPICServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(topicControllerService.declineTopicRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.declineTopicRequests(anyList(), anyString()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.TOPIC, "TopicName Must Conform.", "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(topicControllerService, times(1)).declineTopicRequests(anyString(), anyString());
+    verify(topicControllerService, times(1)).declineTopicRequests(anyList(), anyString());
   }
 
   @Order(22)
   @Test
   public void givenMultipleRequestToDeclineCCallCorrectTOPICServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(topicControllerService.declineTopicRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(topicControllerService.declineTopicRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(
                 RequestEntityType.TOPIC, "TopicName Must Conform.", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(topicControllerService, times(2)).declineTopicRequests(anyString(), anyString());
+    verify(topicControllerService, times(1)).declineTopicRequests(anyList(), anyString());
   }
 
   @Order(23)
   @Test
   public void givenARequestToDeclineCMulitpleCallCorrectSCHEMAServiceAndReturnSuccessOK()
       throws KlawException, KlawRestException {
-    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, "Schema is Invalid", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(schemaRegistryControllerService, times(2))
-        .execSchemaRequestsDecline(anyString(), anyString());
+    verify(schemaRegistryControllerService, times(1))
+        .execSchemaRequestsDecline(anyList(), anyString());
   }
 
   @Order(24)
@@ -386,57 +452,65 @@ class RequestControllerTest {
   public void
       givenARequestToDeclineCMulitpleCallCorrectSCHEMAServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException, KlawRestException {
-    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, "Schema is Invalid", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(schemaRegistryControllerService, times(2))
-        .execSchemaRequestsDecline(anyString(), anyString());
+    verify(schemaRegistryControllerService, times(1))
+        .execSchemaRequestsDecline(anyList(), anyString());
   }
 
   @Order(25)
   @Test
   public void givenARequestToDeclineCCallCorrectSCHEMAServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyList(), anyString()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, "Schema is Invalid", "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
     verify(schemaRegistryControllerService, times(1))
-        .execSchemaRequestsDecline(anyString(), anyString());
+        .execSchemaRequestsDecline(anyList(), anyString());
   }
 
   @Order(26)
   @Test
   public void givenMultipleRequestToDeclineCCallCorrectSCHEMAServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(schemaRegistryControllerService.execSchemaRequestsDecline(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.SCHEMA, "Schema is Invalid", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(schemaRegistryControllerService, times(2))
-        .execSchemaRequestsDecline(anyString(), anyString());
+    verify(schemaRegistryControllerService, times(1))
+        .execSchemaRequestsDecline(anyList(), anyString());
   }
 
   @Order(27)
   @Test
   public void givenARequestToDeclineCMulitpleCallCorrectCONNECTORServiceAndReturnSuccessOK()
       throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.declineConnectorRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(kafkaConnectControllerService.declineConnectorRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, "What?", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(kafkaConnectControllerService, times(2))
-        .declineConnectorRequests(anyString(), anyString());
+    verify(kafkaConnectControllerService, times(1))
+        .declineConnectorRequests(anyList(), anyString());
   }
 
   @Order(28)
@@ -444,56 +518,64 @@ class RequestControllerTest {
   public void
       givenARequestToDeclineCMulitpleCallCorrectCONNECTORServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.declineConnectorRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(kafkaConnectControllerService.declineConnectorRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, "What?", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(kafkaConnectControllerService, times(2))
-        .declineConnectorRequests(anyString(), anyString());
+    verify(kafkaConnectControllerService, times(1))
+        .declineConnectorRequests(anyList(), anyString());
   }
 
   @Order(29)
   @Test
   public void givenARequestToDeclineCCallCorrectCONNECTORServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.declineConnectorRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(kafkaConnectControllerService.declineConnectorRequests(anyList(), anyString()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, "What?", "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
     verify(kafkaConnectControllerService, times(1))
-        .declineConnectorRequests(anyString(), anyString());
+        .declineConnectorRequests(anyList(), anyString());
   }
 
   @Order(30)
   @Test
   public void givenMultipleRequestToDeclineCCallCorrectCONNECTORServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(kafkaConnectControllerService.declineConnectorRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(kafkaConnectControllerService.declineConnectorRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.CONNECTOR, "What?", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(kafkaConnectControllerService, times(2))
-        .declineConnectorRequests(anyString(), anyString());
+    verify(kafkaConnectControllerService, times(1))
+        .declineConnectorRequests(anyList(), anyString());
   }
 
   @Order(31)
   @Test
   public void givenARequestToDeclineCMulitpleCallCorrectACLServiceAndReturnSuccessOK()
       throws KlawException, KlawRestException {
-    when(aclControllerService.declineAclRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true));
+    when(aclControllerService.declineAclRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.SUCCESS, true)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.ACL, "No Access for you!", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
-    verify(aclControllerService, times(2)).declineAclRequests(anyString(), anyString());
+    verify(aclControllerService, times(1)).declineAclRequests(anyList(), anyString());
   }
 
   @Order(32)
@@ -501,40 +583,45 @@ class RequestControllerTest {
   public void
       givenARequestToDeclineCMulitpleCallCorrectACLServiceAndReturnSuccessMultiStatusResponse()
           throws KlawException, KlawRestException {
-    when(aclControllerService.declineAclRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.SUCCESS, true))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.declineAclRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.SUCCESS, true),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.ACL, "No Access for you!", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(207));
-    verify(aclControllerService, times(2)).declineAclRequests(anyString(), anyString());
+    verify(aclControllerService, times(1)).declineAclRequests(anyList(), anyString());
   }
 
   @Order(33)
   @Test
   public void givenARequestToDeclineCCallCorrectACLServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(aclControllerService.declineAclRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.declineAclRequests(anyList(), anyString()))
+        .thenReturn(List.of(getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.ACL, "No Access for you!", "1001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(1)).declineAclRequests(anyString(), anyString());
+    verify(aclControllerService, times(1)).declineAclRequests(anyList(), anyString());
   }
 
   @Order(34)
   @Test
   public void givenMultipleRequestToDeclineCCallCorrectACLServiceAndReturnISEResponse()
       throws KlawException, KlawRestException {
-    when(aclControllerService.declineAclRequests(anyString(), anyString()))
-        .thenReturn(getApiResponse(ApiResultStatus.FAILURE, false));
+    when(aclControllerService.declineAclRequests(anyList(), anyString()))
+        .thenReturn(
+            List.of(
+                getApiResponse(ApiResultStatus.FAILURE, false),
+                getApiResponse(ApiResultStatus.FAILURE, false)));
     ResponseEntity<List<ApiResponse>> result =
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.ACL, "No Access for you!", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(2)).declineAclRequests(anyString(), anyString());
+    verify(aclControllerService, times(1)).declineAclRequests(anyList(), anyString());
   }
 
   @Order(35)
@@ -546,12 +633,12 @@ class RequestControllerTest {
         controller.declineRequest(
             createRequestVerdict(RequestEntityType.USER, "No Access for you!", "1001", "2001"));
     assertThat(result.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(500));
-    verify(aclControllerService, times(0)).declineAclRequests(anyString(), anyString());
+    verify(aclControllerService, times(0)).declineAclRequests(anyList(), anyString());
     verify(kafkaConnectControllerService, times(0))
-        .declineConnectorRequests(anyString(), anyString());
+        .declineConnectorRequests(anyList(), anyString());
     verify(schemaRegistryControllerService, times(0))
-        .execSchemaRequestsDecline(anyString(), anyString());
-    verify(topicControllerService, times(0)).declineTopicRequests(anyString(), anyString());
+        .execSchemaRequestsDecline(anyList(), anyString());
+    verify(topicControllerService, times(0)).declineTopicRequests(anyList(), anyString());
   }
 
   @Order(36)
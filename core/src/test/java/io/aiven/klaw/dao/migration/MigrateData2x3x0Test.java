@@ -12,7 +12,6 @@ import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KafkaConnectorRequest;
 import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.TopicRequest;
-import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.dao.test.MigrationTestData2x1x0;
 import io.aiven.klaw.dao.test.MigrationTestData2x2x0;
 import io.aiven.klaw.helpers.db.rdbms.InsertDataJdbc;
@@ -62,63 +61,67 @@ class MigrateData2x3x0Test {
   }
 
   @Test
-  public void givenNoTenantsDoNotMigrateAnyData() {
+  public void givenNoEnvsThereIsNoPendingWork() {
+    when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(Collections.EMPTY_LIST);
 
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(0));
+    assertThat(migrateData2x3x0.hasPendingWork(101)).isFalse();
+  }
 
-    boolean success = migrateData2x3x0.migrate();
-    verify(selectDataJdbc, times(1)).selectAllUsersAllTenants();
-    // No other calls made
-    verify(insertDataJdbc, times(0)).addNewEnv(any(Env.class));
-    verify(selectDataJdbc, times(0)).selectAllEnvs(any(KafkaClustersType.class), anyInt());
-    //    called once per tenant
-    verify(manageDatabase, times(0)).loadEnvMapForOneTenant(anyInt());
-    assertThat(success).isTrue();
+  @Test
+  public void givenEnvsAlreadyMigratedThereIsNoPendingWork() {
+    List<Env> envs = createListOfEnvs(2);
+    for (Env env : envs) {
+      // Set EnvParams introduced in 2.3.0 so they wont be re migrated.
+      env.setParams(new EnvParams());
+    }
+    when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(envs);
+
+    assertThat(migrateData2x3x0.hasPendingWork(101)).isFalse();
+  }
+
+  @Test
+  public void givenOneEnvNotMigratedThereIsPendingWork() {
+    List<Env> envs = createListOfEnvs(2);
+    envs.get(0).setParams(new EnvParams());
+    when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(envs);
+
+    assertThat(migrateData2x3x0.hasPendingWork(101)).isTrue();
   }
 
   @Test
   public void givenOneTenantButNoEnvsDoNotMigrateData() {
     // Setup
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(1));
-
     when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(Collections.EMPTY_LIST);
 
     // Execute
-    boolean success = migrateData2x3x0.migrate();
+    boolean success = migrateData2x3x0.migrate(101);
 
     // Verify
-    verify(selectDataJdbc, times(1)).selectAllUsersAllTenants();
     verify(selectDataJdbc, times(1)).selectAllEnvs(any(KafkaClustersType.class), anyInt());
 
     verify(insertDataJdbc, times(0)).addNewEnv(any(Env.class));
-    //    called once per tenant
-    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(anyInt());
+    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(101);
     assertThat(success).isTrue();
   }
 
   @Test
   public void givenOneTenantWithEnvsMigrateData() {
     // Setup
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(1));
-
     when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(createListOfEnvs(2));
 
     // Execute
-    boolean success = migrateData2x3x0.migrate();
+    boolean success = migrateData2x3x0.migrate(101);
 
     // Verify
     verify(selectDataJdbc, times(1)).selectAllEnvs(any(KafkaClustersType.class), anyInt());
-
     verify(insertDataJdbc, times(2)).addNewEnv(any(Env.class));
-    //    called once per tenant
-    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(anyInt());
+    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(101);
     assertThat(success).isTrue();
   }
 
   @Test
   public void givenOneTenantWithEnvsAlreadyMigratedDoNotMigrateData() {
     // Setup
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(1));
     List<Env> envs = createListOfEnvs(2);
     for (Env env : envs) {
       // Set EnvParams introduced in 2.3.0 so they wont be re migrated.
@@ -128,21 +131,17 @@ class MigrateData2x3x0Test {
     when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(envs);
 
     // Execute
-    boolean success = migrateData2x3x0.migrate();
+    boolean success = migrateData2x3x0.migrate(101);
 
     // Verify
-    verify(selectDataJdbc, times(1)).selectAllUsersAllTenants();
-
     verify(insertDataJdbc, times(0)).addNewEnv(any(Env.class));
-    //    called once per tenant
-    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(anyInt());
+    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(101);
     assertThat(success).isTrue();
   }
 
   @Test
   public void givenOneTenantWithTwoEnvsAndOneIsNotProcessableAnExceptionMigrateOneData() {
     // Setup
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(1));
     List<Env> envs = createListOfEnvs(2);
     // Set EnvParams introduced in 2.3.0 so they wont be re migrated.
     envs.get(1).setOtherParams(null);
@@ -150,10 +149,9 @@ class MigrateData2x3x0Test {
     when(selectDataJdbc.selectAllEnvs(any(), anyInt())).thenReturn(envs);
 
     // Execute
-    boolean success = migrateData2x3x0.migrate();
+    boolean success = migrateData2x3x0.migrate(101);
 
     // Verify
-    verify(selectDataJdbc, times(1)).selectAllUsersAllTenants();
     verify(insertDataJdbc, times(1)).addNewEnv(envCaptor.capture());
     Env env = envCaptor.getValue();
     // verify data is correct
@@ -161,57 +159,7 @@ class MigrateData2x3x0Test {
     assertThat(env.getParams().getDefaultPartitions()).isEqualTo("1");
     assertThat(env.getParams().getPartitionsList().size()).isEqualTo(2);
     assertThat(env.getParams().getReplicationFactorList().size()).isEqualTo(8);
-    //    called once per tenant
-    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(anyInt());
-    assertThat(success).isTrue();
-  }
-
-  @Test
-  public void givenTwoTenantWithTwoEnvsAndOneAlreadyMigratedMigrateOneTenant() {
-    // Setup
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(2));
-    List<Env> envs = createListOfEnvs(2);
-    // Set EnvParams introduced in 2.3.0 so they wont be re migrated.
-    envs.get(0).setParams(new EnvParams());
-    envs.get(1).setParams(new EnvParams());
-    when(selectDataJdbc.selectAllEnvs(any(), anyInt()))
-        .thenReturn(envs)
-        .thenReturn(createListOfEnvs(2));
-
-    // Execute
-    boolean success = migrateData2x3x0.migrate();
-
-    // Verify
-    verify(selectDataJdbc, times(1)).selectAllUsersAllTenants();
-    verify(selectDataJdbc, times(2)).selectAllEnvs(any(), anyInt());
-    verify(insertDataJdbc, times(2)).addNewEnv(any(Env.class));
-    //    called once per tenant
-    verify(manageDatabase, times(2)).loadEnvMapForOneTenant(anyInt());
-    assertThat(success).isTrue();
-  }
-
-  @Test
-  public void givenThreeTenantsWithAMixOfRequestsToMigrateAndNotMigrateMigrateData() {
-    // Setup
-    when(selectDataJdbc.selectAllUsersAllTenants()).thenReturn(getUserAndTenantInfo(3));
-    List<Env> envs = createListOfEnvs(2);
-    // Set EnvParams introduced in 2.3.0 so they wont be re migrated.
-    envs.get(0).setParams(new EnvParams());
-    envs.get(1).setParams(new EnvParams());
-    when(selectDataJdbc.selectAllEnvs(any(), anyInt()))
-        .thenReturn(envs)
-        .thenReturn(createListOfEnvs(2))
-        .thenReturn(createListOfEnvs(2));
-
-    // Execute
-    boolean success = migrateData2x3x0.migrate();
-
-    // Verify
-    verify(selectDataJdbc, times(1)).selectAllUsersAllTenants();
-    verify(selectDataJdbc, times(3)).selectAllEnvs(any(), anyInt());
-    verify(insertDataJdbc, times(4)).addNewEnv(any(Env.class));
-    //    called once per tenant
-    verify(manageDatabase, times(3)).loadEnvMapForOneTenant(anyInt());
+    verify(manageDatabase, times(1)).loadEnvMapForOneTenant(101);
     assertThat(success).isTrue();
   }
 
@@ -298,22 +246,6 @@ class MigrateData2x3x0Test {
         .collect(Collectors.toList());
   }
 
-  private List<UserInfo> getUserAndTenantInfo(int numberOfEntries) {
-    List<UserInfo> users = new ArrayList<>();
-    for (int i = 0; i < numberOfEntries; i++) {
-      UserInfo info = new UserInfo();
-      info.setTenantId(101 + i);
-      info.setTeamId(1 + i);
-      info.setRole("User");
-      info.setUsername("User" + i);
-      info.setFullname("User" + i + " LastName");
-      info.setSwitchTeams(false);
-      users.add(info);
-    }
-
-    return users;
-  }
-
   private List<Team> getTeams(int numberOfEntries) {
     List<Team> teams = new ArrayList<>();
     for (int i = 0; i < numberOfEntries; i++) {
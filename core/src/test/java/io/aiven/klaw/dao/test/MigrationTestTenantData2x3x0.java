@@ -0,0 +1,34 @@
+package io.aiven.klaw.dao.test;
+
+import io.aiven.klaw.dao.migration.DataMigration;
+import io.aiven.klaw.dao.migration.MigrationRunner;
+import io.aiven.klaw.dao.migration.MigrationScope;
+import io.aiven.klaw.dao.migration.PendingWork;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@DataMigration(version = "2.3.0", order = 2, scope = MigrationScope.TENANT)
+public class MigrationTestTenantData2x3x0 {
+
+  private Set<Integer> tenantsWithPendingWork = Set.of();
+
+  private final List<Integer> migratedTenants = new ArrayList<>();
+
+  @PendingWork
+  public boolean hasPendingWork(int tenantId) {
+    return tenantsWithPendingWork.contains(tenantId);
+  }
+
+  @MigrationRunner
+  public boolean migrate(int tenantId) {
+    migratedTenants.add(tenantId);
+    return true;
+  }
+
+  public List<Integer> getMigratedTenants() {
+    return migratedTenants;
+  }
+}
@@ -0,0 +1,88 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPatternType;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AclMatchIndexTest {
+
+  private static final int TENANT_ID = 101;
+
+  private AclMatchIndex aclMatchIndex;
+  private AtomicInteger loads;
+  private Supplier<List<Acl>> loader;
+
+  @BeforeEach
+  public void setUp() {
+    aclMatchIndex = new AclMatchIndex(300);
+    loads = new AtomicInteger();
+    List<Acl> acls =
+        List.of(
+            acl(1, "1", "payments", AclPatternType.LITERAL),
+            acl(2, "1", "pay", AclPatternType.PREFIXED),
+            acl(3, "2", "pay", AclPatternType.PREFIXED),
+            acl(4, "1", "orders", AclPatternType.PREFIXED));
+    loader =
+        () -> {
+          loads.incrementAndGet();
+          return acls;
+        };
+  }
+
+  @Test
+  public void getPrefixedAclsOfEnvs() {
+    assertThat(reqNos(aclMatchIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments", loader)))
+        .containsExactly(2);
+    assertThat(
+            reqNos(aclMatchIndex.getPrefixedAcls(TENANT_ID, List.of("1", "2"), "payments", loader)))
+        .containsExactly(2, 3);
+    assertThat(aclMatchIndex.getPrefixedAcls(TENANT_ID, Set.of("3"), "payments", loader)).isEmpty();
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  public void addAndRemoveKeepLoadedTenantInLine() {
+    aclMatchIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments", loader);
+
+    aclMatchIndex.add(acl(5, "1", "payments-", AclPatternType.PREFIXED));
+    aclMatchIndex.remove(acl(2, "1", "pay", AclPatternType.PREFIXED));
+
+    assertThat(reqNos(aclMatchIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments-eu", loader)))
+        .containsExactly(5);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  public void tenantIsLoadedAgainAfterRemoval() {
+    aclMatchIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments", loader);
+    aclMatchIndex.removeTenant(TENANT_ID);
+    aclMatchIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments", loader);
+    assertThat(loads).hasValue(2);
+
+    AclMatchIndex reloadingIndex = new AclMatchIndex(0);
+    reloadingIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments", loader);
+    reloadingIndex.getPrefixedAcls(TENANT_ID, Set.of("1"), "payments", loader);
+    assertThat(loads).hasValue(4);
+  }
+
+  private static List<Integer> reqNos(List<Acl> acls) {
+    return acls.stream().map(Acl::getReq_no).toList();
+  }
+
+  private static Acl acl(int reqNo, String env, String topicName, AclPatternType patternType) {
+    Acl acl = new Acl();
+    acl.setReq_no(reqNo);
+    acl.setTenantId(TENANT_ID);
+    acl.setEnvironment(env);
+    acl.setTopicname(topicName);
+    acl.setAclPatternType(patternType.value);
+    return acl;
+  }
+}
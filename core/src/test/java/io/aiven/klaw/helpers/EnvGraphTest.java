@@ -0,0 +1,91 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.EnvTag;
+import io.aiven.klaw.helpers.EnvGraph.EnvOrder;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EnvGraphTest {
+
+  private EnvGraph envGraph;
+
+  @BeforeEach
+  public void setUp() {
+    KwTenantConfigModel tenantConfig = new KwTenantConfigModel();
+    tenantConfig.setOrderOfTopicPromotionEnvsList(List.of("1", "2", "11"));
+    tenantConfig.setRequestTopicsEnvironmentsList(List.of("1"));
+    tenantConfig.setOrderOfConnectorsPromotionEnvsList(List.of("5"));
+    tenantConfig.setRequestSchemaEnvironmentsList(List.of("3"));
+
+    envGraph =
+        EnvGraph.build(
+            List.of(env("1", "DEV", "3"), env("2", "TST", "4"), env("11", "PRD", null)),
+            List.of(env("3", "DEV_SR", "1"), env("4", "TST_SR", "2")),
+            List.of(env("5", "DEV_KC", null)),
+            tenantConfig);
+  }
+
+  @Test
+  public void lookupsByIdAndName() {
+    assertThat(envGraph.getKafkaEnv("2").getName()).isEqualTo("TST");
+    assertThat(envGraph.getKafkaEnv("3")).isNull();
+    assertThat(envGraph.getSchemaEnv("3").getName()).isEqualTo("DEV_SR");
+    assertThat(envGraph.getKafkaConnectEnv("5").getName()).isEqualTo("DEV_KC");
+    assertThat(envGraph.getEnv("5").getName()).isEqualTo("DEV_KC");
+    assertThat(envGraph.getEnv(null)).isNull();
+    assertThat(envGraph.getKafkaEnvFromName("PRD").getId()).isEqualTo("11");
+    assertThat(envGraph.getSchemaEnvFromName("TST_SR").getId()).isEqualTo("4");
+    assertThat(envGraph.getKafkaConnectEnvFromName("DEV")).isNull();
+  }
+
+  @Test
+  public void associationsBothWays() {
+    assertThat(envGraph.getAssociatedEnvId("1")).isEqualTo("3");
+    assertThat(envGraph.getAssociatedEnvId("4")).isEqualTo("2");
+    assertThat(envGraph.getAssociatedEnvId("11")).isNull();
+  }
+
+  @Test
+  public void ordersMatchWholeEnvIds() {
+    assertThat(envGraph.getPosition(EnvOrder.TOPIC_PROMOTION, "11")).isEqualTo(2);
+    assertThat(envGraph.isInOrder(EnvOrder.TOPIC_REQUEST, "1")).isTrue();
+    // "1" is part of "11", which used to match with the comma separated property
+    assertThat(envGraph.isInOrder(EnvOrder.TOPIC_REQUEST, "11")).isFalse();
+    assertThat(envGraph.getPosition(EnvOrder.CONNECTOR_REQUEST, "5")).isEqualTo(-1);
+    assertThat(envGraph.getNextEnvId(EnvOrder.TOPIC_PROMOTION, "2")).isEqualTo("11");
+    assertThat(envGraph.getNextEnvId(EnvOrder.TOPIC_PROMOTION, "11")).isNull();
+    assertThat(envGraph.getNextEnvId(EnvOrder.TOPIC_PROMOTION, "7")).isNull();
+  }
+
+  @Test
+  public void schemaPromotionFollowsTopicPromotion() {
+    assertThat(envGraph.getOrder(EnvOrder.SCHEMA_PROMOTION)).containsExactly("3", "4");
+    assertThat(envGraph.getEnvProperty("ORDER_OF_SCHEMA_ENVS")).isEqualTo("3,4");
+    assertThat(envGraph.getEnvProperty(KwConstants.ORDER_OF_TOPIC_ENVS)).isEqualTo("1,2,11");
+    assertThat(envGraph.getEnvProperty("UNKNOWN")).isEmpty();
+  }
+
+  @Test
+  public void emptyGraph() {
+    assertThat(EnvGraph.EMPTY.getEnv("1")).isNull();
+    assertThat(EnvGraph.EMPTY.getOrder(EnvOrder.TOPIC_PROMOTION)).isEmpty();
+    assertThat(EnvGraph.EMPTY.isInOrder(EnvOrder.SCHEMA_REQUEST, "1")).isFalse();
+  }
+
+  private Env env(String id, String name, String associatedEnvId) {
+    Env env = new Env();
+    env.setId(id);
+    env.setName(name);
+    if (associatedEnvId != null) {
+      EnvTag envTag = new EnvTag();
+      envTag.setId(associatedEnvId);
+      env.setAssociatedEnv(envTag);
+    }
+    return env;
+  }
+}
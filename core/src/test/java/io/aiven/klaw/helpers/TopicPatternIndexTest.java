@@ -0,0 +1,46 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TopicPatternIndexTest {
+
+  private TopicPatternIndex<String> topicPatternIndex;
+
+  @BeforeEach
+  public void setUp() {
+    topicPatternIndex = new TopicPatternIndex<>();
+    topicPatternIndex.add("payments", false, "literal");
+    topicPatternIndex.add("pay", true, "pay*");
+    topicPatternIndex.add("payments", true, "payments*");
+    topicPatternIndex.add("orders", true, "orders*");
+  }
+
+  @Test
+  public void getLiteralAndPrefixes() {
+    assertThat(topicPatternIndex.get("payments")).containsExactly("literal", "pay*", "payments*");
+    assertThat(topicPatternIndex.get("payments-audit")).containsExactly("pay*", "payments*");
+    assertThat(topicPatternIndex.getPrefixed("payments")).containsExactly("pay*", "payments*");
+    assertThat(topicPatternIndex.get("pa")).isEmpty();
+    assertThat(topicPatternIndex.get("customer-payments")).isEmpty();
+  }
+
+  @Test
+  public void emptyPrefixMatchesAllTopics() {
+    topicPatternIndex.add("", true, "*");
+    assertThat(topicPatternIndex.get("orders")).containsExactly("*", "orders*");
+  }
+
+  @Test
+  public void remove() {
+    topicPatternIndex.remove("payments", true, "payments*");
+    topicPatternIndex.remove("payments", false, "literal");
+    assertThat(topicPatternIndex.get("payments")).containsExactly("pay*");
+
+    topicPatternIndex.remove("pay", true, "pay*");
+    topicPatternIndex.remove("orders", true, "orders*");
+    assertThat(topicPatternIndex.isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,75 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramSearchIndexTest {
+
+  private TrigramSearchIndex trigramSearchIndex;
+
+  @BeforeEach
+  public void setUp() {
+    trigramSearchIndex = new TrigramSearchIndex();
+    trigramSearchIndex.add("payments", "Settled card Payments");
+    trigramSearchIndex.add("payments-audit", null);
+    trigramSearchIndex.add("orders", "Orders placed, before payment");
+    trigramSearchIndex.add("customer-payments", "");
+  }
+
+  @Test
+  public void searchRanksExactPrefixNameAndDocumentation() {
+    assertThat(trigramSearchIndex.search("Payment"))
+        .containsExactly("payments", "payments-audit", "customer-payments", "orders");
+    assertThat(trigramSearchIndex.search("payments"))
+        .containsExactly("payments", "payments-audit", "customer-payments");
+  }
+
+  @Test
+  public void searchNamesIgnoresDocumentation() {
+    assertThat(trigramSearchIndex.searchNames("payment"))
+        .containsExactly("payments", "payments-audit", "customer-payments");
+    assertThat(trigramSearchIndex.searchNames("placed")).isEmpty();
+  }
+
+  @Test
+  public void searchShortQueries() {
+    assertThat(trigramSearchIndex.search("ud")).containsExactly("payments-audit");
+    assertThat(trigramSearchIndex.search("xyz")).isEmpty();
+  }
+
+  @Test
+  public void searchPrefix() {
+    assertThat(trigramSearchIndex.searchPrefix("PAY"))
+        .containsExactly("payments", "payments-audit");
+    assertThat(trigramSearchIndex.searchPrefix("z")).isEmpty();
+  }
+
+  @Test
+  public void removeDropsNameAndDocumentation() {
+    trigramSearchIndex.remove("orders");
+
+    assertThat(trigramSearchIndex.search("placed")).isEmpty();
+    assertThat(trigramSearchIndex.searchPrefix("ord")).isEmpty();
+    assertThat(trigramSearchIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void syncAppliesOnlyDifferences() {
+    trigramSearchIndex.sync(
+        Map.of(
+            "payments", Set.of("Settled card Payments"),
+            "orders", Set.of("Orders shipped"),
+            "refunds", Set.of()));
+
+    assertThat(trigramSearchIndex.size()).isEqualTo(3);
+    assertThat(trigramSearchIndex.search("payments-audit")).isEmpty();
+    assertThat(trigramSearchIndex.search("placed")).isEmpty();
+    assertThat(trigramSearchIndex.search("shipped")).containsExactly("orders");
+    assertThat(trigramSearchIndex.search("card")).containsExactly("payments");
+    assertThat(trigramSearchIndex.searchPrefix("ref")).containsExactly("refunds");
+  }
+}
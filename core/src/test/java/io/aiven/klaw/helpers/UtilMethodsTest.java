@@ -0,0 +1,37 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.Topic;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class UtilMethodsTest {
+
+  @Test
+  public void filterProducerConsumerTopicsOnLiteralAndPrefixedAcls() {
+    List<Topic> producerConsumerTopics =
+        List.of(
+            topic("orders", "1", List.of("1")), topic("pay--PREFIXED--", "2", List.of("1", "2")));
+    Topic orders = topic("orders", null, List.of("1", "2"));
+    Topic payments = topic("payments", null, List.of("2"));
+    Topic paymentsInOtherEnv = topic("payments-audit", null, List.of("3"));
+    Topic customers = topic("customers", null, List.of("1"));
+
+    List<Topic> topics =
+        UtilMethods.filterProducerConsumerTopics(
+            producerConsumerTopics, List.of(orders, payments, paymentsInOtherEnv, customers));
+
+    assertThat(topics).containsExactly(orders, payments);
+    assertThat(orders.getEnvironmentsList()).containsExactly("1");
+    assertThat(payments.getEnvironmentsList()).containsExactly("1", "2");
+  }
+
+  private static Topic topic(String topicName, String env, List<String> envs) {
+    Topic topic = new Topic();
+    topic.setTopicname(topicName);
+    topic.setEnvironment(env);
+    topic.setEnvironmentsList(envs);
+    return topic;
+  }
+}
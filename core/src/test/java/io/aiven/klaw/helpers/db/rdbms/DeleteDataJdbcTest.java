@@ -14,6 +14,7 @@ import io.aiven.klaw.dao.SchemaRequest;
 import io.aiven.klaw.dao.SchemaRequestID;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.TopicRequestID;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.repository.*;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(SpringExtension.class)
 public class DeleteDataJdbcTest {
@@ -42,6 +44,8 @@ public class DeleteDataJdbcTest {
 
   @Mock UserInfoRepo userInfoRepo;
 
+  @Mock AclMatchIndex aclMatchIndex;
+
   private UtilMethods utilMethods;
 
   @BeforeEach
@@ -55,6 +59,7 @@ public class DeleteDataJdbcTest {
             aclRequestsRepo,
             aclRepo,
             userInfoRepo);
+    ReflectionTestUtils.setField(deleteDataJdbc, "aclMatchIndex", aclMatchIndex);
     utilMethods = new UtilMethods();
   }
 
@@ -3,10 +3,12 @@ package io.aiven.klaw.helpers.db.rdbms;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.dao.*;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.repository.AclRepo;
 import io.aiven.klaw.repository.AclRequestsRepo;
@@ -62,6 +64,8 @@ public class InsertDataJdbcTest {
 
   @Mock SelectDataJdbc jdbcSelectHelper;
 
+  @Mock private AclMatchIndex aclMatchIndex;
+
   private InsertDataJdbc insertData;
 
   private UtilMethods utilMethods;
@@ -78,6 +82,7 @@ public class InsertDataJdbcTest {
     ReflectionTestUtils.setField(insertData, "activityLogRepo", activityLogRepo);
     ReflectionTestUtils.setField(insertData, "jdbcSelectHelper", jdbcSelectHelper);
     ReflectionTestUtils.setField(insertData, "aclRepo", aclRepo);
+    ReflectionTestUtils.setField(insertData, "aclMatchIndex", aclMatchIndex);
     ReflectionTestUtils.setField(insertData, "schemaRequestRepo", schemaRequestRepo);
     ReflectionTestUtils.setField(insertData, "aclRequestsRepo", aclRequestsRepo);
     ReflectionTestUtils.setField(insertData, "envRepo", envRepo);
@@ -122,6 +127,7 @@ public class InsertDataJdbcTest {
     when(aclRepo.getNextAclId(anyInt())).thenReturn(101);
     String result = insertData.insertIntoAclsSOT(acls, true);
     assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
+    acls.forEach(acl -> verify(aclMatchIndex).add(acl));
   }
 
   @Test
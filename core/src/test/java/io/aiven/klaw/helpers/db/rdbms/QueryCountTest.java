@@ -0,0 +1,55 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+public class QueryCountTest {
+
+  private static SingleConnectionDataSource dataSource;
+
+  private static JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  public static void setup() {
+    dataSource =
+        new SingleConnectionDataSource("jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1", "sa", "", true);
+    jdbcTemplate = new JdbcTemplate(QueryCount.countStatements(dataSource));
+  }
+
+  @AfterAll
+  public static void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Test
+  public void nestedCountsSeeTheStatementsRunInsideOfThem() {
+    jdbcTemplate.queryForObject("select 1", Integer.class);
+
+    try (QueryCount outer = QueryCount.start()) {
+      jdbcTemplate.queryForObject("select 1", Integer.class);
+      try (QueryCount inner = QueryCount.start()) {
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+        jdbcTemplate.queryForObject("select 2", Integer.class);
+        assertThat(inner.getStatements()).isEqualTo(2);
+      }
+      jdbcTemplate.queryForObject("select 1", Integer.class);
+      assertThat(outer.getStatements()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  public void statementsOfOtherThreadsAreNotCounted() throws Exception {
+    try (QueryCount queryCount = QueryCount.start()) {
+      Thread thread = new Thread(() -> jdbcTemplate.queryForObject("select 1", Integer.class));
+      thread.start();
+      thread.join();
+
+      assertThat(queryCount.getStatements()).isZero();
+    }
+  }
+}
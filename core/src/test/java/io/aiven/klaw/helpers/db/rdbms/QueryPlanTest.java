@@ -0,0 +1,102 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Predicate;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Runs EXPLAIN on the hot queries of the topic, acl, request and activity log finders against the
+ * schema of the Liquibase changelog, and fails if one of them scans the whole table. Postgres is
+ * checked when klaw.test.postgres.url (and .username, .password) points to an empty database.
+ */
+public class QueryPlanTest {
+
+  private static final List<String> HOT_QUERIES =
+      List.of(
+          "select * from kwtopics where env = 'dev' and tenantid = 101",
+          "select * from kwtopics where teamid = 1 and tenantid = 101",
+          "select * from kwtopics where topicname = 'topic' and tenantid = 101",
+          "select * from kwtopics where topicname = 'topic' and env = 'dev' and tenantid = 101",
+          "select topicname from kwtopics where env = 'dev' and tenantid = 101",
+          "select env, count(*) from kwtopics where teamid = 1 and tenantid = 101 group by env",
+          "select * from kwacls where env = 'dev' and tenantid = 101",
+          "select * from kwacls where env = 'dev' and topicname = 'topic' and tenantid = 101",
+          "select * from kwacls where env in ('dev', 'tst') and topicname = 'topic'"
+              + " and tenantid = 101",
+          "select * from kwacls where topictype = 'Producer' and teamid = 1 and tenantid = 101",
+          "select env, count(*) from kwacls where teamid = 1 and tenantid = 101 group by env",
+          "select * from kwtopicrequests where tenantid = 101 and env = 'dev'"
+              + " and topicstatus = 'created' and topicname = 'topic'",
+          "select * from kwtopicrequests where tenantid = 101 and env = 'dev'"
+              + " and topicstatus = 'created'",
+          "select topicstatus, count(*) from kwtopicrequests where tenantid = 101"
+              + " and teamid = 1 group by topicstatus",
+          "select * from kwaclrequests where tenantid = 101 and env = 'dev'"
+              + " and topicstatus = 'created' and topicname = 'topic'",
+          "select * from kwaclrequests where tenantid = 101 and env = 'dev'"
+              + " and topicstatus = 'created'",
+          "select topicstatus, count(*) from kwaclrequests where tenantid = 101"
+              + " and requestingteam = 1 group by topicstatus",
+          "select topicstatus, count(*) from kwaclrequests where tenantid = 101"
+              + " and teamid = 1 group by topicstatus",
+          "select * from kwactivitylog where env = 'dev' and tenantid = 101",
+          "select * from kwactivitylog where env = 'dev' and teamid = 1 and tenantid = 101",
+          "select * from kwactivitylog where teamid = 1 and tenantid = 101");
+
+  @Test
+  public void hotQueriesUseIndexesOnH2() throws Exception {
+    SingleConnectionDataSource dataSource =
+        new SingleConnectionDataSource("jdbc:h2:mem:queryplans;DB_CLOSE_DELAY=-1", "sa", "", true);
+    try {
+      migrate(dataSource);
+      assertNoFullScans(new JdbcTemplate(dataSource), plan -> plan.contains(".tableScan"));
+    } finally {
+      dataSource.destroy();
+    }
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "klaw.test.postgres.url", matches = ".+")
+  public void hotQueriesUseIndexesOnPostgres() throws Exception {
+    SingleConnectionDataSource dataSource =
+        new SingleConnectionDataSource(
+            System.getProperty("klaw.test.postgres.url"),
+            System.getProperty("klaw.test.postgres.username"),
+            System.getProperty("klaw.test.postgres.password"),
+            true);
+    try {
+      migrate(dataSource);
+      JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+      // the tables are empty, judge whether an index can be used rather than the row estimates
+      jdbcTemplate.execute("set enable_seqscan = off");
+      assertNoFullScans(jdbcTemplate, plan -> plan.contains("Seq Scan"));
+    } finally {
+      dataSource.destroy();
+    }
+  }
+
+  private static void migrate(DataSource dataSource) throws Exception {
+    SpringLiquibase liquibase = new SpringLiquibase();
+    liquibase.setDataSource(dataSource);
+    liquibase.setChangeLog("classpath:db/changelog/changelog.yaml");
+    liquibase.setResourceLoader(new DefaultResourceLoader());
+    liquibase.afterPropertiesSet();
+  }
+
+  private static void assertNoFullScans(JdbcTemplate jdbcTemplate, Predicate<String> isFullScan) {
+    for (String query : HOT_QUERIES) {
+      String plan = String.join("\n", jdbcTemplate.queryForList("explain " + query, String.class));
+      assertThat(isFullScan.test(plan))
+          .as("full scan in the plan of [%s]:%n%s", query, plan)
+          .isFalse();
+    }
+  }
+}
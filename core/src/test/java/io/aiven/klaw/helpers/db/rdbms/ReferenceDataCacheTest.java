@@ -0,0 +1,93 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import io.aiven.klaw.config.CacheConfig;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.model.enums.EntityType;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ReferenceDataCacheTest {
+
+  @Mock private EntityManagerFactory entityManagerFactory;
+
+  @Mock private SessionFactory sessionFactory;
+
+  @Mock private Cache cache;
+
+  @Mock private org.hibernate.Cache hibernateCache;
+
+  @Mock private org.springframework.cache.CacheManager springCacheManager;
+
+  @Mock private org.springframework.cache.Cache tenantsInfoCache;
+
+  @InjectMocks private ReferenceDataCache referenceDataCache;
+
+  @Test
+  public void createCacheManagerWithBoundedRegions() {
+    CacheManager cacheManager =
+        ReferenceDataCache.createCacheManager(500, 200, Duration.ofMinutes(10));
+
+    for (String region : ReferenceDataCache.ENTITY_REGIONS) {
+      assertThat(getConfiguration(cacheManager, region).getMaximumSize())
+          .isEqualTo(OptionalLong.of(500));
+    }
+    CaffeineConfiguration<?, ?> queryConfiguration =
+        getConfiguration(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+    assertThat(queryConfiguration.getMaximumSize()).isEqualTo(OptionalLong.of(200));
+    assertThat(queryConfiguration.getExpireAfterWrite())
+        .isEqualTo(OptionalLong.of(Duration.ofMinutes(10).toNanos()));
+    assertThat(
+            getConfiguration(
+                    cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)
+                .getMaximumSize())
+        .isEmpty();
+    cacheManager.close();
+  }
+
+  @Test
+  public void evictEntitiesAndQueriesOfMetadataUpdate() {
+    when(entityManagerFactory.getCache()).thenReturn(cache);
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getCache()).thenReturn(hibernateCache);
+    when(springCacheManager.getCache(CacheConfig.TENANTS_INFO_CACHE)).thenReturn(tenantsInfoCache);
+
+    referenceDataCache.evict(EntityType.CLUSTER);
+
+    verify(tenantsInfoCache).clear();
+    verify(cache).evict(KwClusters.class);
+    verify(cache, never()).evictAll();
+    verify(hibernateCache).evictQueryRegions();
+  }
+
+  @Test
+  public void evictNothingForTopics() {
+    when(entityManagerFactory.getCache()).thenReturn(cache);
+
+    referenceDataCache.evict(EntityType.TOPICS);
+
+    verifyNoInteractions(cache, sessionFactory, springCacheManager);
+  }
+
+  private static CaffeineConfiguration<?, ?> getConfiguration(
+      CacheManager cacheManager, String region) {
+    return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+  }
+}
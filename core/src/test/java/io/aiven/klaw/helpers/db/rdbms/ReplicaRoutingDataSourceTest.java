@@ -0,0 +1,133 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ReplicaRoutingDataSourceTest {
+
+  private static final String MARKER_QUERY = "select name from kwmarker";
+
+  private DataSource primary;
+
+  private DataSource replica;
+
+  @BeforeEach
+  public void setUp() {
+    primary = createDataSource("primary");
+    replica = createDataSource("replica");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    new JdbcTemplate(primary).execute("drop table kwmarker");
+    new JdbcTemplate(replica).execute("drop table kwmarker");
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  public void readOnlyTransactionsReadFromReplica() {
+    ReplicaRoutingDataSource routingDataSource = createRoutingDataSource("");
+
+    assertThat(read(routingDataSource, true)).isEqualTo("replica");
+    assertThat(read(routingDataSource, false)).isEqualTo("primary");
+    // without a transaction
+    assertThat(new JdbcTemplate(lazy(routingDataSource)).queryForObject(MARKER_QUERY, String.class))
+        .isEqualTo("primary");
+  }
+
+  @Test
+  public void userReadsOwnWritesFromPrimary() {
+    ReplicaRoutingDataSource routingDataSource = createRoutingDataSource("");
+    setUser("kwusera");
+    write(routingDataSource);
+
+    assertThat(read(routingDataSource, true)).isEqualTo("primary");
+
+    setUser("kwuserb");
+    assertThat(read(routingDataSource, true)).isEqualTo("replica");
+  }
+
+  @Test
+  public void laggingReplicaIsSkipped() {
+    ReplicaRoutingDataSource routingDataSource = createRoutingDataSource("select 60");
+
+    routingDataSource.checkReplicaLag();
+
+    assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    assertThat(read(routingDataSource, true)).isEqualTo("primary");
+  }
+
+  @Test
+  public void replicaWithinLagIsUsed() {
+    ReplicaRoutingDataSource routingDataSource = createRoutingDataSource("select 1.5");
+
+    routingDataSource.checkReplicaLag();
+
+    assertThat(routingDataSource.isReplicaAvailable()).isTrue();
+    assertThat(read(routingDataSource, true)).isEqualTo("replica");
+  }
+
+  @Test
+  public void failingLagCheckSkipsReplica() {
+    ReplicaRoutingDataSource routingDataSource =
+        createRoutingDataSource("select lag from kwreplicalag");
+
+    routingDataSource.checkReplicaLag();
+
+    assertThat(read(routingDataSource, true)).isEqualTo("primary");
+  }
+
+  private ReplicaRoutingDataSource createRoutingDataSource(String lagQuery) {
+    ReplicaRoutingDataSource routingDataSource =
+        new ReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(10), lagQuery);
+    routingDataSource.afterPropertiesSet();
+    return routingDataSource;
+  }
+
+  private String read(DataSource routingDataSource, boolean readOnly) {
+    DataSource dataSource = lazy(routingDataSource);
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(
+        status -> new JdbcTemplate(dataSource).queryForObject(MARKER_QUERY, String.class));
+  }
+
+  private void write(DataSource routingDataSource) {
+    DataSource dataSource = lazy(routingDataSource);
+    new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+        .executeWithoutResult(
+            status -> new JdbcTemplate(dataSource).update("update kwmarker set name = name"));
+  }
+
+  private static DataSource lazy(DataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  private static void setUser(String user) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+  }
+
+  private static DataSource createDataSource(String name) {
+    DataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:" + name + "routing;DB_CLOSE_DELAY=-1");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("create table kwmarker (name varchar(25))");
+    jdbcTemplate.update("insert into kwmarker values (?)", name);
+    return dataSource;
+  }
+}
@@ -218,6 +218,18 @@ public class TopicIntegrationTest {
     assertThat(res2.size()).isEqualTo(1);
   }
 
+  @Test
+  @Order(12)
+  public void getTopicsOfNames() {
+    List<Topic> topics =
+        selectDataJdbc.getTopics(List.of("secondtopic0", "firsttopic1", "unknowntopic"), 101);
+
+    // secondtopic0 once on dev and twice on tst
+    assertThat(topics)
+        .extracting(Topic::getTopicname)
+        .containsExactlyInAnyOrder("secondtopic0", "secondtopic0", "secondtopic0", "firsttopic1");
+  }
+
   private void generateData(
       int number,
       int tenantId,
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.AclID;
 import io.aiven.klaw.dao.CRUDResponse;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.EnvTag;
@@ -16,7 +18,9 @@ import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
+import io.aiven.klaw.helpers.AclMatchIndex;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.repository.AclRepo;
 import io.aiven.klaw.repository.AclRequestsRepo;
 import io.aiven.klaw.repository.KwKafkaConnectorRepo;
 import io.aiven.klaw.repository.MessageSchemaRepo;
@@ -28,6 +32,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,6 +69,10 @@ public class UpdateDataJdbcTest {
 
   @Mock private SelectDataJdbc selectDataJdbcHelper;
 
+  @Mock private AclRepo aclRepo;
+
+  @Mock private AclMatchIndex aclMatchIndex;
+
   @Mock private Env kafkaEnv;
 
   private UpdateDataJdbc updateData;
@@ -91,6 +100,23 @@ public class UpdateDataJdbcTest {
     ReflectionTestUtils.setField(updateData, "kafkaConnectorRepo", kafkaConnectorRepo);
     ReflectionTestUtils.setField(updateData, "messageSchemaRepo", messageSchemaRepo);
     ReflectionTestUtils.setField(updateData, "tokenTTL", TOKEN_TTL);
+    ReflectionTestUtils.setField(updateData, "aclRepo", aclRepo);
+    ReflectionTestUtils.setField(updateData, "aclMatchIndex", aclMatchIndex);
+  }
+
+  @Test
+  public void updateJsonParamsUpdatesIndexedAcl() {
+    Acl acl = new Acl();
+    acl.setReq_no(1001);
+    acl.setTenantId(101);
+    when(aclRepo.findById(new AclID(1001, 101))).thenReturn(Optional.of(acl));
+    when(aclRepo.save(acl)).thenReturn(acl);
+
+    String result = updateData.updateJsonParams(Map.of("aivenaclid", "abc"), 1001, 101);
+
+    assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(acl.getJsonParams()).containsEntry("aivenaclid", "abc");
+    verify(aclMatchIndex).add(acl);
   }
 
   @Test
@@ -1,14 +1,18 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_105;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_107;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -30,7 +34,9 @@ import io.aiven.klaw.model.enums.AclIPPrincipleType;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.AclRequestsModel;
@@ -75,6 +81,7 @@ public class AclControllerServiceTest {
   @Mock private ManageDatabase manageDatabase;
   @Mock private CommonUtilsService commonUtilsService;
   @Mock private RolesPermissionsControllerService rolesPermissionsControllerService;
+  @Mock private ApprovalOutboxService approvalOutboxService;
   @Mock private MailUtils mailService;
   @Mock private UserInfo userInfo;
 
@@ -82,6 +89,7 @@ public class AclControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     utilMethods = new UtilMethods();
     this.aclControllerService = new AclControllerService(clusterApiService, mailService);
 
@@ -94,6 +102,8 @@ public class AclControllerServiceTest {
         aclControllerService,
         "rolesPermissionsControllerService",
         rolesPermissionsControllerService);
+    ReflectionTestUtils.setField(
+        aclControllerService, "approvalOutboxService", approvalOutboxService);
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
   }
@@ -502,6 +512,43 @@ public class AclControllerServiceTest {
 
     ApiResponse apiResp = aclControllerService.approveAclRequests("112");
     assertThat(apiResp.isSuccess()).isTrue();
+    // the other servers drop the indexed acls of the tenant
+    verify(commonUtilsService)
+        .updateMetadata(0, EntityType.ACLS, MetadataOperationType.UPDATE, null);
+  }
+
+  @Test
+  @Order(16)
+  public void approveAclRequestsOfBulkVerdict() throws KlawException {
+    AclRequests aclReq1 = getAclRequestDao();
+    aclReq1.setAcl_ip("1.2.3.4<ACL>5.6.7.8");
+    AclRequests aclReq2 = getAclRequestDao();
+    aclReq2.setReq_no(113);
+
+    stubUserInfo();
+    when(handleDbRequests.getAclRequestsForReqNos(List.of(112, 113, 114), 0))
+        .thenReturn(List.of(aclReq1, aclReq2));
+    when(clusterApiService.updateAcls(anyList(), anyInt()))
+        .thenReturn(List.of(ApiResponse.SUCCESS, ApiResponse.SUCCESS, ApiResponse.FAILURE));
+    when(handleDbRequests.updateAclRequest(any(), any(), anyMap(), anyBoolean()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    Topic t1 = new Topic();
+    t1.setTopicname("testtopic");
+    t1.setEnvironment("1");
+    when(manageDatabase.getTopicsForTenant(anyInt())).thenReturn(List.of(t1));
+
+    List<ApiResponse> apiResponses =
+        aclControllerService.approveAclRequests(List.of("112", "113", "114"));
+
+    assertThat(apiResponses)
+        .extracting(ApiResponse::getMessage)
+        .containsExactly(ApiResultStatus.SUCCESS.value, ApiResultStatus.FAILURE.value, ACL_ERR_105);
+    // both ips of the first request and the ip of the second one are submitted in one call
+    verify(clusterApiService, times(1)).updateAcls(argThat(aclReqs -> aclReqs.size() == 3), eq(0));
+    verify(clusterApiService, never()).approveAclRequests(any(), anyInt());
+    verify(handleDbRequests, times(1)).updateAclRequest(eq(aclReq1), any(), anyMap(), eq(false));
   }
 
   @Test
@@ -578,6 +625,7 @@ public class AclControllerServiceTest {
 
     ApiResponse apiResp = aclControllerService.approveAclRequests(req_no);
     assertThat(apiResp.getMessage()).isEqualTo("failure");
+    verify(commonUtilsService, never()).updateMetadata(anyInt(), eq(EntityType.ACLS), any(), any());
   }
 
   @Test
@@ -7,6 +7,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
@@ -42,8 +44,6 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -69,6 +69,7 @@ public class AclSyncControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     utilMethods = new UtilMethods();
     this.aclSyncControllerService = new AclSyncControllerService(clusterApiService, mailService);
 
@@ -309,8 +310,6 @@ public class AclSyncControllerServiceTest {
             .data(aivenAclId)
             .message(ApiResultStatus.SUCCESS.value)
             .build();
-    ResponseEntity<ApiResponse> apiResponseResponseEntity =
-        new ResponseEntity<>(apiResponse, HttpStatus.OK);
     stubUserInfo();
     when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
@@ -325,8 +324,7 @@ public class AclSyncControllerServiceTest {
     when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
     when(handleDbRequests.getSyncAclsFromReqNo(anyInt(), anyInt()))
         .thenReturn(getAclsSOT0().get(0));
-    when(clusterApiService.approveAclRequests(any(), anyInt()))
-        .thenReturn(apiResponseResponseEntity);
+    when(clusterApiService.updateAcls(anyList(), anyInt())).thenReturn(List.of(apiResponse));
     when(handleDbRequests.updateJsonParams(anyMap(), anyInt(), anyInt()))
         .thenReturn(ApiResultStatus.SUCCESS.value);
 
@@ -334,6 +332,7 @@ public class AclSyncControllerServiceTest {
 
     ApiResponse apiResponseActual = aclSyncControllerService.updateSyncBackAcls(syncBackAcls);
     assertThat(apiResponseActual.isSuccess()).isTrue();
+    verify(handleDbRequests).updateJsonParams(eq(aivenAclId), anyInt(), eq(101));
   }
 
   private static SyncBackAcls getSyncBackAcls(String envSelected) {
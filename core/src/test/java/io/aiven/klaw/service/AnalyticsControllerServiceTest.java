@@ -15,7 +15,6 @@ import io.aiven.klaw.constants.TestConstants;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
-import io.aiven.klaw.helpers.KwConstants;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.charts.ChartsJsOverview;
 import io.aiven.klaw.model.charts.TeamOverview;
@@ -23,13 +22,22 @@ import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.response.AclsCountPerEnv;
+import io.aiven.klaw.model.response.KwReportProgress;
 import io.aiven.klaw.model.response.TopicsCountPerEnv;
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -37,10 +45,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class AnalyticsControllerServiceTest {
@@ -48,9 +60,17 @@ class AnalyticsControllerServiceTest {
   @Mock private CommonUtilsService commonUtilsService;
   @Spy @InjectMocks private AnalyticsControllerService analyticsControllerService;
 
+  @Spy
+  private AsyncTaskExecutor reportsTaskExecutor = new TaskExecutorAdapter(new SyncTaskExecutor());
+
   @Mock private HandleDbRequestsJdbc handleDbRequestsJdbc;
   @Mock private UserDetails userDetails;
 
+  @BeforeEach
+  public void setUp() {
+    ReflectionTestUtils.setField(analyticsControllerService, "rowAccessWindowSize", 100);
+  }
+
   private void loginMock() {
     Authentication authentication = Mockito.mock(Authentication.class);
     SecurityContext securityContext = Mockito.mock(SecurityContext.class);
@@ -581,7 +601,7 @@ class AnalyticsControllerServiceTest {
   }
 
   @Test
-  public void generateReport_UnauthorizedUser() {
+  public void generateReport_UnauthorizedUser() throws Exception {
     TeamOverview teamOverview = UtilMethods.getDummyTeamOverview();
 
     List<TeamOverview> listTeamsOverview = List.of(teamOverview);
@@ -592,10 +612,6 @@ class AnalyticsControllerServiceTest {
     Mockito.when(commonUtilsService.getCurrentUserName()).thenReturn(TestConstants.USERNAME);
     Mockito.when(commonUtilsService.getTenantId(TestConstants.USERNAME))
         .thenReturn(TestConstants.TENANT_ID);
-    Mockito.when(
-            manageDatabase.getKwPropertyValue(
-                KwConstants.KW_REPORTS_TMP_LOCATION_KEY, TestConstants.TENANT_ID))
-        .thenReturn(TestConstants.KW_REPORTS_LOCATION);
     Mockito.doReturn(listTeamsOverview).when(analyticsControllerService).getTeamsOverview(null);
     Mockito.when(commonUtilsService.getEnvsFromUserId(any()))
         .thenReturn(Set.of(TestConstants.ENV_ID));
@@ -616,13 +632,21 @@ class AnalyticsControllerServiceTest {
                 TestConstants.TEAM_ID, TestConstants.TENANT_ID))
         .thenReturn(List.of(acl));
 
-    File actual = analyticsControllerService.generateReport();
-    Assertions.assertNotNull(actual);
-    actual.deleteOnExit();
+    ByteArrayOutputStream reportStream = new ByteArrayOutputStream();
+    analyticsControllerService.generateReport(reportStream);
+
+    assertReportEntries(reportStream, "KlawReport.xlsx");
+    KwReportProgress reportProgress = analyticsControllerService.getReportProgress();
+    Assertions.assertEquals(ApiResultStatus.SUCCESS.value, reportProgress.getStatus());
+    Assertions.assertEquals(reportProgress.getSheetsTotal(), reportProgress.getSheetsWritten());
+    Assertions.assertEquals(9, reportProgress.getSheetsWritten());
+    // the outcome is only kept until it is fetched
+    Assertions.assertEquals(
+        "not started", analyticsControllerService.getReportProgress().getStatus());
   }
 
   @Test
-  public void generateReport_AuthorizedUser() {
+  public void generateReport_AuthorizedUser() throws Exception {
     TeamOverview teamOverview = UtilMethods.getDummyTeamOverview();
 
     List<TeamOverview> listTeamsOverview = List.of(teamOverview);
@@ -633,10 +657,6 @@ class AnalyticsControllerServiceTest {
     Mockito.when(commonUtilsService.getCurrentUserName()).thenReturn(TestConstants.USERNAME);
     Mockito.when(commonUtilsService.getTenantId(TestConstants.USERNAME))
         .thenReturn(TestConstants.TENANT_ID);
-    Mockito.when(
-            manageDatabase.getKwPropertyValue(
-                KwConstants.KW_REPORTS_TMP_LOCATION_KEY, TestConstants.TENANT_ID))
-        .thenReturn(TestConstants.KW_REPORTS_LOCATION);
     Mockito.doReturn(listTeamsOverview).when(analyticsControllerService).getTeamsOverview(null);
     Mockito.when(commonUtilsService.getEnvsFromUserId(any()))
         .thenReturn(Set.of(TestConstants.ENV_ID));
@@ -652,8 +672,28 @@ class AnalyticsControllerServiceTest {
     Mockito.when(handleDbRequestsJdbc.getAllConsumerGroups(TestConstants.TENANT_ID))
         .thenReturn(List.of(acl));
 
-    File actual = analyticsControllerService.generateReport();
-    Assertions.assertNotNull(actual);
-    actual.deleteOnExit();
+    ByteArrayOutputStream reportStream = new ByteArrayOutputStream();
+    analyticsControllerService.generateReport(reportStream);
+
+    assertReportEntries(reportStream, "KlawReport.xlsx");
+    Assertions.assertEquals(
+        ApiResultStatus.SUCCESS.value, analyticsControllerService.getReportProgress().getStatus());
+  }
+
+  private void assertReportEntries(ByteArrayOutputStream reportStream, String... expectedEntries)
+      throws IOException {
+    List<String> entries = new ArrayList<>();
+    try (ZipInputStream zipInputStream =
+        new ZipInputStream(new ByteArrayInputStream(reportStream.toByteArray()))) {
+      ZipEntry zipEntry;
+      while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+        entries.add(zipEntry.getName());
+        try (XSSFWorkbook workbook =
+            new XSSFWorkbook(CloseShieldInputStream.wrap(zipInputStream))) {
+          Assertions.assertEquals(9, workbook.getNumberOfSheets());
+        }
+      }
+    }
+    Assertions.assertEquals(List.of(expectedEntries), entries);
   }
 }
@@ -0,0 +1,212 @@
+package io.aiven.klaw.service;
+
+import static io.aiven.klaw.error.KlawErrorMessages.APPROVAL_OUTBOX_102;
+import static io.aiven.klaw.error.KlawErrorMessages.APPROVAL_OUTBOX_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwApprovalOutbox;
+import io.aiven.klaw.dao.TopicRequest;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.ApprovalOutboxStatus;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.enums.RequestStatus;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class ApprovalOutboxServiceTest {
+
+  private static final int TENANT_ID = 101;
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private HandleDbRequestsJdbc handleDbRequests;
+
+  @Mock private CommonUtilsService commonUtilsService;
+
+  @Mock private MailUtils mailService;
+
+  @InjectMocks private ApprovalOutboxService approvalOutboxService;
+
+  @BeforeEach
+  public void setUp() {
+    ReflectionTestUtils.setField(approvalOutboxService, "maxAttempts", 3);
+    ReflectionTestUtils.setField(approvalOutboxService, "retryBackoff", Duration.ofSeconds(30));
+    ReflectionTestUtils.setField(approvalOutboxService, "lease", Duration.ofMinutes(5));
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+  }
+
+  @Test
+  public void enqueueNewEntry() {
+    when(handleDbRequests.getApprovalOutboxEntry(RequestEntityType.TOPIC.name(), 1001, TENANT_ID))
+        .thenReturn(null);
+    when(handleDbRequests.insertIntoApprovalOutbox(any()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+
+    ApiResponse apiResponse =
+        approvalOutboxService.enqueue(
+            RequestEntityType.TOPIC, 1001, "1", TENANT_ID, "kwusera", "https://klaw");
+
+    ArgumentCaptor<KwApprovalOutbox> captor = ArgumentCaptor.forClass(KwApprovalOutbox.class);
+    verify(handleDbRequests).insertIntoApprovalOutbox(captor.capture());
+    KwApprovalOutbox entry = captor.getValue();
+    assertThat(apiResponse.getMessage()).isEqualTo(APPROVAL_OUTBOX_102);
+    assertThat(entry.getStatus()).isEqualTo(ApprovalOutboxStatus.PENDING.name());
+    assertThat(entry.getReqNo()).isEqualTo(1001);
+    assertThat(entry.getEnvironment()).isEqualTo("1");
+    assertThat(entry.getApprover()).isEqualTo("kwusera");
+    assertThat(entry.getLoginUrl()).isEqualTo("https://klaw");
+    assertThat(entry.getAttempts()).isZero();
+  }
+
+  @Test
+  public void enqueueRejectsQueuedEntry() {
+    when(handleDbRequests.getApprovalOutboxEntry(RequestEntityType.ACL.name(), 1001, TENANT_ID))
+        .thenReturn(getEntry(ApprovalOutboxStatus.RUNNING, 0));
+
+    ApiResponse apiResponse =
+        approvalOutboxService.enqueue(
+            RequestEntityType.ACL, 1001, "1", TENANT_ID, "kwusera", "https://klaw");
+
+    assertThat(apiResponse.isSuccess()).isFalse();
+    assertThat(apiResponse.getMessage()).isEqualTo(APPROVAL_OUTBOX_ERR_101);
+    verify(handleDbRequests, never()).insertIntoApprovalOutbox(any());
+  }
+
+  @Test
+  public void enqueueFailedEntryAgain() {
+    KwApprovalOutbox failedEntry = getEntry(ApprovalOutboxStatus.FAILURE, 3);
+    failedEntry.setMessage("failure");
+    when(handleDbRequests.getApprovalOutboxEntry(RequestEntityType.TOPIC.name(), 1001, TENANT_ID))
+        .thenReturn(failedEntry);
+    when(handleDbRequests.insertIntoApprovalOutbox(failedEntry))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+
+    ApiResponse apiResponse =
+        approvalOutboxService.enqueue(
+            RequestEntityType.TOPIC, 1001, "1", TENANT_ID, "kwuserb", "https://klaw");
+
+    assertThat(apiResponse.isSuccess()).isTrue();
+    verify(handleDbRequests).insertIntoApprovalOutbox(failedEntry);
+    assertThat(failedEntry.getStatus()).isEqualTo(ApprovalOutboxStatus.PENDING.name());
+    assertThat(failedEntry.getAttempts()).isZero();
+    assertThat(failedEntry.getMessage()).isNull();
+    assertThat(failedEntry.getApprover()).isEqualTo("kwuserb");
+  }
+
+  @Test
+  public void enqueueRejectsEntryQueuedConcurrently() {
+    when(handleDbRequests.getApprovalOutboxEntry(RequestEntityType.TOPIC.name(), 1001, TENANT_ID))
+        .thenReturn(null);
+    when(handleDbRequests.insertIntoApprovalOutbox(any()))
+        .thenReturn(ApiResultStatus.FAILURE.value);
+
+    ApiResponse apiResponse =
+        approvalOutboxService.enqueue(
+            RequestEntityType.TOPIC, 1001, "1", TENANT_ID, "kwusera", "https://klaw");
+
+    assertThat(apiResponse.isSuccess()).isFalse();
+    assertThat(apiResponse.getMessage()).isEqualTo(APPROVAL_OUTBOX_ERR_101);
+  }
+
+  @Test
+  public void claimFailsWhenClaimedConcurrently() {
+    KwApprovalOutbox entry = getEntry(ApprovalOutboxStatus.PENDING, 0);
+    when(handleDbRequests.updateApprovalOutboxEntry(entry))
+        .thenReturn(ApiResultStatus.FAILURE.value);
+
+    assertThat(approvalOutboxService.claim(entry)).isFalse();
+    assertThat(entry.getNextAttemptTime().getTime()).isGreaterThan(System.currentTimeMillis());
+  }
+
+  @Test
+  public void renewExtendsLease() {
+    KwApprovalOutbox entry = getEntry(ApprovalOutboxStatus.RUNNING, 0);
+    long now = System.currentTimeMillis();
+    when(handleDbRequests.updateApprovalOutboxEntry(entry))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+
+    assertThat(approvalOutboxService.renew(entry)).isTrue();
+    assertThat(entry.getNextAttemptTime().getTime()).isGreaterThanOrEqualTo(now + 300_000);
+    assertThat(entry.getStatus()).isEqualTo(ApprovalOutboxStatus.RUNNING.name());
+  }
+
+  @Test
+  public void completeSucceeded() {
+    KwApprovalOutbox entry = getEntry(ApprovalOutboxStatus.RUNNING, 0);
+
+    approvalOutboxService.complete(entry, ApiResponse.ok("Topic Status: success"));
+
+    verify(handleDbRequests).updateApprovalOutboxEntry(entry);
+    assertThat(entry.getStatus()).isEqualTo(ApprovalOutboxStatus.SUCCESS.name());
+    assertThat(entry.getAttempts()).isEqualTo(1);
+    assertThat(entry.getCompletedTime()).isNotNull();
+  }
+
+  @Test
+  public void completeFailedIsRetriedWithBackoff() {
+    KwApprovalOutbox entry = getEntry(ApprovalOutboxStatus.RUNNING, 1);
+    long now = System.currentTimeMillis();
+
+    approvalOutboxService.complete(entry, ApiResponse.notOk("Topic Status: failure"));
+
+    assertThat(entry.getStatus()).isEqualTo(ApprovalOutboxStatus.PENDING.name());
+    assertThat(entry.getAttempts()).isEqualTo(2);
+    assertThat(entry.getMessage()).isEqualTo("Topic Status: failure");
+    assertThat(entry.getNextAttemptTime().getTime()).isGreaterThanOrEqualTo(now + 60_000);
+    assertThat(entry.getCompletedTime()).isNull();
+  }
+
+  @Test
+  public void completeFailedAfterMaxAttempts() {
+    KwApprovalOutbox entry = getEntry(ApprovalOutboxStatus.RUNNING, 2);
+
+    approvalOutboxService.complete(entry, ApiResponse.notOk("Topic Status: failure"));
+
+    assertThat(entry.getStatus()).isEqualTo(ApprovalOutboxStatus.FAILURE.name());
+    assertThat(entry.getAttempts()).isEqualTo(3);
+    assertThat(entry.getCompletedTime()).isNotNull();
+  }
+
+  @Test
+  public void completeFailedOfApprovedRequestSucceeded() {
+    KwApprovalOutbox entry = getEntry(ApprovalOutboxStatus.RUNNING, 1);
+    TopicRequest topicRequest = new TopicRequest();
+    topicRequest.setRequestStatus(RequestStatus.APPROVED.value);
+    when(handleDbRequests.getTopicRequestsForTopic(1001, TENANT_ID)).thenReturn(topicRequest);
+
+    approvalOutboxService.complete(entry, ApiResponse.notOk(REQ_ERR_101));
+
+    // a previous execution approved it, its result was not recorded
+    assertThat(entry.getStatus()).isEqualTo(ApprovalOutboxStatus.SUCCESS.name());
+    assertThat(entry.getAttempts()).isEqualTo(2);
+    assertThat(entry.getCompletedTime()).isNotNull();
+  }
+
+  private KwApprovalOutbox getEntry(ApprovalOutboxStatus status, int attempts) {
+    KwApprovalOutbox entry = new KwApprovalOutbox();
+    entry.setTenantId(TENANT_ID);
+    entry.setEntityType(RequestEntityType.TOPIC.name());
+    entry.setReqNo(1001);
+    entry.setEnvironment("1");
+    entry.setStatus(status.name());
+    entry.setApprover("kwusera");
+    entry.setAttempts(attempts);
+    return entry;
+  }
+}
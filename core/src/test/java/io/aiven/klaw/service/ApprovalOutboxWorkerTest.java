@@ -0,0 +1,173 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwApprovalOutbox;
+import io.aiven.klaw.helpers.EnvGraph;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.enums.ApprovalOutboxStatus;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class ApprovalOutboxWorkerTest {
+
+  private static final int TENANT_ID = 101;
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private ApprovalOutboxService approvalOutboxService;
+
+  @Mock private TopicControllerService topicControllerService;
+
+  @Mock private AclControllerService aclControllerService;
+
+  @Mock private SchemaRegistryControllerService schemaRegistryControllerService;
+
+  @Mock private KafkaConnectControllerService kafkaConnectControllerService;
+
+  @InjectMocks private ApprovalOutboxWorker approvalOutboxWorker;
+
+  @BeforeEach
+  public void setUp() {
+    Env env = new Env();
+    env.setId("1");
+    env.setName("DEV");
+    env.setClusterId(1);
+    ReflectionTestUtils.setField(approvalOutboxWorker, "batchSize", 50);
+    ReflectionTestUtils.setField(approvalOutboxWorker, "clusterConcurrency", 1);
+    ReflectionTestUtils.setField(
+        approvalOutboxWorker,
+        "approvalTaskExecutor",
+        new TaskExecutorAdapter(new SyncTaskExecutor()));
+    lenient()
+        .when(manageDatabase.getEnvGraph(TENANT_ID))
+        .thenReturn(EnvGraph.build(List.of(env), List.of(), List.of(), null));
+  }
+
+  @Test
+  public void pollExecutesClaimedEntryOnBehalfOfApprover() throws Exception {
+    KwApprovalOutbox entry = getEntry(RequestEntityType.TOPIC, 1001);
+    ApiResponse apiResponse = ApiResponse.ok("Topic Status: success");
+    when(approvalOutboxService.getDueEntries(50)).thenReturn(List.of(entry));
+    when(approvalOutboxService.claim(entry)).thenReturn(true);
+    when(topicControllerService.approveQueuedTopicRequest(
+            1001, "kwusera", TENANT_ID, "https://klaw"))
+        .thenAnswer(
+            invocation -> {
+              assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                  .isEqualTo("kwusera");
+              return apiResponse;
+            });
+
+    approvalOutboxWorker.poll();
+
+    verify(approvalOutboxService).complete(entry, apiResponse);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+
+  @Test
+  public void pollSkipsEntryClaimedByAnotherInstance() throws Exception {
+    KwApprovalOutbox entry = getEntry(RequestEntityType.ACL, 1001);
+    when(approvalOutboxService.getDueEntries(50)).thenReturn(List.of(entry));
+    when(approvalOutboxService.claim(entry)).thenReturn(false);
+
+    approvalOutboxWorker.poll();
+
+    verify(aclControllerService, never())
+        .approveQueuedAclRequest(anyInt(), anyString(), anyInt(), anyString());
+    verify(approvalOutboxService, never()).complete(any(), any());
+  }
+
+  @Test
+  public void pollLimitsRunningExecutionsPerCluster() {
+    List<Runnable> submitted = new ArrayList<>();
+    ReflectionTestUtils.setField(
+        approvalOutboxWorker, "approvalTaskExecutor", new TaskExecutorAdapter(submitted::add));
+    KwApprovalOutbox entry1 = getEntry(RequestEntityType.TOPIC, 1001);
+    KwApprovalOutbox entry2 = getEntry(RequestEntityType.TOPIC, 1002);
+    when(approvalOutboxService.getDueEntries(50)).thenReturn(List.of(entry1, entry2));
+    when(approvalOutboxService.claim(entry1)).thenReturn(true);
+
+    approvalOutboxWorker.poll();
+
+    // the second entry waits for the execution of the first one on the same cluster
+    assertThat(submitted).hasSize(1);
+    verify(approvalOutboxService, times(1)).claim(any());
+  }
+
+  @Test
+  public void executeFailureIsCompletedWithMessage() throws Exception {
+    KwApprovalOutbox entry = getEntry(RequestEntityType.TOPIC, 1001);
+    when(topicControllerService.approveQueuedTopicRequest(
+            1001, "kwusera", TENANT_ID, "https://klaw"))
+        .thenThrow(new RuntimeException("Cluster not reachable"));
+
+    approvalOutboxWorker.execute(entry);
+
+    verify(approvalOutboxService)
+        .complete(
+            eq(entry),
+            argThat(
+                response ->
+                    !response.isSuccess()
+                        && "Cluster not reachable".equals(response.getMessage())));
+  }
+
+  @Test
+  public void leaseIsRenewedWhileExecuting() throws Exception {
+    KwApprovalOutbox entry = getEntry(RequestEntityType.TOPIC, 1001);
+    when(approvalOutboxService.renew(entry)).thenReturn(true);
+    when(topicControllerService.approveQueuedTopicRequest(
+            1001, "kwusera", TENANT_ID, "https://klaw"))
+        .thenAnswer(
+            invocation -> {
+              // a renewal running during the cluster call
+              approvalOutboxWorker.renewLeases();
+              return ApiResponse.ok("Topic Status: success");
+            });
+
+    approvalOutboxWorker.execute(entry);
+    approvalOutboxWorker.renewLeases();
+
+    // not renewed anymore once completed
+    verify(approvalOutboxService, times(1)).renew(entry);
+    verify(approvalOutboxService).complete(eq(entry), any());
+  }
+
+  private KwApprovalOutbox getEntry(RequestEntityType entityType, int reqNo) {
+    KwApprovalOutbox entry = new KwApprovalOutbox();
+    entry.setTenantId(TENANT_ID);
+    entry.setEntityType(entityType.name());
+    entry.setReqNo(reqNo);
+    entry.setEnvironment("1");
+    entry.setStatus(ApprovalOutboxStatus.PENDING.name());
+    entry.setApprover("kwusera");
+    entry.setLoginUrl("https://klaw");
+    entry.setAttempts(0);
+    return entry;
+  }
+}
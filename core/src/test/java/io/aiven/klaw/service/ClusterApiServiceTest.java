@@ -1,5 +1,7 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.CLUSTER_API_ERR_108;
+import static io.aiven.klaw.helpers.KwConstants.URI_UPDATE_ACLS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
@@ -53,6 +55,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
@@ -338,6 +341,90 @@ public class ClusterApiServiceTest {
         .isInstanceOf(KlawException.class);
   }
 
+  @Test
+  @Order(11)
+  public void updateAclsSubmitsRequestsInBatches() throws KlawException {
+    ReflectionTestUtils.setField(clusterApiService, "aclsBatchSize", 2);
+    List<AclRequests> aclReqs = new ArrayList<>();
+    for (int reqNo = 1001; reqNo <= 1003; reqNo++) {
+      AclRequests aclRequests = new AclRequests();
+      aclRequests.setReq_no(reqNo);
+      aclRequests.setEnvironment("DEV");
+      aclRequests.setTopicname("testtopic");
+      aclRequests.setRequestOperationType(RequestOperationType.CREATE.value);
+      aclRequests.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
+      aclReqs.add(aclRequests);
+    }
+
+    when(handleDbRequests.getEnvDetails(anyString(), anyInt())).thenReturn(this.env);
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(clustersHashMap);
+    when(clustersHashMap.get(any())).thenReturn(kwClusters);
+    when(kwClusters.getBootstrapServers()).thenReturn(BOOTSRAP_SERVERS);
+    when(kwClusters.getProtocol()).thenReturn(KafkaSupportedProtocol.PLAINTEXT);
+    when(kwClusters.getClusterName()).thenReturn("cluster");
+    when(kwClusters.getKafkaFlavor()).thenReturn("Apache Kafka");
+    when(restTemplate.exchange(
+            Mockito.endsWith(URI_UPDATE_ACLS),
+            any(),
+            Mockito.any(),
+            (ParameterizedTypeReference<List<ApiResponse>>) any()))
+        .thenReturn(
+            new ResponseEntity<>(List.of(ApiResponse.SUCCESS, ApiResponse.FAILURE), HttpStatus.OK))
+        .thenReturn(new ResponseEntity<>(List.of(ApiResponse.SUCCESS), HttpStatus.OK));
+
+    List<ApiResponse> apiResponses = clusterApiService.updateAcls(aclReqs, 1);
+
+    assertThat(apiResponses)
+        .containsExactly(ApiResponse.SUCCESS, ApiResponse.FAILURE, ApiResponse.SUCCESS);
+    verify(restTemplate, times(2))
+        .exchange(
+            Mockito.endsWith(URI_UPDATE_ACLS),
+            any(),
+            Mockito.any(),
+            (ParameterizedTypeReference<List<ApiResponse>>) any());
+  }
+
+  @Test
+  @Order(11)
+  public void updateAclsFailsOnlyTheRequestsOfTheFailingBatch() throws KlawException {
+    ReflectionTestUtils.setField(clusterApiService, "aclsBatchSize", 2);
+    List<AclRequests> aclReqs = new ArrayList<>();
+    for (int reqNo = 1001; reqNo <= 1003; reqNo++) {
+      AclRequests aclRequests = new AclRequests();
+      aclRequests.setReq_no(reqNo);
+      aclRequests.setEnvironment("DEV");
+      aclRequests.setTopicname("testtopic");
+      aclRequests.setRequestOperationType(RequestOperationType.CREATE.value);
+      aclRequests.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
+      aclReqs.add(aclRequests);
+    }
+
+    when(handleDbRequests.getEnvDetails(anyString(), anyInt())).thenReturn(this.env);
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(clustersHashMap);
+    when(clustersHashMap.get(any())).thenReturn(kwClusters);
+    when(kwClusters.getBootstrapServers()).thenReturn(BOOTSRAP_SERVERS);
+    when(kwClusters.getProtocol()).thenReturn(KafkaSupportedProtocol.PLAINTEXT);
+    when(kwClusters.getClusterName()).thenReturn("cluster");
+    when(kwClusters.getKafkaFlavor()).thenReturn("Apache Kafka");
+    when(restTemplate.exchange(
+            Mockito.endsWith(URI_UPDATE_ACLS),
+            any(),
+            Mockito.any(),
+            (ParameterizedTypeReference<List<ApiResponse>>) any()))
+        .thenReturn(
+            new ResponseEntity<>(List.of(ApiResponse.SUCCESS, ApiResponse.SUCCESS), HttpStatus.OK))
+        .thenThrow(new RestClientException("Read timed out"));
+
+    List<ApiResponse> apiResponses = clusterApiService.updateAcls(aclReqs, 1);
+
+    assertThat(apiResponses).hasSize(3);
+    assertThat(apiResponses.subList(0, 2)).containsOnly(ApiResponse.SUCCESS);
+    assertThat(apiResponses.get(2).isSuccess()).isFalse();
+    assertThat(apiResponses.get(2).getMessage()).isEqualTo(CLUSTER_API_ERR_108);
+  }
+
   @Test
   @Order(12)
   public void postSchemaSucess() throws KlawException {
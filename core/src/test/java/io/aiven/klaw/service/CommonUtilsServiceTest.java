@@ -3,7 +3,9 @@ package io.aiven.klaw.service;
 import static io.aiven.klaw.model.enums.AuthenticationType.DATABASE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,10 +13,14 @@ import static org.mockito.Mockito.when;
 import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.helpers.AclMatchIndex;
+import io.aiven.klaw.helpers.TopicOverviewCache;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.helpers.db.rdbms.ReferenceDataCache;
 import io.aiven.klaw.model.KwMetadataUpdates;
 import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.MetadataOperationType;
+import io.aiven.klaw.model.enums.PermissionType;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -22,9 +28,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(SpringExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -35,6 +44,9 @@ public class CommonUtilsServiceTest {
   @Mock private ManageDatabase manageDatabase;
   @Mock private HandleDbRequestsJdbc handleDbRequests;
   @Mock private InMemoryUserDetailsManager inMemoryUserDetailsManager;
+  @Mock private ReferenceDataCache referenceDataCache;
+  @Mock private AclMatchIndex aclMatchIndex;
+  @Mock private TopicOverviewCache topicOverviewCache;
 
   private static final String encryptorSecretKey = "encryptorSecretKey";
 
@@ -49,6 +61,9 @@ public class CommonUtilsServiceTest {
     ReflectionTestUtils.setField(
         commonUtilsService, "inMemoryUserDetailsManager", inMemoryUserDetailsManager);
     ReflectionTestUtils.setField(commonUtilsService, "encryptorSecretKey", encryptorSecretKey);
+    ReflectionTestUtils.setField(commonUtilsService, "referenceDataCache", referenceDataCache);
+    ReflectionTestUtils.setField(commonUtilsService, "aclMatchIndex", aclMatchIndex);
+    ReflectionTestUtils.setField(commonUtilsService, "topicOverviewCache", topicOverviewCache);
   }
 
   @Test
@@ -143,6 +158,7 @@ public class CommonUtilsServiceTest {
     commonUtilsService.updateMetadataCache(kwMetadataUpdates, false);
     verify(manageDatabase, times(1)).loadEnvsForOneTenant(eq(101));
     verify(manageDatabase, times(1)).loadTenantTeamsForOneTenant(eq(null), eq(101));
+    verify(referenceDataCache, times(1)).evict(EntityType.TEAM);
   }
 
   @Test
@@ -195,4 +211,119 @@ public class CommonUtilsServiceTest {
     verify(manageDatabase, times(1)).loadUsersForAllTenants();
     verify(inMemoryUserDetailsManager, times(1)).deleteUser(any());
   }
+
+  @Test
+  public void updateMetadataCacheTopicsUpdatesOnlyGivenTopics() {
+    commonUtilsService.updateMetadataCache(
+        topicsUpdate("other-server", 1L, "topic1,topic2"), false);
+
+    verify(manageDatabase, times(1)).updateTopicsInCache(eq(101), eq(List.of("topic1", "topic2")));
+    verify(manageDatabase, never()).loadTopicsForOneTenant(anyInt());
+  }
+
+  @Test
+  public void updateMetadataCacheTopicsReloadsAllTopicsOnMissedUpdate() {
+    commonUtilsService.updateMetadataCache(topicsUpdate("other-server", 1L, "topic1"), false);
+    commonUtilsService.updateMetadataCache(topicsUpdate("other-server", 3L, "topic3"), false);
+    commonUtilsService.updateMetadataCache(topicsUpdate("other-server", 4L, "topic4"), false);
+
+    verify(manageDatabase, times(1)).updateTopicsInCache(eq(101), eq(List.of("topic1")));
+    verify(manageDatabase, times(1)).loadTopicsForOneTenant(eq(101));
+    verify(manageDatabase, times(1)).updateTopicsInCache(eq(101), eq(List.of("topic4")));
+  }
+
+  @Test
+  public void updateMetadataCacheTopicsWithoutVersionReloadsAllTopics() {
+    commonUtilsService.updateMetadataCache(topicsUpdate(null, null, "na"), false);
+
+    verify(manageDatabase, times(1)).loadTopicsForOneTenant(eq(101));
+    verify(manageDatabase, never()).updateTopicsInCache(anyInt(), any());
+  }
+
+  @Test
+  public void updateMetadataCacheAclsOfOtherServerDropsIndexedAcls() {
+    KwMetadataUpdates kwMetadataUpdates =
+        KwMetadataUpdates.builder()
+            .tenantId(101)
+            .entityType(EntityType.ACLS.name())
+            .entityValue("na")
+            .operationType(MetadataOperationType.UPDATE.name())
+            .build();
+
+    commonUtilsService.updateMetadataCache(kwMetadataUpdates, true);
+    verify(aclMatchIndex, never()).removeTenant(anyInt());
+
+    commonUtilsService.updateMetadataCache(kwMetadataUpdates, false);
+    verify(aclMatchIndex, times(1)).removeTenant(101);
+    verify(topicOverviewCache, times(1)).invalidate(101);
+  }
+
+  @Test
+  public void updateTopicsMetadataNumbersUpdatesPerTenant() {
+    commonUtilsService.updateTopicsMetadata(101, MetadataOperationType.CREATE, List.of("topic1"));
+    commonUtilsService.updateTopicsMetadata(101, MetadataOperationType.DELETE, List.of("topic2"));
+
+    verify(manageDatabase, times(1)).updateTopicsInCache(eq(101), eq(List.of("topic1")));
+    verify(manageDatabase, times(1)).updateTopicsInCache(eq(101), eq(List.of("topic2")));
+    verify(manageDatabase, never()).loadTopicsForOneTenant(anyInt());
+  }
+
+  @Test
+  public void isNotAuthorizedUserChecksRolePermissionMask() {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.selectAllCachedUserInfo())
+        .thenReturn(List.of(utilMethods.getUserInfoMockDao()));
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(utilMethods.getUserInfoMockDao());
+    when(manageDatabase.getRolePermissionMask(101, "USER"))
+        .thenReturn(PermissionType.SYNC_TOPICS.mask() | PermissionType.VIEW_TOPICS.mask());
+
+    assertThat(commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.SYNC_TOPICS))
+        .isFalse();
+    assertThat(commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.VIEW_TOPICS))
+        .isFalse();
+    assertThat(commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.ADD_TENANT))
+        .isTrue();
+  }
+
+  @Test
+  public void getPermissionMaskResolvedOncePerRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+      when(manageDatabase.selectAllCachedUserInfo())
+          .thenReturn(List.of(utilMethods.getUserInfoMockDao()));
+      when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(utilMethods.getUserInfoMockDao());
+      when(manageDatabase.getRolePermissionMask(101, "USER"))
+          .thenReturn(PermissionType.SYNC_TOPICS.mask());
+
+      commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.SYNC_TOPICS);
+      commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.APPROVE_TOPICS);
+
+      assertThat(commonUtilsService.getPermissionMask("kwusera"))
+          .isEqualTo(PermissionType.SYNC_TOPICS.mask());
+      verify(handleDbRequests, times(1)).getUsersInfo("kwusera");
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
+
+  @Test
+  public void isNotAuthorizedUserUnknownRole() {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+
+    assertThat(commonUtilsService.isNotAuthorizedUser("unknown", PermissionType.VIEW_TOPICS))
+        .isTrue();
+  }
+
+  private KwMetadataUpdates topicsUpdate(String origin, Long version, String topicNames) {
+    return KwMetadataUpdates.builder()
+        .tenantId(101)
+        .entityType(EntityType.TOPICS.name())
+        .entityValue(topicNames)
+        .operationType(MetadataOperationType.CREATE.name())
+        .version(version)
+        .origin(origin)
+        .build();
+  }
 }
@@ -1,22 +1,36 @@
 package io.aiven.klaw.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.KwKafkaConnector;
+import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.metadata.KwAdminConfig;
 import io.aiven.klaw.dao.metadata.KwData;
 import io.aiven.klaw.dao.metadata.KwRequests;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -69,4 +83,61 @@ public class ExportImportDataServiceTest {
     assertThat(kwRequests.getTopicRequests().size()).isEqualTo(1);
     assertThat(kwRequests.getSubscriptionRequests().size()).isEqualTo(1);
   }
+
+  @Test
+  public void exportAndImportKwDataStreamedWithGzip(@TempDir Path exportDir) throws Exception {
+    List<Topic> topics = utilMethods.getMultipleTopics("test", 10, null, 101);
+    ReflectionTestUtils.setField(exportImportDataService, "klawVersion", "2.5.0");
+    ReflectionTestUtils.setField(exportImportDataService, "exportCompression", "gzip");
+    ReflectionTestUtils.setField(exportImportDataService, "exportPageSize", 4);
+    ReflectionTestUtils.setField(
+        exportImportDataService, "klawExportFilePath", exportDir.toString());
+    when(handleDbRequests.getAllTopics(any(Pageable.class)))
+        .thenReturn(topics.subList(0, 4), topics.subList(4, 8), topics.subList(8, 10));
+    when(handleDbRequests.getAllSubscriptions(any(Pageable.class))).thenReturn(List.of());
+    when(handleDbRequests.getAllSchemas(any(Pageable.class))).thenReturn(List.of());
+    when(handleDbRequests.getAllConnectors(any(Pageable.class))).thenReturn(List.of());
+
+    exportImportDataService.writeKwData(handleDbRequests, "2023-01-01-00-00-00");
+
+    File exportedFile = exportDir.resolve("kwmetadata-kwdata-2023-01-01-00-00-00.json.gz").toFile();
+    assertThat(exportedFile).exists();
+    verify(handleDbRequests, times(3)).getAllTopics(any(Pageable.class));
+
+    enableKwDataImport(exportedFile, 4);
+    exportImportDataService.importData();
+
+    ArgumentCaptor<List<Topic>> importedTopics = ArgumentCaptor.forClass(List.class);
+    verify(handleDbRequests, times(3)).addToSynctopics(importedTopics.capture());
+    assertThat(importedTopics.getAllValues()).extracting(List::size).containsExactly(4, 4, 2);
+    assertThat(importedTopics.getAllValues().get(2).get(1).getTopicname())
+        .isEqualTo(topics.get(9).getTopicname());
+    assertThat(new File(exportedFile.getPath() + ".checkpoint")).doesNotExist();
+  }
+
+  @Test
+  public void importKwDataResumesFromCheckpoint(@TempDir Path importDir) throws Exception {
+    List<Topic> topics = utilMethods.getMultipleTopics("test", 10, null, 101);
+    File importFile = importDir.resolve("kwmetadata-kwdata.json").toFile();
+    new ObjectMapper()
+        .enable(SerializationFeature.WRAP_ROOT_VALUE)
+        .writeValue(importFile, KwData.builder().topics(topics).build());
+    Files.writeString(importDir.resolve("kwmetadata-kwdata.json.checkpoint"), "topics=8\n");
+
+    enableKwDataImport(importFile, 4);
+    exportImportDataService.importData();
+
+    ArgumentCaptor<List<Topic>> importedTopics = ArgumentCaptor.forClass(List.class);
+    verify(handleDbRequests, times(1)).addToSynctopics(importedTopics.capture());
+    assertThat(importedTopics.getValue()).hasSize(2);
+    verify(handleDbRequests, never()).addToSyncacls(any());
+  }
+
+  private void enableKwDataImport(File importFile, int batchSize) {
+    ReflectionTestUtils.setField(exportImportDataService, "importMetadata", true);
+    ReflectionTestUtils.setField(exportImportDataService, "importKwDataMetadata", true);
+    ReflectionTestUtils.setField(exportImportDataService, "importBatchSize", batchSize);
+    ReflectionTestUtils.setField(
+        exportImportDataService, "klawImportKwDataFilePath", importFile.getPath());
+  }
 }
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KafkaConnectorRequest;
@@ -80,6 +81,8 @@ public class KafkaConnectControllerServiceTest {
 
   @Mock RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Mock ApprovalOutboxService approvalOutboxService;
+
   @Mock Map<Integer, KwTenantConfigModel> tenantConfig;
 
   @Mock KwTenantConfigModel tenantConfigModel;
@@ -92,6 +95,7 @@ public class KafkaConnectControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     this.kafkaConnectControllerService = new KafkaConnectControllerService();
     this.env = new Env();
     env.setId("1");
@@ -106,6 +110,8 @@ public class KafkaConnectControllerServiceTest {
         kafkaConnectControllerService,
         "rolesPermissionsControllerService",
         rolesPermissionsControllerService);
+    ReflectionTestUtils.setField(
+        kafkaConnectControllerService, "approvalOutboxService", approvalOutboxService);
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
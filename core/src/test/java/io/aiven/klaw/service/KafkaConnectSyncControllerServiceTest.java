@@ -84,6 +84,7 @@ public class KafkaConnectSyncControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     this.kafkaConnectSyncControllerService = new KafkaConnectSyncControllerService();
     utilMethods = new UtilMethods();
     environmentSetUp();
@@ -0,0 +1,208 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.KwMailDeadLetter;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class MailQueueServiceTest {
+
+  public static final String LOGIN_URL = "https://localhost:9097";
+
+  @Mock private JavaMailSender emailSender;
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private HandleDbRequestsJdbc handleDbRequestsJdbc;
+
+  @Captor private ArgumentCaptor<MimeMessage[]> messagesCaptor;
+
+  @Captor private ArgumentCaptor<List<KwMailDeadLetter>> deadLettersCaptor;
+
+  private MeterRegistry meterRegistry;
+
+  private MailQueueService mailQueueService;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    mailQueueService = new MailQueueService();
+    ReflectionTestUtils.setField(mailQueueService, "emailSender", emailSender);
+    ReflectionTestUtils.setField(mailQueueService, "manageDatabase", manageDatabase);
+    ReflectionTestUtils.setField(mailQueueService, "meterRegistry", meterRegistry);
+    ReflectionTestUtils.setField(mailQueueService, "queueCapacity", 3);
+    ReflectionTestUtils.setField(mailQueueService, "offerTimeout", Duration.ZERO);
+    ReflectionTestUtils.setField(mailQueueService, "digestMaxSize", 20);
+    ReflectionTestUtils.setField(mailQueueService, "maxAttempts", 2);
+    ReflectionTestUtils.setField(mailQueueService, "retryBackoff", Duration.ZERO);
+    ReflectionTestUtils.setField(mailQueueService, "fromMailId", "from@klaw-project.io");
+    ReflectionTestUtils.setField(mailQueueService, "noReplyMailId", "noreply@klaw-project.io");
+    mailQueueService.init();
+  }
+
+  @Test
+  public void mailsOfRecipientAreMergedIntoDigest() throws Exception {
+    stubCreateMimeMessage();
+    mailQueueService.submit(
+        101, List.of("james@klaw-project.io"), "Topic request", "New topic", LOGIN_URL);
+    mailQueueService.submit(
+        101,
+        List.of("James@klaw-project.io", "octopus@klaw-project.io"),
+        "Acl request",
+        "New acl",
+        LOGIN_URL);
+
+    mailQueueService.flush();
+
+    // all mails are sent in one call
+    verify(emailSender, times(1)).send(messagesCaptor.capture());
+    MimeMessage[] messages = messagesCaptor.getValue();
+    assertThat(messages).hasSize(2);
+    assertThat(messages[0].getSubject())
+        .isEqualTo(String.format(MailQueueService.DIGEST_SUBJECT, 2));
+    assertThat((String) messages[0].getContent())
+        .contains("New topic", "New acl", "<a href=" + LOGIN_URL);
+    assertThat(messages[1].getSubject()).isEqualTo("Acl request");
+    assertThat(messages[1].getAllRecipients()[0].toString()).isEqualTo("octopus@klaw-project.io");
+    assertThat(meterRegistry.counter("klaw.mail.sent").count()).isEqualTo(2);
+    assertThat(meterRegistry.counter("klaw.mail.coalesced").count()).isEqualTo(1);
+  }
+
+  @Test
+  public void failedMailIsRetriedThenDeadLettered() throws Exception {
+    stubCreateMimeMessage();
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    failEverySend();
+    mailQueueService.submit(
+        101, List.of("james@klaw-project.io"), "Topic request", "New topic", LOGIN_URL);
+
+    mailQueueService.flush();
+    verify(handleDbRequestsJdbc, never()).insertIntoMailDeadLetters(any());
+    assertThat(meterRegistry.counter("klaw.mail.retried").count()).isEqualTo(1);
+
+    mailQueueService.flush();
+    verify(emailSender, times(2)).send(any(MimeMessage[].class));
+    verify(handleDbRequestsJdbc).insertIntoMailDeadLetters(deadLettersCaptor.capture());
+    KwMailDeadLetter deadLetter = deadLettersCaptor.getValue().get(0);
+    assertThat(deadLetter.getRecipient()).isEqualTo("james@klaw-project.io");
+    assertThat(deadLetter.getAttempts()).isEqualTo(2);
+    assertThat(deadLetter.getError()).isEqualTo("Connection refused");
+    assertThat(meterRegistry.counter("klaw.mail.dead.lettered").count()).isEqualTo(1);
+
+    // nothing left to send
+    mailQueueService.flush();
+    verify(emailSender, times(2)).send(any(MimeMessage[].class));
+  }
+
+  @Test
+  public void mailsAreRejectedWhenQueueIsFull() {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+
+    for (String recipient :
+        List.of(
+            "a@klaw-project.io", "b@klaw-project.io", "c@klaw-project.io", "d@klaw-project.io")) {
+      mailQueueService.submit(101, List.of(recipient), "Topic request", "New topic", LOGIN_URL);
+    }
+
+    verify(handleDbRequestsJdbc).insertIntoMailDeadLetters(deadLettersCaptor.capture());
+    assertThat(deadLettersCaptor.getValue())
+        .extracting(KwMailDeadLetter::getRecipient)
+        .containsExactly("d@klaw-project.io");
+    assertThat(meterRegistry.counter("klaw.mail.queued").count()).isEqualTo(3);
+    assertThat(meterRegistry.counter("klaw.mail.rejected").count()).isEqualTo(1);
+    assertThat(meterRegistry.get("klaw.mail.queue.size").gauge().value()).isEqualTo(3);
+  }
+
+  @Test
+  public void recipientsAreResolvedWhenQueueIsFlushed() throws Exception {
+    stubCreateMimeMessage();
+    AtomicInteger lookups = new AtomicInteger();
+    mailQueueService.submit(
+        101,
+        () -> {
+          lookups.incrementAndGet();
+          return List.of("james@klaw-project.io");
+        },
+        "Topic request",
+        "New topic",
+        LOGIN_URL);
+    assertThat(lookups).hasValue(0);
+
+    mailQueueService.flush();
+
+    assertThat(lookups).hasValue(1);
+    verify(emailSender).send(messagesCaptor.capture());
+    assertThat(messagesCaptor.getValue()[0].getAllRecipients()[0].toString())
+        .isEqualTo("james@klaw-project.io");
+  }
+
+  @Test
+  public void pendingRetriesAreDeadLetteredOnShutdown() throws Exception {
+    stubCreateMimeMessage();
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequestsJdbc);
+    ReflectionTestUtils.setField(mailQueueService, "maxAttempts", 3);
+    ReflectionTestUtils.setField(mailQueueService, "retryBackoff", Duration.ofHours(1));
+    failEverySend();
+    mailQueueService.submit(
+        101, List.of("james@klaw-project.io"), "Topic request", "New topic", LOGIN_URL);
+    mailQueueService.flush();
+    verify(handleDbRequestsJdbc, never()).insertIntoMailDeadLetters(any());
+
+    mailQueueService.shutdown();
+
+    // the retry is not due yet, so it is not sent again
+    verify(emailSender, times(1)).send(any(MimeMessage[].class));
+    verify(handleDbRequestsJdbc).insertIntoMailDeadLetters(deadLettersCaptor.capture());
+    assertThat(deadLettersCaptor.getValue())
+        .extracting(KwMailDeadLetter::getRecipient, KwMailDeadLetter::getAttempts)
+        .containsExactly(tuple("james@klaw-project.io", 1));
+    assertThat(meterRegistry.get("klaw.mail.retry.size").gauge().value()).isZero();
+  }
+
+  private void stubCreateMimeMessage() {
+    when(emailSender.createMimeMessage())
+        .thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+  }
+
+  private void failEverySend() {
+    doAnswer(
+            invocation -> {
+              Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+              for (Object message : (Object[]) invocation.getRawArguments()[0]) {
+                failedMessages.put(message, new IllegalStateException("Connection refused"));
+              }
+              throw new MailSendException("Failed messages", null, failedMessages);
+            })
+        .when(emailSender)
+        .send(any(MimeMessage[].class));
+  }
+}
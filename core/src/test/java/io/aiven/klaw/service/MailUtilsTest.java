@@ -1,8 +1,9 @@
 package io.aiven.klaw.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.config.ManageDatabase;
@@ -12,16 +13,19 @@ import io.aiven.klaw.helpers.KwConstants;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.enums.MailType;
 import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.service.EmailService.MailRecipients;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -82,7 +86,7 @@ public class MailUtilsTest {
   public void getUserDetails() {}
 
   @Test
-  public void resetPasswordEmail_noCCTeam() throws InterruptedException {
+  public void resetPasswordEmail_noCCTeam() {
 
     String username = "Octopus";
     UserInfo info = createUserInfo(username, "USER");
@@ -91,10 +95,8 @@ public class MailUtilsTest {
         .thenReturn(KwConstants.MAIL_PASSWORDRESET_CONTENT);
     mailService.sendMailResetPwd(username, "KlawPassword", handleDbRequestsJdbc, 101, LOGIN_URL);
 
-    Thread.sleep(1000);
-    Mockito.verify(emailService, timeout(1000).times(1))
-        .sendSimpleMessage(
-            eq(info.getMailid()), eq(null), anyString(), anyString(), eq(101), eq(LOGIN_URL));
+    assertThat(getMailRecipients())
+        .isEqualTo(new MailRecipients(List.of(info.getMailid()), null, null));
   }
 
   @Test
@@ -106,9 +108,8 @@ public class MailUtilsTest {
     when(manageDatabase.getKwPropertyValue(eq("klaw.mail.passwordreset.content"), eq(101)))
         .thenReturn(KwConstants.MAIL_PASSWORDRESET_CONTENT);
     mailService.sendMailResetPwd(username, "KlawPassword", handleDbRequestsJdbc, 101, LOGIN_URL);
-    Mockito.verify(emailService, timeout(1000).times(0))
-        .sendSimpleMessage(
-            eq(info.getMailid()), eq(null), anyString(), anyString(), eq(101), eq(LOGIN_URL));
+    // the mail is queued, the unknown user only turns out when its recipients are resolved
+    assertThat(getMailRecipients()).isNull();
   }
 
   @Test
@@ -133,15 +134,12 @@ public class MailUtilsTest {
         MailType.ACL_REQUEST_APPROVED,
         LOGIN_URL);
 
-    Mockito.verify(emailService, timeout(1000).times(1))
-        .sendSimpleMessage(
-            eq(List.of("James.klaw@mailid")),
-            eq(List.of("OpenSource.klaw@mailid")),
-            eq(Collections.emptyList()),
-            anyString(),
-            anyString(),
-            eq(101),
-            eq(LOGIN_URL));
+    assertThat(getMailRecipients())
+        .isEqualTo(
+            new MailRecipients(
+                List.of("James.klaw@mailid"),
+                List.of("OpenSource.klaw@mailid"),
+                Collections.emptyList()));
   }
 
   @Test
@@ -167,16 +165,14 @@ public class MailUtilsTest {
         MailType.TOPIC_CREATE_REQUESTED,
         LOGIN_URL);
 
-    Mockito.verify(emailService, timeout(1000).times(1))
-        .sendSimpleMessage(
-            eq(List.of("OpenSource.klaw@mailid")), // to is to the approver team
-            eq(List.of("James.klaw@mailid")), // cc is to the requester
-            eq(List.of("Tom.klaw@mailid")), // bcc is to the user with the permission to approve all
-            // requests.
-            anyString(),
-            anyString(),
-            eq(101),
-            eq(LOGIN_URL));
+    assertThat(getMailRecipients())
+        .isEqualTo(
+            new MailRecipients(
+                List.of("OpenSource.klaw@mailid"), // to is to the approver team
+                List.of("James.klaw@mailid"), // cc is to the requester
+                List.of("Tom.klaw@mailid") // bcc is to the user with the permission to approve all
+                // requests
+                ));
   }
 
   /** Tests all emails being sent for request for new resources */
@@ -204,16 +200,14 @@ public class MailUtilsTest {
         mailType,
         LOGIN_URL);
 
-    Mockito.verify(emailService, timeout(1000).times(1))
-        .sendSimpleMessage(
-            eq(List.of("OpenSource.klaw@mailid")), // to is to the approver team
-            eq(List.of("James.klaw@mailid")), // cc is to the requester
-            eq(List.of("Tom.klaw@mailid")), // bcc is to the user with the permission to approve all
-            // requests.
-            anyString(),
-            anyString(),
-            eq(101),
-            eq(LOGIN_URL));
+    assertThat(getMailRecipients())
+        .isEqualTo(
+            new MailRecipients(
+                List.of("OpenSource.klaw@mailid"), // to is to the approver team
+                List.of("James.klaw@mailid"), // cc is to the requester
+                List.of("Tom.klaw@mailid") // bcc is to the user with the permission to approve all
+                // requests
+                ));
   }
 
   /** Test all emails being sent for notification of approvals */
@@ -236,16 +230,13 @@ public class MailUtilsTest {
     mailService.sendMail(
         "TopicOne", "AclOne", "", username, "Rob", null, handleDbRequestsJdbc, mailType, LOGIN_URL);
 
-    Mockito.verify(emailService, timeout(1000).times(1))
-        .sendSimpleMessage(
-            eq(List.of("James.klaw@mailid")), // to is to the requester & the requestors team
-            eq(List.of("OpenSource.klaw@mailid", "Rob.klaw@mailid")), // cc is to the approver team
-            eq(Collections.emptyList()), // bcc is empty
-            // requests.
-            anyString(),
-            anyString(),
-            eq(101),
-            eq(LOGIN_URL));
+    assertThat(getMailRecipients())
+        .isEqualTo(
+            new MailRecipients(
+                List.of("James.klaw@mailid"), // to is to the requester & the requestors team
+                List.of("OpenSource.klaw@mailid", "Rob.klaw@mailid"), // cc is to the approver team
+                Collections.emptyList() // bcc is empty
+                ));
   }
 
   /***
@@ -282,22 +273,26 @@ public class MailUtilsTest {
         mailType,
         LOGIN_URL);
 
-    Mockito.verify(emailService, timeout(1000).times(1))
-        .sendSimpleMessage(
-            eq(
+    assertThat(getMailRecipients())
+        .isEqualTo(
+            new MailRecipients(
                 List.of(
-                    "Octopus.klaw@mailid")), // to is to the approver team and if there is a contact
-            // assigned to the resource
-            eq(
+                    "Octopus.klaw@mailid"), // to is to the approver team and if there is a contact
+                // assigned to the resource
+
                 List.of(
                     "OpenSource.klaw@mailid",
-                    "James.klaw@mailid")), // cc is to the requester & the requestors team
-            eq(List.of("Tom.klaw@mailid")), // bcc has thohse with special approval permissions.
-            // requests.
-            anyString(),
-            anyString(),
-            eq(101),
-            eq(LOGIN_URL));
+                    "James.klaw@mailid"), // cc is to the requester & the requestors team
+                List.of("Tom.klaw@mailid") // bcc has thohse with special approval permissions.
+                ));
+  }
+
+  @SuppressWarnings("unchecked")
+  private MailRecipients getMailRecipients() {
+    ArgumentCaptor<Supplier<MailRecipients>> recipients = ArgumentCaptor.forClass(Supplier.class);
+    Mockito.verify(emailService, times(1))
+        .sendSimpleMessage(recipients.capture(), anyString(), anyString(), eq(101), eq(LOGIN_URL));
+    return recipients.getValue().get();
   }
 
   /** Tests all emails sent for notification of claim approval */
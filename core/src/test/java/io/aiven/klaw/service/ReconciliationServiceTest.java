@@ -0,0 +1,358 @@
+package io.aiven.klaw.service;
+
+import static io.aiven.klaw.error.KlawErrorMessages.RECON_ERR_102;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwReconResult;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.ReconDetail;
+import io.aiven.klaw.model.enums.AclType;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import io.aiven.klaw.model.response.TopicConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class ReconciliationServiceTest {
+
+  private static final int TENANT_ID = 101;
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private HandleDbRequestsJdbc handleDbRequests;
+
+  @Mock private ClusterApiService clusterApiService;
+
+  @Mock private MailUtils mailService;
+
+  @Mock private CommonUtilsService commonUtilsService;
+
+  @Mock private LockProvider lockProvider;
+
+  @Mock private SimpleLock simpleLock;
+
+  @Mock private UserDetails userDetails;
+
+  @Spy
+  private AsyncTaskExecutor reconciliationTaskExecutor =
+      new TaskExecutorAdapter(new SyncTaskExecutor());
+
+  @InjectMocks private ReconciliationService reconciliationService;
+
+  private Env env;
+
+  private KwClusters kwClusters;
+
+  @BeforeEach
+  public void setUp() {
+    ReflectionTestUtils.setField(reconciliationService, "lockAtMostFor", Duration.ofMinutes(30));
+    ReflectionTestUtils.setField(reconciliationService, "lockAtLeastFor", Duration.ofMinutes(5));
+    env = new Env();
+    env.setId("1");
+    env.setName("DEV");
+    env.setClusterId(1);
+    kwClusters = new KwClusters();
+    kwClusters.setClusterId(1);
+    kwClusters.setClusterName("DEV");
+    kwClusters.setBootstrapServers("localhost:9092");
+    kwClusters.setProtocol(KafkaSupportedProtocol.PLAINTEXT);
+    kwClusters.setKafkaFlavor("Apache Kafka");
+  }
+
+  @Test
+  public void getReconUnitsOnePerEnvAndEntityType() {
+    Env schemaEnv = new Env();
+    schemaEnv.setId("3");
+    when(manageDatabase.getKafkaEnvList(TENANT_ID)).thenReturn(List.of(env));
+    when(manageDatabase.getSchemaRegEnvList(TENANT_ID)).thenReturn(List.of(schemaEnv));
+    when(manageDatabase.getKafkaConnectEnvList(TENANT_ID)).thenReturn(List.of());
+
+    List<ReconciliationService.ReconUnit> reconUnits =
+        reconciliationService.getReconUnits(List.of(TENANT_ID));
+
+    assertThat(reconUnits)
+        .extracting(ReconciliationService.ReconUnit::entityType)
+        .containsExactly(RequestEntityType.TOPIC, RequestEntityType.ACL, RequestEntityType.SCHEMA);
+    assertThat(reconUnits.get(0).lockName()).isEqualTo("Reconciliation_101_1_TOPIC");
+  }
+
+  @Test
+  public void reconcileTopicsStoresDifferences() throws Exception {
+    stubTopicUnit();
+    when(lockProvider.lock(any())).thenReturn(Optional.of(simpleLock));
+    when(clusterApiService.getAllTopics(anyString(), any(), anyString(), anyString(), anyInt()))
+        .thenReturn(List.of(topicConfig("topic-a"), topicConfig("topic-b")));
+    when(handleDbRequests.getSyncTopics("1", null, TENANT_ID))
+        .thenReturn(List.of(topic("topic-b"), topic("topic-c")));
+
+    reconciliationService.reconcile(List.of(TENANT_ID), "superadmin", "").join();
+
+    KwReconResult kwReconResult = captureReconResult();
+    assertThat(kwReconResult.getStatus()).isEqualTo(ReconciliationService.RECON_STATUS_SUCCESS);
+    assertThat(kwReconResult.getEntityType()).isEqualTo(RequestEntityType.TOPIC.name());
+    assertThat(kwReconResult.getClusterCount()).isEqualTo(2);
+    assertThat(kwReconResult.getKlawCount()).isEqualTo(2);
+    assertThat(kwReconResult.getAddedCount()).isOne();
+    assertThat(kwReconResult.getDeletedCount()).isOne();
+    assertThat(kwReconResult.getReconDetails())
+        .containsExactly(
+            new ReconDetail("topic-a", ReconciliationService.RECON_ADDED),
+            new ReconDetail("topic-c", ReconciliationService.RECON_DELETED));
+    verify(mailService)
+        .sendReconMailToAdmin(anyString(), anyString(), any(), eq(TENANT_ID), anyString());
+    // topic and acl unit of the env
+    verify(simpleLock, Mockito.times(2)).unlock();
+  }
+
+  @Test
+  public void reconcileSkipsUnitClaimedByAnotherInstance() throws Exception {
+    when(manageDatabase.getKafkaEnvList(TENANT_ID)).thenReturn(List.of(env));
+    when(manageDatabase.getSchemaRegEnvList(TENANT_ID)).thenReturn(List.of());
+    when(manageDatabase.getKafkaConnectEnvList(TENANT_ID)).thenReturn(List.of());
+    when(lockProvider.lock(any())).thenReturn(Optional.empty());
+
+    reconciliationService.reconcile(List.of(TENANT_ID), "superadmin", "").join();
+
+    verify(clusterApiService, never())
+        .getAllTopics(anyString(), any(), anyString(), anyString(), anyInt());
+    verify(handleDbRequests, never()).insertIntoReconResults(any());
+  }
+
+  @Test
+  public void reconcileAclsMatchesNormalizedPrincipals() throws Exception {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getClusters(KafkaClustersType.KAFKA, TENANT_ID))
+        .thenReturn(Map.of(1, kwClusters));
+    when(clusterApiService.getAcls(anyString(), eq(env), any(), eq(TENANT_ID)))
+        .thenReturn(
+            List.of(
+                Map.of(
+                    "resourceName", "topic-a",
+                    "resourceType", "TOPIC",
+                    "principle", "User:CN=alice",
+                    "host", "*",
+                    "operation", "WRITE"),
+                Map.of(
+                    "resourceName", "group-a",
+                    "resourceType", "GROUP",
+                    "principle", "User:CN=alice",
+                    "host", "*",
+                    "operation", "READ")));
+    Acl acl = new Acl();
+    acl.setTopicname("topic-a");
+    acl.setAclssl("CN=alice");
+    acl.setAclType(AclType.PRODUCER.value);
+    when(handleDbRequests.getSyncAcls("1", TENANT_ID)).thenReturn(List.of(acl));
+
+    reconciliationService.reconcileUnit(
+        new ReconciliationService.ReconUnit(TENANT_ID, env, RequestEntityType.ACL),
+        "superadmin",
+        "");
+
+    KwReconResult kwReconResult = captureReconResult();
+    assertThat(kwReconResult.getReconDetails()).isEmpty();
+    assertThat(kwReconResult.getClusterCount()).isOne();
+    verify(mailService, never())
+        .sendReconMailToAdmin(anyString(), anyString(), any(), anyInt(), anyString());
+  }
+
+  @Test
+  public void concurrentReconciliationsDoNotBlockThePool() {
+    ThreadPoolTaskExecutor singleThreadExecutor = new ThreadPoolTaskExecutor();
+    singleThreadExecutor.setCorePoolSize(1);
+    singleThreadExecutor.setMaxPoolSize(1);
+    singleThreadExecutor.initialize();
+    ReflectionTestUtils.setField(
+        reconciliationService, "reconciliationTaskExecutor", singleThreadExecutor);
+    loginMock();
+    when(commonUtilsService.isNotAuthorizedUser(any(), eq(PermissionType.SYNC_TOPICS)))
+        .thenReturn(false);
+    when(mailService.getUserName(any())).thenReturn("superadmin");
+    when(commonUtilsService.getTenantId("superadmin")).thenReturn(TENANT_ID);
+    stubTopicUnit();
+    when(lockProvider.lock(any())).thenReturn(Optional.of(simpleLock));
+
+    try {
+      reconciliationService.triggerReconciliation();
+      reconciliationService.triggerReconciliation();
+
+      // topic and acl unit of both runs
+      verify(simpleLock, Mockito.timeout(5000).times(4)).unlock();
+    } finally {
+      singleThreadExecutor.shutdown();
+    }
+  }
+
+  @Test
+  public void triggerReconciliationReportsClaimedUnits() {
+    loginMock();
+    when(commonUtilsService.isNotAuthorizedUser(any(), eq(PermissionType.SYNC_TOPICS)))
+        .thenReturn(false);
+    when(mailService.getUserName(any())).thenReturn("superadmin");
+    when(commonUtilsService.getTenantId("superadmin")).thenReturn(TENANT_ID);
+    when(manageDatabase.getKafkaEnvList(TENANT_ID)).thenReturn(List.of(env));
+    when(manageDatabase.getSchemaRegEnvList(TENANT_ID)).thenReturn(List.of());
+    when(manageDatabase.getKafkaConnectEnvList(TENANT_ID)).thenReturn(List.of());
+    when(lockProvider.lock(any())).thenReturn(Optional.empty());
+
+    ApiResponse apiResponse = reconciliationService.triggerReconciliation();
+
+    assertThat(apiResponse.isSuccess()).isFalse();
+    assertThat(apiResponse.getMessage()).isEqualTo(String.format(RECON_ERR_102, 2, 2));
+    ArgumentCaptor<LockConfiguration> captor = ArgumentCaptor.forClass(LockConfiguration.class);
+    verify(lockProvider, Mockito.times(2)).lock(captor.capture());
+    // a manual run keeps no unit claimed after it finished
+    assertThat(captor.getAllValues())
+        .extracting(LockConfiguration::getLockAtLeastFor)
+        .containsOnly(Duration.ZERO);
+    verify(reconciliationTaskExecutor, never()).execute(any());
+  }
+
+  @Test
+  public void reconcileAclsComparesPatternTypes() throws Exception {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getClusters(KafkaClustersType.KAFKA, TENANT_ID))
+        .thenReturn(Map.of(1, kwClusters));
+    when(clusterApiService.getAcls(anyString(), eq(env), any(), eq(TENANT_ID)))
+        .thenReturn(
+            List.of(
+                Map.of(
+                    "resourceName", "topic-",
+                    "resourceType", "TOPIC",
+                    "patternType", "PREFIXED",
+                    "principle", "User:CN=alice",
+                    "host", "*",
+                    "operation", "WRITE"),
+                Map.of(
+                    "resourceName", "topic-b",
+                    "resourceType", "TOPIC",
+                    "patternType", "PREFIXED",
+                    "principle", "User:CN=alice",
+                    "host", "*",
+                    "operation", "WRITE")));
+    Acl prefixedAcl = new Acl();
+    prefixedAcl.setTopicname("topic-");
+    prefixedAcl.setAclPatternType("PREFIXED");
+    prefixedAcl.setAclssl("CN=alice");
+    prefixedAcl.setAclType(AclType.PRODUCER.value);
+    Acl literalAcl = new Acl();
+    literalAcl.setTopicname("topic-b");
+    literalAcl.setAclssl("CN=alice");
+    literalAcl.setAclType(AclType.PRODUCER.value);
+    when(handleDbRequests.getSyncAcls("1", TENANT_ID)).thenReturn(List.of(prefixedAcl, literalAcl));
+
+    reconciliationService.reconcileUnit(
+        new ReconciliationService.ReconUnit(TENANT_ID, env, RequestEntityType.ACL),
+        "superadmin",
+        "");
+
+    assertThat(captureReconResult().getReconDetails())
+        .containsExactly(
+            new ReconDetail(
+                "topic-b/PREFIXED/User:CN=alice/*/WRITE", ReconciliationService.RECON_ADDED),
+            new ReconDetail(
+                "topic-b/LITERAL/User:CN=alice/*/WRITE", ReconciliationService.RECON_DELETED));
+  }
+
+  @Test
+  public void reconcileStoresFailureWhenClusterUnavailable() throws Exception {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getClusters(KafkaClustersType.KAFKA, TENANT_ID))
+        .thenReturn(Map.of(1, kwClusters));
+    when(clusterApiService.getAllTopics(anyString(), any(), anyString(), anyString(), anyInt()))
+        .thenThrow(new KlawException("Cluster Api unavailable"));
+
+    reconciliationService.reconcileUnit(
+        new ReconciliationService.ReconUnit(TENANT_ID, env, RequestEntityType.TOPIC),
+        "superadmin",
+        "");
+
+    assertThat(captureReconResult().getStatus())
+        .isEqualTo(ReconciliationService.RECON_STATUS_FAILURE);
+  }
+
+  @Test
+  public void getReconciliationResultsNotAuthorized() {
+    loginMock();
+    when(commonUtilsService.isNotAuthorizedUser(any(), eq(PermissionType.SYNC_TOPICS)))
+        .thenReturn(true);
+
+    assertThat(reconciliationService.getReconciliationResults(null)).isEmpty();
+    verify(handleDbRequests, never()).getReconResults(any(), anyInt());
+  }
+
+  private void stubTopicUnit() {
+    when(manageDatabase.getKafkaEnvList(TENANT_ID)).thenReturn(List.of(env));
+    when(manageDatabase.getSchemaRegEnvList(TENANT_ID)).thenReturn(List.of());
+    when(manageDatabase.getKafkaConnectEnvList(TENANT_ID)).thenReturn(List.of());
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getClusters(KafkaClustersType.KAFKA, TENANT_ID))
+        .thenReturn(Map.of(1, kwClusters));
+  }
+
+  private KwReconResult captureReconResult() {
+    ArgumentCaptor<KwReconResult> captor = ArgumentCaptor.forClass(KwReconResult.class);
+    verify(handleDbRequests, Mockito.atLeastOnce()).insertIntoReconResults(captor.capture());
+    return captor.getAllValues().get(0);
+  }
+
+  private TopicConfig topicConfig(String topicName) {
+    TopicConfig topicConfig = new TopicConfig();
+    topicConfig.setTopicName(topicName);
+    return topicConfig;
+  }
+
+  private Topic topic(String topicName) {
+    Topic topic = new Topic();
+    topic.setTopicname(topicName);
+    return topic;
+  }
+
+  private void loginMock() {
+    Authentication authentication = Mockito.mock(Authentication.class);
+    SecurityContext securityContext = Mockito.mock(SecurityContext.class);
+    when(securityContext.getAuthentication()).thenReturn(authentication);
+    when(authentication.getPrincipal()).thenReturn(userDetails);
+    SecurityContextHolder.setContext(securityContext);
+  }
+}
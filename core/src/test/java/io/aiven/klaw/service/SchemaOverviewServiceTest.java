@@ -70,6 +70,7 @@ public class SchemaOverviewServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     utilMethods = new UtilMethods();
     this.schemaOverviewService = new SchemaOverviewService(mailService);
 
@@ -98,8 +99,6 @@ public class SchemaOverviewServiceTest {
         .thenReturn(List.of(createTopic(TESTTOPIC, "1")));
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 1);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3");
-
     SchemaOverview returnedValue = schemaOverviewService.getSchemaOfTopic(TESTTOPIC, 1, "1");
 
     assertThat(returnedValue.getSchemaPromotionDetails()).isNotNull();
@@ -117,7 +116,6 @@ public class SchemaOverviewServiceTest {
     stubEnvironments();
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3,4");
     when(commonUtilsService.getEnvProperty(eq(101), eq(ORDER_OF_TOPIC_ENVS))).thenReturn("1,2");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(10);
     when(handleDbRequests.getAllTopicsByTopicNameAndTeamIdAndTenantId(
@@ -139,8 +137,6 @@ public class SchemaOverviewServiceTest {
     stubUserInfo();
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("1");
-
     SchemaOverview returnedValue = schemaOverviewService.getSchemaOfTopic(TESTTOPIC, 3, "1");
     assertThat(returnedValue.getSchemaPromotionDetails()).isNull();
     assertThat(returnedValue.isSchemaExists()).isFalse();
@@ -155,7 +151,6 @@ public class SchemaOverviewServiceTest {
 
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3,4");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(8);
     when(handleDbRequests.getTopics(eq(TESTTOPIC), eq(101)))
         .thenReturn(List.of(createTopic(TESTTOPIC, "1")));
@@ -172,7 +167,6 @@ public class SchemaOverviewServiceTest {
 
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3,4");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(8);
     when(handleDbRequests.getTopics(eq(TESTTOPIC), eq(101)))
         .thenReturn(List.of(createTopic(TESTTOPIC, "1")));
@@ -199,7 +193,6 @@ public class SchemaOverviewServiceTest {
 
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3,4");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(8);
     when(handleDbRequests.getTopics(eq(TESTTOPIC), eq(101)))
         .thenReturn(List.of(createTopic(TESTTOPIC, "1")));
@@ -222,7 +215,6 @@ public class SchemaOverviewServiceTest {
 
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3,4");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(8);
     when(handleDbRequests.getTopics(eq(TESTTOPIC), eq(101)))
         .thenReturn(List.of(createTopic(TESTTOPIC, "1")));
@@ -247,7 +239,6 @@ public class SchemaOverviewServiceTest {
 
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3,4");
     when(commonUtilsService.getEnvProperty(eq(101), eq(ORDER_OF_TOPIC_ENVS))).thenReturn("1,2");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(10);
     when(handleDbRequests.getAllTopicsByTopicNameAndTeamIdAndTenantId(
@@ -283,7 +274,6 @@ public class SchemaOverviewServiceTest {
 
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 5);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3");
     when(commonUtilsService.getEnvProperty(eq(101), eq(ORDER_OF_TOPIC_ENVS))).thenReturn("1");
     when(commonUtilsService.getTeamId(anyString())).thenReturn(10);
     when(handleDbRequests.getAllTopicsByTopicNameAndTeamIdAndTenantId(
@@ -323,8 +313,6 @@ public class SchemaOverviewServiceTest {
         .thenReturn(List.of(createTopic(TESTTOPIC, "1")));
     stubSchemaPromotionInfo(TESTTOPIC, KafkaClustersType.SCHEMA_REGISTRY, 2);
 
-    when(commonUtilsService.getSchemaPromotionEnvsFromKafkaEnvs(eq(101))).thenReturn("3");
-
     SchemaOverview returnedValue = schemaOverviewService.getSchemaOfTopic(TESTTOPIC, 1, "2");
 
     assertThat(returnedValue.getSchemaPromotionDetails()).isNotNull();
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.EnvTag;
@@ -85,6 +86,8 @@ public class SchemaRegistryControllerServiceTest {
 
   @Mock RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Mock ApprovalOutboxService approvalOutboxService;
+
   private SchemaRegistryControllerService schemaRegistryControllerService;
 
   private ObjectMapper mapper = new ObjectMapper();
@@ -95,6 +98,7 @@ public class SchemaRegistryControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     this.env = new Env();
     env.setId("1");
     env.setName("DEV");
@@ -109,6 +113,8 @@ public class SchemaRegistryControllerServiceTest {
         schemaRegistryControllerService,
         "rolesPermissionsControllerService",
         rolesPermissionsControllerService);
+    ReflectionTestUtils.setField(
+        schemaRegistryControllerService, "approvalOutboxService", approvalOutboxService);
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
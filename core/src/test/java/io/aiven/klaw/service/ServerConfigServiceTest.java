@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwProperties;
@@ -67,6 +68,7 @@ public class ServerConfigServiceTest {
 
   @BeforeEach
   public void setUp() {
+    UtilMethods.stubEnvGraph(managedb, commonUtilsService);
     AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
     this.env = context.getEnvironment();
     loginMock();
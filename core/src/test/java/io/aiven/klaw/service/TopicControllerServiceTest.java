@@ -1,13 +1,17 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.APPROVAL_OUTBOX_102;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_VLD_ERR_121;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,6 +28,7 @@ import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
 import io.aiven.klaw.helpers.KwConstants;
+import io.aiven.klaw.helpers.TrigramSearchIndex;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.KwTenantConfigModel;
@@ -32,7 +37,9 @@ import io.aiven.klaw.model.TopicInfo;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.enums.RequestEntityType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.TopicRequestModel;
@@ -91,6 +98,8 @@ public class TopicControllerServiceTest {
 
   @Mock RolesPermissionsControllerService rolesPermissionsControllerService;
 
+  @Mock ApprovalOutboxService approvalOutboxService;
+
   @Mock Map<Integer, KwTenantConfigModel> tenantConfig;
 
   @Mock KwTenantConfigModel tenantConfigModel;
@@ -102,6 +111,7 @@ public class TopicControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     this.topicControllerService = new TopicControllerService(clusterApiService, mailService);
     utilMethods = new UtilMethods();
     this.env = new Env();
@@ -114,6 +124,8 @@ public class TopicControllerServiceTest {
         topicControllerService,
         "rolesPermissionsControllerService",
         rolesPermissionsControllerService);
+    ReflectionTestUtils.setField(
+        topicControllerService, "approvalOutboxService", approvalOutboxService);
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
@@ -794,6 +806,100 @@ public class TopicControllerServiceTest {
     assertThat(apiResponse1.getMessage()).isEqualTo("Topic Status: failure");
   }
 
+  @Test
+  @Order(26)
+  public void approveTopicRequestsQueuedWhenAsyncApprovalsEnabled() throws KlawException {
+    int topicId = 1001;
+    TopicRequest topicRequest = getTopicRequest(TOPIC_1);
+    topicRequest.setTopicid(topicId);
+    topicRequest.setRequestOperationType(RequestOperationType.CREATE.value);
+
+    stubUserInfo();
+    when(handleDbRequests.getTopicRequestsForTopic(anyInt(), anyInt())).thenReturn(topicRequest);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(commonUtilsService.getLoginUrl()).thenReturn("https://klaw");
+    when(approvalOutboxService.isEnabled()).thenReturn(true);
+    when(approvalOutboxService.enqueue(
+            RequestEntityType.TOPIC, topicId, "1", 0, "kwusera", "https://klaw"))
+        .thenReturn(ApiResponse.ok(APPROVAL_OUTBOX_102));
+
+    ApiResponse apiResponse = topicControllerService.approveTopicRequests("" + topicId);
+    assertThat(apiResponse.getMessage()).isEqualTo(APPROVAL_OUTBOX_102);
+    verify(clusterApiService, never())
+        .approveTopicRequests(
+            anyString(),
+            anyString(),
+            anyInt(),
+            anyString(),
+            anyString(),
+            any(),
+            anyInt(),
+            anyBoolean());
+  }
+
+  @Test
+  @Order(26)
+  public void approveQueuedTopicRequestNoLongerCreated() throws KlawException {
+    TopicRequest topicRequest = getTopicRequest(TOPIC_1);
+    topicRequest.setRequestStatus(RequestStatus.DECLINED.value);
+    when(handleDbRequests.getTopicRequestsForTopic(anyInt(), anyInt())).thenReturn(topicRequest);
+
+    ApiResponse apiResponse =
+        topicControllerService.approveQueuedTopicRequest(1001, "kwusera", 101, "https://klaw");
+    assertThat(apiResponse.getMessage()).isEqualTo(REQ_ERR_101);
+    verify(clusterApiService, never())
+        .approveTopicRequests(
+            anyString(),
+            anyString(),
+            anyInt(),
+            anyString(),
+            anyString(),
+            any(),
+            anyInt(),
+            anyBoolean());
+  }
+
+  @Test
+  @Order(26)
+  public void approveTopicRequestsOfBulkVerdict() throws KlawException {
+    TopicRequest topicRequest1 = getTopicRequest(TOPIC_1);
+    topicRequest1.setTopicid(1001);
+    TopicRequest topicRequest2 = getTopicRequest("testtopic2");
+    topicRequest2.setTopicid(1002);
+
+    stubUserInfo();
+    when(handleDbRequests.getTopicRequestsForTopicIds(List.of(1001, 1002, 1003), 0))
+        .thenReturn(List.of(topicRequest1, topicRequest2));
+    when(handleDbRequests.updateTopicRequest(any(), anyString()))
+        .thenReturn(
+            CRUDResponse.<Topic>builder().resultStatus(ApiResultStatus.SUCCESS.value).build());
+    when(clusterApiService.approveTopicRequests(
+            anyString(),
+            anyString(),
+            anyInt(),
+            anyString(),
+            anyString(),
+            any(),
+            anyInt(),
+            anyBoolean()))
+        .thenReturn(new ResponseEntity<>(ApiResponse.SUCCESS, HttpStatus.OK));
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses =
+        topicControllerService.approveTopicRequests(List.of("1001", "1002", "1003"));
+
+    assertThat(apiResponses)
+        .extracting(ApiResponse::getMessage)
+        .containsExactly("Topic Status: success", "Topic Status: success", REQ_ERR_101);
+    verify(handleDbRequests, never()).getTopicRequestsForTopic(anyInt(), anyInt());
+    // the metadata of the approved topics is updated once
+    verify(commonUtilsService, times(1))
+        .updateTopicsMetadata(
+            eq(0), eq(MetadataOperationType.CREATE), eq(List.of(TOPIC_1, "testtopic2")));
+  }
+
   @Test
   @Order(27)
   public void approveTopicRequestsFailureNotAllowed() throws KlawException {
@@ -949,12 +1055,45 @@ public class TopicControllerServiceTest {
     when(commonUtilsService.getEnvProperty(anyInt(), anyString())).thenReturn("1");
     when(commonUtilsService.groupTopicsByEnv(any())).thenReturn(getSyncTopics("topic", 4));
 
+    stubTopicSearchIndex(getSyncTopics("topic", 4));
+
     List<List<TopicInfo>> topicsList =
         topicControllerService.getTopics(envSel, pageNo, "", topicNameSearch, 0, null);
 
     assertThat(topicsList).hasSize(2);
   }
 
+  @Test
+  @Order(35)
+  public void getTopicsSearchKeepsTheRelevanceOrder() {
+    String envSel = "1", pageNo = "1", topicNameSearch = "orders";
+    List<Topic> syncTopics = getSyncTopics("topic", 4);
+    syncTopics.get(0).setTopicname("webshop-orders");
+    syncTopics.get(1).setTopicname("orders");
+    syncTopics.get(2).setDocumentation("Payments of the orders");
+    syncTopics.get(3).setTopicname("orders-archive");
+
+    stubUserInfo();
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt())).thenReturn("1");
+    when(commonUtilsService.getTopics(any(), any(), anyInt())).thenReturn(syncTopics);
+    when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
+    when(manageDatabase.getTeamNameFromTeamId(anyInt(), anyInt()))
+        .thenReturn(KwConstants.INFRATEAM);
+    when(commonUtilsService.getEnvProperty(anyInt(), anyString())).thenReturn("1");
+    when(commonUtilsService.groupTopicsByEnv(any())).thenReturn(syncTopics);
+
+    stubTopicSearchIndex(syncTopics);
+
+    List<List<TopicInfo>> topicsList =
+        topicControllerService.getTopics(envSel, pageNo, "", topicNameSearch, 0, null);
+
+    // exact match, prefix, name and documentation
+    assertThat(topicsList.stream().flatMap(List::stream).map(TopicInfo::getTopicName))
+        .containsExactly("orders", "orders-archive", "webshop-orders", "topic2");
+  }
+
   @Test
   @Order(36)
   public void getTopicsWithProducerFilter() {
@@ -979,6 +1118,8 @@ public class TopicControllerServiceTest {
     when(commonUtilsService.groupTopicsByEnv(any())).thenReturn(getSyncTopics("topic", 4));
     when(commonUtilsService.getFilteredTopicsForTenant(any())).thenReturn(utilMethods.getTopics());
 
+    stubTopicSearchIndex(getSyncTopics("topic", 4));
+
     List<List<TopicInfo>> topicsList =
         topicControllerService.getTopics(
             envSel, pageNo, "", topicNameSearch, 1001, AclType.PRODUCER.value);
@@ -1015,6 +1156,8 @@ public class TopicControllerServiceTest {
     topicList.get(0).setTopicname("testtopic" + "--" + AclPatternType.PREFIXED + "--");
     when(commonUtilsService.getFilteredTopicsForTenant(any())).thenReturn(topicList);
 
+    stubTopicSearchIndex(getSyncTopics("topic", 4));
+
     List<List<TopicInfo>> topicsList =
         topicControllerService.getTopics(
             envSel, pageNo, "", topicNameSearch, 1001, AclType.PRODUCER.value);
@@ -1033,6 +1176,8 @@ public class TopicControllerServiceTest {
     when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt())).thenReturn("1");
     when(commonUtilsService.getTopics(envSel, null, 1)).thenReturn(getSyncTopics("topic", 4));
 
+    stubTopicSearchIndex(getSyncTopics("topic", 4));
+
     List<List<TopicInfo>> topicsList =
         topicControllerService.getTopics(envSel, pageNo, "", topicNameSearch, 0, null);
 
@@ -1076,6 +1221,35 @@ public class TopicControllerServiceTest {
     assertThat(resultResp.getMessage()).isEqualTo("This request does not exist anymore.");
   }
 
+  @Test
+  @Order(40)
+  public void declineTopicRequestsOfBulkVerdict() throws KlawException {
+    TopicRequest topicRequest1 = getTopicRequest("testtopic");
+    topicRequest1.setTopicid(1001);
+    TopicRequest topicRequest2 = getTopicRequest("testtopic2");
+    topicRequest2.setTopicid(1002);
+    topicRequest2.setRequestStatus(RequestStatus.APPROVED.value);
+
+    stubUserInfo();
+    when(handleDbRequests.getTopicRequestsForTopicIds(List.of(1001, 1002), 0))
+        .thenReturn(List.of(topicRequest1, topicRequest2));
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(handleDbRequests.declineTopicRequests(List.of(topicRequest1), "kwusera", 0))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+
+    List<ApiResponse> apiResponses =
+        topicControllerService.declineTopicRequests(List.of("1001", "1002", "1001"), "Reason");
+
+    // a request listed twice is declined once
+    assertThat(apiResponses)
+        .extracting(ApiResponse::getMessage)
+        .containsExactly(ApiResultStatus.SUCCESS.value, REQ_ERR_101, REQ_ERR_101);
+    verify(handleDbRequests, times(1)).declineTopicRequests(anyList(), anyString(), anyInt());
+    verify(handleDbRequests, never()).declineTopicRequest(any(), anyString());
+  }
+
   @Test
   @Order(41)
   public void getTopicTeam() {
@@ -1697,6 +1871,12 @@ public class TopicControllerServiceTest {
     return t;
   }
 
+  private void stubTopicSearchIndex(List<Topic> topics) {
+    TrigramSearchIndex topicSearchIndex = new TrigramSearchIndex();
+    topics.forEach(topic -> topicSearchIndex.add(topic.getTopicname(), topic.getDocumentation()));
+    when(manageDatabase.getTopicSearchIndex(anyInt())).thenReturn(topicSearchIndex);
+  }
+
   private List<Topic> getSyncTopics(String topicPrefix, int size) {
     List<Topic> listTopics = new ArrayList<>();
     Topic t;
@@ -4,6 +4,7 @@ import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 import static io.aiven.klaw.helpers.KwConstants.REQUEST_TOPICS_OF_ENVS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -17,6 +18,7 @@ import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.TopicOverviewCache;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.TopicOverviewInfo;
@@ -37,6 +39,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -82,6 +85,7 @@ public class TopicOverviewServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     utilMethods = new UtilMethods();
     this.topicOverviewService = new TopicOverviewService(mailService);
 
@@ -91,6 +95,8 @@ public class TopicOverviewServiceTest {
     ReflectionTestUtils.setField(topicOverviewService, "manageDatabase", manageDatabase);
     ReflectionTestUtils.setField(topicOverviewService, "commonUtilsService", commonUtilsService);
     ReflectionTestUtils.setField(topicOverviewService, "clusterApiService", clusterApiService);
+    ReflectionTestUtils.setField(
+        topicOverviewService, "topicOverviewCache", new TopicOverviewCache(0, 100));
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
   }
@@ -115,7 +121,7 @@ public class TopicOverviewServiceTest {
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(utilMethods.getTeams());
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
+    when(handleDbRequests.getSyncAcls(anyCollection(), anyString(), anyInt()))
         .thenReturn(getAclsSOT(TESTTOPIC));
 
     List<Topic> topics = utilMethods.getTopics(TESTTOPIC);
@@ -161,7 +167,7 @@ public class TopicOverviewServiceTest {
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(utilMethods.getTeams());
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
+    when(handleDbRequests.getSyncAcls(anyCollection(), anyString(), anyInt()))
         .thenReturn(getAclsSOT(topicNameSearch));
     when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt()))
         .thenReturn(utilMethods.getTopics(topicNameSearch));
@@ -258,7 +264,7 @@ public class TopicOverviewServiceTest {
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(utilMethods.getTeams());
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
+    when(handleDbRequests.getSyncAcls(anyCollection(), anyString(), anyInt()))
         .thenReturn(getAclsSOT(TESTTOPIC));
     when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt()))
         .thenReturn(utilMethods.getTopics(TESTTOPIC));
@@ -295,7 +301,7 @@ public class TopicOverviewServiceTest {
     when(commonUtilsService.getEnvProperty(eq(101), eq(ORDER_OF_TOPIC_ENVS))).thenReturn("1");
     when(commonUtilsService.getTopicsForTopicName(eq(TESTTOPIC), eq(101)))
         .thenReturn(List.of(createTopic(TESTTOPIC)));
-    when(handleDbRequests.getSyncAcls(anyString(), eq(TESTTOPIC), eq(101)))
+    when(handleDbRequests.getSyncAcls(anyCollection(), eq(TESTTOPIC), eq(101)))
         .thenReturn(createAcls(20));
     when(manageDatabase.getAllEnvList(eq(101)))
         .thenReturn(createListOfEnvs(KafkaClustersType.KAFKA, 3));
@@ -371,7 +377,7 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.SUCCESS);
 
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
+    when(handleDbRequests.getSyncAcls(anyCollection(), anyString(), anyInt()))
         .thenReturn(getAclsSOT(TESTTOPIC));
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
@@ -438,9 +444,9 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.SUCCESS);
 
-    when(handleDbRequests.existsTopicRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("1"), eq(101)))
-        .thenReturn(true);
+    when(handleDbRequests.getTopicRequestTypesPerEnv(
+            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
+        .thenReturn(Map.of("1", Set.of(RequestOperationType.CREATE.value)));
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
     when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
@@ -501,9 +507,9 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.SUCCESS);
 
-    when(handleDbRequests.existsSchemaRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("3"), eq(101)))
-        .thenReturn(true);
+    when(handleDbRequests.getEnvsOfSchemaRequests(
+            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
+        .thenReturn(Set.of("3"));
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
     when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
@@ -564,15 +570,15 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.SUCCESS);
 
-    when(handleDbRequests.existsSchemaRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("1"), eq(101)))
-        .thenReturn(true);
-    when(handleDbRequests.existsAclRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("1"), eq(101)))
-        .thenReturn(true);
-    when(handleDbRequests.existsTopicRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("1"), eq(101)))
-        .thenReturn(true);
+    when(handleDbRequests.getEnvsOfSchemaRequests(
+            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
+        .thenReturn(Set.of("1"));
+    when(handleDbRequests.getEnvsOfAclRequests(
+            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
+        .thenReturn(Set.of("1"));
+    when(handleDbRequests.getTopicRequestTypesPerEnv(
+            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
+        .thenReturn(Map.of("1", Set.of(RequestOperationType.CREATE.value)));
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
     when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
@@ -630,7 +636,7 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.SUCCESS);
 
-    when(commonUtilsService.existsSchemaForTopic(eq(TESTTOPIC), eq("1"), eq(101))).thenReturn(true);
+    when(handleDbRequests.getEnvsOfSchemas(eq(TESTTOPIC), eq(101))).thenReturn(Set.of("1"));
 
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
@@ -661,13 +667,9 @@ public class TopicOverviewServiceTest {
         .thenReturn("1,2,3,4,5,6,7,8,9,10,11,12,13,14,15");
     when(commonUtilsService.getEnvProperty(eq(101), eq(ORDER_OF_TOPIC_ENVS)))
         .thenReturn("1,2,3,4,5,6,7,8,9,10,11,12,13,14,15");
-    when(handleDbRequests.existsTopicRequest(
-            eq(TESTTOPIC),
-            eq(RequestStatus.CREATED.value),
-            eq(RequestOperationType.PROMOTE.value),
-            eq("2"),
-            eq(101)))
-        .thenReturn(true);
+    when(handleDbRequests.getTopicRequestTypesPerEnv(
+            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
+        .thenReturn(Map.of("2", Set.of(RequestOperationType.PROMOTE.value)));
     TopicOverview returnedValue =
         topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
     assertThat(returnedValue.getTopicPromotionDetails()).isNotNull();
@@ -691,13 +693,6 @@ public class TopicOverviewServiceTest {
 
     TopicOverview returnedValue =
         topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
-    verify(handleDbRequests, times(0))
-        .existsTopicRequest(
-            eq(TESTTOPIC),
-            eq(RequestStatus.CREATED.value),
-            eq(RequestOperationType.PROMOTE.value),
-            eq("2"),
-            eq(101));
     assertThat(returnedValue.getTopicPromotionDetails()).isNotNull();
     assertThat(returnedValue.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.NO_PROMOTION);
@@ -747,17 +742,11 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().getStatus())
         .isEqualTo(PromotionStatusType.SUCCESS);
 
-    when(handleDbRequests.existsSchemaRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("3"), eq(101)))
-        .thenReturn(false);
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
-    when(handleDbRequests.existsSchemaRequest(
-            eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq("3"), eq(101)))
-        .thenReturn(false);
-    when(handleDbRequests.existsClaimTopicRequest(
+    when(handleDbRequests.getTopicRequestTypesPerEnv(
             eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
-        .thenReturn(true);
+        .thenReturn(Map.of("2", Set.of(RequestOperationType.CLAIM.value)));
     when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
 
     topicOverview = topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
@@ -799,17 +788,14 @@ public class TopicOverviewServiceTest {
     when(commonUtilsService.getFilteredTopicsForTenant(any()))
         .thenReturn(utilMethods.getTopicInMultipleEnvs("testtopic", TEAMID, 2));
 
-    when(handleDbRequests.existsClaimTopicRequest(
+    when(handleDbRequests.getTopicRequestTypesPerEnv(
             eq(TESTTOPIC), eq(RequestStatus.CREATED.value), eq(101)))
-        .thenReturn(true);
+        .thenReturn(Map.of("1", Set.of(RequestOperationType.CLAIM.value)));
     when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
 
     TopicOverview topicOverview =
         topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
 
-    verify(handleDbRequests, times(0)).existsTopicRequest(any(), any(), any(), anyInt());
-    verify(handleDbRequests, times(0)).existsAclRequest(any(), any(), any(), anyInt());
-    verify(handleDbRequests, times(0)).existsSchemaRequest(any(), any(), any(), anyInt());
     assertThat(topicOverview.getTopicInfoList().get(0).isHasACL()).isFalse(); // topic claim
 
     assertThat(topicOverview.getTopicInfoList().get(0).isHasOpenClaimRequest()).isTrue();
@@ -819,6 +805,42 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicInfoList().get(0).isHasSchema()).isFalse();
   }
 
+  @Test
+  @Order(17)
+  public void getTopicOverviewLoadsTopicStateOnceUntilInvalidated() {
+    TopicOverviewCache topicOverviewCache = new TopicOverviewCache(60, 100);
+    ReflectionTestUtils.setField(topicOverviewService, "topicOverviewCache", topicOverviewCache);
+    stubUserInfo();
+    when(commonUtilsService.getTenantId(any())).thenReturn(101);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+    when(handleDbRequests.getSyncAcls(anyCollection(), anyString(), anyInt()))
+        .thenReturn(getAclsSOT(TESTTOPIC));
+    List<Topic> topics = utilMethods.getTopics(TESTTOPIC);
+    when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt())).thenReturn(topics);
+    when(commonUtilsService.getFilteredTopicsForTenant(any())).thenReturn(topics);
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(kwClustersHashMap);
+    when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
+    when(manageDatabase.getAllEnvList(anyInt()))
+        .thenReturn(createListOfEnvs(KafkaClustersType.SCHEMA_REGISTRY, 5));
+    mockTenantConfig();
+
+    topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
+    TopicOverview topicOverview =
+        topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
+
+    assertThat(topicOverview.getAclInfoList()).hasSize(1);
+    verify(handleDbRequests, times(1)).getSyncAcls(anyCollection(), anyString(), anyInt());
+    verify(handleDbRequests, times(1))
+        .getTopicRequestTypesPerEnv(anyString(), anyString(), anyInt());
+
+    topicOverviewCache.invalidate(101);
+    topicOverviewService.getTopicOverview(TESTTOPIC, "1", AclGroupBy.NONE);
+
+    verify(handleDbRequests, times(2)).getSyncAcls(anyCollection(), anyString(), anyInt());
+  }
+
   private static Map<Integer, KwClusters> getKwClusterMap() {
     Map<Integer, KwClusters> clusterDetails = new HashMap<>();
     KwClusters kwCluster = new KwClusters();
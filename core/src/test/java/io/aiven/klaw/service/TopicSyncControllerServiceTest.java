@@ -29,6 +29,7 @@ import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.response.EnvParams;
 import io.aiven.klaw.model.response.SyncTopicsList;
 import io.aiven.klaw.model.response.TopicConfig;
@@ -109,6 +110,7 @@ public class TopicSyncControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     this.topicSyncControllerService = new TopicSyncControllerService();
     utilMethods = new UtilMethods();
     environmentSetUp();
@@ -357,6 +359,10 @@ public class TopicSyncControllerServiceTest {
     verifyCaptureContents(req, update, 0, 1, TOPIC_NAME_1);
 
     verifyCaptureContents(req, update, 1, 2, TOPIC_NAME_2);
+    // the cache is updated once for both topics
+    verify(commonUtilsService)
+        .updateTopicsMetadata(
+            TENANT_ID, MetadataOperationType.CREATE, List.of(TOPIC_NAME_1, TOPIC_NAME_2));
     assertThat(retval.getMessage())
         .isNotEqualTo("Error :Could not approve topic request. Please contact Administrator.");
     assertThat(retval.getMessage()).isEqualTo(ApiResultStatus.SUCCESS.value);
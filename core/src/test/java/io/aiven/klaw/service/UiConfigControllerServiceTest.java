@@ -76,6 +76,7 @@ public class UiConfigControllerServiceTest {
 
   @BeforeEach
   public void setUp() throws Exception {
+    UtilMethods.stubEnvGraph(manageDatabase, commonUtilsService);
     usersTeamsControllerService = new UsersTeamsControllerService();
     envsClustersTenantsControllerService = new EnvsClustersTenantsControllerService();
     envsClustersTenantsControllerService.setServices(clusterApiService, mailService);
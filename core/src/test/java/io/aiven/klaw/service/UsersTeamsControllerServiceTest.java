@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -246,18 +247,34 @@ public class UsersTeamsControllerServiceTest {
     when(manageDatabase.getTeamObjForTenant(tenantId)).thenReturn(utilMethods.getTeams());
     when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
     when(handleDbRequests.existsComponentsCountForTeam(teamId, tenantId)).thenReturn(false);
-    when(handleDbRequests.getAllUsersInfoForTeam(teamId, tenantId))
-        .thenReturn(Collections.emptyList());
     List<TeamModelResponse> teams = usersTeamsControllerService.getAllTeamsSU();
     assertThat(teams.get(0).isShowDeleteTeam()).isTrue();
 
     when(handleDbRequests.existsComponentsCountForTeam(teamId, tenantId)).thenReturn(true);
-    when(handleDbRequests.getAllUsersInfoForTeam(teamId, tenantId))
-        .thenReturn(Collections.emptyList());
     teams = usersTeamsControllerService.getAllTeamsSU();
     assertThat(teams.get(0).isShowDeleteTeam()).isFalse();
   }
 
+  @Test
+  void getAllTeamsSUWithUsersDoesNotCountComponents() {
+    int tenantId = 101;
+    int teamId = 101;
+    UserInfo teamUser = new UserInfo();
+    teamUser.setTeamId(teamId);
+    teamUser.setSwitchAllowedTeamIds(Collections.emptySet());
+    when(mailService.getUserName(any())).thenReturn("testuser");
+    when(commonUtilsService.getTenantId(anyString())).thenReturn(tenantId);
+    when(manageDatabase.getTeamObjForTenant(tenantId)).thenReturn(utilMethods.getTeams());
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(false);
+    when(handleDbRequests.getAllUsersInfo(tenantId)).thenReturn(List.of(teamUser));
+
+    List<TeamModelResponse> teams = usersTeamsControllerService.getAllTeamsSU();
+
+    assertThat(teams.get(0).isShowDeleteTeam()).isFalse();
+    verify(handleDbRequests, never()).existsComponentsCountForTeam(anyInt(), anyInt());
+    verify(handleDbRequests, never()).getAllUsersInfoForTeam(anyInt(), anyInt());
+  }
+
   @Test
   void deleteTeamFailure() throws KlawException {
     int teamId = 101;